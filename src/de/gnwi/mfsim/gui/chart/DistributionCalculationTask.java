@@ -20,8 +20,9 @@
 package de.gnwi.mfsim.gui.chart;
 
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticle;
-import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePosition;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionInfo;
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionStore;
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionView;
 import de.gnwi.mfsim.model.util.VolumeFrequency;
 import de.gnwi.mfsim.gui.chart.XyChartDataManipulator;
 import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
@@ -313,17 +314,20 @@ public class DistributionCalculationTask implements Callable {
             }
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Count objects">
+            GraphicalParticlePositionStore tmpInitialGraphicalParticlePositionStore = tmpGraphicalParticlePositionInfo.getInitialGraphicalParticlePositionStore();
+            GraphicalParticlePositionView tmpGraphicalParticlePosition = tmpInitialGraphicalParticlePositionStore.getView();
             switch (this.particleType) {
                 case PARTICLE:
                     // <editor-fold defaultstate="collapsed" desc="Particle">
-                    for (GraphicalParticlePosition tmpGraphicalParticlePosition : tmpGraphicalParticlePositionInfo.getInitialGraphicalParticlePositions()) {
+                    for (int i = 0; i < tmpInitialGraphicalParticlePositionStore.getSize(); i++) {
+                        tmpGraphicalParticlePosition.setIndex(i);
                         // <editor-fold defaultstate="collapsed" desc="Check if canceled">
                         if (this.isStopped) {
                             this.isFinished = true;
                             return false;
                         }
                         // </editor-fold>
-                        GraphicalParticle tmpGraphicalParticle = (GraphicalParticle) tmpGraphicalParticlePosition.getGraphicalParticle();
+                        GraphicalParticle tmpGraphicalParticle = (GraphicalParticle) tmpInitialGraphicalParticlePositionStore.getGraphicalParticle(i);
                         if (tmpGraphicalParticle.getParticle().equals(this.particleTypeDescriptionString)
                             && (tmpExclusionBoxSizeInfo == null || tmpExclusionBoxSizeInfo.isInBox(tmpGraphicalParticlePosition))
                         ) {
@@ -334,14 +338,15 @@ public class DistributionCalculationTask implements Callable {
                     // </editor-fold>
                 case MOLECULE:
                     // <editor-fold defaultstate="collapsed" desc="Molecule">
-                    for (GraphicalParticlePosition tmpGraphicalParticlePosition : tmpGraphicalParticlePositionInfo.getInitialGraphicalParticlePositions()) {
+                    for (int i = 0; i < tmpInitialGraphicalParticlePositionStore.getSize(); i++) {
+                        tmpGraphicalParticlePosition.setIndex(i);
                         // <editor-fold defaultstate="collapsed" desc="Check if canceled">
                         if (this.isStopped) {
                             this.isFinished = true;
                             return false;
                         }
                         // </editor-fold>
-                        GraphicalParticle tmpGraphicalParticle = (GraphicalParticle) tmpGraphicalParticlePosition.getGraphicalParticle();
+                        GraphicalParticle tmpGraphicalParticle = (GraphicalParticle) tmpInitialGraphicalParticlePositionStore.getGraphicalParticle(i);
                         if (tmpGraphicalParticle.getMoleculeName().equals(this.particleTypeDescriptionString)
                             && (tmpExclusionBoxSizeInfo == null || tmpExclusionBoxSizeInfo.isInBox(tmpGraphicalParticlePosition))
                         ) {
@@ -352,14 +357,15 @@ public class DistributionCalculationTask implements Callable {
                     // </editor-fold>
                 case MOLECULE_PARTICLE:
                     // <editor-fold defaultstate="collapsed" desc="Molecule particle">
-                    for (GraphicalParticlePosition tmpGraphicalParticlePosition : tmpGraphicalParticlePositionInfo.getInitialGraphicalParticlePositions()) {
+                    for (int i = 0; i < tmpInitialGraphicalParticlePositionStore.getSize(); i++) {
+                        tmpGraphicalParticlePosition.setIndex(i);
                         // <editor-fold defaultstate="collapsed" desc="Check if canceled">
                         if (this.isStopped) {
                             this.isFinished = true;
                             return false;
                         }
                         // </editor-fold>
-                        GraphicalParticle tmpGraphicalParticle = (GraphicalParticle) tmpGraphicalParticlePosition.getGraphicalParticle();
+                        GraphicalParticle tmpGraphicalParticle = (GraphicalParticle) tmpInitialGraphicalParticlePositionStore.getGraphicalParticle(i);
                         if (tmpGraphicalParticle.getMoleculeParticleString().equals(this.particleTypeDescriptionString)
                             && (tmpExclusionBoxSizeInfo == null || tmpExclusionBoxSizeInfo.isInBox(tmpGraphicalParticlePosition))
                         ) {
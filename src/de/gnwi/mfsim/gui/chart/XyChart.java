@@ -23,6 +23,7 @@ import de.gnwi.mfsim.gui.message.GuiMessage;
 import de.gnwi.mfsim.model.util.ModelUtils;
 import de.gnwi.mfsim.model.util.StringUtilityMethods;
 import de.gnwi.mfsim.model.valueItem.ValueItem;
+import de.gnwi.mfsim.model.valueItem.ValueItemNumericMatrix;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.geom.Ellipse2D;
@@ -217,21 +218,34 @@ public class XyChart implements ChartInterface{
             this.xyChartDataManipulator = new XyChartDataManipulator();
             int tmpXValueColumn = aValueItem.getMatrixDiagramXValueColumn();
             int tmpYValueColumn = aValueItem.getMatrixDiagramYValueColumn();
-            for (int i = 0; i < aValueItem.getMatrixRowCount(); i++) {
-                // Safeguard for NaN values in value item
-                double tmpX = 0.0;
-                double tmpY = 0.0;
-                try {
-                    tmpX = aValueItem.getValueAsDouble(i, tmpXValueColumn);
-                    tmpY = aValueItem.getValueAsDouble(i, tmpYValueColumn);
-                    if (Double.isNaN(tmpX) || Double.isNaN(tmpY)) {
+            ValueItemNumericMatrix tmpNumericMatrix = aValueItem.getNumericMatrix();
+            if (tmpNumericMatrix != null) {
+                // Direct access to primitive columns without string conversion
+                double[] tmpXValues = tmpNumericMatrix.getColumnAsDouble(tmpXValueColumn);
+                double[] tmpYValues = tmpNumericMatrix.getColumnAsDouble(tmpYValueColumn);
+                for (int i = 0; i < tmpXValues.length; i++) {
+                    // Safeguard for NaN values in value item
+                    if (!Double.isNaN(tmpXValues[i]) && !Double.isNaN(tmpYValues[i])) {
+                        this.xyChartDataManipulator.add(tmpXValues[i], tmpYValues[i]);
+                    }
+                }
+            } else {
+                for (int i = 0; i < aValueItem.getMatrixRowCount(); i++) {
+                    // Safeguard for NaN values in value item
+                    double tmpX = 0.0;
+                    double tmpY = 0.0;
+                    try {
+                        tmpX = aValueItem.getValueAsDouble(i, tmpXValueColumn);
+                        tmpY = aValueItem.getValueAsDouble(i, tmpYValueColumn);
+                        if (Double.isNaN(tmpX) || Double.isNaN(tmpY)) {
+                            continue;
+                        }
+                    } catch (Exception anException) {
+                        ModelUtils.appendToLogfile(true, anException);
                         continue;
                     }
-                } catch (Exception anException) {
-                    ModelUtils.appendToLogfile(true, anException);
-                    continue;
+                    this.xyChartDataManipulator.add(tmpX, tmpY);
                 }
-                this.xyChartDataManipulator.add(tmpX, tmpY);
             }
             // Updating the data manipulator to finish its creation
             this.xyChartDataManipulator.update();
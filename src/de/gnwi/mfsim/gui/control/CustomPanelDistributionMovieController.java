@@ -24,6 +24,7 @@ import de.gnwi.mfsim.model.changeNotification.ChangeInformation;
 import de.gnwi.mfsim.model.changeNotification.ChangeNotifier;
 import de.gnwi.mfsim.model.changeNotification.ChangeTypeEnum;
 import de.gnwi.mfsim.model.graphics.ImageFileType;
+import de.gnwi.mfsim.model.job.StepFrameCache;
 import de.gnwi.mfsim.model.job.TimeStepInfo;
 import de.gnwi.mfsim.model.graphics.GraphicsUtils;
 import de.gnwi.mfsim.model.util.VolumeFrequency;
@@ -49,6 +50,7 @@ import java.io.File;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.Iterator;
+import java.util.LinkedList;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 import javax.swing.JOptionPane;
@@ -804,6 +806,22 @@ public class CustomPanelDistributionMovieController extends ChangeNotifier imple
         }
     }
     
+    /**
+     * Prefetches step frames of next distribution calculation tasks into step
+     * frame cache
+     */
+    private void prefetchNextSteps() {
+        int tmpNumberOfPrefetchedSteps = Preferences.getInstance().getNumberOfPrefetchedSteps();
+        if (tmpNumberOfPrefetchedSteps > 0) {
+            LinkedList<String> tmpStepFilePathnameList = new LinkedList<>();
+            Iterator<DistributionCalculationTask> tmpIterator = this.distributionCalculationTasks.iterator();
+            while (tmpIterator.hasNext() && tmpStepFilePathnameList.size() < tmpNumberOfPrefetchedSteps) {
+                tmpStepFilePathnameList.add(this.timeStepInfoArray[tmpIterator.next().getIndex()].getJobResultParticlePositionsFilePathname());
+            }
+            StepFrameCache.getInstance().prefetch(tmpStepFilePathnameList.toArray(new String[0]));
+        }
+    }
+
     /**
      * If there are distribution calculation tasks left to be executed this 
      * method will start the execution of the next one
@@ -816,6 +834,7 @@ public class CustomPanelDistributionMovieController extends ChangeNotifier imple
                     this.startedDistributionCalculationTasks.add(tmpDistributionCalculationTask);
                     tmpDistributionCalculationTask.addPropertyChangeListener(this);
                     this.executorService.submit(tmpDistributionCalculationTask);
+                    this.prefetchNextSteps();
                 }
             }
         } catch (Exception anException) {
@@ -36,6 +36,7 @@ import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
 import de.gnwi.mfsim.model.graphics.slice.SimulationBoxViewSingleMoveStepSlice;
 import de.gnwi.mfsim.gui.util.MoveStepInfo;
 import de.gnwi.mfsim.model.graphics.GraphicsUtils;
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionFrameBuffer;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionInfo;
 import de.gnwi.mfsim.model.graphics.SimulationBoxViewEnum;
 import de.gnwi.mfsim.model.graphics.ImageFileType;
@@ -95,6 +96,12 @@ public class CustomPanelMoveStepSlicerController extends ChangeNotifier implemen
      */
     private GraphicalParticlePositionInfo graphicalParticlePositionInfo;
 
+    /**
+     * Shared graphical particle position frame buffer from which all move 
+     * steps are derived (null if move steps differ in zoom or particle shift)
+     */
+    private GraphicalParticlePositionFrameBuffer graphicalParticlePositionFrameBuffer;
+
     /**
      * File type of images
      */
@@ -660,6 +667,7 @@ public class CustomPanelMoveStepSlicerController extends ChangeNotifier implemen
             this.simulationBoxViewToIsCompleteMap = new ConcurrentHashMap<SimulationBoxViewEnum, Boolean>(6);
             // Important: Set this.currentBoxView
             this.slicerIdentification = new ConcurrentHashMap<String, String>(this.moveStepInfoArray.length);
+            this.graphicalParticlePositionFrameBuffer = this.getGraphicalParticlePositionFrameBuffer();
             String tmpBoxViewDestinationPath = null;
             if (Preferences.getInstance().getImageStorageMode() == ImageStorageEnum.HARDDISK_COMPRESSED) {
                 File tmpPath = new File(tmpDestinationPath, this.currentBoxView.name());
@@ -1333,6 +1341,41 @@ public class CustomPanelMoveStepSlicerController extends ChangeNotifier implemen
         }
     }
 
+    /**
+     * Returns shared graphical particle position frame buffer if all move 
+     * steps only differ in rotation (and display settings like pixel shift, 
+     * magnification, depth attenuation or first slice index), i.e. if there 
+     * is no zoom and no particle shift change: In this case the graphical 
+     * particle positions are filtered only once.
+     *
+     * @return Shared graphical particle position frame buffer or null if 
+     * move steps have to be filtered separately
+     */
+    private GraphicalParticlePositionFrameBuffer getGraphicalParticlePositionFrameBuffer() {
+        MoveStepInfo tmpFirstMoveStepInfo = this.moveStepInfoArray[0];
+        for (MoveStepInfo tmpMoveStepInfo : this.moveStepInfoArray) {
+            if (tmpMoveStepInfo.getExclusionBoxSizeInfo() != null
+                || tmpMoveStepInfo.getParticleShiftX() != tmpFirstMoveStepInfo.getParticleShiftX()
+                || tmpMoveStepInfo.getParticleShiftY() != tmpFirstMoveStepInfo.getParticleShiftY()
+                || tmpMoveStepInfo.getParticleShiftZ() != tmpFirstMoveStepInfo.getParticleShiftZ()
+            ) {
+                return null;
+            }
+        }
+        GraphicalParticlePositionInfo tmpGraphicalParticlePositionInfo = this.graphicalParticlePositionInfo.getClone();
+        tmpGraphicalParticlePositionInfo.setExclusionBoxSizeInfo(null);
+        // NOTE: No rotation since rotation is applied to each move step separately
+        tmpGraphicalParticlePositionInfo.setCurrentGraphicalParticlePositions(
+            0.0,
+            0.0,
+            0.0,
+            tmpFirstMoveStepInfo.getParticleShiftX(),
+            tmpFirstMoveStepInfo.getParticleShiftY(),
+            tmpFirstMoveStepInfo.getParticleShiftZ()
+        );
+        return new GraphicalParticlePositionFrameBuffer(tmpGraphicalParticlePositionInfo);
+    }
+
     /**
      * Starts initial slicers
      */
@@ -1351,7 +1394,11 @@ public class CustomPanelMoveStepSlicerController extends ChangeNotifier implemen
             && !this.slicerExecutorService.isShutdown()) {
             SimulationBoxViewSingleMoveStepSlice tmpSimulationBoxViewSingleMoveStepSlice = this.simulationBoxViewSingleMoveStepSliceList.poll();
             if (tmpSimulationBoxViewSingleMoveStepSlice != null) {
-                tmpSimulationBoxViewSingleMoveStepSlice.getMoveStepInfo().setGraphicalParticlePositionInfo(this.graphicalParticlePositionInfo.getClone());
+                if (this.graphicalParticlePositionFrameBuffer != null) {
+                    tmpSimulationBoxViewSingleMoveStepSlice.getMoveStepInfo().setGraphicalParticlePositionFrameBuffer(this.graphicalParticlePositionFrameBuffer);
+                } else {
+                    tmpSimulationBoxViewSingleMoveStepSlice.getMoveStepInfo().setGraphicalParticlePositionInfo(this.graphicalParticlePositionInfo.getClone());
+                }
                 this.startedSimulationBoxViewSingleMoveStepSliceList.add(tmpSimulationBoxViewSingleMoveStepSlice);
                 tmpSimulationBoxViewSingleMoveStepSlice.addPropertyChangeListener(this);
                 this.slicerExecutorService.submit(tmpSimulationBoxViewSingleMoveStepSlice);
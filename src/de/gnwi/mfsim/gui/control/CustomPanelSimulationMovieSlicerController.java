@@ -36,6 +36,8 @@ import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionInfo;
 import de.gnwi.mfsim.model.graphics.GraphicsUtils;
 import de.gnwi.mfsim.model.graphics.SimulationBoxViewEnum;
 import de.gnwi.mfsim.model.graphics.slice.SimulationBoxViewSingleTimeStepSlice;
+import de.gnwi.mfsim.model.graphics.slice.SimulationBoxViewSlicePipeline;
+import de.gnwi.mfsim.model.job.StepFrameCache;
 import de.gnwi.mfsim.model.job.TimeStepInfo;
 import de.gnwi.mfsim.model.graphics.ImageFileType;
 import de.gnwi.mfsim.model.changeNotification.ChangeInformation;
@@ -121,6 +123,12 @@ public class CustomPanelSimulationMovieSlicerController extends ChangeNotifier i
      */
     private ConcurrentLinkedQueue<SimulationBoxViewSingleTimeStepSlice> startedSimulationBoxViewSingleTimeStepSliceList;
 
+    /**
+     * Frame pipeline for SimulationBoxViewSingleTimeStepSlice instances (null 
+     * if slicers are started as single tasks)
+     */
+    private SimulationBoxViewSlicePipeline simulationBoxViewSlicePipeline;
+
     /**
      * Enlarged box size info
      */
@@ -1372,8 +1380,27 @@ public class CustomPanelSimulationMovieSlicerController extends ChangeNotifier i
      * Starts initial slicers
      */
     private void startInitialSlicers() {
-        for (int i = 0; i < Preferences.getInstance().getNumberOfParallelSlicers(); i++) {
-            this.startNextSlicer();
+        if (Preferences.getInstance().getNumberOfFramePipelineReaders() > 0) {
+            // Frame pipeline: All slicers are passed through the pipeline stages
+            if (this.simulationBoxViewSingleTimeStepSliceList != null 
+                && this.simulationBoxViewSingleTimeStepSliceList.size() > 0
+                && !this.slicerExecutorService.isShutdown()) {
+                this.simulationBoxViewSlicePipeline = 
+                    new SimulationBoxViewSlicePipeline(
+                        this.simulationBoxViewSingleTimeStepSliceList,
+                        this.startedSimulationBoxViewSingleTimeStepSliceList,
+                        Preferences.getInstance().getNumberOfFramePipelineReaders(),
+                        Preferences.getInstance().getNumberOfFramePipelineTransformers(),
+                        Preferences.getInstance().getNumberOfFramePipelineRasterizers(),
+                        Preferences.getInstance().getNumberOfFramePipelineWriters()
+                    );
+                this.slicerExecutorService.submit(this.simulationBoxViewSlicePipeline);
+            }
+        } else {
+            this.simulationBoxViewSlicePipeline = null;
+            for (int i = 0; i < Preferences.getInstance().getNumberOfParallelSlicers(); i++) {
+                this.startNextSlicer();
+            }
         }
     }
 
@@ -1381,7 +1408,9 @@ public class CustomPanelSimulationMovieSlicerController extends ChangeNotifier i
      * Starts next slicer
      */
     private void startNextSlicer() {
-        if (this.simulationBoxViewSingleTimeStepSliceList != null 
+        // NOTE: Frame pipeline starts slicers itself
+        if (this.simulationBoxViewSlicePipeline == null
+            && this.simulationBoxViewSingleTimeStepSliceList != null 
             && this.simulationBoxViewSingleTimeStepSliceList.size() > 0
             && !this.slicerExecutorService.isShutdown()) {
             SimulationBoxViewSingleTimeStepSlice tmpSimulationBoxViewSingleTimeStepSlice = this.simulationBoxViewSingleTimeStepSliceList.poll();
@@ -1389,14 +1418,34 @@ public class CustomPanelSimulationMovieSlicerController extends ChangeNotifier i
                 this.startedSimulationBoxViewSingleTimeStepSliceList.add(tmpSimulationBoxViewSingleTimeStepSlice);
                 tmpSimulationBoxViewSingleTimeStepSlice.addPropertyChangeListener(this);
                 this.slicerExecutorService.submit(tmpSimulationBoxViewSingleTimeStepSlice);
+                this.prefetchNextSteps();
             }
         }
     }
 
+    /**
+     * Prefetches step frames of next slicers into step frame cache
+     */
+    private void prefetchNextSteps() {
+        int tmpNumberOfPrefetchedSteps = Preferences.getInstance().getNumberOfPrefetchedSteps();
+        if (tmpNumberOfPrefetchedSteps > 0) {
+            LinkedList<String> tmpStepFilePathnameList = new LinkedList<>();
+            Iterator<SimulationBoxViewSingleTimeStepSlice> tmpIterator = this.simulationBoxViewSingleTimeStepSliceList.iterator();
+            while (tmpIterator.hasNext() && tmpStepFilePathnameList.size() < tmpNumberOfPrefetchedSteps) {
+                tmpStepFilePathnameList.add(tmpIterator.next().getTimeStepInfo().getJobResultParticlePositionsFilePathname());
+            }
+            StepFrameCache.getInstance().prefetch(tmpStepFilePathnameList.toArray(new String[0]));
+        }
+    }
+
     /**
      * Stops started slicers
      */
     private void stopStartedSlicers() {
+        if (this.simulationBoxViewSlicePipeline != null) {
+            this.simulationBoxViewSlicePipeline.stop();
+            this.simulationBoxViewSlicePipeline = null;
+        }
         if (this.startedSimulationBoxViewSingleTimeStepSliceList != null && this.startedSimulationBoxViewSingleTimeStepSliceList.size() > 0) {
             for (int i = 0; i < this.startedSimulationBoxViewSingleTimeStepSliceList.size(); i++) {
                 SimulationBoxViewSingleTimeStepSlice tmpSimulationBoxViewSingleTimeStepSlice = this.startedSimulationBoxViewSingleTimeStepSliceList.poll();
@@ -34,6 +34,7 @@ import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
 import de.gnwi.mfsim.gui.util.SpinStepInfo;
 import de.gnwi.mfsim.model.graphics.slice.SimulationBoxViewSingleSpinStepSlice;
 import de.gnwi.mfsim.model.graphics.GraphicsUtils;
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionFrameBuffer;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionInfo;
 import de.gnwi.mfsim.gui.util.SpinAxisEnum;
 import de.gnwi.mfsim.model.graphics.SimulationBoxViewEnum;
@@ -121,9 +122,10 @@ public class CustomPanelSpinStepSlicerController extends ChangeNotifier implemen
     private ConcurrentLinkedQueue<SimulationBoxViewSingleSpinStepSlice> startedSimulationBoxViewSingleSpinStepSliceList;
 
     /**
-     * List of already processed spin step infos
+     * Shared graphical particle position frame buffer from which all spin 
+     * steps are derived
      */
-    private ConcurrentLinkedQueue<SpinStepInfo> processedSpinStepInfoList;
+    private GraphicalParticlePositionFrameBuffer graphicalParticlePositionFrameBuffer;
 
     /**
      * Enlarged box size info
@@ -233,7 +235,6 @@ public class CustomPanelSpinStepSlicerController extends ChangeNotifier implemen
             this.slicerExecutorService = anExecutorService;
             this.isKilled = false;
             this.isStartingSlicers = false;
-            this.processedSpinStepInfoList = new ConcurrentLinkedQueue<>();
             this.stepSlicerPanel = aCustomPanelStepSlicer;
             // NO intermediate spin steps are displayed during image preparation:
             this.stepSlicerPanel.getSimulationBoxPanel().getRedrawButton().setVisible(false);
@@ -654,6 +655,9 @@ public class CustomPanelSpinStepSlicerController extends ChangeNotifier implemen
             this.simulationBoxViewToIsCompleteMap = new ConcurrentHashMap<SimulationBoxViewEnum, Boolean>(6);
             // Important: Set this.currentBoxView
             this.slicerIdentification = new ConcurrentHashMap<String, String>(this.spinStepInfoArray.length);
+            // Filter graphical particle positions only once: All spin steps 
+            // are derived from this shared buffer by rotation
+            this.graphicalParticlePositionFrameBuffer = new GraphicalParticlePositionFrameBuffer(this.graphicalParticlePositionInfo);
             String tmpBoxViewDestinationPath = null;
             if (Preferences.getInstance().getImageStorageMode() == ImageStorageEnum.HARDDISK_COMPRESSED) {
                 File tmpPath = new File(tmpDestinationPath, this.currentBoxView.name());
@@ -800,8 +804,6 @@ public class CustomPanelSpinStepSlicerController extends ChangeNotifier implemen
                             tmpSimulationBoxViewSingleSpinStepSlice.removePropertyChangeListener(this);
                             // ... and remove from this.startedSimulationBoxViewSingleSpinStepSliceList
                             this.startedSimulationBoxViewSingleSpinStepSliceList.remove(tmpSimulationBoxViewSingleSpinStepSlice);
-                            // Save graphical particle position info for reuse
-                            this.processedSpinStepInfoList.add(tmpSimulationBoxViewSingleSpinStepSlice.getSpinStepInfo());
                             // Update display
                             this.updateDisplay();
                         }
@@ -1279,43 +1281,7 @@ public class CustomPanelSpinStepSlicerController extends ChangeNotifier implemen
             && !this.slicerExecutorService.isShutdown()) {
             SimulationBoxViewSingleSpinStepSlice tmpSimulationBoxViewSingleSpinStepSlice = this.simulationBoxViewSingleSpinStepSliceList.poll();
             if (tmpSimulationBoxViewSingleSpinStepSlice != null) {
-                SpinStepInfo tmpProcessedSpinStepInfo = this.processedSpinStepInfoList.poll();
-                if (tmpProcessedSpinStepInfo == null) {
-                    tmpSimulationBoxViewSingleSpinStepSlice.getSpinStepInfo().setGraphicalParticlePositionInfo(this.graphicalParticlePositionInfo.getClone());
-                } else {
-                    SpinStepInfo tmpCurrentSpinStepInfo = tmpSimulationBoxViewSingleSpinStepSlice.getSpinStepInfo();
-                    tmpCurrentSpinStepInfo.setGraphicalParticlePositionInfo(tmpProcessedSpinStepInfo.getGraphicalParticlePositionInfo());
-                    switch (this.spinAxis) {
-                        case SPIN_AROUND_X:
-                            double tmpNewXOffset = tmpProcessedSpinStepInfo.getRotationAroundXaxisAngle() + tmpProcessedSpinStepInfo.getRotationAroundXaxisOffset();
-                            double tmpNewXAngle = tmpCurrentSpinStepInfo.getRotationAroundXaxisAngle() - tmpNewXOffset;
-                            tmpCurrentSpinStepInfo.setRotationAroundXaxisOffset(tmpNewXOffset);
-                            tmpCurrentSpinStepInfo.setRotationAroundXaxisAngle(tmpNewXAngle);
-
-                            tmpCurrentSpinStepInfo.setRotationAroundYaxisAngle(0);
-                            tmpCurrentSpinStepInfo.setRotationAroundZaxisAngle(0);
-                            break;
-                        case SPIN_AROUND_Y:
-                            tmpCurrentSpinStepInfo.setRotationAroundXaxisAngle(0);
-
-                            double tmpNewYOffset = tmpProcessedSpinStepInfo.getRotationAroundYaxisAngle() + tmpProcessedSpinStepInfo.getRotationAroundYaxisOffset();
-                            double tmpNewYAngle = tmpCurrentSpinStepInfo.getRotationAroundYaxisAngle() - tmpNewYOffset;
-                            tmpCurrentSpinStepInfo.setRotationAroundYaxisOffset(tmpNewYOffset);
-                            tmpCurrentSpinStepInfo.setRotationAroundYaxisAngle(tmpNewYAngle);
-
-                            tmpCurrentSpinStepInfo.setRotationAroundZaxisAngle(0);
-                            break;
-                        case SPIN_AROUND_Z:
-                            tmpCurrentSpinStepInfo.setRotationAroundXaxisAngle(0);
-                            tmpCurrentSpinStepInfo.setRotationAroundYaxisAngle(0);
-
-                            double tmpNewZOffset = tmpProcessedSpinStepInfo.getRotationAroundZaxisAngle() + tmpProcessedSpinStepInfo.getRotationAroundZaxisOffset();
-                            double tmpNewZAngle = tmpCurrentSpinStepInfo.getRotationAroundZaxisAngle() - tmpNewZOffset;
-                            tmpCurrentSpinStepInfo.setRotationAroundZaxisOffset(tmpNewZOffset);
-                            tmpCurrentSpinStepInfo.setRotationAroundZaxisAngle(tmpNewZAngle);
-                            break;
-                    }
-                }
+                tmpSimulationBoxViewSingleSpinStepSlice.getSpinStepInfo().setGraphicalParticlePositionFrameBuffer(this.graphicalParticlePositionFrameBuffer);
                 this.startedSimulationBoxViewSingleSpinStepSliceList.add(tmpSimulationBoxViewSingleSpinStepSlice);
                 tmpSimulationBoxViewSingleSpinStepSlice.addPropertyChangeListener(this);
                 this.slicerExecutorService.submit(tmpSimulationBoxViewSingleSpinStepSlice);
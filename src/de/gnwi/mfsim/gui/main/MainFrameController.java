@@ -21,6 +21,7 @@ package de.gnwi.mfsim.gui.main;
 
 import de.gnwi.jdpd.utilities.FileOutputStrings;
 import de.gnwi.mfsim.model.util.FileDeletionTask;
+import de.gnwi.mfsim.model.util.ArchiveCompressionEnum;
 import de.gnwi.mfsim.model.util.ArchiveTask;
 import de.gnwi.mfsim.model.util.FastListModel;
 import de.gnwi.mfsim.model.util.ExtensionFileFilter;
@@ -29,6 +30,7 @@ import de.gnwi.mfsim.model.util.MouseCursorManagement;
 import de.gnwi.mfsim.model.util.FileUtilityMethods;
 import de.gnwi.mfsim.model.preference.Preferences;
 import de.gnwi.mfsim.model.job.JobManager;
+import de.gnwi.mfsim.model.job.JobCoreBudgetScheduler;
 import de.gnwi.mfsim.model.job.JobResultExecutionTask;
 import de.gnwi.mfsim.model.particleStructure.SpicesPool;
 import de.gnwi.mfsim.model.graphics.compartment.CompartmentContainer;
@@ -130,6 +132,13 @@ public class MainFrameController implements PropertyChangeListener {
      * Executor service for job result execution tasks
      */
     private ExecutorService jobResultExecutorService;
+
+    /**
+     * Core budget scheduler for job result execution tasks (used instead of
+     * this.jobResultExecutorService if a job core budget is set in 
+     * preferences)
+     */
+    private JobCoreBudgetScheduler jobCoreBudgetScheduler;
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Constructor">
@@ -144,6 +153,7 @@ public class MainFrameController implements PropertyChangeListener {
             MouseCursorManagement.getInstance().pushMouseCursorComponent(this.mainFrame);
             this.jobArchiveExecutorService = null;
             this.jobResultExecutorService = null;
+            this.jobCoreBudgetScheduler = null;
         } catch (Exception anException) {
             ModelUtils.appendToLogfile(true, anException);
             // <editor-fold defaultstate="collapsed" desc="Message CommandExecutionFailed">
@@ -519,8 +529,13 @@ public class MainFrameController implements PropertyChangeListener {
      */
     public void showCache() {
         JOptionPane.showMessageDialog(null, 
-                String.format(GuiMessage.get("Cache.ShowFormat"), String.valueOf(SpicesPool.getInstance().getPoolSize()),
-                        String.valueOf(PdbToDpdPool.getInstance().getPoolSize())),
+                String.format(GuiMessage.get("Cache.ShowFormat"), 
+                        String.valueOf(SpicesPool.getInstance().getPoolSize()),
+                        String.valueOf(SpicesPool.getInstance().getHitCount()),
+                        String.valueOf(SpicesPool.getInstance().getMissCount()),
+                        String.valueOf(PdbToDpdPool.getInstance().getPoolSize()),
+                        String.valueOf(PdbToDpdPool.getInstance().getHitCount()),
+                        String.valueOf(PdbToDpdPool.getInstance().getMissCount())),
                 GuiMessage.get("Cache.ShowTitle"), 
                 JOptionPane.INFORMATION_MESSAGE);
     }
@@ -567,6 +582,8 @@ public class MainFrameController implements PropertyChangeListener {
             if (Preferences.getInstance().isLogEvent()) {
                 MouseCursorManagement.getInstance().setDefaultCursor();
                 if (GuiUtils.getYesNoDecision(GuiMessage.get("ViewLogInformation.Title"), GuiMessage.get("ViewLogInformation.Message"))) {
+                    // Pending log entries must be written before viewing
+                    ModelUtils.flushLogfile();
                     GuiUtils.startViewer(Preferences.getInstance().getLogfilePathname());
                 }
             }
@@ -578,6 +595,9 @@ public class MainFrameController implements PropertyChangeListener {
             if (this.jobResultExecutorService != null) {
                 this.jobResultExecutorService.shutdown();
             }
+            if (this.jobCoreBudgetScheduler != null) {
+                this.jobCoreBudgetScheduler.shutdown();
+            }
             // </editor-fold>
             MouseCursorManagement.getInstance().setDefaultCursor();
             // <editor-fold defaultstate="collapsed" desc="Exit">
@@ -1095,6 +1115,8 @@ public class MainFrameController implements PropertyChangeListener {
      * Browse MFsim log file
      */
     public void browseMFsimLogfile() {
+        // Pending log entries must be written before viewing
+        ModelUtils.flushLogfile();
         GuiUtils.startViewer(Preferences.getInstance().getLogfilePathname());        
     }
 
@@ -1273,13 +1295,13 @@ public class MainFrameController implements PropertyChangeListener {
                         // Parameter null: No exclusions for archiving
                         String tmpFileExclusionRegexPatternString = null;
                         // Compression is used
-                        boolean tmpIsUncompressed = false;
+                        ArchiveCompressionEnum tmpCompression = ArchiveCompressionEnum.DEFAULT;
                         ArchiveTask tmpArchiveTask = 
                             new ArchiveTask(
                                 tmpJobInputToBeArchived.getJobInputPath(), 
                                 tmpArchiveFilePathname, 
                                 tmpFileExclusionRegexPatternString, 
-                                tmpIsUncompressed
+                                tmpCompression
                             );
                         DialogProgress.hasCanceled(GuiMessage.get("Archiving"), tmpArchiveTask);
                         // </editor-fold>
@@ -2526,14 +2548,14 @@ public class MainFrameController implements PropertyChangeListener {
                             // Exclude particle position step files from archiving
                             tmpFileExclusionRegexPatternString = "^" + FileOutputStrings.PARTICLE_POSITIONS_SIMULATION_STEP_FILE_PREFIX + ".*";
                         }
-                        boolean tmpIsUncompressed = Preferences.getInstance().isJobResultArchiveFileUncompressed();
+                        ArchiveCompressionEnum tmpCompression = Preferences.getInstance().getJobResultArchiveCompression();
                         if (Preferences.getInstance().isJobResultArchiveProcessParallelInBackground()) {
                             ArchiveTask tmpJobArchiveTask = 
                                 new ArchiveTask(
                                     tmpJobResultToBeArchived.getJobResultPath(), 
                                     tmpArchiveFilePathname, 
                                     tmpFileExclusionRegexPatternString, 
-                                    tmpIsUncompressed
+                                    tmpCompression
                                 );
                             tmpJobArchiveTask.addPropertyChangeListener(this);
                             if (this.jobArchiveTaskList == null) {
@@ -2552,7 +2574,7 @@ public class MainFrameController implements PropertyChangeListener {
                                     tmpJobResultToBeArchived.getJobResultPath(), 
                                     tmpArchiveFilePathname, 
                                     tmpFileExclusionRegexPatternString, 
-                                    tmpIsUncompressed
+                                    tmpCompression
                                 );
                             DialogProgress.hasCanceled(GuiMessage.get("Archiving"), tmpArchiveTask);
                         }
@@ -3400,6 +3422,10 @@ public class MainFrameController implements PropertyChangeListener {
      * Starts remaining job execution tasks
      */
     private void startRemainingJobExecutionTasks() {
+        if (Preferences.getInstance().getJobCoreBudget() > 0) {
+            this.startRemainingJobExecutionTasksWithCoreBudget();
+            return;
+        }
         for (JobResultExecutionTask tmpJobResultExecutionTask : this.jobResultExecutionTaskList) {
             int tmpNumberOfSubmittedJobResultExecutionTasks = this.getNumberOfSubmittedJobResultExecutionTasks();
             if (!tmpJobResultExecutionTask.isSubmittedToExecutorService() 
@@ -3424,6 +3450,35 @@ public class MainFrameController implements PropertyChangeListener {
         }
     }
 
+    /**
+     * Starts remaining job execution tasks with this.jobCoreBudgetScheduler:
+     * Tasks are submitted in order as long as the scheduler starts them, 
+     * i.e. at most one submitted task waits for free cores in the scheduler 
+     * (all other tasks remain in the job execution queue). The delay for job 
+     * start is applied by the scheduler.
+     */
+    private void startRemainingJobExecutionTasksWithCoreBudget() {
+        if (this.jobCoreBudgetScheduler == null) {
+            this.jobCoreBudgetScheduler = 
+                new JobCoreBudgetScheduler(
+                    Preferences.getInstance().getJobCoreBudget(), 
+                    Preferences.getInstance().getNumberOfSimulationBoxCellsforParallelization(), 
+                    Preferences.getInstance().getNumberOfBondsforParallelization(), 
+                    Preferences.getInstance().getDelayForJobStartInMilliseconds()
+                );
+        }
+        for (JobResultExecutionTask tmpJobResultExecutionTask : this.jobResultExecutionTaskList) {
+            if (this.jobCoreBudgetScheduler.getNumberOfQueuedJobs() > 0) {
+                // Scheduler waits for free cores
+                return;
+            }
+            if (!tmpJobResultExecutionTask.isSubmittedToExecutorService()) {
+                tmpJobResultExecutionTask.setSubmittedToExecutorService();
+                this.jobCoreBudgetScheduler.submit(tmpJobResultExecutionTask, null);
+            }
+        }
+    }
+
     /**
      * Stops all working submitted jobs and shutdown this.jobResultExecutorService
      */
@@ -3524,10 +3579,14 @@ public class MainFrameController implements PropertyChangeListener {
                 if (this.jobResultExecutorService != null) {
                     this.jobResultExecutorService.shutdown();
                 }
+                if (this.jobCoreBudgetScheduler != null) {
+                    this.jobCoreBudgetScheduler.shutdown();
+                }
             } catch (Exception anException) {
                 ModelUtils.appendToLogfile(true, anException);
             } finally {
                 this.jobResultExecutorService = null;
+                this.jobCoreBudgetScheduler = null;
             }
         }
     }
@@ -82,6 +82,7 @@ import org.jfree.data.xy.XYSeriesCollection;
 import de.gnwi.mfsim.gui.preference.GuiDefinitions;
 import de.gnwi.mfsim.model.preference.ModelDefinitions;
 import de.gnwi.mfsim.model.graphics.IImageProvider;
+import de.gnwi.mfsim.model.graphics.GraphicsUtils;
 
 /**
  * Utility class with static utitlity methods for GUI
@@ -2522,22 +2523,6 @@ public final class GuiUtils {
         String aMovieDirectoryPathForMovies
     ) {
         // <editor-fold defaultstate="collapsed" desc="Checks">
-        if (!ModelUtils.isWindowsOperatingSystem()) {
-            JOptionPane.showMessageDialog(null, 
-                GuiMessage.get("Movie.NonSupportedOS"), 
-                GuiMessage.get("Movie.NonSupportedOS.Title"),
-                JOptionPane.INFORMATION_MESSAGE
-            );
-            return;
-        }
-        if (!Preferences.getInstance().hasFFmpegInWinUtils()) {
-            JOptionPane.showMessageDialog(null, 
-                GuiMessage.get("Movie.MissingWindowsMovieCreationTool"), 
-                GuiMessage.get("Movie.MissingWindowsMovieCreationTool.Title"),
-                JOptionPane.INFORMATION_MESSAGE
-            );
-            return;
-        }
         if (aMovieImagePath == null || aMovieImagePath.isEmpty() || !(new File(aMovieImagePath)).isDirectory()
             || anImageDirectoryPathForMovies == null || anImageDirectoryPathForMovies.isEmpty() || !(new File(anImageDirectoryPathForMovies)).isDirectory()
             || aMovieDirectoryPathForMovies == null || aMovieDirectoryPathForMovies.isEmpty() || !(new File(aMovieDirectoryPathForMovies)).isDirectory()
@@ -2559,6 +2544,11 @@ public final class GuiUtils {
             return;
         }
         // </editor-fold>
+        if (!ModelUtils.isWindowsOperatingSystem() || !Preferences.getInstance().hasFFmpegInWinUtils()) {
+            // FFmpeg is not available: Create Motion-JPEG AVI movie in-process
+            GuiUtils.createMjpegAviMovie(anImageDirectoryPathForMovies, aMovieDirectoryPathForMovies);
+            return;
+        }
         try {
             MouseCursorManagement.getInstance().setWaitCursor();
             // <editor-fold defaultstate="collapsed" desc="Create movie">
@@ -2668,6 +2658,40 @@ public final class GuiUtils {
         }
     }
 
+    /**
+     * Creates Motion-JPEG AVI movie in-process (without FFmpeg)
+     * NOTE: No further checks are performed.
+     * 
+     * @param anImageDirectoryPathForMovies Image directory path for movies
+     * @param aMovieDirectoryPathForMovies  Movie directory path for movies
+     */
+    private static void createMjpegAviMovie(
+        String anImageDirectoryPathForMovies, 
+        String aMovieDirectoryPathForMovies
+    ) {
+        try {
+            MouseCursorManagement.getInstance().setWaitCursor();
+            int tmpMaximumImageNumber = GuiUtils.fileUtilityMethods.getMaximumImageNumberOfImageDirectoryForMovies(anImageDirectoryPathForMovies);
+            String tmpMovieFilename = ModelDefinitions.PREFIX_OF_MOVIE_FILENAME + "1_" + String.valueOf(tmpMaximumImageNumber) + ModelDefinitions.MJPEG_AVI_MOVIE_FILE_ENDING;
+            String tmpMovieFileDestinationPathname = aMovieDirectoryPathForMovies + File.separatorChar + tmpMovieFilename;
+            if (!GraphicsUtils.createMjpegAviMovie(
+                    anImageDirectoryPathForMovies, 
+                    new File(tmpMovieFileDestinationPathname), 
+                    Preferences.getInstance().getAnimationSpeed()
+                )
+            ) {
+                MouseCursorManagement.getInstance().setDefaultCursor();
+                JOptionPane.showMessageDialog(null, GuiMessage.get("Error.NoMovieCreation"),
+                        GuiMessage.get("Error.ErrorNotificationTitle"), JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            MouseCursorManagement.getInstance().setDefaultCursor();
+            GuiUtils.startViewer(tmpMovieFileDestinationPathname);
+        } finally {
+            MouseCursorManagement.getInstance().setDefaultCursor();
+        }
+    }
+
     /**
      * Checks if movie can be created.
      * 
@@ -2675,12 +2699,7 @@ public final class GuiUtils {
      * @return True: Movie can be created, false: Otherwise
      */
     public static boolean canCreateMovie(String aMovieImagePath) {
-        if (!ModelUtils.isWindowsOperatingSystem()) {
-            return false;
-        }
-        if (!Preferences.getInstance().hasFFmpegInWinUtils()) {
-            return false;
-        }
+        // NOTE: Without FFmpeg a Motion-JPEG AVI movie is created in-process
         if (aMovieImagePath == null || aMovieImagePath.isEmpty() || !(new File(aMovieImagePath)).isDirectory()) {
             return false;
         }
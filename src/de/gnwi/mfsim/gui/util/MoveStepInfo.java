@@ -21,6 +21,7 @@ package de.gnwi.mfsim.gui.util;
 
 import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
 import de.gnwi.mfsim.model.graphics.SimulationBoxViewEnum;
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionFrameBuffer;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionInfo;
 import de.gnwi.mfsim.model.graphics.GraphicsUtils;
 import de.gnwi.mfsim.model.util.ModelUtils;
@@ -41,6 +42,11 @@ public class MoveStepInfo {
      */
     private GraphicalParticlePositionInfo graphicalParticlePositionInfo;
 
+    /**
+     * Shared graphical particle position frame buffer (may be null)
+     */
+    private GraphicalParticlePositionFrameBuffer graphicalParticlePositionFrameBuffer;
+
     /**
      * Simulation box view
      */
@@ -207,6 +213,7 @@ public class MoveStepInfo {
         this.moveStepImageByteArray = null;
         this.moveStepImage = null;
         this.graphicalParticlePositionInfo = null;
+        this.graphicalParticlePositionFrameBuffer = null;
         // NOTE: Do NOT clear this.rotationAroundXaxisAngle, this.rotationAroundYaxisAngle and this.rotationAroundZaxisAngle
         // NOTE: Do NOT clear this.particleShiftX, particleShiftY and this.particleShiftZ
         // NOTE: Do NOT clear this.xShiftChange and this.yShiftChange
@@ -486,6 +493,29 @@ public class MoveStepInfo {
         return this.graphicalParticlePositionInfo;
     }
     // </editor-fold>    
+    // <editor-fold defaultstate="collapsed" desc="- GraphicalParticlePositionFrameBuffer">
+    /**
+     * Shared graphical particle position frame buffer. If set the graphical 
+     * particle positions of the step are derived from this buffer instead of 
+     * the graphical particle position info.
+     *
+     * @param aGraphicalParticlePositionFrameBuffer Shared graphical particle 
+     * position frame buffer (may be null)
+     */
+    public void setGraphicalParticlePositionFrameBuffer(GraphicalParticlePositionFrameBuffer aGraphicalParticlePositionFrameBuffer) {
+        this.graphicalParticlePositionFrameBuffer = aGraphicalParticlePositionFrameBuffer;
+    }
+
+    /**
+     * Shared graphical particle position frame buffer
+     *
+     * @return Shared graphical particle position frame buffer or null if 
+     * not set
+     */
+    public GraphicalParticlePositionFrameBuffer getGraphicalParticlePositionFrameBuffer() {
+        return this.graphicalParticlePositionFrameBuffer;
+    }
+    // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="- SimulationBoxMagnificationPercentage">
     /**
      * Simulation box magnification percentage
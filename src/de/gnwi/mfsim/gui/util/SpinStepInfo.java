@@ -20,6 +20,7 @@
 package de.gnwi.mfsim.gui.util;
 
 import de.gnwi.mfsim.model.graphics.SimulationBoxViewEnum;
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionFrameBuffer;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionInfo;
 import de.gnwi.mfsim.model.graphics.GraphicsUtils;
 import de.gnwi.mfsim.model.util.ModelUtils;
@@ -51,6 +52,11 @@ public class SpinStepInfo {
      */
     private GraphicalParticlePositionInfo graphicalParticlePositionInfo;
 
+    /**
+     * Shared graphical particle position frame buffer (may be null)
+     */
+    private GraphicalParticlePositionFrameBuffer graphicalParticlePositionFrameBuffer;
+
     /**
      * Simulation box view
      */
@@ -182,6 +188,7 @@ public class SpinStepInfo {
         this.spinStepImageByteArray = null;
         this.spinStepImage = null;
         this.graphicalParticlePositionInfo = null;
+        this.graphicalParticlePositionFrameBuffer = null;
         this.spinStepInfo = "";
         // NOTE: Do NOT clear this.rotationAroundXaxisAngle, this.rotationAroundYaxisAngle and this.rotationAroundZaxisAngle
         // NOTE: Do NOT clear this.rotationAroundXaxisOffset, this.rotationAroundYaxisOffset and this.rotationAroundZaxisOffset
@@ -442,6 +449,29 @@ public class SpinStepInfo {
     }
 
     // </editor-fold>    
+    // <editor-fold defaultstate="collapsed" desc="- GraphicalParticlePositionFrameBuffer">
+    /**
+     * Shared graphical particle position frame buffer. If set the graphical 
+     * particle positions of the step are derived from this buffer instead of 
+     * the graphical particle position info.
+     *
+     * @param aGraphicalParticlePositionFrameBuffer Shared graphical particle 
+     * position frame buffer (may be null)
+     */
+    public void setGraphicalParticlePositionFrameBuffer(GraphicalParticlePositionFrameBuffer aGraphicalParticlePositionFrameBuffer) {
+        this.graphicalParticlePositionFrameBuffer = aGraphicalParticlePositionFrameBuffer;
+    }
+
+    /**
+     * Shared graphical particle position frame buffer
+     *
+     * @return Shared graphical particle position frame buffer or null if 
+     * not set
+     */
+    public GraphicalParticlePositionFrameBuffer getGraphicalParticlePositionFrameBuffer() {
+        return this.graphicalParticlePositionFrameBuffer;
+    }
+    // </editor-fold>
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Public properties (get only)">
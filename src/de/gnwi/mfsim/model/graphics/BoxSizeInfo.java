@@ -326,19 +326,34 @@ public class BoxSizeInfo {
             return false;
         }
         // </editor-fold>
-        if (Preferences.getInstance().isBoxVolumeShapeForZoom()) {
+        return this.isInBox(aPoint.getX(), aPoint.getY(), aPoint.getZ(), Preferences.getInstance().isBoxVolumeShapeForZoom());
+    }
+
+    /**
+     * Returns whether point is in box
+     * (No checks are performed)
+     *
+     * @param aX X coordinate of point to be tested
+     * @param aY Y coordinate of point to be tested
+     * @param aZ Z coordinate of point to be tested
+     * @param anIsBoxVolumeShape True: Box volume shape, false: Ellipsoid 
+     * volume shape
+     * @return True: Point is in box, false: Otherwise
+     */
+    public boolean isInBox(double aX, double aY, double aZ, boolean anIsBoxVolumeShape) {
+        if (anIsBoxVolumeShape) {
             // Box volume shape
-            return aPoint.getX() >= this.xMin
-                && aPoint.getX() <= this.xMax
-                && aPoint.getY() >= this.yMin
-                && aPoint.getY() <= this.yMax
-                && aPoint.getZ() >= this.zMin
-                && aPoint.getZ() <= this.zMax;
+            return aX >= this.xMin
+                && aX <= this.xMax
+                && aY >= this.yMin
+                && aY <= this.yMax
+                && aZ >= this.zMin
+                && aZ <= this.zMax;
         } else {
             // Ellipsoid volume shape
-            double tmpTermX = (aPoint.getX() - this.boxMidPoint.getX()) / this.halfXLength;
-            double tmpTermY = (aPoint.getY() - this.boxMidPoint.getY()) / this.halfYLength;
-            double tmpTermZ = (aPoint.getZ() - this.boxMidPoint.getZ()) / this.halfZLength;
+            double tmpTermX = (aX - this.boxMidPoint.getX()) / this.halfXLength;
+            double tmpTermY = (aY - this.boxMidPoint.getY()) / this.halfYLength;
+            double tmpTermZ = (aZ - this.boxMidPoint.getZ()) / this.halfZLength;
             return tmpTermX * tmpTermX + tmpTermY * tmpTermY + tmpTermZ * tmpTermZ <= 1.0;
         }
     }
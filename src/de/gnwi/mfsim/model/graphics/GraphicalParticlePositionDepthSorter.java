@@ -0,0 +1,357 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics;
+
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePosition;
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Depth sorter for graphical particle positions: Depth coordinates are 
+ * converted to order-preserving 64 bit integer keys that are sorted with a
+ * (stable) LSD radix sort that carries an index permutation array. The 
+ * resulting order is identical to a comparison sort with 
+ * Double.compare() on the depth coordinate (ties may differ). Large arrays
+ * are sorted with parallel histogram and scatter phases.
+ * NOTE: Internal buffers are reused, i.e. an instance is NOT thread-safe.
+ *
+ * @author Achim Zielesny
+ */
+public class GraphicalParticlePositionDepthSorter {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * Number of bits of a radix digit
+     */
+    private static final int RADIX_BITS = 8;
+
+    /**
+     * Number of buckets of a radix digit
+     */
+    private static final int RADIX_SIZE = 1 << GraphicalParticlePositionDepthSorter.RADIX_BITS;
+
+    /**
+     * Bit mask of a radix digit
+     */
+    private static final int RADIX_MASK = GraphicalParticlePositionDepthSorter.RADIX_SIZE - 1;
+
+    /**
+     * Number of radix passes for 64 bit keys
+     */
+    private static final int NUMBER_OF_PASSES = Long.SIZE / GraphicalParticlePositionDepthSorter.RADIX_BITS;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Keys
+     */
+    private long[] keys;
+
+    /**
+     * Key buffer
+     */
+    private long[] keyBuffer;
+
+    /**
+     * Index permutation
+     */
+    private int[] indices;
+
+    /**
+     * Index permutation buffer
+     */
+    private int[] indexBuffer;
+
+    /**
+     * Graphical particle position buffer
+     */
+    private GraphicalParticlePosition[] graphicalParticlePositionBuffer;
+
+    /**
+     * Minimum array length for parallel sorting
+     */
+    private final int minimumLengthForParallelSort;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructors">
+    /**
+     * Constructor
+     */
+    public GraphicalParticlePositionDepthSorter() {
+        this(ModelDefinitions.MINIMUM_NUMBER_OF_PARTICLES_FOR_PARALLEL_SORTING);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param aMinimumLengthForParallelSort Minimum array length for parallel 
+     * sorting
+     */
+    public GraphicalParticlePositionDepthSorter(int aMinimumLengthForParallelSort) {
+        this.minimumLengthForParallelSort = aMinimumLengthForParallelSort;
+        this.keys = new long[0];
+        this.keyBuffer = new long[0];
+        this.indices = new int[0];
+        this.indexBuffer = new int[0];
+        this.graphicalParticlePositionBuffer = new GraphicalParticlePosition[0];
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Sorts graphical particle positions according to box view (see 
+     * GraphicsUtilityMethods.sortGraphicalParticlePositions()).
+     * NOTE: No checks are performed
+     *
+     * @param aBoxView Box view
+     * @param aGraphicalParticlePositions Graphical particle positions (initial
+     * part of length anArrayLength is sorted)
+     * @param anArrayLength Length of initial part of 
+     * aGraphicalParticlePositions to be sorted
+     */
+    public void sort(SimulationBoxViewEnum aBoxView, GraphicalParticlePosition[] aGraphicalParticlePositions, int anArrayLength) {
+        if (anArrayLength <= 1) {
+            return;
+        }
+        this.ensureCapacity(anArrayLength);
+        // <editor-fold defaultstate="collapsed" desc="Keys">
+        switch (aBoxView) {
+            case XZ_FRONT:
+                for (int i = 0; i < anArrayLength; i++) {
+                    this.keys[i] = GraphicalParticlePositionDepthSorter.getSortableKey(aGraphicalParticlePositions[i].getY());
+                }
+                break;
+            case XZ_BACK:
+                for (int i = 0; i < anArrayLength; i++) {
+                    this.keys[i] = ~GraphicalParticlePositionDepthSorter.getSortableKey(aGraphicalParticlePositions[i].getY());
+                }
+                break;
+            case XY_BOTTOM:
+                for (int i = 0; i < anArrayLength; i++) {
+                    this.keys[i] = GraphicalParticlePositionDepthSorter.getSortableKey(aGraphicalParticlePositions[i].getZ());
+                }
+                break;
+            case XY_TOP:
+                for (int i = 0; i < anArrayLength; i++) {
+                    this.keys[i] = ~GraphicalParticlePositionDepthSorter.getSortableKey(aGraphicalParticlePositions[i].getZ());
+                }
+                break;
+            case YZ_LEFT:
+                for (int i = 0; i < anArrayLength; i++) {
+                    this.keys[i] = GraphicalParticlePositionDepthSorter.getSortableKey(aGraphicalParticlePositions[i].getX());
+                }
+                break;
+            case YZ_RIGHT:
+                for (int i = 0; i < anArrayLength; i++) {
+                    this.keys[i] = ~GraphicalParticlePositionDepthSorter.getSortableKey(aGraphicalParticlePositions[i].getX());
+                }
+                break;
+            default:
+                return;
+        }
+        for (int i = 0; i < anArrayLength; i++) {
+            this.indices[i] = i;
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Radix sort">
+        if (anArrayLength >= this.minimumLengthForParallelSort) {
+            this.sortParallel(anArrayLength);
+        } else {
+            this.sortSequential(anArrayLength);
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Apply permutation">
+        for (int i = 0; i < anArrayLength; i++) {
+            this.graphicalParticlePositionBuffer[i] = aGraphicalParticlePositions[this.indices[i]];
+        }
+        System.arraycopy(this.graphicalParticlePositionBuffer, 0, aGraphicalParticlePositions, 0, anArrayLength);
+        for (int i = 0; i < anArrayLength; i++) {
+            this.graphicalParticlePositionBuffer[i] = null;
+        }
+        // </editor-fold>
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Sequential LSD radix sort of this.keys with this.indices
+     *
+     * @param anArrayLength Array length
+     */
+    private void sortSequential(int anArrayLength) {
+        // Histograms of all passes in one sweep
+        int[][] tmpHistograms = new int[GraphicalParticlePositionDepthSorter.NUMBER_OF_PASSES][GraphicalParticlePositionDepthSorter.RADIX_SIZE];
+        for (int i = 0; i < anArrayLength; i++) {
+            long tmpKey = this.keys[i];
+            for (int k = 0; k < GraphicalParticlePositionDepthSorter.NUMBER_OF_PASSES; k++) {
+                tmpHistograms[k][(int) (tmpKey >>> (k * GraphicalParticlePositionDepthSorter.RADIX_BITS)) & GraphicalParticlePositionDepthSorter.RADIX_MASK]++;
+            }
+        }
+        for (int k = 0; k < GraphicalParticlePositionDepthSorter.NUMBER_OF_PASSES; k++) {
+            int[] tmpHistogram = tmpHistograms[k];
+            if (GraphicalParticlePositionDepthSorter.isSingleBucket(tmpHistogram, anArrayLength)) {
+                // Digit is identical for all keys: Pass is skipped
+                continue;
+            }
+            int tmpOffset = 0;
+            for (int j = 0; j < GraphicalParticlePositionDepthSorter.RADIX_SIZE; j++) {
+                int tmpCount = tmpHistogram[j];
+                tmpHistogram[j] = tmpOffset;
+                tmpOffset += tmpCount;
+            }
+            int tmpShift = k * GraphicalParticlePositionDepthSorter.RADIX_BITS;
+            for (int i = 0; i < anArrayLength; i++) {
+                long tmpKey = this.keys[i];
+                int tmpTargetIndex = tmpHistogram[(int) (tmpKey >>> tmpShift) & GraphicalParticlePositionDepthSorter.RADIX_MASK]++;
+                this.keyBuffer[tmpTargetIndex] = tmpKey;
+                this.indexBuffer[tmpTargetIndex] = this.indices[i];
+            }
+            this.swapBuffers();
+        }
+    }
+
+    /**
+     * Parallel LSD radix sort of this.keys with this.indices: Every pass 
+     * consists of a parallel chunk histogram phase and a parallel (stable) 
+     * chunk scatter phase.
+     *
+     * @param anArrayLength Array length
+     */
+    private void sortParallel(int anArrayLength) {
+        int tmpNumberOfChunks = Math.max(1, Runtime.getRuntime().availableProcessors());
+        int tmpChunkSize = (anArrayLength + tmpNumberOfChunks - 1) / tmpNumberOfChunks;
+        int[][] tmpChunkHistograms = new int[tmpNumberOfChunks][GraphicalParticlePositionDepthSorter.RADIX_SIZE];
+        int[] tmpHistogram = new int[GraphicalParticlePositionDepthSorter.RADIX_SIZE];
+        for (int k = 0; k < GraphicalParticlePositionDepthSorter.NUMBER_OF_PASSES; k++) {
+            int tmpShift = k * GraphicalParticlePositionDepthSorter.RADIX_BITS;
+            long[] tmpKeys = this.keys;
+            long[] tmpKeyBuffer = this.keyBuffer;
+            int[] tmpIndices = this.indices;
+            int[] tmpIndexBuffer = this.indexBuffer;
+            // <editor-fold defaultstate="collapsed" desc="Chunk histograms">
+            IntStream.range(0, tmpNumberOfChunks).parallel().forEach(
+                tmpChunkIndex ->
+                {
+                    int[] tmpChunkHistogram = tmpChunkHistograms[tmpChunkIndex];
+                    Arrays.fill(tmpChunkHistogram, 0);
+                    int tmpEndIndex = Math.min(anArrayLength, (tmpChunkIndex + 1) * tmpChunkSize);
+                    for (int i = tmpChunkIndex * tmpChunkSize; i < tmpEndIndex; i++) {
+                        tmpChunkHistogram[(int) (tmpKeys[i] >>> tmpShift) & GraphicalParticlePositionDepthSorter.RADIX_MASK]++;
+                    }
+                }
+            );
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Chunk offsets">
+            Arrays.fill(tmpHistogram, 0);
+            for (int[] tmpChunkHistogram : tmpChunkHistograms) {
+                for (int j = 0; j < GraphicalParticlePositionDepthSorter.RADIX_SIZE; j++) {
+                    tmpHistogram[j] += tmpChunkHistogram[j];
+                }
+            }
+            if (GraphicalParticlePositionDepthSorter.isSingleBucket(tmpHistogram, anArrayLength)) {
+                // Digit is identical for all keys: Pass is skipped
+                continue;
+            }
+            int tmpOffset = 0;
+            for (int j = 0; j < GraphicalParticlePositionDepthSorter.RADIX_SIZE; j++) {
+                for (int[] tmpChunkHistogram : tmpChunkHistograms) {
+                    int tmpCount = tmpChunkHistogram[j];
+                    tmpChunkHistogram[j] = tmpOffset;
+                    tmpOffset += tmpCount;
+                }
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Chunk scatter">
+            IntStream.range(0, tmpNumberOfChunks).parallel().forEach(
+                tmpChunkIndex ->
+                {
+                    int[] tmpChunkOffsets = tmpChunkHistograms[tmpChunkIndex];
+                    int tmpEndIndex = Math.min(anArrayLength, (tmpChunkIndex + 1) * tmpChunkSize);
+                    for (int i = tmpChunkIndex * tmpChunkSize; i < tmpEndIndex; i++) {
+                        long tmpKey = tmpKeys[i];
+                        int tmpTargetIndex = tmpChunkOffsets[(int) (tmpKey >>> tmpShift) & GraphicalParticlePositionDepthSorter.RADIX_MASK]++;
+                        tmpKeyBuffer[tmpTargetIndex] = tmpKey;
+                        tmpIndexBuffer[tmpTargetIndex] = tmpIndices[i];
+                    }
+                }
+            );
+            // </editor-fold>
+            this.swapBuffers();
+        }
+    }
+
+    /**
+     * Returns if all keys fall into a single bucket
+     *
+     * @param aHistogram Histogram
+     * @param anArrayLength Array length
+     * @return True: All keys fall into a single bucket, false: Otherwise
+     */
+    private static boolean isSingleBucket(int[] aHistogram, int anArrayLength) {
+        for (int tmpCount : aHistogram) {
+            if (tmpCount != 0) {
+                return tmpCount == anArrayLength;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Swaps keys/indices and their buffers
+     */
+    private void swapBuffers() {
+        long[] tmpKeys = this.keys;
+        this.keys = this.keyBuffer;
+        this.keyBuffer = tmpKeys;
+        int[] tmpIndices = this.indices;
+        this.indices = this.indexBuffer;
+        this.indexBuffer = tmpIndices;
+    }
+
+    /**
+     * Ensures capacity of buffers
+     *
+     * @param anArrayLength Array length
+     */
+    private void ensureCapacity(int anArrayLength) {
+        if (this.keys.length < anArrayLength) {
+            this.keys = new long[anArrayLength];
+            this.keyBuffer = new long[anArrayLength];
+            this.indices = new int[anArrayLength];
+            this.indexBuffer = new int[anArrayLength];
+            this.graphicalParticlePositionBuffer = new GraphicalParticlePosition[anArrayLength];
+        }
+    }
+
+    /**
+     * Returns 64 bit key whose unsigned order corresponds to the order of 
+     * Double.compare()
+     *
+     * @param aValue Value
+     * @return Key
+     */
+    private static long getSortableKey(double aValue) {
+        long tmpBits = Double.doubleToLongBits(aValue);
+        return tmpBits ^ ((tmpBits >> 63) | Long.MIN_VALUE);
+    }
+    // </editor-fold>
+
+}
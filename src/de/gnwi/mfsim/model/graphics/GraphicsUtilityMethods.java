@@ -25,6 +25,7 @@ import de.gnwi.mfsim.model.graphics.body.BodyXyLayer;
 import de.gnwi.mfsim.model.graphics.body.BodyXyLayerSingleSurfaceEnum;
 import de.gnwi.mfsim.model.graphics.body.BodySphere;
 import de.gnwi.mfsim.model.graphics.body.BodyInterface;
+import de.gnwi.mfsim.model.graphics.body.BodySpatialHash;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticle;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePosition;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionArrayList;
@@ -38,12 +39,10 @@ import de.gnwi.mfsim.model.util.StandardColorEnum;
 import de.gnwi.mfsim.model.message.ModelMessage;
 import de.gnwi.mfsim.model.util.StringUtilityMethods;
 import de.gnwi.mfsim.model.preference.Preferences;
-import de.gnwi.mfsim.model.util.MiscUtilityMethods;
 import de.gnwi.spices.PointInSpace;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.io.File;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import de.gnwi.jdpd.interfaces.IRandom;
@@ -59,162 +58,17 @@ import de.gnwi.mfsim.model.preference.ModelDefinitions;
  */
 public class GraphicsUtilityMethods {
 
-    // <editor-fold defaultstate="collapsed" desc="Nested private comparator classes">
-    // <editor-fold defaultstate="collapsed" desc="- XAscendingComparator">
-    /**
-     * Comparator for x-coordinate comparison in ascending order
-     */
-    private class XAscendingComparator implements Comparator<GraphicalParticlePosition> {
-
-        /**
-         * Compares two GraphicalParticlePositions
-         *
-         * @param aGraphicalParticlePosition1 The first
- GraphicalParticlePosition
-         * @param aGraphicalParticlePosition2 The second
- GraphicalParticlePosition
-         *
-         * @return Standard comparison result: 1, 0, -1
-         */
-        public int compare(GraphicalParticlePosition aGraphicalParticlePosition1, GraphicalParticlePosition aGraphicalParticlePosition2) {
-            return Double.compare(aGraphicalParticlePosition1.getX(), aGraphicalParticlePosition2.getX());
-        }
-
-    }
-
-    // </editor-fold>
-    //
-    // <editor-fold defaultstate="collapsed" desc="- XDescendingComparator">
-    /**
-     * Comparator for x-coordinate comparison in descending order
-     */
-    private class XDescendingComparator implements Comparator<GraphicalParticlePosition> {
-
-        /**
-         * Compares two GraphicalParticlePositions
-         *
-         * @param aGraphicalParticlePosition1 The first
- GraphicalParticlePosition
-         * @param aGraphicalParticlePosition2 The second
- GraphicalParticlePosition
-         *
-         * @return Standard comparison result: 1, 0, -1
-         */
-        public int compare(GraphicalParticlePosition aGraphicalParticlePosition1, GraphicalParticlePosition aGraphicalParticlePosition2) {
-            return Double.compare(aGraphicalParticlePosition2.getX(), aGraphicalParticlePosition1.getX());
-        }
-
-    }
-
-    // </editor-fold>
-    //
-    // <editor-fold defaultstate="collapsed" desc="- YAscendingComparator">
-    /**
-     * Comparator for y-coordinate comparison in ascending order
-     */
-    private class YAscendingComparator implements Comparator<GraphicalParticlePosition> {
-
-        /**
-         * Compares two GraphicalParticlePositions
-         *
-         * @param aGraphicalParticlePosition1 The first
- GraphicalParticlePosition
-         * @param aGraphicalParticlePosition2 The second
- GraphicalParticlePosition
-         *
-         * @return Standard comparison result: 1, 0, -1
-         */
-        public int compare(GraphicalParticlePosition aGraphicalParticlePosition1, GraphicalParticlePosition aGraphicalParticlePosition2) {
-            return Double.compare(aGraphicalParticlePosition1.getY(), aGraphicalParticlePosition2.getY());
-        }
-
-    }
-
-    // </editor-fold>
-    //
-    // <editor-fold defaultstate="collapsed" desc="- YDescendingComparator">
-    /**
-     * Comparator for y-coordinate comparison in descending order
-     */
-    private class YDescendingComparator implements Comparator<GraphicalParticlePosition> {
-
-        /**
-         * Compares two GraphicalParticlePositions
-         *
-         * @param aGraphicalParticlePosition1 The first
- GraphicalParticlePosition
-         * @param aGraphicalParticlePosition2 The second
- GraphicalParticlePosition
-         *
-         * @return Standard comparison result: 1, 0, -1
-         */
-        public int compare(GraphicalParticlePosition aGraphicalParticlePosition1, GraphicalParticlePosition aGraphicalParticlePosition2) {
-            return Double.compare(aGraphicalParticlePosition2.getY(), aGraphicalParticlePosition1.getY());
-        }
-
-    }
-
-    // </editor-fold>
-    //
-    // <editor-fold defaultstate="collapsed" desc="- ZAscendingComparator">
-    /**
-     * Comparator for z-coordinate comparison in ascending order
-     */
-    private class ZAscendingComparator implements Comparator<GraphicalParticlePosition> {
-
-        /**
-         * Compares two GraphicalParticlePositions
-         *
-         * @param aGraphicalParticlePosition1 The first
- GraphicalParticlePosition
-         * @param aGraphicalParticlePosition2 The second
- GraphicalParticlePosition
-         *
-         * @return Standard comparison result: 1, 0, -1
-         */
-        public int compare(GraphicalParticlePosition aGraphicalParticlePosition1, GraphicalParticlePosition aGraphicalParticlePosition2) {
-            return Double.compare(aGraphicalParticlePosition1.getZ(), aGraphicalParticlePosition2.getZ());
-        }
-
-    }
-
-    // </editor-fold>
-    //
-    // <editor-fold defaultstate="collapsed" desc="- ZDescendingComparator">
-    /**
-     * Comparator for z-coordinate comparison in descending order
-     */
-    private class ZDescendingComparator implements Comparator<GraphicalParticlePosition> {
-
-        /**
-         * Compares two GraphicalParticlePositions
-         *
-         * @param aGraphicalParticlePosition1 The first
- GraphicalParticlePosition
-         * @param aGraphicalParticlePosition2 The second
- GraphicalParticlePosition
-         *
-         * @return Standard comparison result: 1, 0, -1
-         */
-        public int compare(GraphicalParticlePosition aGraphicalParticlePosition1, GraphicalParticlePosition aGraphicalParticlePosition2) {
-            return Double.compare(aGraphicalParticlePosition2.getZ(), aGraphicalParticlePosition1.getZ());
-        }
-
-    }
-
-    // </editor-fold>
-    // </editor-fold>
-    //
     // <editor-fold defaultstate="collapsed" desc="Private class variables">
     /**
-     * Utility misc methods
+     * Utility string methods
      */
-    private MiscUtilityMethods miscUtilityMethods = new MiscUtilityMethods();
+    private final StringUtilityMethods stringUtilityMethods = new StringUtilityMethods();
 
     /**
-     * Utility string methods
+     * Depth sorter for graphical particle positions (created on demand, 
+     * buffers are reused)
      */
-    private final StringUtilityMethods stringUtilityMethods = new StringUtilityMethods();
+    private GraphicalParticlePositionDepthSorter graphicalParticlePositionDepthSorter;
 
     // </editor-fold>
     //
@@ -976,6 +830,22 @@ public class GraphicsUtilityMethods {
         aPointsInSpace.setY(this.getCorrectedValue(aPointsInSpace.getY() + aShiftY, aBoxSizeInfo.getYMin(), aBoxSizeInfo.getYMax(), aBoxSizeInfo.getYLength()));
         aPointsInSpace.setZ(this.getCorrectedValue(aPointsInSpace.getZ() + aShiftZ, aBoxSizeInfo.getZMin(), aBoxSizeInfo.getZMax(), aBoxSizeInfo.getZLength()));
     }
+
+    /**
+     * Shifts single coordinate with periodic boundaries (identical to 
+     * shiftPointWithPeriodicBoundaries() for one axis)
+     * (No checks are performed)
+     *
+     * @param aValue Coordinate value
+     * @param aShift Shift
+     * @param aMinValue Minimum value of box along axis
+     * @param aMaxValue Maximum value of box along axis
+     * @param aLength Length of box along axis
+     * @return Shifted coordinate value
+     */
+    public double getShiftedValueWithPeriodicBoundaries(double aValue, double aShift, double aMinValue, double aMaxValue, double aLength) {
+        return this.getCorrectedValue(aValue + aShift, aMinValue, aMaxValue, aLength);
+    }
     // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="- Rotation related methods">
     /**
@@ -2254,6 +2124,17 @@ public class GraphicsUtilityMethods {
         }
         // </editor-fold>
         boolean tmpAreExistingSpheresDefined = anExistingSphereList != null && !anExistingSphereList.isEmpty();
+        BodySpatialHash tmpExistingSphereSpatialHash = null;
+        if (tmpAreExistingSpheresDefined) {
+            tmpExistingSphereSpatialHash = 
+                this.getExistingSphereSpatialHash(
+                    anExistingSphereList, 
+                    aSphereCenterPoint, 
+                    2.0 * aSphereRadius, 
+                    2.0 * aSphereRadius, 
+                    2.0 * aSphereRadius
+                );
+        }
 
         // Reduce value to avoid points outside the compartment due to round-off errors
         double tmpSphereRadius = aSphereRadius * ModelDefinitions.DECREASE_FACTOR;
@@ -2285,13 +2166,8 @@ public class GraphicsUtilityMethods {
                 tmpTestPoint.setX(aSphereCenterPoint.getX() - tmpSphereRadius + tmpX);
                 tmpTestPoint.setY(aSphereCenterPoint.getY() - tmpSphereRadius + tmpY);
                 tmpTestPoint.setZ(aSphereCenterPoint.getZ() - tmpSphereRadius + tmpZ);
-                if (tmpAreExistingSpheresDefined) {
-                    for (BodySphere tmpSingleSphere : anExistingSphereList) {
-                        if (tmpSingleSphere.isInVolume(tmpTestPoint)) {
-                            isOutsideSphereExcludedVolume = false;
-                            break;
-                        }
-                    }
+                if (tmpAreExistingSpheresDefined && tmpExistingSphereSpatialHash.isInExcludedVolume(tmpTestPoint)) {
+                    isOutsideSphereExcludedVolume = false;
                 }
                 tmpTrialCounter++;
                 if (tmpTrialCounter > aNumberOfTrials) {
@@ -2384,6 +2260,17 @@ public class GraphicsUtilityMethods {
         }
         // </editor-fold>
         boolean tmpAreExistingSpheresDefined = anExistingSphereList != null && !anExistingSphereList.isEmpty();
+        BodySpatialHash tmpExistingSphereSpatialHash = null;
+        if (tmpAreExistingSpheresDefined) {
+            tmpExistingSphereSpatialHash = 
+                this.getExistingSphereSpatialHash(
+                    anExistingSphereList, 
+                    aSphereCenterPoint, 
+                    2.0 * aSphereRadius, 
+                    2.0 * aSphereRadius, 
+                    2.0 * aSphereRadius
+                );
+        }
 
         // Reduce value to avoid points outside the compartment due to round-off errors
         double tmpSphereRadius = aSphereRadius * ModelDefinitions.DECREASE_FACTOR;
@@ -2419,13 +2306,8 @@ public class GraphicsUtilityMethods {
                     tmpTestPoint1.setX(aSphereCenterPoint.getX() - tmpSphereRadius + tmpX);
                     tmpTestPoint1.setY(aSphereCenterPoint.getY() - tmpSphereRadius + tmpY);
                     tmpTestPoint1.setZ(aSphereCenterPoint.getZ() - tmpSphereRadius + tmpZ);
-                    if (tmpAreExistingSpheresDefined) {
-                        for (BodySphere tmpSingleSphere : anExistingSphereList) {
-                            if (tmpSingleSphere.isInVolume(tmpTestPoint1)) {
-                                isOutsideSphereExcludedVolume = false;
-                                break;
-                            }
-                        }
+                    if (tmpAreExistingSpheresDefined && tmpExistingSphereSpatialHash.isInExcludedVolume(tmpTestPoint1)) {
+                        isOutsideSphereExcludedVolume = false;
                     }
                     tmpTrialCounter2++;
                     if (tmpTrialCounter2 > aNumberOfTrials) {
@@ -2447,13 +2329,8 @@ public class GraphicsUtilityMethods {
                     tmpTestPoint2.setX(aSphereCenterPoint.getX() - tmpSphereRadius + tmpX);
                     tmpTestPoint2.setY(aSphereCenterPoint.getY() - tmpSphereRadius + tmpY);
                     tmpTestPoint2.setZ(aSphereCenterPoint.getZ() - tmpSphereRadius + tmpZ);
-                    if (tmpAreExistingSpheresDefined) {
-                        for (BodySphere tmpSingleSphere : anExistingSphereList) {
-                            if (tmpSingleSphere.isInVolume(tmpTestPoint1)) {
-                                isOutsideSphereExcludedVolume = false;
-                                break;
-                            }
-                        }
+                    if (tmpAreExistingSpheresDefined && tmpExistingSphereSpatialHash.isInExcludedVolume(tmpTestPoint1)) {
+                        isOutsideSphereExcludedVolume = false;
                     }
                     tmpTrialCounter2++;
                     if (tmpTrialCounter2 > aNumberOfTrials) {
@@ -2465,13 +2342,8 @@ public class GraphicsUtilityMethods {
                 if (tmpTestPointList.size() > 1) {
                     for (PointInSpace tmpSinglePoint : tmpTestPointList) {
                         boolean tmpIsInSphere = false;
-                        if (tmpAreExistingSpheresDefined) {
-                            for (BodySphere tmpSingleSphere : anExistingSphereList) {
-                                if (tmpSingleSphere.isInVolume(tmpSinglePoint)) {
-                                    tmpIsInSphere = true;
-                                    break;
-                                }
-                            }
+                        if (tmpAreExistingSpheresDefined && tmpExistingSphereSpatialHash.isInExcludedVolume(tmpSinglePoint)) {
+                            tmpIsInSphere = true;
                         }
                         if (!tmpIsInSphere) {
                             tmpTestPoint2 = tmpSinglePoint;
@@ -2560,6 +2432,17 @@ public class GraphicsUtilityMethods {
         }
         // </editor-fold>
         boolean tmpAreExistingSpheresDefined = anExistingSphereList != null && !anExistingSphereList.isEmpty();
+        BodySpatialHash tmpExistingSphereSpatialHash = null;
+        if (tmpAreExistingSpheresDefined) {
+            tmpExistingSphereSpatialHash = 
+                this.getExistingSphereSpatialHash(
+                    anExistingSphereList, 
+                    aXyLayerCenterPoint, 
+                    aXyLayerXLength, 
+                    aXyLayerYLength, 
+                    aXyLayerZLength
+                );
+        }
 
         // Reduce values to avoid points outside the compartment due to round-off errors
         double tmpXLength = aXyLayerXLength * ModelDefinitions.DECREASE_FACTOR;
@@ -2580,13 +2463,8 @@ public class GraphicsUtilityMethods {
                 tmpTestPoint.setX(aXyLayerCenterPoint.getX() + tmpXLength * aRandomNumberGenerator.nextDouble() - tmpHalfXLength);
                 tmpTestPoint.setY(aXyLayerCenterPoint.getY() + tmpYLength * aRandomNumberGenerator.nextDouble() - tmpHalfYLength);
                 tmpTestPoint.setZ(aXyLayerCenterPoint.getZ() + tmpZLength * aRandomNumberGenerator.nextDouble() - tmpHalfZLength);
-                if (tmpAreExistingSpheresDefined) {
-                    for (BodySphere tmpSingleSphere : anExistingSphereList) {
-                        if (tmpSingleSphere.isInVolume(tmpTestPoint)) {
-                            isOutsideSphereExcludedVolume = false;
-                            break;
-                        }
-                    }
+                if (tmpAreExistingSpheresDefined && tmpExistingSphereSpatialHash.isInExcludedVolume(tmpTestPoint)) {
+                    isOutsideSphereExcludedVolume = false;
                 }
                 tmpTrialCounter++;
                 if (tmpTrialCounter > aNumberOfTrials) {
@@ -2687,6 +2565,17 @@ public class GraphicsUtilityMethods {
         }
         // </editor-fold>
         boolean tmpAreExistingSpheresDefined = anExistingSphereList != null && !anExistingSphereList.isEmpty();
+        BodySpatialHash tmpExistingSphereSpatialHash = null;
+        if (tmpAreExistingSpheresDefined) {
+            tmpExistingSphereSpatialHash = 
+                this.getExistingSphereSpatialHash(
+                    anExistingSphereList, 
+                    aXyLayerCenterPoint, 
+                    aXyLayerXLength, 
+                    aXyLayerYLength, 
+                    aXyLayerZLength
+                );
+        }
 
         // Reduce values to avoid points outside the compartment due to round-off errors
         double tmpXLength = aXyLayerXLength * ModelDefinitions.DECREASE_FACTOR;
@@ -2711,13 +2600,8 @@ public class GraphicsUtilityMethods {
                     tmpTestPoint1.setX(aXyLayerCenterPoint.getX() + tmpXLength * aRandomNumberGenerator.nextDouble() - tmpHalfXLength);
                     tmpTestPoint1.setY(aXyLayerCenterPoint.getY() + tmpYLength * aRandomNumberGenerator.nextDouble() - tmpHalfYLength);
                     tmpTestPoint1.setZ(aXyLayerCenterPoint.getZ() + tmpZLength * aRandomNumberGenerator.nextDouble() - tmpHalfZLength);
-                    if (tmpAreExistingSpheresDefined) {
-                        for (BodySphere tmpSingleSphere : anExistingSphereList) {
-                            if (tmpSingleSphere.isInVolume(tmpTestPoint1)) {
-                                isOutsideSphereExcludedVolume = false;
-                                break;
-                            }
-                        }
+                    if (tmpAreExistingSpheresDefined && tmpExistingSphereSpatialHash.isInExcludedVolume(tmpTestPoint1)) {
+                        isOutsideSphereExcludedVolume = false;
                     }
                     tmpTrialCounter2++;
                     if (tmpTrialCounter2 > aNumberOfTrials) {
@@ -2731,13 +2615,8 @@ public class GraphicsUtilityMethods {
                     tmpTestPoint2.setX(aXyLayerCenterPoint.getX() + tmpXLength * aRandomNumberGenerator.nextDouble() - tmpHalfXLength);
                     tmpTestPoint2.setY(aXyLayerCenterPoint.getY() + tmpYLength * aRandomNumberGenerator.nextDouble() - tmpHalfYLength);
                     tmpTestPoint2.setZ(aXyLayerCenterPoint.getZ() + tmpZLength * aRandomNumberGenerator.nextDouble() - tmpHalfZLength);
-                    if (tmpAreExistingSpheresDefined) {
-                        for (BodySphere tmpSingleSphere : anExistingSphereList) {
-                            if (tmpSingleSphere.isInVolume(tmpTestPoint1)) {
-                                isOutsideSphereExcludedVolume = false;
-                                break;
-                            }
-                        }
+                    if (tmpAreExistingSpheresDefined && tmpExistingSphereSpatialHash.isInExcludedVolume(tmpTestPoint1)) {
+                        isOutsideSphereExcludedVolume = false;
                     }
                     tmpTrialCounter2++;
                     if (tmpTrialCounter2 > aNumberOfTrials) {
@@ -2749,13 +2628,8 @@ public class GraphicsUtilityMethods {
                 if (tmpTestPointList.size() > 1) {
                     for (PointInSpace tmpSinglePoint : tmpTestPointList) {
                         boolean tmpIsInSphere = false;
-                        if (tmpAreExistingSpheresDefined) {
-                            for (BodySphere tmpSingleSphere : anExistingSphereList) {
-                                if (tmpSingleSphere.isInVolume(tmpSinglePoint)) {
-                                    tmpIsInSphere = true;
-                                    break;
-                                }
-                            }
+                        if (tmpAreExistingSpheresDefined && tmpExistingSphereSpatialHash.isInExcludedVolume(tmpSinglePoint)) {
+                            tmpIsInSphere = true;
                         }
                         if (!tmpIsInSphere) {
                             tmpTestPoint2 = tmpSinglePoint;
@@ -4930,52 +4804,14 @@ public class GraphicsUtilityMethods {
      * @param aGraphicalParticlePositionArrayList Graphical particle position array list
      */
     public void sortGraphicalParticlePositions(SimulationBoxViewEnum aBoxView, GraphicalParticlePositionArrayList aGraphicalParticlePositionArrayList) {
-        switch (aBoxView) {
-            case XZ_FRONT:
-                this.miscUtilityMethods.sortGenericArray(
-                    aGraphicalParticlePositionArrayList.getGraphicalParticlePositions(), 
-                    aGraphicalParticlePositionArrayList.getSize(), 
-                    new YAscendingComparator()
-                );
-                break;
-            case XZ_BACK:
-                this.miscUtilityMethods.sortGenericArray(
-                    aGraphicalParticlePositionArrayList.getGraphicalParticlePositions(), 
-                    aGraphicalParticlePositionArrayList.getSize(), 
-                    new YDescendingComparator()
-                );
-                break;
-            case XY_BOTTOM:
-                this.miscUtilityMethods.sortGenericArray(
-                    aGraphicalParticlePositionArrayList.getGraphicalParticlePositions(), 
-                    aGraphicalParticlePositionArrayList.getSize(), 
-                    new ZAscendingComparator()
-                );
-                break;
-            case XY_TOP:
-                this.miscUtilityMethods.sortGenericArray(
-                    aGraphicalParticlePositionArrayList.getGraphicalParticlePositions(), 
-                    aGraphicalParticlePositionArrayList.getSize(), 
-                    new ZDescendingComparator()
-                );
-                break;
-            case YZ_LEFT:
-                this.miscUtilityMethods.sortGenericArray(
-                    aGraphicalParticlePositionArrayList.getGraphicalParticlePositions(), 
-                    aGraphicalParticlePositionArrayList.getSize(), 
-                    new XAscendingComparator()
-                );
-                break;
-            case YZ_RIGHT:
-                this.miscUtilityMethods.sortGenericArray(
-                    aGraphicalParticlePositionArrayList.getGraphicalParticlePositions(), 
-                    aGraphicalParticlePositionArrayList.getSize(), 
-                    new XDescendingComparator()
-                );
-                break;
-            default:
-                return;
+        if (this.graphicalParticlePositionDepthSorter == null) {
+            this.graphicalParticlePositionDepthSorter = new GraphicalParticlePositionDepthSorter();
         }
+        this.graphicalParticlePositionDepthSorter.sort(
+            aBoxView,
+            aGraphicalParticlePositionArrayList.getGraphicalParticlePositions(), 
+            aGraphicalParticlePositionArrayList.getSize()
+        );
     }
 
     /**
@@ -5170,6 +5006,40 @@ public class GraphicsUtilityMethods {
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Returns spatial hash over existing spheres for cuboid domain around 
+     * center point (replaces linear scan over existing spheres for every 
+     * trial point)
+     *
+     * @param anExistingSphereList List with existing spheres
+     * @param aCenterPoint Center point of domain
+     * @param aXLength X-length of domain
+     * @param aYLength Y-length of domain
+     * @param aZLength Z-length of domain
+     * @return Spatial hash over existing spheres
+     */
+    private BodySpatialHash getExistingSphereSpatialHash(
+        LinkedList<BodySphere> anExistingSphereList,
+        IPointInSpace aCenterPoint,
+        double aXLength,
+        double aYLength,
+        double aZLength
+    ) {
+        double tmpDefaultCellLength = Math.max(aXLength, Math.max(aYLength, aZLength)) / ModelDefinitions.DEFAULT_NUMBER_OF_SPATIAL_HASH_CELLS_PER_DIRECTION;
+        BodySpatialHash tmpSpatialHash = 
+            new BodySpatialHash(
+                aCenterPoint.getX() - 0.5 * aXLength, 
+                aCenterPoint.getX() + 0.5 * aXLength, 
+                aCenterPoint.getY() - 0.5 * aYLength, 
+                aCenterPoint.getY() + 0.5 * aYLength, 
+                aCenterPoint.getZ() - 0.5 * aZLength, 
+                aCenterPoint.getZ() + 0.5 * aZLength, 
+                BodySpatialHash.getTargetCellLength(anExistingSphereList, tmpDefaultCellLength)
+            );
+        tmpSpatialHash.addBodies(anExistingSphereList);
+        return tmpSpatialHash;
+    }
+
     /**
      * Returns end value of specified particle position according to specified
      * box view
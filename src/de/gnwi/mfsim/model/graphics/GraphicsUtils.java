@@ -24,6 +24,8 @@ import de.gnwi.mfsim.gui.util.SpinStepInfo;
 import de.gnwi.mfsim.model.util.ModelUtils;
 import de.gnwi.mfsim.model.preference.Preferences;
 import de.gnwi.mfsim.model.util.StringUtilityMethods;
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import de.gnwi.mfsim.model.graphics.movie.MjpegAviMovieEncoder;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
@@ -31,7 +33,10 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Locale;
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
 import javax.imageio.ImageWriteParam;
@@ -53,6 +58,11 @@ public final class GraphicsUtils {
      */
     private static final StringUtilityMethods stringUtilityMethods = new StringUtilityMethods();
 
+    /**
+     * File utility methods
+     */
+    private static final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Simulation box slicer related methods">
@@ -459,6 +469,51 @@ public final class GraphicsUtils {
         }
     }
     // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="- Movie creation">
+    /**
+     * Creates Motion-JPEG AVI movie from the initial zeros number image files
+     * of an image directory (in ascending number order) without external 
+     * tools. NOTE: JPEG image files are copied into the movie without 
+     * re-encoding.
+     *
+     * @param anImageDirectoryPath Image directory path
+     * @param aMovieFile Movie file (is overwritten)
+     * @param aFramesPerSecond Frames per second
+     * @return True: Operation was successful, false: Otherwise
+     */
+    public static boolean createMjpegAviMovie(String anImageDirectoryPath, File aMovieFile, int aFramesPerSecond) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aMovieFile == null || aFramesPerSecond < 1) {
+            return false;
+        }
+        String[] tmpFilenames = GraphicsUtils.fileUtilityMethods.getFilenamesWithInitialZerosNumberString(anImageDirectoryPath);
+        if (tmpFilenames == null) {
+            return false;
+        }
+        // </editor-fold>
+        // NOTE: Initial zeros number strings have the same length, i.e. lexicographic order is number order
+        Arrays.sort(tmpFilenames);
+        try (MjpegAviMovieEncoder tmpMovieEncoder = new MjpegAviMovieEncoder(aMovieFile, aFramesPerSecond, Preferences.getInstance().getJpegImageQuality())) {
+            for (String tmpFilename : tmpFilenames) {
+                File tmpImageFile = new File(anImageDirectoryPath, tmpFilename);
+                if (tmpFilename.toLowerCase(Locale.ENGLISH).endsWith("." + ImageFileType.JPG.toFileTypeEnding())) {
+                    tmpMovieEncoder.addJpegFrame(Files.readAllBytes(tmpImageFile.toPath()));
+                } else {
+                    BufferedImage tmpImage = GraphicsUtils.readImageFromFile(tmpImageFile.getPath());
+                    if (tmpImage == null) {
+                        return false;
+                    }
+                    tmpMovieEncoder.addFrame(tmpImage);
+                }
+            }
+            return true;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return false;
+        }
+    }
+    // </editor-fold>
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Distances in plane">
@@ -21,6 +21,7 @@ package de.gnwi.mfsim.model.graphics;
 
 import de.gnwi.mfsim.model.util.StandardColorEnum;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import de.gnwi.mfsim.model.preference.ModelDefinitions;
 
@@ -92,6 +93,19 @@ public class MoleculeSelectionManager {
         return this.particleIndexToSelectedMoleculeMap.containsKey(aParticleIndex);
     }
 
+    /**
+     * Returns bitset with set bits at the indices of all selected particles
+     * 
+     * @return Bitset with set bits at the indices of all selected particles
+     */
+    public BitSet getSelectedParticleIndexBitSet() {
+        BitSet tmpSelectedParticleIndexBitSet = new BitSet();
+        for (Integer tmpParticleIndex : this.particleIndexToSelectedMoleculeMap.keySet()) {
+            tmpSelectedParticleIndexBitSet.set(tmpParticleIndex);
+        }
+        return tmpSelectedParticleIndexBitSet;
+    }
+
     /**
      * Returns if at least one molecule is selected
      * 
@@ -0,0 +1,528 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.body;
+
+import de.gnwi.jdpd.interfaces.IRandom;
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.spices.IPointInSpace;
+import de.gnwi.spices.PointInSpace;
+import java.util.ArrayList;
+
+/**
+ * Uniform grid spatial hash over excluded bodies (spheres and xy-layers) of 
+ * a cuboid domain: Each grid cell holds the bodies whose bounding box 
+ * overlaps with the cell. A cell that lies completely inside a single body is
+ * marked fully occupied. A "Is this point in excluded volume?" query only 
+ * tests the bodies of a single cell and is answered without any test for a 
+ * fully occupied cell.
+ * NOTE: Query results are identical to a linear scan over all bodies with
+ * BodyInterface.isInVolume() (bodies are convex, a cell is only marked fully 
+ * occupied if all corners of the slightly enlarged cell are in the volume of 
+ * a body). Points outside the domain are tested with a linear scan.
+ * NOTE: Bodies of other types than BodySphere and BodyXyLayer are always 
+ * tested with a linear scan.
+ * NOTE: Instance is NOT thread-safe and must be rebuilt if bodies change.
+ *
+ * @author Achim Zielesny
+ */
+public class BodySpatialHash {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * Relative enlargement of a cell for fully occupied test (guarantees 
+     * identical results with respect to round-off errors of cell index 
+     * calculation)
+     */
+    private static final double CELL_ENLARGEMENT_FACTOR = 1.0E-9;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Minimum x-coordinate of domain
+     */
+    private final double minX;
+
+    /**
+     * Minimum y-coordinate of domain
+     */
+    private final double minY;
+
+    /**
+     * Minimum z-coordinate of domain
+     */
+    private final double minZ;
+
+    /**
+     * Maximum x-coordinate of domain
+     */
+    private final double maxX;
+
+    /**
+     * Maximum y-coordinate of domain
+     */
+    private final double maxY;
+
+    /**
+     * Maximum z-coordinate of domain
+     */
+    private final double maxZ;
+
+    /**
+     * Number of cells in x-direction
+     */
+    private final int numberOfCellsX;
+
+    /**
+     * Number of cells in y-direction
+     */
+    private final int numberOfCellsY;
+
+    /**
+     * Number of cells in z-direction
+     */
+    private final int numberOfCellsZ;
+
+    /**
+     * Cell length in x-direction
+     */
+    private final double cellLengthX;
+
+    /**
+     * Cell length in y-direction
+     */
+    private final double cellLengthY;
+
+    /**
+     * Cell length in z-direction
+     */
+    private final double cellLengthZ;
+
+    /**
+     * Bodies of cells (cell index = x + numberOfCellsX * (y + numberOfCellsY 
+     * * z), element may be null)
+     */
+    private final ArrayList<ArrayList<BodyInterface>> cellBodies;
+
+    /**
+     * True: Cell is fully occupied by a body, false: Otherwise
+     */
+    private final boolean[] isFullyOccupiedCell;
+
+    /**
+     * All bodies (for points outside domain)
+     */
+    private final ArrayList<BodyInterface> allBodies;
+
+    /**
+     * Bodies that are not hashed (unknown body type)
+     */
+    private final ArrayList<BodyInterface> unhashedBodies;
+
+    /**
+     * Corner test point
+     */
+    private final PointInSpace cornerPoint;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Number of fully occupied cells
+     */
+    private int numberOfFullyOccupiedCells;
+
+    /**
+     * Indices of cells that are not fully occupied (null: Must be 
+     * recalculated)
+     */
+    private int[] freeCellIndices;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     * NOTE: The number of cells is limited to 
+     * ModelDefinitions.MAXIMUM_NUMBER_OF_SPATIAL_HASH_CELLS, i.e. cell length 
+     * may be increased.
+     *
+     * @param aMinX Minimum x-coordinate of domain
+     * @param aMaxX Maximum x-coordinate of domain
+     * @param aMinY Minimum y-coordinate of domain
+     * @param aMaxY Maximum y-coordinate of domain
+     * @param aMinZ Minimum z-coordinate of domain
+     * @param aMaxZ Maximum z-coordinate of domain
+     * @param aCellLength Target cell length (greater 0)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public BodySpatialHash(
+        double aMinX,
+        double aMaxX,
+        double aMinY,
+        double aMaxY,
+        double aMinZ,
+        double aMaxZ,
+        double aCellLength
+    ) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aMaxX <= aMinX || aMaxY <= aMinY || aMaxZ <= aMinZ) {
+            throw new IllegalArgumentException("BodySpatialHash.Constructor: Domain is illegal.");
+        }
+        if (aCellLength <= 0.0 || Double.isNaN(aCellLength) || Double.isInfinite(aCellLength)) {
+            throw new IllegalArgumentException("BodySpatialHash.Constructor: aCellLength is illegal.");
+        }
+        // </editor-fold>
+        this.minX = aMinX;
+        this.maxX = aMaxX;
+        this.minY = aMinY;
+        this.maxY = aMaxY;
+        this.minZ = aMinZ;
+        this.maxZ = aMaxZ;
+        double tmpCellLength = aCellLength;
+        long tmpNumberOfCells;
+        while (true) {
+            tmpNumberOfCells = 
+                this.getNumberOfCells(aMaxX - aMinX, tmpCellLength) 
+                * this.getNumberOfCells(aMaxY - aMinY, tmpCellLength) 
+                * this.getNumberOfCells(aMaxZ - aMinZ, tmpCellLength);
+            if (tmpNumberOfCells <= ModelDefinitions.MAXIMUM_NUMBER_OF_SPATIAL_HASH_CELLS) {
+                break;
+            }
+            tmpCellLength *= Math.cbrt((double) tmpNumberOfCells / (double) ModelDefinitions.MAXIMUM_NUMBER_OF_SPATIAL_HASH_CELLS) * 1.01;
+        }
+        this.numberOfCellsX = (int) this.getNumberOfCells(aMaxX - aMinX, tmpCellLength);
+        this.numberOfCellsY = (int) this.getNumberOfCells(aMaxY - aMinY, tmpCellLength);
+        this.numberOfCellsZ = (int) this.getNumberOfCells(aMaxZ - aMinZ, tmpCellLength);
+        // Domain is exactly covered by cells
+        this.cellLengthX = (aMaxX - aMinX) / (double) this.numberOfCellsX;
+        this.cellLengthY = (aMaxY - aMinY) / (double) this.numberOfCellsY;
+        this.cellLengthZ = (aMaxZ - aMinZ) / (double) this.numberOfCellsZ;
+        int tmpTotalNumberOfCells = (int) tmpNumberOfCells;
+        this.cellBodies = new ArrayList<>(tmpTotalNumberOfCells);
+        for (int i = 0; i < tmpTotalNumberOfCells; i++) {
+            this.cellBodies.add(null);
+        }
+        this.isFullyOccupiedCell = new boolean[tmpTotalNumberOfCells];
+        this.allBodies = new ArrayList<>(ModelDefinitions.INITIAL_NUMBER_OF_BODIES);
+        this.unhashedBodies = new ArrayList<>(ModelDefinitions.INITIAL_NUMBER_OF_BODIES);
+        this.cornerPoint = new PointInSpace(0.0, 0.0, 0.0);
+        this.numberOfFullyOccupiedCells = 0;
+        this.freeCellIndices = null;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Adds body
+     *
+     * @param aBody Body (may be null then nothing is done)
+     */
+    public void addBody(BodyInterface aBody) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aBody == null) {
+            return;
+        }
+        // </editor-fold>
+        this.allBodies.add(aBody);
+        double tmpBodyMinX;
+        double tmpBodyMaxX;
+        double tmpBodyMinY;
+        double tmpBodyMaxY;
+        double tmpBodyMinZ;
+        double tmpBodyMaxZ;
+        // NOTE: Bounding box is enlarged by graphics correction factor (see 
+        // isInVolume() of bodies)
+        double tmpFactor = ModelDefinitions.FACTOR_FOR_GRAPHICS_NUMBER_CORRECTION * (1.0 + BodySpatialHash.CELL_ENLARGEMENT_FACTOR);
+        if (aBody instanceof BodySphere) {
+            BodySphere tmpSphere = (BodySphere) aBody;
+            double tmpRadius = tmpSphere.getRadius() * tmpFactor;
+            tmpBodyMinX = tmpSphere.getBodyCenter().getX() - tmpRadius;
+            tmpBodyMaxX = tmpSphere.getBodyCenter().getX() + tmpRadius;
+            tmpBodyMinY = tmpSphere.getBodyCenter().getY() - tmpRadius;
+            tmpBodyMaxY = tmpSphere.getBodyCenter().getY() + tmpRadius;
+            tmpBodyMinZ = tmpSphere.getBodyCenter().getZ() - tmpRadius;
+            tmpBodyMaxZ = tmpSphere.getBodyCenter().getZ() + tmpRadius;
+        } else if (aBody instanceof BodyXyLayer) {
+            BodyXyLayer tmpXyLayer = (BodyXyLayer) aBody;
+            double tmpHalfXLength = tmpXyLayer.getXLength() * 0.5 * tmpFactor;
+            double tmpHalfYLength = tmpXyLayer.getYLength() * 0.5 * tmpFactor;
+            double tmpHalfZLength = tmpXyLayer.getZLength() * 0.5 * tmpFactor;
+            tmpBodyMinX = tmpXyLayer.getBodyCenter().getX() - tmpHalfXLength;
+            tmpBodyMaxX = tmpXyLayer.getBodyCenter().getX() + tmpHalfXLength;
+            tmpBodyMinY = tmpXyLayer.getBodyCenter().getY() - tmpHalfYLength;
+            tmpBodyMaxY = tmpXyLayer.getBodyCenter().getY() + tmpHalfYLength;
+            tmpBodyMinZ = tmpXyLayer.getBodyCenter().getZ() - tmpHalfZLength;
+            tmpBodyMaxZ = tmpXyLayer.getBodyCenter().getZ() + tmpHalfZLength;
+        } else {
+            this.unhashedBodies.add(aBody);
+            return;
+        }
+        if (tmpBodyMaxX < this.minX || tmpBodyMinX > this.maxX
+            || tmpBodyMaxY < this.minY || tmpBodyMinY > this.maxY
+            || tmpBodyMaxZ < this.minZ || tmpBodyMinZ > this.maxZ
+        ) {
+            // Body does not overlap with domain
+            return;
+        }
+        int tmpFirstCellX = this.getCellIndex(tmpBodyMinX, this.minX, this.cellLengthX, this.numberOfCellsX);
+        int tmpLastCellX = this.getCellIndex(tmpBodyMaxX, this.minX, this.cellLengthX, this.numberOfCellsX);
+        int tmpFirstCellY = this.getCellIndex(tmpBodyMinY, this.minY, this.cellLengthY, this.numberOfCellsY);
+        int tmpLastCellY = this.getCellIndex(tmpBodyMaxY, this.minY, this.cellLengthY, this.numberOfCellsY);
+        int tmpFirstCellZ = this.getCellIndex(tmpBodyMinZ, this.minZ, this.cellLengthZ, this.numberOfCellsZ);
+        int tmpLastCellZ = this.getCellIndex(tmpBodyMaxZ, this.minZ, this.cellLengthZ, this.numberOfCellsZ);
+        for (int z = tmpFirstCellZ; z <= tmpLastCellZ; z++) {
+            for (int y = tmpFirstCellY; y <= tmpLastCellY; y++) {
+                for (int x = tmpFirstCellX; x <= tmpLastCellX; x++) {
+                    int tmpCellIndex = x + this.numberOfCellsX * (y + this.numberOfCellsY * z);
+                    if (this.isFullyOccupiedCell[tmpCellIndex]) {
+                        continue;
+                    }
+                    if (this.isCellInVolume(aBody, x, y, z)) {
+                        this.isFullyOccupiedCell[tmpCellIndex] = true;
+                        // Bodies of fully occupied cell are no longer needed
+                        this.cellBodies.set(tmpCellIndex, null);
+                        this.numberOfFullyOccupiedCells++;
+                    } else {
+                        ArrayList<BodyInterface> tmpBodies = this.cellBodies.get(tmpCellIndex);
+                        if (tmpBodies == null) {
+                            tmpBodies = new ArrayList<>(4);
+                            this.cellBodies.set(tmpCellIndex, tmpBodies);
+                        }
+                        tmpBodies.add(aBody);
+                    }
+                }
+            }
+        }
+        this.freeCellIndices = null;
+    }
+
+    /**
+     * Adds bodies
+     *
+     * @param aBodies Bodies (may be null then nothing is done)
+     */
+    public void addBodies(Iterable<? extends BodyInterface> aBodies) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aBodies == null) {
+            return;
+        }
+        // </editor-fold>
+        for (BodyInterface tmpBody : aBodies) {
+            this.addBody(tmpBody);
+        }
+    }
+
+    /**
+     * Returns if point is in volume of any body (identical to linear scan 
+     * with BodyInterface.isInVolume())
+     *
+     * @param aPoint Point (NOT allowed to be null)
+     * @return True: Point is in volume of a body, false: Otherwise
+     */
+    public boolean isInExcludedVolume(IPointInSpace aPoint) {
+        for (BodyInterface tmpBody : this.unhashedBodies) {
+            if (tmpBody.isInVolume(aPoint)) {
+                return true;
+            }
+        }
+        double tmpX = aPoint.getX();
+        double tmpY = aPoint.getY();
+        double tmpZ = aPoint.getZ();
+        if (tmpX < this.minX || tmpX > this.maxX
+            || tmpY < this.minY || tmpY > this.maxY
+            || tmpZ < this.minZ || tmpZ > this.maxZ
+        ) {
+            // Point is outside domain: Linear scan
+            for (BodyInterface tmpBody : this.allBodies) {
+                if (tmpBody.isInVolume(aPoint)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        int tmpCellIndex = 
+            this.getCellIndex(tmpX, this.minX, this.cellLengthX, this.numberOfCellsX)
+            + this.numberOfCellsX * (
+                this.getCellIndex(tmpY, this.minY, this.cellLengthY, this.numberOfCellsY)
+                + this.numberOfCellsY * this.getCellIndex(tmpZ, this.minZ, this.cellLengthZ, this.numberOfCellsZ)
+            );
+        if (this.isFullyOccupiedCell[tmpCellIndex]) {
+            return true;
+        }
+        ArrayList<BodyInterface> tmpBodies = this.cellBodies.get(tmpCellIndex);
+        if (tmpBodies != null) {
+            for (BodyInterface tmpBody : tmpBodies) {
+                if (tmpBody.isInVolume(aPoint)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets random point in domain that is NOT located in a fully occupied 
+     * cell (adaptive sampling): A cell is chosen uniformly among all cells 
+     * that are not fully occupied and the point is chosen uniformly in this 
+     * cell. Since all cells have the same volume accepted points (points not
+     * in excluded volume) are uniformly distributed in the free volume of the
+     * domain.
+     *
+     * @param aPoint Point to be set (NOT allowed to be null)
+     * @param aRandomNumberGenerator Random number generator
+     * @return True: Point was set, false: All cells are fully occupied 
+     * (point is NOT changed)
+     */
+    public boolean setRandomPointInFreeCell(IPointInSpace aPoint, IRandom aRandomNumberGenerator) {
+        if (this.freeCellIndices == null) {
+            this.freeCellIndices = new int[this.isFullyOccupiedCell.length - this.numberOfFullyOccupiedCells];
+            int tmpIndex = 0;
+            for (int i = 0; i < this.isFullyOccupiedCell.length; i++) {
+                if (!this.isFullyOccupiedCell[i]) {
+                    this.freeCellIndices[tmpIndex++] = i;
+                }
+            }
+        }
+        if (this.freeCellIndices.length == 0) {
+            return false;
+        }
+        int tmpCellIndex = this.freeCellIndices[Math.min((int) (aRandomNumberGenerator.nextDouble() * this.freeCellIndices.length), this.freeCellIndices.length - 1)];
+        int tmpCellX = tmpCellIndex % this.numberOfCellsX;
+        int tmpCellY = (tmpCellIndex / this.numberOfCellsX) % this.numberOfCellsY;
+        int tmpCellZ = tmpCellIndex / (this.numberOfCellsX * this.numberOfCellsY);
+        aPoint.setX(Math.min(this.minX + (tmpCellX + aRandomNumberGenerator.nextDouble()) * this.cellLengthX, this.maxX));
+        aPoint.setY(Math.min(this.minY + (tmpCellY + aRandomNumberGenerator.nextDouble()) * this.cellLengthY, this.maxY));
+        aPoint.setZ(Math.min(this.minZ + (tmpCellZ + aRandomNumberGenerator.nextDouble()) * this.cellLengthZ, this.maxZ));
+        return true;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Number of cells
+     *
+     * @return Number of cells
+     */
+    public int getNumberOfCells() {
+        return this.isFullyOccupiedCell.length;
+    }
+
+    /**
+     * Number of fully occupied cells
+     *
+     * @return Number of fully occupied cells
+     */
+    public int getNumberOfFullyOccupiedCells() {
+        return this.numberOfFullyOccupiedCells;
+    }
+
+    /**
+     * Number of bodies
+     *
+     * @return Number of bodies
+     */
+    public int getNumberOfBodies() {
+        return this.allBodies.size();
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public static methods">
+    /**
+     * Returns target cell length for bodies: Minimum sphere radius (so that 
+     * inner cells of spheres are fully occupied) or specified default if 
+     * there is no sphere
+     *
+     * @param aBodies Bodies (may be null)
+     * @param aDefaultCellLength Default cell length
+     * @return Target cell length for bodies
+     */
+    public static double getTargetCellLength(Iterable<? extends BodyInterface> aBodies, double aDefaultCellLength) {
+        double tmpCellLength = aDefaultCellLength;
+        if (aBodies != null) {
+            for (BodyInterface tmpBody : aBodies) {
+                if (tmpBody instanceof BodySphere) {
+                    tmpCellLength = Math.min(tmpCellLength, ((BodySphere) tmpBody).getRadius());
+                }
+            }
+        }
+        return tmpCellLength;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Returns number of cells for length
+     *
+     * @param aLength Length
+     * @param aCellLength Cell length
+     * @return Number of cells for length
+     */
+    private long getNumberOfCells(double aLength, double aCellLength) {
+        return Math.max(1L, (long) Math.ceil(aLength / aCellLength));
+    }
+
+    /**
+     * Returns (clamped) cell index of coordinate
+     *
+     * @param aCoordinate Coordinate
+     * @param aMinimum Minimum coordinate of domain
+     * @param aCellLength Cell length
+     * @param aNumberOfCells Number of cells
+     * @return Cell index of coordinate
+     */
+    private int getCellIndex(double aCoordinate, double aMinimum, double aCellLength, int aNumberOfCells) {
+        int tmpIndex = (int) Math.floor((aCoordinate - aMinimum) / aCellLength);
+        if (tmpIndex < 0) {
+            return 0;
+        } else if (tmpIndex >= aNumberOfCells) {
+            return aNumberOfCells - 1;
+        } else {
+            return tmpIndex;
+        }
+    }
+
+    /**
+     * Returns if slightly enlarged cell is completely in volume of (convex) 
+     * body, i.e. if all corners are in volume
+     *
+     * @param aBody Body
+     * @param aCellX Cell index in x-direction
+     * @param aCellY Cell index in y-direction
+     * @param aCellZ Cell index in z-direction
+     * @return True: Cell is completely in volume of body, false: Otherwise
+     */
+    private boolean isCellInVolume(BodyInterface aBody, int aCellX, int aCellY, int aCellZ) {
+        double tmpDeltaX = this.cellLengthX * BodySpatialHash.CELL_ENLARGEMENT_FACTOR;
+        double tmpDeltaY = this.cellLengthY * BodySpatialHash.CELL_ENLARGEMENT_FACTOR;
+        double tmpDeltaZ = this.cellLengthZ * BodySpatialHash.CELL_ENLARGEMENT_FACTOR;
+        for (int i = 0; i < 8; i++) {
+            int tmpOffsetX = i & 1;
+            int tmpOffsetY = (i >> 1) & 1;
+            int tmpOffsetZ = (i >> 2) & 1;
+            this.cornerPoint.setX(this.minX + (aCellX + tmpOffsetX) * this.cellLengthX + (2 * tmpOffsetX - 1) * tmpDeltaX);
+            this.cornerPoint.setY(this.minY + (aCellY + tmpOffsetY) * this.cellLengthY + (2 * tmpOffsetY - 1) * tmpDeltaY);
+            this.cornerPoint.setZ(this.minZ + (aCellZ + tmpOffsetZ) * this.cellLengthZ + (2 * tmpOffsetZ - 1) * tmpDeltaZ);
+            if (!aBody.isInVolume(this.cornerPoint)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    // </editor-fold>
+
+}
@@ -24,6 +24,7 @@ import de.gnwi.mfsim.model.graphics.GraphicsUtilityMethods;
 import de.gnwi.mfsim.model.graphics.body.BodyXyLayer;
 import de.gnwi.mfsim.model.graphics.body.BodySphere;
 import de.gnwi.mfsim.model.graphics.body.BodyInterface;
+import de.gnwi.mfsim.model.graphics.body.BodySpatialHash;
 import de.gnwi.spices.PointInSpace;
 import de.gnwi.mfsim.model.changeNotification.ChangeInformation;
 import de.gnwi.mfsim.model.changeNotification.ChangeNotifier;
@@ -136,6 +137,12 @@ public class CompartmentBox extends ChangeNotifier implements ChangeReceiverInte
      * List with excluded spheres
      */
     private LinkedList<BodySphere> excludedSphereList;
+
+    /**
+     * Spatial hash over bodies and excluded spheres for free volume related 
+     * methods (null: Must be rebuilt)
+     */
+    private BodySpatialHash freeVolumeSpatialHash;
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Constructor">
@@ -615,15 +622,8 @@ public class CompartmentBox extends ChangeNotifier implements ChangeReceiverInte
         }
 
         // </editor-fold>
-        for (BodyInterface tmpBody : this.bodiesInContainer) {
-            if (tmpBody.isInVolume(aPoint)) {
-                return false;
-            }
-        }
-        for (BodySphere tmpExcludedSphere : this.excludedSphereList) {
-            if (tmpExcludedSphere.isInVolume(aPoint)) {
-                return false;
-            }
+        if (this.getFreeVolumeSpatialHash().isInExcludedVolume(aPoint)) {
+            return false;
         }
         return this.isInContainer(aPoint);
     }
@@ -1000,15 +1000,11 @@ public class CompartmentBox extends ChangeNotifier implements ChangeReceiverInte
      * @return Random point in the free volume of the simulation box
      */
     public PointInSpace getRandomPointInFreeVolume(IRandom aRandomNumberGenerator) {
-        this.pointInSpace1.setX(aRandomNumberGenerator.nextDouble() * this.boxSize.getX());
-        this.pointInSpace1.setY(aRandomNumberGenerator.nextDouble() * this.boxSize.getY());
-        this.pointInSpace1.setZ(aRandomNumberGenerator.nextDouble() * this.boxSize.getZ());
+        this.setFreeVolumeTrialPoint(this.pointInSpace1, aRandomNumberGenerator);
         int tmpCounter = 0;
         int tmpNumberOfTrials = Preferences.getInstance().getNumberOfTrialsForCompartment();
         while (!this.isInFreeVolume(this.pointInSpace1) && tmpCounter < tmpNumberOfTrials) {
-            this.pointInSpace1.setX(aRandomNumberGenerator.nextDouble() * this.boxSize.getX());
-            this.pointInSpace1.setY(aRandomNumberGenerator.nextDouble() * this.boxSize.getY());
-            this.pointInSpace1.setZ(aRandomNumberGenerator.nextDouble() * this.boxSize.getZ());
+            this.setFreeVolumeTrialPoint(this.pointInSpace1, aRandomNumberGenerator);
             tmpCounter++;
         }
         return this.pointInSpace1.getClone();
@@ -1023,15 +1019,11 @@ public class CompartmentBox extends ChangeNotifier implements ChangeReceiverInte
      * simulation box
      */
     public GraphicalParticlePosition getRandomPositionInFreeVolume(IRandom aRandomNumberGenerator) {
-        this.graphicalParticlePosition1.setX(aRandomNumberGenerator.nextDouble() * this.boxSize.getX());
-        this.graphicalParticlePosition1.setY(aRandomNumberGenerator.nextDouble() * this.boxSize.getY());
-        this.graphicalParticlePosition1.setZ(aRandomNumberGenerator.nextDouble() * this.boxSize.getZ());
+        this.setFreeVolumeTrialPoint(this.graphicalParticlePosition1, aRandomNumberGenerator);
         int tmpCounter = 0;
         int tmpNumberOfTrials = Preferences.getInstance().getNumberOfTrialsForCompartment();
         while (!this.isInFreeVolume(this.graphicalParticlePosition1) && tmpCounter < tmpNumberOfTrials) {
-            this.graphicalParticlePosition1.setX(aRandomNumberGenerator.nextDouble() * this.boxSize.getX());
-            this.graphicalParticlePosition1.setY(aRandomNumberGenerator.nextDouble() * this.boxSize.getY());
-            this.graphicalParticlePosition1.setZ(aRandomNumberGenerator.nextDouble() * this.boxSize.getZ());
+            this.setFreeVolumeTrialPoint(this.graphicalParticlePosition1, aRandomNumberGenerator);
             tmpCounter++;
         }
         return this.graphicalParticlePosition1.getClone();
@@ -1068,14 +1060,10 @@ public class CompartmentBox extends ChangeNotifier implements ChangeReceiverInte
         if (aBuffer instanceof GraphicalParticlePosition[]) {
             // <editor-fold defaultstate="collapsed" desc="aBuffer is an instance of GraphicalParticlePosition[]">
             for (int i = 0; i < aNumber; i++) {
-                this.graphicalParticlePosition2.setX(aRandomNumberGenerator.nextDouble() * this.boxSize.getX());
-                this.graphicalParticlePosition2.setY(aRandomNumberGenerator.nextDouble() * this.boxSize.getY());
-                this.graphicalParticlePosition2.setZ(aRandomNumberGenerator.nextDouble() * this.boxSize.getZ());
+                this.setFreeVolumeTrialPoint(this.graphicalParticlePosition2, aRandomNumberGenerator);
                 int tmpCounter = 0;
                 while (!this.isInFreeVolume(this.graphicalParticlePosition2) && tmpCounter < aNumberOfTrials) {
-                    this.graphicalParticlePosition2.setX(aRandomNumberGenerator.nextDouble() * this.boxSize.getX());
-                    this.graphicalParticlePosition2.setY(aRandomNumberGenerator.nextDouble() * this.boxSize.getY());
-                    this.graphicalParticlePosition2.setZ(aRandomNumberGenerator.nextDouble() * this.boxSize.getZ());
+                    this.setFreeVolumeTrialPoint(this.graphicalParticlePosition2, aRandomNumberGenerator);
                     tmpCounter++;
                 }
                 aBuffer[tmpIndex++] = this.graphicalParticlePosition2.getClone();
@@ -1084,14 +1072,10 @@ public class CompartmentBox extends ChangeNotifier implements ChangeReceiverInte
         } else if (aBuffer instanceof PointInSpace[]) {
             // <editor-fold defaultstate="collapsed" desc="aBuffer is an instance of PointInSpace[]">
             for (int i = 0; i < aNumber; i++) {
-                this.pointInSpace2.setX(aRandomNumberGenerator.nextDouble() * this.boxSize.getX());
-                this.pointInSpace2.setY(aRandomNumberGenerator.nextDouble() * this.boxSize.getY());
-                this.pointInSpace2.setZ(aRandomNumberGenerator.nextDouble() * this.boxSize.getZ());
+                this.setFreeVolumeTrialPoint(this.pointInSpace2, aRandomNumberGenerator);
                 int tmpCounter = 0;
                 while (!this.isInFreeVolume(this.pointInSpace2) && tmpCounter < aNumberOfTrials) {
-                    this.pointInSpace2.setX(aRandomNumberGenerator.nextDouble() * this.boxSize.getX());
-                    this.pointInSpace2.setY(aRandomNumberGenerator.nextDouble() * this.boxSize.getY());
-                    this.pointInSpace2.setZ(aRandomNumberGenerator.nextDouble() * this.boxSize.getZ());
+                    this.setFreeVolumeTrialPoint(this.pointInSpace2, aRandomNumberGenerator);
                     tmpCounter++;
                 }
                 aBuffer[tmpIndex++] = this.pointInSpace2.getClone();
@@ -1145,6 +1129,7 @@ public class CompartmentBox extends ChangeNotifier implements ChangeReceiverInte
             for (BodySphere tmpSphere : tmpSphereList) {
                 this.excludedSphereList.add(tmpSphere);
             }
+            this.freeVolumeSpatialHash = null;
         }
         return tmpSphereList;
     }
@@ -1470,6 +1455,7 @@ public class CompartmentBox extends ChangeNotifier implements ChangeReceiverInte
         }
         // </editor-fold>
         this.excludedSphereList = anExcludedSphereList;
+        this.freeVolumeSpatialHash = null;
     }
 
     /**
@@ -1486,6 +1472,7 @@ public class CompartmentBox extends ChangeNotifier implements ChangeReceiverInte
      */
     public void clearExcludedSphereList() {
         this.excludedSphereList.clear();
+        this.freeVolumeSpatialHash = null;
     }
     // </editor-fold>
     // </editor-fold>
@@ -1499,6 +1486,56 @@ public class CompartmentBox extends ChangeNotifier implements ChangeReceiverInte
             this.bodyCacheList = null;
             this.bodiesThirdDimensionValue = -1.0;
         }
+        this.freeVolumeSpatialHash = null;
+    }
+
+    /**
+     * Returns spatial hash over bodies and excluded spheres (is rebuilt if 
+     * necessary)
+     *
+     * @return Spatial hash over bodies and excluded spheres
+     */
+    private BodySpatialHash getFreeVolumeSpatialHash() {
+        if (this.freeVolumeSpatialHash == null) {
+            double tmpDefaultCellLength = 
+                Math.max(this.boxSize.getX(), Math.max(this.boxSize.getY(), this.boxSize.getZ())) 
+                / ModelDefinitions.DEFAULT_NUMBER_OF_SPATIAL_HASH_CELLS_PER_DIRECTION;
+            double tmpCellLength = 
+                Math.min(
+                    BodySpatialHash.getTargetCellLength(this.bodiesInContainer, tmpDefaultCellLength),
+                    BodySpatialHash.getTargetCellLength(this.excludedSphereList, tmpDefaultCellLength)
+                );
+            this.freeVolumeSpatialHash = 
+                new BodySpatialHash(
+                    0.0, 
+                    this.boxSize.getX(), 
+                    0.0, 
+                    this.boxSize.getY(), 
+                    0.0, 
+                    this.boxSize.getZ(), 
+                    tmpCellLength
+                );
+            this.freeVolumeSpatialHash.addBodies(this.bodiesInContainer);
+            this.freeVolumeSpatialHash.addBodies(this.excludedSphereList);
+        }
+        return this.freeVolumeSpatialHash;
+    }
+
+    /**
+     * Sets random trial point for free volume: Trial points are NOT generated
+     * in cells of the simulation box that are fully occupied by bodies or 
+     * excluded spheres (see BodySpatialHash.setRandomPointInFreeCell()).
+     *
+     * @param aPoint Point to be set
+     * @param aRandomNumberGenerator Random number generator
+     */
+    private void setFreeVolumeTrialPoint(IPointInSpace aPoint, IRandom aRandomNumberGenerator) {
+        if (!this.getFreeVolumeSpatialHash().setRandomPointInFreeCell(aPoint, aRandomNumberGenerator)) {
+            // Complete box is occupied
+            aPoint.setX(aRandomNumberGenerator.nextDouble() * this.boxSize.getX());
+            aPoint.setY(aRandomNumberGenerator.nextDouble() * this.boxSize.getY());
+            aPoint.setZ(aRandomNumberGenerator.nextDouble() * this.boxSize.getZ());
+        }
     }
 
     /**
@@ -0,0 +1,303 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.factory;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.preference.Preferences;
+import de.gnwi.mfsim.model.util.ModelUtils;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.RadialGradientPaint;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.PixelGrabber;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Application-wide cache of pre-rendered particle sprites: A sprite is the 
+ * pixel array of a shaded (radial gradient) particle disc and is rendered 
+ * only once for every combination of radius, gradient colors, transparency
+ * and gradient settings. Sprites are removed in least-recently-used order if
+ * the pixel budget (see ModelDefinitions.MAXIMUM_PARTICLE_SPRITE_CACHE_SIZE_IN_PIXEL) 
+ * is exceeded.
+ * <br>
+ * NOTE: Cached sprites are shared, i.e. they must be treated as read-only.
+ *
+ * @author Achim Zielesny
+ */
+public final class ParticleSpriteCache {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static class variables">
+    /**
+     * Particle sprite cache instance
+     */
+    private static final ParticleSpriteCache particleSpriteCache = new ParticleSpriteCache(ModelDefinitions.MAXIMUM_PARTICLE_SPRITE_CACHE_SIZE_IN_PIXEL);
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Maximum number of cached pixels
+     */
+    private final long maximumSizeInPixel;
+
+    /**
+     * Sprite key to sprite map (access order for least-recently-used removal)
+     */
+    private final LinkedHashMap<String, int[]> keyToSpriteMap;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Number of cached pixels
+     */
+    private long sizeInPixel;
+
+    /**
+     * Number of cache hits
+     */
+    private long numberOfHits;
+
+    /**
+     * Number of cache misses
+     */
+    private long numberOfMisses;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aMaximumSizeInPixel Maximum number of cached pixels
+     */
+    ParticleSpriteCache(long aMaximumSizeInPixel) {
+        this.maximumSizeInPixel = aMaximumSizeInPixel;
+        this.keyToSpriteMap = new LinkedHashMap<>(64, 0.75f, true);
+        this.sizeInPixel = 0L;
+        this.numberOfHits = 0L;
+        this.numberOfMisses = 0L;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public static methods">
+    /**
+     * Returns particle sprite cache instance
+     *
+     * @return Particle sprite cache instance
+     */
+    public static ParticleSpriteCache getInstance() {
+        return ParticleSpriteCache.particleSpriteCache;
+    }
+
+    /**
+     * Renders pixels of a particle sprite (shaded particle disc with radial
+     * gradient). NOTE: A transparent background pixel has integer value 0 
+     * (i.e. an alpha value of 0). NOTE: No checks are performed.
+     *
+     * @param aRadiusInPixel Radius in pixel
+     * @param aFractions Fractions for aColors
+     * @param aColors Colors for RadialGradientPaint
+     * @param aTransparency Transparency
+     * @return Pixels of sprite (width = height = 2 * aRadiusInPixel) or null
+     * if pixels could not be grabbed
+     */
+    public static int[] createParticlePixels(int aRadiusInPixel, float[] aFractions, Color[] aColors, float aTransparency) {
+        Graphics2D tmpGraphics2D = null;
+        try {
+            // <editor-fold defaultstate="collapsed" desc="Create image">
+            int tmpDiameterInPixel = aRadiusInPixel * 2;
+            float tmpRadiusInPixelAsFloat = (float) aRadiusInPixel;
+            BufferedImage tmpImage;
+            if (GraphicsEnvironment.isHeadless()) {
+                // NOTE: BufferedImage.TYPE_INT_ARGB allows pixels with integer value 0 (i.e. an alpha value of 0) when converted to integer pixel
+                tmpImage = new BufferedImage(tmpDiameterInPixel, tmpDiameterInPixel, BufferedImage.TYPE_INT_ARGB);
+            } else {
+                // NOTE: Transparency.TRANSLUCENT means that black background color of created image has integer value 0 (i.e. an alpha value of 0) when converted to integer pixel!
+                tmpImage = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration().createCompatibleImage(
+                        tmpDiameterInPixel, tmpDiameterInPixel, Transparency.TRANSLUCENT);
+            }
+            tmpGraphics2D = tmpImage.createGraphics();
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="RadialGradientPaint for 3D effect">
+            RadialGradientPaint tmpRadialGradientPaint = 
+                new RadialGradientPaint(
+                    tmpRadiusInPixelAsFloat * Preferences.getInstance().getRadialGradientPaintFocusFactorX(),
+                    tmpRadiusInPixelAsFloat * Preferences.getInstance().getRadialGradientPaintFocusFactorY(),
+                    tmpRadiusInPixelAsFloat * Preferences.getInstance().getRadialGradientPaintRadiusMagnification(),
+                    aFractions,
+                    aColors
+                );
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Set RadialGradientPaint">
+            if (aTransparency > 0f) {
+                // Make particle pixels translucent with aTransparency: Note transparency of 0% corresponds to alpha value of 1            
+                tmpGraphics2D.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1f - aTransparency));
+            }
+            tmpGraphics2D.setPaint(tmpRadialGradientPaint);
+            tmpGraphics2D.fillOval(0, 0, tmpDiameterInPixel, tmpDiameterInPixel);
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Grab pixels">
+            int[] tmpPixels = new int[tmpDiameterInPixel * tmpDiameterInPixel];
+            PixelGrabber tmpGrabber = new PixelGrabber(tmpImage, 0, 0, tmpDiameterInPixel, tmpDiameterInPixel, tmpPixels, 0, tmpDiameterInPixel);
+            try {
+                tmpGrabber.grabPixels(0);
+            } catch (InterruptedException anException) {
+                ModelUtils.appendToLogfile(true, anException);
+                return null;
+            }
+            return tmpPixels;
+            // </editor-fold>
+        } finally {
+            if (tmpGraphics2D != null) {
+                tmpGraphics2D.dispose();
+            }
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Returns (cached) pixels of a particle sprite (see 
+     * createParticlePixels()). NOTE: No checks are performed.
+     *
+     * @param aRadiusInPixel Radius in pixel
+     * @param aFractions Fractions for aColors
+     * @param aColors Colors for RadialGradientPaint
+     * @param aTransparency Transparency
+     * @return Pixels of sprite (width = height = 2 * aRadiusInPixel, must 
+     * NOT be changed) or null if pixels could not be rendered
+     */
+    public int[] getParticlePixels(int aRadiusInPixel, float[] aFractions, Color[] aColors, float aTransparency) {
+        String tmpKey = this.getKey(aRadiusInPixel, aFractions, aColors, aTransparency);
+        synchronized (this) {
+            int[] tmpPixels = this.keyToSpriteMap.get(tmpKey);
+            if (tmpPixels != null) {
+                this.numberOfHits++;
+                return tmpPixels;
+            }
+            this.numberOfMisses++;
+        }
+        // NOTE: Rendering is done outside synchronized block (the same 
+        // sprite may be rendered twice concurrently which is harmless)
+        int[] tmpPixels = ParticleSpriteCache.createParticlePixels(aRadiusInPixel, aFractions, aColors, aTransparency);
+        if (tmpPixels != null && tmpPixels.length <= this.maximumSizeInPixel) {
+            synchronized (this) {
+                int[] tmpOldPixels = this.keyToSpriteMap.put(tmpKey, tmpPixels);
+                if (tmpOldPixels != null) {
+                    this.sizeInPixel -= tmpOldPixels.length;
+                }
+                this.sizeInPixel += tmpPixels.length;
+                this.removeLeastRecentlyUsedSprites();
+            }
+        }
+        return tmpPixels;
+    }
+
+    /**
+     * Clears cache
+     */
+    public synchronized void clear() {
+        this.keyToSpriteMap.clear();
+        this.sizeInPixel = 0L;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Number of cached sprites
+     *
+     * @return Number of cached sprites
+     */
+    public synchronized int getNumberOfSprites() {
+        return this.keyToSpriteMap.size();
+    }
+
+    /**
+     * Number of cached pixels
+     *
+     * @return Number of cached pixels
+     */
+    public synchronized long getSizeInPixel() {
+        return this.sizeInPixel;
+    }
+
+    /**
+     * Number of cache hits
+     *
+     * @return Number of cache hits
+     */
+    public synchronized long getNumberOfHits() {
+        return this.numberOfHits;
+    }
+
+    /**
+     * Number of cache misses
+     *
+     * @return Number of cache misses
+     */
+    public synchronized long getNumberOfMisses() {
+        return this.numberOfMisses;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Returns sprite key that comprises all rendering parameters
+     *
+     * @param aRadiusInPixel Radius in pixel
+     * @param aFractions Fractions for aColors
+     * @param aColors Colors for RadialGradientPaint
+     * @param aTransparency Transparency
+     * @return Sprite key
+     */
+    private String getKey(int aRadiusInPixel, float[] aFractions, Color[] aColors, float aTransparency) {
+        StringBuilder tmpBuffer = new StringBuilder(128);
+        tmpBuffer.append(aRadiusInPixel);
+        tmpBuffer.append('|').append(Float.floatToIntBits(aTransparency));
+        for (float tmpFraction : aFractions) {
+            tmpBuffer.append('|').append(Float.floatToIntBits(tmpFraction));
+        }
+        for (Color tmpColor : aColors) {
+            tmpBuffer.append('|').append(tmpColor.getRGB());
+        }
+        tmpBuffer.append('|').append(Float.floatToIntBits(Preferences.getInstance().getRadialGradientPaintFocusFactorX()));
+        tmpBuffer.append('|').append(Float.floatToIntBits(Preferences.getInstance().getRadialGradientPaintFocusFactorY()));
+        tmpBuffer.append('|').append(Float.floatToIntBits(Preferences.getInstance().getRadialGradientPaintRadiusMagnification()));
+        return tmpBuffer.toString();
+    }
+
+    /**
+     * Removes least-recently-used sprites until this.sizeInPixel is within
+     * this.maximumSizeInPixel
+     */
+    private void removeLeastRecentlyUsedSprites() {
+        Iterator<Map.Entry<String, int[]>> tmpIterator = this.keyToSpriteMap.entrySet().iterator();
+        while (this.sizeInPixel > this.maximumSizeInPixel && tmpIterator.hasNext()) {
+            Map.Entry<String, int[]> tmpEntry = tmpIterator.next();
+            this.sizeInPixel -= tmpEntry.getValue().length;
+            tmpIterator.remove();
+        }
+    }
+    // </editor-fold>
+
+}
@@ -26,16 +26,10 @@ import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionArrayList;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticle;
 import de.gnwi.mfsim.model.preference.Preferences;
 import de.gnwi.mfsim.model.util.ModelUtils;
-import java.awt.AlphaComposite;
 import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.GraphicsEnvironment;
 import java.awt.Point;
-import java.awt.RadialGradientPaint;
-import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
-import java.awt.image.PixelGrabber;
 import java.awt.image.WritableRaster;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -59,37 +53,37 @@ public class PixelGraphicsFactory implements IGraphicsFactory {
     /**
      * The pixels of the image
      */
-    private int[] pixels;
+    protected int[] pixels;
 
     /**
      * The width of the image in pixel
      */
-    private int width;
+    protected int width;
 
     /**
      * The height of the image in pixel
      */
-    private int height;
+    protected int height;
 
     /**
      * Red value of background color of the image
      */
-    private int backgroundRed;
+    protected int backgroundRed;
 
     /**
      * Green value of background color of the image
      */
-    private int backgroundGreen;
+    protected int backgroundGreen;
 
     /**
      * Blue value of background color of the image
      */
-    private int backgroundBlue;
+    protected int backgroundBlue;
 
     /**
      * Integer representation (pixel) of background color
      */
-    private int backgroundColorPixel;
+    protected int backgroundColorPixel;
 
     /**
      * Conversion array for red values
@@ -137,6 +131,37 @@ public class PixelGraphicsFactory implements IGraphicsFactory {
     }
     // </editor-fold>
     //
+    // <editor-fold defaultstate="collapsed" desc="Protected static methods">
+    /**
+     * Merges a source pixel over a destination pixel according to the 
+     * Porter-Duff-Source-Over-Destination rule
+     *
+     * @param aPixelSource Source pixel
+     * @param aPixelDestination Destination pixel
+     * @return Merged pixel
+     */
+    protected static int getSourceOverPixel(int aPixelSource, int aPixelDestination) {
+        int tmpAlphaSource = (aPixelSource >> 24) & 0xFF; // alpha: 0-255
+        float tmpAlphaSourceFloat = (float) tmpAlphaSource / 255f;
+        int tmpRedSource = (aPixelSource >> 16) & 0xFF; // red: 0-255   
+        int tmpGreenSource = (aPixelSource >> 8) & 0xFF; // green: 0-255
+        int tmpBlueSource = aPixelSource & 0xFF; // blue: 0-255
+
+        int tmpAlphaDestination = (aPixelDestination >> 24) & 0xFF; // alpha: 0-255
+        float tmpAlphaDestinationFloat = (float) tmpAlphaDestination / 255f;
+        int tmpRedDestination = (aPixelDestination >> 16) & 0xFF; // red: 0-255   
+        int tmpGreenDestination = (aPixelDestination >> 8) & 0xFF; // green: 0-255
+        int tmpBlueDestination = aPixelDestination & 0xFF; // blue: 0-255
+
+        float tmpFactor = tmpAlphaDestinationFloat * (1f - tmpAlphaSourceFloat);
+        int tmpAlphaSourceOver = Math.round((tmpAlphaSourceFloat + tmpFactor) * 255f);
+        int tmpRedSourceOver = Math.round((float) tmpRedSource * tmpAlphaSourceFloat + (float) tmpRedDestination * tmpFactor);
+        int tmpGreenSourceOver = Math.round((float) tmpGreenSource * tmpAlphaSourceFloat + (float) tmpGreenDestination * tmpFactor);
+        int tmpBlueSourceOver = Math.round((float) tmpBlueSource * tmpAlphaSourceFloat + (float) tmpBlueDestination * tmpFactor);
+        return ((tmpAlphaSourceOver << 24) & 0xFF000000) | ((tmpRedSourceOver << 16) & 0x00FF0000) | ((tmpGreenSourceOver << 8) & 0x0000FF00) | (tmpBlueSourceOver & 0x000000FF);
+    }
+    // </editor-fold>
+    //
     // <editor-fold defaultstate="collapsed" desc="Public methods">
     // <editor-fold defaultstate="collapsed" desc="- clear and cleanUp">
     /**
@@ -343,28 +368,7 @@ public class PixelGraphicsFactory implements IGraphicsFactory {
                         // tmpIndexMain = (anUpperLeftY + i) * this.width + anUpperLeftX + j;
                         if (tmpPixels[tmpIndexImage] != 0) {
                             // Merge pixels according to Porter-Duff-Source-Over-Destination rule
-                            int tmpPixelSource = tmpPixels[tmpIndexImage];
-                            int tmpAlphaSource = (tmpPixelSource >> 24) & 0xFF; // alpha: 0-255
-                            float tmpAlphaSourceFloat = (float) tmpAlphaSource / 255f;
-                            int tmpRedSource = (tmpPixelSource >> 16) & 0xFF; // red: 0-255   
-                            int tmpGreenSource = (tmpPixelSource >> 8) & 0xFF; // green: 0-255
-                            int tmpBlueSource = tmpPixelSource & 0xFF; // blue: 0-255
-
-                            int tmpPixelDestination = this.pixels[tmpOffset2 + j];
-                            int tmpAlphaDestination = (tmpPixelDestination >> 24) & 0xFF; // alpha: 0-255
-                            float tmpAlphaDestinationFloat = (float) tmpAlphaDestination / 255f;
-                            int tmpRedDestination = (tmpPixelDestination >> 16) & 0xFF; // red: 0-255   
-                            int tmpGreenDestination = (tmpPixelDestination >> 8) & 0xFF; // green: 0-255
-                            int tmpBlueDestination = tmpPixelDestination & 0xFF; // blue: 0-255
-
-                            float tmpFactor = tmpAlphaDestinationFloat * (1f - tmpAlphaSourceFloat);
-                            int tmpAlphaSourceOver = Math.round((tmpAlphaSourceFloat + tmpFactor) * 255f);
-                            int tmpRedSourceOver = Math.round((float) tmpRedSource * tmpAlphaSourceFloat + (float) tmpRedDestination * tmpFactor);
-                            int tmpGreenSourceOver = Math.round((float) tmpGreenSource * tmpAlphaSourceFloat + (float) tmpGreenDestination * tmpFactor);
-                            int tmpBlueSourceOver = Math.round((float) tmpBlueSource * tmpAlphaSourceFloat + (float) tmpBlueDestination * tmpFactor);
-                            int tmpPixelSourceOver = ((tmpAlphaSourceOver << 24) & 0xFF000000) | ((tmpRedSourceOver << 16) & 0x00FF0000) | ((tmpGreenSourceOver << 8) & 0x0000FF00) | (tmpBlueSourceOver & 0x000000FF);
-
-                            this.pixels[tmpOffset2 + j] = tmpPixelSourceOver;
+                            this.pixels[tmpOffset2 + j] = PixelGraphicsFactory.getSourceOverPixel(tmpPixels[tmpIndexImage], this.pixels[tmpOffset2 + j]);
                         }
                         tmpIndexImage++;
                     }
@@ -727,77 +731,6 @@ public class PixelGraphicsFactory implements IGraphicsFactory {
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="- Graphics related methods">
-    /**
-     * Returns pixels for specified particle graphics. NOTE: No checks are
-     * performed
-     *
-     * @param aRadiusInPixel Radius in pixel
-     * @param aFractions Fractions for aColors
-     * @param aColors Colors for RadialGradientPaint
-     * @param aTransparency Transparency
-     * @return Pixels for specified image
-     */
-    private int[] getPixelsOfParticleGraphics(int aRadiusInPixel, float[] aFractions, Color[] aColors, float aTransparency) {
-        Graphics2D tmpGraphics2D = null;
-        try {
-            // <editor-fold defaultstate="collapsed" desc="Create image">
-            int tmpDiameterInPixel = aRadiusInPixel * 2;
-            float tmpRadiusInPixelAsFloat = (float) aRadiusInPixel;
-            // NOTE: Transparency.TRANSLUCENT means that black background color of created image has integer value 0 (i.e. an alpha value of 0) when converted to integer pixel!
-            BufferedImage tmpImage = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration().createCompatibleImage(
-                    tmpDiameterInPixel, tmpDiameterInPixel, Transparency.TRANSLUCENT);
-            // Alternative code:
-            // NOTE: BufferedImage.TYPE_INT_ARGB allows pixels with integer value 0 (i.e. an alpha value of 0) when converted to integer pixel
-            // BufferedImage tmpImage = new BufferedImage(tmpDiameterInPixel, tmpDiameterInPixel, BufferedImage.TYPE_INT_ARGB);
-            tmpGraphics2D = tmpImage.createGraphics();
-            // </editor-fold>
-            // <editor-fold defaultstate="collapsed" desc="RadialGradientPaint for 3D effect">
-            RadialGradientPaint tmpRadialGradientPaint = 
-                new RadialGradientPaint(
-                    tmpRadiusInPixelAsFloat * Preferences.getInstance().getRadialGradientPaintFocusFactorX(),
-                    tmpRadiusInPixelAsFloat * Preferences.getInstance().getRadialGradientPaintFocusFactorY(),
-                    tmpRadiusInPixelAsFloat * Preferences.getInstance().getRadialGradientPaintRadiusMagnification(),
-                    aFractions,
-                    aColors
-                );
-            // </editor-fold>
-            // <editor-fold defaultstate="collapsed" desc="Set RadialGradientPaint">
-            if (aTransparency > 0f) {
-                // Make particle pixels translucent with aTransparency: Note transparency of 0% corresponds to alpha value of 1            
-                tmpGraphics2D.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1f - aTransparency));
-            }
-            tmpGraphics2D.setPaint(tmpRadialGradientPaint);
-            tmpGraphics2D.fillOval(0, 0, tmpDiameterInPixel, tmpDiameterInPixel);
-            // </editor-fold>
-            int[] tmpPixels = this.getPixelsOfImage(tmpImage);
-            return tmpPixels;
-        } finally {
-            if (tmpGraphics2D != null) {
-                tmpGraphics2D.dispose();
-            }
-        }
-    }
-
-    /**
-     * Returns pixels of an image
-     *
-     * @param anImage The image to get the pixel from
-     *
-     * @return The pixels represented by an integer array.
-     *
-     */
-    private int[] getPixelsOfImage(BufferedImage anImage) {
-        int[] tmpPixels = new int[anImage.getWidth() * anImage.getHeight()];
-        PixelGrabber tmpGrabber = new PixelGrabber(anImage, 0, 0, anImage.getWidth(), anImage.getHeight(), tmpPixels, 0, anImage.getWidth());
-        try {
-            tmpGrabber.grabPixels(0);
-        } catch (InterruptedException anException) {
-            ModelUtils.appendToLogfile(true, anException);
-            return null;
-        }
-        return tmpPixels;
-    }
-    
     /**
      * Set particle properties
      * (No checks are performed)
@@ -825,7 +758,8 @@ public class PixelGraphicsFactory implements IGraphicsFactory {
             tmpRadiusInPixel = 1;
         }
         this.graphicsUtilityMethods.setGradientColors(tmpGraphicalParticleColor, tmpColors);
-        int[] tmpPixels = this.getPixelsOfParticleGraphics(tmpRadiusInPixel, tmpfractions, tmpColors, tmpGraphicalParticle.getCurrentParticleTransparency());
+        // NOTE: Sprite pixels are shared by ParticleSpriteCache and must NOT be changed
+        int[] tmpPixels = ParticleSpriteCache.getInstance().getParticlePixels(tmpRadiusInPixel, tmpfractions, tmpColors, tmpGraphicalParticle.getCurrentParticleTransparency());
         tmpGraphicalParticle.setRadiusInPixel(tmpRadiusInPixel);
         tmpGraphicalParticle.setGraphicsObject(tmpPixels);
     }
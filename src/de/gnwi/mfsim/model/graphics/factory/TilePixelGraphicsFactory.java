@@ -0,0 +1,482 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.factory;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Tile-parallel pixel graphics factory: Draw operations are not applied
+ * immediately but recorded as draw commands. Before the image is used the 
+ * commands are binned into square tiles of the image (see 
+ * ModelDefinitions.PIXEL_GRAPHICS_TILE_SIZE_IN_PIXEL) and the tiles are 
+ * rendered concurrently. Within a tile the commands are applied in recording
+ * order so that the resulting image is pixel-identical to the image of 
+ * PixelGraphicsFactory.
+ *
+ * @author Achim Zielesny
+ */
+public class TilePixelGraphicsFactory extends PixelGraphicsFactory {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * Initial capacity of command arrays
+     */
+    private static final int INITIAL_COMMAND_CAPACITY = 1024;
+
+    /**
+     * Command type for opaque drawing
+     */
+    private static final byte COMMAND_OPAQUE = 0;
+
+    /**
+     * Command type for transparent drawing
+     */
+    private static final byte COMMAND_TRANSPARENT = 1;
+
+    /**
+     * Command type for single pixel drawing
+     */
+    private static final byte COMMAND_SINGLE_PIXEL = 2;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Width and height of a tile in pixel
+     */
+    private final int tileSize;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Number of recorded commands
+     */
+    private int numberOfCommands;
+
+    /**
+     * Command types
+     */
+    private byte[] commandTypes;
+
+    /**
+     * Upper left x-coordinates of commands
+     */
+    private int[] commandX;
+
+    /**
+     * Upper left y-coordinates of commands
+     */
+    private int[] commandY;
+
+    /**
+     * Width and height of commands
+     */
+    private int[] commandSizes;
+
+    /**
+     * Sprite pixels of commands (null for single pixel commands)
+     */
+    private int[][] commandSprites;
+
+    /**
+     * Pixel colors of single pixel commands
+     */
+    private int[] commandColors;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aWidth The width of the main image in pixel
+     * @param aHeight The height of the main image in pixel
+     * @param anIsIntermediateImageCreation True: Intermediate images are
+     * created, false: Attenuation image is returned as intermediate image
+     */
+    public TilePixelGraphicsFactory(int aWidth, int aHeight, boolean anIsIntermediateImageCreation) {
+        this(aWidth, aHeight, anIsIntermediateImageCreation, ModelDefinitions.PIXEL_GRAPHICS_TILE_SIZE_IN_PIXEL);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param aWidth The width of the main image in pixel
+     * @param aHeight The height of the main image in pixel
+     * @param anIsIntermediateImageCreation True: Intermediate images are
+     * created, false: Attenuation image is returned as intermediate image
+     * @param aTileSize Width and height of a tile in pixel
+     * @throws IllegalArgumentException Thrown if aTileSize is less than 1
+     */
+    public TilePixelGraphicsFactory(int aWidth, int aHeight, boolean anIsIntermediateImageCreation, int aTileSize) throws IllegalArgumentException {
+        super(aWidth, aHeight, anIsIntermediateImageCreation);
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aTileSize < 1) {
+            throw new IllegalArgumentException("aTileSize is less than 1.");
+        }
+        // </editor-fold>
+        this.tileSize = aTileSize;
+        this.commandTypes = new byte[TilePixelGraphicsFactory.INITIAL_COMMAND_CAPACITY];
+        this.commandX = new int[TilePixelGraphicsFactory.INITIAL_COMMAND_CAPACITY];
+        this.commandY = new int[TilePixelGraphicsFactory.INITIAL_COMMAND_CAPACITY];
+        this.commandSizes = new int[TilePixelGraphicsFactory.INITIAL_COMMAND_CAPACITY];
+        this.commandSprites = new int[TilePixelGraphicsFactory.INITIAL_COMMAND_CAPACITY][];
+        this.commandColors = new int[TilePixelGraphicsFactory.INITIAL_COMMAND_CAPACITY];
+        this.numberOfCommands = 0;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    // <editor-fold defaultstate="collapsed" desc="- clear and cleanUp">
+    /**
+     * Clears the main image
+     */
+    @Override
+    public void clear() {
+        this.discardCommands();
+        super.clear();
+    }
+
+    /**
+     * Clean up
+     */
+    @Override
+    public void cleanUp() {
+        this.discardCommands();
+        super.cleanUp();
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="- Graphics related methods">
+    /**
+     * Renders all recorded draw commands tile-parallel to the main image
+     */
+    public void flush() {
+        if (this.numberOfCommands == 0) {
+            return;
+        }
+        int tmpNumberOfTilesX = (this.width + this.tileSize - 1) / this.tileSize;
+        int tmpNumberOfTilesY = (this.height + this.tileSize - 1) / this.tileSize;
+        int tmpNumberOfTiles = tmpNumberOfTilesX * tmpNumberOfTilesY;
+        // <editor-fold defaultstate="collapsed" desc="Count commands per tile">
+        int[] tmpTileStarts = new int[tmpNumberOfTiles + 1];
+        for (int i = 0; i < this.numberOfCommands; i++) {
+            int tmpFirstTileX = this.commandX[i] / this.tileSize;
+            int tmpLastTileX = (this.commandX[i] + this.commandSizes[i] - 1) / this.tileSize;
+            int tmpFirstTileY = this.commandY[i] / this.tileSize;
+            int tmpLastTileY = (this.commandY[i] + this.commandSizes[i] - 1) / this.tileSize;
+            for (int k = tmpFirstTileY; k <= tmpLastTileY; k++) {
+                for (int l = tmpFirstTileX; l <= tmpLastTileX; l++) {
+                    tmpTileStarts[k * tmpNumberOfTilesX + l + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < tmpNumberOfTiles; i++) {
+            tmpTileStarts[i + 1] += tmpTileStarts[i];
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Bin commands (in recording order)">
+        int[] tmpTileCommands = new int[tmpTileStarts[tmpNumberOfTiles]];
+        int[] tmpTilePositions = Arrays.copyOf(tmpTileStarts, tmpNumberOfTiles);
+        for (int i = 0; i < this.numberOfCommands; i++) {
+            int tmpFirstTileX = this.commandX[i] / this.tileSize;
+            int tmpLastTileX = (this.commandX[i] + this.commandSizes[i] - 1) / this.tileSize;
+            int tmpFirstTileY = this.commandY[i] / this.tileSize;
+            int tmpLastTileY = (this.commandY[i] + this.commandSizes[i] - 1) / this.tileSize;
+            for (int k = tmpFirstTileY; k <= tmpLastTileY; k++) {
+                for (int l = tmpFirstTileX; l <= tmpLastTileX; l++) {
+                    tmpTileCommands[tmpTilePositions[k * tmpNumberOfTilesX + l]++] = i;
+                }
+            }
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Render tiles">
+        IntStream.range(0, tmpNumberOfTiles).parallel().forEach(
+            aTileIndex -> this.renderTile(
+                aTileIndex % tmpNumberOfTilesX,
+                aTileIndex / tmpNumberOfTilesX,
+                tmpTileCommands,
+                tmpTileStarts[aTileIndex],
+                tmpTileStarts[aTileIndex + 1]
+            )
+        );
+        // </editor-fold>
+        this.discardCommands();
+    }
+
+    /**
+     * Attenuates the color of the the main image by an attenuation towards the
+     * background color. NOTE: If anAttenuation is very small there may be
+     * graphical effects due to round-off errors.
+     *
+     * @param anAttenuation Attenuation: 1.0 or bigger means background color,
+     * 0.0 or smaller means remain unchanged.
+     */
+    @Override
+    public void attenuateToBackgroundColor(double anAttenuation) {
+        this.flush();
+        float tmpCorrectedAttenuation;
+        if (anAttenuation < 0.0) {
+            tmpCorrectedAttenuation = 0.0f;
+        } else if (anAttenuation > 1.0) {
+            tmpCorrectedAttenuation = 1.0f;
+        } else {
+            tmpCorrectedAttenuation = (float) anAttenuation;
+        }
+        if (tmpCorrectedAttenuation > 0.0f) {
+            // NOTE: Conversion arrays are completely filled in advance (same 
+            // formula as in PixelGraphicsFactory) so that they may be read
+            // concurrently
+            int[] tmpConversionRedArray = new int[256];
+            int[] tmpConversionGreenArray = new int[256];
+            int[] tmpConversionBlueArray = new int[256];
+            for (int i = 0; i < 256; i++) {
+                tmpConversionRedArray[i] = i - Math.round(tmpCorrectedAttenuation * (float) (i - this.backgroundRed));
+                tmpConversionGreenArray[i] = i - Math.round(tmpCorrectedAttenuation * (float) (i - this.backgroundGreen));
+                tmpConversionBlueArray[i] = i - Math.round(tmpCorrectedAttenuation * (float) (i - this.backgroundBlue));
+            }
+            IntStream.range(0, this.height).parallel().forEach(
+                aRow -> {
+                    int tmpFirstIndex = aRow * this.width;
+                    int tmpLastIndex = tmpFirstIndex + this.width;
+                    for (int i = tmpFirstIndex; i < tmpLastIndex; i++) {
+                        int tmpPixel = this.pixels[i];
+                        if (tmpPixel != this.backgroundColorPixel) {
+                            int tmpAlpha = (tmpPixel >> 24) & 0xFF; // Do NOT change!
+                            int tmpRed = tmpConversionRedArray[(tmpPixel >> 16) & 0xFF];
+                            int tmpGreen = tmpConversionGreenArray[(tmpPixel >> 8) & 0xFF];
+                            int tmpBlue = tmpConversionBlueArray[tmpPixel & 0xFF];
+                            this.pixels[i] = ((tmpAlpha << 24) & 0xFF000000) | ((tmpRed << 16) & 0x00FF0000) | ((tmpGreen << 8) & 0x0000FF00) | (tmpBlue & 0x000000FF);
+                        }
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Records an opaque partial image at the specified x-, y-coordinate to be
+     * drawn to the main image. NOTE: A black background pixel must have 
+     * integer value 0 (i.e. an alpha value of 0)! NOTE: Like in 
+     * PixelGraphicsFactory only images WITHIN the main image are drawn.
+     *
+     * @param aGraphicsObject The pixels of the image to be drawn to the main
+     * image (must NOT be changed before flush). NOTE: A black background pixel
+     * must have integer value 0 (i.e. an alpha value of 0)!
+     * @param anUpperLeftX The x coordinate of the upper left position
+     * @param anUpperLeftY The y coordinate of the upper left position
+     * @param aWidthAndHeight The width and height of the image to draw on the
+     * main image (width = height)
+     */
+    @Override
+    public void drawOpaque(Object aGraphicsObject, int anUpperLeftX, int anUpperLeftY, int aWidthAndHeight) {
+        this.addSpriteCommand(TilePixelGraphicsFactory.COMMAND_OPAQUE, aGraphicsObject, anUpperLeftX, anUpperLeftY, aWidthAndHeight);
+    }
+
+    /**
+     * Records a transparent partial image at the specified x-, y-coordinate 
+     * to be drawn to the main image. NOTE: A black background pixel must have 
+     * integer value 0 (i.e. an alpha value of 0)! NOTE: Like in 
+     * PixelGraphicsFactory only images WITHIN the main image are drawn.
+     *
+     * @param aGraphicsObject The pixels of the image to be drawn to the main
+     * image (must NOT be changed before flush). NOTE: A black background pixel
+     * must have integer value 0 (i.e. an alpha value of 0)!
+     * @param anUpperLeftX The x coordinate of the upper left position
+     * @param anUpperLeftY The y coordinate of the upper left position
+     * @param aWidthAndHeight The width and height of the image to draw on the
+     * main image (width = height)
+     */
+    @Override
+    public void drawTransparent(Object aGraphicsObject, int anUpperLeftX, int anUpperLeftY, int aWidthAndHeight) {
+        this.addSpriteCommand(TilePixelGraphicsFactory.COMMAND_TRANSPARENT, aGraphicsObject, anUpperLeftX, anUpperLeftY, aWidthAndHeight);
+    }
+
+    /**
+     * Records single pixel to be drawn
+     *
+     * @param aXPosition x-position of pixel
+     * @param aYPosition y-position of pixel
+     * @param aPixelColor Color of pixel
+     */
+    @Override
+    public void drawSinglePixel(int aXPosition, int aYPosition, Color aPixelColor) {
+        // NOTE: aXPosition and aYPosition are zero-based! -> aXPosition < this.width and NOT aXPosition <= this.width (the same is valid for this.height)
+        if (aXPosition > -1 && aXPosition < this.width && aYPosition > -1 && aYPosition < this.height) {
+            int tmpIndex = this.getNewCommandIndex();
+            this.commandTypes[tmpIndex] = TilePixelGraphicsFactory.COMMAND_SINGLE_PIXEL;
+            this.commandX[tmpIndex] = aXPosition;
+            this.commandY[tmpIndex] = aYPosition;
+            this.commandSizes[tmpIndex] = 1;
+            this.commandSprites[tmpIndex] = null;
+            this.commandColors[tmpIndex] = aPixelColor.getRGB();
+        }
+    }
+
+    /**
+     * Gets a buffered image from the internal pixel array
+     *
+     * @return A buffered image from the internal pixel array
+     */
+    @Override
+    public BufferedImage getImage() {
+        this.flush();
+        return super.getImage();
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="- Test only and unused methods">
+    /**
+     * Attenuates the color of the the main image by an attenuation towards the
+     * background color (see attenuateToBackgroundColor()).
+     *
+     * @param anAttenuation Attenuation: 1.0 or bigger means background color,
+     * 0.0 or smaller means remain unchanged.
+     */
+    @Override
+    public void attenuateToBackgroundColor_Parallel(double anAttenuation) {
+        this.attenuateToBackgroundColor(anAttenuation);
+    }
+
+    /**
+     * Draws the image to the main image (see PixelGraphicsFactory). Recorded
+     * commands are rendered before.
+     *
+     * @param aPixels The pixels of the image to be drawn to the main image.
+     * @param anUpperLeftX The x coordinate of the upper left position
+     * @param anUpperLeftY The y coordinate of the upper left position
+     * @param aWidth The width of the image to draw on the main image
+     * @param aHeight The height of the image to draw on the main image
+     */
+    @Override
+    public void drawToImage(int[] aPixels, int anUpperLeftX, int anUpperLeftY, int aWidth, int aHeight) {
+        this.flush();
+        super.drawToImage(aPixels, anUpperLeftX, anUpperLeftY, aWidth, aHeight);
+    }
+    // </editor-fold>
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Records sprite command if sprite is WITHIN main image (see 
+     * PixelGraphicsFactory.drawOpaque()/drawTransparent())
+     *
+     * @param aCommandType Command type
+     * @param aGraphicsObject Sprite pixels
+     * @param anUpperLeftX The x coordinate of the upper left position
+     * @param anUpperLeftY The y coordinate of the upper left position
+     * @param aWidthAndHeight The width and height of the sprite
+     */
+    private void addSpriteCommand(byte aCommandType, Object aGraphicsObject, int anUpperLeftX, int anUpperLeftY, int aWidthAndHeight) {
+        if (!(aGraphicsObject instanceof int[]) || aWidthAndHeight < 1) {
+            return;
+        }
+        int[] tmpSprite = (int[]) aGraphicsObject;
+        if (tmpSprite.length < aWidthAndHeight * aWidthAndHeight) {
+            return;
+        }
+        if (anUpperLeftX > -1 && anUpperLeftX + aWidthAndHeight <= this.width && anUpperLeftY > -1 && anUpperLeftY + aWidthAndHeight <= this.height) {
+            int tmpIndex = this.getNewCommandIndex();
+            this.commandTypes[tmpIndex] = aCommandType;
+            this.commandX[tmpIndex] = anUpperLeftX;
+            this.commandY[tmpIndex] = anUpperLeftY;
+            this.commandSizes[tmpIndex] = aWidthAndHeight;
+            this.commandSprites[tmpIndex] = tmpSprite;
+        }
+    }
+
+    /**
+     * Returns index for new command (command arrays are enlarged if 
+     * necessary)
+     *
+     * @return Index for new command
+     */
+    private int getNewCommandIndex() {
+        if (this.numberOfCommands == this.commandTypes.length) {
+            int tmpNewCapacity = this.commandTypes.length * 2;
+            this.commandTypes = Arrays.copyOf(this.commandTypes, tmpNewCapacity);
+            this.commandX = Arrays.copyOf(this.commandX, tmpNewCapacity);
+            this.commandY = Arrays.copyOf(this.commandY, tmpNewCapacity);
+            this.commandSizes = Arrays.copyOf(this.commandSizes, tmpNewCapacity);
+            this.commandSprites = Arrays.copyOf(this.commandSprites, tmpNewCapacity);
+            this.commandColors = Arrays.copyOf(this.commandColors, tmpNewCapacity);
+        }
+        return this.numberOfCommands++;
+    }
+
+    /**
+     * Discards all recorded commands
+     */
+    private void discardCommands() {
+        // Release sprite references
+        Arrays.fill(this.commandSprites, 0, this.numberOfCommands, null);
+        this.numberOfCommands = 0;
+    }
+
+    /**
+     * Renders commands of a single tile. NOTE: No checks are performed.
+     *
+     * @param aTileX Tile x-index
+     * @param aTileY Tile y-index
+     * @param aTileCommands Binned command indices
+     * @param aFirstIndex First index of tile in aTileCommands (inclusive)
+     * @param aLastIndex Last index of tile in aTileCommands (exclusive)
+     */
+    private void renderTile(int aTileX, int aTileY, int[] aTileCommands, int aFirstIndex, int aLastIndex) {
+        int tmpTileMinX = aTileX * this.tileSize;
+        int tmpTileMaxX = Math.min(tmpTileMinX + this.tileSize, this.width);
+        int tmpTileMinY = aTileY * this.tileSize;
+        int tmpTileMaxY = Math.min(tmpTileMinY + this.tileSize, this.height);
+        for (int i = aFirstIndex; i < aLastIndex; i++) {
+            int tmpCommandIndex = aTileCommands[i];
+            int tmpX = this.commandX[tmpCommandIndex];
+            int tmpY = this.commandY[tmpCommandIndex];
+            if (this.commandTypes[tmpCommandIndex] == TilePixelGraphicsFactory.COMMAND_SINGLE_PIXEL) {
+                this.pixels[tmpY * this.width + tmpX] = this.commandColors[tmpCommandIndex];
+                continue;
+            }
+            int tmpSize = this.commandSizes[tmpCommandIndex];
+            int[] tmpSprite = this.commandSprites[tmpCommandIndex];
+            boolean tmpIsOpaque = this.commandTypes[tmpCommandIndex] == TilePixelGraphicsFactory.COMMAND_OPAQUE;
+            int tmpMinX = Math.max(tmpX, tmpTileMinX);
+            int tmpMaxX = Math.min(tmpX + tmpSize, tmpTileMaxX);
+            int tmpMinY = Math.max(tmpY, tmpTileMinY);
+            int tmpMaxY = Math.min(tmpY + tmpSize, tmpTileMaxY);
+            for (int k = tmpMinY; k < tmpMaxY; k++) {
+                int tmpSpriteOffset = (k - tmpY) * tmpSize - tmpX;
+                int tmpImageOffset = k * this.width;
+                for (int l = tmpMinX; l < tmpMaxX; l++) {
+                    int tmpPixelSource = tmpSprite[tmpSpriteOffset + l];
+                    if (tmpPixelSource != 0) {
+                        if (tmpIsOpaque) {
+                            this.pixels[tmpImageOffset + l] = tmpPixelSource;
+                        } else {
+                            this.pixels[tmpImageOffset + l] = PixelGraphicsFactory.getSourceOverPixel(tmpPixelSource, this.pixels[tmpImageOffset + l]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,443 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.movie;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Movie encoder for animated PNG (APNG) files with 8-bit RGB frames. Frames 
+ * are streamed to the movie file, the number of frames in the animation 
+ * control chunk is written on close. The first frame is also the default 
+ * image so that viewers without APNG support show the first frame.
+ * <br>
+ * NOTE: This class is NOT thread-safe (see BackgroundMovieEncoder for 
+ * encoding in a background thread).
+ *
+ * @author Achim Zielesny
+ */
+public class ApngMovieEncoder implements IMovieEncoder {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * PNG signature
+     */
+    private static final byte[] PNG_SIGNATURE = new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    /**
+     * File position of acTL chunk (signature + IHDR chunk)
+     */
+    private static final int ACTL_POSITION = 33;
+
+    /**
+     * Sub filter type of PNG scanline
+     */
+    private static final int FILTER_TYPE_SUB = 1;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Movie file
+     */
+    private final File movieFile;
+
+    /**
+     * Frames per second
+     */
+    private final int framesPerSecond;
+
+    /**
+     * Deflater
+     */
+    private final Deflater deflater;
+
+    /**
+     * Compressed frame data buffer
+     */
+    private final ByteArrayOutputStream compressedBuffer;
+
+    /**
+     * Chunk CRC
+     */
+    private final CRC32 crc;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Output stream to movie file
+     */
+    private OutputStream outputStream;
+
+    /**
+     * Frame width (0 if no frame was added)
+     */
+    private int width;
+
+    /**
+     * Frame height (0 if no frame was added)
+     */
+    private int height;
+
+    /**
+     * Number of frames
+     */
+    private int numberOfFrames;
+
+    /**
+     * Sequence number of fcTL and fdAT chunks
+     */
+    private int sequenceNumber;
+
+    /**
+     * Raw (filtered) frame data buffer
+     */
+    private byte[] rawBuffer;
+
+    /**
+     * Deflate output buffer
+     */
+    private byte[] deflateBuffer;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aMovieFile Movie file (is overwritten)
+     * @param aFramesPerSecond Frames per second
+     * @param aCompressionLevel Deflate compression level (0 - 9, or
+     * Deflater.DEFAULT_COMPRESSION)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     * @throws IOException Thrown if movie file could not be created
+     */
+    public ApngMovieEncoder(File aMovieFile, int aFramesPerSecond, int aCompressionLevel) throws IllegalArgumentException, IOException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aMovieFile == null) {
+            throw new IllegalArgumentException("aMovieFile is null.");
+        }
+        if (aFramesPerSecond < 1 || aFramesPerSecond > 65535) {
+            throw new IllegalArgumentException("aFramesPerSecond is not in interval [1, 65535].");
+        }
+        if ((aCompressionLevel < 0 || aCompressionLevel > 9) && aCompressionLevel != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("aCompressionLevel is illegal.");
+        }
+        // </editor-fold>
+        this.movieFile = aMovieFile;
+        this.framesPerSecond = aFramesPerSecond;
+        this.deflater = new Deflater(aCompressionLevel);
+        this.compressedBuffer = new ByteArrayOutputStream(65536);
+        this.crc = new CRC32();
+        this.deflateBuffer = new byte[65536];
+        this.numberOfFrames = 0;
+        this.sequenceNumber = 0;
+        this.width = 0;
+        this.height = 0;
+        this.outputStream = new BufferedOutputStream(new FileOutputStream(aMovieFile), 65536);
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Adds frame. NOTE: All frames must have the same width and height.
+     *
+     * @param anImage Image of frame (alpha is ignored)
+     * @throws IllegalArgumentException Thrown if anImage is null or has a 
+     * different size than the first frame
+     * @throws IOException Thrown if frame could not be encoded/written
+     */
+    @Override
+    public void addFrame(BufferedImage anImage) throws IllegalArgumentException, IOException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (anImage == null) {
+            throw new IllegalArgumentException("anImage is null.");
+        }
+        // </editor-fold>
+        int tmpWidth = anImage.getWidth();
+        int tmpHeight = anImage.getHeight();
+        int[] tmpPixels;
+        if ((anImage.getType() == BufferedImage.TYPE_INT_RGB || anImage.getType() == BufferedImage.TYPE_INT_ARGB) 
+            && anImage.getRaster().getDataBuffer() instanceof DataBufferInt
+            && ((DataBufferInt) anImage.getRaster().getDataBuffer()).getData().length == tmpWidth * tmpHeight
+        ) {
+            // Direct access without copy
+            tmpPixels = ((DataBufferInt) anImage.getRaster().getDataBuffer()).getData();
+        } else {
+            tmpPixels = anImage.getRGB(0, 0, tmpWidth, tmpHeight, null, 0, tmpWidth);
+        }
+        this.addFrame(tmpPixels, tmpWidth, tmpHeight);
+    }
+
+    /**
+     * Adds frame. NOTE: All frames must have the same width and height.
+     *
+     * @param aPixels Pixels of frame in integer RGB/ARGB format (alpha is 
+     * ignored)
+     * @param aWidth Width of frame
+     * @param aHeight Height of frame
+     * @throws IllegalArgumentException Thrown if an argument is illegal or 
+     * frame has a different size than the first frame
+     * @throws IOException Thrown if frame could not be encoded/written
+     */
+    @Override
+    public void addFrame(int[] aPixels, int aWidth, int aHeight) throws IllegalArgumentException, IOException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (this.outputStream == null) {
+            throw new IOException("Movie encoder is closed.");
+        }
+        if (aWidth < 1 || aHeight < 1) {
+            throw new IllegalArgumentException("aWidth or aHeight is less than 1.");
+        }
+        if (aPixels == null || aPixels.length != aWidth * aHeight) {
+            throw new IllegalArgumentException("aPixels is null or has wrong length.");
+        }
+        if (this.numberOfFrames > 0 && (aWidth != this.width || aHeight != this.height)) {
+            throw new IllegalArgumentException("Frame size differs from size of first frame.");
+        }
+        // </editor-fold>
+        if (this.numberOfFrames == 0) {
+            this.width = aWidth;
+            this.height = aHeight;
+            this.rawBuffer = new byte[aHeight * (1 + 3 * aWidth)];
+            this.writeHeaders();
+        }
+        // <editor-fold defaultstate="collapsed" desc="fcTL (frame control)">
+        byte[] tmpFrameControl = new byte[26];
+        ApngMovieEncoder.setInt(tmpFrameControl, 0, this.sequenceNumber++);
+        ApngMovieEncoder.setInt(tmpFrameControl, 4, this.width);
+        ApngMovieEncoder.setInt(tmpFrameControl, 8, this.height);
+        // x-offset, y-offset = 0
+        // Delay = 1 / framesPerSecond seconds
+        ApngMovieEncoder.setShort(tmpFrameControl, 20, 1);
+        ApngMovieEncoder.setShort(tmpFrameControl, 22, this.framesPerSecond);
+        // Dispose operation = none, blend operation = source: Both 0
+        this.writeChunk("fcTL", tmpFrameControl, tmpFrameControl.length);
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Image data">
+        byte[] tmpCompressedData = this.getCompressedFrameData(aPixels);
+        if (this.numberOfFrames == 0) {
+            this.writeChunk("IDAT", tmpCompressedData, tmpCompressedData.length);
+        } else {
+            byte[] tmpFrameData = new byte[tmpCompressedData.length + 4];
+            ApngMovieEncoder.setInt(tmpFrameData, 0, this.sequenceNumber++);
+            System.arraycopy(tmpCompressedData, 0, tmpFrameData, 4, tmpCompressedData.length);
+            this.writeChunk("fdAT", tmpFrameData, tmpFrameData.length);
+        }
+        // </editor-fold>
+        this.numberOfFrames++;
+    }
+
+    /**
+     * Finishes movie file: Writes IEND chunk and sets number of frames
+     *
+     * @throws IOException Thrown if movie file could not be finished
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.outputStream == null) {
+            return;
+        }
+        try {
+            if (this.numberOfFrames == 0) {
+                throw new IOException("Animated PNG without frames is not possible.");
+            }
+            this.writeChunk("IEND", new byte[0], 0);
+            this.outputStream.close();
+            this.outputStream = null;
+            // <editor-fold defaultstate="collapsed" desc="Patch acTL (number of frames)">
+            byte[] tmpAnimationControl = this.getAnimationControlData(this.numberOfFrames);
+            try (RandomAccessFile tmpRandomAccessFile = new RandomAccessFile(this.movieFile, "rw")) {
+                // Skip length and chunk type
+                tmpRandomAccessFile.seek(ApngMovieEncoder.ACTL_POSITION + 8);
+                tmpRandomAccessFile.write(tmpAnimationControl);
+                byte[] tmpCrc = new byte[4];
+                ApngMovieEncoder.setInt(tmpCrc, 0, this.getCrc("acTL", tmpAnimationControl, tmpAnimationControl.length));
+                tmpRandomAccessFile.write(tmpCrc);
+            }
+            // </editor-fold>
+        } finally {
+            if (this.outputStream != null) {
+                this.outputStream.close();
+                this.outputStream = null;
+            }
+            this.deflater.end();
+            this.rawBuffer = null;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Number of frames added so far
+     *
+     * @return Number of frames added so far
+     */
+    @Override
+    public int getNumberOfFrames() {
+        return this.numberOfFrames;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private static methods">
+    /**
+     * Sets big-endian integer
+     *
+     * @param aBytes Bytes
+     * @param anIndex Index
+     * @param aValue Value
+     */
+    private static void setInt(byte[] aBytes, int anIndex, int aValue) {
+        aBytes[anIndex] = (byte) (aValue >>> 24);
+        aBytes[anIndex + 1] = (byte) (aValue >>> 16);
+        aBytes[anIndex + 2] = (byte) (aValue >>> 8);
+        aBytes[anIndex + 3] = (byte) aValue;
+    }
+
+    /**
+     * Sets big-endian short
+     *
+     * @param aBytes Bytes
+     * @param anIndex Index
+     * @param aValue Value
+     */
+    private static void setShort(byte[] aBytes, int anIndex, int aValue) {
+        aBytes[anIndex] = (byte) (aValue >>> 8);
+        aBytes[anIndex + 1] = (byte) aValue;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Writes PNG signature, IHDR and acTL chunk (number of frames is patched
+     * on close)
+     *
+     * @throws IOException Thrown if headers could not be written
+     */
+    private void writeHeaders() throws IOException {
+        this.outputStream.write(ApngMovieEncoder.PNG_SIGNATURE);
+        byte[] tmpHeader = new byte[13];
+        ApngMovieEncoder.setInt(tmpHeader, 0, this.width);
+        ApngMovieEncoder.setInt(tmpHeader, 4, this.height);
+        // Bit depth
+        tmpHeader[8] = 8;
+        // Color type: RGB
+        tmpHeader[9] = 2;
+        // Compression method, filter method, interlace method: All 0
+        this.writeChunk("IHDR", tmpHeader, tmpHeader.length);
+        byte[] tmpAnimationControl = this.getAnimationControlData(0);
+        this.writeChunk("acTL", tmpAnimationControl, tmpAnimationControl.length);
+    }
+
+    /**
+     * Returns acTL chunk data
+     *
+     * @param aNumberOfFrames Number of frames
+     * @return acTL chunk data
+     */
+    private byte[] getAnimationControlData(int aNumberOfFrames) {
+        byte[] tmpAnimationControl = new byte[8];
+        ApngMovieEncoder.setInt(tmpAnimationControl, 0, aNumberOfFrames);
+        // Number of plays: 0 = infinite
+        ApngMovieEncoder.setInt(tmpAnimationControl, 4, 0);
+        return tmpAnimationControl;
+    }
+
+    /**
+     * Returns filtered (Sub filter) and deflated frame data
+     *
+     * @param aPixels Pixels of frame
+     * @return Compressed frame data
+     */
+    private byte[] getCompressedFrameData(int[] aPixels) {
+        int tmpIndex = 0;
+        for (int i = 0; i < this.height; i++) {
+            this.rawBuffer[tmpIndex++] = ApngMovieEncoder.FILTER_TYPE_SUB;
+            int tmpPreviousRed = 0;
+            int tmpPreviousGreen = 0;
+            int tmpPreviousBlue = 0;
+            int tmpRowOffset = i * this.width;
+            for (int j = 0; j < this.width; j++) {
+                int tmpPixel = aPixels[tmpRowOffset + j];
+                int tmpRed = (tmpPixel >> 16) & 0xFF;
+                int tmpGreen = (tmpPixel >> 8) & 0xFF;
+                int tmpBlue = tmpPixel & 0xFF;
+                this.rawBuffer[tmpIndex++] = (byte) (tmpRed - tmpPreviousRed);
+                this.rawBuffer[tmpIndex++] = (byte) (tmpGreen - tmpPreviousGreen);
+                this.rawBuffer[tmpIndex++] = (byte) (tmpBlue - tmpPreviousBlue);
+                tmpPreviousRed = tmpRed;
+                tmpPreviousGreen = tmpGreen;
+                tmpPreviousBlue = tmpBlue;
+            }
+        }
+        this.deflater.reset();
+        this.deflater.setInput(this.rawBuffer);
+        this.deflater.finish();
+        this.compressedBuffer.reset();
+        while (!this.deflater.finished()) {
+            int tmpLength = this.deflater.deflate(this.deflateBuffer);
+            this.compressedBuffer.write(this.deflateBuffer, 0, tmpLength);
+        }
+        return this.compressedBuffer.toByteArray();
+    }
+
+    /**
+     * Writes chunk
+     *
+     * @param aType Chunk type
+     * @param aData Chunk data
+     * @param aLength Length of chunk data
+     * @throws IOException Thrown if chunk could not be written
+     */
+    private void writeChunk(String aType, byte[] aData, int aLength) throws IOException {
+        byte[] tmpBytes = new byte[4];
+        ApngMovieEncoder.setInt(tmpBytes, 0, aLength);
+        this.outputStream.write(tmpBytes);
+        this.outputStream.write(aType.getBytes(StandardCharsets.US_ASCII));
+        this.outputStream.write(aData, 0, aLength);
+        ApngMovieEncoder.setInt(tmpBytes, 0, this.getCrc(aType, aData, aLength));
+        this.outputStream.write(tmpBytes);
+    }
+
+    /**
+     * Returns CRC of chunk type and data
+     *
+     * @param aType Chunk type
+     * @param aData Chunk data
+     * @param aLength Length of chunk data
+     * @return CRC
+     */
+    private int getCrc(String aType, byte[] aData, int aLength) {
+        this.crc.reset();
+        this.crc.update(aType.getBytes(StandardCharsets.US_ASCII));
+        this.crc.update(aData, 0, aLength);
+        return (int) this.crc.getValue();
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,313 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.movie;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Movie encoder that passes frames to a wrapped movie encoder which runs in
+ * a background thread: Frames are queued in a bounded queue, i.e. adding a
+ * frame blocks if the background encoder lags behind (back-pressure). An
+ * exception of the background encoder is thrown by the next addFrame() or 
+ * by close().
+ * <br>
+ * NOTE: Added frames must NOT be changed afterwards.
+ *
+ * @author Achim Zielesny
+ */
+public class BackgroundMovieEncoder implements IMovieEncoder {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * End-of-movie marker
+     */
+    private static final Frame END_OF_MOVIE = new Frame(null, null, 0, 0);
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Wrapped movie encoder
+     */
+    private final IMovieEncoder movieEncoder;
+
+    /**
+     * Frame queue
+     */
+    private final ArrayBlockingQueue<Frame> frameQueue;
+
+    /**
+     * Executor service with single encoder thread
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Future of encoder thread
+     */
+    private final Future<Void> encoderFuture;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Number of frames added
+     */
+    private int numberOfFrames;
+
+    /**
+     * True: Encoder is closed, false: Otherwise
+     */
+    private boolean isClosed;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aMovieEncoder Movie encoder to be run in background thread
+     * @param aQueueCapacity Maximum number of queued frames
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public BackgroundMovieEncoder(IMovieEncoder aMovieEncoder, int aQueueCapacity) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aMovieEncoder == null) {
+            throw new IllegalArgumentException("aMovieEncoder is null.");
+        }
+        if (aQueueCapacity < 1) {
+            throw new IllegalArgumentException("aQueueCapacity is less than 1.");
+        }
+        // </editor-fold>
+        this.movieEncoder = aMovieEncoder;
+        this.frameQueue = new ArrayBlockingQueue<>(aQueueCapacity);
+        this.numberOfFrames = 0;
+        this.isClosed = false;
+        this.executorService = Executors.newSingleThreadExecutor(aRunnable -> {
+            Thread tmpThread = new Thread(aRunnable, "BackgroundMovieEncoder");
+            tmpThread.setDaemon(true);
+            return tmpThread;
+        });
+        this.encoderFuture = this.executorService.submit(() -> {
+            this.encodeFrames();
+            return null;
+        });
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Adds frame to queue (blocks if queue is full)
+     *
+     * @param anImage Image of frame (must NOT be changed after call)
+     * @throws IllegalArgumentException Thrown if anImage is null
+     * @throws IOException Thrown if background encoder failed before
+     */
+    @Override
+    public void addFrame(BufferedImage anImage) throws IllegalArgumentException, IOException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (anImage == null) {
+            throw new IllegalArgumentException("anImage is null.");
+        }
+        // </editor-fold>
+        this.putFrame(new Frame(anImage, null, anImage.getWidth(), anImage.getHeight()));
+    }
+
+    /**
+     * Adds frame to queue (blocks if queue is full)
+     *
+     * @param aPixels Pixels of frame in integer RGB/ARGB format (must NOT be
+     * changed after call)
+     * @param aWidth Width of frame
+     * @param aHeight Height of frame
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     * @throws IOException Thrown if background encoder failed before
+     */
+    @Override
+    public void addFrame(int[] aPixels, int aWidth, int aHeight) throws IllegalArgumentException, IOException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aWidth < 1 || aHeight < 1) {
+            throw new IllegalArgumentException("aWidth or aHeight is less than 1.");
+        }
+        if (aPixels == null || aPixels.length != aWidth * aHeight) {
+            throw new IllegalArgumentException("aPixels is null or has wrong length.");
+        }
+        // </editor-fold>
+        this.putFrame(new Frame(null, aPixels, aWidth, aHeight));
+    }
+
+    /**
+     * Waits until all queued frames are encoded and closes wrapped movie 
+     * encoder
+     *
+     * @throws IOException Thrown if background encoder failed
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.isClosed) {
+            return;
+        }
+        this.isClosed = true;
+        try {
+            if (!this.encoderFuture.isDone()) {
+                this.frameQueue.put(BackgroundMovieEncoder.END_OF_MOVIE);
+            }
+            this.encoderFuture.get();
+        } catch (InterruptedException anException) {
+            this.encoderFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Movie encoding was interrupted.", anException);
+        } catch (ExecutionException anException) {
+            throw this.getIOException(anException);
+        } finally {
+            this.executorService.shutdown();
+            this.movieEncoder.close();
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Number of frames added so far (including queued frames)
+     *
+     * @return Number of frames added so far
+     */
+    @Override
+    public int getNumberOfFrames() {
+        return this.numberOfFrames;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Puts frame into queue
+     *
+     * @param aFrame Frame
+     * @throws IOException Thrown if encoder is closed or background encoder
+     * failed before
+     */
+    private void putFrame(Frame aFrame) throws IOException {
+        if (this.isClosed) {
+            throw new IOException("Movie encoder is closed.");
+        }
+        try {
+            // NOTE: Offer with repeated check of encoder state so that a 
+            // failed encoder thread does not block caller forever
+            while (!this.frameQueue.offer(aFrame, 100L, TimeUnit.MILLISECONDS)) {
+                if (this.encoderFuture.isDone()) {
+                    break;
+                }
+            }
+            if (this.encoderFuture.isDone()) {
+                this.encoderFuture.get();
+                throw new IOException("Movie encoder thread terminated unexpectedly.");
+            }
+        } catch (InterruptedException anException) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Movie encoding was interrupted.", anException);
+        } catch (ExecutionException anException) {
+            throw this.getIOException(anException);
+        }
+        this.numberOfFrames++;
+    }
+
+    /**
+     * Encodes queued frames until end-of-movie marker (runs in encoder 
+     * thread)
+     *
+     * @throws Exception Thrown if a frame could not be encoded
+     */
+    private void encodeFrames() throws Exception {
+        while (true) {
+            Frame tmpFrame = this.frameQueue.take();
+            if (tmpFrame == BackgroundMovieEncoder.END_OF_MOVIE) {
+                return;
+            }
+            if (tmpFrame.image != null) {
+                this.movieEncoder.addFrame(tmpFrame.image);
+            } else {
+                this.movieEncoder.addFrame(tmpFrame.pixels, tmpFrame.width, tmpFrame.height);
+            }
+        }
+    }
+
+    /**
+     * Returns IOException for execution exception of encoder thread
+     *
+     * @param anExecutionException Execution exception
+     * @return IOException
+     */
+    private IOException getIOException(ExecutionException anExecutionException) {
+        if (anExecutionException.getCause() instanceof IOException) {
+            return (IOException) anExecutionException.getCause();
+        } else {
+            return new IOException("Movie encoding failed.", anExecutionException.getCause());
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private classes">
+    /**
+     * Queued frame
+     */
+    private static class Frame {
+
+        /**
+         * Image (may be null)
+         */
+        final BufferedImage image;
+
+        /**
+         * Pixels (may be null)
+         */
+        final int[] pixels;
+
+        /**
+         * Width
+         */
+        final int width;
+
+        /**
+         * Height
+         */
+        final int height;
+
+        /**
+         * Constructor
+         *
+         * @param anImage Image (may be null)
+         * @param aPixels Pixels (may be null)
+         * @param aWidth Width
+         * @param aHeight Height
+         */
+        Frame(BufferedImage anImage, int[] aPixels, int aWidth, int aHeight) {
+            this.image = anImage;
+            this.pixels = aPixels;
+            this.width = aWidth;
+            this.height = aHeight;
+        }
+
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,75 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.movie;
+
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Interface for movie encoders that stream frames into a movie file
+ *
+ * @author Achim Zielesny
+ */
+public interface IMovieEncoder extends Closeable {
+
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Adds frame. NOTE: All frames must have the same width and height.
+     *
+     * @param anImage Image of frame (must NOT be changed after call)
+     * @throws IllegalArgumentException Thrown if anImage is null or has a 
+     * different size than the first frame
+     * @throws IOException Thrown if frame could not be encoded/written
+     */
+    public void addFrame(BufferedImage anImage) throws IllegalArgumentException, IOException;
+
+    /**
+     * Adds frame. NOTE: All frames must have the same width and height.
+     *
+     * @param aPixels Pixels of frame in integer RGB/ARGB format (alpha is 
+     * ignored, must NOT be changed after call)
+     * @param aWidth Width of frame
+     * @param aHeight Height of frame
+     * @throws IllegalArgumentException Thrown if an argument is illegal or 
+     * frame has a different size than the first frame
+     * @throws IOException Thrown if frame could not be encoded/written
+     */
+    public void addFrame(int[] aPixels, int aWidth, int aHeight) throws IllegalArgumentException, IOException;
+
+    /**
+     * Finishes movie file. NOTE: No frames may be added after close.
+     *
+     * @throws IOException Thrown if movie file could not be finished
+     */
+    @Override
+    public void close() throws IOException;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Number of frames added so far
+     *
+     * @return Number of frames added so far
+     */
+    public int getNumberOfFrames();
+    // </editor-fold>
+
+}
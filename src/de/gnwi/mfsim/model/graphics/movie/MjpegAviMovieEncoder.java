@@ -0,0 +1,618 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.movie;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+/**
+ * Movie encoder for Motion-JPEG in an AVI (RIFF) container. Frames are 
+ * streamed to the movie file, the header fields that depend on the number 
+ * of frames and the frame index are written on close.
+ * <br>
+ * NOTE: This class is NOT thread-safe (see BackgroundMovieEncoder for 
+ * encoding in a background thread).
+ *
+ * @author Achim Zielesny
+ */
+public class MjpegAviMovieEncoder implements IMovieEncoder {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * Size of RIFF headers up to first frame chunk in byte
+     */
+    private static final int HEADER_SIZE = 224;
+
+    /**
+     * File position of RIFF size
+     */
+    private static final int RIFF_SIZE_POSITION = 4;
+
+    /**
+     * File position of avih dwMaxBytesPerSec
+     */
+    private static final int AVIH_MAX_BYTES_PER_SECOND_POSITION = 36;
+
+    /**
+     * File position of avih dwTotalFrames
+     */
+    private static final int AVIH_TOTAL_FRAMES_POSITION = 48;
+
+    /**
+     * File position of avih dwSuggestedBufferSize
+     */
+    private static final int AVIH_SUGGESTED_BUFFER_SIZE_POSITION = 60;
+
+    /**
+     * File position of strh dwLength
+     */
+    private static final int STRH_LENGTH_POSITION = 140;
+
+    /**
+     * File position of strh dwSuggestedBufferSize
+     */
+    private static final int STRH_SUGGESTED_BUFFER_SIZE_POSITION = 144;
+
+    /**
+     * File position of movi LIST size
+     */
+    private static final int MOVI_SIZE_POSITION = 216;
+
+    /**
+     * File position of 'movi' fourcc (reference for idx1 offsets)
+     */
+    private static final int MOVI_FOURCC_POSITION = 220;
+
+    /**
+     * AVIF_HASINDEX flag
+     */
+    private static final int AVIF_HASINDEX = 0x10;
+
+    /**
+     * AVIIF_KEYFRAME flag
+     */
+    private static final int AVIIF_KEYFRAME = 0x10;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Movie file
+     */
+    private final File movieFile;
+
+    /**
+     * Frames per second
+     */
+    private final int framesPerSecond;
+
+    /**
+     * JPEG quality (0.0F = low to 1.0F = high)
+     */
+    private final float jpegQuality;
+
+    /**
+     * JPEG byte buffer
+     */
+    private final ByteArrayOutputStream jpegBuffer;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Output stream to movie file
+     */
+    private OutputStream outputStream;
+
+    /**
+     * Number of bytes written to movie file
+     */
+    private long position;
+
+    /**
+     * Frame width (0 if no frame was added)
+     */
+    private int width;
+
+    /**
+     * Frame height (0 if no frame was added)
+     */
+    private int height;
+
+    /**
+     * Number of frames
+     */
+    private int numberOfFrames;
+
+    /**
+     * Offsets of frame chunks relative to 'movi' fourcc
+     */
+    private int[] frameOffsets;
+
+    /**
+     * Sizes of frame chunk data
+     */
+    private int[] frameSizes;
+
+    /**
+     * Maximum frame chunk data size
+     */
+    private int maximumFrameSize;
+
+    /**
+     * JPEG image writer
+     */
+    private ImageWriter jpegWriter;
+
+    /**
+     * Image for conversion of pixels to RGB image
+     */
+    private BufferedImage rgbImage;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aMovieFile Movie file (is overwritten)
+     * @param aFramesPerSecond Frames per second
+     * @param aJpegQuality JPEG quality (0.0F = low to 1.0F = high)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     * @throws IOException Thrown if movie file could not be created
+     */
+    public MjpegAviMovieEncoder(File aMovieFile, int aFramesPerSecond, float aJpegQuality) throws IllegalArgumentException, IOException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aMovieFile == null) {
+            throw new IllegalArgumentException("aMovieFile is null.");
+        }
+        if (aFramesPerSecond < 1) {
+            throw new IllegalArgumentException("aFramesPerSecond is less than 1.");
+        }
+        if (aJpegQuality < 0.0f || aJpegQuality > 1.0f) {
+            throw new IllegalArgumentException("aJpegQuality is not in interval [0, 1].");
+        }
+        // </editor-fold>
+        this.movieFile = aMovieFile;
+        this.framesPerSecond = aFramesPerSecond;
+        this.jpegQuality = aJpegQuality;
+        this.jpegBuffer = new ByteArrayOutputStream(65536);
+        this.frameOffsets = new int[256];
+        this.frameSizes = new int[256];
+        this.numberOfFrames = 0;
+        this.maximumFrameSize = 0;
+        this.width = 0;
+        this.height = 0;
+        this.outputStream = new BufferedOutputStream(new FileOutputStream(aMovieFile), 65536);
+        this.position = 0L;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Adds frame. NOTE: All frames must have the same width and height.
+     *
+     * @param anImage Image of frame
+     * @throws IllegalArgumentException Thrown if anImage is null or has a 
+     * different size than the first frame
+     * @throws IOException Thrown if frame could not be encoded/written
+     */
+    @Override
+    public void addFrame(BufferedImage anImage) throws IllegalArgumentException, IOException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (anImage == null) {
+            throw new IllegalArgumentException("anImage is null.");
+        }
+        // </editor-fold>
+        BufferedImage tmpImage = anImage;
+        if (anImage.getType() != BufferedImage.TYPE_INT_RGB && anImage.getType() != BufferedImage.TYPE_3BYTE_BGR) {
+            // NOTE: JPEG image writer does not support alpha channel
+            tmpImage = this.getRgbImage(anImage.getWidth(), anImage.getHeight());
+            tmpImage.getGraphics().drawImage(anImage, 0, 0, null);
+        }
+        this.addJpegFrame(this.encodeJpeg(tmpImage), anImage.getWidth(), anImage.getHeight());
+    }
+
+    /**
+     * Adds frame. NOTE: All frames must have the same width and height.
+     *
+     * @param aPixels Pixels of frame in integer RGB/ARGB format (alpha is 
+     * ignored)
+     * @param aWidth Width of frame
+     * @param aHeight Height of frame
+     * @throws IllegalArgumentException Thrown if an argument is illegal or 
+     * frame has a different size than the first frame
+     * @throws IOException Thrown if frame could not be encoded/written
+     */
+    @Override
+    public void addFrame(int[] aPixels, int aWidth, int aHeight) throws IllegalArgumentException, IOException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aWidth < 1 || aHeight < 1) {
+            throw new IllegalArgumentException("aWidth or aHeight is less than 1.");
+        }
+        if (aPixels == null || aPixels.length != aWidth * aHeight) {
+            throw new IllegalArgumentException("aPixels is null or has wrong length.");
+        }
+        // </editor-fold>
+        BufferedImage tmpImage = this.getRgbImage(aWidth, aHeight);
+        tmpImage.getRaster().setDataElements(0, 0, aWidth, aHeight, aPixels);
+        this.addJpegFrame(this.encodeJpeg(tmpImage), aWidth, aHeight);
+    }
+
+    /**
+     * Adds already JPEG encoded frame (e.g. the content of a JPEG file) 
+     * without re-encoding. NOTE: All frames must have the same width and 
+     * height.
+     *
+     * @param aJpegBytes JPEG bytes
+     * @throws IllegalArgumentException Thrown if aJpegBytes are no valid 
+     * JPEG data or the frame has a different size than the first frame
+     * @throws IOException Thrown if frame could not be written
+     */
+    public void addJpegFrame(byte[] aJpegBytes) throws IllegalArgumentException, IOException {
+        int[] tmpSize = MjpegAviMovieEncoder.getJpegSize(aJpegBytes);
+        if (tmpSize == null) {
+            throw new IllegalArgumentException("aJpegBytes are no valid JPEG data.");
+        }
+        this.addJpegFrame(aJpegBytes, tmpSize[0], tmpSize[1]);
+    }
+
+    /**
+     * Finishes movie file: Writes frame index and sets header fields
+     *
+     * @throws IOException Thrown if movie file could not be finished
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.outputStream == null) {
+            return;
+        }
+        try {
+            if (this.numberOfFrames == 0) {
+                // Empty movie: Write headers only
+                this.writeHeaders();
+            }
+            // <editor-fold defaultstate="collapsed" desc="Write idx1">
+            long tmpMoviEndPosition = this.position;
+            this.writeFourCc("idx1");
+            this.writeInt(this.numberOfFrames * 16);
+            for (int i = 0; i < this.numberOfFrames; i++) {
+                this.writeFourCc("00dc");
+                this.writeInt(MjpegAviMovieEncoder.AVIIF_KEYFRAME);
+                this.writeInt(this.frameOffsets[i]);
+                this.writeInt(this.frameSizes[i]);
+            }
+            // </editor-fold>
+            this.outputStream.close();
+            this.outputStream = null;
+            // <editor-fold defaultstate="collapsed" desc="Patch header fields">
+            try (RandomAccessFile tmpRandomAccessFile = new RandomAccessFile(this.movieFile, "rw")) {
+                this.patchInt(tmpRandomAccessFile, MjpegAviMovieEncoder.RIFF_SIZE_POSITION, (int) (this.position - 8L));
+                this.patchInt(tmpRandomAccessFile, MjpegAviMovieEncoder.AVIH_MAX_BYTES_PER_SECOND_POSITION, this.maximumFrameSize * this.framesPerSecond);
+                this.patchInt(tmpRandomAccessFile, MjpegAviMovieEncoder.AVIH_TOTAL_FRAMES_POSITION, this.numberOfFrames);
+                this.patchInt(tmpRandomAccessFile, MjpegAviMovieEncoder.AVIH_SUGGESTED_BUFFER_SIZE_POSITION, this.maximumFrameSize + 8);
+                this.patchInt(tmpRandomAccessFile, MjpegAviMovieEncoder.STRH_LENGTH_POSITION, this.numberOfFrames);
+                this.patchInt(tmpRandomAccessFile, MjpegAviMovieEncoder.STRH_SUGGESTED_BUFFER_SIZE_POSITION, this.maximumFrameSize + 8);
+                this.patchInt(tmpRandomAccessFile, MjpegAviMovieEncoder.MOVI_SIZE_POSITION, (int) (tmpMoviEndPosition - MjpegAviMovieEncoder.MOVI_FOURCC_POSITION));
+            }
+            // </editor-fold>
+        } finally {
+            if (this.outputStream != null) {
+                this.outputStream.close();
+                this.outputStream = null;
+            }
+            if (this.jpegWriter != null) {
+                this.jpegWriter.dispose();
+                this.jpegWriter = null;
+            }
+            this.rgbImage = null;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Number of frames added so far
+     *
+     * @return Number of frames added so far
+     */
+    @Override
+    public int getNumberOfFrames() {
+        return this.numberOfFrames;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private static methods">
+    /**
+     * Returns width and height of JPEG data from start-of-frame marker
+     *
+     * @param aJpegBytes JPEG bytes
+     * @return Width (index 0) and height (index 1) or null if JPEG data are
+     * invalid
+     */
+    private static int[] getJpegSize(byte[] aJpegBytes) {
+        if (aJpegBytes == null || aJpegBytes.length < 4 || (aJpegBytes[0] & 0xFF) != 0xFF || (aJpegBytes[1] & 0xFF) != 0xD8) {
+            return null;
+        }
+        int tmpIndex = 2;
+        while (tmpIndex + 9 < aJpegBytes.length) {
+            if ((aJpegBytes[tmpIndex] & 0xFF) != 0xFF) {
+                return null;
+            }
+            int tmpMarker = aJpegBytes[tmpIndex + 1] & 0xFF;
+            if (tmpMarker == 0xFF) {
+                // Fill byte
+                tmpIndex++;
+                continue;
+            }
+            int tmpSegmentLength = ((aJpegBytes[tmpIndex + 2] & 0xFF) << 8) | (aJpegBytes[tmpIndex + 3] & 0xFF);
+            // Start-of-frame markers SOF0 - SOF15 without DHT (C4), JPG (C8) and DAC (CC)
+            if (tmpMarker >= 0xC0 && tmpMarker <= 0xCF && tmpMarker != 0xC4 && tmpMarker != 0xC8 && tmpMarker != 0xCC) {
+                int tmpHeight = ((aJpegBytes[tmpIndex + 5] & 0xFF) << 8) | (aJpegBytes[tmpIndex + 6] & 0xFF);
+                int tmpWidth = ((aJpegBytes[tmpIndex + 7] & 0xFF) << 8) | (aJpegBytes[tmpIndex + 8] & 0xFF);
+                return new int[] {tmpWidth, tmpHeight};
+            }
+            tmpIndex += 2 + tmpSegmentLength;
+        }
+        return null;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Adds JPEG frame
+     *
+     * @param aJpegBytes JPEG bytes
+     * @param aWidth Width of frame
+     * @param aHeight Height of frame
+     * @throws IllegalArgumentException Thrown if frame has a different size
+     * than the first frame
+     * @throws IOException Thrown if frame could not be written
+     */
+    private void addJpegFrame(byte[] aJpegBytes, int aWidth, int aHeight) throws IllegalArgumentException, IOException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (this.outputStream == null) {
+            throw new IOException("Movie encoder is closed.");
+        }
+        if (this.numberOfFrames > 0 && (aWidth != this.width || aHeight != this.height)) {
+            throw new IllegalArgumentException("Frame size differs from size of first frame.");
+        }
+        // </editor-fold>
+        if (this.numberOfFrames == 0) {
+            this.width = aWidth;
+            this.height = aHeight;
+            this.writeHeaders();
+        }
+        if (this.numberOfFrames == this.frameOffsets.length) {
+            this.frameOffsets = Arrays.copyOf(this.frameOffsets, this.numberOfFrames * 2);
+            this.frameSizes = Arrays.copyOf(this.frameSizes, this.numberOfFrames * 2);
+        }
+        this.frameOffsets[this.numberOfFrames] = (int) (this.position - MjpegAviMovieEncoder.MOVI_FOURCC_POSITION);
+        this.frameSizes[this.numberOfFrames] = aJpegBytes.length;
+        this.maximumFrameSize = Math.max(this.maximumFrameSize, aJpegBytes.length);
+        this.numberOfFrames++;
+        this.writeFourCc("00dc");
+        this.writeInt(aJpegBytes.length);
+        this.write(aJpegBytes, aJpegBytes.length);
+        if (aJpegBytes.length % 2 != 0) {
+            // RIFF chunks are word aligned
+            this.outputStream.write(0);
+            this.position++;
+        }
+    }
+
+    /**
+     * Writes RIFF headers up to 'movi' fourcc (size dependent fields are 
+     * patched on close)
+     *
+     * @throws IOException Thrown if headers could not be written
+     */
+    private void writeHeaders() throws IOException {
+        // RIFF 'AVI '
+        this.writeFourCc("RIFF");
+        this.writeInt(0);
+        this.writeFourCc("AVI ");
+        // LIST 'hdrl'
+        this.writeFourCc("LIST");
+        this.writeInt(192);
+        this.writeFourCc("hdrl");
+        // <editor-fold defaultstate="collapsed" desc="avih (main AVI header)">
+        this.writeFourCc("avih");
+        this.writeInt(56);
+        this.writeInt(1000000 / this.framesPerSecond);
+        this.writeInt(0);
+        this.writeInt(0);
+        this.writeInt(MjpegAviMovieEncoder.AVIF_HASINDEX);
+        this.writeInt(0);
+        this.writeInt(0);
+        this.writeInt(1);
+        this.writeInt(0);
+        this.writeInt(this.width);
+        this.writeInt(this.height);
+        this.writeInt(0);
+        this.writeInt(0);
+        this.writeInt(0);
+        this.writeInt(0);
+        // </editor-fold>
+        // LIST 'strl'
+        this.writeFourCc("LIST");
+        this.writeInt(116);
+        this.writeFourCc("strl");
+        // <editor-fold defaultstate="collapsed" desc="strh (stream header)">
+        this.writeFourCc("strh");
+        this.writeInt(56);
+        this.writeFourCc("vids");
+        this.writeFourCc("MJPG");
+        this.writeInt(0);
+        this.writeInt(0);
+        this.writeInt(0);
+        this.writeInt(1);
+        this.writeInt(this.framesPerSecond);
+        this.writeInt(0);
+        this.writeInt(0);
+        this.writeInt(0);
+        this.writeInt(-1);
+        this.writeInt(0);
+        this.writeShort(0);
+        this.writeShort(0);
+        this.writeShort(this.width);
+        this.writeShort(this.height);
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="strf (BITMAPINFOHEADER)">
+        this.writeFourCc("strf");
+        this.writeInt(40);
+        this.writeInt(40);
+        this.writeInt(this.width);
+        this.writeInt(this.height);
+        this.writeShort(1);
+        this.writeShort(24);
+        this.writeFourCc("MJPG");
+        this.writeInt(this.width * this.height * 3);
+        this.writeInt(0);
+        this.writeInt(0);
+        this.writeInt(0);
+        this.writeInt(0);
+        // </editor-fold>
+        // LIST 'movi'
+        this.writeFourCc("LIST");
+        this.writeInt(0);
+        this.writeFourCc("movi");
+        if (this.position != MjpegAviMovieEncoder.HEADER_SIZE) {
+            throw new IOException("Unexpected AVI header size.");
+        }
+    }
+
+    /**
+     * Encodes image to JPEG bytes
+     *
+     * @param anImage Image without alpha channel
+     * @return JPEG bytes
+     * @throws IOException Thrown if image could not be encoded
+     */
+    private byte[] encodeJpeg(BufferedImage anImage) throws IOException {
+        if (this.jpegWriter == null) {
+            Iterator<ImageWriter> tmpIterator = ImageIO.getImageWritersByFormatName("jpg");
+            if (!tmpIterator.hasNext()) {
+                throw new IOException("No JPEG image writer available.");
+            }
+            this.jpegWriter = tmpIterator.next();
+        }
+        this.jpegBuffer.reset();
+        try (ImageOutputStream tmpImageOutputStream = new MemoryCacheImageOutputStream(this.jpegBuffer)) {
+            this.jpegWriter.setOutput(tmpImageOutputStream);
+            ImageWriteParam tmpParameters = this.jpegWriter.getDefaultWriteParam();
+            tmpParameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            tmpParameters.setCompressionQuality(this.jpegQuality);
+            this.jpegWriter.write(null, new IIOImage(anImage, null, null), tmpParameters);
+            tmpImageOutputStream.flush();
+        }
+        return this.jpegBuffer.toByteArray();
+    }
+
+    /**
+     * Returns (reused) RGB image of specified size
+     *
+     * @param aWidth Width
+     * @param aHeight Height
+     * @return RGB image
+     */
+    private BufferedImage getRgbImage(int aWidth, int aHeight) {
+        if (this.rgbImage == null || this.rgbImage.getWidth() != aWidth || this.rgbImage.getHeight() != aHeight) {
+            this.rgbImage = new BufferedImage(aWidth, aHeight, BufferedImage.TYPE_INT_RGB);
+        }
+        return this.rgbImage;
+    }
+
+    /**
+     * Patches little-endian integer at file position
+     *
+     * @param aRandomAccessFile Random access file
+     * @param aPosition File position
+     * @param aValue Value
+     * @throws IOException Thrown if value could not be written
+     */
+    private void patchInt(RandomAccessFile aRandomAccessFile, long aPosition, int aValue) throws IOException {
+        aRandomAccessFile.seek(aPosition);
+        aRandomAccessFile.write(new byte[] {(byte) aValue, (byte) (aValue >>> 8), (byte) (aValue >>> 16), (byte) (aValue >>> 24)});
+    }
+
+    /**
+     * Writes four character code
+     *
+     * @param aFourCc Four character code
+     * @throws IOException Thrown if value could not be written
+     */
+    private void writeFourCc(String aFourCc) throws IOException {
+        byte[] tmpBytes = aFourCc.getBytes(StandardCharsets.US_ASCII);
+        this.write(tmpBytes, 4);
+    }
+
+    /**
+     * Writes little-endian integer
+     *
+     * @param aValue Value
+     * @throws IOException Thrown if value could not be written
+     */
+    private void writeInt(int aValue) throws IOException {
+        this.outputStream.write(aValue);
+        this.outputStream.write(aValue >>> 8);
+        this.outputStream.write(aValue >>> 16);
+        this.outputStream.write(aValue >>> 24);
+        this.position += 4L;
+    }
+
+    /**
+     * Writes little-endian short
+     *
+     * @param aValue Value
+     * @throws IOException Thrown if value could not be written
+     */
+    private void writeShort(int aValue) throws IOException {
+        this.outputStream.write(aValue);
+        this.outputStream.write(aValue >>> 8);
+        this.position += 2L;
+    }
+
+    /**
+     * Writes bytes
+     *
+     * @param aBytes Bytes
+     * @param aLength Number of bytes to write
+     * @throws IOException Thrown if bytes could not be written
+     */
+    private void write(byte[] aBytes, int aLength) throws IOException {
+        this.outputStream.write(aBytes, 0, aLength);
+        this.position += aLength;
+    }
+    // </editor-fold>
+
+}
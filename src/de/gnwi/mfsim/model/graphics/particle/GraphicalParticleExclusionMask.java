@@ -0,0 +1,223 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.particle;
+
+import java.util.BitSet;
+import java.util.HashMap;
+
+/**
+ * Exclusion settings of graphical particles compiled into integer type IDs 
+ * and bitsets: Every distinct molecule name and particle gets an integer 
+ * type ID and exclusions are stored in a molecule-type mask, a particle-type
+ * mask and a molecule-type x particle-type mask. The masks are evaluated 
+ * once for every entry of a graphical particle table (see 
+ * GraphicalParticlePositionStore.getGraphicalParticles()) so that the 
+ * per-particle filtering reduces to array lookups.
+ * NOTE: Instance reflects the exclusion settings at construction time.
+ *
+ * @author Achim Zielesny
+ */
+public class GraphicalParticleExclusionMask {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Molecule type ID of graphical particle table entry
+     */
+    private final int[] moleculeTypeIds;
+
+    /**
+     * Particle type ID of graphical particle table entry
+     */
+    private final int[] particleTypeIds;
+
+    /**
+     * Number of distinct particle types
+     */
+    private final int numberOfParticleTypes;
+
+    /**
+     * Bit of molecule type ID is set if molecule is excluded
+     */
+    private final BitSet moleculeTypeMask;
+
+    /**
+     * Bit of particle type ID is set if particle is excluded
+     */
+    private final BitSet particleTypeMask;
+
+    /**
+     * Bit of (molecule type ID * number of particle types + particle type ID)
+     * is set if molecule-particle combination is excluded
+     */
+    private final BitSet moleculeParticleTypeMask;
+
+    /**
+     * True: Graphical particle table entry is excluded by molecule, particle 
+     * or molecule-particle exclusion, false: Otherwise
+     */
+    private final boolean[] isExcluded;
+
+    /**
+     * True: Graphical particle table entry is excluded by molecule-particle 
+     * exclusion, false: Otherwise
+     */
+    private final boolean[] isMoleculeParticleExcluded;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aGraphicalParticles Graphical particle table (entries must be 
+     * instances of GraphicalParticle)
+     * @param anExcludedMoleculesTable Excluded molecules (keys are molecule names)
+     * @param anExcludedParticlesTable Excluded particles (keys are particles)
+     * @param anExcludedMoleculeParticleStringTable Excluded molecule-particle 
+     * strings (keys are molecule-particle strings)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public GraphicalParticleExclusionMask(
+        IGraphicalParticle[] aGraphicalParticles,
+        HashMap<String, String> anExcludedMoleculesTable,
+        HashMap<String, String> anExcludedParticlesTable,
+        HashMap<String, String> anExcludedMoleculeParticleStringTable
+    ) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aGraphicalParticles == null) {
+            throw new IllegalArgumentException("GraphicalParticleExclusionMask: aGraphicalParticles is null.");
+        }
+        if (anExcludedMoleculesTable == null || anExcludedParticlesTable == null || anExcludedMoleculeParticleStringTable == null) {
+            throw new IllegalArgumentException("GraphicalParticleExclusionMask: An exclusion table is null.");
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Type IDs">
+        HashMap<String, Integer> tmpMoleculeNameToTypeIdMap = new HashMap<>();
+        HashMap<String, Integer> tmpParticleToTypeIdMap = new HashMap<>();
+        this.moleculeTypeIds = new int[aGraphicalParticles.length];
+        this.particleTypeIds = new int[aGraphicalParticles.length];
+        for (int i = 0; i < aGraphicalParticles.length; i++) {
+            GraphicalParticle tmpGraphicalParticle = (GraphicalParticle) aGraphicalParticles[i];
+            Integer tmpMoleculeTypeId = tmpMoleculeNameToTypeIdMap.get(tmpGraphicalParticle.getMoleculeName());
+            if (tmpMoleculeTypeId == null) {
+                tmpMoleculeTypeId = tmpMoleculeNameToTypeIdMap.size();
+                tmpMoleculeNameToTypeIdMap.put(tmpGraphicalParticle.getMoleculeName(), tmpMoleculeTypeId);
+            }
+            Integer tmpParticleTypeId = tmpParticleToTypeIdMap.get(tmpGraphicalParticle.getParticle());
+            if (tmpParticleTypeId == null) {
+                tmpParticleTypeId = tmpParticleToTypeIdMap.size();
+                tmpParticleToTypeIdMap.put(tmpGraphicalParticle.getParticle(), tmpParticleTypeId);
+            }
+            this.moleculeTypeIds[i] = tmpMoleculeTypeId;
+            this.particleTypeIds[i] = tmpParticleTypeId;
+        }
+        this.numberOfParticleTypes = tmpParticleToTypeIdMap.size();
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Masks">
+        this.moleculeTypeMask = new BitSet(tmpMoleculeNameToTypeIdMap.size());
+        this.particleTypeMask = new BitSet(this.numberOfParticleTypes);
+        this.moleculeParticleTypeMask = new BitSet(tmpMoleculeNameToTypeIdMap.size() * this.numberOfParticleTypes);
+        for (int i = 0; i < aGraphicalParticles.length; i++) {
+            GraphicalParticle tmpGraphicalParticle = (GraphicalParticle) aGraphicalParticles[i];
+            if (anExcludedMoleculesTable.containsKey(tmpGraphicalParticle.getMoleculeName())) {
+                this.moleculeTypeMask.set(this.moleculeTypeIds[i]);
+            }
+            if (anExcludedParticlesTable.containsKey(tmpGraphicalParticle.getParticle())) {
+                this.particleTypeMask.set(this.particleTypeIds[i]);
+            }
+            if (anExcludedMoleculeParticleStringTable.containsKey(tmpGraphicalParticle.getMoleculeParticleString())) {
+                this.moleculeParticleTypeMask.set(this.getMoleculeParticleTypeId(i));
+            }
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Graphical particle table entries">
+        this.isExcluded = new boolean[aGraphicalParticles.length];
+        this.isMoleculeParticleExcluded = new boolean[aGraphicalParticles.length];
+        for (int i = 0; i < aGraphicalParticles.length; i++) {
+            this.isMoleculeParticleExcluded[i] = this.moleculeParticleTypeMask.get(this.getMoleculeParticleTypeId(i));
+            this.isExcluded[i] = 
+                this.moleculeTypeMask.get(this.moleculeTypeIds[i])
+                || this.particleTypeMask.get(this.particleTypeIds[i])
+                || this.isMoleculeParticleExcluded[i];
+        }
+        // </editor-fold>
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Returns if graphical particle table entry is excluded by molecule, 
+     * particle or molecule-particle exclusion
+     * (No checks are performed)
+     *
+     * @param aGraphicalParticleIndex Index of graphical particle table entry
+     * @return True: Entry is excluded, false: Otherwise
+     */
+    public boolean isExcluded(int aGraphicalParticleIndex) {
+        return this.isExcluded[aGraphicalParticleIndex];
+    }
+
+    /**
+     * Returns if graphical particle table entry is excluded by 
+     * molecule-particle exclusion
+     * (No checks are performed)
+     *
+     * @param aGraphicalParticleIndex Index of graphical particle table entry
+     * @return True: Entry is excluded, false: Otherwise
+     */
+    public boolean isMoleculeParticleExcluded(int aGraphicalParticleIndex) {
+        return this.isMoleculeParticleExcluded[aGraphicalParticleIndex];
+    }
+
+    /**
+     * Molecule type ID of graphical particle table entry
+     * (No checks are performed)
+     *
+     * @param aGraphicalParticleIndex Index of graphical particle table entry
+     * @return Molecule type ID
+     */
+    public int getMoleculeTypeId(int aGraphicalParticleIndex) {
+        return this.moleculeTypeIds[aGraphicalParticleIndex];
+    }
+
+    /**
+     * Particle type ID of graphical particle table entry
+     * (No checks are performed)
+     *
+     * @param aGraphicalParticleIndex Index of graphical particle table entry
+     * @return Particle type ID
+     */
+    public int getParticleTypeId(int aGraphicalParticleIndex) {
+        return this.particleTypeIds[aGraphicalParticleIndex];
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Molecule-particle type ID of graphical particle table entry
+     *
+     * @param aGraphicalParticleIndex Index of graphical particle table entry
+     * @return Molecule-particle type ID
+     */
+    private int getMoleculeParticleTypeId(int aGraphicalParticleIndex) {
+        return this.moleculeTypeIds[aGraphicalParticleIndex] * this.numberOfParticleTypes + this.particleTypeIds[aGraphicalParticleIndex];
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,159 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.particle;
+
+import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
+import de.gnwi.mfsim.model.graphics.GraphicsUtilityMethods;
+
+/**
+ * Immutable buffer with the (filtered and shifted) graphical particle 
+ * positions of a single simulation step. Frames of a spin or move sequence 
+ * that only differ in rotation are derived from this buffer: Each frame 
+ * obtains its own GraphicalParticlePositionArrayList with rotated copies of 
+ * the buffered positions, i.e. the step is filtered only once and frames may 
+ * be rendered in parallel.
+ * NOTE: The buffered positions are never handed out, so the buffer is 
+ * thread-safe after construction.
+ *
+ * @author Achim Zielesny
+ */
+public class GraphicalParticlePositionFrameBuffer {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Graphics utility methods
+     */
+    private final GraphicsUtilityMethods graphicsUtilityMethods = new GraphicsUtilityMethods();
+
+    /**
+     * Buffered graphical particle positions (private copies)
+     */
+    private final GraphicalParticlePosition[] graphicalParticlePositions;
+
+    /**
+     * Box size info of buffered graphical particle positions (private copy)
+     */
+    private final BoxSizeInfo boxSizeInfo;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructors">
+    /**
+     * Constructor
+     * NOTE: Graphical particle positions are copied, aGraphicalParticlePositionArrayList 
+     * is NOT changed.
+     *
+     * @param aGraphicalParticlePositionArrayList Graphical particle positions to be buffered
+     * @param aBoxSizeInfo Box size info of graphical particle positions
+     * @throws IllegalArgumentException Thrown if an argument is null
+     */
+    public GraphicalParticlePositionFrameBuffer(
+        GraphicalParticlePositionArrayList aGraphicalParticlePositionArrayList, 
+        BoxSizeInfo aBoxSizeInfo
+    ) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aGraphicalParticlePositionArrayList == null) {
+            throw new IllegalArgumentException("aGraphicalParticlePositionArrayList is null.");
+        }
+        if (aBoxSizeInfo == null) {
+            throw new IllegalArgumentException("aBoxSizeInfo is null.");
+        }
+        // </editor-fold>
+        GraphicalParticlePosition[] tmpGraphicalParticlePositions = aGraphicalParticlePositionArrayList.getSizedGraphicalParticlePositions();
+        this.graphicalParticlePositions = new GraphicalParticlePosition[tmpGraphicalParticlePositions.length];
+        for (int i = 0; i < tmpGraphicalParticlePositions.length; i++) {
+            this.graphicalParticlePositions[i] = tmpGraphicalParticlePositions[i].getClone();
+        }
+        this.boxSizeInfo = aBoxSizeInfo.getClone();
+    }
+
+    /**
+     * Constructor: Buffers the current graphical particle positions and the 
+     * current box size info of aGraphicalParticlePositionInfo.
+     * NOTE: aGraphicalParticlePositionInfo is NOT changed.
+     *
+     * @param aGraphicalParticlePositionInfo Graphical particle position info
+     * @throws IllegalArgumentException Thrown if argument is null
+     */
+    public GraphicalParticlePositionFrameBuffer(GraphicalParticlePositionInfo aGraphicalParticlePositionInfo) throws IllegalArgumentException {
+        this(
+            aGraphicalParticlePositionInfo == null ? null : aGraphicalParticlePositionInfo.getCurrentGraphicalParticlePositionArrayList(),
+            aGraphicalParticlePositionInfo == null ? null : aGraphicalParticlePositionInfo.getCurrentBoxSizeInfo()
+        );
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Returns new GraphicalParticlePositionArrayList with copies of the 
+     * buffered graphical particle positions that are rotated around the mid 
+     * point of the box (rotation is always applied to the buffered and NOT to 
+     * previously rotated positions).
+     * NOTE: Thread-safe, this instance is NOT changed.
+     *
+     * @param aRotationAroundXaxisAngle Angle for rotation around x axis in degree
+     * @param aRotationAroundYaxisAngle Angle for rotation around y axis in degree
+     * @param aRotationAroundZaxisAngle Angle for rotation around z axis in degree
+     * @return New GraphicalParticlePositionArrayList with rotated graphical 
+     * particle positions
+     */
+    public GraphicalParticlePositionArrayList getRotatedGraphicalParticlePositionArrayList(
+        double aRotationAroundXaxisAngle, 
+        double aRotationAroundYaxisAngle, 
+        double aRotationAroundZaxisAngle
+    ) {
+        GraphicalParticlePositionArrayList tmpGraphicalParticlePositionArrayList = 
+            new GraphicalParticlePositionArrayList(Math.max(1, this.graphicalParticlePositions.length));
+        for (GraphicalParticlePosition tmpGraphicalParticlePosition : this.graphicalParticlePositions) {
+            tmpGraphicalParticlePositionArrayList.add(tmpGraphicalParticlePosition.getClone());
+        }
+        if (aRotationAroundXaxisAngle != 0.0 || aRotationAroundYaxisAngle != 0.0 || aRotationAroundZaxisAngle != 0.0) {
+            this.graphicsUtilityMethods.rotatePoints(
+                tmpGraphicalParticlePositionArrayList,
+                aRotationAroundXaxisAngle,
+                aRotationAroundYaxisAngle,
+                aRotationAroundZaxisAngle,
+                this.boxSizeInfo.getBoxMidPoint()
+            );
+        }
+        return tmpGraphicalParticlePositionArrayList;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Box size info of buffered graphical particle positions
+     *
+     * @return New copy of box size info of buffered graphical particle positions
+     */
+    public BoxSizeInfo getBoxSizeInfo() {
+        return this.boxSizeInfo.getClone();
+    }
+
+    /**
+     * Number of buffered graphical particle positions
+     *
+     * @return Number of buffered graphical particle positions
+     */
+    public int getSize() {
+        return this.graphicalParticlePositions.length;
+    }
+    // </editor-fold>
+
+}
@@ -37,7 +37,9 @@ import de.gnwi.mfsim.model.valueItem.ValueItemEnumDataType;
 import de.gnwi.mfsim.model.valueItem.ValueItemMatrixElement;
 import de.gnwi.mfsim.model.valueItem.ValueItemUpdateNotifierInterface;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.stream.IntStream;
 import de.gnwi.mfsim.model.preference.ModelDefinitions;
 
 /**
@@ -49,6 +51,21 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
 
     // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
     private final static String MOLECULE_SELECTION_VALUE_ITEM_NAME = "MOLECULE_SELECTION_VALUE_ITEM";
+
+    /**
+     * Filter result: Graphical particle position is excluded
+     */
+    private static final byte FILTER_RESULT_EXCLUDED = 0;
+
+    /**
+     * Filter result: Graphical particle position is included
+     */
+    private static final byte FILTER_RESULT_INCLUDED = 1;
+
+    /**
+     * Filter result: Graphical particle position is included and selected
+     */
+    private static final byte FILTER_RESULT_SELECTED = 2;
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Private final class variables">
@@ -63,9 +80,9 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
     private final StringUtilityMethods stringUtilityMethods = new StringUtilityMethods();
     
     /**
-     * Initial graphical particle positions
+     * Initial graphical particle positions (structure-of-arrays store)
      */
-    private final GraphicalParticlePosition[] initialGraphicalParticlePositions;
+    private final GraphicalParticlePositionStore initialGraphicalParticlePositionStore;
 
     /**
      * Initial box size info
@@ -132,6 +149,12 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
      */
     private MoleculeSelectionManager moleculeSelectionManager;
 
+    /**
+     * Filter results for initial graphical particle positions (reused, see
+     * getFilterResults())
+     */
+    private byte[] filterResults;
+
     /**
      * Map from current molecule index to corresponding minimum particle index
      */
@@ -174,10 +197,41 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
         double aLengthConversionFactor,
         int aMinMoleculeIndex,
         int aMaxMoleculeIndex
+    ) {
+        this(
+            aGraphicalParticleInfo,
+            GraphicalParticlePositionStore.fromGraphicalParticlePositions(anInitialGraphicalParticlePositions),
+            aBoxSizeInfo,
+            aLengthConversionFactor,
+            aMinMoleculeIndex,
+            aMaxMoleculeIndex
+        );
+    }
+
+    /**
+     * Constructor.
+     * NOTE: NO checks performed.
+     *
+     * @param aGraphicalParticleInfo GraphicalParticleInfo instance
+     * @param anInitialGraphicalParticlePositionStore Store with initial 
+     * graphical particle positions (index corresponds to particle index)
+     * @param aBoxSizeInfo Box size info
+     * @param aLengthConversionFactor Factor that converts DPD length to
+     * physical length (Angstrom since particle volumes are in Angstrom^3)
+     * @param aMinMoleculeIndex Minimum molecule index (-1 means NOT defined)
+     * @param aMaxMoleculeIndex Maximum molecule index (-1 means NOT defined)
+     */
+    public GraphicalParticlePositionInfo(
+        GraphicalParticleInfo aGraphicalParticleInfo, 
+        GraphicalParticlePositionStore anInitialGraphicalParticlePositionStore,
+        BoxSizeInfo aBoxSizeInfo, 
+        double aLengthConversionFactor,
+        int aMinMoleculeIndex,
+        int aMaxMoleculeIndex
     ) {
         this.graphicalParticleInfo = aGraphicalParticleInfo;
-        this.initialGraphicalParticlePositions = anInitialGraphicalParticlePositions;
-        this.currentGraphicalParticlePositionArrayList = new GraphicalParticlePositionArrayList(this.initialGraphicalParticlePositions.length);
+        this.initialGraphicalParticlePositionStore = anInitialGraphicalParticlePositionStore;
+        this.currentGraphicalParticlePositionArrayList = new GraphicalParticlePositionArrayList(Math.max(this.initialGraphicalParticlePositionStore.getSize(), 1));
         this.selectionInfoStringToGraphicalParticleMap = new HashMap<>(ModelDefinitions.DEFEAULT_NUMBER_OF_SELECTED_MOLECULE_PARTICLE_STRINGS);
         this.initialBoxSizeInfo = aBoxSizeInfo;
         this.currentBoxSizeInfo = this.initialBoxSizeInfo.getClone();
@@ -201,7 +255,7 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
      * NOTE: NO checks performed.
      *
      * @param aGraphicalParticleInfo GraphicalParticleInfo instance
-     * @param anInitialGraphicalParticlePositions Initial graphical particle positions
+     * @param anInitialGraphicalParticlePositionStore Store with initial graphical particle positions
      * @param aCurrentGraphicalParticlePositionArrayList Current graphical particle position array list
      * @param aCurrentMoleculeIndexToMinParticleIndexMap Map from current molecule index to corresponding minimum particle index
      * @param aCurrentMoleculeNameToMinMoleculeIndexRepresentationMap Map from current molecule name to minimum molecule index representation
@@ -218,7 +272,7 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
      */
     private GraphicalParticlePositionInfo(
         GraphicalParticleInfo aGraphicalParticleInfo,
-        GraphicalParticlePosition[] anInitialGraphicalParticlePositions,
+        GraphicalParticlePositionStore anInitialGraphicalParticlePositionStore,
         GraphicalParticlePositionArrayList aCurrentGraphicalParticlePositionArrayList,
         HashMap<Integer, Integer> aCurrentMoleculeIndexToMinParticleIndexMap,
         HashMap<String, Integer> aCurrentMoleculeNameToMinMoleculeIndexRepresentationMap,
@@ -234,7 +288,7 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
         int aMaxMoleculeIndex
     ) {
         this.graphicalParticleInfo = aGraphicalParticleInfo;
-        this.initialGraphicalParticlePositions = anInitialGraphicalParticlePositions;
+        this.initialGraphicalParticlePositionStore = anInitialGraphicalParticlePositionStore;
         this.currentGraphicalParticlePositionArrayList = aCurrentGraphicalParticlePositionArrayList;
         this.currentMoleculeIndexToMinParticleIndexMap = aCurrentMoleculeIndexToMinParticleIndexMap;
         this.currentMoleculeNameToMinMoleculeIndexRepresentationMap = aCurrentMoleculeNameToMinMoleculeIndexRepresentationMap;
@@ -299,7 +353,7 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
     public GraphicalParticlePositionInfo getClone() {
         return new GraphicalParticlePositionInfo(
             this.graphicalParticleInfo,
-            this.initialGraphicalParticlePositions,
+            this.initialGraphicalParticlePositionStore,
             this.currentGraphicalParticlePositionArrayList.getClone(),
             this.currentMoleculeIndexToMinParticleIndexMap,
             this.currentMoleculeNameToMinMoleculeIndexRepresentationMap,
@@ -319,7 +373,7 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
     // <editor-fold defaultstate="collapsed" desc="- Current graphical particle positions related methods">
     /**
      * Sets this.currentGraphicalParticlePositionArrayList from 
-     * this.initialGraphicalParticlePositions: Performs exclusions and rotations 
+     * this.initialGraphicalParticlePositionStore: Performs exclusions and rotations 
      * according to settings. NOTE: The rotation angles of Preferences are
  used.
      * 
@@ -341,7 +395,7 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
 
     /**
      * Sets this.currentGraphicalParticlePositionArrayList from 
-     * this.initialGraphicalParticlePositions: Performs exclusions and rotations 
+     * this.initialGraphicalParticlePositionStore: Performs exclusions and rotations 
      * according to settings. NOTE: The specified rotation angles are used.
      * NOTE: Zoom statistics are NOT calculated.
      *
@@ -380,7 +434,7 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
 
     /**
      * Sets this.currentGraphicalParticlePositionArrayList from 
-     * this.initialGraphicalParticlePositions: Performs exclusions and rotations 
+     * this.initialGraphicalParticlePositionStore: Performs exclusions and rotations 
      * according to settings. NOTE: The specified rotation angles are used.
      *
      * @param aRotationAroundXaxisAngle Angle for rotation around x axis in
@@ -407,7 +461,7 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
         boolean anIsZoomStatistics
     ) {
         // <editor-fold defaultstate="collapsed" desc="Checks">
-        if (this.initialGraphicalParticlePositions == null || this.initialGraphicalParticlePositions.length == 0) {
+        if (this.initialGraphicalParticlePositionStore == null || this.initialGraphicalParticlePositionStore.getSize() == 0) {
             return;
         }
         // </editor-fold>
@@ -443,17 +497,39 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
             tmpAbsoluteParticleShiftZ = this.initialBoxSizeInfo.getZLength() * aParticleShiftZ / 100.0;
         }
 
-        for (GraphicalParticlePosition tmpInitialGraphicalParticlePosition : this.initialGraphicalParticlePositions) {
+        // Filter: Exclusions are compiled into integer masks and evaluated 
+        // for all particles in a primitive (possibly parallel) loop
+        byte[] tmpFilterResults = 
+            this.getFilterResults(
+                tmpIsParticleShift,
+                tmpAbsoluteParticleShiftX,
+                tmpAbsoluteParticleShiftY,
+                tmpAbsoluteParticleShiftZ,
+                tmpIsBulkExcluded,
+                tmpAreCompartmentsExcluded
+            );
+
+        // NOTE: Initial positions are iterated with a reusable view, i.e. 
+        //       without per-particle objects
+        GraphicalParticlePositionView tmpInitialGraphicalParticlePositionView = this.initialGraphicalParticlePositionStore.getView();
+        for (int i = 0; i < this.initialGraphicalParticlePositionStore.getSize(); i++) {
+            if (tmpFilterResults[i] == GraphicalParticlePositionInfo.FILTER_RESULT_EXCLUDED) {
+                continue;
+            }
+            IGraphicalParticlePosition tmpInitialGraphicalParticlePosition = tmpInitialGraphicalParticlePositionView.setIndex(i);
+            GraphicalParticle tmpGraphicalParticle = (GraphicalParticle) this.initialGraphicalParticlePositionStore.getGraphicalParticle(i);
+            int tmpParticleIndex = this.initialGraphicalParticlePositionStore.getParticleIndex(i);
+            int tmpMoleculeIndex = this.initialGraphicalParticlePositionStore.getMoleculeIndex(i);
 
             // Shift particle if necessary
             if (tmpIsParticleShift) {
                 tmpGraphicalParticlePositionForShiftedParticle.reset(
-                    tmpInitialGraphicalParticlePosition.getGraphicalParticle(),
-                    tmpInitialGraphicalParticlePosition.getX(),
-                    tmpInitialGraphicalParticlePosition.getY(),
-                    tmpInitialGraphicalParticlePosition.getZ(),
-                    tmpInitialGraphicalParticlePosition.getParticleIndex(),
-                    tmpInitialGraphicalParticlePosition.getMoleculeIndex()
+                    tmpGraphicalParticle,
+                    this.initialGraphicalParticlePositionStore.getX(i),
+                    this.initialGraphicalParticlePositionStore.getY(i),
+                    this.initialGraphicalParticlePositionStore.getZ(i),
+                    tmpParticleIndex,
+                    tmpMoleculeIndex
                 );
                 tmpInitialGraphicalParticlePosition = tmpGraphicalParticlePositionForShiftedParticle;
                 this.graphicsUtilityMethods.shiftPointWithPeriodicBoundaries(
@@ -465,45 +541,21 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
                 );
             }
 
-            GraphicalParticle tmpGraphicalParticle = (GraphicalParticle) tmpInitialGraphicalParticlePosition.getGraphicalParticle();
-            int tmpParticleIndex = tmpInitialGraphicalParticlePosition.getParticleIndex();
-            if (
-                !this.graphicalParticleInfo.getExcludedMoleculesTable().containsKey(tmpGraphicalParticle.getMoleculeName())
-                && !this.graphicalParticleInfo.getExcludedParticlesTable().containsKey(tmpGraphicalParticle.getParticle())
-                && !this.graphicalParticleInfo.getExcludedMoleculeParticleStringTable().containsKey(tmpGraphicalParticle.getMoleculeParticleString())
-                && !(tmpIsBulkExcluded && tmpInitialGraphicalParticlePosition.isInBulk())
-                && !(tmpAreCompartmentsExcluded && !tmpInitialGraphicalParticlePosition.isInBulk())
-                && (this.exclusionBoxSizeInfo == null || this.exclusionBoxSizeInfo.isInBox(tmpInitialGraphicalParticlePosition))
-            ) {
-                if (this.moleculeSelectionManager != null && this.moleculeSelectionManager.isParticleSelected(tmpParticleIndex)) {
-                    this.addSelectedGraphicalParticlePosition(
-                        tmpInitialGraphicalParticlePosition,
-                        tmpGraphicalParticle,
-                        tmpParticleIndex,
-                        tmpIsZoomStatisticsDefined,
-                        tmpVolumeFrequency
-                    );
-                } else {
-                    this.addGraphicalParticlePosition(
-                        tmpInitialGraphicalParticlePosition,
-                        tmpGraphicalParticle,
-                        tmpIsZoomStatisticsDefined,
-                        tmpVolumeFrequency
-                    );
-                }
-            } else if (
-                this.moleculeSelectionManager != null 
-                && this.moleculeSelectionManager.isParticleSelected(tmpParticleIndex)
-                && !this.graphicalParticleInfo.getExcludedMoleculeParticleStringTable().containsKey(tmpGraphicalParticle.getMoleculeParticleString())
-                && !(tmpIsBulkExcluded && tmpInitialGraphicalParticlePosition.isInBulk())
-                && !(tmpAreCompartmentsExcluded && !tmpInitialGraphicalParticlePosition.isInBulk())
-                && (this.exclusionBoxSizeInfo == null || this.exclusionBoxSizeInfo.isInBox(tmpInitialGraphicalParticlePosition))
-            ) {
-                // Add particles of selected molecules that are otherwise excluded
+            if (tmpFilterResults[i] == GraphicalParticlePositionInfo.FILTER_RESULT_SELECTED) {
                 this.addSelectedGraphicalParticlePosition(
                     tmpInitialGraphicalParticlePosition,
                     tmpGraphicalParticle,
                     tmpParticleIndex,
+                    tmpMoleculeIndex,
+                    tmpIsZoomStatisticsDefined,
+                    tmpVolumeFrequency
+                );
+            } else {
+                this.addGraphicalParticlePosition(
+                    tmpInitialGraphicalParticlePosition,
+                    tmpGraphicalParticle,
+                    tmpParticleIndex,
+                    tmpMoleculeIndex,
                     tmpIsZoomStatisticsDefined,
                     tmpVolumeFrequency
                 );
@@ -593,7 +645,7 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
      */
     public boolean selectMolecule(int aSelectedParticleIndex) {
         // <editor-fold defaultstate="collapsed" desc="Checks">
-        if (aSelectedParticleIndex < 0 || aSelectedParticleIndex >= this.initialGraphicalParticlePositions.length) {
+        if (aSelectedParticleIndex < 0 || aSelectedParticleIndex >= this.initialGraphicalParticlePositionStore.getSize()) {
             return false;
         }
         if (this.moleculeSelectionManager != null && this.moleculeSelectionManager.isParticleSelected(aSelectedParticleIndex)) {
@@ -618,7 +670,7 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
         if (this.moleculeSelectionManager == null) {
             return false;
         }
-        if (aSelectedParticleIndex < 0 || aSelectedParticleIndex >= this.initialGraphicalParticlePositions.length) {
+        if (aSelectedParticleIndex < 0 || aSelectedParticleIndex >= this.initialGraphicalParticlePositionStore.getSize()) {
             return false;
         }
         if (!this.moleculeSelectionManager.isParticleSelected(aSelectedParticleIndex)) {
@@ -994,11 +1046,14 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
     //
     // <editor-fold defaultstate="collapsed" desc="Public properties (get only)">
     /**
-     * Initial graphical particle positions
+     * Initial graphical particle positions (structure-of-arrays store, index
+     * corresponds to particle index).
+     * NOTE: The store must NOT be changed.
+     *
      * @return Initial graphical particle positions
      */
-    public GraphicalParticlePosition[] getInitialGraphicalParticlePositions() {
-        return this.initialGraphicalParticlePositions;
+    public GraphicalParticlePositionStore getInitialGraphicalParticlePositionStore() {
+        return this.initialGraphicalParticlePositionStore;
     }
     
     /**
@@ -1094,6 +1149,118 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Filters the initial graphical particle positions: Molecule, particle 
+     * and molecule-particle exclusions are compiled into integer masks of the
+     * graphical particle table of this.initialGraphicalParticlePositionStore
+     * and selected particles into a bitset so that every position is 
+     * evaluated with array lookups only. Large stores are filtered in 
+     * parallel chunks.
+     * NOTE: Returned array is reused by subsequent calls.
+     *
+     * @param anIsParticleShift True: Particles are shifted, false: Otherwise
+     * @param anAbsoluteParticleShiftX Absolute particle shift along x-axis
+     * @param anAbsoluteParticleShiftY Absolute particle shift along y-axis
+     * @param anAbsoluteParticleShiftZ Absolute particle shift along z-axis
+     * @param anIsBulkExcluded True: Bulk is excluded, false: Otherwise
+     * @param anAreCompartmentsExcluded True: Compartments are excluded, 
+     * false: Otherwise
+     * @return Filter results (FILTER_RESULT_EXCLUDED, FILTER_RESULT_INCLUDED
+     * or FILTER_RESULT_SELECTED) for the indices of 
+     * this.initialGraphicalParticlePositionStore
+     */
+    private byte[] getFilterResults(
+        boolean anIsParticleShift,
+        double anAbsoluteParticleShiftX,
+        double anAbsoluteParticleShiftY,
+        double anAbsoluteParticleShiftZ,
+        boolean anIsBulkExcluded,
+        boolean anAreCompartmentsExcluded
+    ) {
+        GraphicalParticlePositionStore tmpStore = this.initialGraphicalParticlePositionStore;
+        int tmpSize = tmpStore.getSize();
+        if (this.filterResults == null || this.filterResults.length < tmpSize) {
+            this.filterResults = new byte[tmpSize];
+        }
+        byte[] tmpFilterResults = this.filterResults;
+        GraphicalParticleExclusionMask tmpExclusionMask = 
+            new GraphicalParticleExclusionMask(
+                tmpStore.getGraphicalParticles(),
+                this.graphicalParticleInfo.getExcludedMoleculesTable(),
+                this.graphicalParticleInfo.getExcludedParticlesTable(),
+                this.graphicalParticleInfo.getExcludedMoleculeParticleStringTable()
+            );
+        BitSet tmpSelectedParticleIndexBitSet = null;
+        if (this.moleculeSelectionManager != null && this.moleculeSelectionManager.isMoleculeSelected()) {
+            tmpSelectedParticleIndexBitSet = this.moleculeSelectionManager.getSelectedParticleIndexBitSet();
+        }
+        BitSet tmpFinalSelectedParticleIndexBitSet = tmpSelectedParticleIndexBitSet;
+        BoxSizeInfo tmpExclusionBoxSizeInfo = this.exclusionBoxSizeInfo;
+        boolean tmpIsBoxVolumeShape = Preferences.getInstance().isBoxVolumeShapeForZoom();
+        BoxSizeInfo tmpInitialBoxSizeInfo = this.initialBoxSizeInfo;
+
+        // Chunks of consecutive indices
+        int tmpNumberOfChunks = 1;
+        if (tmpSize >= ModelDefinitions.MINIMUM_NUMBER_OF_PARTICLES_FOR_PARALLEL_FILTERING) {
+            tmpNumberOfChunks = Math.max(1, Runtime.getRuntime().availableProcessors());
+        }
+        int tmpChunkSize = (tmpSize + tmpNumberOfChunks - 1) / tmpNumberOfChunks;
+        IntStream tmpChunkIndexStream = IntStream.range(0, tmpNumberOfChunks);
+        if (tmpNumberOfChunks > 1) {
+            tmpChunkIndexStream = tmpChunkIndexStream.parallel();
+        }
+        tmpChunkIndexStream.forEach(
+            tmpChunkIndex -> 
+            {
+                int tmpEndIndex = Math.min(tmpSize, (tmpChunkIndex + 1) * tmpChunkSize);
+                for (int i = tmpChunkIndex * tmpChunkSize; i < tmpEndIndex; i++) {
+                    int tmpGraphicalParticleIndex = tmpStore.getGraphicalParticleIndex(i);
+                    if (tmpGraphicalParticleIndex < 0) {
+                        tmpFilterResults[i] = GraphicalParticlePositionInfo.FILTER_RESULT_EXCLUDED;
+                        continue;
+                    }
+                    boolean tmpIsSelected = 
+                        tmpFinalSelectedParticleIndexBitSet != null 
+                        && tmpStore.getParticleIndex(i) >= 0
+                        && tmpFinalSelectedParticleIndexBitSet.get(tmpStore.getParticleIndex(i));
+                    boolean tmpIsExcludedByType = tmpExclusionMask.isExcluded(tmpGraphicalParticleIndex);
+                    if (
+                        (tmpIsExcludedByType && !tmpIsSelected)
+                        || (tmpIsSelected && tmpExclusionMask.isMoleculeParticleExcluded(tmpGraphicalParticleIndex))
+                    ) {
+                        tmpFilterResults[i] = GraphicalParticlePositionInfo.FILTER_RESULT_EXCLUDED;
+                        continue;
+                    }
+                    boolean tmpIsInBulk = tmpStore.isInBulk(i);
+                    if ((anIsBulkExcluded && tmpIsInBulk) || (anAreCompartmentsExcluded && !tmpIsInBulk)) {
+                        tmpFilterResults[i] = GraphicalParticlePositionInfo.FILTER_RESULT_EXCLUDED;
+                        continue;
+                    }
+                    if (tmpExclusionBoxSizeInfo != null) {
+                        double tmpX = tmpStore.getX(i);
+                        double tmpY = tmpStore.getY(i);
+                        double tmpZ = tmpStore.getZ(i);
+                        if (anIsParticleShift) {
+                            tmpX = this.graphicsUtilityMethods.getShiftedValueWithPeriodicBoundaries(tmpX, anAbsoluteParticleShiftX, tmpInitialBoxSizeInfo.getXMin(), tmpInitialBoxSizeInfo.getXMax(), tmpInitialBoxSizeInfo.getXLength());
+                            tmpY = this.graphicsUtilityMethods.getShiftedValueWithPeriodicBoundaries(tmpY, anAbsoluteParticleShiftY, tmpInitialBoxSizeInfo.getYMin(), tmpInitialBoxSizeInfo.getYMax(), tmpInitialBoxSizeInfo.getYLength());
+                            tmpZ = this.graphicsUtilityMethods.getShiftedValueWithPeriodicBoundaries(tmpZ, anAbsoluteParticleShiftZ, tmpInitialBoxSizeInfo.getZMin(), tmpInitialBoxSizeInfo.getZMax(), tmpInitialBoxSizeInfo.getZLength());
+                        }
+                        if (!tmpExclusionBoxSizeInfo.isInBox(tmpX, tmpY, tmpZ, tmpIsBoxVolumeShape)) {
+                            tmpFilterResults[i] = GraphicalParticlePositionInfo.FILTER_RESULT_EXCLUDED;
+                            continue;
+                        }
+                    }
+                    if (tmpIsSelected) {
+                        tmpFilterResults[i] = GraphicalParticlePositionInfo.FILTER_RESULT_SELECTED;
+                    } else {
+                        tmpFilterResults[i] = GraphicalParticlePositionInfo.FILTER_RESULT_INCLUDED;
+                    }
+                }
+            }
+        );
+        return tmpFilterResults;
+    }
+
     /**
      * Adds graphical particle positions of frame
      */
@@ -1466,18 +1633,17 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
      * @return 
      */
     private SelectedMolecule getSelectedMolecule(int aSelectedParticleIndex) {
-        GraphicalParticlePosition tmpSelectedGraphicalParticlePosition = this.initialGraphicalParticlePositions[aSelectedParticleIndex];
-        GraphicalParticle tmpSelectedGraphicalParticle = (GraphicalParticle) tmpSelectedGraphicalParticlePosition.getGraphicalParticle();
+        GraphicalParticle tmpSelectedGraphicalParticle = (GraphicalParticle) this.initialGraphicalParticlePositionStore.getGraphicalParticle(aSelectedParticleIndex);
         String tmpSelectedMoleculeName = tmpSelectedGraphicalParticle.getMoleculeName();
-        int tmpSelectedMoleculeIndex = tmpSelectedGraphicalParticlePosition.getMoleculeIndex();
+        int tmpSelectedMoleculeIndex = this.initialGraphicalParticlePositionStore.getMoleculeIndex(aSelectedParticleIndex);
         // Select other graphical particle positions of molecule
         // NOTE: Graphical particle positions of molecule are one after another 
-        // located in this.initialGraphicalParticlePositions
+        // located in this.initialGraphicalParticlePositionStore
         // Search downwards
         int tmpMinParticleIndex = aSelectedParticleIndex;
         if (aSelectedParticleIndex > 0) {
             for (int i = aSelectedParticleIndex; i >= 0; i--) {
-                if (this.initialGraphicalParticlePositions[i].getMoleculeIndex() == tmpSelectedMoleculeIndex) {
+                if (this.initialGraphicalParticlePositionStore.getMoleculeIndex(i) == tmpSelectedMoleculeIndex) {
                     tmpMinParticleIndex = i;
                 } else {
                     break;
@@ -1486,9 +1652,9 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
         }
         // Search upwards
         int tmpExclusiveMaxParticleIndex = aSelectedParticleIndex + 1;
-        if (aSelectedParticleIndex < this.initialGraphicalParticlePositions.length - 1) {
-            for (int i = aSelectedParticleIndex; i < this.initialGraphicalParticlePositions.length; i++) {
-                if (this.initialGraphicalParticlePositions[i].getMoleculeIndex() == tmpSelectedMoleculeIndex) {
+        if (aSelectedParticleIndex < this.initialGraphicalParticlePositionStore.getSize() - 1) {
+            for (int i = aSelectedParticleIndex; i < this.initialGraphicalParticlePositionStore.getSize(); i++) {
+                if (this.initialGraphicalParticlePositionStore.getMoleculeIndex(i) == tmpSelectedMoleculeIndex) {
                     tmpExclusiveMaxParticleIndex = i + 1;
                 } else {
                     break;
@@ -1553,13 +1719,15 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
      * @param anInitialGraphicalParticlePosition See calling method
      * @param aGraphicalParticle See calling method
      * @param aParticleIndex See calling method
+     * @param aMoleculeIndex See calling method
      * @param anIsZoomStatisticsDefined See calling method
      * @param aVolumeFrequency See calling method
      */
     private void addSelectedGraphicalParticlePosition(
-        GraphicalParticlePosition anInitialGraphicalParticlePosition,
+        IGraphicalParticlePosition anInitialGraphicalParticlePosition,
         GraphicalParticle aGraphicalParticle,
         int aParticleIndex,
+        int aMoleculeIndex,
         boolean anIsZoomStatisticsDefined,
         VolumeFrequency aVolumeFrequency
     ) {
@@ -1588,6 +1756,8 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
         this.addGraphicalParticlePosition(
             anInitialGraphicalParticlePosition,
             aGraphicalParticle,
+            aParticleIndex,
+            aMoleculeIndex,
             anIsZoomStatisticsDefined,
             aVolumeFrequency
         );
@@ -1599,12 +1769,16 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
      * 
      * @param anInitialGraphicalParticlePosition See calling method
      * @param aGraphicalParticle See calling method
+     * @param aParticleIndex See calling method
+     * @param aMoleculeIndex See calling method
      * @param anIsZoomStatisticsDefined See calling method
      * @param aVolumeFrequency See calling method
      */
     private void addGraphicalParticlePosition(
-        GraphicalParticlePosition anInitialGraphicalParticlePosition,
+        IGraphicalParticlePosition anInitialGraphicalParticlePosition,
         GraphicalParticle aGraphicalParticle,
+        int aParticleIndex,
+        int aMoleculeIndex,
         boolean anIsZoomStatisticsDefined,
         VolumeFrequency aVolumeFrequency
     ) {
@@ -1613,8 +1787,8 @@ public class GraphicalParticlePositionInfo implements ValueItemUpdateNotifierInt
             anInitialGraphicalParticlePosition.getX(),
             anInitialGraphicalParticlePosition.getY(),
             anInitialGraphicalParticlePosition.getZ(),
-            anInitialGraphicalParticlePosition.getParticleIndex(),
-            anInitialGraphicalParticlePosition.getMoleculeIndex()
+            aParticleIndex,
+            aMoleculeIndex
         );
         // Set zoom statistics if defined
         if (anIsZoomStatisticsDefined) {
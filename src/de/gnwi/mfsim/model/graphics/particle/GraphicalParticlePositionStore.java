@@ -0,0 +1,665 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.particle;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * Structure-of-arrays store for graphical particle positions: Coordinates,
+ * graphical particle (type) indices, particle indices, molecule indices and
+ * flags are held in parallel primitive columns instead of one
+ * GraphicalParticlePosition object per particle. Graphical particles are
+ * held once in a type table and referenced by index.
+ * <br>
+ * Positions may be iterated without per-particle objects either with the
+ * index based accessors or with a GraphicalParticlePositionView (see
+ * getView()).
+ *
+ * @author Achim Zielesny
+ */
+public class GraphicalParticlePositionStore {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * Flag: Particle is in bulk
+     */
+    private static final byte IN_BULK_FLAG = 1;
+
+    /**
+     * Flag: Particle is in frame
+     */
+    private static final byte IN_FRAME_FLAG = 2;
+
+    /**
+     * Minimum capacity
+     */
+    private static final int MINIMUM_CAPACITY = 16;
+
+    /**
+     * Estimated number of bytes per position of store: 3 double coordinates,
+     * 3 int indices and 1 byte flags
+     */
+    private static final long BYTES_PER_POSITION = 3L * 8L + 3L * 4L + 1L;
+
+    /**
+     * Estimated number of bytes per GraphicalParticlePosition object
+     * (compressed references): Object header, 3 double coordinates, 1
+     * reference, 2 booleans, 5 ints (aligned to 8 bytes) plus array
+     * reference
+     */
+    private static final long BYTES_PER_GRAPHICAL_PARTICLE_POSITION_OBJECT = 72L + 4L;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Map from graphical particle to its index in this.graphicalParticles
+     */
+    private final IdentityHashMap<IGraphicalParticle, Integer> graphicalParticleToIndexMap;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * x-coordinates
+     */
+    private double[] xs;
+
+    /**
+     * y-coordinates
+     */
+    private double[] ys;
+
+    /**
+     * z-coordinates
+     */
+    private double[] zs;
+
+    /**
+     * Indices of graphical particles in this.graphicalParticles
+     */
+    private int[] graphicalParticleIndices;
+
+    /**
+     * Particle indices (-1: NOT defined)
+     */
+    private int[] particleIndices;
+
+    /**
+     * Molecule indices (-1: NOT defined)
+     */
+    private int[] moleculeIndices;
+
+    /**
+     * Flags (see IN_BULK_FLAG, IN_FRAME_FLAG)
+     */
+    private byte[] flags;
+
+    /**
+     * Graphical particles (type table)
+     */
+    private IGraphicalParticle[] graphicalParticles;
+
+    /**
+     * Number of graphical particles in this.graphicalParticles
+     */
+    private int numberOfGraphicalParticles;
+
+    /**
+     * Last graphical particle added to this.graphicalParticles or looked up
+     */
+    private IGraphicalParticle lastGraphicalParticle;
+
+    /**
+     * Index of this.lastGraphicalParticle in this.graphicalParticles
+     */
+    private int lastGraphicalParticleIndex;
+
+    /**
+     * Size (exclusive end index)
+     */
+    private int size;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param anInitialCapacity Initial capacity
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public GraphicalParticlePositionStore(int anInitialCapacity) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (anInitialCapacity < 0) {
+            throw new IllegalArgumentException("GraphicalParticlePositionStore.Constructor: anInitialCapacity < 0.");
+        }
+        // </editor-fold>
+        int tmpCapacity = Math.max(anInitialCapacity, GraphicalParticlePositionStore.MINIMUM_CAPACITY);
+        this.xs = new double[tmpCapacity];
+        this.ys = new double[tmpCapacity];
+        this.zs = new double[tmpCapacity];
+        this.graphicalParticleIndices = new int[tmpCapacity];
+        this.particleIndices = new int[tmpCapacity];
+        this.moleculeIndices = new int[tmpCapacity];
+        this.flags = new byte[tmpCapacity];
+        this.graphicalParticles = new IGraphicalParticle[GraphicalParticlePositionStore.MINIMUM_CAPACITY];
+        this.numberOfGraphicalParticles = 0;
+        this.graphicalParticleToIndexMap = new IdentityHashMap<>(GraphicalParticlePositionStore.MINIMUM_CAPACITY);
+        this.lastGraphicalParticleIndex = -1;
+        this.size = 0;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public static methods">
+    /**
+     * Returns new store with the data of the graphical particle positions
+     * (adapter for the object representation)
+     *
+     * @param aGraphicalParticlePositions Graphical particle positions
+     * @return New store
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public static GraphicalParticlePositionStore fromGraphicalParticlePositions(GraphicalParticlePosition[] aGraphicalParticlePositions) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aGraphicalParticlePositions == null) {
+            throw new IllegalArgumentException("GraphicalParticlePositionStore.fromGraphicalParticlePositions: aGraphicalParticlePositions is null.");
+        }
+        // </editor-fold>
+        GraphicalParticlePositionStore tmpStore = new GraphicalParticlePositionStore(aGraphicalParticlePositions.length);
+        for (GraphicalParticlePosition tmpGraphicalParticlePosition : aGraphicalParticlePositions) {
+            tmpStore.add(tmpGraphicalParticlePosition);
+        }
+        return tmpStore;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Adds graphical particle position (data are copied)
+     * (No checks are performed)
+     *
+     * @param aGraphicalParticlePosition Graphical particle position
+     */
+    public void add(GraphicalParticlePosition aGraphicalParticlePosition) {
+        this.add(
+            aGraphicalParticlePosition.getGraphicalParticle(),
+            aGraphicalParticlePosition.getX(),
+            aGraphicalParticlePosition.getY(),
+            aGraphicalParticlePosition.getZ(),
+            aGraphicalParticlePosition.getParticleIndex(),
+            aGraphicalParticlePosition.getMoleculeIndex(),
+            aGraphicalParticlePosition.isInBulk(),
+            aGraphicalParticlePosition.isInFrame()
+        );
+    }
+
+    /**
+     * Adds graphical particle position
+     * (No checks are performed)
+     *
+     * @param aGraphicalParticle Graphical particle
+     * @param aXCoordinate X coordinate
+     * @param aYCoordinate Y coordinate
+     * @param aZCoordinate Z coordinate
+     * @param aParticleIndex Particle index (-1: NOT defined)
+     * @param aMoleculeIndex Molecule index (-1: NOT defined)
+     * @param anIsInBulk True: Particle is in bulk, false: Otherwise
+     * @param anIsInFrame True: Particle is in frame, false: Otherwise
+     */
+    public void add(
+        IGraphicalParticle aGraphicalParticle,
+        double aXCoordinate,
+        double aYCoordinate,
+        double aZCoordinate,
+        int aParticleIndex,
+        int aMoleculeIndex,
+        boolean anIsInBulk,
+        boolean anIsInFrame
+    ) {
+        this.set(
+            this.size,
+            aGraphicalParticle,
+            aXCoordinate,
+            aYCoordinate,
+            aZCoordinate,
+            aParticleIndex,
+            aMoleculeIndex,
+            anIsInBulk,
+            anIsInFrame
+        );
+    }
+
+    /**
+     * Sets graphical particle position at index. The size is enlarged to
+     * (anIndex + 1) if necessary.
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @param aGraphicalParticle Graphical particle
+     * @param aXCoordinate X coordinate
+     * @param aYCoordinate Y coordinate
+     * @param aZCoordinate Z coordinate
+     * @param aParticleIndex Particle index (-1: NOT defined)
+     * @param aMoleculeIndex Molecule index (-1: NOT defined)
+     * @param anIsInBulk True: Particle is in bulk, false: Otherwise
+     * @param anIsInFrame True: Particle is in frame, false: Otherwise
+     */
+    public void set(
+        int anIndex,
+        IGraphicalParticle aGraphicalParticle,
+        double aXCoordinate,
+        double aYCoordinate,
+        double aZCoordinate,
+        int aParticleIndex,
+        int aMoleculeIndex,
+        boolean anIsInBulk,
+        boolean anIsInFrame
+    ) {
+        this.ensureCapacity(anIndex + 1);
+        if (anIndex > this.size) {
+            // Gap positions are NOT defined (see getGraphicalParticle())
+            Arrays.fill(this.xs, this.size, anIndex, 0.0);
+            Arrays.fill(this.ys, this.size, anIndex, 0.0);
+            Arrays.fill(this.zs, this.size, anIndex, 0.0);
+            Arrays.fill(this.graphicalParticleIndices, this.size, anIndex, -1);
+            Arrays.fill(this.particleIndices, this.size, anIndex, -1);
+            Arrays.fill(this.moleculeIndices, this.size, anIndex, -1);
+            Arrays.fill(this.flags, this.size, anIndex, (byte) 0);
+        }
+        this.xs[anIndex] = aXCoordinate;
+        this.ys[anIndex] = aYCoordinate;
+        this.zs[anIndex] = aZCoordinate;
+        this.graphicalParticleIndices[anIndex] = this.getGraphicalParticleTableIndex(aGraphicalParticle);
+        this.particleIndices[anIndex] = aParticleIndex;
+        this.moleculeIndices[anIndex] = aMoleculeIndex;
+        byte tmpFlags = 0;
+        if (anIsInBulk) {
+            tmpFlags |= GraphicalParticlePositionStore.IN_BULK_FLAG;
+        }
+        if (anIsInFrame) {
+            tmpFlags |= GraphicalParticlePositionStore.IN_FRAME_FLAG;
+        }
+        this.flags[anIndex] = tmpFlags;
+        if (anIndex >= this.size) {
+            this.size = anIndex + 1;
+        }
+    }
+
+    /**
+     * Resets store (size is set to 0, type table is cleared)
+     */
+    public void reset() {
+        this.size = 0;
+        Arrays.fill(this.graphicalParticles, 0, this.numberOfGraphicalParticles, null);
+        this.numberOfGraphicalParticles = 0;
+        this.graphicalParticleToIndexMap.clear();
+        this.lastGraphicalParticle = null;
+        this.lastGraphicalParticleIndex = -1;
+    }
+
+    /**
+     * Returns new store with copied columns. NOTE: Graphical particles are
+     * NOT cloned.
+     *
+     * @return New store with copied columns
+     */
+    public GraphicalParticlePositionStore getClone() {
+        GraphicalParticlePositionStore tmpStore = new GraphicalParticlePositionStore(0);
+        tmpStore.xs = Arrays.copyOf(this.xs, this.size);
+        tmpStore.ys = Arrays.copyOf(this.ys, this.size);
+        tmpStore.zs = Arrays.copyOf(this.zs, this.size);
+        tmpStore.graphicalParticleIndices = Arrays.copyOf(this.graphicalParticleIndices, this.size);
+        tmpStore.particleIndices = Arrays.copyOf(this.particleIndices, this.size);
+        tmpStore.moleculeIndices = Arrays.copyOf(this.moleculeIndices, this.size);
+        tmpStore.flags = Arrays.copyOf(this.flags, this.size);
+        tmpStore.graphicalParticles = Arrays.copyOf(this.graphicalParticles, Math.max(this.numberOfGraphicalParticles, GraphicalParticlePositionStore.MINIMUM_CAPACITY));
+        tmpStore.numberOfGraphicalParticles = this.numberOfGraphicalParticles;
+        tmpStore.graphicalParticleToIndexMap.putAll(this.graphicalParticleToIndexMap);
+        tmpStore.size = this.size;
+        return tmpStore;
+    }
+
+    /**
+     * Returns new view for iteration without per-particle objects. The view
+     * is positioned at index 0.
+     *
+     * @return New view
+     */
+    public GraphicalParticlePositionView getView() {
+        return new GraphicalParticlePositionView(this);
+    }
+
+    /**
+     * Returns new GraphicalParticlePosition object with the data at index
+     * (adapter for the object representation)
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @return New GraphicalParticlePosition object
+     */
+    public GraphicalParticlePosition getGraphicalParticlePosition(int anIndex) {
+        GraphicalParticlePosition tmpGraphicalParticlePosition = 
+            new GraphicalParticlePosition(
+                this.getGraphicalParticle(anIndex), 
+                this.xs[anIndex], 
+                this.ys[anIndex], 
+                this.zs[anIndex], 
+                this.particleIndices[anIndex], 
+                this.moleculeIndices[anIndex]
+            );
+        tmpGraphicalParticlePosition.setInBulk(this.isInBulk(anIndex));
+        return tmpGraphicalParticlePosition;
+    }
+
+    /**
+     * Returns new GraphicalParticlePosition objects with the data of this
+     * store (adapter for the object representation)
+     *
+     * @return New GraphicalParticlePosition objects
+     */
+    public GraphicalParticlePosition[] getGraphicalParticlePositions() {
+        GraphicalParticlePosition[] tmpGraphicalParticlePositions = new GraphicalParticlePosition[this.size];
+        for (int i = 0; i < this.size; i++) {
+            if (this.isInFrame(i)) {
+                tmpGraphicalParticlePositions[i] = 
+                    new GraphicalParticlePosition(
+                        this.getGraphicalParticle(i), 
+                        this.xs[i], 
+                        this.ys[i], 
+                        this.zs[i], 
+                        true
+                    );
+            } else {
+                tmpGraphicalParticlePositions[i] = this.getGraphicalParticlePosition(i);
+            }
+        }
+        return tmpGraphicalParticlePositions;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get/set)">
+    /**
+     * Size (exclusive end index)
+     *
+     * @return Size (exclusive end index)
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Capacity, i.e. length of the column arrays
+     *
+     * @return Capacity
+     */
+    public int getCapacity() {
+        return this.xs.length;
+    }
+
+    /**
+     * x-coordinate at index
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @return x-coordinate at index
+     */
+    public double getX(int anIndex) {
+        return this.xs[anIndex];
+    }
+
+    /**
+     * y-coordinate at index
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @return y-coordinate at index
+     */
+    public double getY(int anIndex) {
+        return this.ys[anIndex];
+    }
+
+    /**
+     * z-coordinate at index
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @return z-coordinate at index
+     */
+    public double getZ(int anIndex) {
+        return this.zs[anIndex];
+    }
+
+    /**
+     * x-coordinate at index
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @param aValue x-coordinate
+     */
+    public void setX(int anIndex, double aValue) {
+        this.xs[anIndex] = aValue;
+    }
+
+    /**
+     * y-coordinate at index
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @param aValue y-coordinate
+     */
+    public void setY(int anIndex, double aValue) {
+        this.ys[anIndex] = aValue;
+    }
+
+    /**
+     * z-coordinate at index
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @param aValue z-coordinate
+     */
+    public void setZ(int anIndex, double aValue) {
+        this.zs[anIndex] = aValue;
+    }
+
+    /**
+     * Graphical particle at index
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @return Graphical particle at index (null: Position was never set)
+     */
+    public IGraphicalParticle getGraphicalParticle(int anIndex) {
+        int tmpGraphicalParticleIndex = this.graphicalParticleIndices[anIndex];
+        if (tmpGraphicalParticleIndex < 0) {
+            return null;
+        }
+        return this.graphicalParticles[tmpGraphicalParticleIndex];
+    }
+
+    /**
+     * Graphical particle at index
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @param aGraphicalParticle Graphical particle
+     */
+    public void setGraphicalParticle(int anIndex, IGraphicalParticle aGraphicalParticle) {
+        this.graphicalParticleIndices[anIndex] = this.getGraphicalParticleTableIndex(aGraphicalParticle);
+    }
+
+    /**
+     * Index of graphical particle at index in graphical particle table (see
+     * getGraphicalParticles())
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @return Index of graphical particle in graphical particle table (-1:
+     * Position was never set)
+     */
+    public int getGraphicalParticleIndex(int anIndex) {
+        return this.graphicalParticleIndices[anIndex];
+    }
+
+    /**
+     * Particle index at index (-1: NOT defined)
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @return Particle index at index
+     */
+    public int getParticleIndex(int anIndex) {
+        return this.particleIndices[anIndex];
+    }
+
+    /**
+     * Molecule index at index (-1: NOT defined)
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @return Molecule index at index
+     */
+    public int getMoleculeIndex(int anIndex) {
+        return this.moleculeIndices[anIndex];
+    }
+
+    /**
+     * True: Particle at index is in bulk, false: Otherwise
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @return True: Particle at index is in bulk, false: Otherwise
+     */
+    public boolean isInBulk(int anIndex) {
+        return (this.flags[anIndex] & GraphicalParticlePositionStore.IN_BULK_FLAG) != 0;
+    }
+
+    /**
+     * True: Particle at index is in bulk, false: Otherwise
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @param aValue True: Particle at index is in bulk, false: Otherwise
+     */
+    public void setInBulk(int anIndex, boolean aValue) {
+        if (aValue) {
+            this.flags[anIndex] |= GraphicalParticlePositionStore.IN_BULK_FLAG;
+        } else {
+            this.flags[anIndex] &= ~GraphicalParticlePositionStore.IN_BULK_FLAG;
+        }
+    }
+
+    /**
+     * True: Particle at index is in frame, false: Otherwise
+     * (No checks are performed)
+     *
+     * @param anIndex Index
+     * @return True: Particle at index is in frame, false: Otherwise
+     */
+    public boolean isInFrame(int anIndex) {
+        return (this.flags[anIndex] & GraphicalParticlePositionStore.IN_FRAME_FLAG) != 0;
+    }
+
+    /**
+     * Copy of graphical particle table (index corresponds to
+     * getGraphicalParticleIndex())
+     *
+     * @return Copy of graphical particle table
+     */
+    public IGraphicalParticle[] getGraphicalParticles() {
+        return Arrays.copyOf(this.graphicalParticles, this.numberOfGraphicalParticles);
+    }
+
+    /**
+     * Number of graphical particles in graphical particle table
+     *
+     * @return Number of graphical particles in graphical particle table
+     */
+    public int getNumberOfGraphicalParticles() {
+        return this.numberOfGraphicalParticles;
+    }
+
+    /**
+     * Estimated memory of columns in bytes (for size of store)
+     *
+     * @return Estimated memory of columns in bytes
+     */
+    public long getEstimatedMemoryInBytes() {
+        return (long) this.size * GraphicalParticlePositionStore.BYTES_PER_POSITION;
+    }
+
+    /**
+     * Estimated memory in bytes of the same number of positions as
+     * GraphicalParticlePosition objects (for comparison)
+     *
+     * @return Estimated memory in bytes of the same number of positions as
+     * GraphicalParticlePosition objects
+     */
+    public long getEstimatedObjectMemoryInBytes() {
+        return (long) this.size * GraphicalParticlePositionStore.BYTES_PER_GRAPHICAL_PARTICLE_POSITION_OBJECT;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Ensures capacity of columns (columns grow by factor 1.5)
+     *
+     * @param aCapacity Minimum capacity
+     */
+    private void ensureCapacity(int aCapacity) {
+        if (aCapacity > this.xs.length) {
+            int tmpNewCapacity = Math.max(aCapacity, this.xs.length + (this.xs.length >> 1));
+            this.xs = Arrays.copyOf(this.xs, tmpNewCapacity);
+            this.ys = Arrays.copyOf(this.ys, tmpNewCapacity);
+            this.zs = Arrays.copyOf(this.zs, tmpNewCapacity);
+            this.graphicalParticleIndices = Arrays.copyOf(this.graphicalParticleIndices, tmpNewCapacity);
+            this.particleIndices = Arrays.copyOf(this.particleIndices, tmpNewCapacity);
+            this.moleculeIndices = Arrays.copyOf(this.moleculeIndices, tmpNewCapacity);
+            this.flags = Arrays.copyOf(this.flags, tmpNewCapacity);
+        }
+    }
+
+    /**
+     * Returns index of graphical particle in graphical particle table (the
+     * graphical particle is added to the table if necessary)
+     *
+     * @param aGraphicalParticle Graphical particle
+     * @return Index of graphical particle in graphical particle table
+     */
+    private int getGraphicalParticleTableIndex(IGraphicalParticle aGraphicalParticle) {
+        // NOTE: Consecutive positions usually have the same graphical particle
+        if (this.lastGraphicalParticleIndex >= 0 && aGraphicalParticle == this.lastGraphicalParticle) {
+            return this.lastGraphicalParticleIndex;
+        }
+        Integer tmpIndex = this.graphicalParticleToIndexMap.get(aGraphicalParticle);
+        if (tmpIndex == null) {
+            if (this.numberOfGraphicalParticles == this.graphicalParticles.length) {
+                this.graphicalParticles = Arrays.copyOf(this.graphicalParticles, 2 * this.graphicalParticles.length);
+            }
+            tmpIndex = this.numberOfGraphicalParticles;
+            this.graphicalParticles[this.numberOfGraphicalParticles++] = aGraphicalParticle;
+            this.graphicalParticleToIndexMap.put(aGraphicalParticle, tmpIndex);
+        }
+        this.lastGraphicalParticle = aGraphicalParticle;
+        this.lastGraphicalParticleIndex = tmpIndex;
+        return tmpIndex;
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,188 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.particle;
+
+import de.gnwi.spices.IPointInSpace;
+
+/**
+ * Reusable view of a single graphical particle position of a
+ * GraphicalParticlePositionStore: The view is positioned with setIndex()
+ * so that code written against IGraphicalParticlePosition (or
+ * IPointInSpace) may iterate a store without per-particle objects.
+ * NOTE: Setters write through to the store.
+ *
+ * @author Achim Zielesny
+ */
+public class GraphicalParticlePositionView implements IGraphicalParticlePosition {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Store
+     */
+    private final GraphicalParticlePositionStore store;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Index of current position in store
+     */
+    private int index;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aStore Store
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public GraphicalParticlePositionView(GraphicalParticlePositionStore aStore) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aStore == null) {
+            throw new IllegalArgumentException("GraphicalParticlePositionView.Constructor: aStore is null.");
+        }
+        // </editor-fold>
+        this.store = aStore;
+        this.index = 0;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Positions view at index
+     * (No checks are performed)
+     *
+     * @param anIndex Index in store
+     * @return This view
+     */
+    public GraphicalParticlePositionView setIndex(int anIndex) {
+        this.index = anIndex;
+        return this;
+    }
+
+    @Override
+    public boolean isEqual(IPointInSpace aPoint) {
+        return aPoint != null && this.getX() == aPoint.getX() && this.getY() == aPoint.getY() && this.getZ() == aPoint.getZ();
+    }
+
+    @Override
+    public void addX(double aValue) {
+        this.store.setX(this.index, this.store.getX(this.index) + aValue);
+    }
+
+    @Override
+    public void addY(double aValue) {
+        this.store.setY(this.index, this.store.getY(this.index) + aValue);
+    }
+
+    @Override
+    public void addZ(double aValue) {
+        this.store.setZ(this.index, this.store.getZ(this.index) + aValue);
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get/set)">
+    /**
+     * Index of current position in store
+     *
+     * @return Index of current position in store
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    @Override
+    public double getX() {
+        return this.store.getX(this.index);
+    }
+
+    @Override
+    public void setX(double aValue) {
+        this.store.setX(this.index, aValue);
+    }
+
+    @Override
+    public double getY() {
+        return this.store.getY(this.index);
+    }
+
+    @Override
+    public void setY(double aValue) {
+        this.store.setY(this.index, aValue);
+    }
+
+    @Override
+    public double getZ() {
+        return this.store.getZ(this.index);
+    }
+
+    @Override
+    public void setZ(double aValue) {
+        this.store.setZ(this.index, aValue);
+    }
+
+    @Override
+    public IGraphicalParticle getGraphicalParticle() {
+        return this.store.getGraphicalParticle(this.index);
+    }
+
+    @Override
+    public void setGraphicalParticle(IGraphicalParticle aGraphicalParticle) {
+        this.store.setGraphicalParticle(this.index, aGraphicalParticle);
+    }
+
+    /**
+     * Particle index (-1: NOT defined)
+     *
+     * @return Particle index
+     */
+    public int getParticleIndex() {
+        return this.store.getParticleIndex(this.index);
+    }
+
+    /**
+     * Molecule index (-1: NOT defined)
+     *
+     * @return Molecule index
+     */
+    public int getMoleculeIndex() {
+        return this.store.getMoleculeIndex(this.index);
+    }
+
+    /**
+     * True: Particle is in bulk, false: Otherwise
+     *
+     * @return True: Particle is in bulk, false: Otherwise
+     */
+    public boolean isInBulk() {
+        return this.store.isInBulk(this.index);
+    }
+
+    /**
+     * True: Particle is in frame, false: Otherwise
+     *
+     * @return True: Particle is in frame, false: Otherwise
+     */
+    public boolean isInFrame() {
+        return this.store.isInFrame(this.index);
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,447 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.slice;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Staged frame pipeline: Frames pass a sequence of stages where each stage 
+ * has its own number of threads. Stages are connected by bounded queues, 
+ * i.e. a stage blocks if the next stage lags behind (back-pressure), so 
+ * I/O bound and CPU bound stages overlap without unlimited buffering of 
+ * frames. Throughput statistics are collected for each stage.
+ * <br>
+ * NOTE: Frames may pass a stage with more than one thread in arbitrary 
+ * order.
+ * <br>
+ * NOTE: The first exception of a stage stops the pipeline and is thrown by 
+ * process().
+ *
+ * @author Achim Zielesny
+ */
+public class FramePipeline {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * End-of-frames marker
+     */
+    private static final FrameItem END_OF_FRAMES = new FrameItem(-1, null);
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Pipeline name
+     */
+    private final String name;
+
+    /**
+     * Capacity of queue in front of each stage
+     */
+    private final int queueCapacity;
+
+    /**
+     * Stages
+     */
+    private final ArrayList<IFramePipelineStage> stages;
+
+    /**
+     * Statistics of stages
+     */
+    private final ArrayList<FramePipelineStageStatistics> stageStatisticsList;
+
+    /**
+     * First exception of a stage
+     */
+    private final AtomicReference<Exception> stageException;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * True: Pipeline is stopped, false: Otherwise
+     */
+    private volatile boolean isStopped;
+
+    /**
+     * True: Pipeline was started, false: Otherwise
+     */
+    private boolean isStarted;
+
+    /**
+     * Elapsed time of process() in nanoseconds
+     */
+    private long elapsedTimeInNanoseconds;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aName Pipeline name (used for thread names and report)
+     * @param aQueueCapacity Capacity of queue in front of each stage
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public FramePipeline(String aName, int aQueueCapacity) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aName == null || aName.isEmpty()) {
+            throw new IllegalArgumentException("aName is null/empty.");
+        }
+        if (aQueueCapacity < 1) {
+            throw new IllegalArgumentException("aQueueCapacity is less than 1.");
+        }
+        // </editor-fold>
+        this.name = aName;
+        this.queueCapacity = aQueueCapacity;
+        this.stages = new ArrayList<>();
+        this.stageStatisticsList = new ArrayList<>();
+        this.stageException = new AtomicReference<>(null);
+        this.isStopped = false;
+        this.isStarted = false;
+        this.elapsedTimeInNanoseconds = 0L;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Adds stage (stages are passed in the order of addition)
+     *
+     * @param aStageName Stage name
+     * @param aNumberOfThreads Number of threads of stage
+     * @param aStage Stage
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     * @throws IllegalStateException Thrown if pipeline was already started
+     */
+    public void addStage(String aStageName, int aNumberOfThreads, IFramePipelineStage aStage) throws IllegalArgumentException, IllegalStateException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aStageName == null || aStageName.isEmpty()) {
+            throw new IllegalArgumentException("aStageName is null/empty.");
+        }
+        if (aNumberOfThreads < 1) {
+            throw new IllegalArgumentException("aNumberOfThreads is less than 1.");
+        }
+        if (aStage == null) {
+            throw new IllegalArgumentException("aStage is null.");
+        }
+        if (this.isStarted) {
+            throw new IllegalStateException("Pipeline was already started.");
+        }
+        // </editor-fold>
+        this.stages.add(aStage);
+        this.stageStatisticsList.add(new FramePipelineStageStatistics(aStageName, aNumberOfThreads));
+    }
+
+    /**
+     * Passes all frames of input through all stages and blocks until the 
+     * last frame has passed the last stage or the pipeline is stopped.
+     * NOTE: Pipeline can only be processed once.
+     *
+     * @param aFrameIterator Iterator over frames (pipeline input, is only 
+     * accessed by calling thread)
+     * @return Number of frames that passed the last stage without being 
+     * discarded
+     * @throws IllegalArgumentException Thrown if aFrameIterator is null
+     * @throws IllegalStateException Thrown if pipeline has no stages or was 
+     * already started
+     * @throws Exception First exception of a stage or exception of 
+     * aFrameIterator
+     */
+    public long process(Iterator<?> aFrameIterator) throws IllegalArgumentException, IllegalStateException, Exception {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aFrameIterator == null) {
+            throw new IllegalArgumentException("aFrameIterator is null.");
+        }
+        if (this.stages.isEmpty()) {
+            throw new IllegalStateException("Pipeline has no stages.");
+        }
+        if (this.isStarted) {
+            throw new IllegalStateException("Pipeline was already started.");
+        }
+        // </editor-fold>
+        this.isStarted = true;
+        long tmpStartTime = System.nanoTime();
+        // <editor-fold defaultstate="collapsed" desc="Create queues and stage threads">
+        int tmpNumberOfStages = this.stages.size();
+        ArrayList<ArrayBlockingQueue<FrameItem>> tmpQueues = new ArrayList<>(tmpNumberOfStages);
+        int tmpTotalNumberOfThreads = 0;
+        for (int i = 0; i < tmpNumberOfStages; i++) {
+            tmpQueues.add(new ArrayBlockingQueue<>(this.queueCapacity));
+            tmpTotalNumberOfThreads += this.stageStatisticsList.get(i).getNumberOfThreads();
+        }
+        AtomicInteger tmpThreadIndex = new AtomicInteger(0);
+        ExecutorService tmpExecutorService = Executors.newFixedThreadPool(tmpTotalNumberOfThreads, aRunnable -> {
+            Thread tmpThread = new Thread(aRunnable, this.name + "-" + tmpThreadIndex.getAndIncrement());
+            tmpThread.setDaemon(true);
+            return tmpThread;
+        });
+        for (int i = 0; i < tmpNumberOfStages; i++) {
+            final int tmpStageIndex = i;
+            final AtomicInteger tmpNumberOfActiveThreads = new AtomicInteger(this.stageStatisticsList.get(i).getNumberOfThreads());
+            for (int j = 0; j < this.stageStatisticsList.get(i).getNumberOfThreads(); j++) {
+                tmpExecutorService.submit(() -> this.runStage(tmpStageIndex, tmpQueues, tmpNumberOfActiveThreads));
+            }
+        }
+        tmpExecutorService.shutdown();
+        // </editor-fold>
+        try {
+            // <editor-fold defaultstate="collapsed" desc="Feed frames into first stage">
+            try {
+                int tmpFrameIndex = 0;
+                while (!this.isStopped && aFrameIterator.hasNext()) {
+                    if (!this.putFrameItem(tmpQueues.get(0), new FrameItem(tmpFrameIndex++, aFrameIterator.next()), null)) {
+                        break;
+                    }
+                }
+                for (int i = 0; i < this.stageStatisticsList.get(0).getNumberOfThreads(); i++) {
+                    if (!this.putFrameItem(tmpQueues.get(0), FramePipeline.END_OF_FRAMES, null)) {
+                        break;
+                    }
+                }
+            } catch (InterruptedException anException) {
+                throw anException;
+            } catch (Exception anException) {
+                // Exception of aFrameIterator
+                this.stageException.compareAndSet(null, anException);
+                this.stop();
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Wait for stage threads">
+            while (!tmpExecutorService.awaitTermination(ModelDefinitions.FRAME_PIPELINE_POLL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                // Wait
+            }
+            // </editor-fold>
+        } catch (InterruptedException anException) {
+            this.stop();
+            tmpExecutorService.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw anException;
+        } finally {
+            this.elapsedTimeInNanoseconds = System.nanoTime() - tmpStartTime;
+        }
+        if (this.stageException.get() != null) {
+            throw this.stageException.get();
+        }
+        FramePipelineStageStatistics tmpLastStageStatistics = this.stageStatisticsList.get(tmpNumberOfStages - 1);
+        return tmpLastStageStatistics.getNumberOfFrames() - tmpLastStageStatistics.getNumberOfDiscardedFrames();
+    }
+
+    /**
+     * Stops pipeline: Frames in progress are finished by their current stage
+     * but are not passed to the next stage.
+     */
+    public void stop() {
+        this.isStopped = true;
+    }
+
+    /**
+     * Returns multi-line throughput report of all stages with bottleneck
+     * stage
+     *
+     * @return Throughput report
+     */
+    public String getThroughputReport() {
+        StringBuilder tmpBuilder = new StringBuilder();
+        tmpBuilder.append(this.name);
+        tmpBuilder.append(String.format(Locale.ENGLISH, " (%.3f s)", (double) this.elapsedTimeInNanoseconds / 1.0E9));
+        FramePipelineStageStatistics tmpBottleneckStageStatistics = null;
+        for (FramePipelineStageStatistics tmpStageStatistics : this.stageStatisticsList) {
+            tmpBuilder.append(ModelDefinitions.LINE_SEPARATOR);
+            tmpBuilder.append(tmpStageStatistics.getReport());
+            if (tmpStageStatistics.getNumberOfFrames() > 0 
+                && (tmpBottleneckStageStatistics == null || tmpStageStatistics.getFramesPerSecond() < tmpBottleneckStageStatistics.getFramesPerSecond())
+            ) {
+                tmpBottleneckStageStatistics = tmpStageStatistics;
+            }
+        }
+        if (tmpBottleneckStageStatistics != null) {
+            tmpBuilder.append(ModelDefinitions.LINE_SEPARATOR);
+            tmpBuilder.append("Bottleneck: ");
+            tmpBuilder.append(tmpBottleneckStageStatistics.getStageName());
+        }
+        return tmpBuilder.toString();
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Pipeline name
+     *
+     * @return Pipeline name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * True: Pipeline is stopped, false: Otherwise
+     *
+     * @return True: Pipeline is stopped, false: Otherwise
+     */
+    public boolean isStopped() {
+        return this.isStopped;
+    }
+
+    /**
+     * Statistics of stages in stage order
+     *
+     * @return Statistics of stages
+     */
+    public FramePipelineStageStatistics[] getStageStatistics() {
+        return this.stageStatisticsList.toArray(new FramePipelineStageStatistics[0]);
+    }
+
+    /**
+     * Elapsed time of process() in nanoseconds
+     *
+     * @return Elapsed time of process() in nanoseconds
+     */
+    public long getElapsedTimeInNanoseconds() {
+        return this.elapsedTimeInNanoseconds;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Runs single thread of stage (takes frames from stage queue, processes 
+     * them and puts results into queue of next stage)
+     *
+     * @param aStageIndex Stage index
+     * @param aQueues Queues
+     * @param aNumberOfActiveThreads Number of active threads of stage
+     */
+    private void runStage(int aStageIndex, ArrayList<ArrayBlockingQueue<FrameItem>> aQueues, AtomicInteger aNumberOfActiveThreads) {
+        IFramePipelineStage tmpStage = this.stages.get(aStageIndex);
+        FramePipelineStageStatistics tmpStageStatistics = this.stageStatisticsList.get(aStageIndex);
+        ArrayBlockingQueue<FrameItem> tmpInputQueue = aQueues.get(aStageIndex);
+        ArrayBlockingQueue<FrameItem> tmpOutputQueue = null;
+        if (aStageIndex < aQueues.size() - 1) {
+            tmpOutputQueue = aQueues.get(aStageIndex + 1);
+        }
+        try {
+            while (!this.isStopped) {
+                // <editor-fold defaultstate="collapsed" desc="Take frame">
+                long tmpWaitStartTime = System.nanoTime();
+                FrameItem tmpFrameItem = tmpInputQueue.poll(ModelDefinitions.FRAME_PIPELINE_POLL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+                tmpStageStatistics.addInputWaitTime(System.nanoTime() - tmpWaitStartTime);
+                if (tmpFrameItem == null) {
+                    continue;
+                }
+                if (tmpFrameItem == FramePipeline.END_OF_FRAMES) {
+                    break;
+                }
+                // </editor-fold>
+                // <editor-fold defaultstate="collapsed" desc="Process frame">
+                long tmpBusyStartTime = System.nanoTime();
+                Object tmpResult = tmpStage.process(tmpFrameItem.frameIndex, tmpFrameItem.frame);
+                tmpStageStatistics.addFrame(System.nanoTime() - tmpBusyStartTime, tmpResult == null);
+                // </editor-fold>
+                // <editor-fold defaultstate="collapsed" desc="Put result">
+                if (tmpResult != null && tmpOutputQueue != null) {
+                    if (!this.putFrameItem(tmpOutputQueue, new FrameItem(tmpFrameItem.frameIndex, tmpResult), tmpStageStatistics)) {
+                        break;
+                    }
+                }
+                // </editor-fold>
+            }
+        } catch (Exception anException) {
+            this.stageException.compareAndSet(null, anException);
+            this.stop();
+        } finally {
+            // NOTE: Last active thread of stage passes end-of-frames markers for all threads of next stage
+            if (aNumberOfActiveThreads.decrementAndGet() == 0 && tmpOutputQueue != null) {
+                try {
+                    for (int i = 0; i < this.stageStatisticsList.get(aStageIndex + 1).getNumberOfThreads(); i++) {
+                        if (!this.putFrameItem(tmpOutputQueue, FramePipeline.END_OF_FRAMES, null)) {
+                            break;
+                        }
+                    }
+                } catch (InterruptedException anException) {
+                    this.stop();
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts frame item into queue (blocks while queue is full and pipeline is
+     * not stopped)
+     *
+     * @param aQueue Queue
+     * @param aFrameItem Frame item
+     * @param aStageStatistics Stage statistics for output wait time (may be 
+     * null)
+     * @return True: Frame item was put into queue, false: Pipeline is stopped
+     * @throws InterruptedException Thrown if thread was interrupted
+     */
+    private boolean putFrameItem(ArrayBlockingQueue<FrameItem> aQueue, FrameItem aFrameItem, FramePipelineStageStatistics aStageStatistics) throws InterruptedException {
+        long tmpWaitStartTime = System.nanoTime();
+        try {
+            while (!this.isStopped) {
+                if (aQueue.offer(aFrameItem, ModelDefinitions.FRAME_PIPELINE_POLL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            if (aStageStatistics != null) {
+                aStageStatistics.addOutputWaitTime(System.nanoTime() - tmpWaitStartTime);
+            }
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private classes">
+    /**
+     * Queued frame with frame index
+     */
+    private static class FrameItem {
+
+        /**
+         * Frame index
+         */
+        final int frameIndex;
+
+        /**
+         * Frame
+         */
+        final Object frame;
+
+        /**
+         * Constructor
+         *
+         * @param aFrameIndex Frame index
+         * @param aFrame Frame
+         */
+        FrameItem(int aFrameIndex, Object aFrame) {
+            this.frameIndex = aFrameIndex;
+            this.frame = aFrame;
+        }
+
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,227 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.slice;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput statistics of a single frame pipeline stage. Input wait time
+ * is the time stage threads wait for frames of the previous stage (stage is 
+ * starved), output wait time is the time stage threads wait for free space 
+ * in the queue of the next stage (stage is blocked by back-pressure). The 
+ * stage with the lowest throughput per busy time is the bottleneck of the 
+ * pipeline.
+ *
+ * @author Achim Zielesny
+ */
+public class FramePipelineStageStatistics {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Stage name
+     */
+    private final String stageName;
+
+    /**
+     * Number of threads of stage
+     */
+    private final int numberOfThreads;
+
+    /**
+     * Number of processed frames
+     */
+    private final AtomicLong numberOfFrames;
+
+    /**
+     * Number of discarded frames
+     */
+    private final AtomicLong numberOfDiscardedFrames;
+
+    /**
+     * Busy time of all stage threads in nanoseconds
+     */
+    private final AtomicLong busyTimeInNanoseconds;
+
+    /**
+     * Input wait time of all stage threads in nanoseconds
+     */
+    private final AtomicLong inputWaitTimeInNanoseconds;
+
+    /**
+     * Output wait time of all stage threads in nanoseconds
+     */
+    private final AtomicLong outputWaitTimeInNanoseconds;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aStageName Stage name
+     * @param aNumberOfThreads Number of threads of stage
+     */
+    FramePipelineStageStatistics(String aStageName, int aNumberOfThreads) {
+        this.stageName = aStageName;
+        this.numberOfThreads = aNumberOfThreads;
+        this.numberOfFrames = new AtomicLong(0L);
+        this.numberOfDiscardedFrames = new AtomicLong(0L);
+        this.busyTimeInNanoseconds = new AtomicLong(0L);
+        this.inputWaitTimeInNanoseconds = new AtomicLong(0L);
+        this.outputWaitTimeInNanoseconds = new AtomicLong(0L);
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Returns single line report
+     *
+     * @return Single line report
+     */
+    public String getReport() {
+        return String.format(
+            Locale.ENGLISH,
+            "%s: Threads = %d, frames = %d, discarded = %d, busy = %.3f s, input wait = %.3f s, output wait = %.3f s, throughput = %.2f frames/s",
+            this.stageName,
+            this.numberOfThreads,
+            this.getNumberOfFrames(),
+            this.getNumberOfDiscardedFrames(),
+            (double) this.getBusyTimeInNanoseconds() / 1.0E9,
+            (double) this.getInputWaitTimeInNanoseconds() / 1.0E9,
+            (double) this.getOutputWaitTimeInNanoseconds() / 1.0E9,
+            this.getFramesPerSecond()
+        );
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Stage name
+     *
+     * @return Stage name
+     */
+    public String getStageName() {
+        return this.stageName;
+    }
+
+    /**
+     * Number of threads of stage
+     *
+     * @return Number of threads of stage
+     */
+    public int getNumberOfThreads() {
+        return this.numberOfThreads;
+    }
+
+    /**
+     * Number of processed frames (including discarded frames)
+     *
+     * @return Number of processed frames
+     */
+    public long getNumberOfFrames() {
+        return this.numberOfFrames.get();
+    }
+
+    /**
+     * Number of discarded frames
+     *
+     * @return Number of discarded frames
+     */
+    public long getNumberOfDiscardedFrames() {
+        return this.numberOfDiscardedFrames.get();
+    }
+
+    /**
+     * Busy time of all stage threads in nanoseconds
+     *
+     * @return Busy time of all stage threads in nanoseconds
+     */
+    public long getBusyTimeInNanoseconds() {
+        return this.busyTimeInNanoseconds.get();
+    }
+
+    /**
+     * Input wait time of all stage threads in nanoseconds
+     *
+     * @return Input wait time of all stage threads in nanoseconds
+     */
+    public long getInputWaitTimeInNanoseconds() {
+        return this.inputWaitTimeInNanoseconds.get();
+    }
+
+    /**
+     * Output wait time of all stage threads in nanoseconds
+     *
+     * @return Output wait time of all stage threads in nanoseconds
+     */
+    public long getOutputWaitTimeInNanoseconds() {
+        return this.outputWaitTimeInNanoseconds.get();
+    }
+
+    /**
+     * Throughput of stage, i.e. number of processed frames per second of 
+     * busy time of all stage threads (0.0 if no frame was processed)
+     *
+     * @return Throughput of stage in frames per second
+     */
+    public double getFramesPerSecond() {
+        long tmpBusyTimeInNanoseconds = this.getBusyTimeInNanoseconds();
+        if (tmpBusyTimeInNanoseconds <= 0L) {
+            return 0.0;
+        }
+        return (double) this.getNumberOfFrames() * (double) this.numberOfThreads * 1.0E9 / (double) tmpBusyTimeInNanoseconds;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Package-private methods">
+    /**
+     * Adds processed frame
+     *
+     * @param aBusyTimeInNanoseconds Busy time in nanoseconds
+     * @param anIsDiscarded True: Frame was discarded, false: Otherwise
+     */
+    void addFrame(long aBusyTimeInNanoseconds, boolean anIsDiscarded) {
+        this.numberOfFrames.incrementAndGet();
+        if (anIsDiscarded) {
+            this.numberOfDiscardedFrames.incrementAndGet();
+        }
+        this.busyTimeInNanoseconds.addAndGet(aBusyTimeInNanoseconds);
+    }
+
+    /**
+     * Adds input wait time
+     *
+     * @param aWaitTimeInNanoseconds Wait time in nanoseconds
+     */
+    void addInputWaitTime(long aWaitTimeInNanoseconds) {
+        this.inputWaitTimeInNanoseconds.addAndGet(aWaitTimeInNanoseconds);
+    }
+
+    /**
+     * Adds output wait time
+     *
+     * @param aWaitTimeInNanoseconds Wait time in nanoseconds
+     */
+    void addOutputWaitTime(long aWaitTimeInNanoseconds) {
+        this.outputWaitTimeInNanoseconds.addAndGet(aWaitTimeInNanoseconds);
+    }
+    // </editor-fold>
+
+}
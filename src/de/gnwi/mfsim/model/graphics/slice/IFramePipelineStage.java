@@ -0,0 +1,42 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.slice;
+
+/**
+ * Stage of a frame pipeline
+ *
+ * @author Achim Zielesny
+ */
+public interface IFramePipelineStage {
+
+    /**
+     * Processes a single frame. 
+     * NOTE: This method is called concurrently by all threads of the stage.
+     *
+     * @param aFrameIndex Index of frame in pipeline input
+     * @param aFrame Frame (result of previous stage or pipeline input)
+     * @return Processed frame that is passed to next stage or null if frame 
+     * is to be discarded
+     * @throws Exception Thrown if frame could not be processed (pipeline is
+     * stopped)
+     */
+    public Object process(int aFrameIndex, Object aFrame) throws Exception;
+
+}
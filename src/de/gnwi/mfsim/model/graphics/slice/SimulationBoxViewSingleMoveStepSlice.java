@@ -24,12 +24,14 @@ import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
 import de.gnwi.mfsim.model.graphics.factory.BufferedImageGraphicsFactory;
 import de.gnwi.mfsim.model.graphics.ImageFileType;
 import de.gnwi.mfsim.model.graphics.factory.PixelGraphicsFactory;
+import de.gnwi.mfsim.model.graphics.factory.TilePixelGraphicsFactory;
 import de.gnwi.mfsim.model.graphics.SimulationBoxViewEnum;
 import de.gnwi.mfsim.model.graphics.TargetCoordinatesAndSize;
 import de.gnwi.mfsim.model.graphics.factory.VolatileImageGraphicsFactory;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePosition;
 import de.gnwi.mfsim.model.graphics.GraphicsUtilityMethods;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionArrayList;
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionFrameBuffer;
 import de.gnwi.mfsim.model.graphics.GraphicsUtils;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticle;
 import de.gnwi.mfsim.model.preference.Preferences;
@@ -328,24 +330,37 @@ public class SimulationBoxViewSingleMoveStepSlice implements Callable<Boolean> {
             this.setProgressValue(0);
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Set graphical particle positions">
-            if (this.moveStepInfo.getGraphicalParticlePositionInfo() == null) {
-                // Fire property change to notify property change listeners about cancellation due to internal error
-                this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
-                this.isFinished = true;
-                return false;
+            GraphicalParticlePositionFrameBuffer tmpGraphicalParticlePositionFrameBuffer = this.moveStepInfo.getGraphicalParticlePositionFrameBuffer();
+            if (tmpGraphicalParticlePositionFrameBuffer != null) {
+                // Derive positions from shared buffer (already filtered and shifted): Rotation angles are absolute
+                this.graphicalParticlePositionArrayList = 
+                    tmpGraphicalParticlePositionFrameBuffer.getRotatedGraphicalParticlePositionArrayList(
+                        this.moveStepInfo.getRotationAroundXaxisAngle(),
+                        this.moveStepInfo.getRotationAroundYaxisAngle(),
+                        this.moveStepInfo.getRotationAroundZaxisAngle()
+                    );
+                // NOTE: Preferences.getInstance().getSimulationBoxMagnificationPercentage() means magnification so enlarge with corresponding negative value which means box size reduction
+                this.boxSizeInfo = tmpGraphicalParticlePositionFrameBuffer.getBoxSizeInfo().getEnlargedBoxSizeInfo(-this.moveStepInfo.getSimulationBoxMagnificationPercentage());
+            } else {
+                if (this.moveStepInfo.getGraphicalParticlePositionInfo() == null) {
+                    // Fire property change to notify property change listeners about cancellation due to internal error
+                    this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
+                    this.isFinished = true;
+                    return false;
+                }
+                this.moveStepInfo.getGraphicalParticlePositionInfo().setExclusionBoxSizeInfo(this.moveStepInfo.getExclusionBoxSizeInfo());
+                this.moveStepInfo.getGraphicalParticlePositionInfo().setCurrentGraphicalParticlePositions(
+                    this.moveStepInfo.getRotationAroundXaxisAngle(),
+                    this.moveStepInfo.getRotationAroundYaxisAngle(),
+                    this.moveStepInfo.getRotationAroundZaxisAngle(),
+                    this.moveStepInfo.getParticleShiftX(),
+                    this.moveStepInfo.getParticleShiftY(),
+                    this.moveStepInfo.getParticleShiftZ()
+                );
+                this.graphicalParticlePositionArrayList = this.moveStepInfo.getGraphicalParticlePositionInfo().getCurrentGraphicalParticlePositionArrayList();
+                // NOTE: Preferences.getInstance().getSimulationBoxMagnificationPercentage() means magnification so enlarge with corresponding negative value which means box size reduction
+                this.boxSizeInfo = this.moveStepInfo.getGraphicalParticlePositionInfo().getCurrentBoxSizeInfo().getEnlargedBoxSizeInfo(-this.moveStepInfo.getSimulationBoxMagnificationPercentage());
             }
-            this.moveStepInfo.getGraphicalParticlePositionInfo().setExclusionBoxSizeInfo(this.moveStepInfo.getExclusionBoxSizeInfo());
-            this.moveStepInfo.getGraphicalParticlePositionInfo().setCurrentGraphicalParticlePositions(
-                this.moveStepInfo.getRotationAroundXaxisAngle(),
-                this.moveStepInfo.getRotationAroundYaxisAngle(),
-                this.moveStepInfo.getRotationAroundZaxisAngle(),
-                this.moveStepInfo.getParticleShiftX(),
-                this.moveStepInfo.getParticleShiftY(),
-                this.moveStepInfo.getParticleShiftZ()
-            );
-            this.graphicalParticlePositionArrayList = this.moveStepInfo.getGraphicalParticlePositionInfo().getCurrentGraphicalParticlePositionArrayList();
-            // NOTE: Preferences.getInstance().getSimulationBoxMagnificationPercentage() means magnification so enlarge with corresponding negative value which means box size reduction
-            this.boxSizeInfo = this.moveStepInfo.getGraphicalParticlePositionInfo().getCurrentBoxSizeInfo().getEnlargedBoxSizeInfo(-this.moveStepInfo.getSimulationBoxMagnificationPercentage());
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Check if canceled">
             if (this.isStopped) {
@@ -410,6 +425,12 @@ public class SimulationBoxViewSingleMoveStepSlice implements Callable<Boolean> {
                 case PIXEL_FINAL:
                     tmpGraphicsFactory = new PixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, false);
                     break;
+                case PIXEL_TILES_ALL:
+                    tmpGraphicsFactory = new TilePixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, true);
+                    break;
+                case PIXEL_TILES_FINAL:
+                    tmpGraphicsFactory = new TilePixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, false);
+                    break;
                 case BUFFERED_IMAGE_ALL:
                     tmpGraphicsFactory = new BufferedImageGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, true);
                     break;
@@ -560,6 +581,7 @@ public class SimulationBoxViewSingleMoveStepSlice implements Callable<Boolean> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="IMPORTANT: Release memory for GraphicalParticlePositionInfo of this.moveStepInfo">
             this.moveStepInfo.setGraphicalParticlePositionInfo(null);
+            this.moveStepInfo.setGraphicalParticlePositionFrameBuffer(null);
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Clean up graphics factory">
             tmpGraphicsFactory.cleanUp();
@@ -24,10 +24,12 @@ import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
 import de.gnwi.mfsim.model.graphics.factory.BufferedImageGraphicsFactory;
 import de.gnwi.mfsim.model.graphics.ImageFileType;
 import de.gnwi.mfsim.model.graphics.factory.PixelGraphicsFactory;
+import de.gnwi.mfsim.model.graphics.factory.TilePixelGraphicsFactory;
 import de.gnwi.mfsim.model.graphics.SimulationBoxViewEnum;
 import de.gnwi.mfsim.model.graphics.TargetCoordinatesAndSize;
 import de.gnwi.mfsim.model.graphics.factory.VolatileImageGraphicsFactory;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePosition;
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionFrameBuffer;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionInfo;
 import de.gnwi.mfsim.model.graphics.GraphicsUtilityMethods;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionArrayList;
@@ -330,21 +332,34 @@ public class SimulationBoxViewSingleSpinStepSlice implements Callable<Boolean> {
             this.setProgressValue(0);
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Set graphical particle positions">
-            GraphicalParticlePositionInfo tmpGraphicalParticlePositionInfo = this.spinStepInfo.getGraphicalParticlePositionInfo();
-            if (tmpGraphicalParticlePositionInfo == null) {
-                // Fire property change to notify property change listeners about cancellation due to internal error
-                this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
-                this.isFinished = true;
-                return false;
+            GraphicalParticlePositionFrameBuffer tmpGraphicalParticlePositionFrameBuffer = this.spinStepInfo.getGraphicalParticlePositionFrameBuffer();
+            if (tmpGraphicalParticlePositionFrameBuffer != null) {
+                // Derive positions from shared buffer: Rotation angles are absolute
+                this.graphicalParticlePositionArrayList = 
+                    tmpGraphicalParticlePositionFrameBuffer.getRotatedGraphicalParticlePositionArrayList(
+                        this.spinStepInfo.getRotationAroundXaxisAngle(),
+                        this.spinStepInfo.getRotationAroundYaxisAngle(),
+                        this.spinStepInfo.getRotationAroundZaxisAngle()
+                    );
+                // NOTE: Preferences.getInstance().getSimulationBoxMagnificationPercentage() means magnification so enlarge with corresponding negative value which means box size reduction
+                this.boxSizeInfo = tmpGraphicalParticlePositionFrameBuffer.getBoxSizeInfo().getEnlargedBoxSizeInfo(-Preferences.getInstance().getSimulationBoxMagnificationPercentage());
+            } else {
+                GraphicalParticlePositionInfo tmpGraphicalParticlePositionInfo = this.spinStepInfo.getGraphicalParticlePositionInfo();
+                if (tmpGraphicalParticlePositionInfo == null) {
+                    // Fire property change to notify property change listeners about cancellation due to internal error
+                    this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
+                    this.isFinished = true;
+                    return false;
+                }
+                tmpGraphicalParticlePositionInfo.rotateCurrentGraphicalParticlePositions(
+                        this.spinStepInfo.getRotationAroundXaxisAngle(),
+                        this.spinStepInfo.getRotationAroundYaxisAngle(),
+                        this.spinStepInfo.getRotationAroundZaxisAngle()
+                );
+                this.graphicalParticlePositionArrayList = tmpGraphicalParticlePositionInfo.getCurrentGraphicalParticlePositionArrayList();
+                // NOTE: Preferences.getInstance().getSimulationBoxMagnificationPercentage() means magnification so enlarge with corresponding negative value which means box size reduction
+                this.boxSizeInfo = tmpGraphicalParticlePositionInfo.getCurrentBoxSizeInfo().getEnlargedBoxSizeInfo(-Preferences.getInstance().getSimulationBoxMagnificationPercentage());
             }
-            tmpGraphicalParticlePositionInfo.rotateCurrentGraphicalParticlePositions(
-                    this.spinStepInfo.getRotationAroundXaxisAngle(),
-                    this.spinStepInfo.getRotationAroundYaxisAngle(),
-                    this.spinStepInfo.getRotationAroundZaxisAngle()
-            );
-            this.graphicalParticlePositionArrayList = tmpGraphicalParticlePositionInfo.getCurrentGraphicalParticlePositionArrayList();
-            // NOTE: Preferences.getInstance().getSimulationBoxMagnificationPercentage() means magnification so enlarge with corresponding negative value which means box size reduction
-            this.boxSizeInfo = tmpGraphicalParticlePositionInfo.getCurrentBoxSizeInfo().getEnlargedBoxSizeInfo(-Preferences.getInstance().getSimulationBoxMagnificationPercentage());
 
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Check if canceled">
@@ -411,6 +426,12 @@ public class SimulationBoxViewSingleSpinStepSlice implements Callable<Boolean> {
                 case PIXEL_FINAL:
                     tmpGraphicsFactory = new PixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, false);
                     break;
+                case PIXEL_TILES_ALL:
+                    tmpGraphicsFactory = new TilePixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, true);
+                    break;
+                case PIXEL_TILES_FINAL:
+                    tmpGraphicsFactory = new TilePixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, false);
+                    break;
                 case BUFFERED_IMAGE_ALL:
                     tmpGraphicsFactory = new BufferedImageGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, true);
                     break;
@@ -23,6 +23,7 @@ import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
 import de.gnwi.mfsim.model.graphics.factory.BufferedImageGraphicsFactory;
 import de.gnwi.mfsim.model.graphics.ImageFileType;
 import de.gnwi.mfsim.model.graphics.factory.PixelGraphicsFactory;
+import de.gnwi.mfsim.model.graphics.factory.TilePixelGraphicsFactory;
 import de.gnwi.mfsim.model.graphics.SimulationBoxViewEnum;
 import de.gnwi.mfsim.model.graphics.TargetCoordinatesAndSize;
 import de.gnwi.mfsim.model.graphics.factory.VolatileImageGraphicsFactory;
@@ -110,11 +111,21 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
      */
     private Slice[] slices;
 
+    /**
+     * Graphical particle position info (read stage result)
+     */
+    private GraphicalParticlePositionInfo graphicalParticlePositionInfo;
+
     /**
      * Graphical particle position array list
      */
     private GraphicalParticlePositionArrayList graphicalParticlePositionArrayList;
 
+    /**
+     * Slice image (rasterize stage result)
+     */
+    private BufferedImage image;
+
     /**
      * Simulation step info
      */
@@ -317,6 +328,9 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
     /**
      * This method will be called when the task is executed. The methods
      * creates the slices in the destination directory.
+     * NOTE: The stage methods readParticlePositions(), 
+     * transformParticlePositions(), rasterizeParticlePositions() and 
+     * storeImage() are called in sequence.
      *
      * @return True if the slices have been created successfully, otherwise
      * false.
@@ -324,51 +338,88 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
      */
     @Override
     public Boolean call() throws Exception {
+        try {
+            return 
+                this.readParticlePositions()
+                && this.transformParticlePositions()
+                && this.rasterizeParticlePositions()
+                && this.storeImage();
+        } finally {
+            // Set this.graphicalParticlePositionArrayList to null to free memory (heap space)
+            this.releaseMemory();
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public stage methods">
+    /**
+     * Stage 1: Reads graphical particle positions of time step (I/O bound).
+     * NOTE: Task starts with this stage.
+     *
+     * @return True: Stage was successful and next stage may follow, false:
+     * Task was stopped or failed (property change listeners are notified 
+     * about failure)
+     */
+    public boolean readParticlePositions() {
         try {
             // <editor-fold defaultstate="collapsed" desc="Local variables">
             JobUtilityMethods tmpUtilityJobMethods = new JobUtilityMethods();
-            int tmpXCoordinate;
-            int tmpYCoordinate;
-            int tmpDiameter;
-            IGraphicsFactory tmpGraphicsFactory;
-            double tmpChangeDarkerFraction;
-            TargetCoordinatesAndSize tmpTargetCoordinatesAndSize;
-            int tmpTargetImageWidth;
-            int tmpTargetImageHeight;
-            double tmpPixelTransformationFactor;
-            double tmpOldPixelTransformationFactor;
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Task starts. Set progress in percent to 0.">
             this.isStarted = true;
             this.setProgressValue(0);
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Read graphical particle positions">
-            GraphicalParticlePositionInfo tmpGraphicalParticlePositionInfo = 
+            this.graphicalParticlePositionInfo = 
                 tmpUtilityJobMethods.readGraphicalParticlePositionsWithRepetitions(this.timeStepInfo.getJobResultParticlePositionsFilePathname(),
                     this.jobInputValueItemContainer,
                     ModelDefinitions.NUMBER_OF_GRAPHICAL_PARTICLE_POSITION_FILE_READ_REPETITIONS,
                     ModelDefinitions.GRAPHICAL_PARTICLE_POSITION_FILE_READ_DELAY
                 );
-            if (tmpGraphicalParticlePositionInfo == null) {
-                // Fire property change to notify property change listeners about cancellation due to internal error
-                this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
-                this.isFinished = true;
-                return false;
+            if (this.graphicalParticlePositionInfo == null) {
+                // Notify property change listeners about cancellation due to internal error
+                return this.finishWithoutSuccess(true);
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Check if canceled">
+            if (this.isStopped) {
+                return this.finishWithoutSuccess(false);
             }
+
+            // </editor-fold>
+            return true;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return this.finishWithoutSuccess(true);
+        }
+    }
+
+    /**
+     * Stage 2: Applies display settings, exclusions, rotation and shift to 
+     * read graphical particle positions and sorts them according to box view
+     * (CPU bound).
+     *
+     * @return True: Stage was successful and next stage may follow, false:
+     * Task was stopped or failed (property change listeners are notified 
+     * about failure)
+     */
+    public boolean transformParticlePositions() {
+        try {
+            // <editor-fold defaultstate="collapsed" desc="Set current graphical particle positions">
             if (this.simulationMovieSlicerConfiguration.hasMoleculeDisplaySettingsValueItemContainer()) {
                 // Set current graphical particle positions according to settings (colors, scaled radii, exclusions, rotations)
-                tmpGraphicalParticlePositionInfo.getGraphicalParticleInfo().setExclusionsColorsAndPreferences(this.simulationMovieSlicerConfiguration.getMoleculeDisplaySettingsValueItemContainer());
-                tmpGraphicalParticlePositionInfo.getGraphicalParticleInfo().setCurrentColorAndScaledRadiusOfParticles();
+                this.graphicalParticlePositionInfo.getGraphicalParticleInfo().setExclusionsColorsAndPreferences(this.simulationMovieSlicerConfiguration.getMoleculeDisplaySettingsValueItemContainer());
+                this.graphicalParticlePositionInfo.getGraphicalParticleInfo().setCurrentColorAndScaledRadiusOfParticles();
             }
             // Set exclusion box size info
             if (this.simulationMovieSlicerConfiguration.hasExclusionBoxSizeInfo()) {
-                tmpGraphicalParticlePositionInfo.setExclusionBoxSizeInfo(this.simulationMovieSlicerConfiguration.getExclusionBoxSizeInfo());
+                this.graphicalParticlePositionInfo.setExclusionBoxSizeInfo(this.simulationMovieSlicerConfiguration.getExclusionBoxSizeInfo());
             }
             // Set molecule selection manager
             if (this.simulationMovieSlicerConfiguration.hasMoleculeSelectionManager()) {
-                tmpGraphicalParticlePositionInfo.setMoleculeSelectionManager(this.simulationMovieSlicerConfiguration.getMoleculeSelectionManager());
+                this.graphicalParticlePositionInfo.setMoleculeSelectionManager(this.simulationMovieSlicerConfiguration.getMoleculeSelectionManager());
             }
-            tmpGraphicalParticlePositionInfo.setCurrentGraphicalParticlePositions(
+            this.graphicalParticlePositionInfo.setCurrentGraphicalParticlePositions(
                 this.timeStepInfo.getRotationAroundXaxisAngle(),
                 this.timeStepInfo.getRotationAroundYaxisAngle(),
                 this.timeStepInfo.getRotationAroundZaxisAngle(),
@@ -376,20 +427,50 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
                 this.timeStepInfo.getParticleShiftY(),
                 this.timeStepInfo.getParticleShiftZ()
             );
-            this.graphicalParticlePositionArrayList = tmpGraphicalParticlePositionInfo.getCurrentGraphicalParticlePositionArrayList();
+            this.graphicalParticlePositionArrayList = this.graphicalParticlePositionInfo.getCurrentGraphicalParticlePositionArrayList();
             // NOTE: Preferences.getInstance().getSimulationBoxMagnificationPercentage() means magnification so enlarge with corresponding negative value which means box size reduction
-            this.boxSizeInfo = tmpGraphicalParticlePositionInfo.getCurrentBoxSizeInfo().getEnlargedBoxSizeInfo(-Preferences.getInstance().getSimulationBoxMagnificationPercentage());
+            this.boxSizeInfo = this.graphicalParticlePositionInfo.getCurrentBoxSizeInfo().getEnlargedBoxSizeInfo(-Preferences.getInstance().getSimulationBoxMagnificationPercentage());
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Check if canceled">
             if (this.isStopped) {
-                this.isFinished = true;
-                return false;
+                return this.finishWithoutSuccess(false);
             }
 
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Sort graphical particle positions according to box view">
             this.graphicsUtilityMethods.sortGraphicalParticlePositions(this.boxView, this.graphicalParticlePositionArrayList);
 
+            // </editor-fold>
+            // IMPORTANT: Graphical particle position info is no longer needed
+            this.graphicalParticlePositionInfo = null;
+            return true;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return this.finishWithoutSuccess(true);
+        }
+    }
+
+    /**
+     * Stage 3: Rasterizes sorted graphical particle positions slice by slice
+     * to image (CPU bound).
+     *
+     * @return True: Stage was successful and next stage may follow, false:
+     * Task was stopped or failed (property change listeners are notified 
+     * about failure)
+     */
+    public boolean rasterizeParticlePositions() {
+        try {
+            // <editor-fold defaultstate="collapsed" desc="Local variables">
+            int tmpXCoordinate;
+            int tmpYCoordinate;
+            int tmpDiameter;
+            IGraphicsFactory tmpGraphicsFactory;
+            double tmpChangeDarkerFraction;
+            TargetCoordinatesAndSize tmpTargetCoordinatesAndSize;
+            int tmpTargetImageWidth;
+            int tmpTargetImageHeight;
+            double tmpPixelTransformationFactor;
+            double tmpOldPixelTransformationFactor;
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Set tmpChangeDarkerFactor">
             tmpChangeDarkerFraction = Preferences.getInstance().getDepthAttenuationSlicer() / Preferences.getInstance().getNumberOfSlicesPerView();
@@ -401,8 +482,7 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Check if canceled">
             if (this.isStopped) {
-                this.isFinished = true;
-                return false;
+                return this.finishWithoutSuccess(false);
             }
 
             // </editor-fold>
@@ -443,6 +523,12 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
                 case PIXEL_FINAL:
                     tmpGraphicsFactory = new PixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, false);
                     break;
+                case PIXEL_TILES_ALL:
+                    tmpGraphicsFactory = new TilePixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, true);
+                    break;
+                case PIXEL_TILES_FINAL:
+                    tmpGraphicsFactory = new TilePixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, false);
+                    break;
                 case BUFFERED_IMAGE_ALL:
                     tmpGraphicsFactory = new BufferedImageGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, true);
                     break;
@@ -468,8 +554,7 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
             // <editor-fold defaultstate="collapsed" desc="Main loop over slices">
             // <editor-fold defaultstate="collapsed" desc="Check if canceled">
             if (this.isStopped) {
-                this.isFinished = true;
-                return false;
+                return this.finishWithoutSuccess(false);
             }
 
             // </editor-fold>
@@ -477,8 +562,7 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
             for (int k = this.slices.length - 1; k >= Preferences.getInstance().getFirstSliceIndex(); k--) {
                 // <editor-fold defaultstate="collapsed" desc="Check if canceled">
                 if (this.isStopped) {
-                    this.isFinished = true;
-                    return false;
+                    return this.finishWithoutSuccess(false);
                 }
 
                 // </editor-fold>
@@ -495,8 +579,7 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
                 // </editor-fold>
                 // <editor-fold defaultstate="collapsed" desc="Check if canceled">
                 if (this.isStopped) {
-                    this.isFinished = true;
-                    return false;
+                    return this.finishWithoutSuccess(false);
                 }
 
                 // </editor-fold>
@@ -541,10 +624,8 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
                                         - tmpGraphicalParticle.getRadiusInPixel();
                                 break;
                             default:
-                                // Fire property change to notify property change listeners about cancellation due to internal error
-                                this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
-                                this.isFinished = true;
-                                return false;
+                                // Notify property change listeners about cancellation due to internal error
+                                return this.finishWithoutSuccess(true);
                         }
                         tmpXCoordinate += tmpTargetCoordinatesAndSize.getXcoordinateWithXshift(this.timeStepInfo.getXshiftInPixel());
                         tmpYCoordinate += tmpTargetCoordinatesAndSize.getYcoordinateWithYshift(this.timeStepInfo.getYshiftInPixel());
@@ -564,24 +645,45 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
                 // </editor-fold>
             }
             // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Get slice image and clean up graphics factory">
+            this.image = tmpGraphicsFactory.getImage();
+            tmpGraphicsFactory.cleanUp();
+            this.slices = null;
+            this.graphicalParticlePositionArrayList = null;
+
+            // </editor-fold>
+            return true;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return this.finishWithoutSuccess(true);
+        }
+    }
+
+    /**
+     * Stage 4: Stores image according to image storage mode (I/O bound for
+     * hard disk storage, CPU bound for compressed memory storage).
+     * NOTE: Task finishes with this stage.
+     *
+     * @return True: Task has successfully finished, false: Task was stopped 
+     * or failed (property change listeners are notified about failure)
+     */
+    public boolean storeImage() {
+        try {
             // <editor-fold defaultstate="collapsed" desc="Keep slice image">
-            BufferedImage tmpImage = tmpGraphicsFactory.getImage();
             switch (Preferences.getInstance().getImageStorageMode()) {
                 case HARDDISK_COMPRESSED:
                     this.timeStepInfo.setStepImageFilePathname(this.graphicsUtilityMethods.getTimeStepSliceFilePathName(this.destinationDirectory, this.timeStepInfo.getBoxViewIndex(),
                             this.imageFileType));
-                    if (!GraphicsUtils.writeImageToFileWithoutChecks(tmpImage, this.imageFileType, new File(this.timeStepInfo.getStepImageFilePathname()))) {
-                        // Fire property change to notify property change listeners about cancellation due to internal error
-                        this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
-                        this.isFinished = true;
-                        return false;
+                    if (!GraphicsUtils.writeImageToFileWithoutChecks(this.image, this.imageFileType, new File(this.timeStepInfo.getStepImageFilePathname()))) {
+                        // Notify property change listeners about cancellation due to internal error
+                        return this.finishWithoutSuccess(true);
                     }
                     break;
                 case MEMORY_COMPRESSED:
-                    this.timeStepInfo.setStepImageByteArray(GraphicsUtils.convertBufferedImageToJpegEncodedByteArray(tmpImage));
+                    this.timeStepInfo.setStepImageByteArray(GraphicsUtils.convertBufferedImageToJpegEncodedByteArray(this.image));
                     break;
                 case MEMORY_UNCOMPRESSED:
-                    this.timeStepInfo.setStepImage(tmpImage);
+                    this.timeStepInfo.setStepImage(this.image);
                     // Old code:
                     // IMPORTANT: Create copy of image data ...
                     // WritableRaster raster = tmpImage.copyData(null);
@@ -589,10 +691,6 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
                     // this.timeStepInfo.setStepImage(new BufferedImage(tmpImage.getColorModel(), raster, tmpImage.isAlphaPremultiplied(), null));
                     break;
             }
-            // </editor-fold>
-            // <editor-fold defaultstate="collapsed" desc="Clean up graphics factory">
-            tmpGraphicsFactory.cleanUp();
-
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Set this.isFinished to true BEFORE setting final progress in percent to 100">
             this.isFinished = true;
@@ -605,14 +703,8 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
             return true;
         } catch (Exception anException) {
             ModelUtils.appendToLogfile(true, anException);
-            // <editor-fold defaultstate="collapsed" desc="Fire property change">
-            // Fire property change to notify property change listeners about cancellation due to internal error
-            this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
-            // </editor-fold>
-            this.isFinished = true;
-            return false;
+            return this.finishWithoutSuccess(true);
         } finally {
-            // Set this.graphicalParticlePositionArrayList to null to free memory (heap space)
             this.releaseMemory();
         }
     }
@@ -624,11 +716,30 @@ public class SimulationBoxViewSingleTimeStepSlice implements Callable<Boolean> {
      */
     private void releaseMemory() {
         this.slices = null;
+        this.graphicalParticlePositionInfo = null;
         this.graphicalParticlePositionArrayList = null;
+        this.image = null;
         this.jobInputValueItemContainer = null;
         this.simulationMovieSlicerConfiguration = null;
     }
 
+    /**
+     * Finishes task without success and releases memory
+     * 
+     * @param anIsError True: Property change listeners are notified about 
+     * cancellation due to internal error, false: Otherwise (task was stopped)
+     * @return False
+     */
+    private boolean finishWithoutSuccess(boolean anIsError) {
+        if (anIsError) {
+            // Fire property change to notify property change listeners about cancellation due to internal error
+            this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
+        }
+        this.isFinished = true;
+        this.releaseMemory();
+        return false;
+    }
+
     /**
      * Set progress value and fire property change
      * 
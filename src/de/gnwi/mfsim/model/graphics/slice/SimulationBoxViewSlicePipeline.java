@@ -0,0 +1,203 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.slice;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.util.ModelUtils;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Creates time step slices of a simulation movie with a frame pipeline: 
+ * The stages of SimulationBoxViewSingleTimeStepSlice (read, transform, 
+ * rasterize, store) are executed by separate threads that are connected by
+ * bounded queues so that I/O bound and CPU bound stages of different frames
+ * overlap. A throughput report of the stages is written to the log file.
+ * <br>
+ * NOTE: Time step slices notify their property change listeners as if 
+ * they were called as a single task.
+ *
+ * @author Achim Zielesny
+ */
+public class SimulationBoxViewSlicePipeline implements Callable<Boolean> {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Queue of time step slices to be created (is emptied by pipeline)
+     */
+    private final ConcurrentLinkedQueue<SimulationBoxViewSingleTimeStepSlice> sliceQueue;
+
+    /**
+     * Queue of started time step slices (may be null)
+     */
+    private final ConcurrentLinkedQueue<SimulationBoxViewSingleTimeStepSlice> startedSliceQueue;
+
+    /**
+     * Frame pipeline
+     */
+    private final FramePipeline framePipeline;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aSliceQueue Queue of time step slices to be created (is emptied 
+     * by pipeline in queue order)
+     * @param aStartedSliceQueue Queue of started time step slices where 
+     * slices are added to when they enter the pipeline (may be null)
+     * @param aNumberOfReaders Number of threads of read stage
+     * @param aNumberOfTransformers Number of threads of transform stage
+     * @param aNumberOfRasterizers Number of threads of rasterize stage
+     * @param aNumberOfWriters Number of threads of store stage
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public SimulationBoxViewSlicePipeline(
+        ConcurrentLinkedQueue<SimulationBoxViewSingleTimeStepSlice> aSliceQueue,
+        ConcurrentLinkedQueue<SimulationBoxViewSingleTimeStepSlice> aStartedSliceQueue,
+        int aNumberOfReaders,
+        int aNumberOfTransformers,
+        int aNumberOfRasterizers,
+        int aNumberOfWriters
+    ) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aSliceQueue == null) {
+            throw new IllegalArgumentException("aSliceQueue is null.");
+        }
+        if (aNumberOfReaders < 1 || aNumberOfTransformers < 1 || aNumberOfRasterizers < 1 || aNumberOfWriters < 1) {
+            throw new IllegalArgumentException("A number of threads is less than 1.");
+        }
+        // </editor-fold>
+        this.sliceQueue = aSliceQueue;
+        this.startedSliceQueue = aStartedSliceQueue;
+        this.framePipeline = new FramePipeline("SimulationBoxViewSlicePipeline", ModelDefinitions.FRAME_PIPELINE_QUEUE_CAPACITY);
+        this.framePipeline.addStage(
+            "Read", 
+            aNumberOfReaders, 
+            (aFrameIndex, aFrame) -> ((SimulationBoxViewSingleTimeStepSlice) aFrame).readParticlePositions() ? aFrame : null
+        );
+        this.framePipeline.addStage(
+            "Transform", 
+            aNumberOfTransformers, 
+            (aFrameIndex, aFrame) -> ((SimulationBoxViewSingleTimeStepSlice) aFrame).transformParticlePositions() ? aFrame : null
+        );
+        this.framePipeline.addStage(
+            "Rasterize", 
+            aNumberOfRasterizers, 
+            (aFrameIndex, aFrame) -> ((SimulationBoxViewSingleTimeStepSlice) aFrame).rasterizeParticlePositions() ? aFrame : null
+        );
+        this.framePipeline.addStage(
+            "Store", 
+            aNumberOfWriters, 
+            (aFrameIndex, aFrame) -> ((SimulationBoxViewSingleTimeStepSlice) aFrame).storeImage() ? aFrame : null
+        );
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Stops pipeline, i.e. no further time step slices are started.
+     * NOTE: Started time step slices must be stopped separately.
+     */
+    public void stop() {
+        this.framePipeline.stop();
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Frame pipeline
+     *
+     * @return Frame pipeline
+     */
+    public FramePipeline getFramePipeline() {
+        return this.framePipeline;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public (overriden) methods">
+    /**
+     * Passes all time step slices of slice queue through the frame pipeline
+     *
+     * @return True: Pipeline finished without exception, false: Otherwise
+     */
+    @Override
+    public Boolean call() {
+        try {
+            this.framePipeline.process(new SliceQueueIterator());
+            return true;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return false;
+        } finally {
+            ModelUtils.appendToLogfile(false, this.framePipeline.getThroughputReport());
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private classes">
+    /**
+     * Iterator that polls time step slices from slice queue
+     */
+    private class SliceQueueIterator implements Iterator<SimulationBoxViewSingleTimeStepSlice> {
+
+        /**
+         * Next time step slice (null if not yet polled)
+         */
+        private SimulationBoxViewSingleTimeStepSlice nextSlice = null;
+
+        /**
+         * True: Next time step slice is available, false: Otherwise
+         *
+         * @return True: Next time step slice is available, false: Otherwise
+         */
+        @Override
+        public boolean hasNext() {
+            if (this.nextSlice == null) {
+                this.nextSlice = SimulationBoxViewSlicePipeline.this.sliceQueue.poll();
+            }
+            return this.nextSlice != null;
+        }
+
+        /**
+         * Next time step slice (is added to queue of started time step 
+         * slices)
+         *
+         * @return Next time step slice
+         */
+        @Override
+        public SimulationBoxViewSingleTimeStepSlice next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SimulationBoxViewSingleTimeStepSlice tmpSlice = this.nextSlice;
+            this.nextSlice = null;
+            if (SimulationBoxViewSlicePipeline.this.startedSliceQueue != null) {
+                SimulationBoxViewSlicePipeline.this.startedSliceQueue.add(tmpSlice);
+            }
+            return tmpSlice;
+        }
+
+    }
+    // </editor-fold>
+
+}
@@ -23,6 +23,7 @@ import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
 import de.gnwi.mfsim.model.graphics.factory.BufferedImageGraphicsFactory;
 import de.gnwi.mfsim.model.graphics.ImageFileType;
 import de.gnwi.mfsim.model.graphics.factory.PixelGraphicsFactory;
+import de.gnwi.mfsim.model.graphics.factory.TilePixelGraphicsFactory;
 import de.gnwi.mfsim.model.graphics.SimulationBoxViewEnum;
 import de.gnwi.mfsim.model.graphics.TargetCoordinatesAndSize;
 import de.gnwi.mfsim.model.graphics.factory.VolatileImageGraphicsFactory;
@@ -240,6 +241,12 @@ public class SimulationBoxViewSlicer {
                 case PIXEL_FINAL:
                     tmpGraphicsFactory = new PixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, false);
                     break;
+                case PIXEL_TILES_ALL:
+                    tmpGraphicsFactory = new TilePixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, true);
+                    break;
+                case PIXEL_TILES_FINAL:
+                    tmpGraphicsFactory = new TilePixelGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, false);
+                    break;
                 case BUFFERED_IMAGE_ALL:
                     tmpGraphicsFactory = new BufferedImageGraphicsFactory(this.masterPanelWidthInPixel, this.masterPanelHeightInPixel, true);
                     break;
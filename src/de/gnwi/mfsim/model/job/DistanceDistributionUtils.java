@@ -21,6 +21,7 @@ package de.gnwi.mfsim.model.job;
 
 import de.gnwi.spices.PointInSpace;
 import java.util.Arrays;
+import java.util.stream.IntStream;
 
 /**
  * Utility class for calculation of the frequency of spatial distances between
@@ -31,6 +32,265 @@ import java.util.Arrays;
  */
 public class DistanceDistributionUtils {
 
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * Aspired mean number of particles per cell of cell list
+     */
+    private static final double PARTICLES_PER_CELL = 4.0;
+    /**
+     * Maximum number of cells of cell list per dimension
+     */
+    private static final int MAXIMUM_NUMBER_OF_CELLS_PER_DIMENSION = 128;
+    /**
+     * Minimum number of particles for parallel calculation over cells
+     */
+    private static final int MINIMUM_NUMBER_OF_PARTICLES_FOR_PARALLEL_CALCULATION = 2000;
+    /**
+     * Relative tolerance for cut-off of cell list neighbour cells (protects
+     * against roundoff errors of cell assignment, all pairs of neighbour cells
+     * are checked with the exact distance criterion)
+     */
+    private static final double RELATIVE_CELL_CUT_OFF_TOLERANCE = 1.0E-9;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class CellList">
+    /**
+     * Cell list (linked-cell list) of particle positions: The simulation box
+     * is divided into cells and the particle coordinates are sorted according
+     * to their cells so that the coordinates of a single cell are contiguous.
+     * For each cell index of a dimension the neighbour cell indices (within
+     * the minimum half box length) are stored together with the squared
+     * minimum separation of the cells in this dimension.
+     * 
+     * @author Achim Zielesny
+     */
+    private class CellList {
+
+        // <editor-fold defaultstate="collapsed" desc="Private class variables">
+        /**
+         * Number of cells in x-direction
+         */
+        private int numberOfCellsX;
+
+        /**
+         * Number of cells in y-direction
+         */
+        private int numberOfCellsY;
+
+        /**
+         * Number of cells in z-direction
+         */
+        private int numberOfCellsZ;
+
+        /**
+         * Start index of cell in coordinate arrays (with additional last 
+         * element equal to number of particles)
+         */
+        private int[] cellStartIndices;
+
+        /**
+         * x-coordinates sorted according to cells
+         */
+        private double[] x;
+
+        /**
+         * y-coordinates sorted according to cells
+         */
+        private double[] y;
+
+        /**
+         * z-coordinates sorted according to cells
+         */
+        private double[] z;
+
+        /**
+         * Neighbour cell indices in x-direction
+         */
+        private int[][] neighbourCellsX;
+
+        /**
+         * Squared minimum separations of neighbour cells in x-direction
+         */
+        private double[][] squaredSeparationsX;
+
+        /**
+         * Neighbour cell indices in y-direction
+         */
+        private int[][] neighbourCellsY;
+
+        /**
+         * Squared minimum separations of neighbour cells in y-direction
+         */
+        private double[][] squaredSeparationsY;
+
+        /**
+         * Neighbour cell indices in z-direction
+         */
+        private int[][] neighbourCellsZ;
+
+        /**
+         * Squared minimum separations of neighbour cells in z-direction
+         */
+        private double[][] squaredSeparationsZ;
+        // </editor-fold>
+        //
+        // <editor-fold defaultstate="collapsed" desc="Constructor">
+        /**
+         * Constructor
+         * NOTE: No checks are performed.
+         * 
+         * @param aNumberOfCells Number of cells in x, y and z-direction
+         * @param anX x-coordinates
+         * @param aY y-coordinates
+         * @param aZ z-coordinates
+         */
+        public CellList(int[] aNumberOfCells, double[] anX, double[] aY, double[] aZ) {
+            this.numberOfCellsX = aNumberOfCells[0];
+            this.numberOfCellsY = aNumberOfCells[1];
+            this.numberOfCellsZ = aNumberOfCells[2];
+            
+            double tmpCellLengthX = DistanceDistributionUtils.this.boxLengthX / (double) this.numberOfCellsX;
+            double tmpCellLengthY = DistanceDistributionUtils.this.boxLengthY / (double) this.numberOfCellsY;
+            double tmpCellLengthZ = DistanceDistributionUtils.this.boxLengthZ / (double) this.numberOfCellsZ;
+
+            // <editor-fold defaultstate="collapsed" desc="Neighbour cells">
+            double tmpCellCutOff = DistanceDistributionUtils.this.getCellCutOff();
+            this.neighbourCellsX = new int[this.numberOfCellsX][];
+            this.squaredSeparationsX = new double[this.numberOfCellsX][];
+            this.setNeighbourCells(this.numberOfCellsX, tmpCellLengthX, DistanceDistributionUtils.this.isPeriodicBoundaryX, tmpCellCutOff, this.neighbourCellsX, this.squaredSeparationsX);
+            this.neighbourCellsY = new int[this.numberOfCellsY][];
+            this.squaredSeparationsY = new double[this.numberOfCellsY][];
+            this.setNeighbourCells(this.numberOfCellsY, tmpCellLengthY, DistanceDistributionUtils.this.isPeriodicBoundaryY, tmpCellCutOff, this.neighbourCellsY, this.squaredSeparationsY);
+            this.neighbourCellsZ = new int[this.numberOfCellsZ][];
+            this.squaredSeparationsZ = new double[this.numberOfCellsZ][];
+            this.setNeighbourCells(this.numberOfCellsZ, tmpCellLengthZ, DistanceDistributionUtils.this.isPeriodicBoundaryZ, tmpCellCutOff, this.neighbourCellsZ, this.squaredSeparationsZ);
+
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Sort coordinates according to cells (counting sort)">
+            int tmpNumberOfParticles = anX.length;
+            int[] tmpCellIndices = new int[tmpNumberOfParticles];
+            this.cellStartIndices = new int[this.getNumberOfCells() + 1];
+            for (int i = 0; i < tmpNumberOfParticles; i++) {
+                int tmpCellIndexX = this.getCellIndex(anX[i], tmpCellLengthX, this.numberOfCellsX);
+                int tmpCellIndexY = this.getCellIndex(aY[i], tmpCellLengthY, this.numberOfCellsY);
+                int tmpCellIndexZ = this.getCellIndex(aZ[i], tmpCellLengthZ, this.numberOfCellsZ);
+                tmpCellIndices[i] = this.getCellIndex(tmpCellIndexX, tmpCellIndexY, tmpCellIndexZ);
+                this.cellStartIndices[tmpCellIndices[i] + 1]++;
+            }
+            for (int i = 1; i < this.cellStartIndices.length; i++) {
+                this.cellStartIndices[i] += this.cellStartIndices[i - 1];
+            }
+            int[] tmpNextIndices = Arrays.copyOf(this.cellStartIndices, this.cellStartIndices.length - 1);
+            this.x = new double[tmpNumberOfParticles];
+            this.y = new double[tmpNumberOfParticles];
+            this.z = new double[tmpNumberOfParticles];
+            for (int i = 0; i < tmpNumberOfParticles; i++) {
+                int tmpIndex = tmpNextIndices[tmpCellIndices[i]]++;
+                this.x[tmpIndex] = anX[i];
+                this.y[tmpIndex] = aY[i];
+                this.z[tmpIndex] = aZ[i];
+            }
+
+            // </editor-fold>
+        }
+        // </editor-fold>
+        //
+        // <editor-fold defaultstate="collapsed" desc="Public methods">
+        /**
+         * Number of cells
+         * 
+         * @return Number of cells
+         */
+        public int getNumberOfCells() {
+            return this.numberOfCellsX * this.numberOfCellsY * this.numberOfCellsZ;
+        }
+
+        /**
+         * Cell index
+         * 
+         * @param aCellIndexX Cell index in x-direction
+         * @param aCellIndexY Cell index in y-direction
+         * @param aCellIndexZ Cell index in z-direction
+         * @return Cell index
+         */
+        public int getCellIndex(int aCellIndexX, int aCellIndexY, int aCellIndexZ) {
+            return (aCellIndexX * this.numberOfCellsY + aCellIndexY) * this.numberOfCellsZ + aCellIndexZ;
+        }
+        // </editor-fold>
+        //
+        // <editor-fold defaultstate="collapsed" desc="Private methods">
+        /**
+         * Cell index of coordinate in a single direction
+         * 
+         * @param aCoordinate Coordinate
+         * @param aCellLength Cell length
+         * @param aNumberOfCells Number of cells
+         * @return Cell index of coordinate in a single direction
+         */
+        private int getCellIndex(double aCoordinate, double aCellLength, int aNumberOfCells) {
+            if (aNumberOfCells == 1) {
+                return 0;
+            }
+            int tmpCellIndex = (int) (aCoordinate / aCellLength);
+            if (tmpCellIndex < 0) {
+                return 0;
+            } else if (tmpCellIndex >= aNumberOfCells) {
+                return aNumberOfCells - 1;
+            } else {
+                return tmpCellIndex;
+            }
+        }
+
+        /**
+         * Sets neighbour cells in a single direction: A cell is a neighbour 
+         * if its minimum separation is less than or equal to the cell cut-off.
+         * 
+         * @param aNumberOfCells Number of cells
+         * @param aCellLength Cell length
+         * @param anIsPeriodicBoundary True: Periodic boundary condition, 
+         * false: Otherwise
+         * @param aCellCutOff Cell cut-off
+         * @param aNeighbourCells Neighbour cell indices (is set)
+         * @param aSquaredSeparations Squared minimum separations of neighbour 
+         * cells (is set)
+         */
+        private void setNeighbourCells(
+            int aNumberOfCells, 
+            double aCellLength, 
+            boolean anIsPeriodicBoundary, 
+            double aCellCutOff,
+            int[][] aNeighbourCells, 
+            double[][] aSquaredSeparations
+        ) {
+            int[] tmpNeighbourCells = new int[aNumberOfCells];
+            double[] tmpSquaredSeparations = new double[aNumberOfCells];
+            for (int i = 0; i < aNumberOfCells; i++) {
+                int tmpNumberOfNeighbourCells = 0;
+                for (int j = 0; j < aNumberOfCells; j++) {
+                    int tmpCellDistance = Math.abs(i - j);
+                    if (anIsPeriodicBoundary) {
+                        tmpCellDistance = Math.min(tmpCellDistance, aNumberOfCells - tmpCellDistance);
+                    }
+                    // NOTE: Particles of cells with cell distance 1 may be arbitrarily close
+                    double tmpSeparation = 0.0;
+                    if (tmpCellDistance > 1) {
+                        tmpSeparation = (double) (tmpCellDistance - 1) * aCellLength;
+                    }
+                    if (tmpSeparation <= aCellCutOff) {
+                        tmpNeighbourCells[tmpNumberOfNeighbourCells] = j;
+                        tmpSquaredSeparations[tmpNumberOfNeighbourCells] = tmpSeparation * tmpSeparation;
+                        tmpNumberOfNeighbourCells++;
+                    }
+                }
+                aNeighbourCells[i] = Arrays.copyOf(tmpNeighbourCells, tmpNumberOfNeighbourCells);
+                aSquaredSeparations[i] = Arrays.copyOf(tmpSquaredSeparations, tmpNumberOfNeighbourCells);
+            }
+        }
+        // </editor-fold>
+
+    }
+    // </editor-fold>
+    //
     // <editor-fold defaultstate="collapsed" desc="Private class variables">
     /**
      * Length of distance segment
@@ -149,42 +409,54 @@ public class DistanceDistributionUtils {
         }
 
         // </editor-fold>
-        int tmpNumberOfParticlesOfTypeI = aParticlePositions.length;
-        int tmpNumberOfParticlesOfTypeJ = aParticlePositions.length;
+        double[] tmpX = new double[aParticlePositions.length];
+        double[] tmpY = new double[aParticlePositions.length];
+        double[] tmpZ = new double[aParticlePositions.length];
+        this.fillCoordinates(aParticlePositions, tmpX, tmpY, tmpZ);
+        return this.getEqualParticlePairDistanceBinFrequencies(tmpX, tmpY, tmpZ);
+    }
 
-        // NOTE: Use long type for integer arithmetics to avoid possible overflow to NEGATIVE (!) minimum value Integer.MIN_VALUE!
-        long[] tmpAccumulatedFrequencies = new long[0];
-        long[] tmpFrequencies = new long[0];
-        long tmpNumberOfAccumulations = 0;
-        for (int k = 0; k < tmpNumberOfParticlesOfTypeI; k++) {
-            PointInSpace tmpSinglePositionOfTypeI = aParticlePositions[k];
-            Arrays.fill(tmpFrequencies, 0);
-            for (int l = k + 1; l < tmpNumberOfParticlesOfTypeJ; l++) {
-                PointInSpace tmpSinglePositionOfTypeJ = aParticlePositions[l];
-                double tmpDistance = this.calculateDistance(tmpSinglePositionOfTypeI, tmpSinglePositionOfTypeJ);
-                if (tmpDistance <= this.minimumHalfBoxLength) {
-                    int tmpBinIndex = this.getBinIndex(tmpDistance);
-                    if (tmpBinIndex + 1 > tmpFrequencies.length) {
-                        tmpFrequencies = Arrays.copyOf(tmpFrequencies, tmpBinIndex + 1);
-                    }
-                    tmpFrequencies[tmpBinIndex] += 2;
-                }
-            }
-            if (tmpFrequencies.length > tmpAccumulatedFrequencies.length) {
-                tmpAccumulatedFrequencies = Arrays.copyOf(tmpAccumulatedFrequencies, tmpFrequencies.length);
-            }
-            for (int u = 0; u < tmpFrequencies.length; u++) {
-                tmpAccumulatedFrequencies[u] += tmpFrequencies[u];
-            }
-            tmpNumberOfAccumulations++;
+    /**
+     * Returns the frequencies of the distance bins between equal particle-pair
+     * A-A. A periodic cell list is used so that only particle pairs of
+     * neighbour cells within the minimum half box length are visited. The
+     * cells are processed in parallel with separate histograms that are
+     * summed at the end. The result is identical to the evaluation of all
+     * particle pairs.
+     *
+     * @param anX x-coordinates of particles A
+     * @param aY y-coordinates of particles A
+     * @param aZ z-coordinates of particles A
+     * @return Integer array or null if equal particle-pair A-A distribution can
+     * not be calculated. Index = Index of distance segment (histogram bin)
+     * starting with 0, Integer value = Frequency of particle within distance
+     * segment on average
+     */
+    public double[] getEqualParticlePairDistanceBinFrequencies(double[] anX, double[] aY, double[] aZ) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (anX == null || aY == null || aZ == null) {
+            return null;
         }
-        // Calculate averaged frequencies
-        double[] tmpAveragedFrequencies = new double[tmpAccumulatedFrequencies.length];
-        for (int v = 0; v < tmpAccumulatedFrequencies.length; v++) {
-            tmpAveragedFrequencies[v] = (double) tmpAccumulatedFrequencies[v] / (double) tmpNumberOfAccumulations;
+        if (anX.length < 1 || anX.length != aY.length || anX.length != aZ.length) {
+            return null;
         }
 
-        return tmpAveragedFrequencies;
+        // </editor-fold>
+        int[] tmpNumberOfCells = this.getNumberOfCells(anX.length, anX, aY, aZ, null, null, null);
+        CellList tmpCellList = new CellList(tmpNumberOfCells, anX, aY, aZ);
+        IntStream tmpCellIndexStream = IntStream.range(0, tmpCellList.getNumberOfCells());
+        if (anX.length >= DistanceDistributionUtils.MINIMUM_NUMBER_OF_PARTICLES_FOR_PARALLEL_CALCULATION) {
+            tmpCellIndexStream = tmpCellIndexStream.parallel();
+        }
+        int tmpMaximumNumberOfBins = this.getBinIndex(this.minimumHalfBoxLength) + 1;
+        // NOTE: Use long type for integer arithmetics to avoid possible overflow to NEGATIVE (!) minimum value Integer.MIN_VALUE!
+        long[] tmpAccumulatedFrequencies = 
+            tmpCellIndexStream.collect(
+                () -> new long[tmpMaximumNumberOfBins],
+                (long[] aFrequencies, int aCellIndex) -> this.addEqualParticlePairFrequencies(tmpCellList, aCellIndex, aFrequencies),
+                (long[] aFrequencies, long[] anotherFrequencies) -> this.addFrequencies(aFrequencies, anotherFrequencies)
+            );
+        return this.getAveragedFrequencies(tmpAccumulatedFrequencies, anX.length);
     }
 
     /**
@@ -214,42 +486,76 @@ public class DistanceDistributionUtils {
         }
 
         // </editor-fold>
-        int tmpNumberOfParticlesOfTypeI = aParticlePositionsA.length;
-        int tmpNumberOfParticlesOfTypeJ = aParticlePositionsB.length;
+        double[] tmpXa = new double[aParticlePositionsA.length];
+        double[] tmpYa = new double[aParticlePositionsA.length];
+        double[] tmpZa = new double[aParticlePositionsA.length];
+        this.fillCoordinates(aParticlePositionsA, tmpXa, tmpYa, tmpZa);
+        double[] tmpXb = new double[aParticlePositionsB.length];
+        double[] tmpYb = new double[aParticlePositionsB.length];
+        double[] tmpZb = new double[aParticlePositionsB.length];
+        this.fillCoordinates(aParticlePositionsB, tmpXb, tmpYb, tmpZb);
+        return this.getDifferentParticlePairDistanceBinFrequencies(tmpXa, tmpYa, tmpZa, tmpXb, tmpYb, tmpZb);
+    }
 
-        // NOTE: Use long type for integer arithmetics to avoid possible overflow to NEGATIVE (!) minimum value Integer.MIN_VALUE!
-        long[] tmpAccumulatedFrequencies = new long[0];
-        long[] tmpFrequencies = new long[0];
-        long tmpNumberOfAccumulations = 0;
-        for (int k = 0; k < tmpNumberOfParticlesOfTypeI; k++) {
-            PointInSpace tmpSinglePositionOfTypeI = aParticlePositionsA[k];
-            Arrays.fill(tmpFrequencies, 0);
-            for (int l = 0; l < tmpNumberOfParticlesOfTypeJ; l++) {
-                PointInSpace tmpSinglePositionOfTypeJ = aParticlePositionsB[l];
-                double tmpDistance = this.calculateDistance(tmpSinglePositionOfTypeI, tmpSinglePositionOfTypeJ);
-                if (tmpDistance <= this.minimumHalfBoxLength) {
-                    int tmpBinIndex = this.getBinIndex(tmpDistance);
-                    if (tmpBinIndex + 1 > tmpFrequencies.length) {
-                        tmpFrequencies = Arrays.copyOf(tmpFrequencies, tmpBinIndex + 1);
-                    }
-                    tmpFrequencies[tmpBinIndex]++;
-                }
-            }
-            if (tmpFrequencies.length > tmpAccumulatedFrequencies.length) {
-                tmpAccumulatedFrequencies = Arrays.copyOf(tmpAccumulatedFrequencies, tmpFrequencies.length);
-            }
-            for (int u = 0; u < tmpFrequencies.length; u++) {
-                tmpAccumulatedFrequencies[u] += tmpFrequencies[u];
-            }
-            tmpNumberOfAccumulations++;
+    /**
+     * Returns the frequencies of the distance bins between different
+     * particle-pair A-B. A periodic cell list is used so that only particle
+     * pairs of neighbour cells within the minimum half box length are visited.
+     * The cells of particles A are processed in parallel with separate
+     * histograms that are summed at the end. The result is identical to the
+     * evaluation of all particle pairs.
+     *
+     * @param anXa x-coordinates of particles A
+     * @param aYa y-coordinates of particles A
+     * @param aZa z-coordinates of particles A
+     * @param anXb x-coordinates of particles B
+     * @param aYb y-coordinates of particles B
+     * @param aZb z-coordinates of particles B
+     * @return Integer array or null if different particle-pair A-B distribution
+     * can not be calculated. Index = Index of distance segment (histogram bin)
+     * starting with 0, Integer value = Frequency of particle B within distance
+     * segment on average
+     */
+    public double[] getDifferentParticlePairDistanceBinFrequencies(
+        double[] anXa, 
+        double[] aYa, 
+        double[] aZa, 
+        double[] anXb, 
+        double[] aYb, 
+        double[] aZb
+    ) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (anXa == null || aYa == null || aZa == null) {
+            return null;
         }
-        // Calculate averaged frequencies
-        double[] tmpAveragedFrequencies = new double[tmpAccumulatedFrequencies.length];
-        for (int v = 0; v < tmpAccumulatedFrequencies.length; v++) {
-            tmpAveragedFrequencies[v] = (double) tmpAccumulatedFrequencies[v] / (double) tmpNumberOfAccumulations;
+        if (anXa.length < 1 || anXa.length != aYa.length || anXa.length != aZa.length) {
+            return null;
+        }
+        if (anXb == null || aYb == null || aZb == null) {
+            return null;
+        }
+        if (anXb.length < 1 || anXb.length != aYb.length || anXb.length != aZb.length) {
+            return null;
         }
 
-        return tmpAveragedFrequencies;
+        // </editor-fold>
+        // NOTE: Cell lists of particles A and B MUST have the same cell geometry
+        int[] tmpNumberOfCells = this.getNumberOfCells(anXa.length + anXb.length, anXa, aYa, aZa, anXb, aYb, aZb);
+        CellList tmpCellListA = new CellList(tmpNumberOfCells, anXa, aYa, aZa);
+        CellList tmpCellListB = new CellList(tmpNumberOfCells, anXb, aYb, aZb);
+        IntStream tmpCellIndexStream = IntStream.range(0, tmpCellListA.getNumberOfCells());
+        if (anXa.length + anXb.length >= DistanceDistributionUtils.MINIMUM_NUMBER_OF_PARTICLES_FOR_PARALLEL_CALCULATION) {
+            tmpCellIndexStream = tmpCellIndexStream.parallel();
+        }
+        int tmpMaximumNumberOfBins = this.getBinIndex(this.minimumHalfBoxLength) + 1;
+        // NOTE: Use long type for integer arithmetics to avoid possible overflow to NEGATIVE (!) minimum value Integer.MIN_VALUE!
+        long[] tmpAccumulatedFrequencies = 
+            tmpCellIndexStream.collect(
+                () -> new long[tmpMaximumNumberOfBins],
+                (long[] aFrequencies, int aCellIndex) -> this.addDifferentParticlePairFrequencies(tmpCellListA, tmpCellListB, aCellIndex, aFrequencies),
+                (long[] aFrequencies, long[] anotherFrequencies) -> this.addFrequencies(aFrequencies, anotherFrequencies)
+            );
+        return this.getAveragedFrequencies(tmpAccumulatedFrequencies, anXa.length);
     }
 
     // <editor-fold defaultstate="collapsed" desc="Non-used public methods">
@@ -535,6 +841,290 @@ public class DistanceDistributionUtils {
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Fills coordinate arrays with coordinates of particle positions
+     *
+     * @param aParticlePositions Particle positions
+     * @param anX x-coordinates (is filled)
+     * @param aY y-coordinates (is filled)
+     * @param aZ z-coordinates (is filled)
+     */
+    private void fillCoordinates(PointInSpace[] aParticlePositions, double[] anX, double[] aY, double[] aZ) {
+        for (int i = 0; i < aParticlePositions.length; i++) {
+            anX[i] = aParticlePositions[i].getX();
+            aY[i] = aParticlePositions[i].getY();
+            aZ[i] = aParticlePositions[i].getZ();
+        }
+    }
+
+    /**
+     * Returns number of cells of cell list in x, y and z-direction.
+     * NOTE: A direction with a coordinate outside the simulation box is not
+     * divided into cells (since the minimum separations of cells would not
+     * be valid).
+     *
+     * @param aNumberOfParticles Number of particles
+     * @param anXa x-coordinates of particles A
+     * @param aYa y-coordinates of particles A
+     * @param aZa z-coordinates of particles A
+     * @param anXb x-coordinates of particles B (may be null)
+     * @param aYb y-coordinates of particles B (may be null)
+     * @param aZb z-coordinates of particles B (may be null)
+     * @return Number of cells of cell list in x, y and z-direction
+     */
+    private int[] getNumberOfCells(
+        int aNumberOfParticles, 
+        double[] anXa, 
+        double[] aYa, 
+        double[] aZa, 
+        double[] anXb, 
+        double[] aYb, 
+        double[] aZb
+    ) {
+        double tmpCellLength = 
+            Math.cbrt(
+                this.boxLengthX * this.boxLengthY * this.boxLengthZ * DistanceDistributionUtils.PARTICLES_PER_CELL / (double) aNumberOfParticles
+            );
+        return new int[] {
+            this.getNumberOfCells(this.boxLengthX, tmpCellLength, anXa, anXb),
+            this.getNumberOfCells(this.boxLengthY, tmpCellLength, aYa, aYb),
+            this.getNumberOfCells(this.boxLengthZ, tmpCellLength, aZa, aZb)
+        };
+    }
+
+    /**
+     * Returns number of cells of cell list in a single direction
+     *
+     * @param aBoxLength Box length
+     * @param aCellLength Aspired cell length
+     * @param aCoordinates Coordinates
+     * @param anotherCoordinates Other coordinates (may be null)
+     * @return Number of cells of cell list in a single direction
+     */
+    private int getNumberOfCells(double aBoxLength, double aCellLength, double[] aCoordinates, double[] anotherCoordinates) {
+        if (!this.isInBox(aBoxLength, aCoordinates) || !this.isInBox(aBoxLength, anotherCoordinates)) {
+            return 1;
+        }
+        double tmpNumberOfCells = Math.floor(aBoxLength / aCellLength);
+        if (!(tmpNumberOfCells >= 1.0)) {
+            return 1;
+        } else if (tmpNumberOfCells > (double) DistanceDistributionUtils.MAXIMUM_NUMBER_OF_CELLS_PER_DIMENSION) {
+            return DistanceDistributionUtils.MAXIMUM_NUMBER_OF_CELLS_PER_DIMENSION;
+        } else {
+            return (int) tmpNumberOfCells;
+        }
+    }
+
+    /**
+     * Returns if all coordinates are in interval [0, aBoxLength]
+     *
+     * @param aBoxLength Box length
+     * @param aCoordinates Coordinates (may be null)
+     * @return True: All coordinates are in interval [0, aBoxLength], false:
+     * Otherwise
+     */
+    private boolean isInBox(double aBoxLength, double[] aCoordinates) {
+        if (aCoordinates != null) {
+            for (double tmpCoordinate : aCoordinates) {
+                // NOTE: Negated comparison also detects NaN
+                if (!(tmpCoordinate >= 0.0 && tmpCoordinate <= aBoxLength)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the frequencies of the distance bins between equal particle-pair
+     * A-A for all particle pairs of a cell and its neighbour cells with higher
+     * cell index (each particle pair is visited only once and counted twice).
+     *
+     * @param aCellList Cell list
+     * @param aCellIndex Cell index
+     * @param aFrequencies Frequencies (are changed)
+     */
+    private void addEqualParticlePairFrequencies(CellList aCellList, int aCellIndex, long[] aFrequencies) {
+        int tmpStart = aCellList.cellStartIndices[aCellIndex];
+        int tmpEnd = aCellList.cellStartIndices[aCellIndex + 1];
+        if (tmpStart == tmpEnd) {
+            return;
+        }
+        int tmpCellIndexZ = aCellIndex % aCellList.numberOfCellsZ;
+        int tmpCellIndexY = (aCellIndex / aCellList.numberOfCellsZ) % aCellList.numberOfCellsY;
+        int tmpCellIndexX = aCellIndex / (aCellList.numberOfCellsZ * aCellList.numberOfCellsY);
+        double[] tmpX = aCellList.x;
+        double[] tmpY = aCellList.y;
+        double[] tmpZ = aCellList.z;
+        // <editor-fold defaultstate="collapsed" desc="Particle pairs within cell">
+        for (int k = tmpStart; k < tmpEnd; k++) {
+            for (int l = k + 1; l < tmpEnd; l++) {
+                double tmpDistance = this.calculateDistance(tmpX[k], tmpY[k], tmpZ[k], tmpX[l], tmpY[l], tmpZ[l]);
+                if (tmpDistance <= this.minimumHalfBoxLength) {
+                    aFrequencies[this.getBinIndex(tmpDistance)] += 2;
+                }
+            }
+        }
+
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Particle pairs with neighbour cells of higher cell index">
+        double tmpSquaredCellCutOff = this.getSquaredCellCutOff();
+        int[] tmpNeighbourCellsX = aCellList.neighbourCellsX[tmpCellIndexX];
+        double[] tmpSquaredSeparationsX = aCellList.squaredSeparationsX[tmpCellIndexX];
+        int[] tmpNeighbourCellsY = aCellList.neighbourCellsY[tmpCellIndexY];
+        double[] tmpSquaredSeparationsY = aCellList.squaredSeparationsY[tmpCellIndexY];
+        int[] tmpNeighbourCellsZ = aCellList.neighbourCellsZ[tmpCellIndexZ];
+        double[] tmpSquaredSeparationsZ = aCellList.squaredSeparationsZ[tmpCellIndexZ];
+        for (int i = 0; i < tmpNeighbourCellsX.length; i++) {
+            for (int j = 0; j < tmpNeighbourCellsY.length; j++) {
+                double tmpSquaredSeparationXY = tmpSquaredSeparationsX[i] + tmpSquaredSeparationsY[j];
+                if (tmpSquaredSeparationXY > tmpSquaredCellCutOff) {
+                    continue;
+                }
+                for (int u = 0; u < tmpNeighbourCellsZ.length; u++) {
+                    if (tmpSquaredSeparationXY + tmpSquaredSeparationsZ[u] > tmpSquaredCellCutOff) {
+                        continue;
+                    }
+                    int tmpNeighbourCellIndex = aCellList.getCellIndex(tmpNeighbourCellsX[i], tmpNeighbourCellsY[j], tmpNeighbourCellsZ[u]);
+                    if (tmpNeighbourCellIndex <= aCellIndex) {
+                        continue;
+                    }
+                    int tmpNeighbourStart = aCellList.cellStartIndices[tmpNeighbourCellIndex];
+                    int tmpNeighbourEnd = aCellList.cellStartIndices[tmpNeighbourCellIndex + 1];
+                    for (int k = tmpStart; k < tmpEnd; k++) {
+                        double tmpXk = tmpX[k];
+                        double tmpYk = tmpY[k];
+                        double tmpZk = tmpZ[k];
+                        for (int l = tmpNeighbourStart; l < tmpNeighbourEnd; l++) {
+                            double tmpDistance = this.calculateDistance(tmpXk, tmpYk, tmpZk, tmpX[l], tmpY[l], tmpZ[l]);
+                            if (tmpDistance <= this.minimumHalfBoxLength) {
+                                aFrequencies[this.getBinIndex(tmpDistance)] += 2;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // </editor-fold>
+    }
+
+    /**
+     * Adds the frequencies of the distance bins between different
+     * particle-pair A-B for all particles A of a cell and all particles B of
+     * its neighbour cells.
+     *
+     * @param aCellListA Cell list of particles A
+     * @param aCellListB Cell list of particles B (with same cell geometry as
+     * aCellListA)
+     * @param aCellIndex Cell index
+     * @param aFrequencies Frequencies (are changed)
+     */
+    private void addDifferentParticlePairFrequencies(CellList aCellListA, CellList aCellListB, int aCellIndex, long[] aFrequencies) {
+        int tmpStart = aCellListA.cellStartIndices[aCellIndex];
+        int tmpEnd = aCellListA.cellStartIndices[aCellIndex + 1];
+        if (tmpStart == tmpEnd) {
+            return;
+        }
+        int tmpCellIndexZ = aCellIndex % aCellListA.numberOfCellsZ;
+        int tmpCellIndexY = (aCellIndex / aCellListA.numberOfCellsZ) % aCellListA.numberOfCellsY;
+        int tmpCellIndexX = aCellIndex / (aCellListA.numberOfCellsZ * aCellListA.numberOfCellsY);
+        double[] tmpXa = aCellListA.x;
+        double[] tmpYa = aCellListA.y;
+        double[] tmpZa = aCellListA.z;
+        double[] tmpXb = aCellListB.x;
+        double[] tmpYb = aCellListB.y;
+        double[] tmpZb = aCellListB.z;
+        double tmpSquaredCellCutOff = this.getSquaredCellCutOff();
+        int[] tmpNeighbourCellsX = aCellListA.neighbourCellsX[tmpCellIndexX];
+        double[] tmpSquaredSeparationsX = aCellListA.squaredSeparationsX[tmpCellIndexX];
+        int[] tmpNeighbourCellsY = aCellListA.neighbourCellsY[tmpCellIndexY];
+        double[] tmpSquaredSeparationsY = aCellListA.squaredSeparationsY[tmpCellIndexY];
+        int[] tmpNeighbourCellsZ = aCellListA.neighbourCellsZ[tmpCellIndexZ];
+        double[] tmpSquaredSeparationsZ = aCellListA.squaredSeparationsZ[tmpCellIndexZ];
+        for (int i = 0; i < tmpNeighbourCellsX.length; i++) {
+            for (int j = 0; j < tmpNeighbourCellsY.length; j++) {
+                double tmpSquaredSeparationXY = tmpSquaredSeparationsX[i] + tmpSquaredSeparationsY[j];
+                if (tmpSquaredSeparationXY > tmpSquaredCellCutOff) {
+                    continue;
+                }
+                for (int u = 0; u < tmpNeighbourCellsZ.length; u++) {
+                    if (tmpSquaredSeparationXY + tmpSquaredSeparationsZ[u] > tmpSquaredCellCutOff) {
+                        continue;
+                    }
+                    int tmpNeighbourCellIndex = aCellListB.getCellIndex(tmpNeighbourCellsX[i], tmpNeighbourCellsY[j], tmpNeighbourCellsZ[u]);
+                    int tmpNeighbourStart = aCellListB.cellStartIndices[tmpNeighbourCellIndex];
+                    int tmpNeighbourEnd = aCellListB.cellStartIndices[tmpNeighbourCellIndex + 1];
+                    for (int k = tmpStart; k < tmpEnd; k++) {
+                        double tmpXk = tmpXa[k];
+                        double tmpYk = tmpYa[k];
+                        double tmpZk = tmpZa[k];
+                        for (int l = tmpNeighbourStart; l < tmpNeighbourEnd; l++) {
+                            double tmpDistance = this.calculateDistance(tmpXk, tmpYk, tmpZk, tmpXb[l], tmpYb[l], tmpZb[l]);
+                            if (tmpDistance <= this.minimumHalfBoxLength) {
+                                aFrequencies[this.getBinIndex(tmpDistance)]++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns cut-off for minimum separation of neighbour cells (minimum half
+     * box length with tolerance)
+     *
+     * @return Cut-off for minimum separation of neighbour cells
+     */
+    private double getCellCutOff() {
+        return 
+            this.minimumHalfBoxLength + 
+            DistanceDistributionUtils.RELATIVE_CELL_CUT_OFF_TOLERANCE * Math.max(this.boxLengthX, Math.max(this.boxLengthY, this.boxLengthZ));
+    }
+
+    /**
+     * Returns squared cut-off for minimum separation of neighbour cells
+     *
+     * @return Squared cut-off for minimum separation of neighbour cells
+     */
+    private double getSquaredCellCutOff() {
+        double tmpCellCutOff = this.getCellCutOff();
+        return tmpCellCutOff * tmpCellCutOff;
+    }
+
+    /**
+     * Adds frequencies
+     *
+     * @param aFrequencies Frequencies (are changed)
+     * @param anotherFrequencies Frequencies to be added (with same length)
+     */
+    private void addFrequencies(long[] aFrequencies, long[] anotherFrequencies) {
+        for (int i = 0; i < aFrequencies.length; i++) {
+            aFrequencies[i] += anotherFrequencies[i];
+        }
+    }
+
+    /**
+     * Returns averaged frequencies. NOTE: Trailing bins with frequency 0 are
+     * removed.
+     *
+     * @param anAccumulatedFrequencies Accumulated frequencies
+     * @param aNumberOfAccumulations Number of accumulations
+     * @return Averaged frequencies
+     */
+    private double[] getAveragedFrequencies(long[] anAccumulatedFrequencies, long aNumberOfAccumulations) {
+        int tmpLength = anAccumulatedFrequencies.length;
+        while (tmpLength > 0 && anAccumulatedFrequencies[tmpLength - 1] == 0) {
+            tmpLength--;
+        }
+        double[] tmpAveragedFrequencies = new double[tmpLength];
+        for (int v = 0; v < tmpLength; v++) {
+            tmpAveragedFrequencies[v] = (double) anAccumulatedFrequencies[v] / (double) aNumberOfAccumulations;
+        }
+        return tmpAveragedFrequencies;
+    }
+
     /**
      * Calculates the distances between a particle and another particle. NOTE:
      * PBC in all directions are assumed.
@@ -544,9 +1134,32 @@ public class DistanceDistributionUtils {
      * @return Distance of particle to another particle
      */
     private double calculateDistance(PointInSpace aParticlePosition, PointInSpace anotherParticlePosition) {
-        double tmpDx = aParticlePosition.getX() - anotherParticlePosition.getX();
-        double tmpDy = aParticlePosition.getY() - anotherParticlePosition.getY();
-        double tmpDz = aParticlePosition.getZ() - anotherParticlePosition.getZ();
+        return this.calculateDistance(
+            aParticlePosition.getX(), 
+            aParticlePosition.getY(), 
+            aParticlePosition.getZ(), 
+            anotherParticlePosition.getX(), 
+            anotherParticlePosition.getY(), 
+            anotherParticlePosition.getZ()
+        );
+    }
+
+    /**
+     * Calculates the distances between a particle and another particle. NOTE:
+     * PBC in all directions are assumed.
+     *
+     * @param anX1 x-coordinate of particle
+     * @param aY1 y-coordinate of particle
+     * @param aZ1 z-coordinate of particle
+     * @param anX2 x-coordinate of another particle
+     * @param aY2 y-coordinate of another particle
+     * @param aZ2 z-coordinate of another particle
+     * @return Distance of particle to another particle
+     */
+    private double calculateDistance(double anX1, double aY1, double aZ1, double anX2, double aY2, double aZ2) {
+        double tmpDx = anX1 - anX2;
+        double tmpDy = aY1 - aY2;
+        double tmpDz = aZ1 - aZ2;
 
         if (this.isPeriodicBoundaryX) {
             if (tmpDx > this.halfBoxLengthX) {
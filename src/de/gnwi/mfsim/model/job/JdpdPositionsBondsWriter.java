@@ -0,0 +1,555 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.graphics.SpicesGraphics;
+import de.gnwi.mfsim.model.particleStructure.SpicesPool;
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.util.StringUtilityMethods;
+import de.gnwi.spices.PointInSpace;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streaming writer for Jdpd positions/bonds files: Lines are written in 
+ * the order they are added. Particle blocks (molecules of a compartment with 
+ * already determined first/last particle coordinates) are split into chunks 
+ * of whole molecules with precomputed first line numbers. The particle 
+ * coordinates and connections of the chunks are generated and formatted in 
+ * parallel and written in order by the calling thread. The number of pending 
+ * chunks is bounded so that heap use does not depend on the number of 
+ * particles.
+ * In line list mode all lines are collected in a line list which may be 
+ * post-processed before it is written with finish() (required for protein 
+ * backbone force index transformations that need all lines).
+ * NOTE: Methods are NOT thread-safe, i.e. they must be called by a single 
+ * thread.
+ *
+ * @author Achim Zielesny
+ */
+public class JdpdPositionsBondsWriter {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Line visualizer after each molecule
+     */
+    private final String lineVisualizerSmall = "#---------";
+
+    /**
+     * One space
+     */
+    private final String oneSpace = " ";
+
+    /**
+     * Pathname of Jdpd positions/bonds file
+     */
+    private final String filePathname;
+
+    /**
+     * True: Lines are collected in line list, false: Lines are streamed to 
+     * file
+     */
+    private final boolean isLineListMode;
+
+    /**
+     * Number of particles per chunk
+     */
+    private final int numberOfParticlesPerChunk;
+
+    /**
+     * Maximum number of pending chunks
+     */
+    private final int maximumNumberOfPendingChunks;
+
+    /**
+     * Pending chunks (or single lines behind pending chunks) in output order
+     */
+    private final ArrayDeque<Future<String[]>> pendingChunks;
+
+    /**
+     * Executor service (null for single thread)
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Print writer (null in line list mode)
+     */
+    private final PrintWriter printWriter;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Line list (null in streaming mode)
+     */
+    private LinkedList<String> lineList;
+
+    /**
+     * True: finish() was successfully called, false: Otherwise
+     */
+    private boolean isFinished;
+
+    /**
+     * True: close() was called, false: Otherwise
+     */
+    private boolean isClosed;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     * NOTE: In streaming mode the file is created immediately.
+     *
+     * @param aFilePathname Pathname of Jdpd positions/bonds file
+     * @param anIsLineListMode True: Lines are collected in line list and 
+     * written with finish(), false: Lines are streamed to file
+     * @param aNumberOfThreads Number of threads for particle blocks (1: 
+     * Particle blocks are processed by calling thread)
+     * @param aNumberOfParticlesPerChunk Number of particles per chunk (a 
+     * chunk contains at least one molecule)
+     * @param aMaximumNumberOfPendingChunks Maximum number of pending chunks
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     * @throws IOException Thrown if file can not be created
+     */
+    public JdpdPositionsBondsWriter(
+        String aFilePathname,
+        boolean anIsLineListMode,
+        int aNumberOfThreads,
+        int aNumberOfParticlesPerChunk,
+        int aMaximumNumberOfPendingChunks
+    ) throws IllegalArgumentException, IOException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aFilePathname == null || aFilePathname.isEmpty()) {
+            throw new IllegalArgumentException("aFilePathname is null/empty.");
+        }
+        if (aNumberOfThreads < 1) {
+            throw new IllegalArgumentException("aNumberOfThreads is less than 1.");
+        }
+        if (aNumberOfParticlesPerChunk < 1) {
+            throw new IllegalArgumentException("aNumberOfParticlesPerChunk is less than 1.");
+        }
+        if (aMaximumNumberOfPendingChunks < 1) {
+            throw new IllegalArgumentException("aMaximumNumberOfPendingChunks is less than 1.");
+        }
+        // </editor-fold>
+        this.filePathname = aFilePathname;
+        this.isLineListMode = anIsLineListMode;
+        this.numberOfParticlesPerChunk = aNumberOfParticlesPerChunk;
+        this.maximumNumberOfPendingChunks = aMaximumNumberOfPendingChunks;
+        this.pendingChunks = new ArrayDeque<>(aMaximumNumberOfPendingChunks + 1);
+        if (this.isLineListMode) {
+            this.lineList = new LinkedList<>();
+            this.printWriter = null;
+        } else {
+            this.lineList = null;
+            this.printWriter = new PrintWriter(new BufferedWriter(new FileWriter(aFilePathname), ModelDefinitions.BUFFER_SIZE));
+        }
+        if (aNumberOfThreads > 1) {
+            this.executorService = Executors.newFixedThreadPool(aNumberOfThreads, aRunnable -> {
+                Thread tmpThread = new Thread(aRunnable, "JdpdPositionsBondsWriter");
+                tmpThread.setDaemon(true);
+                return tmpThread;
+            });
+        } else {
+            this.executorService = null;
+        }
+        this.isFinished = false;
+        this.isClosed = false;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Adds line
+     *
+     * @param aLine Line
+     * @throws IOException Thrown if writing fails
+     * @throws InterruptedException Thrown if waiting for pending chunk is 
+     * interrupted
+     * @throws ExecutionException Thrown if pending chunk failed
+     */
+    public void addLine(String aLine) throws IOException, InterruptedException, ExecutionException {
+        if (this.pendingChunks.isEmpty()) {
+            this.writeLine(aLine);
+        } else {
+            this.addPendingChunk(CompletableFuture.completedFuture(new String[]{aLine}));
+        }
+    }
+
+    /**
+     * Adds particle block: Particle positions and connections of all molecules
+     * with specified first/last particle coordinates are written in chunks of
+     * whole molecules (a line visualizer follows each molecule). Chunks are
+     * generated in parallel.
+     * NOTE: Output is identical to a single Spices call for all molecules 
+     * with aFirstLineNumber.
+     * NOTE: Coordinate arrays must NOT be changed afterwards.
+     *
+     * @param aMolecularStructureString Molecular structure string
+     * @param aFirstParticleCoordinates First particle coordinates of molecules
+     * @param aLastParticleCoordinates Last particle coordinates of molecules
+     * @param aFirstLineNumber Line number of first particle
+     * @param aBondLength Bond length
+     * @param aNumberOfParticlesPerMolecule Number of particles per molecule
+     * @return Number of written particle lines, i.e. next line number is 
+     * aFirstLineNumber plus this number
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     * @throws IOException Thrown if writing fails
+     * @throws InterruptedException Thrown if waiting for pending chunk is 
+     * interrupted
+     * @throws ExecutionException Thrown if pending chunk failed
+     */
+    public int addParticleBlock(
+        String aMolecularStructureString,
+        PointInSpace[] aFirstParticleCoordinates,
+        PointInSpace[] aLastParticleCoordinates,
+        int aFirstLineNumber,
+        double aBondLength,
+        int aNumberOfParticlesPerMolecule
+    ) throws IllegalArgumentException, IOException, InterruptedException, ExecutionException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aFirstParticleCoordinates == null || aLastParticleCoordinates == null) {
+            throw new IllegalArgumentException("A coordinates array is null.");
+        }
+        if (aFirstParticleCoordinates.length != aLastParticleCoordinates.length) {
+            throw new IllegalArgumentException("Coordinates arrays have different lengths.");
+        }
+        if (aNumberOfParticlesPerMolecule < 1) {
+            throw new IllegalArgumentException("aNumberOfParticlesPerMolecule is less than 1.");
+        }
+        SpicesGraphics tmpSpices = SpicesPool.getInstance().getSpices(aMolecularStructureString);
+        if (tmpSpices == null) {
+            throw new IllegalArgumentException("aMolecularStructureString is invalid.");
+        }
+        // </editor-fold>
+        // Number of lines of a single molecule
+        int tmpNumberOfSpicesParticles = tmpSpices.getTotalNumberOfParticles();
+        SpicesPool.getInstance().setSpicesForReuse(tmpSpices);
+        int tmpNumberOfMolecules = aFirstParticleCoordinates.length;
+        int tmpNumberOfMoleculesPerChunk = Math.max(1, this.numberOfParticlesPerChunk / tmpNumberOfSpicesParticles);
+        for (int i = 0; i < tmpNumberOfMolecules; i += tmpNumberOfMoleculesPerChunk) {
+            int tmpEndIndex = Math.min(tmpNumberOfMolecules, i + tmpNumberOfMoleculesPerChunk);
+            ParticleBlockChunk tmpChunk = 
+                new ParticleBlockChunk(
+                    aMolecularStructureString,
+                    Arrays.copyOfRange(aFirstParticleCoordinates, i, tmpEndIndex),
+                    Arrays.copyOfRange(aLastParticleCoordinates, i, tmpEndIndex),
+                    aFirstLineNumber + i * tmpNumberOfSpicesParticles,
+                    aBondLength,
+                    aNumberOfParticlesPerMolecule
+                );
+            if (this.executorService == null) {
+                this.writeLines(tmpChunk.call());
+            } else {
+                this.addPendingChunk(this.executorService.submit(tmpChunk));
+            }
+        }
+        return tmpNumberOfMolecules * tmpNumberOfSpicesParticles;
+    }
+
+    /**
+     * Returns line list with all lines added so far (line list mode only)
+     *
+     * @return Line list
+     * @throws IllegalStateException Thrown if writer is not in line list mode
+     * @throws IOException Thrown if writing fails
+     * @throws InterruptedException Thrown if waiting for pending chunk is 
+     * interrupted
+     * @throws ExecutionException Thrown if pending chunk failed
+     */
+    public LinkedList<String> getLineList() throws IllegalStateException, IOException, InterruptedException, ExecutionException {
+        if (!this.isLineListMode) {
+            throw new IllegalStateException("Writer is not in line list mode.");
+        }
+        this.writePendingChunks();
+        return this.lineList;
+    }
+
+    /**
+     * Sets (post-processed) line list (line list mode only)
+     *
+     * @param aLineList Line list
+     * @throws IllegalArgumentException Thrown if aLineList is null
+     * @throws IllegalStateException Thrown if writer is not in line list mode
+     * or chunks are pending
+     */
+    public void setLineList(LinkedList<String> aLineList) throws IllegalArgumentException, IllegalStateException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aLineList == null) {
+            throw new IllegalArgumentException("aLineList is null.");
+        }
+        if (!this.isLineListMode) {
+            throw new IllegalStateException("Writer is not in line list mode.");
+        }
+        if (!this.pendingChunks.isEmpty()) {
+            throw new IllegalStateException("Chunks are pending.");
+        }
+        // </editor-fold>
+        this.lineList = aLineList;
+    }
+
+    /**
+     * Writes all pending chunks (and line list in line list mode) to file
+     *
+     * @throws IOException Thrown if writing fails
+     * @throws InterruptedException Thrown if waiting for pending chunk is 
+     * interrupted
+     * @throws ExecutionException Thrown if pending chunk failed
+     */
+    public void finish() throws IOException, InterruptedException, ExecutionException {
+        this.writePendingChunks();
+        if (this.isLineListMode) {
+            try (PrintWriter tmpPrintWriter = new PrintWriter(new BufferedWriter(new FileWriter(this.filePathname), ModelDefinitions.BUFFER_SIZE))) {
+                for (String tmpLine : this.lineList) {
+                    tmpPrintWriter.println(tmpLine);
+                }
+                tmpPrintWriter.flush();
+                if (tmpPrintWriter.checkError()) {
+                    throw new IOException("Writing of " + this.filePathname + " failed.");
+                }
+            }
+        } else {
+            this.printWriter.flush();
+            if (this.printWriter.checkError()) {
+                throw new IOException("Writing of " + this.filePathname + " failed.");
+            }
+        }
+        this.isFinished = true;
+    }
+
+    /**
+     * Closes writer and releases threads. If finish() was not successfully 
+     * called before, the (incomplete) file is deleted.
+     */
+    public void close() {
+        if (this.isClosed) {
+            return;
+        }
+        this.isClosed = true;
+        if (this.executorService != null) {
+            this.executorService.shutdownNow();
+        }
+        this.pendingChunks.clear();
+        if (this.printWriter != null) {
+            this.printWriter.close();
+        }
+        if (!this.isFinished) {
+            File tmpFile = new File(this.filePathname);
+            if (tmpFile.isFile()) {
+                tmpFile.delete();
+            }
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Adds pending chunk and writes completed leading chunks. If the maximum 
+     * number of pending chunks is exceeded the leading chunks are waited for.
+     *
+     * @param aChunk Chunk
+     * @throws IOException Thrown if writing fails
+     * @throws InterruptedException Thrown if waiting for pending chunk is 
+     * interrupted
+     * @throws ExecutionException Thrown if pending chunk failed
+     */
+    private void addPendingChunk(Future<String[]> aChunk) throws IOException, InterruptedException, ExecutionException {
+        this.pendingChunks.addLast(aChunk);
+        while (!this.pendingChunks.isEmpty() 
+            && (this.pendingChunks.size() > this.maximumNumberOfPendingChunks || this.pendingChunks.peekFirst().isDone())
+        ) {
+            this.writeLines(this.pendingChunks.pollFirst().get());
+        }
+    }
+
+    /**
+     * Waits for and writes all pending chunks
+     *
+     * @throws IOException Thrown if writing fails
+     * @throws InterruptedException Thrown if waiting for pending chunk is 
+     * interrupted
+     * @throws ExecutionException Thrown if pending chunk failed
+     */
+    private void writePendingChunks() throws IOException, InterruptedException, ExecutionException {
+        while (!this.pendingChunks.isEmpty()) {
+            this.writeLines(this.pendingChunks.pollFirst().get());
+        }
+    }
+
+    /**
+     * Writes lines
+     *
+     * @param aLines Lines
+     * @throws IOException Thrown if writing fails
+     */
+    private void writeLines(String[] aLines) throws IOException {
+        for (String tmpLine : aLines) {
+            this.writeLine(tmpLine);
+        }
+    }
+
+    /**
+     * Writes line
+     *
+     * @param aLine Line
+     * @throws IOException Thrown if writing fails
+     */
+    private void writeLine(String aLine) throws IOException {
+        if (this.isLineListMode) {
+            this.lineList.add(aLine);
+        } else {
+            this.printWriter.println(aLine);
+            if (this.printWriter.checkError()) {
+                throw new IOException("Writing of " + this.filePathname + " failed.");
+            }
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private classes">
+    /**
+     * Chunk of whole molecules of a particle block
+     */
+    private class ParticleBlockChunk implements Callable<String[]> {
+
+        /**
+         * Molecular structure string
+         */
+        private final String molecularStructureString;
+
+        /**
+         * First particle coordinates of molecules
+         */
+        private final PointInSpace[] firstParticleCoordinates;
+
+        /**
+         * Last particle coordinates of molecules
+         */
+        private final PointInSpace[] lastParticleCoordinates;
+
+        /**
+         * Line number of first particle
+         */
+        private final int firstLineNumber;
+
+        /**
+         * Bond length
+         */
+        private final double bondLength;
+
+        /**
+         * Number of particles per molecule (for line visualizers)
+         */
+        private final int numberOfParticlesPerMolecule;
+
+        /**
+         * Constructor
+         *
+         * @param aMolecularStructureString Molecular structure string
+         * @param aFirstParticleCoordinates First particle coordinates
+         * @param aLastParticleCoordinates Last particle coordinates
+         * @param aFirstLineNumber Line number of first particle
+         * @param aBondLength Bond length
+         * @param aNumberOfParticlesPerMolecule Number of particles per molecule
+         */
+        public ParticleBlockChunk(
+            String aMolecularStructureString,
+            PointInSpace[] aFirstParticleCoordinates,
+            PointInSpace[] aLastParticleCoordinates,
+            int aFirstLineNumber,
+            double aBondLength,
+            int aNumberOfParticlesPerMolecule
+        ) {
+            this.molecularStructureString = aMolecularStructureString;
+            this.firstParticleCoordinates = aFirstParticleCoordinates;
+            this.lastParticleCoordinates = aLastParticleCoordinates;
+            this.firstLineNumber = aFirstLineNumber;
+            this.bondLength = aBondLength;
+            this.numberOfParticlesPerMolecule = aNumberOfParticlesPerMolecule;
+        }
+
+        /**
+         * Generates and formats particle positions and connections of chunk
+         *
+         * @return Lines of chunk
+         */
+        @Override
+        public String[] call() {
+            // NOTE: StringUtilityMethods instance per chunk since DecimalFormat is not thread-safe
+            StringUtilityMethods tmpStringUtilityMethods = new StringUtilityMethods();
+            SpicesGraphics tmpSpices = SpicesPool.getInstance().getSpices(this.molecularStructureString);
+            tmpSpices.setCoordinates(this.firstLineNumber, this.firstParticleCoordinates, this.lastParticleCoordinates, this.bondLength);
+            String[][] tmpParticlePositionsAndConnections = tmpSpices.getParticlePositionsAndConnections();
+            tmpSpices.destroySpicesMatrix();
+            SpicesPool.getInstance().setSpicesForReuse(tmpSpices);
+            String[] tmpLines = new String[tmpParticlePositionsAndConnections.length + tmpParticlePositionsAndConnections.length / this.numberOfParticlesPerMolecule];
+            int tmpLineIndex = 0;
+            StringBuilder tmpBuffer = new StringBuilder(ModelDefinitions.BUFFER_SIZE_TINY);
+            int tmpParticleCounter = 0;
+            for (int j = 0; j < tmpParticlePositionsAndConnections.length; j++) {
+                tmpBuffer.delete(0, tmpBuffer.length());
+                tmpBuffer.append(tmpParticlePositionsAndConnections[j][0]); // Line_number
+                tmpBuffer.append(oneSpace);
+                tmpBuffer.append(tmpParticlePositionsAndConnections[j][1]); // Particle
+                // Add particle index for inner molecule potentials: Index 0 (zero) means no index potential
+                tmpBuffer.append(oneSpace);
+                tmpBuffer.append(tmpParticlePositionsAndConnections[j][2]); // Particle_Index
+                for (int k = 3; k < 6; k++) {
+                    // Coordinates
+                    tmpBuffer.append(oneSpace);
+                    tmpBuffer.append(tmpStringUtilityMethods.formatDoubleValue(tmpParticlePositionsAndConnections[j][k], ModelDefinitions.NUMBER_OF_DECIMALS_FOR_GRAPHICS_COORDINATES));
+                }
+                for (int k = 6; k < tmpParticlePositionsAndConnections[j].length; k++) {
+                    // Bonding
+                    tmpBuffer.append(oneSpace);
+                    tmpBuffer.append(tmpParticlePositionsAndConnections[j][k]);
+                }
+                // Single particle information
+                tmpLines[tmpLineIndex++] = tmpBuffer.toString();
+                tmpParticlePositionsAndConnections[j] = null;
+                tmpParticleCounter++;
+                if (tmpParticleCounter == this.numberOfParticlesPerMolecule) {
+                    // Line visualizer after molecule
+                    tmpLines[tmpLineIndex++] = lineVisualizerSmall;
+                    tmpParticleCounter = 0;
+                }
+            }
+            if (tmpLineIndex < tmpLines.length) {
+                return Arrays.copyOf(tmpLines, tmpLineIndex);
+            } else {
+                return tmpLines;
+            }
+        }
+
+    }
+    // </editor-fold>
+
+}
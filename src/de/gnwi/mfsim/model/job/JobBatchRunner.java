@@ -0,0 +1,533 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.particle.StandardParticleInteractionData;
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.preference.Preferences;
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import de.gnwi.mfsim.model.util.ModelUtils;
+import java.beans.PropertyChangeEvent;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless command-line batch runner for job inputs: Job inputs are executed
+ * with JobResultExecutionTask instances (i.e. the same path as in the GUI
+ * including RDF/distance post-processing) and moved to the job result path.
+ * No Swing/AWT display is used (java.awt.headless is set to true).
+ * 
+ * Usage: JobBatchRunner [-p|--parallel number] [-c|--cores number] path 
+ * [path ...] where a path is a job input directory, the XML value item 
+ * container file of a job input or a directory with job input directories 
+ * (e.g. the job input path). With a core budget the jobs are executed with 
+ * JobCoreBudgetScheduler (the number of parallel jobs is ignored then). 
+ * Without -c the core budget of the preferences is used (if set).
+ * 
+ * Machine-readable progress is written to standard output as tab-separated 
+ * lines:
+ * <pre>
+ * JOBS      number of jobs
+ * START     job index  job input path  description
+ * PROGRESS  job index  progress in percent
+ * ERROR     job index  message
+ * ALLOCATION job index requested and allocated parallel task number
+ * FINISHED  job index  JobResultProcessingStatusEnum name  job result path
+ * SUMMARY   number of jobs  number of successful jobs  number of failed jobs
+ * </pre>
+ * 
+ * Exit codes: 0 = all jobs finished with success, 1 = at least one job 
+ * failed or was stopped, 2 = invalid arguments, 3 = initialization failed.
+ *
+ * @author Achim Zielesny
+ */
+public class JobBatchRunner {
+
+    // <editor-fold defaultstate="collapsed" desc="Public static final class variables">
+    /**
+     * Exit code: All jobs finished with success
+     */
+    public static final int EXIT_SUCCESS = 0;
+
+    /**
+     * Exit code: At least one job failed or was stopped
+     */
+    public static final int EXIT_JOB_FAILURE = 1;
+
+    /**
+     * Exit code: Invalid arguments
+     */
+    public static final int EXIT_INVALID_ARGUMENTS = 2;
+
+    /**
+     * Exit code: Initialization failed
+     */
+    public static final int EXIT_INITIALIZATION_FAILURE = 3;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * Separator of output line items
+     */
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * Maximum waiting time for stopped jobs on shutdown in seconds
+     */
+    private static final long SHUTDOWN_TIMEOUT_IN_SECONDS = 60L;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Utility for files
+     */
+    private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
+    /**
+     * Output stream for machine-readable progress
+     */
+    private final PrintStream output;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param anOutput Output stream for machine-readable progress
+     * @throws IllegalArgumentException Thrown if anOutput is null
+     */
+    public JobBatchRunner(PrintStream anOutput) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (anOutput == null) {
+            throw new IllegalArgumentException("anOutput is null.");
+        }
+        // </editor-fold>
+        this.output = anOutput;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public static main method">
+    /**
+     * Main method
+     *
+     * @param args Arguments (see class description)
+     */
+    public static void main(String args[]) {
+        System.setProperty("java.awt.headless", "true");
+        // NOTE: Do NOT use ModelUtils.exitApplication() since this would 
+        // delete the single instance file of a running GUI instance
+        System.exit(new JobBatchRunner(System.out).run(args));
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Runs batch
+     *
+     * @param anArguments Arguments (see class description)
+     * @return Exit code
+     */
+    public int run(String[] anArguments) {
+        // <editor-fold defaultstate="collapsed" desc="Parse arguments">
+        if (anArguments == null || anArguments.length == 0) {
+            this.printUsage();
+            return EXIT_INVALID_ARGUMENTS;
+        }
+        int tmpNumberOfParallelJobs = -1;
+        int tmpCoreBudget = -1;
+        ArrayList<String> tmpPathList = new ArrayList<>(anArguments.length);
+        for (int i = 0; i < anArguments.length; i++) {
+            String tmpArgument = anArguments[i];
+            if (tmpArgument.equals("-h") || tmpArgument.equals("--help")) {
+                this.printUsage();
+                return EXIT_INVALID_ARGUMENTS;
+            } else if (tmpArgument.equals("-p") || tmpArgument.equals("--parallel")) {
+                if (i + 1 >= anArguments.length) {
+                    this.printError(-1, "Missing number of parallel jobs.");
+                    return EXIT_INVALID_ARGUMENTS;
+                }
+                try {
+                    tmpNumberOfParallelJobs = Integer.parseInt(anArguments[++i]);
+                } catch (NumberFormatException anException) {
+                    tmpNumberOfParallelJobs = 0;
+                }
+                if (tmpNumberOfParallelJobs < 1) {
+                    this.printError(-1, "Invalid number of parallel jobs: " + anArguments[i]);
+                    return EXIT_INVALID_ARGUMENTS;
+                }
+            } else if (tmpArgument.equals("-c") || tmpArgument.equals("--cores")) {
+                if (i + 1 >= anArguments.length) {
+                    this.printError(-1, "Missing core budget.");
+                    return EXIT_INVALID_ARGUMENTS;
+                }
+                try {
+                    tmpCoreBudget = Integer.parseInt(anArguments[++i]);
+                } catch (NumberFormatException anException) {
+                    tmpCoreBudget = 0;
+                }
+                if (tmpCoreBudget < 1) {
+                    this.printError(-1, "Invalid core budget: " + anArguments[i]);
+                    return EXIT_INVALID_ARGUMENTS;
+                }
+            } else {
+                tmpPathList.add(tmpArgument);
+            }
+        }
+        String[] tmpJobInputPaths = this.getJobInputPaths(tmpPathList);
+        if (tmpJobInputPaths == null) {
+            return EXIT_INVALID_ARGUMENTS;
+        }
+        if (tmpJobInputPaths.length == 0) {
+            this.printError(-1, "No job inputs found.");
+            return EXIT_INVALID_ARGUMENTS;
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Initialize">
+        if (!this.initialize()) {
+            return EXIT_INITIALIZATION_FAILURE;
+        }
+        if (tmpNumberOfParallelJobs < 1) {
+            tmpNumberOfParallelJobs = Preferences.getInstance().getNumberOfParallelSimulations();
+        }
+        if (tmpCoreBudget < 0) {
+            tmpCoreBudget = Preferences.getInstance().getJobCoreBudget();
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Create job result execution tasks">
+        this.printLine("JOBS", String.valueOf(tmpJobInputPaths.length));
+        JobResultExecutionTask[] tmpTasks = new JobResultExecutionTask[tmpJobInputPaths.length];
+        for (int i = 0; i < tmpJobInputPaths.length; i++) {
+            try {
+                JobInput tmpJobInput = new JobInput(tmpJobInputPaths[i], false);
+                tmpTasks[i] = new JobResultExecutionTask(new JobResult(tmpJobInput.getDescription(), tmpJobInputPaths[i]));
+                final int tmpJobIndex = i;
+                final JobResultExecutionTask tmpTask = tmpTasks[i];
+                tmpTasks[i].addPropertyChangeListener(anEvent -> this.printPropertyChange(tmpJobIndex, tmpTask, anEvent));
+                this.printLine("START", String.valueOf(i), tmpJobInputPaths[i], tmpJobInput.getDescription());
+            } catch (Exception anException) {
+                ModelUtils.appendToLogfile(true, anException);
+                this.printError(i, "Job input could not be read: " + tmpJobInputPaths[i]);
+                tmpTasks[i] = null;
+            }
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Execute job result execution tasks">
+        Thread tmpShutdownHook = new Thread(() -> {
+            // Stop working jobs, e.g. if process is terminated by job scheduler
+            for (JobResultExecutionTask tmpTask : tmpTasks) {
+                if (tmpTask != null && tmpTask.isWorking()) {
+                    tmpTask.stop();
+                }
+            }
+            long tmpTimeoutTimestamp = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_IN_SECONDS * 1000L;
+            for (JobResultExecutionTask tmpTask : tmpTasks) {
+                while (tmpTask != null && tmpTask.isWorking() && System.currentTimeMillis() < tmpTimeoutTimestamp) {
+                    try {
+                        Thread.sleep(Preferences.getInstance().getTimerIntervalInMilliseconds());
+                    } catch (InterruptedException anException) {
+                        return;
+                    }
+                }
+            }
+        });
+        Runtime.getRuntime().addShutdownHook(tmpShutdownHook);
+        int tmpNumberOfSuccessfulJobs;
+        if (tmpCoreBudget > 0) {
+            tmpNumberOfSuccessfulJobs = this.executeWithCoreBudget(tmpTasks, tmpCoreBudget);
+        } else {
+            tmpNumberOfSuccessfulJobs = this.executeWithFixedThreadPool(tmpTasks, tmpNumberOfParallelJobs);
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(tmpShutdownHook);
+        } catch (IllegalStateException anException) {
+            // Shutdown is already in progress
+        }
+        // </editor-fold>
+        this.printLine("SUMMARY", String.valueOf(tmpTasks.length), String.valueOf(tmpNumberOfSuccessfulJobs), String.valueOf(tmpTasks.length - tmpNumberOfSuccessfulJobs));
+        if (tmpNumberOfSuccessfulJobs == tmpTasks.length) {
+            return EXIT_SUCCESS;
+        } else {
+            return EXIT_JOB_FAILURE;
+        }
+    }
+
+    /**
+     * Returns job input directory paths for specified paths (see class 
+     * description)
+     *
+     * @param aPathList Paths
+     * @return Job input directory paths (without duplicates) or null if a 
+     * path is invalid
+     */
+    public String[] getJobInputPaths(ArrayList<String> aPathList) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aPathList == null) {
+            return null;
+        }
+        // </editor-fold>
+        LinkedHashSet<String> tmpJobInputPathSet = new LinkedHashSet<>();
+        for (String tmpPath : aPathList) {
+            File tmpFile = new File(tmpPath).getAbsoluteFile();
+            if (tmpFile.isFile() && tmpFile.getName().equals(ModelDefinitions.INTERNAL_XML_JOB_INPUT_VALUE_ITEM_CONTAINER_FILENAME)) {
+                tmpJobInputPathSet.add(tmpFile.getParent());
+            } else if (this.isJobInputDirectory(tmpFile)) {
+                tmpJobInputPathSet.add(tmpFile.getPath());
+            } else if (tmpFile.isDirectory()) {
+                String[] tmpJobInputPaths = this.fileUtilityMethods.getDirectoryPathsWithPrefix(tmpFile.getPath(), ModelDefinitions.PREFIX_OF_JOB_INPUT_DIRECTORY);
+                if (tmpJobInputPaths != null) {
+                    Arrays.sort(tmpJobInputPaths);
+                    for (String tmpJobInputPath : tmpJobInputPaths) {
+                        if (this.isJobInputDirectory(new File(tmpJobInputPath))) {
+                            tmpJobInputPathSet.add(tmpJobInputPath);
+                        }
+                    }
+                }
+            } else {
+                this.printError(-1, "Invalid path: " + tmpPath);
+                return null;
+            }
+        }
+        return tmpJobInputPathSet.toArray(new String[0]);
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Executes job result execution tasks with fixed thread pool where every
+     * job uses the parallel task number of the preferences
+     *
+     * @param aTasks Job result execution tasks (null elements are ignored)
+     * @param aNumberOfParallelJobs Number of parallel jobs
+     * @return Number of jobs that finished with success
+     */
+    private int executeWithFixedThreadPool(JobResultExecutionTask[] aTasks, int aNumberOfParallelJobs) {
+        ExecutorService tmpExecutorService = Executors.newFixedThreadPool(Math.min(aNumberOfParallelJobs, aTasks.length));
+        ExecutorCompletionService<Boolean> tmpCompletionService = new ExecutorCompletionService<>(tmpExecutorService);
+        HashMap<Future<Boolean>, Integer> tmpFutureToJobIndexMap = new HashMap<>(aTasks.length);
+        for (int i = 0; i < aTasks.length; i++) {
+            if (aTasks[i] != null) {
+                aTasks[i].setSubmittedToExecutorService();
+                tmpFutureToJobIndexMap.put(tmpCompletionService.submit(aTasks[i]), i);
+                // IMPORTANT: Delay start of next job execution task (see MainFrameController)
+                if (i < aTasks.length - 1 && Preferences.getInstance().getDelayForJobStartInMilliseconds() > 0L) {
+                    try {
+                        Thread.sleep(Preferences.getInstance().getDelayForJobStartInMilliseconds());
+                    } catch (InterruptedException anException) {
+                        // Nothing to do
+                    }
+                }
+            }
+        }
+        // Jobs are reported in order of completion
+        int tmpNumberOfSuccessfulJobs = 0;
+        for (int k = 0; k < tmpFutureToJobIndexMap.size(); k++) {
+            Future<Boolean> tmpFuture;
+            try {
+                tmpFuture = tmpCompletionService.take();
+            } catch (InterruptedException anException) {
+                ModelUtils.appendToLogfile(true, anException);
+                break;
+            }
+            try {
+                tmpFuture.get();
+            } catch (Exception anException) {
+                ModelUtils.appendToLogfile(true, anException);
+            }
+            if (this.printFinishedJob(tmpFutureToJobIndexMap.get(tmpFuture), aTasks[tmpFutureToJobIndexMap.get(tmpFuture)])) {
+                tmpNumberOfSuccessfulJobs++;
+            }
+        }
+        tmpExecutorService.shutdown();
+        return tmpNumberOfSuccessfulJobs;
+    }
+
+    /**
+     * Executes job result execution tasks with JobCoreBudgetScheduler: The 
+     * allocation of every job is written to the job result directory.
+     *
+     * @param aTasks Job result execution tasks (null elements are ignored)
+     * @param aCoreBudget Global core budget
+     * @return Number of jobs that finished with success
+     */
+    private int executeWithCoreBudget(JobResultExecutionTask[] aTasks, int aCoreBudget) {
+        JobCoreBudgetScheduler tmpScheduler = 
+            new JobCoreBudgetScheduler(
+                aCoreBudget, 
+                Preferences.getInstance().getNumberOfSimulationBoxCellsforParallelization(), 
+                Preferences.getInstance().getNumberOfBondsforParallelization(), 
+                Preferences.getInstance().getDelayForJobStartInMilliseconds()
+            );
+        HashMap<JobCoreAllocation, Integer> tmpAllocationToJobIndexMap = new HashMap<>(aTasks.length);
+        // NOTE: Core allocations are written to job result directories by scheduler
+        LinkedBlockingQueue<JobCoreAllocation> tmpFinishedQueue = new LinkedBlockingQueue<>();
+        for (int i = 0; i < aTasks.length; i++) {
+            if (aTasks[i] != null) {
+                aTasks[i].setSubmittedToExecutorService();
+                tmpAllocationToJobIndexMap.put(tmpScheduler.submit(aTasks[i], tmpFinishedQueue::add), i);
+            }
+        }
+        // Jobs are reported in order of completion
+        int tmpNumberOfSuccessfulJobs = 0;
+        for (int k = 0; k < tmpAllocationToJobIndexMap.size(); k++) {
+            JobCoreAllocation tmpAllocation;
+            try {
+                tmpAllocation = tmpFinishedQueue.take();
+            } catch (InterruptedException anException) {
+                ModelUtils.appendToLogfile(true, anException);
+                break;
+            }
+            int tmpJobIndex = tmpAllocationToJobIndexMap.get(tmpAllocation);
+            this.printLine(
+                "ALLOCATION", 
+                String.valueOf(tmpJobIndex), 
+                String.valueOf(tmpAllocation.getRequestedParallelTaskNumber()), 
+                String.valueOf(tmpAllocation.getAllocatedParallelTaskNumber())
+            );
+            if (this.printFinishedJob(tmpJobIndex, aTasks[tmpJobIndex])) {
+                tmpNumberOfSuccessfulJobs++;
+            }
+        }
+        tmpScheduler.shutdown();
+        return tmpNumberOfSuccessfulJobs;
+    }
+
+    /**
+     * Prints finished line of job
+     *
+     * @param aJobIndex Job index
+     * @param aTask Job result execution task
+     * @return True: Job finished with success, false: Otherwise
+     */
+    private boolean printFinishedJob(int aJobIndex, JobResultExecutionTask aTask) {
+        JobResult tmpJobResult = aTask.getJobResult();
+        this.printLine("FINISHED", String.valueOf(aJobIndex), tmpJobResult.getJobProcessingResult().name(), tmpJobResult.getJobResultPath());
+        return tmpJobResult.getJobProcessingResult() == JobResultProcessingStatusEnum.JOB_FINISHED_WITH_SUCCESS;
+    }
+
+    /**
+     * Initializes preferences and particle related data (see Main)
+     *
+     * @return True: Operation successful, false: Otherwise
+     */
+    private boolean initialize() {
+        try {
+            Preferences.getInstance();
+            // false: NO log event
+            ModelUtils.appendToLogfile(false, String.format(ModelDefinitions.MFSIM_SESSION_START_FORMAT, ModelDefinitions.APPLICATION_VERSION));
+            if (!(new File(Preferences.getInstance().getDpdSourceParticlesPath())).isDirectory()) {
+                this.printError(-1, "Missing particles directory: " + Preferences.getInstance().getDpdSourceParticlesPath());
+                return false;
+            }
+            String tmpCurrentParticleSetFilePathname = Preferences.getInstance().getCurrentParticleSetFilePathname();
+            if (tmpCurrentParticleSetFilePathname == null || tmpCurrentParticleSetFilePathname.isEmpty() || !(new File(tmpCurrentParticleSetFilePathname)).isFile()) {
+                this.printError(-1, "Missing particle set file.");
+                return false;
+            }
+            StandardParticleInteractionData.getInstance();
+            JdpdValueItemDefinition.getInstance();
+            return true;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            this.printError(-1, "Initialization failed: " + anException.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns if directory is a job input directory
+     *
+     * @param aDirectory Directory
+     * @return True: Directory is a job input directory, false: Otherwise
+     */
+    private boolean isJobInputDirectory(File aDirectory) {
+        return aDirectory.isDirectory() && new File(aDirectory, ModelDefinitions.INTERNAL_XML_JOB_INPUT_VALUE_ITEM_CONTAINER_FILENAME).isFile();
+    }
+
+    /**
+     * Prints property change of job result execution task
+     *
+     * @param aJobIndex Job index
+     * @param aTask Job result execution task
+     * @param anEvent Property change event
+     */
+    private void printPropertyChange(int aJobIndex, JobResultExecutionTask aTask, PropertyChangeEvent anEvent) {
+        if (anEvent.getPropertyName().equals(ModelDefinitions.PROPERTY_CHANGE_JOB_IS_ALIVE)) {
+            int tmpProgressInPercent = aTask.getSimulationProgressInPercent();
+            if (tmpProgressInPercent >= 0) {
+                this.printLine("PROGRESS", String.valueOf(aJobIndex), String.valueOf(tmpProgressInPercent));
+            }
+        } else if (anEvent.getPropertyName().equals(ModelDefinitions.PROPERTY_CHANGE_ERROR)) {
+            this.printError(aJobIndex, "Job execution failed (see log file).");
+        }
+    }
+
+    /**
+     * Prints error line
+     *
+     * @param aJobIndex Job index (-1: No job)
+     * @param aMessage Message
+     */
+    private void printError(int aJobIndex, String aMessage) {
+        this.printLine("ERROR", String.valueOf(aJobIndex), aMessage);
+    }
+
+    /**
+     * Prints tab-separated output line
+     *
+     * @param anItems Items (tabs and line separators are replaced by spaces)
+     */
+    private void printLine(String... anItems) {
+        StringBuilder tmpBuilder = new StringBuilder();
+        for (int i = 0; i < anItems.length; i++) {
+            if (i > 0) {
+                tmpBuilder.append(SEPARATOR);
+            }
+            if (anItems[i] != null) {
+                tmpBuilder.append(anItems[i].replaceAll("[\\t\\r\\n]", " "));
+            }
+        }
+        synchronized (this.output) {
+            this.output.println(tmpBuilder.toString());
+            this.output.flush();
+        }
+    }
+
+    /**
+     * Prints usage
+     */
+    private void printUsage() {
+        System.err.println("Usage: java -cp MFsim.jar de.gnwi.mfsim.model.job.JobBatchRunner [-p|--parallel number] [-c|--cores number] path [path ...]");
+        System.err.println("  path: Job input directory, job input XML file or directory with job input directories");
+        System.err.println("  -p, --parallel: Number of parallel jobs (default: preferences setting)");
+        System.err.println("  -c, --cores: Global core budget for parallel task numbers of all jobs (default: preferences setting)");
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,268 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+/**
+ * Core allocation of a single job of JobCoreBudgetScheduler: Job demand 
+ * (number of particles, simulation box cells and bonds), requested and 
+ * allocated parallel task number and timestamps.
+ *
+ * @author Achim Zielesny
+ */
+public class JobCoreAllocation {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * Version line of core allocation file
+     */
+    private static final String VERSION_LINE = "Version 1.0.0";
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Core budget of scheduler
+     */
+    private final int coreBudget;
+
+    /**
+     * Number of particles of job
+     */
+    private final int numberOfParticles;
+
+    /**
+     * Number of simulation box cells of job
+     */
+    private final int numberOfCells;
+
+    /**
+     * Number of bonds of job
+     */
+    private final int numberOfBonds;
+
+    /**
+     * Requested parallel task number
+     */
+    private final int requestedParallelTaskNumber;
+
+    /**
+     * Timestamp of submission in milliseconds
+     */
+    private final long submissionTimestamp;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Allocated parallel task number (0: Not yet allocated)
+     */
+    private volatile int allocatedParallelTaskNumber;
+
+    /**
+     * Timestamp of start in milliseconds (0: Not yet started)
+     */
+    private volatile long startTimestamp;
+
+    /**
+     * Timestamp of end in milliseconds (0: Not yet finished)
+     */
+    private volatile long endTimestamp;
+
+    /**
+     * True: Job finished successfully, false: Otherwise
+     */
+    private volatile boolean isSuccessful;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aCoreBudget Core budget of scheduler
+     * @param aNumberOfParticles Number of particles of job
+     * @param aNumberOfCells Number of simulation box cells of job
+     * @param aNumberOfBonds Number of bonds of job
+     * @param aRequestedParallelTaskNumber Requested parallel task number
+     */
+    public JobCoreAllocation(int aCoreBudget, int aNumberOfParticles, int aNumberOfCells, int aNumberOfBonds, int aRequestedParallelTaskNumber) {
+        this.coreBudget = aCoreBudget;
+        this.numberOfParticles = aNumberOfParticles;
+        this.numberOfCells = aNumberOfCells;
+        this.numberOfBonds = aNumberOfBonds;
+        this.requestedParallelTaskNumber = aRequestedParallelTaskNumber;
+        this.submissionTimestamp = System.currentTimeMillis();
+        this.allocatedParallelTaskNumber = 0;
+        this.startTimestamp = 0L;
+        this.endTimestamp = 0L;
+        this.isSuccessful = false;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Returns lines of core allocation file (defined string array format, 
+     * see code)
+     *
+     * @return Lines of core allocation file
+     */
+    public String[] getInformationLines() {
+        // Line 1: Version
+        // Line 2: Core budget
+        // Line 3: Requested parallel task number
+        // Line 4: Allocated parallel task number
+        // Line 5: Number of particles
+        // Line 6: Number of simulation box cells
+        // Line 7: Number of bonds
+        // Line 8: Waiting time in milliseconds
+        // Line 9: Run time in milliseconds
+        return new String[] {
+            VERSION_LINE,
+            String.valueOf(this.coreBudget),
+            String.valueOf(this.requestedParallelTaskNumber),
+            String.valueOf(this.allocatedParallelTaskNumber),
+            String.valueOf(this.numberOfParticles),
+            String.valueOf(this.numberOfCells),
+            String.valueOf(this.numberOfBonds),
+            String.valueOf(this.getWaitingTimeInMilliseconds()),
+            String.valueOf(this.getRunTimeInMilliseconds())
+        };
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Core budget of scheduler
+     *
+     * @return Core budget of scheduler
+     */
+    public int getCoreBudget() {
+        return this.coreBudget;
+    }
+
+    /**
+     * Number of particles of job
+     *
+     * @return Number of particles of job
+     */
+    public int getNumberOfParticles() {
+        return this.numberOfParticles;
+    }
+
+    /**
+     * Number of simulation box cells of job
+     *
+     * @return Number of simulation box cells of job
+     */
+    public int getNumberOfCells() {
+        return this.numberOfCells;
+    }
+
+    /**
+     * Number of bonds of job
+     *
+     * @return Number of bonds of job
+     */
+    public int getNumberOfBonds() {
+        return this.numberOfBonds;
+    }
+
+    /**
+     * Requested parallel task number
+     *
+     * @return Requested parallel task number
+     */
+    public int getRequestedParallelTaskNumber() {
+        return this.requestedParallelTaskNumber;
+    }
+
+    /**
+     * Allocated parallel task number
+     *
+     * @return Allocated parallel task number (0: Not yet allocated)
+     */
+    public int getAllocatedParallelTaskNumber() {
+        return this.allocatedParallelTaskNumber;
+    }
+
+    /**
+     * Waiting time between submission and start in milliseconds
+     *
+     * @return Waiting time between submission and start in milliseconds (-1: 
+     * Not yet started)
+     */
+    public long getWaitingTimeInMilliseconds() {
+        if (this.startTimestamp == 0L) {
+            return -1L;
+        } else {
+            return this.startTimestamp - this.submissionTimestamp;
+        }
+    }
+
+    /**
+     * Run time between start and end in milliseconds
+     *
+     * @return Run time between start and end in milliseconds (-1: Not yet 
+     * finished)
+     */
+    public long getRunTimeInMilliseconds() {
+        if (this.endTimestamp == 0L) {
+            return -1L;
+        } else {
+            return this.endTimestamp - this.startTimestamp;
+        }
+    }
+
+    /**
+     * True: Job finished successfully, false: Otherwise
+     *
+     * @return True: Job finished successfully, false: Otherwise
+     */
+    public boolean isSuccessful() {
+        return this.isSuccessful;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Package-private properties (set)">
+    /**
+     * Sets allocated parallel task number
+     *
+     * @param anAllocatedParallelTaskNumber Allocated parallel task number
+     */
+    void setAllocatedParallelTaskNumber(int anAllocatedParallelTaskNumber) {
+        this.allocatedParallelTaskNumber = anAllocatedParallelTaskNumber;
+    }
+
+    /**
+     * Sets timestamp of start to current time
+     */
+    void setStarted() {
+        this.startTimestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Sets timestamp of end to current time
+     *
+     * @param anIsSuccessful True: Job finished successfully, false: Otherwise
+     */
+    void setFinished(boolean anIsSuccessful) {
+        this.isSuccessful = anIsSuccessful;
+        this.endTimestamp = System.currentTimeMillis();
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,500 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import de.gnwi.mfsim.model.util.ModelUtils;
+import de.gnwi.mfsim.model.valueItem.ValueItem;
+import de.gnwi.mfsim.model.valueItem.ValueItemContainer;
+import java.io.File;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Scheduler for concurrent Jdpd simulation jobs with a global core budget: 
+ * Each submitted job requests a parallel task number that is derived from 
+ * its number of simulation box cells and bonds with the same minimum 
+ * thresholds as used by Jdpd's ParallelizationInfo, i.e. one parallel task 
+ * per minimum parallel task cell number (or minimum parallel task harmonic 
+ * bond number, whatever is larger). Jobs are started in order of submission 
+ * as soon as enough cores are free: A job gets its requested parallel task 
+ * number if possible, the free cores if no other job is running or at least 
+ * half of the requested parallel task number is free, otherwise it waits 
+ * (and all later jobs wait too so that large jobs do not starve).
+ * The core allocation of a finished job result execution task is written 
+ * to its Job Result directory (see 
+ * ModelDefinitions.JOB_RESULT_CORE_ALLOCATION_FILENAME).
+ *
+ * @author Achim Zielesny
+ */
+public class JobCoreBudgetScheduler {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Utility for jobs
+     */
+    private final JobUtilityMethods jobUtilityMethods = new JobUtilityMethods();
+
+    /**
+     * Utility for files
+     */
+    private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
+    /**
+     * Global core budget
+     */
+    private final int coreBudget;
+
+    /**
+     * Minimum number of simulation box cells per parallel task
+     */
+    private final int minimumParallelTaskCellNumber;
+
+    /**
+     * Minimum number of harmonic bonds per parallel task
+     */
+    private final int minimumParallelTaskHarmonicBondNumber;
+
+    /**
+     * Delay between job starts in milliseconds
+     */
+    private final long delayForJobStartInMilliseconds;
+
+    /**
+     * Executor service for jobs
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Queue of jobs that are not yet started
+     */
+    private final LinkedList<QueueEntry> jobQueue;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Number of allocated cores of running jobs
+     */
+    private int numberOfUsedCores;
+
+    /**
+     * Maximum number of allocated cores of running jobs
+     */
+    private int maximumNumberOfUsedCores;
+
+    /**
+     * Number of running jobs
+     */
+    private int numberOfRunningJobs;
+
+    /**
+     * Earliest timestamp for next job start in milliseconds
+     */
+    private long nextStartTimestamp;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aCoreBudget Global core budget
+     * @param aMinimumParallelTaskCellNumber Minimum number of simulation box 
+     * cells per parallel task
+     * @param aMinimumParallelTaskHarmonicBondNumber Minimum number of 
+     * harmonic bonds per parallel task
+     * @param aDelayForJobStartInMilliseconds Delay between job starts in 
+     * milliseconds
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     */
+    public JobCoreBudgetScheduler(
+        int aCoreBudget, 
+        int aMinimumParallelTaskCellNumber, 
+        int aMinimumParallelTaskHarmonicBondNumber, 
+        long aDelayForJobStartInMilliseconds
+    ) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aCoreBudget < 1) {
+            throw new IllegalArgumentException("aCoreBudget is less than 1.");
+        }
+        if (aMinimumParallelTaskCellNumber < 1) {
+            throw new IllegalArgumentException("aMinimumParallelTaskCellNumber is less than 1.");
+        }
+        if (aMinimumParallelTaskHarmonicBondNumber < 1) {
+            throw new IllegalArgumentException("aMinimumParallelTaskHarmonicBondNumber is less than 1.");
+        }
+        if (aDelayForJobStartInMilliseconds < 0L) {
+            throw new IllegalArgumentException("aDelayForJobStartInMilliseconds is less than 0.");
+        }
+        // </editor-fold>
+        this.coreBudget = aCoreBudget;
+        this.minimumParallelTaskCellNumber = aMinimumParallelTaskCellNumber;
+        this.minimumParallelTaskHarmonicBondNumber = aMinimumParallelTaskHarmonicBondNumber;
+        this.delayForJobStartInMilliseconds = aDelayForJobStartInMilliseconds;
+        // NOTE: Number of running jobs is limited by core budget
+        this.executorService = Executors.newFixedThreadPool(aCoreBudget);
+        this.jobQueue = new LinkedList<>();
+        this.numberOfUsedCores = 0;
+        this.maximumNumberOfUsedCores = 0;
+        this.numberOfRunningJobs = 0;
+        this.nextStartTimestamp = 0L;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Returns requested parallel task number for job
+     *
+     * @param aNumberOfCells Number of simulation box cells of job
+     * @param aNumberOfBonds Number of bonds of job
+     * @return Requested parallel task number (between 1 and core budget)
+     */
+    public int getRequestedParallelTaskNumber(int aNumberOfCells, int aNumberOfBonds) {
+        int tmpParallelTaskNumber = 
+            Math.max(
+                Math.max(aNumberOfCells, 0) / this.minimumParallelTaskCellNumber, 
+                Math.max(aNumberOfBonds, 0) / this.minimumParallelTaskHarmonicBondNumber
+            );
+        return Math.max(1, Math.min(this.coreBudget, tmpParallelTaskNumber));
+    }
+
+    /**
+     * Returns allocated parallel task number for job at head of queue
+     *
+     * @param aRequestedParallelTaskNumber Requested parallel task number
+     * @param aNumberOfFreeCores Number of free cores
+     * @param aNumberOfRunningJobs Number of running jobs
+     * @return Allocated parallel task number or 0 if job has to wait
+     */
+    public int getAllocatedParallelTaskNumber(int aRequestedParallelTaskNumber, int aNumberOfFreeCores, int aNumberOfRunningJobs) {
+        if (aNumberOfFreeCores < 1) {
+            return 0;
+        }
+        if (aRequestedParallelTaskNumber <= aNumberOfFreeCores) {
+            return aRequestedParallelTaskNumber;
+        }
+        if (aNumberOfRunningJobs == 0 || 2 * aNumberOfFreeCores >= aRequestedParallelTaskNumber) {
+            return aNumberOfFreeCores;
+        }
+        return 0;
+    }
+
+    /**
+     * Submits job result execution task: Job demand is derived from job 
+     * input of task and allocated parallel task number is set to task before 
+     * it is started. The core allocation is written to the Job Result 
+     * directory when the task is finished.
+     *
+     * @param aTask Job result execution task
+     * @param aFinishedListener Listener that is called with the core 
+     * allocation after the task is finished and the core allocation is 
+     * written (in thread of task, may be null)
+     * @return Core allocation of job
+     * @throws IllegalArgumentException Thrown if aTask is null
+     */
+    public JobCoreAllocation submit(JobResultExecutionTask aTask, Consumer<JobCoreAllocation> aFinishedListener) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aTask == null) {
+            throw new IllegalArgumentException("aTask is null.");
+        }
+        // </editor-fold>
+        int tmpNumberOfParticles = 0;
+        int tmpNumberOfCells = 0;
+        int tmpNumberOfBonds = 0;
+        try {
+            ValueItemContainer tmpValueItemContainer = aTask.getJobResult().getJobInput().getValueItemContainer();
+            tmpNumberOfParticles = Math.max(this.jobUtilityMethods.getTotalNumberOfParticlesInSimulation(tmpValueItemContainer), 0);
+            // NOTE: Number of bonds of a molecule is its number of particles 
+            // minus 1 (exact for non-cyclic molecules)
+            ValueItem tmpMoleculeInfoValueItem = this.jobUtilityMethods.createMoleculeInfoValueItem(tmpValueItemContainer);
+            int tmpNumberOfMolecules = 0;
+            for (int i = 0; i < tmpMoleculeInfoValueItem.getMatrixRowCount(); i++) {
+                // tmpMoleculeInfoValueItem column 2: Quantity
+                tmpNumberOfMolecules += tmpMoleculeInfoValueItem.getValueAsInt(i, 2);
+            }
+            tmpNumberOfBonds = Math.max(tmpNumberOfParticles - tmpNumberOfMolecules, 0);
+            // NOTE: Simulation box cells have a length of 1 DPD unit (cut-off length)
+            BoxSizeInfo tmpBoxSizeInfo = this.jobUtilityMethods.getBoxSizeInfo(tmpValueItemContainer);
+            if (tmpBoxSizeInfo != null) {
+                long tmpTotalNumberOfCells = 
+                    (long) Math.floor(tmpBoxSizeInfo.getXLength()) * 
+                    (long) Math.floor(tmpBoxSizeInfo.getYLength()) * 
+                    (long) Math.floor(tmpBoxSizeInfo.getZLength());
+                tmpNumberOfCells = (int) Math.min(tmpTotalNumberOfCells, Integer.MAX_VALUE);
+            }
+        } catch (Exception anException) {
+            // Job demand is unknown: Job requests a single parallel task
+            ModelUtils.appendToLogfile(true, anException);
+        }
+        return this.submit(
+            aTask, 
+            tmpNumberOfParticles, 
+            tmpNumberOfCells, 
+            tmpNumberOfBonds, 
+            aTask::setParallelTaskNumber,
+            (JobCoreAllocation anAllocation) -> {
+                this.writeCoreAllocationFile(aTask, anAllocation);
+                if (aFinishedListener != null) {
+                    aFinishedListener.accept(anAllocation);
+                }
+            }
+        );
+    }
+
+    /**
+     * Submits job
+     *
+     * @param aJob Job
+     * @param aNumberOfParticles Number of particles of job
+     * @param aNumberOfCells Number of simulation box cells of job
+     * @param aNumberOfBonds Number of bonds of job
+     * @param aParallelTaskNumberSetter Setter for allocated parallel task 
+     * number that is called before job is started (may be null)
+     * @param aFinishedListener Listener that is called with the core 
+     * allocation after the job is finished (in thread of job, may be null)
+     * @return Core allocation of job
+     * @throws IllegalArgumentException Thrown if aJob is null
+     */
+    public synchronized JobCoreAllocation submit(
+        Callable<Boolean> aJob, 
+        int aNumberOfParticles, 
+        int aNumberOfCells, 
+        int aNumberOfBonds, 
+        IntConsumer aParallelTaskNumberSetter,
+        Consumer<JobCoreAllocation> aFinishedListener
+    ) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aJob == null) {
+            throw new IllegalArgumentException("aJob is null.");
+        }
+        // </editor-fold>
+        JobCoreAllocation tmpAllocation = 
+            new JobCoreAllocation(
+                this.coreBudget, 
+                aNumberOfParticles, 
+                aNumberOfCells, 
+                aNumberOfBonds, 
+                this.getRequestedParallelTaskNumber(aNumberOfCells, aNumberOfBonds)
+            );
+        this.jobQueue.addLast(new QueueEntry(aJob, tmpAllocation, aParallelTaskNumberSetter, aFinishedListener));
+        this.startQueuedJobs();
+        return tmpAllocation;
+    }
+
+    /**
+     * Shuts down scheduler: Queued jobs are removed, running jobs are 
+     * completed
+     */
+    public synchronized void shutdown() {
+        this.jobQueue.clear();
+        this.executorService.shutdown();
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Global core budget
+     *
+     * @return Global core budget
+     */
+    public int getCoreBudget() {
+        return this.coreBudget;
+    }
+
+    /**
+     * Number of allocated cores of running jobs
+     *
+     * @return Number of allocated cores of running jobs
+     */
+    public synchronized int getNumberOfUsedCores() {
+        return this.numberOfUsedCores;
+    }
+
+    /**
+     * Maximum number of allocated cores of running jobs since construction
+     *
+     * @return Maximum number of allocated cores of running jobs
+     */
+    public synchronized int getMaximumNumberOfUsedCores() {
+        return this.maximumNumberOfUsedCores;
+    }
+
+    /**
+     * Number of running jobs
+     *
+     * @return Number of running jobs
+     */
+    public synchronized int getNumberOfRunningJobs() {
+        return this.numberOfRunningJobs;
+    }
+
+    /**
+     * Number of queued jobs that are not yet started
+     *
+     * @return Number of queued jobs that are not yet started
+     */
+    public synchronized int getNumberOfQueuedJobs() {
+        return this.jobQueue.size();
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private synchronized methods">
+    /**
+     * Starts queued jobs in order of submission as long as cores are free
+     */
+    private synchronized void startQueuedJobs() {
+        while (!this.jobQueue.isEmpty() && !this.executorService.isShutdown()) {
+            QueueEntry tmpQueueEntry = this.jobQueue.getFirst();
+            int tmpAllocatedParallelTaskNumber = 
+                this.getAllocatedParallelTaskNumber(
+                    tmpQueueEntry.allocation.getRequestedParallelTaskNumber(), 
+                    this.coreBudget - this.numberOfUsedCores, 
+                    this.numberOfRunningJobs
+                );
+            if (tmpAllocatedParallelTaskNumber == 0) {
+                return;
+            }
+            this.jobQueue.removeFirst();
+            this.numberOfUsedCores += tmpAllocatedParallelTaskNumber;
+            this.maximumNumberOfUsedCores = Math.max(this.maximumNumberOfUsedCores, this.numberOfUsedCores);
+            this.numberOfRunningJobs++;
+            tmpQueueEntry.allocation.setAllocatedParallelTaskNumber(tmpAllocatedParallelTaskNumber);
+            if (tmpQueueEntry.parallelTaskNumberSetter != null) {
+                tmpQueueEntry.parallelTaskNumberSetter.accept(tmpAllocatedParallelTaskNumber);
+            }
+            // IMPORTANT: Delay start of next job (see MainFrameController)
+            long tmpCurrentTimestamp = System.currentTimeMillis();
+            long tmpStartDelay = Math.max(this.nextStartTimestamp - tmpCurrentTimestamp, 0L);
+            this.nextStartTimestamp = tmpCurrentTimestamp + tmpStartDelay + this.delayForJobStartInMilliseconds;
+            this.executorService.submit(() -> this.runJob(tmpQueueEntry, tmpStartDelay));
+        }
+    }
+
+    /**
+     * Releases cores of finished job and starts queued jobs
+     *
+     * @param anAllocation Core allocation of finished job
+     */
+    private synchronized void release(JobCoreAllocation anAllocation) {
+        this.numberOfUsedCores -= anAllocation.getAllocatedParallelTaskNumber();
+        this.numberOfRunningJobs--;
+        this.startQueuedJobs();
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Runs job (in thread of executor service)
+     *
+     * @param aQueueEntry Queue entry of job
+     * @param aStartDelay Delay before start in milliseconds
+     */
+    private void runJob(QueueEntry aQueueEntry, long aStartDelay) {
+        boolean tmpIsSuccessful = false;
+        try {
+            if (aStartDelay > 0L) {
+                Thread.sleep(aStartDelay);
+            }
+            aQueueEntry.allocation.setStarted();
+            tmpIsSuccessful = Boolean.TRUE.equals(aQueueEntry.job.call());
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+        } finally {
+            aQueueEntry.allocation.setFinished(tmpIsSuccessful);
+            this.release(aQueueEntry.allocation);
+            if (aQueueEntry.finishedListener != null) {
+                try {
+                    aQueueEntry.finishedListener.accept(aQueueEntry.allocation);
+                } catch (Exception anException) {
+                    ModelUtils.appendToLogfile(true, anException);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes core allocation to Job Result directory of task (if it exists)
+     *
+     * @param aTask Job result execution task
+     * @param anAllocation Core allocation of task
+     */
+    private void writeCoreAllocationFile(JobResultExecutionTask aTask, JobCoreAllocation anAllocation) {
+        String tmpJobResultPath = aTask.getJobResult().getJobResultPath();
+        if (tmpJobResultPath != null && !tmpJobResultPath.isEmpty() && (new File(tmpJobResultPath)).isDirectory()) {
+            this.fileUtilityMethods.writeDefinedStringArrayToFile(
+                anAllocation.getInformationLines(), 
+                tmpJobResultPath + File.separatorChar + ModelDefinitions.JOB_RESULT_CORE_ALLOCATION_FILENAME
+            );
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class QueueEntry">
+    /**
+     * Entry of job queue
+     */
+    private static class QueueEntry {
+
+        /**
+         * Job
+         */
+        final Callable<Boolean> job;
+
+        /**
+         * Core allocation of job
+         */
+        final JobCoreAllocation allocation;
+
+        /**
+         * Setter for allocated parallel task number (may be null)
+         */
+        final IntConsumer parallelTaskNumberSetter;
+
+        /**
+         * Listener that is called after job is finished (may be null)
+         */
+        final Consumer<JobCoreAllocation> finishedListener;
+
+        /**
+         * Constructor
+         *
+         * @param aJob Job
+         * @param anAllocation Core allocation of job
+         * @param aParallelTaskNumberSetter Setter for allocated parallel task 
+         * number (may be null)
+         * @param aFinishedListener Listener that is called after job is 
+         * finished (may be null)
+         */
+        QueueEntry(Callable<Boolean> aJob, JobCoreAllocation anAllocation, IntConsumer aParallelTaskNumberSetter, Consumer<JobCoreAllocation> aFinishedListener) {
+            this.job = aJob;
+            this.allocation = anAllocation;
+            this.parallelTaskNumberSetter = aParallelTaskNumberSetter;
+            this.finishedListener = aFinishedListener;
+        }
+
+    }
+    // </editor-fold>
+
+}
@@ -27,6 +27,8 @@ import de.gnwi.mfsim.model.valueItem.ValueItemEnumDataType;
 import de.gnwi.mfsim.model.valueItem.ValueItem;
 import de.gnwi.mfsim.model.valueItem.ValueItemEnumBasicType;
 import de.gnwi.mfsim.model.valueItem.ValueItemMatrixElement;
+import de.gnwi.mfsim.model.valueItem.ValueItemNumericMatrix;
+import de.gnwi.mfsim.model.valueItem.ValueItemNumericMatrixLoaderInterface;
 import de.gnwi.mfsim.model.preference.Preferences;
 import de.gnwi.mfsim.model.util.ModelUtils;
 import de.gnwi.mfsim.model.util.FileUtilityMethods;
@@ -94,6 +96,11 @@ public class JobResult implements Comparable<JobResult> {
      */
     private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
 
+    /**
+     * Progress file utility methods
+     */
+    private final ProgressFileUtils progressFileUtils = new ProgressFileUtils();
+
     /**
      * Description
      */
@@ -256,6 +263,37 @@ public class JobResult implements Comparable<JobResult> {
         }
         // </editor-fold>
     }
+
+    /**
+     * Constructor with already read lines of job information file (e.g. from
+     * JobResultIndex)
+     *
+     * @param aResultPath Full path of result directory with job information
+     * file
+     * @param anInformationArray Lines of job information file
+     * @throws IllegalArgumentException Exception is thrown if aResultPath is
+     * null/empty or anInformationArray could not be parsed
+     * @throws FileNotFoundException Exception is thrown if result directory is
+     * not found
+     */
+    public JobResult(String aResultPath, String[] anInformationArray) throws IllegalArgumentException, FileNotFoundException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aResultPath == null || aResultPath.isEmpty()) {
+            throw new IllegalArgumentException("aResultPath is null/empty");
+        }
+        if (!(new File(aResultPath)).isDirectory()) {
+            throw new FileNotFoundException("Directory pathname is not found: " + aResultPath);
+        }
+        if (anInformationArray == null || anInformationArray.length == 0) {
+            throw new IllegalArgumentException("anInformationArray is null/empty");
+        }
+        // </editor-fold>
+        this.initialize();
+        this.jobResultPath = aResultPath;
+        if (!this.setJobResultInformation(anInformationArray)) {
+            throw new IllegalArgumentException("JobResult.Constructor: Can not parse job information lines.");
+        }
+    }
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Public methods">
@@ -510,8 +548,9 @@ public class JobResult implements Comparable<JobResult> {
             ValueItemDataTypeFormat tmpDataTypeFormatText = new ValueItemDataTypeFormat(2, false, false);
             // <editor-fold defaultstate="collapsed" desc="-- Temperature progress">
             if ((new File(this.jobUtilityMethods.getJobResultTemperatureProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultTemperatureProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultTemperatureProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("TEMPERATURE_PROGRESS");
@@ -526,7 +565,7 @@ public class JobResult implements Comparable<JobResult> {
                         ModelDefinitions.CELL_WIDTH_NUMERIC_100}); // Temperature_in_K
                     // In JobUtilityMethods.getJdpdInputText() the temperature was divided by 300.0 to achieve kT units thus multiply with 300.0 now
                     double tmpFactor = 300.0;
-                    tmpValueItem.setMatrix(this.getMultipliedValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText, tmpFactor, 1, Double.POSITIVE_INFINITY));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, tmpFactor, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -536,8 +575,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- U(kin) progress">
             if ((new File(this.jobUtilityMethods.getJobResultUkinProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultUkinProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultUkinProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("UKIN_PROGRESS");
@@ -550,7 +590,7 @@ public class JobResult implements Comparable<JobResult> {
                         ModelMessage.get("JobResults.SimulationResult.Progress.Ukin")});
                     tmpValueItem.setMatrixColumnWidths(new String[]{ModelDefinitions.CELL_WIDTH_NUMERIC_80, // Step
                         ModelDefinitions.CELL_WIDTH_NUMERIC_100}); // Ukin
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -560,8 +600,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- U(potDpd) progress">
             if ((new File(this.jobUtilityMethods.getJobResultUpotDpdProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultUpotDpdProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultUpotDpdProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("UPOT_DPD_PROGRESS");
@@ -574,7 +615,7 @@ public class JobResult implements Comparable<JobResult> {
                         ModelMessage.get("JobResults.SimulationResult.Progress.Upot")});
                     tmpValueItem.setMatrixColumnWidths(new String[]{ModelDefinitions.CELL_WIDTH_NUMERIC_80, // Step
                         ModelDefinitions.CELL_WIDTH_NUMERIC_100}); // UpotDpd
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -584,8 +625,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- U(potTotal) progress">
             if ((new File(this.jobUtilityMethods.getJobResultUpotBondProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultUpotBondProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultUpotBondProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("UPOT_BOND_PROGRESS");
@@ -598,7 +640,7 @@ public class JobResult implements Comparable<JobResult> {
                         ModelMessage.get("JobResults.SimulationResult.Progress.Upot")});
                     tmpValueItem.setMatrixColumnWidths(new String[]{ModelDefinitions.CELL_WIDTH_NUMERIC_80, // Step
                         ModelDefinitions.CELL_WIDTH_NUMERIC_100}); // UpotBond
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -608,8 +650,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- U(potTotal) progress">
             if ((new File(this.jobUtilityMethods.getJobResultUpotElectrostaticsProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultUpotElectrostaticsProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultUpotElectrostaticsProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("UPOT_ELECTROSTATICS_PROGRESS");
@@ -622,7 +665,7 @@ public class JobResult implements Comparable<JobResult> {
                         ModelMessage.get("JobResults.SimulationResult.Progress.Upot")});
                     tmpValueItem.setMatrixColumnWidths(new String[]{ModelDefinitions.CELL_WIDTH_NUMERIC_80, // Step
                         ModelDefinitions.CELL_WIDTH_NUMERIC_100}); // UpotElectrostatics
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -632,8 +675,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- U(potTotal) progress">
             if ((new File(this.jobUtilityMethods.getJobResultUpotTotalProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultUpotTotalProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultUpotTotalProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("UPOT_TOTAL_PROGRESS");
@@ -646,7 +690,7 @@ public class JobResult implements Comparable<JobResult> {
                         ModelMessage.get("JobResults.SimulationResult.Progress.Upot")});
                     tmpValueItem.setMatrixColumnWidths(new String[]{ModelDefinitions.CELL_WIDTH_NUMERIC_80, // Step
                         ModelDefinitions.CELL_WIDTH_NUMERIC_100}); // UpotTotal
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -656,8 +700,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- U(total) progress">
             if ((new File(this.jobUtilityMethods.getJobResultUtotalProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultUtotalProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultUtotalProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("UTOTAL_PROGRESS");
@@ -670,7 +715,7 @@ public class JobResult implements Comparable<JobResult> {
                         ModelMessage.get("JobResults.SimulationResult.Progress.Utotal")});
                     tmpValueItem.setMatrixColumnWidths(new String[]{ModelDefinitions.CELL_WIDTH_NUMERIC_80, // Step
                         ModelDefinitions.CELL_WIDTH_NUMERIC_100}); // Utotal
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -680,8 +725,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- DPD surface tension along x progress">
             if ((new File(this.jobUtilityMethods.getJobResultDpdSurfaceTensionAlongXProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultDpdSurfaceTensionAlongXProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultDpdSurfaceTensionAlongXProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("DPD_SURFACE_TENSION_X_PROGRESS");
@@ -700,7 +746,7 @@ public class JobResult implements Comparable<JobResult> {
                             ModelDefinitions.CELL_WIDTH_NUMERIC_120 // DpdSurfaceTensionX
                         }
                     );
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -710,8 +756,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- DPD surface tension along y progress">
             if ((new File(this.jobUtilityMethods.getJobResultDpdSurfaceTensionAlongYProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultDpdSurfaceTensionAlongYProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultDpdSurfaceTensionAlongYProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("DPD_SURFACE_TENSION_Y_PROGRESS");
@@ -730,7 +777,7 @@ public class JobResult implements Comparable<JobResult> {
                             ModelDefinitions.CELL_WIDTH_NUMERIC_120 // DpdSurfaceTensionY
                         }
                     );
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -740,8 +787,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- DPD surface tension along z progress">
             if ((new File(this.jobUtilityMethods.getJobResultDpdSurfaceTensionAlongZProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultDpdSurfaceTensionAlongZProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultDpdSurfaceTensionAlongZProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("DPD_SURFACE_TENSION_Z_PROGRESS");
@@ -760,7 +808,7 @@ public class JobResult implements Comparable<JobResult> {
                             ModelDefinitions.CELL_WIDTH_NUMERIC_120 // DpdSurfaceTensionZ
                         }
                     );
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -770,8 +818,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- DPD surface tension norm progress">
             if ((new File(this.jobUtilityMethods.getJobResultDpdSurfaceTensionNormProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultDpdSurfaceTensionNormProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultDpdSurfaceTensionNormProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("DPD_SURFACE_TENSION_NORM_PROGRESS");
@@ -790,7 +839,7 @@ public class JobResult implements Comparable<JobResult> {
                             ModelDefinitions.CELL_WIDTH_TEXT_200 // DpdSurfaceTensionNorm
                         }
                     );
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -800,8 +849,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- Surface tension along x progress">
             if ((new File(this.jobUtilityMethods.getJobResultSurfaceTensionAlongXProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultSurfaceTensionAlongXProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultSurfaceTensionAlongXProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("SURFACE_TENSION_X_PROGRESS");
@@ -820,7 +870,7 @@ public class JobResult implements Comparable<JobResult> {
                             ModelDefinitions.CELL_WIDTH_NUMERIC_120 // SurfaceTensionX
                         }
                     );
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -830,8 +880,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- Surface tension along y progress">
             if ((new File(this.jobUtilityMethods.getJobResultSurfaceTensionAlongYProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultSurfaceTensionAlongYProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultSurfaceTensionAlongYProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("SURFACE_TENSION_Y_PROGRESS");
@@ -850,7 +901,7 @@ public class JobResult implements Comparable<JobResult> {
                             ModelDefinitions.CELL_WIDTH_NUMERIC_120 // SurfaceTensionY
                         }
                     );
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -860,8 +911,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- Surface tension along z progress">
             if ((new File(this.jobUtilityMethods.getJobResultSurfaceTensionAlongZProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultSurfaceTensionAlongZProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultSurfaceTensionAlongZProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("SURFACE_TENSION_Z_PROGRESS");
@@ -880,7 +932,7 @@ public class JobResult implements Comparable<JobResult> {
                             ModelDefinitions.CELL_WIDTH_NUMERIC_120 // SurfaceTensionZ
                         }
                     );
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -890,8 +942,9 @@ public class JobResult implements Comparable<JobResult> {
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="-- Surface tension norm progress">
             if ((new File(this.jobUtilityMethods.getJobResultSurfaceTensionNormProgressFilePathname(this.jobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultSurfaceTensionNormProgressFilePathname(this.jobResultPath));
-                if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                String tmpProgressFilePathname = this.jobUtilityMethods.getJobResultSurfaceTensionNormProgressFilePathname(this.jobResultPath);
+                String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpProgressFilePathname, 1);
+                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                     // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                     tmpValueItem = new ValueItem();
                     tmpValueItem.setName("SURFACE_TENSION_NORM_PROGRESS");
@@ -910,7 +963,7 @@ public class JobResult implements Comparable<JobResult> {
                             ModelDefinitions.CELL_WIDTH_TEXT_200 // SurfaceTensionNorm
                         }
                     );
-                    tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText));
+                    this.setLazyNumericMatrix(tmpValueItem, tmpProgressFilePathname, tmpDataTypeFormatText, 1.0, 1);
                     // IMPORTANT: Set diagram columns
                     tmpValueItem.setMatrixDiagramColumns(0, 1);
                     tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -1071,8 +1124,8 @@ public class JobResult implements Comparable<JobResult> {
             if (tmpJobResultParticlePairDistanceFilePathnames != null && tmpJobResultParticlePairDistanceFilePathnames.length > 0) {
                 Arrays.sort(tmpJobResultParticlePairDistanceFilePathnames);
                 for (String tmpJobResultParticlePairDistanceFilePathname : tmpJobResultParticlePairDistanceFilePathnames) {
-                    String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(tmpJobResultParticlePairDistanceFilePathname);
-                    if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                    String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpJobResultParticlePairDistanceFilePathname, 3);
+                    if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                         // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                         String tmpFirstParticle = tmpInfoArray[1];
                         String tmpSecondParticle = tmpInfoArray[2];
@@ -1093,7 +1146,7 @@ public class JobResult implements Comparable<JobResult> {
                             ModelMessage.get("JobResults.SimulationResult.ParticlePairDistance.Distance")});
                         tmpValueItem.setMatrixColumnWidths(new String[]{ModelDefinitions.CELL_WIDTH_NUMERIC_80, // Step
                             ModelDefinitions.CELL_WIDTH_NUMERIC_120}); // Distance
-                        tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText, tmpOffset, Double.POSITIVE_INFINITY));
+                        this.setLazyNumericMatrix(tmpValueItem, tmpJobResultParticlePairDistanceFilePathname, tmpDataTypeFormatText, 1.0, tmpOffset);
                         // IMPORTANT: Set diagram columns
                         tmpValueItem.setMatrixDiagramColumns(0, 1);
                         tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -1108,8 +1161,8 @@ public class JobResult implements Comparable<JobResult> {
             if (tmpJobResultMoleculeParticlePairDistanceFilePathnames != null && tmpJobResultMoleculeParticlePairDistanceFilePathnames.length > 0) {
                 Arrays.sort(tmpJobResultMoleculeParticlePairDistanceFilePathnames);
                 for (String tmpJobResultMoleculeParticlePairDistanceFilePathname : tmpJobResultMoleculeParticlePairDistanceFilePathnames) {
-                    String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(tmpJobResultMoleculeParticlePairDistanceFilePathname);
-                    if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                    String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpJobResultMoleculeParticlePairDistanceFilePathname, 3);
+                    if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
 
                         // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                         String tmpFirstMoleculeParticle = tmpInfoArray[1];
@@ -1132,7 +1185,7 @@ public class JobResult implements Comparable<JobResult> {
                             ModelMessage.get("JobResults.SimulationResult.MoleculeParticlePairDistance.Distance")});
                         tmpValueItem.setMatrixColumnWidths(new String[]{ModelDefinitions.CELL_WIDTH_NUMERIC_80, // Step
                             ModelDefinitions.CELL_WIDTH_NUMERIC_120}); // Distance
-                        tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText, tmpOffset, Double.POSITIVE_INFINITY));
+                        this.setLazyNumericMatrix(tmpValueItem, tmpJobResultMoleculeParticlePairDistanceFilePathname, tmpDataTypeFormatText, 1.0, tmpOffset);
                         // IMPORTANT: Set diagram columns
                         tmpValueItem.setMatrixDiagramColumns(0, 1);
                         tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -1149,8 +1202,8 @@ public class JobResult implements Comparable<JobResult> {
             if (tmpJobResultRadiusOfGyrationFilePathnames != null && tmpJobResultRadiusOfGyrationFilePathnames.length > 0) {
                 double tmpLengthConversionFactorFromDpdToPhysicalLength = this.jobUtilityMethods.getLengthConversionFactorFromDpdToPhysicalLength(this.getJobInput().getValueItemContainer());
                 for (String tmpJobResultRadiusOfGyrationFilePathname : tmpJobResultRadiusOfGyrationFilePathnames) {
-                    String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(tmpJobResultRadiusOfGyrationFilePathname);
-                    if (tmpInfoArray[0].equals("Version 1.0.0")) {
+                    String[] tmpInfoArray = this.progressFileUtils.readFirstDefinedLines(tmpJobResultRadiusOfGyrationFilePathname, 2);
+                    if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
                         // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
                         String tmpMolecule = tmpInfoArray[1];
                         int tmpOffset = 2;
@@ -1168,11 +1221,8 @@ public class JobResult implements Comparable<JobResult> {
                             ModelMessage.get("JobResults.SimulationResult.RadiusOfGyration.Shortcut")});
                         tmpValueItem.setMatrixColumnWidths(new String[]{ModelDefinitions.CELL_WIDTH_NUMERIC_80, // Step
                             ModelDefinitions.CELL_WIDTH_NUMERIC_80}); // RadiusOfGyration
-                        tmpValueItem.setMatrix(this.getValueItemMatrix(tmpInfoArray, tmpDataTypeFormatText, tmpOffset, Double.POSITIVE_INFINITY));
                         // Rg values are in DPD units thus convert to Angstrom
-                        for (int i = 0; i < tmpValueItem.getMatrixRowCount(); i++) {
-                            tmpValueItem.setValue(String.valueOf(tmpValueItem.getValueAsDouble(i, 1) * tmpLengthConversionFactorFromDpdToPhysicalLength), i, 1);
-                        }
+                        this.setLazyNumericMatrix(tmpValueItem, tmpJobResultRadiusOfGyrationFilePathname, tmpDataTypeFormatText, tmpLengthConversionFactorFromDpdToPhysicalLength, tmpOffset);
                         // IMPORTANT: Set diagram columns
                         tmpValueItem.setMatrixDiagramColumns(0, 1);
                         tmpValueItemContainer.addValueItem(tmpValueItem);
@@ -2498,55 +2548,67 @@ public class JobResult implements Comparable<JobResult> {
     }
 
     /**
-     * Returns specific value item matrix, see code.
+     * Sets lazy numeric matrix of value item with step/value data pairs of 
+     * file in defined string array format: Only the first line of the file is 
+     * read, the data pairs are read on first value access (see 
+     * ValueItem.setLazyNumericMatrix()).
+     * NOTE: If file contains no data pairs the matrix is set directly.
      *
-     * @param anInfoArray Info string array
+     * @param aValueItem Value item
+     * @param aFilePathname File pathname
      * @param aDataTypeFormatText Value item data type format
-     * @return Specific value item matrix, see code.
+     * @param aFactor Factor for multiplication of values
+     * @param anOffset Offset for number of lines to skip
      */
-    private ValueItemMatrixElement[][] getValueItemMatrix(String[] anInfoArray, ValueItemDataTypeFormat aDataTypeFormatText) {
-        return getValueItemMatrix(anInfoArray, aDataTypeFormatText, 1, Double.POSITIVE_INFINITY);
+    private void setLazyNumericMatrix(
+        ValueItem aValueItem, 
+        String aFilePathname, 
+        ValueItemDataTypeFormat aDataTypeFormatText, 
+        double aFactor,
+        int anOffset
+    ) {
+        int tmpNumberOfDataPairs = (this.progressFileUtils.getNumberOfDefinedLines(aFilePathname) - anOffset) / 2;
+        ValueItemNumericMatrixLoaderInterface tmpNumericMatrixLoader = () -> this.readNumericMatrix(aFilePathname, aDataTypeFormatText, aFactor, anOffset);
+        if (tmpNumberOfDataPairs > 0) {
+            aValueItem.setLazyNumericMatrix(tmpNumericMatrixLoader, tmpNumberOfDataPairs, new ValueItemDataTypeFormat[] {aDataTypeFormatText, aDataTypeFormatText});
+        } else {
+            ValueItemNumericMatrix tmpNumericMatrix = tmpNumericMatrixLoader.loadNumericMatrix();
+            aValueItem.setMatrix(tmpNumericMatrix == null ? null : tmpNumericMatrix.getMatrixElements());
+        }
     }
 
     /**
-     * Returns specific value item matrix, see code.
+     * Reads numeric matrix with step/value data pairs (long step column and 
+     * double value column) of file in defined string array format
      *
-     * @param anInfoArray Info string array
+     * @param aFilePathname File pathname
      * @param aDataTypeFormatText Value item data type format
+     * @param aFactor Factor for multiplication of values
      * @param anOffset Offset for number of lines to skip
-     * @param aXValueCutoff If x-value in anInfoArray is greater than
-     * aXValueCutoff all further values are excluded (if
-     * Double.POSITIVE_INFINITY all data are included).
-     * @return Specific value item matrix, see code.
+     * @return Numeric matrix or null if file could not be read
      */
-    private ValueItemMatrixElement[][] getValueItemMatrix(String[] anInfoArray, ValueItemDataTypeFormat aDataTypeFormatText, int anOffset, double aXValueCutoff) {
-        // <editor-fold defaultstate="collapsed" desc="Set number of data pairs">
-        int tmpNumberOfDataPairs = (anInfoArray.length - anOffset) / 2;
-        int tmpNumberOfDataPairsWithCutoff = 0;
-        if (aXValueCutoff == Double.POSITIVE_INFINITY) {
-            tmpNumberOfDataPairsWithCutoff = tmpNumberOfDataPairs;
-        } else {
-            int tmpIndex = anOffset;
+    private ValueItemNumericMatrix readNumericMatrix(String aFilePathname, ValueItemDataTypeFormat aDataTypeFormatText, double aFactor, int anOffset) {
+        try (BufferedReader tmpBufferedReader = new BufferedReader(new FileReader(aFilePathname), ModelDefinitions.BUFFER_SIZE)) {
+            int tmpNumberOfLines = Integer.parseInt(tmpBufferedReader.readLine().trim());
+            for (int i = 0; i < anOffset; i++) {
+                tmpBufferedReader.readLine();
+            }
+            int tmpNumberOfDataPairs = Math.max(0, (tmpNumberOfLines - anOffset) / 2);
+            ValueItemNumericMatrix tmpNumericMatrix = 
+                new ValueItemNumericMatrix(
+                    tmpNumberOfDataPairs, 
+                    new ValueItemDataTypeFormat[] {aDataTypeFormatText, aDataTypeFormatText}, 
+                    new boolean[] {true, false}
+                );
             for (int i = 0; i < tmpNumberOfDataPairs; i++) {
-                double tmpXValue = Double.valueOf(anInfoArray[tmpIndex]);
-                if (tmpXValue <= aXValueCutoff) {
-                    tmpNumberOfDataPairsWithCutoff++;
-                    tmpIndex += 2;
-                } else {
-                    break;
-                }
+                tmpNumericMatrix.setLong(Long.parseLong(tmpBufferedReader.readLine().trim()), i, 0);
+                tmpNumericMatrix.setDouble(Double.parseDouble(tmpBufferedReader.readLine().trim()) * aFactor, i, 1);
             }
+            return tmpNumericMatrix;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return null;
         }
-        // </editor-fold>
-        ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[tmpNumberOfDataPairsWithCutoff][];
-        int tmpIndex = anOffset;
-        for (int i = 0; i < tmpNumberOfDataPairsWithCutoff; i++) {
-            ValueItemMatrixElement[] tmpRow = new ValueItemMatrixElement[2];
-            tmpRow[0] = new ValueItemMatrixElement(anInfoArray[tmpIndex++], aDataTypeFormatText);
-            tmpRow[1] = new ValueItemMatrixElement(anInfoArray[tmpIndex++], aDataTypeFormatText);
-            tmpMatrix[i] = tmpRow;
-        }
-        return tmpMatrix;
     }
 
     /**
@@ -2577,49 +2639,6 @@ public class JobResult implements Comparable<JobResult> {
         return tmpMatrix;
     }
 
-    /**
-     * Returns specific multiplied value item matrix, see code.
-     *
-     * @param anInfoArray Info string array
-     * @param aDataTypeFormatText Value item data type format
-     * @param aFactor Factor for multiplication
-     * @param anOffset Offset for number of lines to skip
-     * @param aXValueCutoff If x-value in anInfoArray is greater than
-     * aXValueCutoff all further values are excluded (if
-     * Double.POSITIVE_INFINITY all data are included).
-     * @return Specific value item matrix, see code.
-     */
-    private ValueItemMatrixElement[][] getMultipliedValueItemMatrix(String[] anInfoArray, ValueItemDataTypeFormat aDataTypeFormatText, double aFactor, int anOffset, double aXValueCutoff) {
-        // <editor-fold defaultstate="collapsed" desc="Set number of data pairs">
-        int tmpNumberOfDataPairs = (anInfoArray.length - anOffset) / 2;
-        int tmpNumberOfDataPairsWithCutoff = 0;
-        if (aXValueCutoff == Double.POSITIVE_INFINITY) {
-            tmpNumberOfDataPairsWithCutoff = tmpNumberOfDataPairs;
-        } else {
-            int tmpIndex = anOffset;
-            for (int i = 0; i < tmpNumberOfDataPairs; i++) {
-                double tmpXValue = Double.valueOf(anInfoArray[tmpIndex]);
-                if (tmpXValue <= aXValueCutoff) {
-                    tmpNumberOfDataPairsWithCutoff++;
-                    tmpIndex += 2;
-                } else {
-                    break;
-                }
-            }
-        }
-        // </editor-fold>
-        ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[tmpNumberOfDataPairsWithCutoff][];
-        int tmpIndex = anOffset;
-        for (int i = 0; i < tmpNumberOfDataPairsWithCutoff; i++) {
-            ValueItemMatrixElement[] tmpRow = new ValueItemMatrixElement[2];
-            tmpRow[0] = new ValueItemMatrixElement(anInfoArray[tmpIndex++], aDataTypeFormatText);
-            double tmpMultipliedValue = Double.valueOf(anInfoArray[tmpIndex++]) * aFactor;
-            tmpRow[1] = new ValueItemMatrixElement(String.valueOf(tmpMultipliedValue), aDataTypeFormatText);
-            tmpMatrix[i] = tmpRow;
-        }
-        return tmpMatrix;
-    }
-    
     /**
      * Returns specific averaged value item matrix, see code.
      *
@@ -2702,8 +2721,17 @@ public class JobResult implements Comparable<JobResult> {
         }
 
         // </editor-fold>
+        return this.setJobResultInformation(this.fileUtilityMethods.readDefinedStringArrayFromFile(tmpJobInformationPathname));
+    }
+
+    /**
+     * Sets job information from lines of job information file (see code)
+     *
+     * @param infos Lines of job information file
+     * @return true: Operation was successful, false: Otherwise
+     */
+    private boolean setJobResultInformation(String[] infos) {
         try {
-            String[] infos = this.fileUtilityMethods.readDefinedStringArrayFromFile(tmpJobInformationPathname);
             if (infos == null || infos.length == 0) {
                 return false;
             }
@@ -29,10 +29,15 @@ import de.gnwi.mfsim.model.util.FileUtilityMethods;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.io.*;
+import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import de.gnwi.mfsim.model.preference.ModelDefinitions;
 
 /**
@@ -58,6 +63,23 @@ public class JobResultExecutionTask implements Callable<Boolean> {
      * Property change support
      */
     private final PropertyChangeSupport propertyChangeSupport;
+
+    /**
+     * Queue for events that wake up the wait loop of call() immediately
+     */
+    private final LinkedBlockingQueue<WakeUpEvent> wakeUpQueue;
+
+    /**
+     * Future that is completed with the processing status of the job result
+     * when call() finishes
+     */
+    private final CompletableFuture<JobResultProcessingStatusEnum> completionFuture;
+
+    /**
+     * True: Progress event is queued in wakeUpQueue and not yet processed, 
+     * false: Otherwise
+     */
+    private final AtomicBoolean isProgressEventPending;
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Private class variables">
@@ -74,7 +96,7 @@ public class JobResultExecutionTask implements Callable<Boolean> {
     /**
      * True: Task was stopped, false: Otherwise
      */
-    private boolean isStopped;
+    private volatile boolean isStopped;
 
     /**
      * True: Task finished, false: Otherwise
@@ -120,6 +142,22 @@ public class JobResultExecutionTask implements Callable<Boolean> {
      * Progress value
      */
     private int progressValue;
+    
+    /**
+     * Online analysis of new step files while the simulation is running
+     */
+    private JobResultOnlineAnalysis jobResultOnlineAnalysis;
+
+    /**
+     * Last known simulation progress in percent (-1: Not yet known)
+     */
+    private volatile int simulationProgressInPercent;
+
+    /**
+     * Parallel task number of Jdpd simulator (less than 1: Preferences 
+     * setting is used)
+     */
+    private int parallelTaskNumber;
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Constructor">
@@ -146,7 +184,12 @@ public class JobResultExecutionTask implements Callable<Boolean> {
         this.pathOfCurrentProcessDirectory = null;
         this.parallelizationInfo = null;
         this.propertyChangeSupport = new PropertyChangeSupport(this);
+        this.wakeUpQueue = new LinkedBlockingQueue<>();
+        this.completionFuture = new CompletableFuture<>();
+        this.isProgressEventPending = new AtomicBoolean(false);
         this.progressValue = -1;
+        this.simulationProgressInPercent = -1;
+        this.parallelTaskNumber = -1;
     }
     // </editor-fold>
     //
@@ -200,6 +243,18 @@ public class JobResultExecutionTask implements Callable<Boolean> {
      */
     public void stop() {
         this.isStopped = true;
+        this.wakeUpQueue.offer(WakeUpEvent.STOP);
+    }
+
+    /**
+     * Sets parallel task number of Jdpd simulator (e.g. allocated by 
+     * JobCoreBudgetScheduler). NOTE: Must be set before task is started.
+     *
+     * @param aParallelTaskNumber Parallel task number of Jdpd simulator (less 
+     * than 1: Preferences setting is used)
+     */
+    public void setParallelTaskNumber(int aParallelTaskNumber) {
+        this.parallelTaskNumber = aParallelTaskNumber;
     }
     // </editor-fold>
     //
@@ -242,6 +297,27 @@ public class JobResultExecutionTask implements Callable<Boolean> {
     public String getPathOfCurrentProcessDirectory() {
         return this.pathOfCurrentProcessDirectory;
     }
+
+    /**
+     * Last known simulation progress in percent (updated with every "Job is 
+     * alive" property change)
+     *
+     * @return Last known simulation progress in percent or -1 if not yet 
+     * known
+     */
+    public int getSimulationProgressInPercent() {
+        return this.simulationProgressInPercent;
+    }
+
+    /**
+     * Future that is completed with the processing status of the job result 
+     * as soon as the task finishes (successfully, stopped or with failure)
+     *
+     * @return Completion future
+     */
+    public CompletableFuture<JobResultProcessingStatusEnum> getCompletionFuture() {
+        return this.completionFuture;
+    }
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Public (overriden) methods">
@@ -272,6 +348,11 @@ public class JobResultExecutionTask implements Callable<Boolean> {
             }
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Wait and check job">
+            // NOTE: The wait is ended immediately if the Jdpd simulation task 
+            // finishes, the task is stopped or the progress monitor reports 
+            // progress, otherwise after the timer interval for online 
+            // analysis. Alive information is only updated after progress 
+            // events, i.e. the progress monitor is NOT polled.
             boolean tmpHasFinished = false;
             while (!tmpHasFinished) {
                 // <editor-fold defaultstate="collapsed" desc="Check if task is stopped">
@@ -282,24 +363,31 @@ public class JobResultExecutionTask implements Callable<Boolean> {
                     }
                 }
                 // </editor-fold>
-                // <editor-fold defaultstate="collapsed" desc="Set alive information of Jdpd">
-                this.setAliveInformation();
-                // Fire property change to notify property change listeners about "Job is alive" information
-                this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_JOB_IS_ALIVE, false, true);
-                // </editor-fold>
-                // <editor-fold defaultstate="collapsed" desc="Perform delay">
+                // <editor-fold defaultstate="collapsed" desc="Wait for wake-up event or timer interval">
                 try {
-                    Thread.sleep(Preferences.getInstance().getTimerIntervalInMilliseconds());
+                    this.wakeUpQueue.poll(Preferences.getInstance().getTimerIntervalInMilliseconds(), TimeUnit.MILLISECONDS);
                 } catch (InterruptedException anException) {
                     // Do NOT append exception to logfile with
                     // Utility.appendToLogfile(true, anException);
-                    // since only Thread.sleep was interrupted.
+                    // since only waiting was interrupted.
                     if (!this.stopJobInSimulation()) {
                         // Fire property change to notify property change listeners about cancellation due to internal error
                         this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
                     }
                 }
                 // </editor-fold>
+                // <editor-fold defaultstate="collapsed" desc="Set alive information of Jdpd after progress event">
+                // NOTE: Property change is only fired if alive information changed
+                if (this.isProgressEventPending.getAndSet(false) && this.setAliveInformation()) {
+                    // Fire property change to notify property change listeners about "Job is alive" information
+                    this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_JOB_IS_ALIVE, false, true);
+                }
+                // </editor-fold>
+                // <editor-fold defaultstate="collapsed" desc="Online analysis of new step files">
+                if (this.jobResultOnlineAnalysis != null) {
+                    this.jobResultOnlineAnalysis.analyseNewStepFiles();
+                }
+                // </editor-fold>
                 // <editor-fold defaultstate="collapsed" desc="Check job">
                 JobResultProcessingStatusEnum tmpCheckStatus = this.checkJobInSimulation();
                 switch (tmpCheckStatus) {
@@ -341,6 +429,7 @@ public class JobResultExecutionTask implements Callable<Boolean> {
             return false;
         } finally {
             this.shutDownExecutorServiceAndReleaseMemory();
+            this.completionFuture.complete(this.jobResult.getJobProcessingResult());
         }
     }
     // </editor-fold>
@@ -486,6 +575,7 @@ public class JobResultExecutionTask implements Callable<Boolean> {
             // NOTE: No try-catch necessary since this is only a "cosmetics" operation
             this.fileUtilityMethods.deleteDirectory(this.jobUtilityMethods.getJobResultParticlePairRdfPath(this.jobResult.getJobResultPath()));
             this.fileUtilityMethods.deleteDirectory(this.jobUtilityMethods.getJobResultMoleculeParticlePairRdfPath(this.jobResult.getJobResultPath()));
+            this.fileUtilityMethods.deleteDirectory(this.jobUtilityMethods.getJobResultRdfForStepPath(this.jobResult.getJobResultPath()));
             // Delete particle-pair distance files
             // NOTE: No try-catch necessary since this is only a "cosmetics" operation
             this.fileUtilityMethods.deleteMultipleFiles(this.jobUtilityMethods.getJobResultParticlePairDistanceFilePathnames(this.jobResult.getJobResultPath()));
@@ -530,13 +620,38 @@ public class JobResultExecutionTask implements Callable<Boolean> {
                 this.executorService = Executors.newSingleThreadExecutor();
                 // </editor-fold>
                 // <editor-fold defaultstate="collapsed" desc="- Init Progress monitor">
-                // NOTE: The same IProgressMonitor interface is used in Jdpd and JdpdSP
+                // NOTE: The same IProgressMonitor interface is used in Jdpd and JdpdSP.
+                // Progress changes wake up the wait loop of call().
                 if (Preferences.getInstance().isJdpdKernelDoublePrecision()) {
                     // Jdpd kernel with double precision
-                    this.progressMonitor = new de.gnwi.jdpd.samples.ProgressMonitor();
+                    this.progressMonitor = new de.gnwi.jdpd.samples.ProgressMonitor() {
+                        @Override
+                        public void setProgressInPercent(int aProgressInPercent) {
+                            super.setProgressInPercent(aProgressInPercent);
+                            JobResultExecutionTask.this.signalProgress();
+                        }
+
+                        @Override
+                        public void setRemainingTime(String aRemainingTime) {
+                            super.setRemainingTime(aRemainingTime);
+                            JobResultExecutionTask.this.signalProgress();
+                        }
+                    };
                 } else {
                     // Jdpd kernel with single precision
-                    this.progressMonitor = new de.gnwi.jdpdsp.samples.ProgressMonitor();
+                    this.progressMonitor = new de.gnwi.jdpdsp.samples.ProgressMonitor() {
+                        @Override
+                        public void setProgressInPercent(int aProgressInPercent) {
+                            super.setProgressInPercent(aProgressInPercent);
+                            JobResultExecutionTask.this.signalProgress();
+                        }
+
+                        @Override
+                        public void setRemainingTime(String aRemainingTime) {
+                            super.setRemainingTime(aRemainingTime);
+                            JobResultExecutionTask.this.signalProgress();
+                        }
+                    };
                 }
                 // </editor-fold>
                 // <editor-fold defaultstate="collapsed" desc="- Init log levels">
@@ -654,6 +769,9 @@ public class JobResultExecutionTask implements Callable<Boolean> {
                 int tmpMinimumParallelTaskCellNumber = Preferences.getInstance().getNumberOfSimulationBoxCellsforParallelization();
                 int tmpMinimumParallelTaskHarmonicBondNumber = Preferences.getInstance().getNumberOfBondsforParallelization();
                 int tmpJdpdSimulatorParallelTaskNumber = Preferences.getInstance().getNumberOfParallelCalculators();
+                if (this.parallelTaskNumber > 0) {
+                    tmpJdpdSimulatorParallelTaskNumber = this.parallelTaskNumber;
+                }
                 // NOTE: The same ParallelizationInfo class is used in Jdpd and JdpdSP
                 this.parallelizationInfo = 
                     new de.gnwi.jdpd.parameters.ParallelizationInfo(
@@ -675,7 +793,7 @@ public class JobResultExecutionTask implements Callable<Boolean> {
                             this.parallelizationInfo
                         );
                     this.dpdSimulationTask = tmpDpdSimulationTask;
-                    this.jdpdSimulatorFuture = this.executorService.submit(tmpDpdSimulationTask);
+                    this.jdpdSimulatorFuture = this.executorService.submit(this.getWakeUpCallable(tmpDpdSimulationTask));
                 } else {
                     // JdpdSP kernel will be used
                     de.gnwi.jdpdsp.DpdSimulationTaskSP tmpDpdSimulationTaskSP =
@@ -688,9 +806,18 @@ public class JobResultExecutionTask implements Callable<Boolean> {
                             this.parallelizationInfo
                         );
                     this.dpdSimulationTask = tmpDpdSimulationTaskSP;
-                    this.jdpdSimulatorFuture = this.executorService.submit(tmpDpdSimulationTaskSP);
+                    this.jdpdSimulatorFuture = this.executorService.submit(this.getWakeUpCallable(tmpDpdSimulationTaskSP));
                 }
                 // </editor-fold>
+                // <editor-fold defaultstate="collapsed" desc="- Start online analysis">
+                this.jobResultOnlineAnalysis = 
+                    new JobResultOnlineAnalysis(
+                        this.jobResult.getJobResultPath(), 
+                        this.jobResult.getJobInput().getValueItemContainer(), 
+                        Preferences.getInstance().getNumberOfStepsForRdfCalculation(), 
+                        Preferences.getInstance().getNumberOfOnlineAnalysisThreads()
+                    );
+                // </editor-fold>
             } catch (Exception anException) {
                 ModelUtils.appendToLogfile(true, "JobResultExecutionTask.startJob(): '13. Start job' throws exception.");
                 ModelUtils.appendToLogfile(true, anException);
@@ -717,6 +844,13 @@ public class JobResultExecutionTask implements Callable<Boolean> {
         try {
             if (this.progressMonitor.hasFinished()) {
                 try {
+                    // <editor-fold defaultstate="collapsed" desc="Finish online analysis">
+                    // NOTE: Running analysis tasks are completed so that all partial results are complete
+                    if (this.jobResultOnlineAnalysis != null) {
+                        this.jobResultOnlineAnalysis.shutdown();
+                        this.jobResultOnlineAnalysis = null;
+                    }
+                    // </editor-fold>
                     // <editor-fold defaultstate="collapsed" desc="1. Remove Jdpd file output and set Job Result alive information to finishing">
                     this.jobResult.removeJdpdFileOutput();
                     this.jobResult.setAliveInformationFinishing();
@@ -733,7 +867,19 @@ public class JobResultExecutionTask implements Callable<Boolean> {
                         tmpJobProcessingResult = JobResultProcessingStatusEnum.JOB_FINISHED_WITH_SUCCESS;
                     }
                     // </editor-fold>
-                    // <editor-fold defaultstate="collapsed" desc="3. Create RDF">
+                    // <editor-fold defaultstate="collapsed" desc="3. Convert step files to binary step files">
+                    if (Preferences.getInstance().isBinaryStepFileConversion()) {
+                        // NOTE: Binary step files are used by all subsequent step file read operations
+                        if (!this.jobUtilityMethods.convertJobResultParticlePositionsStepFilesToBinary(
+                                this.jobResult.getJobResultPath(), 
+                                Preferences.getInstance().isJdpdKernelDoublePrecision()
+                            )
+                        ) {
+                            ModelUtils.appendToLogfile(true, "JobResultExecutionTask.checkJobInSimulation: Not all step files could be converted to binary step files.");
+                        }
+                    }
+                    // </editor-fold>
+                    // <editor-fold defaultstate="collapsed" desc="4. Create RDF">
                     // Delete possible existing RDF directories
                     if (!this.fileUtilityMethods.deleteDirectory(
                             this.jobUtilityMethods.getJobResultParticlePairRdfPath(
@@ -797,8 +943,10 @@ public class JobResultExecutionTask implements Callable<Boolean> {
                             this.jobResult.getJobResultPath()
                         );
                     }
+                    // Delete RDF for step files (partial RDF results of online analysis)
+                    this.fileUtilityMethods.deleteDirectory(this.jobUtilityMethods.getJobResultRdfForStepPath(this.jobResult.getJobResultPath()));
                     // </editor-fold>
-                    // <editor-fold defaultstate="collapsed" desc="4. Create particle-particle distances">
+                    // <editor-fold defaultstate="collapsed" desc="5. Create particle-particle distances">
                     if (this.jobUtilityMethods.isParticlePairDistanceCalculation(this.jobResult.getJobInput().getValueItemContainer())) {
                         // Create particle-pair distance directory
                         ModelUtils.createDirectory(this.jobUtilityMethods.getJobResultParticlePairDistancePath(this.jobResult.getJobResultPath()));
@@ -810,7 +958,7 @@ public class JobResultExecutionTask implements Callable<Boolean> {
                         this.jobUtilityMethods.createDefinedMoleculeParticlePairAverageDistanceFiles(this.jobResult.getJobResultPath(), this.jobResult.getJobInput().getValueItemContainer());
                     }
                     // </editor-fold>
-                    // <editor-fold defaultstate="collapsed" desc="5. Move Job directory to result path">
+                    // <editor-fold defaultstate="collapsed" desc="6. Move Job directory to result path">
                     this.moveJobDirectoryToResultPath(tmpJobProcessingResult);
                     // </editor-fold>
                     return tmpJobProcessingResult;
@@ -853,12 +1001,49 @@ public class JobResultExecutionTask implements Callable<Boolean> {
 
     /**
      * Sets alive information in job result
+     *
+     * @return True: Alive information changed, false: Otherwise
      */
-    private void setAliveInformation() {
-        if (this.jobResult == null || this.jdpdSimulatorFuture == null) {
+    private boolean setAliveInformation() {
+        if (this.jobResult == null) {
+            return false;
+        }
+        String tmpOldAliveInformation = this.jobResult.getAliveInformation();
+        if (this.jdpdSimulatorFuture == null) {
             this.jobResult.setAliveInformation(0, "?");
         } else {
-            this.jobResult.setAliveInformation(this.progressMonitor.getProgressInPercent(), this.progressMonitor.getRemainingTime());
+            this.simulationProgressInPercent = this.progressMonitor.getProgressInPercent();
+            this.jobResult.setAliveInformation(this.simulationProgressInPercent, this.progressMonitor.getRemainingTime());
+        }
+        return !Objects.equals(tmpOldAliveInformation, this.jobResult.getAliveInformation());
+    }
+    // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="- Wake-up related methods">
+    /**
+     * Returns callable for Jdpd simulation task that wakes up the wait loop of
+     * call() as soon as the simulation task finishes
+     *
+     * @param aDpdSimulationTask Jdpd simulation task
+     * @return Callable for Jdpd simulation task
+     */
+    private Callable<Boolean> getWakeUpCallable(Callable<Boolean> aDpdSimulationTask) {
+        return () -> {
+            try {
+                return aDpdSimulationTask.call();
+            } finally {
+                this.wakeUpQueue.offer(WakeUpEvent.SIMULATION_FINISHED);
+            }
+        };
+    }
+
+    /**
+     * Wakes up the wait loop of call() due to changed progress of Jdpd 
+     * simulation task (called by progress monitor in thread of simulation 
+     * task). NOTE: At most one progress event is queued at a time.
+     */
+    private void signalProgress() {
+        if (this.isProgressEventPending.compareAndSet(false, true)) {
+            this.wakeUpQueue.offer(WakeUpEvent.PROGRESS);
         }
     }
     // </editor-fold>
@@ -1080,6 +1265,10 @@ public class JobResultExecutionTask implements Callable<Boolean> {
      * Shutdown of executor service and memory release
      */
     private void shutDownExecutorServiceAndReleaseMemory() {
+        if (this.jobResultOnlineAnalysis != null) {
+            this.jobResultOnlineAnalysis.shutdown();
+            this.jobResultOnlineAnalysis = null;
+        }
         if (this.executorService != null) {
             try {
                 this.executorService.shutdown();
@@ -1106,5 +1295,29 @@ public class JobResultExecutionTask implements Callable<Boolean> {
     }
     // </editor-fold>
     // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private enum WakeUpEvent">
+    /**
+     * Events that wake up the wait loop of call()
+     */
+    private enum WakeUpEvent {
+
+        /**
+         * Jdpd simulation task finished
+         */
+        SIMULATION_FINISHED,
+
+        /**
+         * Task is stopped
+         */
+        STOP,
+
+        /**
+         * Progress of Jdpd simulation task changed
+         */
+        PROGRESS
+
+    }
+    // </editor-fold>
 
 }
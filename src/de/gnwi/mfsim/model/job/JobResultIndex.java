@@ -0,0 +1,472 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import de.gnwi.mfsim.model.util.ModelUtils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Persistent index of job result information keyed by job result directory 
+ * path. An index entry stores the lines of the job result information file 
+ * together with the last-modified times of the job result directory and the 
+ * information file (and the length of the information file). On update only 
+ * new or changed job result directories are parsed (in parallel), all other 
+ * job results are created from the index.
+ * 
+ * Index file layout (big endian): int magic number, int format version, int 
+ * number of entries, then per entry the directory path, long last-modified 
+ * time of directory, long last-modified time of information file, long 
+ * length of information file, int number of information lines and the 
+ * information lines. Strings are written as int byte length (-1 for null) 
+ * followed by UTF-8 bytes.
+ * 
+ * NOTE: A corrupt or unreadable index file is discarded and rebuilt.
+ *
+ * @author Achim Zielesny
+ */
+public class JobResultIndex {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static class variables">
+    /**
+     * Magic number of index file ("MFJI")
+     */
+    private static final int MAGIC_NUMBER = 0x4D464A49;
+
+    /**
+     * Format version of index file
+     */
+    private static final int FORMAT_VERSION = 1;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Utility for files
+     */
+    private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
+    /**
+     * Pathname of index file
+     */
+    private final String indexFilePathname;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Job result directory path to index entry map (null: Index file not yet 
+     * loaded)
+     */
+    private HashMap<String, IndexEntry> pathToEntryMap;
+
+    /**
+     * True: Index file was corrupt and index must be rebuilt, false: 
+     * Otherwise
+     */
+    private boolean isRebuilt;
+
+    /**
+     * Number of job result information files parsed by last update
+     */
+    private int numberOfParsedJobResults;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param anIndexFilePathname Pathname of index file (file may not exist)
+     * @throws IllegalArgumentException Thrown if anIndexFilePathname is 
+     * null/empty
+     */
+    public JobResultIndex(String anIndexFilePathname) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (anIndexFilePathname == null || anIndexFilePathname.isEmpty()) {
+            throw new IllegalArgumentException("anIndexFilePathname is null/empty.");
+        }
+        // </editor-fold>
+        this.indexFilePathname = anIndexFilePathname;
+        this.pathToEntryMap = null;
+        this.isRebuilt = false;
+        this.numberOfParsedJobResults = 0;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public synchronized methods">
+    /**
+     * Updates index with specified job result directory paths and returns 
+     * corresponding job results: Only information files of new or changed 
+     * job result directories are parsed (in parallel). Entries of job result 
+     * directories that are no longer specified are removed. Index file is 
+     * written if index changed.
+     *
+     * @param aJobResultPaths Job result directory paths
+     * @return Job results in order of aJobResultPaths where an array element 
+     * is null if corresponding job result could not be created (e.g. since 
+     * job result is still in copying phase)
+     * @throws IllegalArgumentException Thrown if aJobResultPaths is null
+     */
+    public synchronized JobResult[] update(String[] aJobResultPaths) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aJobResultPaths == null) {
+            throw new IllegalArgumentException("aJobResultPaths is null.");
+        }
+        // </editor-fold>
+        if (this.pathToEntryMap == null) {
+            this.pathToEntryMap = this.readIndexFile();
+        }
+        // NOTE: this.pathToEntryMap is only read in parallel section
+        HashMap<String, IndexEntry> tmpOldPathToEntryMap = this.pathToEntryMap;
+        JobResult[] tmpJobResults = new JobResult[aJobResultPaths.length];
+        IndexEntry[] tmpEntries = new IndexEntry[aJobResultPaths.length];
+        AtomicInteger tmpParsedCounter = new AtomicInteger(0);
+        IntStream.range(0, aJobResultPaths.length).parallel().forEach(i -> {
+            String tmpJobResultPath = aJobResultPaths[i];
+            if (tmpJobResultPath == null || tmpJobResultPath.isEmpty()) {
+                return;
+            }
+            File tmpDirectory = new File(tmpJobResultPath);
+            File tmpInformationFile = new File(tmpDirectory, ModelDefinitions.JOB_RESULT_INFO_FILENAME);
+            if (!tmpDirectory.isDirectory() || !tmpInformationFile.isFile()) {
+                return;
+            }
+            long tmpDirectoryLastModified = tmpDirectory.lastModified();
+            long tmpInformationFileLastModified = tmpInformationFile.lastModified();
+            long tmpInformationFileLength = tmpInformationFile.length();
+            IndexEntry tmpEntry = tmpOldPathToEntryMap.get(tmpJobResultPath);
+            if (tmpEntry == null || !tmpEntry.isCurrent(tmpDirectoryLastModified, tmpInformationFileLastModified, tmpInformationFileLength)) {
+                tmpParsedCounter.incrementAndGet();
+                String[] tmpInformationArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(tmpInformationFile.getPath());
+                if (tmpInformationArray == null || tmpInformationArray.length == 0) {
+                    return;
+                }
+                tmpEntry = new IndexEntry(tmpDirectoryLastModified, tmpInformationFileLastModified, tmpInformationFileLength, tmpInformationArray);
+            }
+            try {
+                tmpJobResults[i] = new JobResult(tmpJobResultPath, tmpEntry.getInformationArray());
+                tmpEntries[i] = tmpEntry;
+            } catch (Exception anException) {
+                // Note: Exception may be thrown since a job result may be
+                // still in copying phase from temporary directory to
+                // JobResults directory thus job result is not indexed
+                tmpJobResults[i] = null;
+            }
+        });
+        HashMap<String, IndexEntry> tmpNewPathToEntryMap = new HashMap<>(aJobResultPaths.length);
+        boolean tmpIsChanged = this.isRebuilt;
+        for (int i = 0; i < aJobResultPaths.length; i++) {
+            if (tmpEntries[i] != null) {
+                tmpNewPathToEntryMap.put(aJobResultPaths[i], tmpEntries[i]);
+                if (tmpOldPathToEntryMap.get(aJobResultPaths[i]) != tmpEntries[i]) {
+                    tmpIsChanged = true;
+                }
+            }
+        }
+        if (tmpNewPathToEntryMap.size() != tmpOldPathToEntryMap.size()) {
+            tmpIsChanged = true;
+        }
+        this.pathToEntryMap = tmpNewPathToEntryMap;
+        this.numberOfParsedJobResults = tmpParsedCounter.get();
+        if (tmpIsChanged && this.writeIndexFile()) {
+            this.isRebuilt = false;
+        }
+        return tmpJobResults;
+    }
+
+    /**
+     * Discards index in memory: Index file is read again with next update
+     */
+    public synchronized void reset() {
+        this.pathToEntryMap = null;
+        this.isRebuilt = false;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Pathname of index file
+     *
+     * @return Pathname of index file
+     */
+    public String getIndexFilePathname() {
+        return this.indexFilePathname;
+    }
+
+    /**
+     * Number of job result information files parsed by last update
+     *
+     * @return Number of job result information files parsed by last update
+     */
+    public synchronized int getNumberOfParsedJobResults() {
+        return this.numberOfParsedJobResults;
+    }
+
+    /**
+     * Number of indexed job results
+     *
+     * @return Number of indexed job results
+     */
+    public synchronized int getNumberOfIndexedJobResults() {
+        if (this.pathToEntryMap == null) {
+            return 0;
+        } else {
+            return this.pathToEntryMap.size();
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Reads index file
+     *
+     * @return Job result directory path to index entry map (empty if index 
+     * file does not exist or is corrupt)
+     */
+    private HashMap<String, IndexEntry> readIndexFile() {
+        File tmpIndexFile = new File(this.indexFilePathname);
+        if (!tmpIndexFile.isFile()) {
+            return new HashMap<>();
+        }
+        long tmpIndexFileLength = tmpIndexFile.length();
+        try (DataInputStream tmpDataInputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(tmpIndexFile), ModelDefinitions.BUFFER_SIZE))) {
+            if (tmpDataInputStream.readInt() != MAGIC_NUMBER || tmpDataInputStream.readInt() != FORMAT_VERSION) {
+                throw new IOException("Invalid header.");
+            }
+            int tmpNumberOfEntries = tmpDataInputStream.readInt();
+            if (tmpNumberOfEntries < 0 || tmpNumberOfEntries > tmpIndexFileLength) {
+                throw new IOException("Invalid number of entries.");
+            }
+            HashMap<String, IndexEntry> tmpPathToEntryMap = new HashMap<>(tmpNumberOfEntries);
+            for (int i = 0; i < tmpNumberOfEntries; i++) {
+                String tmpJobResultPath = this.readString(tmpDataInputStream, tmpIndexFileLength);
+                long tmpDirectoryLastModified = tmpDataInputStream.readLong();
+                long tmpInformationFileLastModified = tmpDataInputStream.readLong();
+                long tmpInformationFileLength = tmpDataInputStream.readLong();
+                int tmpNumberOfLines = tmpDataInputStream.readInt();
+                if (tmpJobResultPath == null || tmpNumberOfLines < 1 || tmpNumberOfLines > tmpIndexFileLength) {
+                    throw new IOException("Invalid entry.");
+                }
+                String[] tmpInformationArray = new String[tmpNumberOfLines];
+                for (int k = 0; k < tmpNumberOfLines; k++) {
+                    tmpInformationArray[k] = this.readString(tmpDataInputStream, tmpIndexFileLength);
+                }
+                tmpPathToEntryMap.put(tmpJobResultPath, new IndexEntry(tmpDirectoryLastModified, tmpInformationFileLastModified, tmpInformationFileLength, tmpInformationArray));
+            }
+            if (tmpDataInputStream.read() != -1) {
+                throw new IOException("Trailing bytes.");
+            }
+            return tmpPathToEntryMap;
+        } catch (IOException anException) {
+            ModelUtils.appendToLogfile(true, "JobResultIndex.readIndexFile(): Corrupt index file is rebuilt: " + this.indexFilePathname);
+            this.isRebuilt = true;
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Writes index file: Index is written to a temporary file first that is 
+     * then renamed so that readers never see a partial index file
+     *
+     * @return True: Index file was written, false: Otherwise
+     */
+    private boolean writeIndexFile() {
+        File tmpIndexFile = new File(this.indexFilePathname);
+        File tmpTemporaryIndexFile = new File(this.indexFilePathname + ModelDefinitions.TEMPORARY_FILE_ENDING);
+        try {
+            try (DataOutputStream tmpDataOutputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpTemporaryIndexFile), ModelDefinitions.BUFFER_SIZE))) {
+                tmpDataOutputStream.writeInt(MAGIC_NUMBER);
+                tmpDataOutputStream.writeInt(FORMAT_VERSION);
+                tmpDataOutputStream.writeInt(this.pathToEntryMap.size());
+                for (String tmpJobResultPath : this.pathToEntryMap.keySet()) {
+                    IndexEntry tmpEntry = this.pathToEntryMap.get(tmpJobResultPath);
+                    this.writeString(tmpDataOutputStream, tmpJobResultPath);
+                    tmpDataOutputStream.writeLong(tmpEntry.getDirectoryLastModified());
+                    tmpDataOutputStream.writeLong(tmpEntry.getInformationFileLastModified());
+                    tmpDataOutputStream.writeLong(tmpEntry.getInformationFileLength());
+                    String[] tmpInformationArray = tmpEntry.getInformationArray();
+                    tmpDataOutputStream.writeInt(tmpInformationArray.length);
+                    for (String tmpLine : tmpInformationArray) {
+                        this.writeString(tmpDataOutputStream, tmpLine);
+                    }
+                }
+            }
+            if (tmpIndexFile.isFile() && !tmpIndexFile.delete()) {
+                tmpTemporaryIndexFile.delete();
+                return false;
+            }
+            return tmpTemporaryIndexFile.renameTo(tmpIndexFile);
+        } catch (IOException anException) {
+            // Index file is optional (e.g. write-protected job result path)
+            tmpTemporaryIndexFile.delete();
+            return false;
+        }
+    }
+
+    /**
+     * Reads string
+     *
+     * @param aDataInputStream Data input stream
+     * @param aMaximumLength Maximum byte length of string
+     * @return String (may be null)
+     * @throws IOException Thrown if string could not be read
+     */
+    private String readString(DataInputStream aDataInputStream, long aMaximumLength) throws IOException {
+        int tmpLength = aDataInputStream.readInt();
+        if (tmpLength == -1) {
+            return null;
+        }
+        if (tmpLength < 0 || tmpLength > aMaximumLength) {
+            throw new IOException("Invalid string length.");
+        }
+        byte[] tmpBytes = new byte[tmpLength];
+        aDataInputStream.readFully(tmpBytes);
+        return new String(tmpBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes string
+     *
+     * @param aDataOutputStream Data output stream
+     * @param aString String (may be null)
+     * @throws IOException Thrown if string could not be written
+     */
+    private void writeString(DataOutputStream aDataOutputStream, String aString) throws IOException {
+        if (aString == null) {
+            aDataOutputStream.writeInt(-1);
+        } else {
+            byte[] tmpBytes = aString.getBytes(StandardCharsets.UTF_8);
+            aDataOutputStream.writeInt(tmpBytes.length);
+            aDataOutputStream.write(tmpBytes);
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class IndexEntry">
+    /**
+     * Index entry of a single job result directory
+     */
+    private static class IndexEntry {
+
+        /**
+         * Last-modified time of job result directory
+         */
+        private final long directoryLastModified;
+
+        /**
+         * Last-modified time of job result information file
+         */
+        private final long informationFileLastModified;
+
+        /**
+         * Length of job result information file
+         */
+        private final long informationFileLength;
+
+        /**
+         * Lines of job result information file
+         */
+        private final String[] informationArray;
+
+        /**
+         * Constructor
+         *
+         * @param aDirectoryLastModified Last-modified time of job result 
+         * directory
+         * @param anInformationFileLastModified Last-modified time of job 
+         * result information file
+         * @param anInformationFileLength Length of job result information 
+         * file
+         * @param anInformationArray Lines of job result information file
+         */
+        public IndexEntry(long aDirectoryLastModified, long anInformationFileLastModified, long anInformationFileLength, String[] anInformationArray) {
+            this.directoryLastModified = aDirectoryLastModified;
+            this.informationFileLastModified = anInformationFileLastModified;
+            this.informationFileLength = anInformationFileLength;
+            this.informationArray = anInformationArray;
+        }
+
+        /**
+         * Returns if entry is current
+         *
+         * @param aDirectoryLastModified Last-modified time of job result 
+         * directory
+         * @param anInformationFileLastModified Last-modified time of job 
+         * result information file
+         * @param anInformationFileLength Length of job result information 
+         * file
+         * @return True: Entry is current, false: Otherwise
+         */
+        public boolean isCurrent(long aDirectoryLastModified, long anInformationFileLastModified, long anInformationFileLength) {
+            return this.directoryLastModified == aDirectoryLastModified
+                && this.informationFileLastModified == anInformationFileLastModified
+                && this.informationFileLength == anInformationFileLength;
+        }
+
+        /**
+         * Last-modified time of job result directory
+         *
+         * @return Last-modified time of job result directory
+         */
+        public long getDirectoryLastModified() {
+            return this.directoryLastModified;
+        }
+
+        /**
+         * Last-modified time of job result information file
+         *
+         * @return Last-modified time of job result information file
+         */
+        public long getInformationFileLastModified() {
+            return this.informationFileLastModified;
+        }
+
+        /**
+         * Length of job result information file
+         *
+         * @return Length of job result information file
+         */
+        public long getInformationFileLength() {
+            return this.informationFileLength;
+        }
+
+        /**
+         * Lines of job result information file
+         *
+         * @return Lines of job result information file
+         */
+        public String[] getInformationArray() {
+            return this.informationArray;
+        }
+
+    }
+    // </editor-fold>
+
+}
@@ -46,6 +46,11 @@ public class JobResultManager {
      * Cache for all jobs of result path
      */
     private LinkedList<JobResult> allJobResultsOfResultPathList;
+
+    /**
+     * Persistent index of job result information of result path
+     */
+    private JobResultIndex jobResultIndex;
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Constructor">
@@ -257,23 +262,22 @@ public class JobResultManager {
      */
     private synchronized void updateAllJobsOfResultPathList() {
         this.allJobResultsOfResultPathList.clear();
-        String[] tmpJobPaths = this.fileUtilityMethods.getDirectoryPathsWithPrefix(Preferences.getInstance().getJobResultPath(), ModelDefinitions.PREFIX_OF_JOB_RESULT_DIRECTORY);
-        if (tmpJobPaths != null) {
-            for (String tmpJobPath : tmpJobPaths) {
-                JobResult tmpSingleJob = null;
-                try {
-                    tmpSingleJob = new JobResult(tmpJobPath);
-                } catch (Exception anException) {
-                    // Note: Exception may be thrown since a job result may be
-                    // still in copying phase from temporary directory to
-                    // JobResults directory thus
-                    // ModelUtils.appendToLogfile(true, anException);
-                    // should not be thrown
-                    tmpSingleJob = null;
-                }
-                if (tmpSingleJob != null) {
-                    this.allJobResultsOfResultPathList.addLast(tmpSingleJob);
-                }
+        String tmpJobResultPath = Preferences.getInstance().getJobResultPath();
+        String[] tmpJobPaths = this.fileUtilityMethods.getDirectoryPathsWithPrefix(tmpJobResultPath, ModelDefinitions.PREFIX_OF_JOB_RESULT_DIRECTORY);
+        if (tmpJobPaths == null) {
+            return;
+        }
+        String tmpIndexFilePathname = tmpJobResultPath + File.separatorChar + ModelDefinitions.JOB_RESULT_INDEX_FILENAME;
+        if (this.jobResultIndex == null || !this.jobResultIndex.getIndexFilePathname().equals(tmpIndexFilePathname)) {
+            this.jobResultIndex = new JobResultIndex(tmpIndexFilePathname);
+        }
+        // NOTE: Only new or changed job result directories are parsed (in 
+        // parallel), job results that can not be created (e.g. since they 
+        // are still in copying phase from temporary directory to JobResults 
+        // directory) are null
+        for (JobResult tmpSingleJob : this.jobResultIndex.update(tmpJobPaths)) {
+            if (tmpSingleJob != null) {
+                this.allJobResultsOfResultPathList.addLast(tmpSingleJob);
             }
         }
     }
@@ -0,0 +1,503 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.util.ModelUtils;
+import de.gnwi.mfsim.model.valueItem.ValueItemContainer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Online analysis of a Job Result while the simulation is running: New
+ * particle positions step files are analysed as soon as they are complete 
+ * (i.e. they can be read successfully) and the partial results are written 
+ * to the Job Result directory:
+ * - Particle-pair and molecule-particle-pair average distances files of the
+ *   step (used by JobUtilityMethods.createDefined...AverageDistanceFiles()).
+ * - RDF for step files for the latest steps according to the 
+ *   NumberOfStepsForRdfCalculation preference (used by 
+ *   JobUtilityMethods.createDefined...RadialDistributionFunctionFiles()).
+ *   RDF for step files of steps that drop out of the latest steps are 
+ *   deleted.
+ * After the simulation only the steps that were not yet analysed and the 
+ * final averaging and write-out remain.
+ * NOTE: Methods are NOT thread-safe, i.e. they must be called by a single 
+ * (polling) thread.
+ *
+ * @author Achim Zielesny
+ */
+public class JobResultOnlineAnalysis {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Job utility methods
+     */
+    private final JobUtilityMethods jobUtilityMethods = new JobUtilityMethods();
+
+    /**
+     * Full path of Job Result
+     */
+    private final String jobResultPath;
+
+    /**
+     * Value item container of Job Input
+     */
+    private final ValueItemContainer jobInputValueItemContainer;
+
+    /**
+     * Number of (latest) steps for RDF calculation
+     */
+    private final int numberOfStepsForRdfCalculation;
+
+    /**
+     * Maximum number of step files that are analysed in parallel
+     */
+    private final int numberOfThreads;
+
+    /**
+     * Maximum number of failed analysis trials of a step file
+     */
+    private final int maximumNumberOfFailedTrials;
+
+    /**
+     * True: RDF calculation is defined, false: Otherwise
+     */
+    private final boolean isRdfCalculation;
+
+    /**
+     * True: Distance calculation is defined, false: Otherwise
+     */
+    private final boolean isDistanceCalculation;
+
+    /**
+     * Pathnames of completely analysed step files
+     */
+    private final HashSet<String> analysedStepFilePathnames;
+
+    /**
+     * Pathnames of step files that are skipped since they could not be 
+     * analysed with the maximum number of trials (they are analysed after 
+     * the simulation)
+     */
+    private final HashSet<String> skippedStepFilePathnames;
+
+    /**
+     * Step file pathname to number of failed analysis trials
+     */
+    private final HashMap<String, Integer> stepFilePathnameToNumberOfFailedTrialsMap;
+
+    /**
+     * Pathnames of step files with RDF for step files
+     */
+    private final HashSet<String> rdfStepFilePathnames;
+
+    /**
+     * Step file pathname to future of running analysis task
+     */
+    private final HashMap<String, Future<Boolean>> stepFilePathnameToFutureMap;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Executor service (null if no analysis is performed). NOTE: A dedicated
+     * fork/join pool with the number of analysis threads as parallelism is 
+     * used so that parallel streams of the analysis (e.g. see 
+     * DistanceDistributionUtils) run in this pool and NOT in the common pool,
+     * i.e. the analysis does not use more cores than analysis threads.
+     */
+    private ExecutorService executorService;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructors">
+    /**
+     * Constructor
+     *
+     * @param aJobResultPath Full path of Job Result (with existing steps 
+     * directory)
+     * @param aJobInputValueItemContainer Value item container of Job Input
+     * @param aNumberOfStepsForRdfCalculation Number of (latest) steps for RDF
+     * calculation
+     * @param aNumberOfThreads Maximum number of step files that are analysed 
+     * in parallel (0: No online analysis)
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     */
+    public JobResultOnlineAnalysis(
+        String aJobResultPath, 
+        ValueItemContainer aJobInputValueItemContainer, 
+        int aNumberOfStepsForRdfCalculation,
+        int aNumberOfThreads
+    ) throws IllegalArgumentException {
+        this(
+            aJobResultPath, 
+            JobResultOnlineAnalysis.getCheckedValueItemContainer(aJobInputValueItemContainer), 
+            aNumberOfStepsForRdfCalculation, 
+            aNumberOfThreads, 
+            ModelDefinitions.ONLINE_ANALYSIS_MAXIMUM_NUMBER_OF_FAILED_TRIALS,
+            JobResultOnlineAnalysis.isRdfCalculation(aJobInputValueItemContainer),
+            JobResultOnlineAnalysis.isDistanceCalculation(aJobInputValueItemContainer)
+        );
+    }
+
+    /**
+     * Constructor (for tests: aJobInputValueItemContainer may be null if 
+     * analysis methods are overridden)
+     *
+     * @param aJobResultPath Full path of Job Result
+     * @param aJobInputValueItemContainer Value item container of Job Input 
+     * (may be null)
+     * @param aNumberOfStepsForRdfCalculation Number of (latest) steps for RDF
+     * calculation
+     * @param aNumberOfThreads Maximum number of step files that are analysed 
+     * in parallel (0: No online analysis)
+     * @param aMaximumNumberOfFailedTrials Maximum number of failed analysis 
+     * trials of a step file
+     * @param anIsRdfCalculation True: RDF calculation is defined, false: 
+     * Otherwise
+     * @param anIsDistanceCalculation True: Distance calculation is defined, 
+     * false: Otherwise
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     */
+    JobResultOnlineAnalysis(
+        String aJobResultPath, 
+        ValueItemContainer aJobInputValueItemContainer, 
+        int aNumberOfStepsForRdfCalculation,
+        int aNumberOfThreads,
+        int aMaximumNumberOfFailedTrials,
+        boolean anIsRdfCalculation,
+        boolean anIsDistanceCalculation
+    ) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aJobResultPath == null || aJobResultPath.isEmpty()) {
+            throw new IllegalArgumentException("JobResultOnlineAnalysis.Constructor: aJobResultPath is null/empty.");
+        }
+        if (aNumberOfStepsForRdfCalculation < 1) {
+            throw new IllegalArgumentException("JobResultOnlineAnalysis.Constructor: aNumberOfStepsForRdfCalculation is less than 1.");
+        }
+        if (aNumberOfThreads < 0) {
+            throw new IllegalArgumentException("JobResultOnlineAnalysis.Constructor: aNumberOfThreads is less than 0.");
+        }
+        if (aMaximumNumberOfFailedTrials < 1) {
+            throw new IllegalArgumentException("JobResultOnlineAnalysis.Constructor: aMaximumNumberOfFailedTrials is less than 1.");
+        }
+        // </editor-fold>
+        this.jobResultPath = aJobResultPath;
+        this.jobInputValueItemContainer = aJobInputValueItemContainer;
+        this.numberOfStepsForRdfCalculation = aNumberOfStepsForRdfCalculation;
+        this.numberOfThreads = aNumberOfThreads;
+        this.maximumNumberOfFailedTrials = aMaximumNumberOfFailedTrials;
+        this.isRdfCalculation = anIsRdfCalculation;
+        this.isDistanceCalculation = anIsDistanceCalculation;
+        this.analysedStepFilePathnames = new HashSet<>();
+        this.skippedStepFilePathnames = new HashSet<>();
+        this.stepFilePathnameToNumberOfFailedTrialsMap = new HashMap<>();
+        this.rdfStepFilePathnames = new HashSet<>();
+        this.stepFilePathnameToFutureMap = new HashMap<>();
+        if (this.isActive()) {
+            if (aJobInputValueItemContainer != null) {
+                // NOTE: Directories are created in advance to avoid concurrent creation by analysis tasks
+                if (this.isRdfCalculation) {
+                    ModelUtils.createDirectory(this.jobUtilityMethods.getJobResultRdfForStepPath(this.jobResultPath));
+                }
+                if (this.jobUtilityMethods.isParticlePairDistanceCalculation(aJobInputValueItemContainer)) {
+                    ModelUtils.createDirectory(this.jobUtilityMethods.getJobResultParticlePairDistancePath(this.jobResultPath));
+                }
+                if (this.jobUtilityMethods.isMoleculeParticlePairDistanceCalculation(aJobInputValueItemContainer)) {
+                    ModelUtils.createDirectory(this.jobUtilityMethods.getJobResultMoleculeParticlePairDistancePath(this.jobResultPath));
+                }
+            }
+            this.executorService = new ForkJoinPool(this.numberOfThreads);
+        } else {
+            this.executorService = null;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Returns if online analysis is performed
+     *
+     * @return True: Online analysis is performed, false: Otherwise (no
+     * analysis defined in Job Input or no threads)
+     */
+    public boolean isActive() {
+        return this.numberOfThreads > 0 && (this.isRdfCalculation || this.isDistanceCalculation);
+    }
+
+    /**
+     * Collects finished analysis tasks and submits analysis tasks for new 
+     * step files (at most the number of threads at a time). To be called 
+     * periodically while the simulation is running.
+     * NOTE: A step file that cannot be read (e.g. since it is still in write 
+     * process) is submitted again with a later call. After the maximum 
+     * number of failed trials it is skipped (and analysed after the 
+     * simulation).
+     */
+    public void analyseNewStepFiles() {
+        if (this.executorService == null) {
+            return;
+        }
+        try {
+            // <editor-fold defaultstate="collapsed" desc="Collect finished analysis tasks">
+            Iterator<Entry<String, Future<Boolean>>> tmpIterator = this.stepFilePathnameToFutureMap.entrySet().iterator();
+            while (tmpIterator.hasNext()) {
+                Entry<String, Future<Boolean>> tmpEntry = tmpIterator.next();
+                if (tmpEntry.getValue().isDone()) {
+                    boolean tmpIsAnalysed = false;
+                    try {
+                        tmpIsAnalysed = tmpEntry.getValue().get();
+                    } catch (Exception anException) {
+                        ModelUtils.appendToLogfile(true, anException);
+                    }
+                    if (tmpIsAnalysed) {
+                        this.analysedStepFilePathnames.add(tmpEntry.getKey());
+                        this.stepFilePathnameToNumberOfFailedTrialsMap.remove(tmpEntry.getKey());
+                    } else {
+                        this.registerFailedTrial(tmpEntry.getKey());
+                    }
+                    tmpIterator.remove();
+                }
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Submit analysis tasks for new step files">
+            String[] tmpStepFilePathnames = this.getStepFilePathnames();
+            if (tmpStepFilePathnames == null || tmpStepFilePathnames.length == 0) {
+                return;
+            }
+            HashSet<String> tmpLatestStepFilePathnames = new HashSet<>();
+            if (this.isRdfCalculation) {
+                tmpLatestStepFilePathnames.addAll(Arrays.asList(this.getLatestStepFilePathnames()));
+            }
+            // Ascending steps
+            Arrays.sort(tmpStepFilePathnames, Comparator.comparingInt((String aStepFilePathname) -> this.getStep(aStepFilePathname)));
+            for (String tmpStepFilePathname : tmpStepFilePathnames) {
+                if (this.stepFilePathnameToFutureMap.size() >= this.numberOfThreads) {
+                    break;
+                }
+                if (this.analysedStepFilePathnames.contains(tmpStepFilePathname) 
+                    || this.skippedStepFilePathnames.contains(tmpStepFilePathname) 
+                    || this.stepFilePathnameToFutureMap.containsKey(tmpStepFilePathname)
+                ) {
+                    continue;
+                }
+                boolean tmpIsRdfCalculation = tmpLatestStepFilePathnames.contains(tmpStepFilePathname);
+                if (tmpIsRdfCalculation) {
+                    this.rdfStepFilePathnames.add(tmpStepFilePathname);
+                }
+                this.stepFilePathnameToFutureMap.put(
+                    tmpStepFilePathname, 
+                    this.executorService.submit(() -> this.analyseStepFile(tmpStepFilePathname, tmpIsRdfCalculation))
+                );
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Delete RDF for step files of steps that are no longer latest steps">
+            Iterator<String> tmpRdfIterator = this.rdfStepFilePathnames.iterator();
+            while (tmpRdfIterator.hasNext()) {
+                String tmpStepFilePathname = tmpRdfIterator.next();
+                if (!tmpLatestStepFilePathnames.contains(tmpStepFilePathname) && !this.stepFilePathnameToFutureMap.containsKey(tmpStepFilePathname)) {
+                    this.deleteRdfForStepFiles(tmpStepFilePathname);
+                    tmpRdfIterator.remove();
+                }
+            }
+            // </editor-fold>
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+        }
+    }
+
+    /**
+     * Shuts down online analysis: No new analysis tasks are accepted and 
+     * running analysis tasks are completed (i.e. there are no incomplete 
+     * partial result files afterwards).
+     */
+    public void shutdown() {
+        if (this.executorService != null) {
+            try {
+                this.executorService.shutdown();
+                this.executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException anException) {
+                // Do NOT append exception to logfile since only awaitTermination was interrupted
+                Thread.currentThread().interrupt();
+            } catch (Exception anException) {
+                ModelUtils.appendToLogfile(true, anException);
+            }
+            this.executorService = null;
+            this.stepFilePathnameToFutureMap.clear();
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Package-private properties (get)">
+    /**
+     * Number of completely analysed step files
+     *
+     * @return Number of completely analysed step files
+     */
+    int getNumberOfAnalysedStepFiles() {
+        return this.analysedStepFilePathnames.size();
+    }
+
+    /**
+     * Number of skipped step files
+     *
+     * @return Number of skipped step files
+     */
+    int getNumberOfSkippedStepFiles() {
+        return this.skippedStepFilePathnames.size();
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Package-private methods (may be overridden by tests)">
+    /**
+     * Returns pathnames of particle positions step files of Job Result
+     *
+     * @return Pathnames of particle positions step files or null
+     */
+    String[] getStepFilePathnames() {
+        return this.jobUtilityMethods.getJobResultParticlePositionsStepFilePathnames(this.jobResultPath);
+    }
+
+    /**
+     * Returns pathnames of latest particle positions step files for RDF 
+     * calculation
+     *
+     * @return Pathnames of latest particle positions step files
+     */
+    String[] getLatestStepFilePathnames() {
+        return this.jobUtilityMethods.getLatestJobResultParticlePositionsStepFilePathnames(this.jobResultPath, this.numberOfStepsForRdfCalculation);
+    }
+
+    /**
+     * Returns step of particle positions step file
+     *
+     * @param aStepFilePathname Full pathname of particle positions step file
+     * @return Step
+     */
+    int getStep(String aStepFilePathname) {
+        return Integer.parseInt(this.jobUtilityMethods.getStepOfJobResultParticlePositionsStepFilePathname(aStepFilePathname));
+    }
+
+    /**
+     * Analyses step file (called by analysis threads)
+     *
+     * @param aStepFilePathname Full pathname of particle positions step file
+     * @param anIsRdfCalculation True: RDF for step files are written, false:
+     * Otherwise
+     * @return True: Step file was analysed, false: Otherwise (e.g. step file 
+     * is still in write process)
+     */
+    boolean analyseStepFile(String aStepFilePathname, boolean anIsRdfCalculation) {
+        if (this.isDistanceCalculation) {
+            if (!this.jobUtilityMethods.writeAverageDistancesForStepFiles(aStepFilePathname, this.jobInputValueItemContainer, this.jobResultPath)) {
+                return false;
+            }
+        }
+        if (anIsRdfCalculation) {
+            if (!this.jobUtilityMethods.writeRdfForStepFiles(aStepFilePathname, this.jobInputValueItemContainer, this.jobResultPath)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deletes RDF for step files of step file
+     *
+     * @param aStepFilePathname Full pathname of particle positions step file
+     */
+    void deleteRdfForStepFiles(String aStepFilePathname) {
+        this.jobUtilityMethods.deleteRdfForStepFiles(aStepFilePathname, this.jobResultPath);
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Registers failed analysis trial of step file: The step file is skipped
+     * (and logged once) if the maximum number of failed trials is reached.
+     *
+     * @param aStepFilePathname Full pathname of particle positions step file
+     */
+    private void registerFailedTrial(String aStepFilePathname) {
+        int tmpNumberOfFailedTrials = this.stepFilePathnameToNumberOfFailedTrialsMap.getOrDefault(aStepFilePathname, 0) + 1;
+        if (tmpNumberOfFailedTrials >= this.maximumNumberOfFailedTrials) {
+            this.stepFilePathnameToNumberOfFailedTrialsMap.remove(aStepFilePathname);
+            this.skippedStepFilePathnames.add(aStepFilePathname);
+            ModelUtils.appendToLogfile(
+                true, 
+                "JobResultOnlineAnalysis: Step file " + aStepFilePathname + " could not be analysed with " 
+                    + String.valueOf(tmpNumberOfFailedTrials) + " trials and is skipped."
+            );
+        } else {
+            this.stepFilePathnameToNumberOfFailedTrialsMap.put(aStepFilePathname, tmpNumberOfFailedTrials);
+        }
+    }
+
+    /**
+     * Returns checked value item container
+     *
+     * @param aJobInputValueItemContainer Value item container of Job Input
+     * @return aJobInputValueItemContainer
+     * @throws IllegalArgumentException Thrown if aJobInputValueItemContainer 
+     * is null
+     */
+    private static ValueItemContainer getCheckedValueItemContainer(ValueItemContainer aJobInputValueItemContainer) throws IllegalArgumentException {
+        if (aJobInputValueItemContainer == null) {
+            throw new IllegalArgumentException("JobResultOnlineAnalysis.Constructor: aJobInputValueItemContainer is null.");
+        }
+        return aJobInputValueItemContainer;
+    }
+
+    /**
+     * Returns if RDF calculation is defined in Job Input
+     *
+     * @param aJobInputValueItemContainer Value item container of Job Input
+     * @return True: RDF calculation is defined, false: Otherwise
+     */
+    private static boolean isRdfCalculation(ValueItemContainer aJobInputValueItemContainer) {
+        JobUtilityMethods tmpJobUtilityMethods = new JobUtilityMethods();
+        return 
+            tmpJobUtilityMethods.isParticlePairRdfCalculation(aJobInputValueItemContainer) ||
+            tmpJobUtilityMethods.isMoleculeParticlePairRdfCalculation(aJobInputValueItemContainer) ||
+            tmpJobUtilityMethods.isMoleculeCenterPairRdfCalculation(aJobInputValueItemContainer);
+    }
+
+    /**
+     * Returns if distance calculation is defined in Job Input
+     *
+     * @param aJobInputValueItemContainer Value item container of Job Input
+     * @return True: Distance calculation is defined, false: Otherwise
+     */
+    private static boolean isDistanceCalculation(ValueItemContainer aJobInputValueItemContainer) {
+        JobUtilityMethods tmpJobUtilityMethods = new JobUtilityMethods();
+        return 
+            tmpJobUtilityMethods.isParticlePairDistanceCalculation(aJobInputValueItemContainer) ||
+            tmpJobUtilityMethods.isMoleculeParticlePairDistanceCalculation(aJobInputValueItemContainer);
+    }
+    // </editor-fold>
+
+}
@@ -44,6 +44,7 @@ import de.gnwi.mfsim.model.graphics.body.BodyInterface;
 import de.gnwi.mfsim.model.graphics.compartment.CompartmentContainer;
 import de.gnwi.mfsim.model.graphics.body.BodyXyLayer;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionInfo;
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePositionStore;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePosition;
 import de.gnwi.spices.PointInSpace;
 import de.gnwi.mfsim.model.graphics.SpicesGraphics;
@@ -57,16 +58,13 @@ import de.gnwi.mfsim.model.peptide.PdbToDpdPool;
 import java.awt.Color;
 import java.io.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.regex.Pattern;
-import java.util.zip.GZIPInputStream;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import de.gnwi.mfsim.model.graphics.particle.IGraphicalParticle;
 import de.gnwi.mfsim.model.preference.ModelDefinitions;
 import de.gnwi.jdpd.interfaces.IRandom;
-import de.gnwi.mfsim.model.util.IdKeyValue;
-import de.gnwi.mfsim.model.util.IdKeyValueAccumulator;
+import de.gnwi.mfsim.model.util.IdBinStatisticsAccumulator;
 
 /**
  * Job utility methods to be instantiated
@@ -101,6 +99,16 @@ public class JobUtilityMethods {
      */
     private final TimeUtilityMethods timeUtilityMethods = new TimeUtilityMethods();
 
+    /**
+     * Step file utility methods
+     */
+    private final StepFileUtils stepFileUtils = new StepFileUtils();
+
+    /**
+     * Progress file utility methods
+     */
+    private final ProgressFileUtils progressFileUtils = new ProgressFileUtils();
+
     /**
      * Pattern for single particle to match
      */
@@ -2569,6 +2577,26 @@ public class JobUtilityMethods {
         return aJobResultPath + File.separatorChar + ModelDefinitions.JOB_RESULT_MOLECULE_CENTER_PAIR_RDF_DIRECTORY;
     }
 
+    /**
+     * Return directory path of RDF for step directory (partial RDF results of
+     * single steps) of Job Result
+     *
+     * @param aJobResultPath Path of JobResult
+     * @return Directory path of RDF for step directory of Job Result
+     * @throws IllegalArgumentException Thrown if aJobResultPath is invalid
+     */
+    public String getJobResultRdfForStepPath(String aJobResultPath) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aJobResultPath == null || aJobResultPath.isEmpty()) {
+            throw new IllegalArgumentException("aJobResultPath is null/empty.");
+        }
+        if (!(new File(aJobResultPath)).isDirectory()) {
+            throw new IllegalArgumentException("aJobResultPath is not an existing directory.");
+        }
+        // </editor-fold>
+        return aJobResultPath + File.separatorChar + ModelDefinitions.JOB_RESULT_RDF_FOR_STEP_DIRECTORY;
+    }
+
     /**
      * Return directory path of particle-pair distance directory of Job Result
      *
@@ -3006,6 +3034,33 @@ public class JobUtilityMethods {
         );
     }
 
+    /**
+     * Converts all Job Result particle position step files to binary step
+     * files (in parallel). Step files with current binary step file are 
+     * skipped.
+     * 
+     * @param aJobResultPath Path of Job Result
+     * @param anIsDoublePrecision True: Coordinates are written with double
+     * precision, false: Coordinates are written with float precision
+     * @return True: Operation successful, false: Otherwise
+     * @throws IllegalArgumentException Thrown if aJobResultPath is invalid
+     */
+    public boolean convertJobResultParticlePositionsStepFilesToBinary(String aJobResultPath, boolean anIsDoublePrecision) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aJobResultPath == null || aJobResultPath.isEmpty()) {
+            throw new IllegalArgumentException("aJobResultPath is null/empty.");
+        }
+        if (!(new File(aJobResultPath)).isDirectory()) {
+            throw new IllegalArgumentException("aJobResultPath is not an existing directory.");
+        }
+        // </editor-fold>
+        String[] tmpJobResultParticlePositionsStepFilePathnames = this.getJobResultParticlePositionsStepFilePathnames(aJobResultPath);
+        if (tmpJobResultParticlePositionsStepFilePathnames == null || tmpJobResultParticlePositionsStepFilePathnames.length == 0) {
+            return true;
+        }
+        return this.stepFileUtils.convertTextStepFiles(tmpJobResultParticlePositionsStepFilePathnames, anIsDoublePrecision);
+    }
+
     /**
      * Returns all pathnames of Job Result particle position minimization step 
      * files
@@ -3537,181 +3592,58 @@ public class JobUtilityMethods {
             return;
         }
         // </editor-fold>
-        // <editor-fold defaultstate="collapsed" desc="Prepare calculations">
-        // Get length conversion factor for transformation of DPD units to Angstrom
-        double tmpLengthConversionFactor = this.getLengthConversionFactorFromDpdToPhysicalLength(aJobInputValueItemContainer);
-        // Get size of simulation box
-        BoxSizeInfo tmpBoxSizeInfo = this.getBoxSizeInfo(aJobInputValueItemContainer);
-        // Transform simulation box volume to Angstrom^3: (xLength * tmpLengthConversionFactor) * (yLength * tmpLengthConversionFactor) * (zLength * tmpLengthConversionFactor)
-        double tmpSimulationBoxVolume = tmpBoxSizeInfo.getVolume() * tmpLengthConversionFactor * tmpLengthConversionFactor * tmpLengthConversionFactor;
-        double tmpBoxLengthX = tmpBoxSizeInfo.getXLength() * tmpLengthConversionFactor;
-        double tmpBoxLengthY = tmpBoxSizeInfo.getYLength() * tmpLengthConversionFactor;
-        double tmpBoxLengthZ = tmpBoxSizeInfo.getZLength() * tmpLengthConversionFactor;
-        // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="Write RDF files for aJobResultParticlePositionsFilePathnames">
-        ConcurrentLinkedQueue<IdKeyValue> tmpIdKeyValueList = new ConcurrentLinkedQueue<>();
+        // NOTE: ID of accumulator = Pair index * Number of segment lengths + Segment length index
+        int tmpNumberOfIds = tmpParticlePairs.length * ModelDefinitions.RDF_SEGMENT_LENGTHS.length;
         Stream<String> tmpJobResultParticlePositionsFilePathnameStream = Arrays.stream(aJobResultParticlePositionsFilePathnames);
-        // Calculate particle-particle distances for RDF in parallel
-        tmpJobResultParticlePositionsFilePathnameStream.parallel().forEach(tmpJobResultParticlePositionsFilePathname -> {
-            if (!(
-                    tmpJobResultParticlePositionsFilePathname == null || 
-                    tmpJobResultParticlePositionsFilePathname.isEmpty() || 
-                    !(new File(tmpJobResultParticlePositionsFilePathname)).isFile()
-                )
-            ) {
-                // Get particle positions (NOTE: Particle positions are already in Angstrom)
-                HashMap<String, LinkedList<PointInSpace>> tmpParticleToPositionsMap = 
-                    this.readParticlePositions(
-                        tmpJobResultParticlePositionsFilePathname, 
-                        aJobInputValueItemContainer
+        // Calculate particle-particle distances for RDF in parallel: Every worker accumulates
+        // the RDF values in its own accumulator, all accumulators are merged at the end
+        IdBinStatisticsAccumulator tmpRdfAccumulator = tmpJobResultParticlePositionsFilePathnameStream.parallel().collect(
+            () -> new IdBinStatisticsAccumulator(tmpNumberOfIds),
+            (IdBinStatisticsAccumulator tmpWorkerAccumulator, String tmpJobResultParticlePositionsFilePathname) -> {
+                // NOTE: RDF of step may already be available from online analysis (see writeRdfForStepFiles())
+                IdBinStatisticsAccumulator tmpStepAccumulator = 
+                    IdBinStatisticsAccumulator.readFromFile(
+                        this.getJobResultRdfForStepFilePathname(aJobResultPath, ModelDefinitions.JOB_RESULT_PARTICLE_PAIR_RDF_FOR_STEP_FILE_PREFIX, tmpJobResultParticlePositionsFilePathname),
+                        tmpNumberOfIds
                     );
-                if (tmpParticleToPositionsMap != null) {
-                    // NOTE: For RDF calculation PBC in all directions are necessary
-                    DistanceDistributionUtils tmpDistanceDistributionUtils = 
-                        new DistanceDistributionUtils(
-                            ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH,
-                            tmpBoxLengthX, 
-                            tmpBoxLengthY, 
-                            tmpBoxLengthZ,
-                            this.isPeriodicBoundaryX(aJobInputValueItemContainer),
-                            this.isPeriodicBoundaryY(aJobInputValueItemContainer),
-                            this.isPeriodicBoundaryZ(aJobInputValueItemContainer)
-                        );
-                    for (String[] tmpSingleParticlePair : tmpParticlePairs) {
-                        // <editor-fold defaultstate="collapsed" desc="Calculate distance bin frequencies and RDF info">
-                        // NOTE: tmpParticleDensities[i] corresponds to tmpSingleParticlePair[i]
-                        double[] tmpParticleDensities = new double[tmpSingleParticlePair.length];
-                        for (int i = 0; i < tmpSingleParticlePair.length; i++) {
-                            int tmpNumber = 
-                                this.getTotalNumberOfParticlesOfSpecifiedTypeInSimulation(
-                                    tmpSingleParticlePair[i], 
-                                    aJobInputValueItemContainer
-                                );
-                            tmpParticleDensities[i] = (double) tmpNumber / tmpSimulationBoxVolume;
-                        }
-                        double[] tmpParticleParticleDistanceBinFrequencies = null;
-                        if (tmpSingleParticlePair[0].equals(tmpSingleParticlePair[1])) {
-                            PointInSpace[] tmpParticlePositions = tmpParticleToPositionsMap.get(tmpSingleParticlePair[0]).toArray(new PointInSpace[0]);
-                            tmpParticleParticleDistanceBinFrequencies = tmpDistanceDistributionUtils.getEqualParticlePairDistanceBinFrequencies(tmpParticlePositions);
-                        } else {
-                            PointInSpace[] tmpParticlePositionsA = tmpParticleToPositionsMap.get(tmpSingleParticlePair[0]).toArray(new PointInSpace[0]);
-                            PointInSpace[] tmpParticlePositionsB = tmpParticleToPositionsMap.get(tmpSingleParticlePair[1]).toArray(new PointInSpace[0]);
-                            tmpParticleParticleDistanceBinFrequencies = 
-                                tmpDistanceDistributionUtils.getDifferentParticlePairDistanceBinFrequencies(
-                                    tmpParticlePositionsA, 
-                                    tmpParticlePositionsB
-                                );
-                        }
-                        if (tmpParticleParticleDistanceBinFrequencies != null) {
-                            // <editor-fold defaultstate="collapsed" desc="Calculate RDF info">
-                            String tmpVersion = "Version 1.0.0";
-                            for (double tmpCurrentSegmentLength : ModelDefinitions.RDF_SEGMENT_LENGTHS) {
-                                String tmpFirstParticle = tmpSingleParticlePair[0];
-                                String tmpSecondParticle = tmpSingleParticlePair[1];
-
-                                IdKeyValue tmpIdKeyValue = 
-                                    new IdKeyValue(
-                                        new String[] {
-                                            this.getJobResultParticlePairRdfFilePathname(
-                                                aJobResultPath, 
-                                                tmpFirstParticle, 
-                                                tmpSecondParticle, 
-                                                tmpCurrentSegmentLength
-                                            ),
-                                            tmpFirstParticle, 
-                                            tmpSecondParticle, 
-                                            String.valueOf(tmpCurrentSegmentLength)
-                                        }
-                                    );
-
-                                double tmpSecondParticleMeanDensity = tmpParticleDensities[1];
-
-                                // Use integer arithmetics to avoid roundoff errors!
-                                int tmpBasicMultiple = (int) ModelUtils.roundDoubleValue(tmpCurrentSegmentLength / ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH, 0);
-                                int tmpStartMultiple = 0;
-                                int tmpEndMultiple = tmpBasicMultiple;
-                                double tmpCurrentFrequency = 0.0;
-                                for (int k = 0; k < tmpParticleParticleDistanceBinFrequencies.length; k++) {
-                                    if (k < tmpEndMultiple) {
-                                        tmpCurrentFrequency += tmpParticleParticleDistanceBinFrequencies[k];
-                                    } else {
-                                        double tmpStartSegmentLength = (double) tmpStartMultiple * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
-                                        double tmpEndSegmentLength = (double) k * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
-                                        // double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE * (Math.pow(tmpEndSegmentLength, 3.0) - Math.pow(tmpStartSegmentLength, 3.0));
-                                        double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE * (tmpEndSegmentLength * tmpEndSegmentLength * tmpEndSegmentLength - tmpStartSegmentLength * tmpStartSegmentLength * tmpStartSegmentLength);
-                                        double tmpRdfValue = (tmpCurrentFrequency / tmpVolumeOfSegment) / tmpSecondParticleMeanDensity;
-
-                                        tmpIdKeyValue.add(
-                                            tmpStartSegmentLength + (tmpEndSegmentLength - tmpStartSegmentLength) / 2.0,
-                                            tmpRdfValue
-                                        );
-
-                                        tmpCurrentFrequency = tmpParticleParticleDistanceBinFrequencies[k];
-                                        tmpStartMultiple = k;
-                                        tmpEndMultiple += tmpBasicMultiple;
-                                    }
-                                }
-                                tmpIdKeyValueList.add(tmpIdKeyValue);
-                            }
-                            // </editor-fold>
-                        }
-                        // </editor-fold>
-                    }
+                if (tmpStepAccumulator == null) {
+                    tmpStepAccumulator = this.calculateParticlePairRdfOfStep(tmpJobResultParticlePositionsFilePathname, aJobInputValueItemContainer);
                 }
-            }
-        });
-        // Accumulate IdKeyValue items
-        TreeMap<String, IdKeyValueAccumulator> tmpIdToAccumulatorMap = new TreeMap<>();
-        for (IdKeyValue tmpIdKeyValue : tmpIdKeyValueList) {
-            if (!tmpIdToAccumulatorMap.containsKey(tmpIdKeyValue.getId())) {
-                tmpIdToAccumulatorMap.put(tmpIdKeyValue.getId(), new IdKeyValueAccumulator(tmpIdKeyValue.getIdParts()));
-            }
-            IdKeyValueAccumulator tmpAccumulator = tmpIdToAccumulatorMap.get(tmpIdKeyValue.getId());
-            boolean tmpIsKey = false;
-            double tmpKey = 0.0;
-            double tmpValue;
-            for (double tmpItem : tmpIdKeyValue.getKeyValueList()) {
-                if (!tmpIsKey) {
-                    tmpKey = tmpItem;
-                    tmpIsKey = true;
-                } else {
-                    tmpValue = tmpItem;
-                    tmpAccumulator.add(tmpKey, tmpValue);
-                    tmpIsKey = false;
+                if (tmpStepAccumulator != null) {
+                    tmpWorkerAccumulator.merge(tmpStepAccumulator);
                 }
-            }
-        }
-        // Write consolidated RDF files
+            },
+            IdBinStatisticsAccumulator::merge
+        );
+        // Write consolidated RDF files with mean RDF value of each segment
         String tmpVersion = "Version 1.0.0";
-        for (IdKeyValueAccumulator tmpAccumulator : tmpIdToAccumulatorMap.values()) {
-            String tmpJobResultParticlePairRdfFilePathname = tmpAccumulator.getIdParts()[0];
-            LinkedList<String> tmpStringList = new LinkedList<>();
-            tmpStringList.add(tmpVersion);
-            // tmpFirstParticle
-            tmpStringList.add(tmpAccumulator.getIdParts()[1]);
-            // tmpSecondParticle, 
-            tmpStringList.add(tmpAccumulator.getIdParts()[2]);
-            // String.valueOf(tmpCurrentSegmentLength)
-            tmpStringList.add(tmpAccumulator.getIdParts()[3]);
-            
-            TreeMap<Double, LinkedList<Double>> tmpKeyToValuesMap = tmpAccumulator.getKeyToValuesMap();
-            for (double tmpkey : tmpKeyToValuesMap.keySet()) {
-                tmpStringList.add(String.valueOf(tmpkey));
-                LinkedList<Double> tmpValues= tmpKeyToValuesMap.get(tmpkey);
-                // Roughly 20 characters for a double value with separator
-                StringBuilder tmpBuffer = new StringBuilder(tmpValues.size() * 20);
-                for (Double tmpValue : tmpValues) {
-                    if (!tmpBuffer.isEmpty()) {
-                        tmpBuffer.append(ModelDefinitions.GENERAL_SEPARATOR);
+        for (int tmpPairIndex = 0; tmpPairIndex < tmpParticlePairs.length; tmpPairIndex++) {
+            String tmpFirstParticle = tmpParticlePairs[tmpPairIndex][0];
+            String tmpSecondParticle = tmpParticlePairs[tmpPairIndex][1];
+            for (int tmpSegmentLengthIndex = 0; tmpSegmentLengthIndex < ModelDefinitions.RDF_SEGMENT_LENGTHS.length; tmpSegmentLengthIndex++) {
+                double tmpCurrentSegmentLength = ModelDefinitions.RDF_SEGMENT_LENGTHS[tmpSegmentLengthIndex];
+                int tmpId = tmpPairIndex * ModelDefinitions.RDF_SEGMENT_LENGTHS.length + tmpSegmentLengthIndex;
+                if (tmpRdfAccumulator.getNumberOfSeries(tmpId) > 0) {
+                    int tmpNumberOfBins = tmpRdfAccumulator.getNumberOfBins(tmpId);
+                    String[] tmpStringArray = new String[4 + 2 * tmpNumberOfBins];
+                    int tmpIndex = 0;
+                    tmpStringArray[tmpIndex++] = tmpVersion;
+                    tmpStringArray[tmpIndex++] = tmpFirstParticle;
+                    tmpStringArray[tmpIndex++] = tmpSecondParticle;
+                    tmpStringArray[tmpIndex++] = String.valueOf(tmpCurrentSegmentLength);
+                    for (int k = 0; k < tmpNumberOfBins; k++) {
+                        if (tmpRdfAccumulator.getCount(tmpId, k) > 0) {
+                            tmpStringArray[tmpIndex++] = String.valueOf(tmpRdfAccumulator.getKey(tmpId, k));
+                            tmpStringArray[tmpIndex++] = String.valueOf(tmpRdfAccumulator.getMean(tmpId, k));
+                        }
                     }
-                    tmpBuffer.append(String.valueOf(tmpValue));
+                    this.fileUtilityMethods.writeDefinedStringArrayToFile(
+                        Arrays.copyOf(tmpStringArray, tmpIndex),
+                        this.getJobResultParticlePairRdfFilePathname(aJobResultPath, tmpFirstParticle, tmpSecondParticle, tmpCurrentSegmentLength)
+                    );
                 }
-                tmpStringList.add(tmpBuffer.toString());
             }
-            this.fileUtilityMethods.writeDefinedStringArrayToFile(
-                tmpStringList.toArray(new String[0]),
-                tmpJobResultParticlePairRdfFilePathname
-            );
         }
         // </editor-fold>
     }
@@ -3927,180 +3859,58 @@ public class JobUtilityMethods {
             return;
         }
         // </editor-fold>
-        // <editor-fold defaultstate="collapsed" desc="Prepare calculations">
-        // Get length conversion factor for transformation of DPD units to Angstrom
-        double tmpLengthConversionFactor = this.getLengthConversionFactorFromDpdToPhysicalLength(aJobInputValueItemContainer);
-        // Get size of simulation box
-        BoxSizeInfo tmpBoxSizeInfo = this.getBoxSizeInfo(aJobInputValueItemContainer);
-        // Transform simulation box volume to Angstrom^3: (xLength * tmpLengthConversionFactor) * (yLength * tmpLengthConversionFactor) * (zLength * tmpLengthConversionFactor)
-        double tmpSimulationBoxVolume = tmpBoxSizeInfo.getVolume() * tmpLengthConversionFactor * tmpLengthConversionFactor * tmpLengthConversionFactor;
-        double tmpBoxLengthX = tmpBoxSizeInfo.getXLength() * tmpLengthConversionFactor;
-        double tmpBoxLengthY = tmpBoxSizeInfo.getYLength() * tmpLengthConversionFactor;
-        double tmpBoxLengthZ = tmpBoxSizeInfo.getZLength() * tmpLengthConversionFactor;
-        // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="Write RDF files for aJobResultParticlePositionsFilePathnames">
-        ConcurrentLinkedQueue<IdKeyValue> tmpIdKeyValueList = new ConcurrentLinkedQueue<>();
+        // NOTE: ID of accumulator = Pair index * Number of segment lengths + Segment length index
+        int tmpNumberOfIds = tmpMoleculeParticlePairs.length * ModelDefinitions.RDF_SEGMENT_LENGTHS.length;
         Stream<String> tmpJobResultParticlePositionsFilePathnameStream = Arrays.stream(aJobResultParticlePositionsFilePathnames);
-        // Calculate particle-particle distances for RDF in parallel
-        tmpJobResultParticlePositionsFilePathnameStream.parallel().forEach(tmpJobResultParticlePositionsFilePathname -> {
-            if (!(
-                    tmpJobResultParticlePositionsFilePathname == null || 
-                    tmpJobResultParticlePositionsFilePathname.isEmpty() || 
-                    !(new File(tmpJobResultParticlePositionsFilePathname)).isFile()
-                )
-            ) {
-                // Get particle positions (NOTE: Particle positions are already in Angstrom)
-                HashMap<String, LinkedList<PointInSpace>> tmpMoleculeParticleToPositionsMap = 
-                    this.readMoleculeParticlePositions(
-                        tmpJobResultParticlePositionsFilePathname, 
-                        aJobInputValueItemContainer
+        // Calculate particle-particle distances for RDF in parallel: Every worker accumulates
+        // the RDF values in its own accumulator, all accumulators are merged at the end
+        IdBinStatisticsAccumulator tmpRdfAccumulator = tmpJobResultParticlePositionsFilePathnameStream.parallel().collect(
+            () -> new IdBinStatisticsAccumulator(tmpNumberOfIds),
+            (IdBinStatisticsAccumulator tmpWorkerAccumulator, String tmpJobResultParticlePositionsFilePathname) -> {
+                // NOTE: RDF of step may already be available from online analysis (see writeRdfForStepFiles())
+                IdBinStatisticsAccumulator tmpStepAccumulator = 
+                    IdBinStatisticsAccumulator.readFromFile(
+                        this.getJobResultRdfForStepFilePathname(aJobResultPath, ModelDefinitions.JOB_RESULT_PARTICLE_IN_MOLECULE_PAIR_RDF_FOR_STEP_FILE_PREFIX, tmpJobResultParticlePositionsFilePathname),
+                        tmpNumberOfIds
                     );
-                if (tmpMoleculeParticleToPositionsMap != null) {
-                    // NOTE: For RDF calculation PBC in all directions are necessary
-                    DistanceDistributionUtils tmpDistanceDistributionUtils = 
-                        new DistanceDistributionUtils(
-                            ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH,
-                            tmpBoxLengthX, 
-                            tmpBoxLengthY, 
-                            tmpBoxLengthZ,
-                            this.isPeriodicBoundaryX(aJobInputValueItemContainer),
-                            this.isPeriodicBoundaryY(aJobInputValueItemContainer),
-                            this.isPeriodicBoundaryZ(aJobInputValueItemContainer)
-                        );
-                    for (String[] tmpSingleMoleculeParticlePair : tmpMoleculeParticlePairs) {
-                        // <editor-fold defaultstate="collapsed" desc="Calculate distance bin frequencies and RDF info">
-                        // NOTE: tmpMoleculeParticleDensities[i] corresponds to tmpSingleMoleculeParticlePair[i]
-                        double[] tmpMoleculeParticleDensities = new double[tmpSingleMoleculeParticlePair.length];
-                        for (int i = 0; i < tmpSingleMoleculeParticlePair.length; i++) {
-                            String[] tmpMoleculeNameAndParticle = SpicesConstants.PARTICLE_SEPARATOR_PATTERN.split(tmpSingleMoleculeParticlePair[i]);
-                            String tmpMoleculeName = tmpMoleculeNameAndParticle[0];
-                            String tmpParticle = tmpMoleculeNameAndParticle[1];
-                            int tmpNumber = this.getTotalNumberOfMoleculeParticlesOfSpecifiedTypeInSimulation(tmpMoleculeName, tmpParticle, aJobInputValueItemContainer);
-                            tmpMoleculeParticleDensities[i] = (double) tmpNumber / tmpSimulationBoxVolume;
-                        }
-                        double[] tmpParticleParticleDistanceBinFrequencies = null;
-                        if (tmpSingleMoleculeParticlePair[0].equals(tmpSingleMoleculeParticlePair[1])) {
-                            PointInSpace[] tmpMoleculeParticlePositions = tmpMoleculeParticleToPositionsMap.get(tmpSingleMoleculeParticlePair[0]).toArray(new PointInSpace[0]);
-                            tmpParticleParticleDistanceBinFrequencies = tmpDistanceDistributionUtils.getEqualParticlePairDistanceBinFrequencies(tmpMoleculeParticlePositions);
-                        } else {
-                            PointInSpace[] tmpMoleculeParticlePositionsA = tmpMoleculeParticleToPositionsMap.get(tmpSingleMoleculeParticlePair[0]).toArray(new PointInSpace[0]);
-                            PointInSpace[] tmpMoleculeParticlePositionsB = tmpMoleculeParticleToPositionsMap.get(tmpSingleMoleculeParticlePair[1]).toArray(new PointInSpace[0]);
-                            tmpParticleParticleDistanceBinFrequencies = 
-                                tmpDistanceDistributionUtils.getDifferentParticlePairDistanceBinFrequencies(
-                                    tmpMoleculeParticlePositionsA, 
-                                    tmpMoleculeParticlePositionsB
-                                );
-                        }
-                        if (tmpParticleParticleDistanceBinFrequencies != null) {
-                            // <editor-fold defaultstate="collapsed" desc="Calculate RDF info">
-                            for (double tmpCurrentSegmentLength : ModelDefinitions.RDF_SEGMENT_LENGTHS) {
-                                String tmpFirstMoleculeParticle = tmpSingleMoleculeParticlePair[0];
-                                String tmpSecondMoleculeParticle = tmpSingleMoleculeParticlePair[1];
-
-                                IdKeyValue tmpIdKeyValue = 
-                                    new IdKeyValue(
-                                        new String[] {
-                                            this.getJobResultMoleculeParticlePairRdfFilePathname(
-                                                aJobResultPath, 
-                                                tmpFirstMoleculeParticle, 
-                                                tmpSecondMoleculeParticle, 
-                                                tmpCurrentSegmentLength
-                                            ),
-                                            tmpFirstMoleculeParticle, 
-                                            tmpSecondMoleculeParticle, 
-                                            String.valueOf(tmpCurrentSegmentLength)
-                                        }
-                                    );
-
-                                double tmpSecondMoleculeParticleMeanDensity = tmpMoleculeParticleDensities[1];
-
-                                // Use integer arithmetics to avoid roundoff errors!
-                                int tmpBasicMultiple = (int) ModelUtils.roundDoubleValue(tmpCurrentSegmentLength / ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH, 0);
-                                int tmpStartMultiple = 0;
-                                int tmpEndMultiple = tmpBasicMultiple;
-                                double tmpCurrentFrequency = 0.0;
-                                for (int k = 0; k < tmpParticleParticleDistanceBinFrequencies.length; k++) {
-                                    if (k < tmpEndMultiple) {
-                                        tmpCurrentFrequency += tmpParticleParticleDistanceBinFrequencies[k];
-                                    } else {
-                                        double tmpStartSegmentLength = (double) tmpStartMultiple * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
-                                        double tmpEndSegmentLength = (double) k * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
-                                        // double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE * (Math.pow(tmpEndSegmentLength, 3.0) - Math.pow(tmpStartSegmentLength, 3.0));
-                                        double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE
-                                                * (tmpEndSegmentLength * tmpEndSegmentLength * tmpEndSegmentLength - tmpStartSegmentLength * tmpStartSegmentLength * tmpStartSegmentLength);
-                                        double tmpRdfValue = (tmpCurrentFrequency / tmpVolumeOfSegment) / tmpSecondMoleculeParticleMeanDensity;
-
-                                        tmpIdKeyValue.add(
-                                            tmpStartSegmentLength + (tmpEndSegmentLength - tmpStartSegmentLength) / 2.0,
-                                            tmpRdfValue
-                                        );
-                                        
-                                        tmpCurrentFrequency = tmpParticleParticleDistanceBinFrequencies[k];
-                                        tmpStartMultiple = k;
-                                        tmpEndMultiple += tmpBasicMultiple;
-                                    }
-                                }
-                                tmpIdKeyValueList.add(tmpIdKeyValue);
-                            }
-                            // </editor-fold>
-                        }
-                        // </editor-fold>
-                    }
+                if (tmpStepAccumulator == null) {
+                    tmpStepAccumulator = this.calculateMoleculeParticlePairRdfOfStep(tmpJobResultParticlePositionsFilePathname, aJobInputValueItemContainer);
                 }
-            }
-        });
-        // Accumulate IdKeyValue items
-        TreeMap<String, IdKeyValueAccumulator> tmpIdToAccumulatorMap = new TreeMap<>();
-        for (IdKeyValue tmpIdKeyValue : tmpIdKeyValueList) {
-            if (!tmpIdToAccumulatorMap.containsKey(tmpIdKeyValue.getId())) {
-                tmpIdToAccumulatorMap.put(tmpIdKeyValue.getId(), new IdKeyValueAccumulator(tmpIdKeyValue.getIdParts()));
-            }
-            IdKeyValueAccumulator tmpAccumulator = tmpIdToAccumulatorMap.get(tmpIdKeyValue.getId());
-            boolean tmpIsKey = false;
-            double tmpKey = 0.0;
-            double tmpValue;
-            for (double tmpItem : tmpIdKeyValue.getKeyValueList()) {
-                if (!tmpIsKey) {
-                    tmpKey = tmpItem;
-                    tmpIsKey = true;
-                } else {
-                    tmpValue = tmpItem;
-                    tmpAccumulator.add(tmpKey, tmpValue);
-                    tmpIsKey = false;
+                if (tmpStepAccumulator != null) {
+                    tmpWorkerAccumulator.merge(tmpStepAccumulator);
                 }
-            }
-        }
-        // Write consolidated RDF files
+            },
+            IdBinStatisticsAccumulator::merge
+        );
+        // Write consolidated RDF files with mean RDF value of each segment
         String tmpVersion = "Version 1.0.0";
-        for (IdKeyValueAccumulator tmpAccumulator : tmpIdToAccumulatorMap.values()) {
-            String tmpJobResultMoleculeParticlePairRdfFilePathname = tmpAccumulator.getIdParts()[0];
-            LinkedList<String> tmpStringList = new LinkedList<>();
-            tmpStringList.add(tmpVersion);
-            // tmpFirstParticle
-            tmpStringList.add(tmpAccumulator.getIdParts()[1]);
-            // tmpSecondParticle, 
-            tmpStringList.add(tmpAccumulator.getIdParts()[2]);
-            // String.valueOf(tmpCurrentSegmentLength)
-            tmpStringList.add(tmpAccumulator.getIdParts()[3]);
-            
-            TreeMap<Double, LinkedList<Double>> tmpKeyToValuesMap = tmpAccumulator.getKeyToValuesMap();
-            for (double tmpkey : tmpKeyToValuesMap.keySet()) {
-                tmpStringList.add(String.valueOf(tmpkey));
-                LinkedList<Double> tmpValues= tmpKeyToValuesMap.get(tmpkey);
-                // Roughly 20 characters for a double value with separator
-                StringBuilder tmpBuffer = new StringBuilder(tmpValues.size() * 20);
-                for (Double tmpValue : tmpValues) {
-                    if (!tmpBuffer.isEmpty()) {
-                        tmpBuffer.append(ModelDefinitions.GENERAL_SEPARATOR);
+        for (int tmpPairIndex = 0; tmpPairIndex < tmpMoleculeParticlePairs.length; tmpPairIndex++) {
+            String tmpFirstMoleculeParticle = tmpMoleculeParticlePairs[tmpPairIndex][0];
+            String tmpSecondMoleculeParticle = tmpMoleculeParticlePairs[tmpPairIndex][1];
+            for (int tmpSegmentLengthIndex = 0; tmpSegmentLengthIndex < ModelDefinitions.RDF_SEGMENT_LENGTHS.length; tmpSegmentLengthIndex++) {
+                double tmpCurrentSegmentLength = ModelDefinitions.RDF_SEGMENT_LENGTHS[tmpSegmentLengthIndex];
+                int tmpId = tmpPairIndex * ModelDefinitions.RDF_SEGMENT_LENGTHS.length + tmpSegmentLengthIndex;
+                if (tmpRdfAccumulator.getNumberOfSeries(tmpId) > 0) {
+                    int tmpNumberOfBins = tmpRdfAccumulator.getNumberOfBins(tmpId);
+                    String[] tmpStringArray = new String[4 + 2 * tmpNumberOfBins];
+                    int tmpIndex = 0;
+                    tmpStringArray[tmpIndex++] = tmpVersion;
+                    tmpStringArray[tmpIndex++] = tmpFirstMoleculeParticle;
+                    tmpStringArray[tmpIndex++] = tmpSecondMoleculeParticle;
+                    tmpStringArray[tmpIndex++] = String.valueOf(tmpCurrentSegmentLength);
+                    for (int k = 0; k < tmpNumberOfBins; k++) {
+                        if (tmpRdfAccumulator.getCount(tmpId, k) > 0) {
+                            tmpStringArray[tmpIndex++] = String.valueOf(tmpRdfAccumulator.getKey(tmpId, k));
+                            tmpStringArray[tmpIndex++] = String.valueOf(tmpRdfAccumulator.getMean(tmpId, k));
+                        }
                     }
-                    tmpBuffer.append(String.valueOf(tmpValue));
+                    this.fileUtilityMethods.writeDefinedStringArrayToFile(
+                        Arrays.copyOf(tmpStringArray, tmpIndex),
+                        this.getJobResultMoleculeParticlePairRdfFilePathname(aJobResultPath, tmpFirstMoleculeParticle, tmpSecondMoleculeParticle, tmpCurrentSegmentLength)
+                    );
                 }
-                tmpStringList.add(tmpBuffer.toString());
             }
-            this.fileUtilityMethods.writeDefinedStringArrayToFile(
-                tmpStringList.toArray(new String[0]),
-                tmpJobResultMoleculeParticlePairRdfFilePathname
-            );
         }
         // </editor-fold>
     }
@@ -4140,191 +3950,138 @@ public class JobUtilityMethods {
             return;
         }
         // </editor-fold>
-        // <editor-fold defaultstate="collapsed" desc="Prepare calculations">
-        // Get length conversion factor for transformation of DPD units to Angstrom
-        double tmpLengthConversionFactor = this.getLengthConversionFactorFromDpdToPhysicalLength(aJobInputValueItemContainer);
-        // Get size of simulation box
-        BoxSizeInfo tmpBoxSizeInfo = this.getBoxSizeInfo(aJobInputValueItemContainer);
-        // Transform simulation box volume to Angstrom^3: (xLength * tmpLengthConversionFactor) * (yLength * tmpLengthConversionFactor) * (zLength * tmpLengthConversionFactor)
-        double tmpSimulationBoxVolume = tmpBoxSizeInfo.getVolume() * tmpLengthConversionFactor * tmpLengthConversionFactor * tmpLengthConversionFactor;
-        double tmpBoxLengthX = tmpBoxSizeInfo.getXLength() * tmpLengthConversionFactor;
-        double tmpBoxLengthY = tmpBoxSizeInfo.getYLength() * tmpLengthConversionFactor;
-        double tmpBoxLengthZ = tmpBoxSizeInfo.getZLength() * tmpLengthConversionFactor;
-        // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="Write RDF files for aJobResultParticlePositionsFilePathnames">
-        ConcurrentLinkedQueue<IdKeyValue> tmpIdKeyValueList = new ConcurrentLinkedQueue<>();
+        // NOTE: ID of accumulator = Pair index * Number of segment lengths + Segment length index
+        int tmpNumberOfIds = tmpMoleculeCenterPairs.length * ModelDefinitions.RDF_SEGMENT_LENGTHS.length;
         Stream<String> tmpJobResultParticlePositionsFilePathnameStream = Arrays.stream(aJobResultParticlePositionsFilePathnames);
-        // Calculate molecule-center-to-molecule-center distances for RDF in parallel
-        tmpJobResultParticlePositionsFilePathnameStream.parallel().forEach(tmpJobResultParticlePositionsFilePathname -> {
-            if (!(
-                    tmpJobResultParticlePositionsFilePathname == null || 
-                    tmpJobResultParticlePositionsFilePathname.isEmpty() || 
-                    !(new File(tmpJobResultParticlePositionsFilePathname)).isFile()
-                )
-            ) {
-                // Get molecule-center positions (NOTE: Molecule-center positions are already in Angstrom)
-                HashMap<String, LinkedList<PointInSpace>> tmpMoleculeCenterToPositionsMap = 
-                    this.readMoleculeCenterPositions(
-                        tmpJobResultParticlePositionsFilePathname, 
-                        aJobInputValueItemContainer
+        // Calculate molecule-center-to-molecule-center distances for RDF in parallel: Every worker accumulates
+        // the RDF values in its own accumulator, all accumulators are merged at the end
+        IdBinStatisticsAccumulator tmpRdfAccumulator = tmpJobResultParticlePositionsFilePathnameStream.parallel().collect(
+            () -> new IdBinStatisticsAccumulator(tmpNumberOfIds),
+            (IdBinStatisticsAccumulator tmpWorkerAccumulator, String tmpJobResultParticlePositionsFilePathname) -> {
+                // NOTE: RDF of step may already be available from online analysis (see writeRdfForStepFiles())
+                IdBinStatisticsAccumulator tmpStepAccumulator = 
+                    IdBinStatisticsAccumulator.readFromFile(
+                        this.getJobResultRdfForStepFilePathname(aJobResultPath, ModelDefinitions.JOB_RESULT_MOLECULE_CENTER_PAIR_RDF_FOR_STEP_FILE_PREFIX, tmpJobResultParticlePositionsFilePathname),
+                        tmpNumberOfIds
                     );
-                if (tmpMoleculeCenterToPositionsMap != null) {
-                    // NOTE: For RDF calculation PBC in all directions are necessary
-                    DistanceDistributionUtils tmpDistanceDistributionUtils = 
-                        new DistanceDistributionUtils(
-                            ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH,
-                            tmpBoxLengthX, 
-                            tmpBoxLengthY, 
-                            tmpBoxLengthZ,
-                            this.isPeriodicBoundaryX(aJobInputValueItemContainer),
-                            this.isPeriodicBoundaryY(aJobInputValueItemContainer),
-                            this.isPeriodicBoundaryZ(aJobInputValueItemContainer)
-                        );
-                    for (String[] tmpSingleMoleculeCenterPair : tmpMoleculeCenterPairs) {
-                        // <editor-fold defaultstate="collapsed" desc="Calculate distance bin frequencies and RDF info">
-                        // NOTE: tmpMoleculeCenterDensities[i] corresponds to tmpSingleMoleculeCenterPair[i]
-                        double[] tmpMoleculeCenterDensities = new double[tmpSingleMoleculeCenterPair.length];
-                        for (int i = 0; i < tmpSingleMoleculeCenterPair.length; i++) {
-                            String tmpMoleculeName = tmpSingleMoleculeCenterPair[i];
-                            int tmpNumber = 
-                                this.getTotalNumberOfMoleculesOfSpecifiedTypeInSimulation(
-                                    tmpMoleculeName, 
-                                    aJobInputValueItemContainer
-                                );
-                            tmpMoleculeCenterDensities[i] = (double) tmpNumber / tmpSimulationBoxVolume;
-                        }
-                        double[] tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies = null;
-                        if (tmpSingleMoleculeCenterPair[0].equals(tmpSingleMoleculeCenterPair[1])) {
-                            PointInSpace[] tmpMoleculeCenterPositions = 
-                                tmpMoleculeCenterToPositionsMap.get(tmpSingleMoleculeCenterPair[0]).toArray(new PointInSpace[0]);
-                            tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies = 
-                                tmpDistanceDistributionUtils.getEqualParticlePairDistanceBinFrequencies(
-                                    tmpMoleculeCenterPositions
-                                );
-                        } else {
-                            PointInSpace[] tmpMoleculeCenterPositionsA = 
-                                tmpMoleculeCenterToPositionsMap.get(tmpSingleMoleculeCenterPair[0]).toArray(new PointInSpace[0]);
-                            PointInSpace[] tmpMoleculeCenterPositionsB = 
-                                tmpMoleculeCenterToPositionsMap.get(tmpSingleMoleculeCenterPair[1]).toArray(new PointInSpace[0]);
-                            tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies = 
-                                tmpDistanceDistributionUtils.getDifferentParticlePairDistanceBinFrequencies(
-                                    tmpMoleculeCenterPositionsA, 
-                                    tmpMoleculeCenterPositionsB
-                                );
-                        }
-                        if (tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies != null) {
-                            // <editor-fold defaultstate="collapsed" desc="Calculate RDF info">
-                            for (double tmpCurrentSegmentLength : ModelDefinitions.RDF_SEGMENT_LENGTHS) {
-                                String tmpFirstMoleculeCenter = tmpSingleMoleculeCenterPair[0];
-                                String tmpSecondMoleculeCenter = tmpSingleMoleculeCenterPair[1];
-
-                                IdKeyValue tmpIdKeyValue = 
-                                    new IdKeyValue(
-                                        new String[] {
-                                            this.getJobResultMoleculeCenterPairRdfFilePathname(
-                                                aJobResultPath, 
-                                                tmpFirstMoleculeCenter, 
-                                                tmpSecondMoleculeCenter, 
-                                                tmpCurrentSegmentLength
-                                            ),
-                                            tmpFirstMoleculeCenter, 
-                                            tmpSecondMoleculeCenter, 
-                                            String.valueOf(tmpCurrentSegmentLength)
-                                        }
-                                    );
-
-                                double tmpSecondMoleculeCenterMeanDensity = tmpMoleculeCenterDensities[1];
-
-                                // Use integer arithmetics to avoid roundoff errors!
-                                int tmpBasicMultiple = (int) ModelUtils.roundDoubleValue(tmpCurrentSegmentLength / ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH, 0);
-                                int tmpStartMultiple = 0;
-                                int tmpEndMultiple = tmpBasicMultiple;
-                                double tmpCurrentFrequency = 0.0;
-                                for (int k = 0; k < tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies.length; k++) {
-                                    if (k < tmpEndMultiple) {
-                                        tmpCurrentFrequency += tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies[k];
-                                    } else {
-                                        double tmpStartSegmentLength = (double) tmpStartMultiple * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
-                                        double tmpEndSegmentLength = (double) k * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
-                                        // double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE * (Math.pow(tmpEndSegmentLength, 3.0) - Math.pow(tmpStartSegmentLength, 3.0));
-                                        double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE
-                                                * (tmpEndSegmentLength * tmpEndSegmentLength * tmpEndSegmentLength - tmpStartSegmentLength * tmpStartSegmentLength * tmpStartSegmentLength);
-                                        double tmpRdfValue = (tmpCurrentFrequency / tmpVolumeOfSegment) / tmpSecondMoleculeCenterMeanDensity;
-
-                                        tmpIdKeyValue.add(
-                                            tmpStartSegmentLength + (tmpEndSegmentLength - tmpStartSegmentLength) / 2.0,
-                                            tmpRdfValue
-                                        );
-                                        
-                                        tmpCurrentFrequency = tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies[k];
-                                        tmpStartMultiple = k;
-                                        tmpEndMultiple += tmpBasicMultiple;
-                                    }
-                                }
-                                tmpIdKeyValueList.add(tmpIdKeyValue);
-                            }
-                            // </editor-fold>
-                        }
-                        // </editor-fold>
-                    }
+                if (tmpStepAccumulator == null) {
+                    tmpStepAccumulator = this.calculateMoleculeCenterPairRdfOfStep(tmpJobResultParticlePositionsFilePathname, aJobInputValueItemContainer);
                 }
-            }
-        });
-        // Accumulate IdKeyValue items
-        TreeMap<String, IdKeyValueAccumulator> tmpIdToAccumulatorMap = new TreeMap<>();
-        for (IdKeyValue tmpIdKeyValue : tmpIdKeyValueList) {
-            if (!tmpIdToAccumulatorMap.containsKey(tmpIdKeyValue.getId())) {
-                tmpIdToAccumulatorMap.put(tmpIdKeyValue.getId(), new IdKeyValueAccumulator(tmpIdKeyValue.getIdParts()));
-            }
-            IdKeyValueAccumulator tmpAccumulator = tmpIdToAccumulatorMap.get(tmpIdKeyValue.getId());
-            boolean tmpIsKey = false;
-            double tmpKey = 0.0;
-            double tmpValue;
-            for (double tmpItem : tmpIdKeyValue.getKeyValueList()) {
-                if (!tmpIsKey) {
-                    tmpKey = tmpItem;
-                    tmpIsKey = true;
-                } else {
-                    tmpValue = tmpItem;
-                    tmpAccumulator.add(tmpKey, tmpValue);
-                    tmpIsKey = false;
+                if (tmpStepAccumulator != null) {
+                    tmpWorkerAccumulator.merge(tmpStepAccumulator);
                 }
-            }
-        }
-        // Write consolidated RDF files
+            },
+            IdBinStatisticsAccumulator::merge
+        );
+        // Write consolidated RDF files with mean RDF value of each segment
         String tmpVersion = "Version 1.0.0";
-        for (IdKeyValueAccumulator tmpAccumulator : tmpIdToAccumulatorMap.values()) {
-            String tmpJobResultMoleculeCenterPairRdfFilePathname = tmpAccumulator.getIdParts()[0];
-            LinkedList<String> tmpStringList = new LinkedList<>();
-            tmpStringList.add(tmpVersion);
-            // tmpFirstParticle
-            tmpStringList.add(tmpAccumulator.getIdParts()[1]);
-            // tmpSecondParticle, 
-            tmpStringList.add(tmpAccumulator.getIdParts()[2]);
-            // String.valueOf(tmpCurrentSegmentLength)
-            tmpStringList.add(tmpAccumulator.getIdParts()[3]);
-            
-            TreeMap<Double, LinkedList<Double>> tmpKeyToValuesMap = tmpAccumulator.getKeyToValuesMap();
-            for (double tmpkey : tmpKeyToValuesMap.keySet()) {
-                tmpStringList.add(String.valueOf(tmpkey));
-                LinkedList<Double> tmpValues= tmpKeyToValuesMap.get(tmpkey);
-                // Roughly 20 characters for a double value with separator
-                StringBuilder tmpBuffer = new StringBuilder(tmpValues.size() * 20);
-                for (Double tmpValue : tmpValues) {
-                    if (!tmpBuffer.isEmpty()) {
-                        tmpBuffer.append(ModelDefinitions.GENERAL_SEPARATOR);
+        for (int tmpPairIndex = 0; tmpPairIndex < tmpMoleculeCenterPairs.length; tmpPairIndex++) {
+            String tmpFirstMoleculeCenter = tmpMoleculeCenterPairs[tmpPairIndex][0];
+            String tmpSecondMoleculeCenter = tmpMoleculeCenterPairs[tmpPairIndex][1];
+            for (int tmpSegmentLengthIndex = 0; tmpSegmentLengthIndex < ModelDefinitions.RDF_SEGMENT_LENGTHS.length; tmpSegmentLengthIndex++) {
+                double tmpCurrentSegmentLength = ModelDefinitions.RDF_SEGMENT_LENGTHS[tmpSegmentLengthIndex];
+                int tmpId = tmpPairIndex * ModelDefinitions.RDF_SEGMENT_LENGTHS.length + tmpSegmentLengthIndex;
+                if (tmpRdfAccumulator.getNumberOfSeries(tmpId) > 0) {
+                    int tmpNumberOfBins = tmpRdfAccumulator.getNumberOfBins(tmpId);
+                    String[] tmpStringArray = new String[4 + 2 * tmpNumberOfBins];
+                    int tmpIndex = 0;
+                    tmpStringArray[tmpIndex++] = tmpVersion;
+                    tmpStringArray[tmpIndex++] = tmpFirstMoleculeCenter;
+                    tmpStringArray[tmpIndex++] = tmpSecondMoleculeCenter;
+                    tmpStringArray[tmpIndex++] = String.valueOf(tmpCurrentSegmentLength);
+                    for (int k = 0; k < tmpNumberOfBins; k++) {
+                        if (tmpRdfAccumulator.getCount(tmpId, k) > 0) {
+                            tmpStringArray[tmpIndex++] = String.valueOf(tmpRdfAccumulator.getKey(tmpId, k));
+                            tmpStringArray[tmpIndex++] = String.valueOf(tmpRdfAccumulator.getMean(tmpId, k));
+                        }
                     }
-                    tmpBuffer.append(String.valueOf(tmpValue));
+                    this.fileUtilityMethods.writeDefinedStringArrayToFile(
+                        Arrays.copyOf(tmpStringArray, tmpIndex),
+                        this.getJobResultMoleculeCenterPairRdfFilePathname(aJobResultPath, tmpFirstMoleculeCenter, tmpSecondMoleculeCenter, tmpCurrentSegmentLength)
+                    );
                 }
-                tmpStringList.add(tmpBuffer.toString());
             }
-            this.fileUtilityMethods.writeDefinedStringArrayToFile(
-                tmpStringList.toArray(new String[0]),
-                tmpJobResultMoleculeCenterPairRdfFilePathname
-            );
         }
         // </editor-fold>
     }
+
+    /**
+     * Writes RDF for step files (partial RDF results of single step) of all 
+     * RDF calculations defined in Job Input for particle positions step file,
+     * e.g. for online analysis while the simulation is running. RDF for step 
+     * files are used by 
+     * createDefined...RadialDistributionFunctionFiles() instead of a new RDF 
+     * calculation of the step. Already existing RDF for step files are not 
+     * recalculated.
+     * NOTE: Particle positions step file may still be in write process.
+     *
+     * @param aJobResultParticlePositionsStepFilePathname Full pathname of 
+     * particle positions step file of Job Result
+     * @param aJobInputValueItemContainer Value item container of corresponding
+     * Job Input
+     * @param aJobResultPath Path of JobResult
+     * @return True: All RDF for step files exist, false: Otherwise (e.g. 
+     * particle positions step file could not be read since it is still in 
+     * write process)
+     */
+    public boolean writeRdfForStepFiles(
+        String aJobResultParticlePositionsStepFilePathname, 
+        ValueItemContainer aJobInputValueItemContainer, 
+        String aJobResultPath
+    ) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aJobResultParticlePositionsStepFilePathname == null || aJobResultParticlePositionsStepFilePathname.isEmpty()) {
+            return false;
+        }
+        if (aJobInputValueItemContainer == null) {
+            return false;
+        }
+        if (aJobResultPath == null || aJobResultPath.isEmpty() || !(new File(aJobResultPath)).isDirectory()) {
+            return false;
+        }
+        // </editor-fold>
+        try {
+            if (!ModelUtils.createDirectory(this.getJobResultRdfForStepPath(aJobResultPath))) {
+                return false;
+            }
+            boolean tmpIsSuccessful = true;
+            if (this.isParticlePairRdfCalculation(aJobInputValueItemContainer)) {
+                tmpIsSuccessful &= this.writeRdfForStepFile(aJobResultPath, ModelDefinitions.JOB_RESULT_PARTICLE_PAIR_RDF_FOR_STEP_FILE_PREFIX, aJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
+            }
+            if (tmpIsSuccessful && this.isMoleculeParticlePairRdfCalculation(aJobInputValueItemContainer)) {
+                tmpIsSuccessful &= this.writeRdfForStepFile(aJobResultPath, ModelDefinitions.JOB_RESULT_PARTICLE_IN_MOLECULE_PAIR_RDF_FOR_STEP_FILE_PREFIX, aJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
+            }
+            if (tmpIsSuccessful && this.isMoleculeCenterPairRdfCalculation(aJobInputValueItemContainer)) {
+                tmpIsSuccessful &= this.writeRdfForStepFile(aJobResultPath, ModelDefinitions.JOB_RESULT_MOLECULE_CENTER_PAIR_RDF_FOR_STEP_FILE_PREFIX, aJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
+            }
+            return tmpIsSuccessful;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return false;
+        }
+    }
+
+    /**
+     * Deletes all RDF for step files of particle positions step file
+     *
+     * @param aJobResultParticlePositionsStepFilePathname Full pathname of 
+     * particle positions step file of Job Result
+     * @param aJobResultPath Path of JobResult
+     */
+    public void deleteRdfForStepFiles(String aJobResultParticlePositionsStepFilePathname, String aJobResultPath) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aJobResultParticlePositionsStepFilePathname == null || aJobResultParticlePositionsStepFilePathname.isEmpty()) {
+            return;
+        }
+        if (aJobResultPath == null || aJobResultPath.isEmpty() || !(new File(aJobResultPath)).isDirectory()) {
+            return;
+        }
+        // </editor-fold>
+        this.fileUtilityMethods.deleteSingleFile(this.getJobResultRdfForStepFilePathname(aJobResultPath, ModelDefinitions.JOB_RESULT_PARTICLE_PAIR_RDF_FOR_STEP_FILE_PREFIX, aJobResultParticlePositionsStepFilePathname));
+        this.fileUtilityMethods.deleteSingleFile(this.getJobResultRdfForStepFilePathname(aJobResultPath, ModelDefinitions.JOB_RESULT_PARTICLE_IN_MOLECULE_PAIR_RDF_FOR_STEP_FILE_PREFIX, aJobResultParticlePositionsStepFilePathname));
+        this.fileUtilityMethods.deleteSingleFile(this.getJobResultRdfForStepFilePathname(aJobResultPath, ModelDefinitions.JOB_RESULT_MOLECULE_CENTER_PAIR_RDF_FOR_STEP_FILE_PREFIX, aJobResultParticlePositionsStepFilePathname));
+    }
     // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="- Particle-Particle distance related methods">
     /**
@@ -4424,18 +4181,17 @@ public class JobUtilityMethods {
         }
         // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="Calculate distances">
-        HashMap<String, LinkedList<String>> tmpParticlePairToDistancesMap = new HashMap<String, LinkedList<String>>();
-        String tmpVersion = "Version 1.0.0";
+        // NOTE: Average distances of a step are written to the average distances file of the step (if not already available)
+        String[] tmpSteps = new String[tmpStepSortStringList.size()];
+        String[] tmpAverageDistancesForStepFilePathnames = new String[tmpStepSortStringList.size()];
+        int tmpStepIndex = 0;
         for (String tmpSortString : tmpStepSortStringList) {
             String tmpStep = tmpSortStringToStepMap.get(tmpSortString);
             String tmpJobResultParticlePositionsStepFilePathname = tmpStepToFilePathnameMap.get(tmpStep);
 
-            LinkedList<ParticlePairAverageDistance> tmpDefinedParticlePairAverageDistanceList = null;
             String tmpParticlePairAverageDistancesForStepFilePathname = this.getJobResultParticlePairAverageDistancesForStepFilePathname(aJobResultPath, tmpStep);
-            if ((new File(tmpParticlePairAverageDistancesForStepFilePathname)).exists()) {
-                tmpDefinedParticlePairAverageDistanceList = this.readParticlePairAverageDistances(tmpParticlePairAverageDistancesForStepFilePathname);
-            } else {
-                tmpDefinedParticlePairAverageDistanceList = this.getDefinedParticlePairAverageDistances(tmpJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
+            if (!(new File(tmpParticlePairAverageDistancesForStepFilePathname)).exists()) {
+                LinkedList<ParticlePairAverageDistance> tmpDefinedParticlePairAverageDistanceList = this.getDefinedParticlePairAverageDistances(tmpJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
                 if (tmpDefinedParticlePairAverageDistanceList == null) {
                     return;
                 }
@@ -4443,48 +4199,14 @@ public class JobUtilityMethods {
                     return;
                 }
             }
-            if (tmpDefinedParticlePairAverageDistanceList == null) {
-                return;
-            }
-
-            for (ParticlePairAverageDistance tmpParticlePairAverageDistance : tmpDefinedParticlePairAverageDistanceList) {
-                if (!tmpParticlePairToDistancesMap.containsKey(tmpParticlePairAverageDistance.getUnderscoreConcatenatedParticlePair())) {
-                    // <editor-fold defaultstate="collapsed" desc="Initialize particle pair">
-                    LinkedList<String> tmpNewDistancesList = new LinkedList<String>();
-                    tmpNewDistancesList.add(tmpVersion);
-                    tmpNewDistancesList.add(tmpParticlePairAverageDistance.getFirstParticle());
-                    tmpNewDistancesList.add(tmpParticlePairAverageDistance.getSecondParticle());
-
-                    tmpNewDistancesList.add(tmpStep);
-                    tmpNewDistancesList.add(String.valueOf(tmpParticlePairAverageDistance.getAverageDistance()));
-
-                    tmpParticlePairToDistancesMap.put(tmpParticlePairAverageDistance.getUnderscoreConcatenatedParticlePair(), tmpNewDistancesList);
-                    // </editor-fold>
-                } else {
-                    // <editor-fold defaultstate="collapsed" desc="Append to particle pair">
-                    LinkedList<String> tmpDistancesList = tmpParticlePairToDistancesMap.get(tmpParticlePairAverageDistance.getUnderscoreConcatenatedParticlePair());
-
-                    tmpDistancesList.add(tmpStep);
-                    tmpDistancesList.add(String.valueOf(tmpParticlePairAverageDistance.getAverageDistance()));
-                    // </editor-fold>
-                }
-            }
-        }
-        if (tmpParticlePairToDistancesMap.isEmpty()) {
-            return;
+            tmpSteps[tmpStepIndex] = tmpStep;
+            tmpAverageDistancesForStepFilePathnames[tmpStepIndex] = tmpParticlePairAverageDistancesForStepFilePathname;
+            tmpStepIndex++;
         }
 
         // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="Write particle-pair distance files">
-        for (String tmpParticlePair : tmpParticlePairToDistancesMap.keySet()) {
-            LinkedList<String> tmpDistancesList = tmpParticlePairToDistancesMap.get(tmpParticlePair);
-            // IMPORTANT: Delete possible existing file (e.g. for job restart)
-            this.fileUtilityMethods.deleteSingleFile(this.getJobResultParticlePairDistanceFilePathname(aJobResultPath, tmpParticlePair));
-            this.fileUtilityMethods.writeDefinedStringArrayToFile(
-                tmpDistancesList.toArray(new String[0]),
-                this.getJobResultParticlePairDistanceFilePathname(aJobResultPath, tmpParticlePair)
-            );
-        }
+        this.writeParticlePairDistanceFiles(aJobResultPath, tmpSteps, tmpAverageDistancesForStepFilePathnames, false);
         // </editor-fold>
     }
 
@@ -4541,79 +4263,116 @@ public class JobUtilityMethods {
 
         // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="Calculate distances">
-        HashMap<String, LinkedList<String>> tmpMoleculeParticlePairToDistancesMap = new HashMap<String, LinkedList<String>>();
-        String tmpVersion = "Version 1.0.0";
+        // NOTE: Average distances of a step are written to the average distances file of the step (if not already available)
+        String[] tmpSteps = new String[tmpStepSortStringList.size()];
+        String[] tmpAverageDistancesForStepFilePathnames = new String[tmpStepSortStringList.size()];
+        int tmpStepIndex = 0;
         for (String tmpSortString : tmpStepSortStringList) {
             String tmpStep = tmpSortStringToStepMap.get(tmpSortString);
             String tmpJobResultParticlePositionsStepFilePathname = tmpStepToFilePathnameMap.get(tmpStep);
 
-            LinkedList<ParticlePairAverageDistance> tmpDefinedFragmenInMoleculePairAverageDistanceList = null;
             String tmpMoleculeParticlePairAverageDistancesForStepFilePathname = this.getJobResultMoleculeParticlePairAverageDistancesForStepFilePathname(aJobResultPath, tmpStep);
-            if ((new File(tmpMoleculeParticlePairAverageDistancesForStepFilePathname)).exists()) {
-                tmpDefinedFragmenInMoleculePairAverageDistanceList = this.readParticlePairAverageDistances(tmpMoleculeParticlePairAverageDistancesForStepFilePathname);
-            } else {
-                tmpDefinedFragmenInMoleculePairAverageDistanceList = this.getDefinedMoleculeParticlePairAverageDistances(tmpJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
-                if (tmpDefinedFragmenInMoleculePairAverageDistanceList == null) {
+            if (!(new File(tmpMoleculeParticlePairAverageDistancesForStepFilePathname)).exists()) {
+                LinkedList<ParticlePairAverageDistance> tmpDefinedMoleculeParticlePairAverageDistanceList = this.getDefinedMoleculeParticlePairAverageDistances(tmpJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
+                if (tmpDefinedMoleculeParticlePairAverageDistanceList == null) {
                     return;
                 }
-                if (!this.writeParticlePairAverageDistances(tmpMoleculeParticlePairAverageDistancesForStepFilePathname, tmpDefinedFragmenInMoleculePairAverageDistanceList)) {
+                if (!this.writeParticlePairAverageDistances(tmpMoleculeParticlePairAverageDistancesForStepFilePathname, tmpDefinedMoleculeParticlePairAverageDistanceList)) {
                     return;
                 }
             }
-            if (tmpDefinedFragmenInMoleculePairAverageDistanceList == null) {
-                return;
-            }
-
-            for (ParticlePairAverageDistance tmpMoleculeParticlePairAverageDistance : tmpDefinedFragmenInMoleculePairAverageDistanceList) {
-                if (!tmpMoleculeParticlePairToDistancesMap.containsKey(tmpMoleculeParticlePairAverageDistance.getUnderscoreConcatenatedParticlePair())) {
-                    // <editor-fold defaultstate="collapsed" desc="Initialize particle pair">
-                    LinkedList<String> tmpNewDistancesList = new LinkedList<String>();
-                    tmpNewDistancesList.add(tmpVersion);
-                    tmpNewDistancesList.add(tmpMoleculeParticlePairAverageDistance.getFirstParticle());
-                    tmpNewDistancesList.add(tmpMoleculeParticlePairAverageDistance.getSecondParticle());
-
-                    tmpNewDistancesList.add(tmpStep);
-                    tmpNewDistancesList.add(String.valueOf(tmpMoleculeParticlePairAverageDistance.getAverageDistance()));
-
-                    tmpMoleculeParticlePairToDistancesMap.put(tmpMoleculeParticlePairAverageDistance.getUnderscoreConcatenatedParticlePair(), tmpNewDistancesList);
-
-                    // </editor-fold>
-                } else {
-                    // <editor-fold defaultstate="collapsed" desc="Append to particle pair">
-                    LinkedList<String> tmpDistancesList = tmpMoleculeParticlePairToDistancesMap.get(tmpMoleculeParticlePairAverageDistance.getUnderscoreConcatenatedParticlePair());
-
-                    tmpDistancesList.add(tmpStep);
-                    tmpDistancesList.add(String.valueOf(tmpMoleculeParticlePairAverageDistance.getAverageDistance()));
-
-                    // </editor-fold>
-                }
-            }
-        }
-        if (tmpMoleculeParticlePairToDistancesMap.isEmpty()) {
-            return;
+            tmpSteps[tmpStepIndex] = tmpStep;
+            tmpAverageDistancesForStepFilePathnames[tmpStepIndex] = tmpMoleculeParticlePairAverageDistancesForStepFilePathname;
+            tmpStepIndex++;
         }
+
         // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="Write particle-pair distance files">
-        for (String tmpMoleculeParticlePair : tmpMoleculeParticlePairToDistancesMap.keySet()) {
-            LinkedList<String> tmpDistancesList = tmpMoleculeParticlePairToDistancesMap.get(tmpMoleculeParticlePair);
-            // IMPORTANT: Delete possible existing file (e.g. for job restart)
-            this.fileUtilityMethods.deleteSingleFile(this.getJobResultMoleculeParticlePairDistanceFilePathname(aJobResultPath, tmpMoleculeParticlePair));
-            this.fileUtilityMethods.writeDefinedStringArrayToFile(
-                    tmpDistancesList.toArray(new String[0]),
-                    this.getJobResultMoleculeParticlePairDistanceFilePathname(aJobResultPath, tmpMoleculeParticlePair));
-        }
-
+        this.writeParticlePairDistanceFiles(aJobResultPath, tmpSteps, tmpAverageDistancesForStepFilePathnames, true);
         // </editor-fold>
     }
-    // </editor-fold>
-    // <editor-fold defaultstate="collapsed" desc="- Job input/result files related methods">
 
     /**
-     * Returns pathname of job input information file
+     * Writes particle-pair and molecule-particle-pair average distances files
+     * of all distance calculations defined in Job Input for particle 
+     * positions step file, e.g. for online analysis while the simulation is 
+     * running. These files are used by 
+     * createDefined...AverageDistanceFiles() instead of a new distance 
+     * calculation of the step. Already existing files are not recalculated.
+     * NOTE: Particle positions step file may still be in write process.
      *
-     * @param aPath Path of job input information file
-     * @return Pathname of job input information file
-     * @throws IllegalArgumentException Thrown if aPath is invalid
+     * @param aJobResultParticlePositionsStepFilePathname Full pathname of 
+     * particle positions step file of Job Result
+     * @param aJobInputValueItemContainer Value item container of corresponding
+     * Job Input
+     * @param aJobResultPath Path of JobResult
+     * @return True: All average distances files of step exist, false: 
+     * Otherwise (e.g. particle positions step file could not be read since it
+     * is still in write process)
+     */
+    public boolean writeAverageDistancesForStepFiles(
+        String aJobResultParticlePositionsStepFilePathname, 
+        ValueItemContainer aJobInputValueItemContainer, 
+        String aJobResultPath
+    ) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aJobResultParticlePositionsStepFilePathname == null || aJobResultParticlePositionsStepFilePathname.isEmpty()) {
+            return false;
+        }
+        if (aJobInputValueItemContainer == null) {
+            return false;
+        }
+        if (aJobResultPath == null || aJobResultPath.isEmpty() || !(new File(aJobResultPath)).isDirectory()) {
+            return false;
+        }
+        // </editor-fold>
+        try {
+            String tmpStep = this.getStepOfJobResultParticlePositionsStepFilePathname(aJobResultParticlePositionsStepFilePathname);
+            if (this.isParticlePairDistanceCalculation(aJobInputValueItemContainer)) {
+                if (!ModelUtils.createDirectory(this.getJobResultParticlePairDistancePath(aJobResultPath))) {
+                    return false;
+                }
+                String tmpParticlePairAverageDistancesForStepFilePathname = this.getJobResultParticlePairAverageDistancesForStepFilePathname(aJobResultPath, tmpStep);
+                if (!(new File(tmpParticlePairAverageDistancesForStepFilePathname)).exists()) {
+                    LinkedList<ParticlePairAverageDistance> tmpDefinedParticlePairAverageDistanceList = this.getDefinedParticlePairAverageDistances(aJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
+                    if (tmpDefinedParticlePairAverageDistanceList == null) {
+                        return false;
+                    }
+                    if (!this.writeParticlePairAverageDistances(tmpParticlePairAverageDistancesForStepFilePathname, tmpDefinedParticlePairAverageDistanceList)) {
+                        return false;
+                    }
+                }
+            }
+            if (this.isMoleculeParticlePairDistanceCalculation(aJobInputValueItemContainer)) {
+                if (!ModelUtils.createDirectory(this.getJobResultMoleculeParticlePairDistancePath(aJobResultPath))) {
+                    return false;
+                }
+                String tmpMoleculeParticlePairAverageDistancesForStepFilePathname = this.getJobResultMoleculeParticlePairAverageDistancesForStepFilePathname(aJobResultPath, tmpStep);
+                if (!(new File(tmpMoleculeParticlePairAverageDistancesForStepFilePathname)).exists()) {
+                    LinkedList<ParticlePairAverageDistance> tmpDefinedMoleculeParticlePairAverageDistanceList = this.getDefinedMoleculeParticlePairAverageDistances(aJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
+                    if (tmpDefinedMoleculeParticlePairAverageDistanceList == null) {
+                        return false;
+                    }
+                    if (!this.writeParticlePairAverageDistances(tmpMoleculeParticlePairAverageDistancesForStepFilePathname, tmpDefinedMoleculeParticlePairAverageDistanceList)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return false;
+        }
+    }
+    // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="- Job input/result files related methods">
+
+    /**
+     * Returns pathname of job input information file
+     *
+     * @param aPath Path of job input information file
+     * @return Pathname of job input information file
+     * @throws IllegalArgumentException Thrown if aPath is invalid
      */
     public String getJobInputInformationFilePathname(String aPath) throws IllegalArgumentException {
 
@@ -5369,16 +5128,8 @@ public class JobUtilityMethods {
      */
     public int getMaximumSimulationStep(String aJobResultPath) {
         try {
-            int tmpMaximumSimulationStep = -1;
-            if ((new File(this.getJobResultUtotalProgressFilePathname(aJobResultPath))).isFile()) {
-                String[] tmpInfoArray = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.getJobResultUtotalProgressFilePathname(aJobResultPath));
-                if (tmpInfoArray != null && tmpInfoArray[0].equals("Version 1.0.0")) {
-                    // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
-                    tmpMaximumSimulationStep = Integer.valueOf(tmpInfoArray[tmpInfoArray.length - 2]);
-                    // </editor-fold>
-                }
-            }
-            return tmpMaximumSimulationStep;
+            // NOTE: Only header and tail of progress file are read
+            return this.progressFileUtils.getLastStep(this.getJobResultUtotalProgressFilePathname(aJobResultPath));
         } catch (Exception anException) {
             ModelUtils.appendToLogfile(true, anException);
             return -1;
@@ -5415,15 +5166,12 @@ public class JobUtilityMethods {
 
         // </editor-fold>
         try {
-            // <editor-fold defaultstate="collapsed" desc="Local variables">
-            String tmpParticle;
-            int tmpNumberOfParticlePositions;
-            double tmpX;
-            double tmpY;
-            double tmpZ;
-            int tmpParticleIndex;
-            int tmpMoleculeIndex;
-            int tmpTotalNumberOfParticlesInSimulation;
+            // <editor-fold defaultstate="collapsed" desc="Read frame">
+            // NOTE: Binary step file is used if available, frame is shared by step frame cache (read-only)
+            ParticlePositionFrame tmpFrame = StepFrameCache.getInstance().getFrame(aJobResultParticlePositionsFilePathname);
+            if (tmpFrame == null) {
+                return null;
+            }
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Set necessary variables">
             double tmpBoxLengthX = this.getSimulationBoxLengthX(aJobInputValueItemContainer);
@@ -5432,134 +5180,91 @@ public class JobUtilityMethods {
             double tmpLengthConversionFactor = this.getLengthConversionFactorFromDpdToPhysicalLength(aJobInputValueItemContainer);
             HashMap<String, HashMap<String, IGraphicalParticle>> tmpMoleculeToParticlesMap = 
                 this.getMoleculeToParticlesMap(aJobInputValueItemContainer, tmpLengthConversionFactor);
+            double[] tmpXs = tmpFrame.getX();
+            double[] tmpYs = tmpFrame.getY();
+            double[] tmpZs = tmpFrame.getZ();
+            int[] tmpParticleIndices = tmpFrame.getParticleIndices();
+            int[] tmpMoleculeIndices = tmpFrame.getMoleculeIndices();
             // </editor-fold>
-            // <editor-fold defaultstate="collapsed" desc="Read particle positions">
-            BufferedReader tmpBufferedReader = null;
-            try {
-                String tmpLine;
-                if (!(new File(aJobResultParticlePositionsFilePathname)).isFile()) {
+            // <editor-fold defaultstate="collapsed" desc="Create graphical particle positions">
+            GraphicalParticlePositionStore tmpGraphicalParticlePositionStore = new GraphicalParticlePositionStore(tmpFrame.getTotalNumberOfParticles());
+            int tmpMinMoleculeIndex = Integer.MAX_VALUE;
+            int tmpMaxMoleculeIndex = Integer.MIN_VALUE;
+            int tmpIndex = 0;
+            for (int i = 0; i < tmpFrame.getNumberOfBlocks(); i++) {
+                // <editor-fold defaultstate="collapsed" desc="Molecule">
+                HashMap<String, IGraphicalParticle> tmpParticleToGraphicalParticleMap = 
+                    tmpMoleculeToParticlesMap.get(tmpFrame.getBlockMoleculeNames()[i]);
+                if (tmpParticleToGraphicalParticleMap == null) {
                     return null;
                 }
-                tmpBufferedReader = 
-                    new BufferedReader(
-                        new InputStreamReader(
-                            new GZIPInputStream(
-                                new FileInputStream(aJobResultParticlePositionsFilePathname), 
-                                ModelDefinitions.BUFFER_SIZE
-                            )
-                        )
-                    );
-                tmpLine = tmpBufferedReader.readLine();
-                if (tmpLine.equals("Version 1.0.0")) {
-                    // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
-                    tmpTotalNumberOfParticlesInSimulation = Integer.valueOf(tmpBufferedReader.readLine());
-                    GraphicalParticlePosition[] tmpGraphicalParticlePositions = new GraphicalParticlePosition[tmpTotalNumberOfParticlesInSimulation];
-                    int tmpMinMoleculeIndex = Integer.MAX_VALUE;
-                    int tmpMaxMoleculeIndex = Integer.MIN_VALUE;
-                    while (true) {
-                        // <editor-fold defaultstate="collapsed" desc="Molecule">
-                        String tmpMoleculeName = tmpBufferedReader.readLine();
-                        if (tmpMoleculeName == null) {
-                            break;
-                        }
-                        HashMap<String, IGraphicalParticle> tmpParticleToGraphicalParticleMap = 
-                            tmpMoleculeToParticlesMap.get(tmpMoleculeName);
-                        if (tmpParticleToGraphicalParticleMap == null) {
-                            return null;
-                        }
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Particle">
-                        tmpParticle = tmpBufferedReader.readLine();
-                        GraphicalParticle tmpGraphicalParticle = 
-                            (GraphicalParticle) tmpParticleToGraphicalParticleMap.get(tmpParticle);
-                        if (tmpGraphicalParticle == null) {
-                            return null;
-                        }
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Number of positions">
-                        tmpNumberOfParticlePositions = Integer.valueOf(tmpBufferedReader.readLine());
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Read particle positions">
-                        for (int k = 0; k < tmpNumberOfParticlePositions; k++) {
-                            tmpX = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpX < 0.0) {
-                                tmpX = 0.0;
-                            }
-                            if (tmpX > tmpBoxLengthX) {
-                                tmpX = tmpBoxLengthX;
-                            }
-                            tmpY = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpY < 0.0) {
-                                tmpY = 0.0;
-                            }
-                            if (tmpY > tmpBoxLengthY) {
-                                tmpY = tmpBoxLengthY;
-                            }
-                            tmpZ = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpZ < 0.0) {
-                                tmpZ = 0.0;
-                            }
-                            if (tmpZ > tmpBoxLengthZ) {
-                                tmpZ = tmpBoxLengthZ;
-                            }
-                            tmpParticleIndex = Integer.valueOf(tmpBufferedReader.readLine());
-                            tmpMoleculeIndex = Integer.valueOf(tmpBufferedReader.readLine());
-                            if (tmpMoleculeIndex > tmpMaxMoleculeIndex) {
-                                tmpMaxMoleculeIndex = tmpMoleculeIndex;
-                            }
-                            if (tmpMoleculeIndex < tmpMinMoleculeIndex) {
-                                tmpMinMoleculeIndex = tmpMoleculeIndex;
-                            }
-                            // Write particles to original position in simulation
-                            tmpGraphicalParticlePositions[tmpParticleIndex] = 
-                                new GraphicalParticlePosition(
-                                    tmpGraphicalParticle, 
-                                    tmpX, 
-                                    tmpY, 
-                                    tmpZ,
-                                    tmpParticleIndex,
-                                    tmpMoleculeIndex    
-                                );
-                        }
-                        // </editor-fold>
-                    }
-                    // <editor-fold defaultstate="collapsed" desc="Return GraphicalParticlePositionInfo">
-                    // Parameter false: Compartments/Bulk do NOT exist
-                    return new GraphicalParticlePositionInfo(
-                        new GraphicalParticleInfo(tmpMoleculeToParticlesMap, false), 
-                        tmpGraphicalParticlePositions, 
-                        this.getBoxSizeInfo(aJobInputValueItemContainer),
-                        tmpLengthConversionFactor,
-                        tmpMinMoleculeIndex,
-                        tmpMaxMoleculeIndex
-                    );
-                    // </editor-fold>
-                    // </editor-fold>
-                } else {
-                    // <editor-fold defaultstate="collapsed" desc="Unknown version">
+                // </editor-fold>
+                // <editor-fold defaultstate="collapsed" desc="Particle">
+                GraphicalParticle tmpGraphicalParticle = 
+                    (GraphicalParticle) tmpParticleToGraphicalParticleMap.get(tmpFrame.getBlockParticleNames()[i]);
+                if (tmpGraphicalParticle == null) {
                     return null;
-                    // </editor-fold>
                 }
-            } catch (Exception anException) {
-                // Note: Exception may be thrown since graphical particle positions 
-                // can be still in write process thus
-                // ModelUtils.appendToLogfile(true, anException);
-                // should not be thrown
-                return null;
-            } finally {
-                if (tmpBufferedReader != null) {
-                    try {
-                        tmpBufferedReader.close();
-                    } catch (IOException anException) {
-                        // Note: Exception may be thrown since graphical particle positions 
-                        // can be still in write process thus
-                        // ModelUtils.appendToLogfile(true, anException);
-                        // should not be thrown
-                        return null;
+                // </editor-fold>
+                // <editor-fold defaultstate="collapsed" desc="Particle positions">
+                for (int k = 0; k < tmpFrame.getBlockSizes()[i]; k++) {
+                    double tmpX = tmpXs[tmpIndex];
+                    if (tmpX < 0.0) {
+                        tmpX = 0.0;
+                    }
+                    if (tmpX > tmpBoxLengthX) {
+                        tmpX = tmpBoxLengthX;
+                    }
+                    double tmpY = tmpYs[tmpIndex];
+                    if (tmpY < 0.0) {
+                        tmpY = 0.0;
                     }
+                    if (tmpY > tmpBoxLengthY) {
+                        tmpY = tmpBoxLengthY;
+                    }
+                    double tmpZ = tmpZs[tmpIndex];
+                    if (tmpZ < 0.0) {
+                        tmpZ = 0.0;
+                    }
+                    if (tmpZ > tmpBoxLengthZ) {
+                        tmpZ = tmpBoxLengthZ;
+                    }
+                    int tmpParticleIndex = tmpParticleIndices[tmpIndex];
+                    int tmpMoleculeIndex = tmpMoleculeIndices[tmpIndex];
+                    if (tmpMoleculeIndex > tmpMaxMoleculeIndex) {
+                        tmpMaxMoleculeIndex = tmpMoleculeIndex;
+                    }
+                    if (tmpMoleculeIndex < tmpMinMoleculeIndex) {
+                        tmpMinMoleculeIndex = tmpMoleculeIndex;
+                    }
+                    // Write particles to original position in simulation
+                    tmpGraphicalParticlePositionStore.set(
+                        tmpParticleIndex,
+                        tmpGraphicalParticle, 
+                        tmpX, 
+                        tmpY, 
+                        tmpZ,
+                        tmpParticleIndex,
+                        tmpMoleculeIndex,
+                        false,
+                        false
+                    );
+                    tmpIndex++;
                 }
+                // </editor-fold>
             }
             // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Return GraphicalParticlePositionInfo">
+            // Parameter false: Compartments/Bulk do NOT exist
+            return new GraphicalParticlePositionInfo(
+                new GraphicalParticleInfo(tmpMoleculeToParticlesMap, false), 
+                tmpGraphicalParticlePositionStore, 
+                this.getBoxSizeInfo(aJobInputValueItemContainer),
+                tmpLengthConversionFactor,
+                tmpMinMoleculeIndex,
+                tmpMaxMoleculeIndex
+            );
+            // </editor-fold>
         } catch (Exception anException) {
             // Note: Exception may be thrown since graphical particle positions 
             // can be still in write process thus
@@ -5594,123 +5299,32 @@ public class JobUtilityMethods {
         }
         // </editor-fold>
         try {
-            // <editor-fold defaultstate="collapsed" desc="Local variables">
-            String tmpParticle;
-            int tmpNumberOfParticlePositions;
-            double tmpX;
-            double tmpY;
-            double tmpZ;
-            double tmpXinDpd;
-            double tmpYinDpd;
-            double tmpZinDpd;
+            // <editor-fold defaultstate="collapsed" desc="Read frame">
+            // NOTE: Binary step file is used if available, frame is shared by step frame cache (read-only)
+            ParticlePositionFrame tmpFrame = StepFrameCache.getInstance().getFrame(aJobResultParticlePositionsFilePathname);
+            if (tmpFrame == null) {
+                ModelUtils.appendToLogfile(true, "JobUtilityMethods.readParticlePositions: Frame could not be read from " + aJobResultParticlePositionsFilePathname);
+                return null;
+            }
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Set necessary variables">
-            double tmpBoxLengthX = this.getSimulationBoxLengthX(aJobInputValueItemContainer);
-            double tmpBoxLengthY = this.getSimulationBoxLengthY(aJobInputValueItemContainer);
-            double tmpBoxLengthZ = this.getSimulationBoxLengthZ(aJobInputValueItemContainer);
             double tmpLengthConversionFactor = this.getLengthConversionFactorFromDpdToPhysicalLength(aJobInputValueItemContainer);
             // O(100) is reasonable capacity
             HashMap<String, LinkedList<PointInSpace>> tmpParticleToPositionsMap = 
                 new HashMap<String, LinkedList<PointInSpace>>(100);
             LinkedList<PointInSpace> tmpPositionsList;
             // </editor-fold>
-            // <editor-fold defaultstate="collapsed" desc="Read particle positions">
-            BufferedReader tmpBufferedReader = null;
-            try {
-                String tmpLine;
-                if (!(new File(aJobResultParticlePositionsFilePathname)).isFile()) {
-                    return null;
-                }
-                tmpBufferedReader = 
-                    new BufferedReader(
-                        new InputStreamReader(
-                            new GZIPInputStream(
-                                new FileInputStream(aJobResultParticlePositionsFilePathname), 
-                                ModelDefinitions.BUFFER_SIZE
-                            )
-                        )
-                    );
-                tmpLine = tmpBufferedReader.readLine();
-                if (tmpLine.equals("Version 1.0.0")) {
-                    // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
-                    // Ignore total number of particles in simulation
-                    tmpBufferedReader.readLine();
-                    while (true) {
-                        // <editor-fold defaultstate="collapsed" desc="Molecule">
-                        String tmpMoleculeName = tmpBufferedReader.readLine();
-                        if (tmpMoleculeName == null) {
-                            break;
-                        }
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Particle">
-                        tmpParticle = tmpBufferedReader.readLine();
-                        if (tmpParticleToPositionsMap.containsKey(tmpParticle)) {
-                            tmpPositionsList = tmpParticleToPositionsMap.get(tmpParticle);
-                        } else {
-                            tmpPositionsList = new LinkedList<PointInSpace>();
-                            tmpParticleToPositionsMap.put(tmpParticle, tmpPositionsList);
-                        }
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Number of positions">
-                        tmpNumberOfParticlePositions = Integer.valueOf(tmpBufferedReader.readLine());
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Read particle positions">
-                        for (int k = 0; k < tmpNumberOfParticlePositions; k++) {
-                            tmpXinDpd = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpXinDpd < 0.0) {
-                                tmpXinDpd = 0.0;
-                            }
-                            if (tmpXinDpd > tmpBoxLengthX) {
-                                tmpXinDpd = tmpBoxLengthX;
-                            }
-                            tmpX = tmpXinDpd * tmpLengthConversionFactor;                            
-
-                            tmpYinDpd = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpYinDpd < 0.0) {
-                                tmpYinDpd = 0.0;
-                            }
-                            if (tmpYinDpd > tmpBoxLengthY) {
-                                tmpYinDpd = tmpBoxLengthY;
-                            }
-                            tmpY = tmpYinDpd * tmpLengthConversionFactor;                            
-
-                            tmpZinDpd = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpZinDpd < 0.0) {
-                                tmpZinDpd = 0.0;
-                            }
-                            if (tmpZinDpd > tmpBoxLengthZ) {
-                                tmpZinDpd = tmpBoxLengthZ;
-                            }
-                            tmpZ = tmpZinDpd * tmpLengthConversionFactor;                            
-
-                            tmpPositionsList.add(new PointInSpace(tmpX, tmpY, tmpZ));
-                            
-                            // Ignore particle index
-                            tmpBufferedReader.readLine();
-                            // Ignore molecule index
-                            tmpBufferedReader.readLine();
-                        }
-                        // </editor-fold>
-                    }
-                    // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Fill particle positions">
+            int tmpIndex = 0;
+            for (int i = 0; i < tmpFrame.getNumberOfBlocks(); i++) {
+                String tmpParticle = tmpFrame.getBlockParticleNames()[i];
+                if (tmpParticleToPositionsMap.containsKey(tmpParticle)) {
+                    tmpPositionsList = tmpParticleToPositionsMap.get(tmpParticle);
                 } else {
-                    // <editor-fold defaultstate="collapsed" desc="Unknown version">
-                    return null;
-
-                    // </editor-fold>
-                }
-            } catch (Exception anException) {
-                ModelUtils.appendToLogfile(true, anException);
-                return null;
-            } finally {
-                if (tmpBufferedReader != null) {
-                    try {
-                        tmpBufferedReader.close();
-                    } catch (IOException anException) {
-                        ModelUtils.appendToLogfile(true, anException);
-                        return null;
-                    }
+                    tmpPositionsList = new LinkedList<PointInSpace>();
+                    tmpParticleToPositionsMap.put(tmpParticle, tmpPositionsList);
                 }
+                tmpIndex = this.addPositionsInAngstrom(tmpFrame, tmpIndex, tmpFrame.getBlockSizes()[i], tmpLengthConversionFactor, aJobInputValueItemContainer, tmpPositionsList);
             }
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Return particle positions">
@@ -5748,20 +5362,15 @@ public class JobUtilityMethods {
         }
         // </editor-fold>
         try {
-            // <editor-fold defaultstate="collapsed" desc="Local variables">
-            String tmpParticle;
-            int tmpNumberOfParticlePositions;
-            double tmpX;
-            double tmpY;
-            double tmpZ;
-            double tmpXinDpd;
-            double tmpYinDpd;
-            double tmpZinDpd;
+            // <editor-fold defaultstate="collapsed" desc="Read frame">
+            // NOTE: Binary step file is used if available, frame is shared by step frame cache (read-only)
+            ParticlePositionFrame tmpFrame = StepFrameCache.getInstance().getFrame(aJobResultParticlePositionsFilePathname);
+            if (tmpFrame == null) {
+                ModelUtils.appendToLogfile(true, "JobUtilityMethods.readMoleculeParticlePositions: Frame could not be read from " + aJobResultParticlePositionsFilePathname);
+                return null;
+            }
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Set necessary variables">
-            double tmpBoxLengthX = this.getSimulationBoxLengthX(aJobInputValueItemContainer);
-            double tmpBoxLengthY = this.getSimulationBoxLengthY(aJobInputValueItemContainer);
-            double tmpBoxLengthZ = this.getSimulationBoxLengthZ(aJobInputValueItemContainer);
             double tmpLengthConversionFactor = 
                 this.getLengthConversionFactorFromDpdToPhysicalLength(aJobInputValueItemContainer);
             // O(100) is reasonable capacity
@@ -5769,103 +5378,18 @@ public class JobUtilityMethods {
                 new HashMap<String, LinkedList<PointInSpace>>(100);
             LinkedList<PointInSpace> tmpPositionsList;
             // </editor-fold>
-            // <editor-fold defaultstate="collapsed" desc="Read molecule-particle positions">
-            BufferedReader tmpBufferedReader = null;
-            try {
-                String tmpLine;
-                if (!(new File(aJobResultParticlePositionsFilePathname)).isFile()) {
-                    return null;
-                }
-                tmpBufferedReader = 
-                    new BufferedReader(
-                        new InputStreamReader(
-                            new GZIPInputStream(
-                                new FileInputStream(aJobResultParticlePositionsFilePathname), 
-                                ModelDefinitions.BUFFER_SIZE
-                            )
-                        )
-                    );
-                tmpLine = tmpBufferedReader.readLine();
-                if (tmpLine.equals("Version 1.0.0")) {
-                    // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
-                    // Ignore total number of particles in simulation
-                    tmpBufferedReader.readLine();
-                    while (true) {
-                        // <editor-fold defaultstate="collapsed" desc="Molecule">
-                        String tmpMoleculeName = tmpBufferedReader.readLine();
-                        if (tmpMoleculeName == null) {
-                            break;
-                        }
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Particle">
-                        tmpParticle = tmpBufferedReader.readLine();
-                        String tmpMoleculeParticle = tmpMoleculeName + SpicesConstants.PARTICLE_SEPARATOR + tmpParticle;
-                        if (tmpMoleculeParticleToPositionsMap.containsKey(tmpMoleculeParticle)) {
-                            tmpPositionsList = tmpMoleculeParticleToPositionsMap.get(tmpMoleculeParticle);
-                        } else {
-                            tmpPositionsList = new LinkedList<PointInSpace>();
-                            tmpMoleculeParticleToPositionsMap.put(tmpMoleculeParticle, tmpPositionsList);
-                        }
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Number of positions">
-                        tmpNumberOfParticlePositions = Integer.valueOf(tmpBufferedReader.readLine());
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Read particle positions">
-                        for (int k = 0; k < tmpNumberOfParticlePositions; k++) {
-                            tmpXinDpd = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpXinDpd < 0.0) {
-                                tmpXinDpd = 0.0;
-                            }
-                            if (tmpXinDpd > tmpBoxLengthX) {
-                                tmpXinDpd = tmpBoxLengthX;
-                            }
-                            tmpX = tmpXinDpd * tmpLengthConversionFactor;                            
-
-                            tmpYinDpd = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpYinDpd < 0.0) {
-                                tmpYinDpd = 0.0;
-                            }
-                            if (tmpYinDpd > tmpBoxLengthY) {
-                                tmpYinDpd = tmpBoxLengthY;
-                            }
-                            tmpY = tmpYinDpd * tmpLengthConversionFactor;                            
-
-                            tmpZinDpd = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpZinDpd < 0.0) {
-                                tmpZinDpd = 0.0;
-                            }
-                            if (tmpZinDpd > tmpBoxLengthZ) {
-                                tmpZinDpd = tmpBoxLengthZ;
-                            }
-                            tmpZ = tmpZinDpd * tmpLengthConversionFactor;                            
-
-                            tmpPositionsList.add(new PointInSpace(tmpX, tmpY, tmpZ));
-                            
-                            // Ignore particle index
-                            tmpBufferedReader.readLine();
-                            // Ignore molecule index
-                            tmpBufferedReader.readLine();
-                        }
-                        // </editor-fold>
-                    }
-                    // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Fill molecule-particle positions">
+            int tmpIndex = 0;
+            for (int i = 0; i < tmpFrame.getNumberOfBlocks(); i++) {
+                String tmpMoleculeParticle = 
+                    tmpFrame.getBlockMoleculeNames()[i] + SpicesConstants.PARTICLE_SEPARATOR + tmpFrame.getBlockParticleNames()[i];
+                if (tmpMoleculeParticleToPositionsMap.containsKey(tmpMoleculeParticle)) {
+                    tmpPositionsList = tmpMoleculeParticleToPositionsMap.get(tmpMoleculeParticle);
                 } else {
-                    // <editor-fold defaultstate="collapsed" desc="Unknown version">
-                    return null;
-                    // </editor-fold>
-                }
-            } catch (Exception anException) {
-                ModelUtils.appendToLogfile(true, anException);
-                return null;
-            } finally {
-                if (tmpBufferedReader != null) {
-                    try {
-                        tmpBufferedReader.close();
-                    } catch (IOException anException) {
-                        ModelUtils.appendToLogfile(true, anException);
-                        return null;
-                    }
+                    tmpPositionsList = new LinkedList<PointInSpace>();
+                    tmpMoleculeParticleToPositionsMap.put(tmpMoleculeParticle, tmpPositionsList);
                 }
+                tmpIndex = this.addPositionsInAngstrom(tmpFrame, tmpIndex, tmpFrame.getBlockSizes()[i], tmpLengthConversionFactor, aJobInputValueItemContainer, tmpPositionsList);
             }
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Return particle positions">
@@ -5906,15 +5430,13 @@ public class JobUtilityMethods {
         }
         // </editor-fold>
         try {
-            // <editor-fold defaultstate="collapsed" desc="Local variables">
-            String tmpParticle;
-            int tmpNumberOfParticlePositions;
-            double tmpX;
-            double tmpY;
-            double tmpZ;
-            double tmpXinDpd;
-            double tmpYinDpd;
-            double tmpZinDpd;
+            // <editor-fold defaultstate="collapsed" desc="Read frame">
+            // NOTE: Binary step file is used if available, frame is shared by step frame cache (read-only)
+            ParticlePositionFrame tmpFrame = StepFrameCache.getInstance().getFrame(aJobResultParticlePositionsFilePathname);
+            if (tmpFrame == null) {
+                ModelUtils.appendToLogfile(true, "JobUtilityMethods.readMoleculeCenterPositions: Frame could not be read from " + aJobResultParticlePositionsFilePathname);
+                return null;
+            }
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Set necessary variables">
             double tmpBoxLengthX = this.getSimulationBoxLengthX(aJobInputValueItemContainer);
@@ -5932,122 +5454,72 @@ public class JobUtilityMethods {
             for (int k = 0; k < tmpMoleculeCenters.length; k++) {
                 tmpMoleculeCenters[k] = new PointInSpace(0.0, 0.0, 0.0);
             }
+            double[] tmpXs = tmpFrame.getX();
+            double[] tmpYs = tmpFrame.getY();
+            double[] tmpZs = tmpFrame.getZ();
+            int[] tmpMoleculeIndices = tmpFrame.getMoleculeIndices();
             // </editor-fold>
-            // <editor-fold defaultstate="collapsed" desc="Read particle positions">
-            BufferedReader tmpBufferedReader = null;
-            try {
-                String tmpLine;
-                if (!(new File(aJobResultParticlePositionsFilePathname)).isFile()) {
-                    return null;
-                }
-                tmpBufferedReader = 
-                    new BufferedReader(
-                        new InputStreamReader(
-                            new GZIPInputStream(
-                                new FileInputStream(aJobResultParticlePositionsFilePathname), 
-                                ModelDefinitions.BUFFER_SIZE
-                            )
-                        )
-                    );
-                tmpLine = tmpBufferedReader.readLine();
-                if (tmpLine.equals("Version 1.0.0")) {
-                    // <editor-fold defaultstate="collapsed" desc="Version 1.0.0">
-                    // Ignore total number of particles in simulation
-                    tmpBufferedReader.readLine();
-                    while (true) {
-                        // <editor-fold defaultstate="collapsed" desc="Molecule">
-                        String tmpMoleculeName = tmpBufferedReader.readLine();
-                        if (tmpMoleculeName == null) {
-                            break;
-                        }
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Particle">
-                        tmpParticle = tmpBufferedReader.readLine();
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Number of positions">
-                        tmpNumberOfParticlePositions = Integer.valueOf(tmpBufferedReader.readLine());
-                        // </editor-fold>
-                        // <editor-fold defaultstate="collapsed" desc="Read particle positions">
-                        for (int k = 0; k < tmpNumberOfParticlePositions; k++) {
-                            tmpXinDpd = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpXinDpd < 0.0) {
-                                tmpXinDpd = 0.0;
-                            }
-                            if (tmpXinDpd > tmpBoxLengthX) {
-                                tmpXinDpd = tmpBoxLengthX;
-                            }
-                            tmpX = tmpXinDpd * tmpLengthConversionFactor;                            
-
-                            tmpYinDpd = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpYinDpd < 0.0) {
-                                tmpYinDpd = 0.0;
-                            }
-                            if (tmpYinDpd > tmpBoxLengthY) {
-                                tmpYinDpd = tmpBoxLengthY;
-                            }
-                            tmpY = tmpYinDpd * tmpLengthConversionFactor;                            
-
-                            tmpZinDpd = Double.valueOf(tmpBufferedReader.readLine());
-                            if (tmpZinDpd < 0.0) {
-                                tmpZinDpd = 0.0;
-                            }
-                            if (tmpZinDpd > tmpBoxLengthZ) {
-                                tmpZinDpd = tmpBoxLengthZ;
-                            }
-                            tmpZ = tmpZinDpd * tmpLengthConversionFactor;                            
-                            
-                            // Ignore particle index
-                            tmpBufferedReader.readLine();
-                            // Read molecule index
-                            int tmpMoleculeIndex = Integer.valueOf(tmpBufferedReader.readLine());
-
-                            tmpMoleculeCenters[tmpMoleculeIndex].add(tmpX, tmpY, tmpZ);
-                            tmpMoleculeNames[tmpMoleculeIndex] = tmpMoleculeName;
-                        }
-                        // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Sum particle positions of molecules">
+            int tmpIndex = 0;
+            for (int i = 0; i < tmpFrame.getNumberOfBlocks(); i++) {
+                String tmpMoleculeName = tmpFrame.getBlockMoleculeNames()[i];
+                for (int k = 0; k < tmpFrame.getBlockSizes()[i]; k++) {
+                    double tmpXinDpd = tmpXs[tmpIndex];
+                    if (tmpXinDpd < 0.0) {
+                        tmpXinDpd = 0.0;
                     }
-                    // O(100) is reasonable capacity
-                    HashMap<String, Integer> tmpMoleculeNameToParticleCountMap = new HashMap<>(100);
-                    LinkedList<PointInSpace> tmpMoleculeCenterList = null;
-                    int tmpNumberOfParticlesPerMolecule = -1;
-                    for (int k = 0; k < tmpMoleculeNames.length; k++) {
-                        if (tmpMoleculeCenterToPositionsMap.containsKey(tmpMoleculeNames[k])) {
-                            tmpMoleculeCenterList = tmpMoleculeCenterToPositionsMap.get(tmpMoleculeNames[k]);
-                        } else {
-                            tmpMoleculeCenterList = new LinkedList<>();
-                            tmpMoleculeCenterToPositionsMap.put(tmpMoleculeNames[k], tmpMoleculeCenterList);
-                        }
-                        if (tmpMoleculeNameToParticleCountMap.containsKey(tmpMoleculeNames[k])) {
-                            tmpNumberOfParticlesPerMolecule = tmpMoleculeNameToParticleCountMap.get(tmpMoleculeNames[k]);
-                        } else {
-                            tmpNumberOfParticlesPerMolecule = 
-                                this.getNumberOfParticlesPerMolecule(
-                                    tmpMoleculeNames[k], 
-                                    aJobInputValueItemContainer
-                                );
-                            tmpMoleculeNameToParticleCountMap.put(tmpMoleculeNames[k], tmpNumberOfParticlesPerMolecule);
-                        }
-                        tmpMoleculeCenters[k].divide((double) tmpNumberOfParticlesPerMolecule);
-                        tmpMoleculeCenterList.add(tmpMoleculeCenters[k]);
+                    if (tmpXinDpd > tmpBoxLengthX) {
+                        tmpXinDpd = tmpBoxLengthX;
                     }
-                    // </editor-fold>
+                    double tmpYinDpd = tmpYs[tmpIndex];
+                    if (tmpYinDpd < 0.0) {
+                        tmpYinDpd = 0.0;
+                    }
+                    if (tmpYinDpd > tmpBoxLengthY) {
+                        tmpYinDpd = tmpBoxLengthY;
+                    }
+                    double tmpZinDpd = tmpZs[tmpIndex];
+                    if (tmpZinDpd < 0.0) {
+                        tmpZinDpd = 0.0;
+                    }
+                    if (tmpZinDpd > tmpBoxLengthZ) {
+                        tmpZinDpd = tmpBoxLengthZ;
+                    }
+                    int tmpMoleculeIndex = tmpMoleculeIndices[tmpIndex];
+                    tmpMoleculeCenters[tmpMoleculeIndex].add(
+                        tmpXinDpd * tmpLengthConversionFactor, 
+                        tmpYinDpd * tmpLengthConversionFactor, 
+                        tmpZinDpd * tmpLengthConversionFactor
+                    );
+                    tmpMoleculeNames[tmpMoleculeIndex] = tmpMoleculeName;
+                    tmpIndex++;
+                }
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Average molecule centers">
+            // O(100) is reasonable capacity
+            HashMap<String, Integer> tmpMoleculeNameToParticleCountMap = new HashMap<>(100);
+            LinkedList<PointInSpace> tmpMoleculeCenterList = null;
+            int tmpNumberOfParticlesPerMolecule = -1;
+            for (int k = 0; k < tmpMoleculeNames.length; k++) {
+                if (tmpMoleculeCenterToPositionsMap.containsKey(tmpMoleculeNames[k])) {
+                    tmpMoleculeCenterList = tmpMoleculeCenterToPositionsMap.get(tmpMoleculeNames[k]);
                 } else {
-                    // <editor-fold defaultstate="collapsed" desc="Unknown version">
-                    return null;
-                    // </editor-fold>
+                    tmpMoleculeCenterList = new LinkedList<>();
+                    tmpMoleculeCenterToPositionsMap.put(tmpMoleculeNames[k], tmpMoleculeCenterList);
                 }
-            } catch (Exception anException) {
-                ModelUtils.appendToLogfile(true, anException);
-                return null;
-            } finally {
-                if (tmpBufferedReader != null) {
-                    try {
-                        tmpBufferedReader.close();
-                    } catch (IOException anException) {
-                        ModelUtils.appendToLogfile(true, anException);
-                        return null;
-                    }
+                if (tmpMoleculeNameToParticleCountMap.containsKey(tmpMoleculeNames[k])) {
+                    tmpNumberOfParticlesPerMolecule = tmpMoleculeNameToParticleCountMap.get(tmpMoleculeNames[k]);
+                } else {
+                    tmpNumberOfParticlesPerMolecule = 
+                        this.getNumberOfParticlesPerMolecule(
+                            tmpMoleculeNames[k], 
+                            aJobInputValueItemContainer
+                        );
+                    tmpMoleculeNameToParticleCountMap.put(tmpMoleculeNames[k], tmpNumberOfParticlesPerMolecule);
                 }
+                tmpMoleculeCenters[k].divide((double) tmpNumberOfParticlesPerMolecule);
+                tmpMoleculeCenterList.add(tmpMoleculeCenters[k]);
             }
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Return molecule center positions">
@@ -6058,6 +5530,68 @@ public class JobUtilityMethods {
             return null;
         }
     }
+
+    /**
+     * Adds positions of frame (corrected to box boundaries and converted to 
+     * Angstrom) to positions list
+     *
+     * @param aFrame Frame
+     * @param aStartIndex Start index of positions in frame
+     * @param aNumberOfPositions Number of positions to be added
+     * @param aLengthConversionFactor Length conversion factor from DPD to 
+     * physical length
+     * @param aJobInputValueItemContainer Value item container of corresponding
+     * Job Input
+     * @param aPositionsList Positions list to be filled
+     * @return Index of next position in frame
+     */
+    private int addPositionsInAngstrom(
+        ParticlePositionFrame aFrame, 
+        int aStartIndex, 
+        int aNumberOfPositions, 
+        double aLengthConversionFactor,
+        ValueItemContainer aJobInputValueItemContainer,
+        LinkedList<PointInSpace> aPositionsList
+    ) {
+        double tmpBoxLengthX = this.getSimulationBoxLengthX(aJobInputValueItemContainer);
+        double tmpBoxLengthY = this.getSimulationBoxLengthY(aJobInputValueItemContainer);
+        double tmpBoxLengthZ = this.getSimulationBoxLengthZ(aJobInputValueItemContainer);
+        double[] tmpXs = aFrame.getX();
+        double[] tmpYs = aFrame.getY();
+        double[] tmpZs = aFrame.getZ();
+        int tmpEndIndex = aStartIndex + aNumberOfPositions;
+        for (int i = aStartIndex; i < tmpEndIndex; i++) {
+            double tmpXinDpd = tmpXs[i];
+            if (tmpXinDpd < 0.0) {
+                tmpXinDpd = 0.0;
+            }
+            if (tmpXinDpd > tmpBoxLengthX) {
+                tmpXinDpd = tmpBoxLengthX;
+            }
+            double tmpYinDpd = tmpYs[i];
+            if (tmpYinDpd < 0.0) {
+                tmpYinDpd = 0.0;
+            }
+            if (tmpYinDpd > tmpBoxLengthY) {
+                tmpYinDpd = tmpBoxLengthY;
+            }
+            double tmpZinDpd = tmpZs[i];
+            if (tmpZinDpd < 0.0) {
+                tmpZinDpd = 0.0;
+            }
+            if (tmpZinDpd > tmpBoxLengthZ) {
+                tmpZinDpd = tmpBoxLengthZ;
+            }
+            aPositionsList.add(
+                new PointInSpace(
+                    tmpXinDpd * aLengthConversionFactor, 
+                    tmpYinDpd * aLengthConversionFactor, 
+                    tmpZinDpd * aLengthConversionFactor
+                )
+            );
+        }
+        return tmpEndIndex;
+    }
     // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="- Jdpd input file related methods">
     /**
@@ -6121,6 +5655,25 @@ public class JobUtilityMethods {
      * @return True: Operation successful, false: Otherwise
      */
     private boolean writeJdpdPositionsBondsFile(ValueItemContainer aJobInputValueItemContainer, String aMoleculeName, String aJdpdPositionsBondsFilePathname) {
+        return this.writeJdpdPositionsBondsFile(aJobInputValueItemContainer, aMoleculeName, aJdpdPositionsBondsFilePathname, false);
+    }
+
+    /**
+     * Writes Jdpd positions and bonds file. A molecule file contains
+     * the x,y,z positions of all particles of this molecule type based on
+     * bulk/compartments.
+     *
+     * @param aJobInputValueItemContainer Job input value item container
+     * @param aMoleculeName Name of molecule
+     * @param aJdpdPositionsBondsFilePathname File pathname of the Jdpd 
+     * positions and bonds file (NOTE: Destination directory must
+     * already exist)
+     * @param anIsLineListMode True: All lines are collected before they are 
+     * written to file, false: Lines are streamed to file if no 
+     * post-processing is necessary
+     * @return True: Operation successful, false: Otherwise
+     */
+    boolean writeJdpdPositionsBondsFile(ValueItemContainer aJobInputValueItemContainer, String aMoleculeName, String aJdpdPositionsBondsFilePathname, boolean anIsLineListMode) {
         // <editor-fold defaultstate="collapsed" desc="Checks">
         if (aJobInputValueItemContainer == null) {
             ModelUtils.appendToLogfile(true, "UtilityJobMethods.writeJdpdPositionsBondsFile(): aJobInputValueItemContainer == null");
@@ -6169,10 +5722,19 @@ public class JobUtilityMethods {
         StringBuilder tmpBuffer = new StringBuilder(ModelDefinitions.BUFFER_SIZE_TINY);
         String tmpOneSpace = " ";
         // </editor-fold>
-        PrintWriter tmpPrintWriter = null;
+        JdpdPositionsBondsWriter tmpJdpdPositionsBondsWriter = null;
         try {
-            // <editor-fold defaultstate="collapsed" desc="Initialize tmpOutputLineList">
-            LinkedList<String> tmpOutputLineList = new LinkedList<>();
+            // <editor-fold defaultstate="collapsed" desc="Initialize tmpJdpdPositionsBondsWriter">
+            // NOTE: Protein backbone force post-processing requires all lines, i.e. lines are only streamed to file without it
+            int tmpNumberOfThreads = Math.max(1, Runtime.getRuntime().availableProcessors());
+            tmpJdpdPositionsBondsWriter = 
+                new JdpdPositionsBondsWriter(
+                    aJdpdPositionsBondsFilePathname, 
+                    anIsLineListMode || this.isJdpdPositionsBondsPostProcessing(aJobInputValueItemContainer, tmpCompartmentContainer, aMoleculeName), 
+                    tmpNumberOfThreads, 
+                    ModelDefinitions.JDPD_POSITIONS_BONDS_NUMBER_OF_PARTICLES_PER_CHUNK, 
+                    ModelDefinitions.JDPD_POSITIONS_BONDS_MAXIMUM_NUMBER_OF_PENDING_CHUNKS_PER_THREAD * tmpNumberOfThreads
+                );
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Set particle radius and bond length">
             ValueItem tmpDensityInfoValueItem = tmpCompartmentContainer.getDensityInfoValueItem();
@@ -6195,9 +5757,9 @@ public class JobUtilityMethods {
             }
             int tmpTotalNumberOfParticlesOfMoleculeInSimulation = this.getTotalNumberOfParticlesOfMoleculeInSimulation(tmpMoleculeInfoValueItem, aMoleculeName);
             int tmpNumberOfParticlesPerMolecule = this.getNumberOfParticlesPerMolecule(tmpMoleculeInfoValueItem, aMoleculeName);
-            tmpOutputLineList.add(tmpLineVisualizerLarge);
-            tmpOutputLineList.add("TotalMoleculeParticleNumber " + String.valueOf(tmpTotalNumberOfParticlesOfMoleculeInSimulation));
-            tmpOutputLineList.add("SingleMoleculeParticleNumber " + String.valueOf(tmpNumberOfParticlesPerMolecule));
+            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+            tmpJdpdPositionsBondsWriter.addLine("TotalMoleculeParticleNumber " + String.valueOf(tmpTotalNumberOfParticlesOfMoleculeInSimulation));
+            tmpJdpdPositionsBondsWriter.addLine("SingleMoleculeParticleNumber " + String.valueOf(tmpNumberOfParticlesPerMolecule));
             int tmpLineNumber = 1;
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Write coordinates of molecules in compartments">
@@ -6254,15 +5816,15 @@ public class JobUtilityMethods {
                                                 return false;
                                             }
                                             // <editor-fold defaultstate="collapsed" desc="Write comment in file">
-                                            tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                            tmpOutputLineList.add("# Compartment Sphere with Proteins");
-                                            tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                            tmpOutputLineList.add("# Compartment Sphere Protein Information:");
-                                            tmpOutputLineList.add("# Protein Name              = " + tmpMoleculeName);
-                                            tmpOutputLineList.add("# Particles per Protein     = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
-                                            tmpOutputLineList.add("# Quantity in Volume        = " + String.valueOf(tmpQuantityInVolume));
-                                            tmpOutputLineList.add("# Quantity on Surface       = " + String.valueOf(tmpQuantityOnSurface));
-                                            tmpOutputLineList.add(tmpLineVisualizerSmall);
+                                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                            tmpJdpdPositionsBondsWriter.addLine("# Compartment Sphere with Proteins");
+                                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                            tmpJdpdPositionsBondsWriter.addLine("# Compartment Sphere Protein Information:");
+                                            tmpJdpdPositionsBondsWriter.addLine("# Protein Name              = " + tmpMoleculeName);
+                                            tmpJdpdPositionsBondsWriter.addLine("# Particles per Protein     = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
+                                            tmpJdpdPositionsBondsWriter.addLine("# Quantity in Volume        = " + String.valueOf(tmpQuantityInVolume));
+                                            tmpJdpdPositionsBondsWriter.addLine("# Quantity on Surface       = " + String.valueOf(tmpQuantityOnSurface));
+                                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
                                             // </editor-fold>
                                             // Amino acids MUST already be initialized
                                             // Initialize tmpPdbToDpd
@@ -6287,10 +5849,10 @@ public class JobUtilityMethods {
                                                 int tmpFirstCalphaIndex = 1;
                                                 String[] tmpProteinParticlesConnectionTableArray = tmpPdbToDpd.getCoordinateConnectionTableArray(tmpLineNumber, tmpFirstCalphaIndex);
                                                 for (String tmpLine : tmpProteinParticlesConnectionTableArray) {
-                                                    tmpOutputLineList.add(tmpLine);
+                                                    tmpJdpdPositionsBondsWriter.addLine(tmpLine);
                                                 }
                                                 // Write separator after molecule
-                                                tmpOutputLineList.add(tmpLineVisualizerSmall);
+                                                tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
                                                 tmpLineNumber = tmpPdbToDpd.getLastUsedIndex() + 1;
                                                 // </editor-fold>
                                             } else {
@@ -6317,10 +5879,10 @@ public class JobUtilityMethods {
                                                     }
                                                     String[] tmpProteinParticlesConnectionTableArray = tmpPdbToDpd.getCoordinateConnectionTableArray(tmpLineNumber, tmpFirstCalphaIndex);
                                                     for (String tmpLine : tmpProteinParticlesConnectionTableArray) {
-                                                        tmpOutputLineList.add(tmpLine);
+                                                        tmpJdpdPositionsBondsWriter.addLine(tmpLine);
                                                     }
                                                     // Write separator after molecule
-                                                    tmpOutputLineList.add(tmpLineVisualizerSmall);
+                                                    tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
                                                     tmpLineNumber = tmpPdbToDpd.getLastUsedIndex() + 1;
                                                 }
                                                 // </editor-fold>
@@ -6330,18 +5892,18 @@ public class JobUtilityMethods {
                                         } else {
                                             // <editor-fold defaultstate="collapsed" desc="No protein data are used">
                                             // <editor-fold defaultstate="collapsed" desc="Write comment in file">
-                                            tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                            tmpOutputLineList.add("# Compartment Sphere");
-                                            tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                            tmpOutputLineList.add("# Compartment Sphere Molecule Information:");
-                                            tmpOutputLineList.add("# Molecule Name             = " + tmpMoleculeName);
+                                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                            tmpJdpdPositionsBondsWriter.addLine("# Compartment Sphere");
+                                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                            tmpJdpdPositionsBondsWriter.addLine("# Compartment Sphere Molecule Information:");
+                                            tmpJdpdPositionsBondsWriter.addLine("# Molecule Name             = " + tmpMoleculeName);
                                             // Old code:
                                             // tmpOutputLineList.add("# Molecular Structure       = " + this.whitespacePattern.matcher(tmpMolecularStructureString).replaceAll(""));
-                                            tmpOutputLineList.add("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
-                                            tmpOutputLineList.add("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
-                                            tmpOutputLineList.add("# Quantity in Volume        = " + String.valueOf(tmpQuantityInVolume));
-                                            tmpOutputLineList.add("# Quantity on Surface       = " + String.valueOf(tmpQuantityOnSurface));
-                                            tmpOutputLineList.add(tmpLineVisualizerSmall);
+                                            tmpJdpdPositionsBondsWriter.addLine("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
+                                            tmpJdpdPositionsBondsWriter.addLine("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
+                                            tmpJdpdPositionsBondsWriter.addLine("# Quantity in Volume        = " + String.valueOf(tmpQuantityInVolume));
+                                            tmpJdpdPositionsBondsWriter.addLine("# Quantity on Surface       = " + String.valueOf(tmpQuantityOnSurface));
+                                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
                                             // </editor-fold>
                                             PointInSpace[] tmpFirstParticleCoordinates = new PointInSpace[tmpQuantityInVolume + tmpQuantityOnSurface];
                                             PointInSpace[] tmpLastParticleCoordinates = new PointInSpace[tmpQuantityInVolume + tmpQuantityOnSurface];
@@ -6395,40 +5957,15 @@ public class JobUtilityMethods {
                                                     Arrays.fill(tmpLastParticleCoordinates, tmpQuantityInVolume, tmpQuantityInVolume + tmpQuantityOnSurface, tmpCenterOfSphere);
                                                 }
                                             }
-                                            SpicesGraphics tmpSpices = SpicesPool.getInstance().getSpices(tmpMolecularStructureString);
-                                            tmpSpices.setCoordinates(tmpLineNumber, tmpFirstParticleCoordinates, tmpLastParticleCoordinates, tmpBondLength);
-                                            String[][] tmpParticlePositionsAndConnections = tmpSpices.getParticlePositionsAndConnections();
-                                            tmpSpices.destroySpicesMatrix();
-                                            SpicesPool.getInstance().setSpicesForReuse(tmpSpices);
-                                            int tmpParticleCounter = 0;
-                                            for (int j = 0; j < tmpParticlePositionsAndConnections.length; j++) {
-                                                tmpBuffer.delete(0, tmpBuffer.length());
-                                                tmpBuffer.append(tmpParticlePositionsAndConnections[j][0]); // Line_number
-                                                tmpBuffer.append(tmpOneSpace);
-                                                tmpBuffer.append(tmpParticlePositionsAndConnections[j][1]); // Particle
-                                                // Add particle index for inner molecule potentials: Index 0 (zero) means no index potential
-                                                tmpBuffer.append(tmpOneSpace);
-                                                tmpBuffer.append(tmpParticlePositionsAndConnections[j][2]); // Particle_Index
-                                                for (int k = 3; k < 6; k++) {
-                                                    // Coordinates
-                                                    tmpBuffer.append(tmpOneSpace);
-                                                    tmpBuffer.append(this.stringUtilityMethods.formatDoubleValue(tmpParticlePositionsAndConnections[j][k], ModelDefinitions.NUMBER_OF_DECIMALS_FOR_GRAPHICS_COORDINATES));
-                                                }
-                                                for (int k = 6; k < tmpParticlePositionsAndConnections[j].length; k++) {
-                                                    // Bonding
-                                                    tmpBuffer.append(tmpOneSpace);
-                                                    tmpBuffer.append(tmpParticlePositionsAndConnections[j][k]);
-                                                }
-                                                // Write single particle information
-                                                tmpOutputLineList.add(tmpBuffer.toString());
-                                                tmpParticleCounter++;
-                                                if (tmpParticleCounter == tmpNumberOfParticlesPerMolecule) {
-                                                    // Write GENERAL_SEPARATOR after molecule
-                                                    tmpOutputLineList.add(tmpLineVisualizerSmall);
-                                                    tmpParticleCounter = 0;
-                                                }
-                                            }
-                                            tmpLineNumber += tmpParticlePositionsAndConnections.length;
+                                            tmpLineNumber += 
+                                                tmpJdpdPositionsBondsWriter.addParticleBlock(
+                                                    tmpMolecularStructureString, 
+                                                    tmpFirstParticleCoordinates, 
+                                                    tmpLastParticleCoordinates, 
+                                                    tmpLineNumber, 
+                                                    tmpBondLength, 
+                                                    tmpNumberOfParticlesPerMolecule
+                                                );
                                             // </editor-fold>
                                         }
                                     }
@@ -6486,59 +6023,33 @@ public class JobUtilityMethods {
                                         // <editor-fold defaultstate="collapsed" desc="Lattice positions in xy-layer">
                                         if (tmpQuantityInVolume > 0 || tmpQuantityOnSurface > 0) {
                                             // <editor-fold defaultstate="collapsed" desc="Write comment in file">
-                                            tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                            tmpOutputLineList.add("# Compartment xy-Layer");
-                                            tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                            tmpOutputLineList.add("# Compartment xy-Layer Molecule Information:");
-                                            tmpOutputLineList.add("# Molecule Name             = " + tmpMoleculeName);
+                                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                            tmpJdpdPositionsBondsWriter.addLine("# Compartment xy-Layer");
+                                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                            tmpJdpdPositionsBondsWriter.addLine("# Compartment xy-Layer Molecule Information:");
+                                            tmpJdpdPositionsBondsWriter.addLine("# Molecule Name             = " + tmpMoleculeName);
                                             // Old code:
                                             // tmpOutputLineList.add("# Molecular Structure       = " + this.whitespacePattern.matcher(tmpMolecularStructureString).replaceAll(""));
-                                            tmpOutputLineList.add("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
-                                            tmpOutputLineList.add("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
-                                            tmpOutputLineList.add("# Quantity in Volume        = " + String.valueOf(tmpQuantityInVolume));
-                                            tmpOutputLineList.add("# Quantity on Surface       = " + String.valueOf(tmpQuantityOnSurface));
-                                            tmpOutputLineList.add("# Orientation               = " + tmpChemicalCompositionValueItem.getValue(i, 7));
-                                            tmpOutputLineList.add(tmpLineVisualizerSmall);
+                                            tmpJdpdPositionsBondsWriter.addLine("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
+                                            tmpJdpdPositionsBondsWriter.addLine("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
+                                            tmpJdpdPositionsBondsWriter.addLine("# Quantity in Volume        = " + String.valueOf(tmpQuantityInVolume));
+                                            tmpJdpdPositionsBondsWriter.addLine("# Quantity on Surface       = " + String.valueOf(tmpQuantityOnSurface));
+                                            tmpJdpdPositionsBondsWriter.addLine("# Orientation               = " + tmpChemicalCompositionValueItem.getValue(i, 7));
+                                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
 
                                             // </editor-fold>
                                             PointInSpace[] tmpFirstParticleCoordinates = new PointInSpace[tmpQuantityInVolume + tmpQuantityOnSurface];
                                             tmpXyLayer.getSimpleCubicLatticePointsInBuffer(tmpFirstParticleCoordinates, tmpBondLength);
 
-                                            SpicesGraphics tmpSpices = SpicesPool.getInstance().getSpices(tmpMolecularStructureString);
-                                            tmpSpices.setCoordinates(tmpLineNumber, tmpFirstParticleCoordinates, tmpFirstParticleCoordinates, tmpBondLength);
-                                            String[][] tmpParticlePositionsAndConnections = tmpSpices.getParticlePositionsAndConnections();
-                                            tmpSpices.destroySpicesMatrix();
-                                            SpicesPool.getInstance().setSpicesForReuse(tmpSpices);
-
-                                            int tmpParticleCounter = 0;
-                                            for (int j = 0; j < tmpParticlePositionsAndConnections.length; j++) {
-                                                tmpBuffer.delete(0, tmpBuffer.length());
-                                                tmpBuffer.append(tmpParticlePositionsAndConnections[j][0]); // Line_number
-                                                tmpBuffer.append(tmpOneSpace);
-                                                tmpBuffer.append(tmpParticlePositionsAndConnections[j][1]); // Particle
-                                                // Add particle index for inner molecule potentials: Index 0 (zero) means no index potential
-                                                tmpBuffer.append(tmpOneSpace);
-                                                tmpBuffer.append(tmpParticlePositionsAndConnections[j][2]); // Particle_Index
-                                                for (int k = 3; k < 6; k++) {
-                                                    // Coordinates
-                                                    tmpBuffer.append(tmpOneSpace);
-                                                    tmpBuffer.append(this.stringUtilityMethods.formatDoubleValue(tmpParticlePositionsAndConnections[j][k], ModelDefinitions.NUMBER_OF_DECIMALS_FOR_GRAPHICS_COORDINATES));
-                                                }
-                                                for (int k = 6; k < tmpParticlePositionsAndConnections[j].length; k++) {
-                                                    // Bonding
-                                                    tmpBuffer.append(tmpOneSpace);
-                                                    tmpBuffer.append(tmpParticlePositionsAndConnections[j][k]);
-                                                }
-                                                // Write single particle information
-                                                tmpOutputLineList.add(tmpBuffer.toString());
-                                                tmpParticleCounter++;
-                                                if (tmpParticleCounter == tmpNumberOfParticlesPerMolecule) {
-                                                    // Write GENERAL_SEPARATOR after molecule
-                                                    tmpOutputLineList.add(tmpLineVisualizerSmall);
-                                                    tmpParticleCounter = 0;
-                                                }
-                                            }
-                                            tmpLineNumber += tmpParticlePositionsAndConnections.length;
+                                            tmpLineNumber += 
+                                                tmpJdpdPositionsBondsWriter.addParticleBlock(
+                                                    tmpMolecularStructureString, 
+                                                    tmpFirstParticleCoordinates, 
+                                                    tmpFirstParticleCoordinates, 
+                                                    tmpLineNumber, 
+                                                    tmpBondLength, 
+                                                    tmpNumberOfParticlesPerMolecule
+                                                );
                                         }
 
                                         // </editor-fold>
@@ -6552,19 +6063,19 @@ public class JobUtilityMethods {
                                                     return false;
                                                 }
                                                 // <editor-fold defaultstate="collapsed" desc="Write comment in file">
-                                                tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                                tmpOutputLineList.add("# Compartment xy-Layer with Molecules in excluded Spheres");
-                                                tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                                tmpOutputLineList.add("# Compartment xy-Layer Molecule Information:");
-                                                tmpOutputLineList.add("# Molecule Name             = " + tmpMoleculeName);
+                                                tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                                tmpJdpdPositionsBondsWriter.addLine("# Compartment xy-Layer with Molecules in excluded Spheres");
+                                                tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                                tmpJdpdPositionsBondsWriter.addLine("# Compartment xy-Layer Molecule Information:");
+                                                tmpJdpdPositionsBondsWriter.addLine("# Molecule Name             = " + tmpMoleculeName);
                                                 // Old code:
                                                 // tmpOutputLineList.add("# Molecular Structure       = " + this.whitespacePattern.matcher(tmpMolecularStructureString).replaceAll(""));
-                                                tmpOutputLineList.add("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
-                                                tmpOutputLineList.add("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
-                                                tmpOutputLineList.add("# Quantity in Volume        = " + String.valueOf(tmpQuantityInVolume));
-                                                tmpOutputLineList.add("# Quantity on Surface       = " + String.valueOf(tmpQuantityOnSurface));
-                                                tmpOutputLineList.add("# Orientation               = " + tmpChemicalCompositionValueItem.getValue(i, 7));
-                                                tmpOutputLineList.add(tmpLineVisualizerSmall);
+                                                tmpJdpdPositionsBondsWriter.addLine("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
+                                                tmpJdpdPositionsBondsWriter.addLine("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
+                                                tmpJdpdPositionsBondsWriter.addLine("# Quantity in Volume        = " + String.valueOf(tmpQuantityInVolume));
+                                                tmpJdpdPositionsBondsWriter.addLine("# Quantity on Surface       = " + String.valueOf(tmpQuantityOnSurface));
+                                                tmpJdpdPositionsBondsWriter.addLine("# Orientation               = " + tmpChemicalCompositionValueItem.getValue(i, 7));
+                                                tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
                                                 // </editor-fold>
                                                 // Amino acids MUST already be initialized
                                                 // Initialize tmpPdbToDpd
@@ -6600,10 +6111,10 @@ public class JobUtilityMethods {
                                                     }
                                                     String[] tmpProteinParticlesConnectionTableArray = tmpPdbToDpd.getCoordinateConnectionTableArray(tmpLineNumber, tmpFirstCalphaIndex);
                                                     for (String tmpLine : tmpProteinParticlesConnectionTableArray) {
-                                                        tmpOutputLineList.add(tmpLine);
+                                                        tmpJdpdPositionsBondsWriter.addLine(tmpLine);
                                                     }
                                                     // Write separator after molecule
-                                                    tmpOutputLineList.add(tmpLineVisualizerSmall);
+                                                    tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
                                                     tmpLineNumber = tmpPdbToDpd.getLastUsedIndex() + 1;
                                                 }
                                                 PdbToDpdPool.getInstance().setPdbToDpdForReuse(tmpPdbToDpd, tmpProteinData);
@@ -6611,19 +6122,19 @@ public class JobUtilityMethods {
                                             } else {
                                                 // <editor-fold defaultstate="collapsed" desc="No protein data">
                                                 // <editor-fold defaultstate="collapsed" desc="Write comment in file">
-                                                tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                                tmpOutputLineList.add("# Compartment xy-Layer");
-                                                tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                                tmpOutputLineList.add("# Compartment xy-Layer Molecule Information:");
-                                                tmpOutputLineList.add("# Molecule Name             = " + tmpMoleculeName);
+                                                tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                                tmpJdpdPositionsBondsWriter.addLine("# Compartment xy-Layer");
+                                                tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                                tmpJdpdPositionsBondsWriter.addLine("# Compartment xy-Layer Molecule Information:");
+                                                tmpJdpdPositionsBondsWriter.addLine("# Molecule Name             = " + tmpMoleculeName);
                                                 // Old code:
                                                 // tmpOutputLineList.add("# Molecular Structure       = " + this.whitespacePattern.matcher(tmpMolecularStructureString).replaceAll(""));
-                                                tmpOutputLineList.add("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
-                                                tmpOutputLineList.add("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
-                                                tmpOutputLineList.add("# Quantity in Volume        = " + String.valueOf(tmpQuantityInVolume));
-                                                tmpOutputLineList.add("# Quantity on Surface       = " + String.valueOf(tmpQuantityOnSurface));
-                                                tmpOutputLineList.add("# Orientation               = " + tmpChemicalCompositionValueItem.getValue(i, 7));
-                                                tmpOutputLineList.add(tmpLineVisualizerSmall);
+                                                tmpJdpdPositionsBondsWriter.addLine("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
+                                                tmpJdpdPositionsBondsWriter.addLine("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
+                                                tmpJdpdPositionsBondsWriter.addLine("# Quantity in Volume        = " + String.valueOf(tmpQuantityInVolume));
+                                                tmpJdpdPositionsBondsWriter.addLine("# Quantity on Surface       = " + String.valueOf(tmpQuantityOnSurface));
+                                                tmpJdpdPositionsBondsWriter.addLine("# Orientation               = " + tmpChemicalCompositionValueItem.getValue(i, 7));
+                                                tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
                                                 // </editor-fold>
                                                 PointInSpace[] tmpFirstParticleCoordinates = new PointInSpace[tmpQuantityInVolume + tmpQuantityOnSurface];
                                                 PointInSpace[] tmpLastParticleCoordinates = new PointInSpace[tmpQuantityInVolume + tmpQuantityOnSurface];
@@ -6736,41 +6247,15 @@ public class JobUtilityMethods {
                                                         // </editor-fold>
                                                     }
                                                 }
-                                                SpicesGraphics tmpSpices = SpicesPool.getInstance().getSpices(tmpMolecularStructureString);
-                                                tmpSpices.setCoordinates(tmpLineNumber, tmpFirstParticleCoordinates, tmpLastParticleCoordinates, tmpBondLength);
-                                                String[][] tmpParticlePositionsAndConnections = tmpSpices.getParticlePositionsAndConnections();
-                                                tmpSpices.destroySpicesMatrix();
-                                                SpicesPool.getInstance().setSpicesForReuse(tmpSpices);
-
-                                                int tmpParticleCounter = 0;
-                                                for (int j = 0; j < tmpParticlePositionsAndConnections.length; j++) {
-                                                    tmpBuffer.delete(0, tmpBuffer.length());
-                                                    tmpBuffer.append(tmpParticlePositionsAndConnections[j][0]); // Line_number
-                                                    tmpBuffer.append(tmpOneSpace);
-                                                    tmpBuffer.append(tmpParticlePositionsAndConnections[j][1]); // Particle
-                                                    // Add particle index for inner molecule potentials: Index 0 (zero) means no index potential
-                                                    tmpBuffer.append(tmpOneSpace);
-                                                    tmpBuffer.append(tmpParticlePositionsAndConnections[j][2]); // Particle_Index
-                                                    for (int k = 3; k < 6; k++) {
-                                                        // Coordinates
-                                                        tmpBuffer.append(tmpOneSpace);
-                                                        tmpBuffer.append(this.stringUtilityMethods.formatDoubleValue(tmpParticlePositionsAndConnections[j][k], ModelDefinitions.NUMBER_OF_DECIMALS_FOR_GRAPHICS_COORDINATES));
-                                                    }
-                                                    for (int k = 6; k < tmpParticlePositionsAndConnections[j].length; k++) {
-                                                        // Bonding
-                                                        tmpBuffer.append(tmpOneSpace);
-                                                        tmpBuffer.append(tmpParticlePositionsAndConnections[j][k]);
-                                                    }
-                                                    // Write single particle information
-                                                    tmpOutputLineList.add(tmpBuffer.toString());
-                                                    tmpParticleCounter++;
-                                                    if (tmpParticleCounter == tmpNumberOfParticlesPerMolecule) {
-                                                        // Write GENERAL_SEPARATOR after molecule
-                                                        tmpOutputLineList.add(tmpLineVisualizerSmall);
-                                                        tmpParticleCounter = 0;
-                                                    }
-                                                }
-                                                tmpLineNumber += tmpParticlePositionsAndConnections.length;
+                                                tmpLineNumber += 
+                                                    tmpJdpdPositionsBondsWriter.addParticleBlock(
+                                                        tmpMolecularStructureString, 
+                                                        tmpFirstParticleCoordinates, 
+                                                        tmpLastParticleCoordinates, 
+                                                        tmpLineNumber, 
+                                                        tmpBondLength, 
+                                                        tmpNumberOfParticlesPerMolecule
+                                                    );
                                                 // </editor-fold>
                                             }
                                         }
@@ -6826,18 +6311,18 @@ public class JobUtilityMethods {
                                 return false;
                             }
                             // <editor-fold defaultstate="collapsed" desc="Write comment in file">
-                            tmpOutputLineList.add(tmpLineVisualizerLarge);
-                            tmpOutputLineList.add("# Bulk with Molecules in excluded Spheres");
-                            tmpOutputLineList.add(tmpLineVisualizerLarge);
-                            tmpOutputLineList.add("# Bulk Molecule Information:");
-                            tmpOutputLineList.add("# Molecule Name             = " + tmpMoleculeName);
+                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                            tmpJdpdPositionsBondsWriter.addLine("# Bulk with Molecules in excluded Spheres");
+                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                            tmpJdpdPositionsBondsWriter.addLine("# Bulk Molecule Information:");
+                            tmpJdpdPositionsBondsWriter.addLine("# Molecule Name             = " + tmpMoleculeName);
                             // Old code:
                             // tmpOutputLineList.add("# Molecular Structure       = " + this.whitespacePattern.matcher(tmpMolecularStructureString).replaceAll(""));
-                            tmpOutputLineList.add("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
-                            tmpOutputLineList.add("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
-                            tmpOutputLineList.add("# Quantity in Volume        = " + String.valueOf(tmpQuantity));
-                            tmpOutputLineList.add("# Orientation               = " + tmpBulkInfoValueItem.getValue(i, 4));
-                            tmpOutputLineList.add(tmpLineVisualizerSmall);
+                            tmpJdpdPositionsBondsWriter.addLine("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
+                            tmpJdpdPositionsBondsWriter.addLine("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
+                            tmpJdpdPositionsBondsWriter.addLine("# Quantity in Volume        = " + String.valueOf(tmpQuantity));
+                            tmpJdpdPositionsBondsWriter.addLine("# Orientation               = " + tmpBulkInfoValueItem.getValue(i, 4));
+                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
                             // </editor-fold>
                             // Amino acids MUST already be initialized
                             // Initialize tmpPdbToDpd
@@ -6873,10 +6358,10 @@ public class JobUtilityMethods {
                                 }
                                 String[] tmpProteinParticlesConnectionTableArray = tmpPdbToDpd.getCoordinateConnectionTableArray(tmpLineNumber, tmpFirstCalphaIndex);
                                 for (String tmpLine : tmpProteinParticlesConnectionTableArray) {
-                                    tmpOutputLineList.add(tmpLine);
+                                    tmpJdpdPositionsBondsWriter.addLine(tmpLine);
                                 }
                                 // Write separator after molecule
-                                tmpOutputLineList.add(tmpLineVisualizerSmall);
+                                tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
                                 tmpLineNumber = tmpPdbToDpd.getLastUsedIndex() + 1;
                             }
                             PdbToDpdPool.getInstance().setPdbToDpdForReuse(tmpPdbToDpd, tmpProteinData);
@@ -6884,18 +6369,18 @@ public class JobUtilityMethods {
                         } else {
                             // <editor-fold defaultstate="collapsed" desc="No protein data">
                             // <editor-fold defaultstate="collapsed" desc="Write comment in file">
-                            tmpOutputLineList.add(tmpLineVisualizerLarge);
-                            tmpOutputLineList.add("# Bulk");
-                            tmpOutputLineList.add(tmpLineVisualizerLarge);
-                            tmpOutputLineList.add("# Bulk Molecule Information:");
-                            tmpOutputLineList.add("# Molecule Name             = " + tmpMoleculeName);
+                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                            tmpJdpdPositionsBondsWriter.addLine("# Bulk");
+                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                            tmpJdpdPositionsBondsWriter.addLine("# Bulk Molecule Information:");
+                            tmpJdpdPositionsBondsWriter.addLine("# Molecule Name             = " + tmpMoleculeName);
                             // Old code:
                             // tmpOutputLineList.add("# Molecular Structure       = " + this.whitespacePattern.matcher(tmpMolecularStructureString).replaceAll(""));
-                            tmpOutputLineList.add("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
-                            tmpOutputLineList.add("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
-                            tmpOutputLineList.add("# Quantity in Bulk          = " + String.valueOf(tmpQuantity));
-                            tmpOutputLineList.add("# Orientation               = " + tmpBulkInfoValueItem.getValue(i, 4));
-                            tmpOutputLineList.add(tmpLineVisualizerSmall);
+                            tmpJdpdPositionsBondsWriter.addLine("# Molecular Structure       = " + StringUtils.deleteWhitespace(tmpMolecularStructureString));
+                            tmpJdpdPositionsBondsWriter.addLine("# Particles per Molecule    = " + String.valueOf(tmpNumberOfParticlesPerMolecule));
+                            tmpJdpdPositionsBondsWriter.addLine("# Quantity in Bulk          = " + String.valueOf(tmpQuantity));
+                            tmpJdpdPositionsBondsWriter.addLine("# Orientation               = " + tmpBulkInfoValueItem.getValue(i, 4));
+                            tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
                             // </editor-fold>
                             PointInSpace[] tmpFirstParticleCoordinates = new PointInSpace[tmpQuantity];
                             tmpCompartmentContainer.getCompartmentBox().fillFreeVolumeRandomPoints(
@@ -6923,91 +6408,102 @@ public class JobUtilityMethods {
                                 }
                             }
                             SpicesGraphics tmpSpices = SpicesPool.getInstance().getSpices(tmpMolecularStructureString);
-                            tmpSpices.setCoordinates(tmpLineNumber, tmpFirstParticleCoordinates, tmpLastParticleCoordinates, tmpBondLength);
-                            String[][] tmpParticlePositionsAndConnections = tmpSpices.getParticlePositionsAndConnections();
+                            // NOTE: Particle positions and connections are generated in chunks of whole molecules to limit heap use
+                            int tmpNumberOfSpicesParticles = tmpSpices.getTotalNumberOfParticles();
+                            int tmpNumberOfMoleculesPerChunk = Math.max(1, ModelDefinitions.JDPD_POSITIONS_BONDS_NUMBER_OF_PARTICLES_PER_CHUNK / tmpNumberOfSpicesParticles);
                             String[][] tmpOneMoleculeParticlePositionsAndConnections = new String[tmpNumberOfParticlesPerMolecule][];
                             PointInSpace[] tmpOneMoleculeParticleCoordinates = new PointInSpace[tmpNumberOfParticlesPerMolecule];
                             int tmpParticleCounter = 0;
-                            for (int j = 0; j < tmpParticlePositionsAndConnections.length; j++) {
-                                tmpParticleCounter++;
-                                // <editor-fold defaultstate="collapsed" desc="Accumulate one molecule">
-                                if (tmpParticleCounter <= tmpNumberOfParticlesPerMolecule) {
-                                    tmpOneMoleculeParticlePositionsAndConnections[tmpParticleCounter - 1] = tmpParticlePositionsAndConnections[j];
-                                    tmpOneMoleculeParticleCoordinates[tmpParticleCounter - 1] = new PointInSpace( // Parameters:
-                                            Double.valueOf(tmpParticlePositionsAndConnections[j][3]), // x-Coordinate
-                                            Double.valueOf(tmpParticlePositionsAndConnections[j][4]), // y-Coordinate
-                                            Double.valueOf(tmpParticlePositionsAndConnections[j][5])); // z-Coordinate
-                                }
+                            for (int m = 0; m < tmpFirstParticleCoordinates.length; m += tmpNumberOfMoleculesPerChunk) {
+                                int tmpEndIndex = Math.min(tmpFirstParticleCoordinates.length, m + tmpNumberOfMoleculesPerChunk);
+                                tmpSpices.setCoordinates(
+                                    tmpLineNumber + m * tmpNumberOfSpicesParticles, 
+                                    Arrays.copyOfRange(tmpFirstParticleCoordinates, m, tmpEndIndex), 
+                                    Arrays.copyOfRange(tmpLastParticleCoordinates, m, tmpEndIndex), 
+                                    tmpBondLength
+                                );
+                                String[][] tmpParticlePositionsAndConnections = tmpSpices.getParticlePositionsAndConnections();
+                                for (int j = 0; j < tmpParticlePositionsAndConnections.length; j++) {
+                                    tmpParticleCounter++;
+                                    // <editor-fold defaultstate="collapsed" desc="Accumulate one molecule">
+                                    if (tmpParticleCounter <= tmpNumberOfParticlesPerMolecule) {
+                                        tmpOneMoleculeParticlePositionsAndConnections[tmpParticleCounter - 1] = tmpParticlePositionsAndConnections[j];
+                                        tmpOneMoleculeParticleCoordinates[tmpParticleCounter - 1] = new PointInSpace( // Parameters:
+                                                Double.valueOf(tmpParticlePositionsAndConnections[j][3]), // x-Coordinate
+                                                Double.valueOf(tmpParticlePositionsAndConnections[j][4]), // y-Coordinate
+                                                Double.valueOf(tmpParticlePositionsAndConnections[j][5])); // z-Coordinate
+                                    }
 
-                                // </editor-fold>
-                                // <editor-fold defaultstate="collapsed" desc="Write one molecule particle information">
-                                if (tmpParticleCounter == tmpNumberOfParticlesPerMolecule) {
-                                    tmpParticleCounter = 0;
-                                    // NOTE: Particle in bulk is not allowed to be in compartment: Correct errors
-                                    // <editor-fold defaultstate="collapsed" desc="Correct coordinates">
-                                    PointInSpace[] tmpCorrectCoordinates = tmpOneMoleculeParticleCoordinates;
-                                    boolean tmpIsCorrect = false;
-                                    while (!tmpIsCorrect) {
-                                        // <editor-fold defaultstate="collapsed" desc="Check coordinates">
-                                        int tmpCorrectIndex = 0;
-                                        for (int k = 0; k < tmpCorrectCoordinates.length; k++) {
-                                            if (!tmpCompartmentContainer.getCompartmentBox().isInFreeVolume(tmpCorrectCoordinates[k])) {
-                                                break;
-                                            } else {
-                                                tmpCorrectIndex = k;
+                                    // </editor-fold>
+                                    // <editor-fold defaultstate="collapsed" desc="Write one molecule particle information">
+                                    if (tmpParticleCounter == tmpNumberOfParticlesPerMolecule) {
+                                        tmpParticleCounter = 0;
+                                        // NOTE: Particle in bulk is not allowed to be in compartment: Correct errors
+                                        // <editor-fold defaultstate="collapsed" desc="Correct coordinates">
+                                        PointInSpace[] tmpCorrectCoordinates = tmpOneMoleculeParticleCoordinates;
+                                        boolean tmpIsCorrect = false;
+                                        while (!tmpIsCorrect) {
+                                            // <editor-fold defaultstate="collapsed" desc="Check coordinates">
+                                            int tmpCorrectIndex = 0;
+                                            for (int k = 0; k < tmpCorrectCoordinates.length; k++) {
+                                                if (!tmpCompartmentContainer.getCompartmentBox().isInFreeVolume(tmpCorrectCoordinates[k])) {
+                                                    break;
+                                                } else {
+                                                    tmpCorrectIndex = k;
+                                                }
                                             }
-                                        }
-                                        tmpIsCorrect = tmpCorrectIndex == tmpCorrectCoordinates.length - 1;
-                                        // </editor-fold>
-                                        // <editor-fold defaultstate="collapsed" desc="Correct if necessary">
-                                        if (!tmpIsCorrect) {
-                                            if (tmpCorrectIndex > 0) {
-                                                // <editor-fold defaultstate="collapsed" desc="Shrink molecule">
-                                                // NOTE: tmpCorrectCoordinates[0] MUST be correct since it is deduced from tmpFirstParticleCoordinates which are all in free volume by definition
-                                                PointInSpace[][] tmpNewCoordinates = tmpSpices.getParticleCoordinates(tmpCorrectCoordinates[0], tmpCorrectCoordinates[tmpCorrectIndex],
-                                                        tmpBondLength);
-
-                                                tmpCorrectCoordinates = tmpNewCoordinates[0];
-                                                tmpIsCorrect = true;
-                                                // </editor-fold>
-                                            } else {
-                                                // <editor-fold defaultstate="collapsed" desc="Get other orientation">
-                                                PointInSpace tmpNewLastParticleCoordinate = tmpCompartmentContainer.getCompartmentBox().getRandomPointInFreeVolume(tmpRandomNumberGenerator);
-                                                // NOTE: tmpCorrectCoordinates[0] MUST be correct since it is deduced from tmpFirstParticleCoordinates which are all in free volume by definition
-                                                PointInSpace[][] tmpNewCoordinates = tmpSpices.getParticleCoordinates(tmpCorrectCoordinates[0], tmpNewLastParticleCoordinate, tmpBondLength);
-                                                tmpCorrectCoordinates = tmpNewCoordinates[0];
-                                                // </editor-fold>
+                                            tmpIsCorrect = tmpCorrectIndex == tmpCorrectCoordinates.length - 1;
+                                            // </editor-fold>
+                                            // <editor-fold defaultstate="collapsed" desc="Correct if necessary">
+                                            if (!tmpIsCorrect) {
+                                                if (tmpCorrectIndex > 0) {
+                                                    // <editor-fold defaultstate="collapsed" desc="Shrink molecule">
+                                                    // NOTE: tmpCorrectCoordinates[0] MUST be correct since it is deduced from tmpFirstParticleCoordinates which are all in free volume by definition
+                                                    PointInSpace[][] tmpNewCoordinates = tmpSpices.getParticleCoordinates(tmpCorrectCoordinates[0], tmpCorrectCoordinates[tmpCorrectIndex],
+                                                            tmpBondLength);
+
+                                                    tmpCorrectCoordinates = tmpNewCoordinates[0];
+                                                    tmpIsCorrect = true;
+                                                    // </editor-fold>
+                                                } else {
+                                                    // <editor-fold defaultstate="collapsed" desc="Get other orientation">
+                                                    PointInSpace tmpNewLastParticleCoordinate = tmpCompartmentContainer.getCompartmentBox().getRandomPointInFreeVolume(tmpRandomNumberGenerator);
+                                                    // NOTE: tmpCorrectCoordinates[0] MUST be correct since it is deduced from tmpFirstParticleCoordinates which are all in free volume by definition
+                                                    PointInSpace[][] tmpNewCoordinates = tmpSpices.getParticleCoordinates(tmpCorrectCoordinates[0], tmpNewLastParticleCoordinate, tmpBondLength);
+                                                    tmpCorrectCoordinates = tmpNewCoordinates[0];
+                                                    // </editor-fold>
+                                                }
                                             }
+                                            // </editor-fold>
                                         }
                                         // </editor-fold>
-                                    }
-                                    // </editor-fold>
-                                    for (int k = 0; k < tmpOneMoleculeParticlePositionsAndConnections.length; k++) {
-                                        tmpBuffer.delete(0, tmpBuffer.length());
-                                        tmpBuffer.append(tmpOneMoleculeParticlePositionsAndConnections[k][0]); // Line_number
-                                        tmpBuffer.append(tmpOneSpace);
-                                        tmpBuffer.append(tmpOneMoleculeParticlePositionsAndConnections[k][1]); // Particle
-                                        // Add particle index for inner molecule potentials: Index 0 (zero) means no index potential
-                                        tmpBuffer.append(tmpOneSpace);
-                                        tmpBuffer.append(tmpOneMoleculeParticlePositionsAndConnections[k][2]); // Particle_Index
-                                        tmpBuffer.append(tmpOneSpace);
-                                        tmpBuffer.append(this.stringUtilityMethods.formatDoubleValue(tmpCorrectCoordinates[k].getX(), ModelDefinitions.NUMBER_OF_DECIMALS_FOR_GRAPHICS_COORDINATES));
-                                        tmpBuffer.append(tmpOneSpace);
-                                        tmpBuffer.append(this.stringUtilityMethods.formatDoubleValue(tmpCorrectCoordinates[k].getY(), ModelDefinitions.NUMBER_OF_DECIMALS_FOR_GRAPHICS_COORDINATES));
-                                        tmpBuffer.append(tmpOneSpace);
-                                        tmpBuffer.append(this.stringUtilityMethods.formatDoubleValue(tmpCorrectCoordinates[k].getZ(), ModelDefinitions.NUMBER_OF_DECIMALS_FOR_GRAPHICS_COORDINATES));
-                                        for (int u = 6; u < tmpOneMoleculeParticlePositionsAndConnections[k].length; u++) {
-                                            // Bonding
+                                        for (int k = 0; k < tmpOneMoleculeParticlePositionsAndConnections.length; k++) {
+                                            tmpBuffer.delete(0, tmpBuffer.length());
+                                            tmpBuffer.append(tmpOneMoleculeParticlePositionsAndConnections[k][0]); // Line_number
+                                            tmpBuffer.append(tmpOneSpace);
+                                            tmpBuffer.append(tmpOneMoleculeParticlePositionsAndConnections[k][1]); // Particle
+                                            // Add particle index for inner molecule potentials: Index 0 (zero) means no index potential
+                                            tmpBuffer.append(tmpOneSpace);
+                                            tmpBuffer.append(tmpOneMoleculeParticlePositionsAndConnections[k][2]); // Particle_Index
                                             tmpBuffer.append(tmpOneSpace);
-                                            tmpBuffer.append(tmpOneMoleculeParticlePositionsAndConnections[k][u]);
+                                            tmpBuffer.append(this.stringUtilityMethods.formatDoubleValue(tmpCorrectCoordinates[k].getX(), ModelDefinitions.NUMBER_OF_DECIMALS_FOR_GRAPHICS_COORDINATES));
+                                            tmpBuffer.append(tmpOneSpace);
+                                            tmpBuffer.append(this.stringUtilityMethods.formatDoubleValue(tmpCorrectCoordinates[k].getY(), ModelDefinitions.NUMBER_OF_DECIMALS_FOR_GRAPHICS_COORDINATES));
+                                            tmpBuffer.append(tmpOneSpace);
+                                            tmpBuffer.append(this.stringUtilityMethods.formatDoubleValue(tmpCorrectCoordinates[k].getZ(), ModelDefinitions.NUMBER_OF_DECIMALS_FOR_GRAPHICS_COORDINATES));
+                                            for (int u = 6; u < tmpOneMoleculeParticlePositionsAndConnections[k].length; u++) {
+                                                // Bonding
+                                                tmpBuffer.append(tmpOneSpace);
+                                                tmpBuffer.append(tmpOneMoleculeParticlePositionsAndConnections[k][u]);
+                                            }
+                                            // Write single particle information
+                                            tmpJdpdPositionsBondsWriter.addLine(tmpBuffer.toString());
                                         }
-                                        // Write single particle information
-                                        tmpOutputLineList.add(tmpBuffer.toString());
+                                        // Write GENERAL_SEPARATOR after molecule
+                                        tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerSmall);
                                     }
-                                    // Write GENERAL_SEPARATOR after molecule
-                                    tmpOutputLineList.add(tmpLineVisualizerSmall);
+                                    // </editor-fold>
                                 }
-                                // </editor-fold>
                             }
                             tmpSpices.destroySpicesMatrix();
                             SpicesPool.getInstance().setSpicesForReuse(tmpSpices);
@@ -7046,12 +6542,12 @@ public class JobUtilityMethods {
                         if (tmpProteinDistanceForcesValueItem != null && !tmpProteinDistanceForcesValueItem.isLocked() && tmpProteinDistanceForcesValueItem.isActive()) {
                             int tmpNumberOfDistanceForcesOfSpecificProtein = this.getNumberOfSpecificProteinDistanceForces(tmpMoleculeName, tmpProteinData, tmpProteinDistanceForcesValueItem);
                             if (tmpNumberOfDistanceForcesOfSpecificProtein > 0) {
-                                tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                tmpOutputLineList.add("# Protein distance forces for " + tmpMoleculeName);
-                                tmpOutputLineList.add("# Number of protein distance forces = " + String.valueOf(tmpNumberOfDistanceForcesOfSpecificProtein));
-                                tmpOutputLineList.add("# Maximum distance type = " + String.valueOf(tmpPdbToDPD.getMaxDistanceTypeOfProteinDistanceForces()));
-                                tmpOutputLineList.add(tmpLineVisualizerLarge);
-                                tmpOutputLineList.add(ModelDefinitions.JDPD_BACKBONE_BOND_NUMBER + String.valueOf(tmpNumberOfDistanceForcesOfSpecificProtein));
+                                tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                tmpJdpdPositionsBondsWriter.addLine("# Protein distance forces for " + tmpMoleculeName);
+                                tmpJdpdPositionsBondsWriter.addLine("# Number of protein distance forces = " + String.valueOf(tmpNumberOfDistanceForcesOfSpecificProtein));
+                                tmpJdpdPositionsBondsWriter.addLine("# Maximum distance type = " + String.valueOf(tmpPdbToDPD.getMaxDistanceTypeOfProteinDistanceForces()));
+                                tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                                tmpJdpdPositionsBondsWriter.addLine(ModelDefinitions.JDPD_BACKBONE_BOND_NUMBER + String.valueOf(tmpNumberOfDistanceForcesOfSpecificProtein));
                                 // Get column with individual protein information
                                 int tmpIndexOfProteinColumn = this.getSpecificProteinBackboneForcesColumnIndex(tmpMoleculeName, tmpProteinDistanceForcesValueItem);
                                 for (int k = 0; k < tmpProteinDistanceForcesValueItem.getMatrixRowCount(); k++) {
@@ -7068,9 +6564,9 @@ public class JobUtilityMethods {
                                             // Distance is not available: Exit for-loop
                                             break;
                                         } else {
-                                            tmpOutputLineList.add("# Distance type = " + String.valueOf(tmpDistanceType));
+                                            tmpJdpdPositionsBondsWriter.addLine("# Distance type = " + String.valueOf(tmpDistanceType));
                                             for (String tmpLine : tmpBackboneBackboneForceDistanceLineArray) {
-                                                tmpOutputLineList.add(tmpLine);
+                                                tmpJdpdPositionsBondsWriter.addLine(tmpLine);
                                             }
                                         }
                                     }
@@ -7097,7 +6593,7 @@ public class JobUtilityMethods {
                         PdbToDpd tmpPdbToDPD = PdbToDpdPool.getInstance().getPdbToDpd(tmpProteinData);
                         int tmpNumberOfBackboneParticles = tmpPdbToDPD.getNumberOfBackboneParticles();
                         PdbToDpdPool.getInstance().setPdbToDpdForReuse(tmpPdbToDPD, tmpProteinData);
-                        tmpOutputLineList = this.transformProteinBackboneForceIndices(tmpOutputLineList, tmpNumberOfBackboneParticles);
+                        tmpJdpdPositionsBondsWriter.setLineList(this.transformProteinBackboneForceIndices(tmpJdpdPositionsBondsWriter.getLineList(), tmpNumberOfBackboneParticles));
                     }
                     // </editor-fold>
                     break;
@@ -7112,11 +6608,11 @@ public class JobUtilityMethods {
                 // Check if aMoleculeName occurs in tmpProteinBackboneForcesValueItem
                 int tmpNumberOfProteinBackboneForces = this.getNumberOfSpecificProteinBackboneForces(aMoleculeName, tmpProteinBackboneForcesValueItem);
                 if (tmpNumberOfProteinBackboneForces > 0) {
-                    tmpOutputLineList.add(tmpLineVisualizerLarge);
-                    tmpOutputLineList.add("# Protein backbone forces for " + aMoleculeName);
-                    tmpOutputLineList.add("# Number of protein backbone forces = " + String.valueOf(tmpNumberOfProteinBackboneForces));
-                    tmpOutputLineList.add(tmpLineVisualizerLarge);
-                    tmpOutputLineList = this.correctNumberOfBackboneDistances(tmpOutputLineList, tmpNumberOfProteinBackboneForces);
+                    tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                    tmpJdpdPositionsBondsWriter.addLine("# Protein backbone forces for " + aMoleculeName);
+                    tmpJdpdPositionsBondsWriter.addLine("# Number of protein backbone forces = " + String.valueOf(tmpNumberOfProteinBackboneForces));
+                    tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                    tmpJdpdPositionsBondsWriter.setLineList(this.correctNumberOfBackboneDistances(tmpJdpdPositionsBondsWriter.getLineList(), tmpNumberOfProteinBackboneForces));
                     // Protein backbone force value item columns:
                     // Index 0 = Protein name
                     // Index 1 = Amino acid backbone particle 1
@@ -7131,7 +6627,7 @@ public class JobUtilityMethods {
                                 && tmpProteinBackboneForcesValueItem.getValueAsDouble(i, 5) > 0.0) {
                             if (tmpProteinBackboneForcesValueItem.getMatrixColumnCount() == 6) {
                                 // <editor-fold defaultstate="collapsed" desc="Legacy code for old job inputs without definition of backbone behaviour">
-                                tmpOutputLineList.add(
+                                tmpJdpdPositionsBondsWriter.addLine(
                                     this.stringUtilityMethods.getFirstToken(tmpProteinBackboneForcesValueItem.getValue(i, 1)) + 
                                     tmpOneSpace +
                                     this.stringUtilityMethods.getFirstToken(tmpProteinBackboneForcesValueItem.getValue(i, 2)) + 
@@ -7142,7 +6638,7 @@ public class JobUtilityMethods {
                                 );
                                 // </editor-fold>
                             } else {
-                                tmpOutputLineList.add(
+                                tmpJdpdPositionsBondsWriter.addLine(
                                     this.stringUtilityMethods.getFirstToken(tmpProteinBackboneForcesValueItem.getValue(i, 1)) + 
                                     tmpOneSpace +
                                     this.stringUtilityMethods.getFirstToken(tmpProteinBackboneForcesValueItem.getValue(i, 2)) + 
@@ -7167,10 +6663,10 @@ public class JobUtilityMethods {
                 // Check if aMoleculeName occurs in tmpMoleculeBackboneForcesValueItem
                 int tmpNumberOfMoleculeBackboneForces = this.getNumberOfSpecificMoleculeBackboneForces(aMoleculeName, tmpMoleculeBackboneForcesValueItem);
                 if (tmpNumberOfMoleculeBackboneForces > 0) {
-                    tmpOutputLineList.add(tmpLineVisualizerLarge);
-                    tmpOutputLineList.add("# Molecule backbone forces for " + aMoleculeName);
-                    tmpOutputLineList.add(tmpLineVisualizerLarge);
-                    tmpOutputLineList.add(ModelDefinitions.JDPD_BACKBONE_BOND_NUMBER + String.valueOf(tmpNumberOfMoleculeBackboneForces));
+                    tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                    tmpJdpdPositionsBondsWriter.addLine("# Molecule backbone forces for " + aMoleculeName);
+                    tmpJdpdPositionsBondsWriter.addLine(tmpLineVisualizerLarge);
+                    tmpJdpdPositionsBondsWriter.addLine(ModelDefinitions.JDPD_BACKBONE_BOND_NUMBER + String.valueOf(tmpNumberOfMoleculeBackboneForces));
                     // Molecule backbone force value item columns:
                     // Index 0 = Molecule name
                     // Index 1 = Backbone attribute 1
@@ -7185,7 +6681,7 @@ public class JobUtilityMethods {
                                 && tmpMoleculeBackboneForcesValueItem.getValueAsDouble(i, 5) > 0.0) {
                             if (tmpMoleculeBackboneForcesValueItem.getMatrixColumnCount() == 6) {
                                 // <editor-fold defaultstate="collapsed" desc="Legacy code for old job inputs without definition of backbone behaviour">
-                                tmpOutputLineList.add(
+                                tmpJdpdPositionsBondsWriter.addLine(
                                     tmpMoleculeBackboneForcesValueItem.getValue(i, 1) + 
                                     tmpOneSpace +
                                     tmpMoleculeBackboneForcesValueItem.getValue(i, 2) + 
@@ -7196,7 +6692,7 @@ public class JobUtilityMethods {
                                 );
                                 // </editor-fold>
                             } else {
-                                tmpOutputLineList.add(
+                                tmpJdpdPositionsBondsWriter.addLine(
                                     tmpMoleculeBackboneForcesValueItem.getValue(i, 1) + 
                                     tmpOneSpace +
                                     tmpMoleculeBackboneForcesValueItem.getValue(i, 2) + 
@@ -7213,26 +6709,51 @@ public class JobUtilityMethods {
                 }
             }
             // </editor-fold>
-            // <editor-fold defaultstate="collapsed" desc="Write tmpOutputLineList to file">
-            FileWriter tmpFileWriter = new FileWriter(aJdpdPositionsBondsFilePathname);
-            BufferedWriter tmpBufferedWriter = new BufferedWriter(tmpFileWriter, ModelDefinitions.BUFFER_SIZE);
-            tmpPrintWriter = new PrintWriter(tmpBufferedWriter);
-            for (String tmpOutputLine : tmpOutputLineList) {
-                tmpPrintWriter.println(tmpOutputLine);
-            }
-            tmpPrintWriter.flush();
+            // <editor-fold defaultstate="collapsed" desc="Finish tmpJdpdPositionsBondsWriter">
+            tmpJdpdPositionsBondsWriter.finish();
             // </editor-fold>
         } catch (Exception anException) {
             ModelUtils.appendToLogfile(true, anException);
             return false;
         } finally {
-            if (tmpPrintWriter != null) {
-                tmpPrintWriter.close();
+            if (tmpJdpdPositionsBondsWriter != null) {
+                tmpJdpdPositionsBondsWriter.close();
             }
         }
         return true;
     }
 
+    /**
+     * Returns if the lines of the Jdpd positions/bonds file of a molecule 
+     * must be post-processed, i.e. if protein backbone force indices must be
+     * transformed or the number of backbone distances must be corrected (see
+     * writeJdpdPositionsBondsFile())
+     * 
+     * @param aJobInputValueItemContainer Job input value item container
+     * @param aCompartmentContainer Compartment container
+     * @param aMoleculeName Molecule name
+     * @return True: Post-processing is necessary, false: Otherwise
+     */
+    private boolean isJdpdPositionsBondsPostProcessing(ValueItemContainer aJobInputValueItemContainer, CompartmentContainer aCompartmentContainer, String aMoleculeName) {
+        ValueItem tmpBulkInfoValueItem = aCompartmentContainer.getBulkInfoValueItem();
+        if (tmpBulkInfoValueItem != null) {
+            for (int i = 0; i < tmpBulkInfoValueItem.getMatrixRowCount(); i++) {
+                // tmpBulkInfoValueItem column 0 : Molecule name
+                if (tmpBulkInfoValueItem.getValue(i, 0).equals(aMoleculeName)) {
+                    if (tmpBulkInfoValueItem.getValueItemMatrixElement(i, 1).hasProteinData()) {
+                        return true;
+                    }
+                    break;
+                }
+            }
+        }
+        ValueItem tmpProteinBackboneForcesValueItem = aJobInputValueItemContainer.getValueItem("ProteinBackboneForces");
+        return tmpProteinBackboneForcesValueItem != null
+            && !tmpProteinBackboneForcesValueItem.isLocked()
+            && tmpProteinBackboneForcesValueItem.isActive()
+            && this.getNumberOfSpecificProteinBackboneForces(aMoleculeName, tmpProteinBackboneForcesValueItem) > 0;
+    }
+
     /**
      * Corrects number of backbone distances in output line list (without checks, see code)
      * 
@@ -7939,6 +7460,652 @@ public class JobUtilityMethods {
         return this.fileUtilityMethods.writeDefinedStringArrayToFile(tmpParticlePairAverageDistanceArray, aFilePathname);
     }
 
+    /**
+     * Writes particle-pair or molecule-particle-pair distance files by
+     * streaming the average distances files of the steps: A first pass
+     * determines the number of distances of each pair, subsequent passes 
+     * write the distances of the steps directly to the distance files of a 
+     * batch of pairs so that memory consumption does not depend on the number
+     * of steps and the number of simultaneously open files does not exceed 
+     * ModelDefinitions.MAXIMUM_NUMBER_OF_OPEN_DISTANCE_FILES.
+     * NOTE: Possibly existing distance files are deleted. No checks are
+     * performed.
+     *
+     * @param aJobResultPath Full path of Job Result
+     * @param aSteps Steps in ascending order
+     * @param anAverageDistancesForStepFilePathnames Average distances files 
+     * of aSteps
+     * @param anIsMoleculeParticlePair True: Molecule-particle-pair distance 
+     * files are written, false: Particle-pair distance files are written
+     */
+    void writeParticlePairDistanceFiles(
+        String aJobResultPath, 
+        String[] aSteps, 
+        String[] anAverageDistancesForStepFilePathnames, 
+        boolean anIsMoleculeParticlePair
+    ) {
+        // <editor-fold defaultstate="collapsed" desc="First pass: Number of distances of pairs">
+        LinkedHashMap<String, ParticlePairAverageDistance> tmpPairToFirstAverageDistanceMap = new LinkedHashMap<String, ParticlePairAverageDistance>();
+        HashMap<String, int[]> tmpPairToNumberOfDistancesMap = new HashMap<String, int[]>();
+        for (String tmpAverageDistancesForStepFilePathname : anAverageDistancesForStepFilePathnames) {
+            LinkedList<ParticlePairAverageDistance> tmpAverageDistanceList = this.readParticlePairAverageDistances(tmpAverageDistancesForStepFilePathname);
+            if (tmpAverageDistanceList == null) {
+                return;
+            }
+            for (ParticlePairAverageDistance tmpAverageDistance : tmpAverageDistanceList) {
+                String tmpPair = tmpAverageDistance.getUnderscoreConcatenatedParticlePair();
+                int[] tmpNumberOfDistances = tmpPairToNumberOfDistancesMap.get(tmpPair);
+                if (tmpNumberOfDistances == null) {
+                    tmpNumberOfDistances = new int[1];
+                    tmpPairToNumberOfDistancesMap.put(tmpPair, tmpNumberOfDistances);
+                    tmpPairToFirstAverageDistanceMap.put(tmpPair, tmpAverageDistance);
+                }
+                tmpNumberOfDistances[0]++;
+            }
+        }
+        if (tmpPairToFirstAverageDistanceMap.isEmpty()) {
+            return;
+        }
+
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Subsequent passes: Write distances of steps for batches of pairs">
+        LinkedList<String> tmpWrittenFilePathnameList = new LinkedList<String>();
+        LinkedList<String> tmpBatchPairList = new LinkedList<String>();
+        boolean tmpIsSuccessful = true;
+        for (String tmpPair : tmpPairToFirstAverageDistanceMap.keySet()) {
+            tmpBatchPairList.add(tmpPair);
+            if (tmpBatchPairList.size() == ModelDefinitions.MAXIMUM_NUMBER_OF_OPEN_DISTANCE_FILES) {
+                tmpIsSuccessful = 
+                    this.writeParticlePairDistanceFilesOfBatch(
+                        aJobResultPath, 
+                        aSteps, 
+                        anAverageDistancesForStepFilePathnames, 
+                        anIsMoleculeParticlePair, 
+                        tmpBatchPairList, 
+                        tmpPairToFirstAverageDistanceMap, 
+                        tmpPairToNumberOfDistancesMap, 
+                        tmpWrittenFilePathnameList
+                    );
+                tmpBatchPairList.clear();
+                if (!tmpIsSuccessful) {
+                    break;
+                }
+            }
+        }
+        if (tmpIsSuccessful && !tmpBatchPairList.isEmpty()) {
+            tmpIsSuccessful = 
+                this.writeParticlePairDistanceFilesOfBatch(
+                    aJobResultPath, 
+                    aSteps, 
+                    anAverageDistancesForStepFilePathnames, 
+                    anIsMoleculeParticlePair, 
+                    tmpBatchPairList, 
+                    tmpPairToFirstAverageDistanceMap, 
+                    tmpPairToNumberOfDistancesMap, 
+                    tmpWrittenFilePathnameList
+                );
+        }
+        if (!tmpIsSuccessful) {
+            // Incomplete distance files and distance files of previous 
+            // batches are removed
+            for (String tmpFilePathname : tmpWrittenFilePathnameList) {
+                this.fileUtilityMethods.deleteSingleFile(tmpFilePathname);
+            }
+        }
+        // </editor-fold>
+    }
+
+    /**
+     * Writes particle-pair or molecule-particle-pair distance files of a
+     * batch of pairs with one pass through the average distances files of
+     * the steps (see writeParticlePairDistanceFiles()).
+     * NOTE: No checks are performed.
+     *
+     * @param aJobResultPath Full path of Job Result
+     * @param aSteps Steps in ascending order
+     * @param anAverageDistancesForStepFilePathnames Average distances files 
+     * of aSteps
+     * @param anIsMoleculeParticlePair True: Molecule-particle-pair distance 
+     * files are written, false: Particle-pair distance files are written
+     * @param aBatchPairList Pairs of batch
+     * @param aPairToFirstAverageDistanceMap Pair to first average distance 
+     * map of all pairs
+     * @param aPairToNumberOfDistancesMap Pair to number of distances map of 
+     * all pairs
+     * @param aWrittenFilePathnameList List to which the pathnames of the 
+     * (possibly incomplete) distance files of the batch are added
+     * @return True: Operation successful, false: Otherwise
+     */
+    private boolean writeParticlePairDistanceFilesOfBatch(
+        String aJobResultPath, 
+        String[] aSteps, 
+        String[] anAverageDistancesForStepFilePathnames, 
+        boolean anIsMoleculeParticlePair,
+        LinkedList<String> aBatchPairList,
+        LinkedHashMap<String, ParticlePairAverageDistance> aPairToFirstAverageDistanceMap,
+        HashMap<String, int[]> aPairToNumberOfDistancesMap,
+        LinkedList<String> aWrittenFilePathnameList
+    ) {
+        String tmpVersion = "Version 1.0.0";
+        HashMap<String, PrintWriter> tmpPairToPrintWriterMap = new HashMap<String, PrintWriter>(aBatchPairList.size());
+        boolean tmpIsSuccessful = false;
+        try {
+            for (String tmpPair : aBatchPairList) {
+                String tmpFilePathname;
+                if (anIsMoleculeParticlePair) {
+                    tmpFilePathname = this.getJobResultMoleculeParticlePairDistanceFilePathname(aJobResultPath, tmpPair);
+                } else {
+                    tmpFilePathname = this.getJobResultParticlePairDistanceFilePathname(aJobResultPath, tmpPair);
+                }
+                // IMPORTANT: Delete possible existing file (e.g. for job restart)
+                this.fileUtilityMethods.deleteSingleFile(tmpFilePathname);
+                aWrittenFilePathnameList.add(tmpFilePathname);
+                PrintWriter tmpPrintWriter = new PrintWriter(new BufferedWriter(new FileWriter(tmpFilePathname), ModelDefinitions.BUFFER_SIZE));
+                tmpPairToPrintWriterMap.put(tmpPair, tmpPrintWriter);
+                // NOTE: Same format as FileUtilityMethods.writeDefinedStringArrayToFile(): 
+                // Number of lines (version, first and second particle, step and distance for each step), lines
+                tmpPrintWriter.println(String.valueOf(3 + 2 * aPairToNumberOfDistancesMap.get(tmpPair)[0]));
+                tmpPrintWriter.println(tmpVersion);
+                tmpPrintWriter.println(aPairToFirstAverageDistanceMap.get(tmpPair).getFirstParticle());
+                tmpPrintWriter.println(aPairToFirstAverageDistanceMap.get(tmpPair).getSecondParticle());
+            }
+            for (int i = 0; i < aSteps.length; i++) {
+                LinkedList<ParticlePairAverageDistance> tmpAverageDistanceList = this.readParticlePairAverageDistances(anAverageDistancesForStepFilePathnames[i]);
+                if (tmpAverageDistanceList == null) {
+                    return false;
+                }
+                for (ParticlePairAverageDistance tmpAverageDistance : tmpAverageDistanceList) {
+                    String tmpPair = tmpAverageDistance.getUnderscoreConcatenatedParticlePair();
+                    if (!aPairToFirstAverageDistanceMap.containsKey(tmpPair)) {
+                        // Average distances file was changed in the meantime
+                        return false;
+                    }
+                    PrintWriter tmpPrintWriter = tmpPairToPrintWriterMap.get(tmpPair);
+                    if (tmpPrintWriter != null) {
+                        tmpPrintWriter.println(aSteps[i]);
+                        tmpPrintWriter.println(String.valueOf(tmpAverageDistance.getAverageDistance()));
+                    }
+                }
+            }
+            tmpIsSuccessful = true;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+        } finally {
+            for (PrintWriter tmpPrintWriter : tmpPairToPrintWriterMap.values()) {
+                tmpPrintWriter.close();
+                if (tmpPrintWriter.checkError()) {
+                    tmpIsSuccessful = false;
+                }
+            }
+        }
+        return tmpIsSuccessful;
+    }
+
+    /**
+     * Calculates particle-pair RDF of single particle positions step file.
+     * NOTE: ID of returned accumulator = Pair index * Number of segment 
+     * lengths + Segment length index
+     *
+     * @param aJobResultParticlePositionsFilePathname Full pathname of 
+     * particle positions step file of Job Result
+     * @param aJobInputValueItemContainer Value item container of corresponding
+     * Job Input
+     * @return RDF accumulator of step or null if step file could not be read
+     * (e.g. it is still in write process)
+     */
+    private IdBinStatisticsAccumulator calculateParticlePairRdfOfStep(
+        String aJobResultParticlePositionsFilePathname, 
+        ValueItemContainer aJobInputValueItemContainer
+    ) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aJobResultParticlePositionsFilePathname == null || aJobResultParticlePositionsFilePathname.isEmpty() || !(new File(aJobResultParticlePositionsFilePathname)).isFile()) {
+            return null;
+        }
+        if (aJobInputValueItemContainer == null) {
+            return null;
+        }
+        // Get particle pairs for RDF calculation
+        String[][] tmpParticlePairs = this.getParticlePairsForRdfCalculation(aJobInputValueItemContainer);
+        if (tmpParticlePairs == null) {
+            return null;
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Prepare calculations">
+        // Get length conversion factor for transformation of DPD units to Angstrom
+        double tmpLengthConversionFactor = this.getLengthConversionFactorFromDpdToPhysicalLength(aJobInputValueItemContainer);
+        // Get size of simulation box
+        BoxSizeInfo tmpBoxSizeInfo = this.getBoxSizeInfo(aJobInputValueItemContainer);
+        // Transform simulation box volume to Angstrom^3: (xLength * tmpLengthConversionFactor) * (yLength * tmpLengthConversionFactor) * (zLength * tmpLengthConversionFactor)
+        double tmpSimulationBoxVolume = tmpBoxSizeInfo.getVolume() * tmpLengthConversionFactor * tmpLengthConversionFactor * tmpLengthConversionFactor;
+        double tmpBoxLengthX = tmpBoxSizeInfo.getXLength() * tmpLengthConversionFactor;
+        double tmpBoxLengthY = tmpBoxSizeInfo.getYLength() * tmpLengthConversionFactor;
+        double tmpBoxLengthZ = tmpBoxSizeInfo.getZLength() * tmpLengthConversionFactor;
+        // </editor-fold>
+        // Get particle positions (NOTE: Particle positions are already in Angstrom)
+        HashMap<String, LinkedList<PointInSpace>> tmpParticleToPositionsMap = 
+            this.readParticlePositions(
+                aJobResultParticlePositionsFilePathname, 
+                aJobInputValueItemContainer
+            );
+        if (tmpParticleToPositionsMap == null) {
+            return null;
+        }
+        IdBinStatisticsAccumulator tmpStepAccumulator = new IdBinStatisticsAccumulator(tmpParticlePairs.length * ModelDefinitions.RDF_SEGMENT_LENGTHS.length);
+        // NOTE: For RDF calculation PBC in all directions are necessary
+        DistanceDistributionUtils tmpDistanceDistributionUtils = 
+            new DistanceDistributionUtils(
+                ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH,
+                tmpBoxLengthX, 
+                tmpBoxLengthY, 
+                tmpBoxLengthZ,
+                this.isPeriodicBoundaryX(aJobInputValueItemContainer),
+                this.isPeriodicBoundaryY(aJobInputValueItemContainer),
+                this.isPeriodicBoundaryZ(aJobInputValueItemContainer)
+            );
+        for (int tmpPairIndex = 0; tmpPairIndex < tmpParticlePairs.length; tmpPairIndex++) {
+            String[] tmpSingleParticlePair = tmpParticlePairs[tmpPairIndex];
+            // <editor-fold defaultstate="collapsed" desc="Calculate distance bin frequencies and RDF info">
+            // NOTE: tmpParticleDensities[i] corresponds to tmpSingleParticlePair[i]
+            double[] tmpParticleDensities = new double[tmpSingleParticlePair.length];
+            for (int i = 0; i < tmpSingleParticlePair.length; i++) {
+                int tmpNumber = 
+                    this.getTotalNumberOfParticlesOfSpecifiedTypeInSimulation(
+                        tmpSingleParticlePair[i], 
+                        aJobInputValueItemContainer
+                    );
+                tmpParticleDensities[i] = (double) tmpNumber / tmpSimulationBoxVolume;
+            }
+            double[] tmpParticleParticleDistanceBinFrequencies = null;
+            if (tmpSingleParticlePair[0].equals(tmpSingleParticlePair[1])) {
+                PointInSpace[] tmpParticlePositions = tmpParticleToPositionsMap.get(tmpSingleParticlePair[0]).toArray(new PointInSpace[0]);
+                tmpParticleParticleDistanceBinFrequencies = tmpDistanceDistributionUtils.getEqualParticlePairDistanceBinFrequencies(tmpParticlePositions);
+            } else {
+                PointInSpace[] tmpParticlePositionsA = tmpParticleToPositionsMap.get(tmpSingleParticlePair[0]).toArray(new PointInSpace[0]);
+                PointInSpace[] tmpParticlePositionsB = tmpParticleToPositionsMap.get(tmpSingleParticlePair[1]).toArray(new PointInSpace[0]);
+                tmpParticleParticleDistanceBinFrequencies = 
+                    tmpDistanceDistributionUtils.getDifferentParticlePairDistanceBinFrequencies(
+                        tmpParticlePositionsA, 
+                        tmpParticlePositionsB
+                    );
+            }
+            if (tmpParticleParticleDistanceBinFrequencies != null) {
+                // <editor-fold defaultstate="collapsed" desc="Calculate RDF info">
+                String tmpVersion = "Version 1.0.0";
+                for (int tmpSegmentLengthIndex = 0; tmpSegmentLengthIndex < ModelDefinitions.RDF_SEGMENT_LENGTHS.length; tmpSegmentLengthIndex++) {
+                    double tmpCurrentSegmentLength = ModelDefinitions.RDF_SEGMENT_LENGTHS[tmpSegmentLengthIndex];
+                    int tmpId = tmpPairIndex * ModelDefinitions.RDF_SEGMENT_LENGTHS.length + tmpSegmentLengthIndex;
+                    tmpStepAccumulator.addSeries(tmpId);
+                    int tmpBinIndex = 0;
+
+                    double tmpSecondParticleMeanDensity = tmpParticleDensities[1];
+
+                    // Use integer arithmetics to avoid roundoff errors!
+                    int tmpBasicMultiple = (int) ModelUtils.roundDoubleValue(tmpCurrentSegmentLength / ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH, 0);
+                    int tmpStartMultiple = 0;
+                    int tmpEndMultiple = tmpBasicMultiple;
+                    double tmpCurrentFrequency = 0.0;
+                    for (int k = 0; k < tmpParticleParticleDistanceBinFrequencies.length; k++) {
+                        if (k < tmpEndMultiple) {
+                            tmpCurrentFrequency += tmpParticleParticleDistanceBinFrequencies[k];
+                        } else {
+                            double tmpStartSegmentLength = (double) tmpStartMultiple * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
+                            double tmpEndSegmentLength = (double) k * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
+                            // double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE * (Math.pow(tmpEndSegmentLength, 3.0) - Math.pow(tmpStartSegmentLength, 3.0));
+                            double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE * (tmpEndSegmentLength * tmpEndSegmentLength * tmpEndSegmentLength - tmpStartSegmentLength * tmpStartSegmentLength * tmpStartSegmentLength);
+                            double tmpRdfValue = (tmpCurrentFrequency / tmpVolumeOfSegment) / tmpSecondParticleMeanDensity;
+
+                            tmpStepAccumulator.add(
+                                tmpId,
+                                tmpBinIndex++,
+                                tmpStartSegmentLength + (tmpEndSegmentLength - tmpStartSegmentLength) / 2.0,
+                                tmpRdfValue
+                            );
+
+                            tmpCurrentFrequency = tmpParticleParticleDistanceBinFrequencies[k];
+                            tmpStartMultiple = k;
+                            tmpEndMultiple += tmpBasicMultiple;
+                        }
+                    }
+                }
+                // </editor-fold>
+            }
+            // </editor-fold>
+        }
+        return tmpStepAccumulator;
+    }
+
+    /**
+     * Calculates molecule-particle-pair RDF of single particle positions step file.
+     * NOTE: ID of returned accumulator = Pair index * Number of segment 
+     * lengths + Segment length index
+     *
+     * @param aJobResultParticlePositionsFilePathname Full pathname of 
+     * particle positions step file of Job Result
+     * @param aJobInputValueItemContainer Value item container of corresponding
+     * Job Input
+     * @return RDF accumulator of step or null if step file could not be read
+     * (e.g. it is still in write process)
+     */
+    private IdBinStatisticsAccumulator calculateMoleculeParticlePairRdfOfStep(
+        String aJobResultParticlePositionsFilePathname, 
+        ValueItemContainer aJobInputValueItemContainer
+    ) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aJobResultParticlePositionsFilePathname == null || aJobResultParticlePositionsFilePathname.isEmpty() || !(new File(aJobResultParticlePositionsFilePathname)).isFile()) {
+            return null;
+        }
+        if (aJobInputValueItemContainer == null) {
+            return null;
+        }
+        // Get molecule-particle pairs for RDF calculation
+        String[][] tmpMoleculeParticlePairs = this.getMoleculeParticlePairsForRdfCalculation(aJobInputValueItemContainer);
+        if (tmpMoleculeParticlePairs == null) {
+            return null;
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Prepare calculations">
+        // Get length conversion factor for transformation of DPD units to Angstrom
+        double tmpLengthConversionFactor = this.getLengthConversionFactorFromDpdToPhysicalLength(aJobInputValueItemContainer);
+        // Get size of simulation box
+        BoxSizeInfo tmpBoxSizeInfo = this.getBoxSizeInfo(aJobInputValueItemContainer);
+        // Transform simulation box volume to Angstrom^3: (xLength * tmpLengthConversionFactor) * (yLength * tmpLengthConversionFactor) * (zLength * tmpLengthConversionFactor)
+        double tmpSimulationBoxVolume = tmpBoxSizeInfo.getVolume() * tmpLengthConversionFactor * tmpLengthConversionFactor * tmpLengthConversionFactor;
+        double tmpBoxLengthX = tmpBoxSizeInfo.getXLength() * tmpLengthConversionFactor;
+        double tmpBoxLengthY = tmpBoxSizeInfo.getYLength() * tmpLengthConversionFactor;
+        double tmpBoxLengthZ = tmpBoxSizeInfo.getZLength() * tmpLengthConversionFactor;
+        // </editor-fold>
+        // Get particle positions (NOTE: Particle positions are already in Angstrom)
+        HashMap<String, LinkedList<PointInSpace>> tmpMoleculeParticleToPositionsMap = 
+            this.readMoleculeParticlePositions(
+                aJobResultParticlePositionsFilePathname, 
+                aJobInputValueItemContainer
+            );
+        if (tmpMoleculeParticleToPositionsMap == null) {
+            return null;
+        }
+        IdBinStatisticsAccumulator tmpStepAccumulator = new IdBinStatisticsAccumulator(tmpMoleculeParticlePairs.length * ModelDefinitions.RDF_SEGMENT_LENGTHS.length);
+        // NOTE: For RDF calculation PBC in all directions are necessary
+        DistanceDistributionUtils tmpDistanceDistributionUtils = 
+            new DistanceDistributionUtils(
+                ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH,
+                tmpBoxLengthX, 
+                tmpBoxLengthY, 
+                tmpBoxLengthZ,
+                this.isPeriodicBoundaryX(aJobInputValueItemContainer),
+                this.isPeriodicBoundaryY(aJobInputValueItemContainer),
+                this.isPeriodicBoundaryZ(aJobInputValueItemContainer)
+            );
+        for (int tmpPairIndex = 0; tmpPairIndex < tmpMoleculeParticlePairs.length; tmpPairIndex++) {
+            String[] tmpSingleMoleculeParticlePair = tmpMoleculeParticlePairs[tmpPairIndex];
+            // <editor-fold defaultstate="collapsed" desc="Calculate distance bin frequencies and RDF info">
+            // NOTE: tmpMoleculeParticleDensities[i] corresponds to tmpSingleMoleculeParticlePair[i]
+            double[] tmpMoleculeParticleDensities = new double[tmpSingleMoleculeParticlePair.length];
+            for (int i = 0; i < tmpSingleMoleculeParticlePair.length; i++) {
+                String[] tmpMoleculeNameAndParticle = SpicesConstants.PARTICLE_SEPARATOR_PATTERN.split(tmpSingleMoleculeParticlePair[i]);
+                String tmpMoleculeName = tmpMoleculeNameAndParticle[0];
+                String tmpParticle = tmpMoleculeNameAndParticle[1];
+                int tmpNumber = this.getTotalNumberOfMoleculeParticlesOfSpecifiedTypeInSimulation(tmpMoleculeName, tmpParticle, aJobInputValueItemContainer);
+                tmpMoleculeParticleDensities[i] = (double) tmpNumber / tmpSimulationBoxVolume;
+            }
+            double[] tmpParticleParticleDistanceBinFrequencies = null;
+            if (tmpSingleMoleculeParticlePair[0].equals(tmpSingleMoleculeParticlePair[1])) {
+                PointInSpace[] tmpMoleculeParticlePositions = tmpMoleculeParticleToPositionsMap.get(tmpSingleMoleculeParticlePair[0]).toArray(new PointInSpace[0]);
+                tmpParticleParticleDistanceBinFrequencies = tmpDistanceDistributionUtils.getEqualParticlePairDistanceBinFrequencies(tmpMoleculeParticlePositions);
+            } else {
+                PointInSpace[] tmpMoleculeParticlePositionsA = tmpMoleculeParticleToPositionsMap.get(tmpSingleMoleculeParticlePair[0]).toArray(new PointInSpace[0]);
+                PointInSpace[] tmpMoleculeParticlePositionsB = tmpMoleculeParticleToPositionsMap.get(tmpSingleMoleculeParticlePair[1]).toArray(new PointInSpace[0]);
+                tmpParticleParticleDistanceBinFrequencies = 
+                    tmpDistanceDistributionUtils.getDifferentParticlePairDistanceBinFrequencies(
+                        tmpMoleculeParticlePositionsA, 
+                        tmpMoleculeParticlePositionsB
+                    );
+            }
+            if (tmpParticleParticleDistanceBinFrequencies != null) {
+                // <editor-fold defaultstate="collapsed" desc="Calculate RDF info">
+                for (int tmpSegmentLengthIndex = 0; tmpSegmentLengthIndex < ModelDefinitions.RDF_SEGMENT_LENGTHS.length; tmpSegmentLengthIndex++) {
+                    double tmpCurrentSegmentLength = ModelDefinitions.RDF_SEGMENT_LENGTHS[tmpSegmentLengthIndex];
+                    int tmpId = tmpPairIndex * ModelDefinitions.RDF_SEGMENT_LENGTHS.length + tmpSegmentLengthIndex;
+                    tmpStepAccumulator.addSeries(tmpId);
+                    int tmpBinIndex = 0;
+
+                    double tmpSecondMoleculeParticleMeanDensity = tmpMoleculeParticleDensities[1];
+
+                    // Use integer arithmetics to avoid roundoff errors!
+                    int tmpBasicMultiple = (int) ModelUtils.roundDoubleValue(tmpCurrentSegmentLength / ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH, 0);
+                    int tmpStartMultiple = 0;
+                    int tmpEndMultiple = tmpBasicMultiple;
+                    double tmpCurrentFrequency = 0.0;
+                    for (int k = 0; k < tmpParticleParticleDistanceBinFrequencies.length; k++) {
+                        if (k < tmpEndMultiple) {
+                            tmpCurrentFrequency += tmpParticleParticleDistanceBinFrequencies[k];
+                        } else {
+                            double tmpStartSegmentLength = (double) tmpStartMultiple * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
+                            double tmpEndSegmentLength = (double) k * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
+                            // double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE * (Math.pow(tmpEndSegmentLength, 3.0) - Math.pow(tmpStartSegmentLength, 3.0));
+                            double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE
+                                    * (tmpEndSegmentLength * tmpEndSegmentLength * tmpEndSegmentLength - tmpStartSegmentLength * tmpStartSegmentLength * tmpStartSegmentLength);
+                            double tmpRdfValue = (tmpCurrentFrequency / tmpVolumeOfSegment) / tmpSecondMoleculeParticleMeanDensity;
+
+                            tmpStepAccumulator.add(
+                                tmpId,
+                                tmpBinIndex++,
+                                tmpStartSegmentLength + (tmpEndSegmentLength - tmpStartSegmentLength) / 2.0,
+                                tmpRdfValue
+                            );
+                                        
+                            tmpCurrentFrequency = tmpParticleParticleDistanceBinFrequencies[k];
+                            tmpStartMultiple = k;
+                            tmpEndMultiple += tmpBasicMultiple;
+                        }
+                    }
+                }
+                // </editor-fold>
+            }
+            // </editor-fold>
+        }
+        return tmpStepAccumulator;
+    }
+
+    /**
+     * Calculates molecule-center-pair RDF of single particle positions step file.
+     * NOTE: ID of returned accumulator = Pair index * Number of segment 
+     * lengths + Segment length index
+     *
+     * @param aJobResultParticlePositionsFilePathname Full pathname of 
+     * particle positions step file of Job Result
+     * @param aJobInputValueItemContainer Value item container of corresponding
+     * Job Input
+     * @return RDF accumulator of step or null if step file could not be read
+     * (e.g. it is still in write process)
+     */
+    private IdBinStatisticsAccumulator calculateMoleculeCenterPairRdfOfStep(
+        String aJobResultParticlePositionsFilePathname, 
+        ValueItemContainer aJobInputValueItemContainer
+    ) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aJobResultParticlePositionsFilePathname == null || aJobResultParticlePositionsFilePathname.isEmpty() || !(new File(aJobResultParticlePositionsFilePathname)).isFile()) {
+            return null;
+        }
+        if (aJobInputValueItemContainer == null) {
+            return null;
+        }
+        // Get molecule-center pairs for RDF calculation
+        String[][] tmpMoleculeCenterPairs = this.getMoleculeCenterPairsForRdfCalculation(aJobInputValueItemContainer);
+        if (tmpMoleculeCenterPairs == null) {
+            return null;
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Prepare calculations">
+        // Get length conversion factor for transformation of DPD units to Angstrom
+        double tmpLengthConversionFactor = this.getLengthConversionFactorFromDpdToPhysicalLength(aJobInputValueItemContainer);
+        // Get size of simulation box
+        BoxSizeInfo tmpBoxSizeInfo = this.getBoxSizeInfo(aJobInputValueItemContainer);
+        // Transform simulation box volume to Angstrom^3: (xLength * tmpLengthConversionFactor) * (yLength * tmpLengthConversionFactor) * (zLength * tmpLengthConversionFactor)
+        double tmpSimulationBoxVolume = tmpBoxSizeInfo.getVolume() * tmpLengthConversionFactor * tmpLengthConversionFactor * tmpLengthConversionFactor;
+        double tmpBoxLengthX = tmpBoxSizeInfo.getXLength() * tmpLengthConversionFactor;
+        double tmpBoxLengthY = tmpBoxSizeInfo.getYLength() * tmpLengthConversionFactor;
+        double tmpBoxLengthZ = tmpBoxSizeInfo.getZLength() * tmpLengthConversionFactor;
+        // </editor-fold>
+        // Get molecule-center positions (NOTE: Molecule-center positions are already in Angstrom)
+        HashMap<String, LinkedList<PointInSpace>> tmpMoleculeCenterToPositionsMap = 
+            this.readMoleculeCenterPositions(
+                aJobResultParticlePositionsFilePathname, 
+                aJobInputValueItemContainer
+            );
+        if (tmpMoleculeCenterToPositionsMap == null) {
+            return null;
+        }
+        IdBinStatisticsAccumulator tmpStepAccumulator = new IdBinStatisticsAccumulator(tmpMoleculeCenterPairs.length * ModelDefinitions.RDF_SEGMENT_LENGTHS.length);
+        // NOTE: For RDF calculation PBC in all directions are necessary
+        DistanceDistributionUtils tmpDistanceDistributionUtils = 
+            new DistanceDistributionUtils(
+                ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH,
+                tmpBoxLengthX, 
+                tmpBoxLengthY, 
+                tmpBoxLengthZ,
+                this.isPeriodicBoundaryX(aJobInputValueItemContainer),
+                this.isPeriodicBoundaryY(aJobInputValueItemContainer),
+                this.isPeriodicBoundaryZ(aJobInputValueItemContainer)
+            );
+        for (int tmpPairIndex = 0; tmpPairIndex < tmpMoleculeCenterPairs.length; tmpPairIndex++) {
+            String[] tmpSingleMoleculeCenterPair = tmpMoleculeCenterPairs[tmpPairIndex];
+            // <editor-fold defaultstate="collapsed" desc="Calculate distance bin frequencies and RDF info">
+            // NOTE: tmpMoleculeCenterDensities[i] corresponds to tmpSingleMoleculeCenterPair[i]
+            double[] tmpMoleculeCenterDensities = new double[tmpSingleMoleculeCenterPair.length];
+            for (int i = 0; i < tmpSingleMoleculeCenterPair.length; i++) {
+                String tmpMoleculeName = tmpSingleMoleculeCenterPair[i];
+                int tmpNumber = 
+                    this.getTotalNumberOfMoleculesOfSpecifiedTypeInSimulation(
+                        tmpMoleculeName, 
+                        aJobInputValueItemContainer
+                    );
+                tmpMoleculeCenterDensities[i] = (double) tmpNumber / tmpSimulationBoxVolume;
+            }
+            double[] tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies = null;
+            if (tmpSingleMoleculeCenterPair[0].equals(tmpSingleMoleculeCenterPair[1])) {
+                PointInSpace[] tmpMoleculeCenterPositions = 
+                    tmpMoleculeCenterToPositionsMap.get(tmpSingleMoleculeCenterPair[0]).toArray(new PointInSpace[0]);
+                tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies = 
+                    tmpDistanceDistributionUtils.getEqualParticlePairDistanceBinFrequencies(
+                        tmpMoleculeCenterPositions
+                    );
+            } else {
+                PointInSpace[] tmpMoleculeCenterPositionsA = 
+                    tmpMoleculeCenterToPositionsMap.get(tmpSingleMoleculeCenterPair[0]).toArray(new PointInSpace[0]);
+                PointInSpace[] tmpMoleculeCenterPositionsB = 
+                    tmpMoleculeCenterToPositionsMap.get(tmpSingleMoleculeCenterPair[1]).toArray(new PointInSpace[0]);
+                tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies = 
+                    tmpDistanceDistributionUtils.getDifferentParticlePairDistanceBinFrequencies(
+                        tmpMoleculeCenterPositionsA, 
+                        tmpMoleculeCenterPositionsB
+                    );
+            }
+            if (tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies != null) {
+                // <editor-fold defaultstate="collapsed" desc="Calculate RDF info">
+                for (int tmpSegmentLengthIndex = 0; tmpSegmentLengthIndex < ModelDefinitions.RDF_SEGMENT_LENGTHS.length; tmpSegmentLengthIndex++) {
+                    double tmpCurrentSegmentLength = ModelDefinitions.RDF_SEGMENT_LENGTHS[tmpSegmentLengthIndex];
+                    int tmpId = tmpPairIndex * ModelDefinitions.RDF_SEGMENT_LENGTHS.length + tmpSegmentLengthIndex;
+                    tmpStepAccumulator.addSeries(tmpId);
+                    int tmpBinIndex = 0;
+
+                    double tmpSecondMoleculeCenterMeanDensity = tmpMoleculeCenterDensities[1];
+
+                    // Use integer arithmetics to avoid roundoff errors!
+                    int tmpBasicMultiple = (int) ModelUtils.roundDoubleValue(tmpCurrentSegmentLength / ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH, 0);
+                    int tmpStartMultiple = 0;
+                    int tmpEndMultiple = tmpBasicMultiple;
+                    double tmpCurrentFrequency = 0.0;
+                    for (int k = 0; k < tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies.length; k++) {
+                        if (k < tmpEndMultiple) {
+                            tmpCurrentFrequency += tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies[k];
+                        } else {
+                            double tmpStartSegmentLength = (double) tmpStartMultiple * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
+                            double tmpEndSegmentLength = (double) k * ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH;
+                            // double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE * (Math.pow(tmpEndSegmentLength, 3.0) - Math.pow(tmpStartSegmentLength, 3.0));
+                            double tmpVolumeOfSegment = FOUR_PI_DIVIDED_BY_THREE
+                                    * (tmpEndSegmentLength * tmpEndSegmentLength * tmpEndSegmentLength - tmpStartSegmentLength * tmpStartSegmentLength * tmpStartSegmentLength);
+                            double tmpRdfValue = (tmpCurrentFrequency / tmpVolumeOfSegment) / tmpSecondMoleculeCenterMeanDensity;
+
+                            tmpStepAccumulator.add(
+                                tmpId,
+                                tmpBinIndex++,
+                                tmpStartSegmentLength + (tmpEndSegmentLength - tmpStartSegmentLength) / 2.0,
+                                tmpRdfValue
+                            );
+                                        
+                            tmpCurrentFrequency = tmpMoleculeCenterMoleculeCenterDistanceBinFrequencies[k];
+                            tmpStartMultiple = k;
+                            tmpEndMultiple += tmpBasicMultiple;
+                        }
+                    }
+                }
+                // </editor-fold>
+            }
+            // </editor-fold>
+        }
+        return tmpStepAccumulator;
+    }
+
+    /**
+     * Returns file pathname of RDF for step file (partial RDF result of a 
+     * single step, see writeRdfForStepFiles()) of Job Result
+     *
+     * @param aJobResultPath Path of JobResult
+     * @param aFilePrefix File prefix (RDF type)
+     * @param aJobResultParticlePositionsStepFilePathname Full pathname of 
+     * particle positions step file of Job Result
+     * @return File pathname of RDF for step file or null if 
+     * aJobResultParticlePositionsStepFilePathname is null/empty
+     */
+    private String getJobResultRdfForStepFilePathname(String aJobResultPath, String aFilePrefix, String aJobResultParticlePositionsStepFilePathname) {
+        if (aJobResultParticlePositionsStepFilePathname == null || aJobResultParticlePositionsStepFilePathname.isEmpty()) {
+            return null;
+        }
+        return this.getJobResultRdfForStepPath(aJobResultPath) + File.separatorChar 
+            + aFilePrefix
+            + this.getStepOfJobResultParticlePositionsStepFilePathname(aJobResultParticlePositionsStepFilePathname) 
+            + ModelDefinitions.BINARY_STEP_FILE_ENDING;
+    }
+
+    /**
+     * Writes RDF for step file if it does not already exist
+     *
+     * @param aJobResultPath Path of JobResult
+     * @param aFilePrefix File prefix (RDF type)
+     * @param aJobResultParticlePositionsStepFilePathname Full pathname of 
+     * particle positions step file of Job Result
+     * @param aJobInputValueItemContainer Value item container of corresponding
+     * Job Input
+     * @return True: RDF for step file exists, false: Otherwise
+     */
+    private boolean writeRdfForStepFile(
+        String aJobResultPath, 
+        String aFilePrefix, 
+        String aJobResultParticlePositionsStepFilePathname, 
+        ValueItemContainer aJobInputValueItemContainer
+    ) {
+        String tmpRdfForStepFilePathname = this.getJobResultRdfForStepFilePathname(aJobResultPath, aFilePrefix, aJobResultParticlePositionsStepFilePathname);
+        if ((new File(tmpRdfForStepFilePathname)).isFile()) {
+            return true;
+        }
+        IdBinStatisticsAccumulator tmpStepAccumulator = null;
+        switch (aFilePrefix) {
+            case ModelDefinitions.JOB_RESULT_PARTICLE_PAIR_RDF_FOR_STEP_FILE_PREFIX:
+                tmpStepAccumulator = this.calculateParticlePairRdfOfStep(aJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
+                break;
+            case ModelDefinitions.JOB_RESULT_PARTICLE_IN_MOLECULE_PAIR_RDF_FOR_STEP_FILE_PREFIX:
+                tmpStepAccumulator = this.calculateMoleculeParticlePairRdfOfStep(aJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
+                break;
+            case ModelDefinitions.JOB_RESULT_MOLECULE_CENTER_PAIR_RDF_FOR_STEP_FILE_PREFIX:
+                tmpStepAccumulator = this.calculateMoleculeCenterPairRdfOfStep(aJobResultParticlePositionsStepFilePathname, aJobInputValueItemContainer);
+                break;
+        }
+        if (tmpStepAccumulator == null) {
+            return false;
+        }
+        return tmpStepAccumulator.writeToFile(tmpRdfForStepFilePathname);
+    }
+
     /**
      * Reads particle-pair average distances from specified file
      *
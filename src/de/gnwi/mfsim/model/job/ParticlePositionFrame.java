@@ -0,0 +1,252 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+/**
+ * Particle positions of a single simulation step in primitive columnar form.
+ * Positions are grouped in blocks where each block belongs to a single
+ * molecule/particle combination (same order as in the step file).
+ * Coordinates are in DPD units and NOT corrected to the box boundaries.
+ *
+ * NOTE: Arrays are NOT cloned, i.e. instance must be treated as read-only.
+ * In particular the arrays returned by getX(), getY(), getZ(),
+ * getParticleIndices() and getMoleculeIndices() are shared cache data: The
+ * same frame instance is handed out by StepFrameCache to all callers that
+ * read the same step file, so these arrays must NEVER be changed (copy them
+ * before any modification).
+ *
+ * @author Achim Zielesny
+ */
+public class ParticlePositionFrame {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Total number of particles in simulation
+     */
+    private final int totalNumberOfParticles;
+
+    /**
+     * Molecule name of block
+     */
+    private final String[] blockMoleculeNames;
+
+    /**
+     * Particle name of block
+     */
+    private final String[] blockParticleNames;
+
+    /**
+     * Number of positions of block
+     */
+    private final int[] blockSizes;
+
+    /**
+     * x-coordinates
+     */
+    private final double[] x;
+
+    /**
+     * y-coordinates
+     */
+    private final double[] y;
+
+    /**
+     * z-coordinates
+     */
+    private final double[] z;
+
+    /**
+     * Particle indices
+     */
+    private final int[] particleIndices;
+
+    /**
+     * Molecule indices
+     */
+    private final int[] moleculeIndices;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aTotalNumberOfParticles Total number of particles in simulation
+     * @param aBlockMoleculeNames Molecule name of block
+     * @param aBlockParticleNames Particle name of block
+     * @param aBlockSizes Number of positions of block
+     * @param anX x-coordinates
+     * @param aY y-coordinates
+     * @param aZ z-coordinates
+     * @param aParticleIndices Particle indices
+     * @param aMoleculeIndices Molecule indices
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     */
+    public ParticlePositionFrame(
+        int aTotalNumberOfParticles,
+        String[] aBlockMoleculeNames,
+        String[] aBlockParticleNames,
+        int[] aBlockSizes,
+        double[] anX,
+        double[] aY,
+        double[] aZ,
+        int[] aParticleIndices,
+        int[] aMoleculeIndices
+    ) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aTotalNumberOfParticles < 0) {
+            throw new IllegalArgumentException("aTotalNumberOfParticles is less than 0.");
+        }
+        if (aBlockMoleculeNames == null || aBlockParticleNames == null || aBlockSizes == null) {
+            throw new IllegalArgumentException("A block array is null.");
+        }
+        if (aBlockMoleculeNames.length != aBlockParticleNames.length || aBlockMoleculeNames.length != aBlockSizes.length) {
+            throw new IllegalArgumentException("Block arrays have different lengths.");
+        }
+        if (anX == null || aY == null || aZ == null || aParticleIndices == null || aMoleculeIndices == null) {
+            throw new IllegalArgumentException("A column array is null.");
+        }
+        if (anX.length != aY.length || anX.length != aZ.length || anX.length != aParticleIndices.length || anX.length != aMoleculeIndices.length) {
+            throw new IllegalArgumentException("Column arrays have different lengths.");
+        }
+        int tmpNumberOfPositions = 0;
+        for (int tmpBlockSize : aBlockSizes) {
+            if (tmpBlockSize < 0) {
+                throw new IllegalArgumentException("Block size is less than 0.");
+            }
+            tmpNumberOfPositions += tmpBlockSize;
+        }
+        if (tmpNumberOfPositions != anX.length) {
+            throw new IllegalArgumentException("Sum of block sizes differs from column length.");
+        }
+        // </editor-fold>
+        this.totalNumberOfParticles = aTotalNumberOfParticles;
+        this.blockMoleculeNames = aBlockMoleculeNames;
+        this.blockParticleNames = aBlockParticleNames;
+        this.blockSizes = aBlockSizes;
+        this.x = anX;
+        this.y = aY;
+        this.z = aZ;
+        this.particleIndices = aParticleIndices;
+        this.moleculeIndices = aMoleculeIndices;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Total number of particles in simulation
+     *
+     * @return Total number of particles in simulation
+     */
+    public int getTotalNumberOfParticles() {
+        return this.totalNumberOfParticles;
+    }
+
+    /**
+     * Number of positions (sum of all block sizes)
+     *
+     * @return Number of positions
+     */
+    public int getNumberOfPositions() {
+        return this.x.length;
+    }
+
+    /**
+     * Number of blocks
+     *
+     * @return Number of blocks
+     */
+    public int getNumberOfBlocks() {
+        return this.blockSizes.length;
+    }
+
+    /**
+     * Molecule names of blocks
+     *
+     * @return Molecule names of blocks
+     */
+    public String[] getBlockMoleculeNames() {
+        return this.blockMoleculeNames;
+    }
+
+    /**
+     * Particle names of blocks
+     *
+     * @return Particle names of blocks
+     */
+    public String[] getBlockParticleNames() {
+        return this.blockParticleNames;
+    }
+
+    /**
+     * Number of positions of blocks
+     *
+     * @return Number of positions of blocks
+     */
+    public int[] getBlockSizes() {
+        return this.blockSizes;
+    }
+
+    /**
+     * x-coordinates (read-only shared array, see class comment)
+     *
+     * @return x-coordinates
+     */
+    public double[] getX() {
+        return this.x;
+    }
+
+    /**
+     * y-coordinates (read-only shared array, see class comment)
+     *
+     * @return y-coordinates
+     */
+    public double[] getY() {
+        return this.y;
+    }
+
+    /**
+     * z-coordinates (read-only shared array, see class comment)
+     *
+     * @return z-coordinates
+     */
+    public double[] getZ() {
+        return this.z;
+    }
+
+    /**
+     * Particle indices (read-only shared array, see class comment)
+     *
+     * @return Particle indices
+     */
+    public int[] getParticleIndices() {
+        return this.particleIndices;
+    }
+
+    /**
+     * Molecule indices (read-only shared array, see class comment)
+     *
+     * @return Molecule indices
+     */
+    public int[] getMoleculeIndices() {
+        return this.moleculeIndices;
+    }
+    // </editor-fold>
+
+}
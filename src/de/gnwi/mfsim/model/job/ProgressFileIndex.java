@@ -0,0 +1,209 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Line-offset index of a progress file ("Version 1.0.0" format, see 
+ * ProgressFileUtils) for random access to ranges of step/value data pairs.
+ * NOTE: Index arrays are NOT cloned, i.e. instance must be treated as 
+ * read-only.
+ *
+ * @author Achim Zielesny
+ */
+public class ProgressFileIndex {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Pathname of progress file
+     */
+    private final String progressFilePathname;
+
+    /**
+     * Byte offsets of step lines of data pairs
+     */
+    private final long[] offsets;
+
+    /**
+     * Steps of data pairs (ascending)
+     */
+    private final int[] steps;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aProgressFilePathname Pathname of progress file
+     * @param anOffsets Byte offsets of step lines of data pairs
+     * @param aSteps Steps of data pairs (ascending)
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     */
+    public ProgressFileIndex(String aProgressFilePathname, long[] anOffsets, int[] aSteps) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aProgressFilePathname == null || aProgressFilePathname.isEmpty()) {
+            throw new IllegalArgumentException("aProgressFilePathname is null/empty.");
+        }
+        if (anOffsets == null || aSteps == null) {
+            throw new IllegalArgumentException("An index array is null.");
+        }
+        if (anOffsets.length != aSteps.length) {
+            throw new IllegalArgumentException("Index arrays have different lengths.");
+        }
+        // </editor-fold>
+        this.progressFilePathname = aProgressFilePathname;
+        this.offsets = anOffsets;
+        this.steps = aSteps;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Returns index of first data pair with a step greater or equal to 
+     * aStep
+     *
+     * @param aStep Step
+     * @return Index of first data pair with a step greater or equal to 
+     * aStep (number of data pairs if there is no such data pair)
+     */
+    public int getDataPairIndex(int aStep) {
+        int tmpIndex = Arrays.binarySearch(this.steps, aStep);
+        if (tmpIndex < 0) {
+            return -tmpIndex - 1;
+        }
+        // Step values are expected to be unique but go to first occurrence for safety
+        while (tmpIndex > 0 && this.steps[tmpIndex - 1] == aStep) {
+            tmpIndex--;
+        }
+        return tmpIndex;
+    }
+
+    /**
+     * Reads specified range of data pairs from progress file. Only the 
+     * requested range is read.
+     *
+     * @param aFirstDataPairIndex Index of first data pair
+     * @param aNumberOfDataPairs Number of data pairs (is reduced if range 
+     * exceeds number of data pairs)
+     * @return Lines of data pairs in the order step, value, step, value, ... 
+     * (i.e. without version line) or null if lines could not be read
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     */
+    public String[] readDataPairs(int aFirstDataPairIndex, int aNumberOfDataPairs) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aFirstDataPairIndex < 0 || aFirstDataPairIndex > this.offsets.length) {
+            throw new IllegalArgumentException("aFirstDataPairIndex is out of range.");
+        }
+        if (aNumberOfDataPairs < 0) {
+            throw new IllegalArgumentException("aNumberOfDataPairs is less than 0.");
+        }
+        // </editor-fold>
+        int tmpNumberOfDataPairs = Math.min(aNumberOfDataPairs, this.offsets.length - aFirstDataPairIndex);
+        String[] tmpLines = new String[2 * tmpNumberOfDataPairs];
+        if (tmpNumberOfDataPairs == 0) {
+            return tmpLines;
+        }
+        try (FileInputStream tmpFileInputStream = new FileInputStream(this.progressFilePathname)) {
+            tmpFileInputStream.getChannel().position(this.offsets[aFirstDataPairIndex]);
+            BufferedReader tmpBufferedReader = new BufferedReader(new InputStreamReader(tmpFileInputStream, StandardCharsets.UTF_8), ModelDefinitions.BUFFER_SIZE);
+            for (int i = 0; i < tmpLines.length; i++) {
+                tmpLines[i] = tmpBufferedReader.readLine();
+                if (tmpLines[i] == null) {
+                    return null;
+                }
+            }
+            return tmpLines;
+        } catch (IOException anException) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads data pairs of specified step range from progress file. Only the 
+     * requested range is read.
+     *
+     * @param aFirstStep First step (inclusive)
+     * @param aLastStep Last step (inclusive)
+     * @return Lines of data pairs in the order step, value, step, value, ... 
+     * (i.e. without version line) or null if lines could not be read
+     */
+    public String[] readStepRange(int aFirstStep, int aLastStep) {
+        int tmpFirstDataPairIndex = this.getDataPairIndex(aFirstStep);
+        int tmpEndDataPairIndex = aLastStep == Integer.MAX_VALUE ? this.steps.length : this.getDataPairIndex(aLastStep + 1);
+        return this.readDataPairs(tmpFirstDataPairIndex, Math.max(0, tmpEndDataPairIndex - tmpFirstDataPairIndex));
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Pathname of progress file
+     *
+     * @return Pathname of progress file
+     */
+    public String getProgressFilePathname() {
+        return this.progressFilePathname;
+    }
+
+    /**
+     * Number of data pairs
+     *
+     * @return Number of data pairs
+     */
+    public int getNumberOfDataPairs() {
+        return this.steps.length;
+    }
+
+    /**
+     * Step of data pair
+     *
+     * @param aDataPairIndex Index of data pair
+     * @return Step of data pair
+     */
+    public int getStep(int aDataPairIndex) {
+        return this.steps[aDataPairIndex];
+    }
+
+    /**
+     * Byte offsets of step lines of data pairs
+     *
+     * @return Byte offsets of step lines of data pairs
+     */
+    public long[] getOffsets() {
+        return this.offsets;
+    }
+
+    /**
+     * Steps of data pairs
+     *
+     * @return Steps of data pairs
+     */
+    public int[] getSteps() {
+        return this.steps;
+    }
+    // </editor-fold>
+
+}
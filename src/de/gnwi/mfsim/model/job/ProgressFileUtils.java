@@ -0,0 +1,520 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.util.ModelUtils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedList;
+
+/**
+ * Utility methods for progress files of Job Results (Temperature, U(kin), 
+ * U(pot), surface tension etc.) that avoid reading complete files:
+ * <br>
+ * Progress file layout ("Version 1.0.0"): Number of following lines N, 
+ * version line "Version 1.0.0", then (N - 1) / 2 data pairs with a step line 
+ * followed by a value line.
+ * <br>
+ * Last-line queries (e.g. maximum simulation step) are answered by a tail 
+ * reader that seeks backwards from the end of the file. Random access to 
+ * step ranges is provided by a line-offset index (see ProgressFileIndex) 
+ * that is stored in a small sidecar file (progress file pathname plus 
+ * ModelDefinitions.PROGRESS_FILE_INDEX_FILE_ENDING) and that is rebuilt if 
+ * the progress file changed.
+ * <br>
+ * Sidecar index file layout (big endian): int magic number, int format 
+ * version, long length of progress file, long last-modified time of 
+ * progress file, int number of data pairs, then per data pair long byte 
+ * offset of step line and int step.
+ *
+ * @author Achim Zielesny
+ */
+public class ProgressFileUtils {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static class variables">
+    /**
+     * Magic number of sidecar index file ("MFPI")
+     */
+    private static final int MAGIC_NUMBER = 0x4D465049;
+
+    /**
+     * Format version of sidecar index file
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Version line of progress files
+     */
+    private static final String VERSION_LINE = "Version 1.0.0";
+
+    /**
+     * Size of chunk for backwards reading in byte
+     */
+    private static final int TAIL_CHUNK_SIZE = 8192;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    // <editor-fold defaultstate="collapsed" desc="- Tail related methods">
+    /**
+     * Reads last lines of a text file by seeking backwards from the end of 
+     * the file, i.e. only the tail of the file is read. Trailing empty lines 
+     * are ignored.
+     *
+     * @param aFilePathname Pathname of text file
+     * @param aNumberOfLines Number of last lines
+     * @return Last lines in file order (less than aNumberOfLines if file has 
+     * less lines) or null if file could not be read
+     * @throws IllegalArgumentException Thrown if aNumberOfLines is less than 1
+     */
+    public String[] readLastLines(String aFilePathname, int aNumberOfLines) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aNumberOfLines < 1) {
+            throw new IllegalArgumentException("aNumberOfLines is less than 1.");
+        }
+        if (aFilePathname == null || aFilePathname.isEmpty() || !(new File(aFilePathname)).isFile()) {
+            return null;
+        }
+        // </editor-fold>
+        try (RandomAccessFile tmpRandomAccessFile = new RandomAccessFile(aFilePathname, "r")) {
+            LinkedList<String> tmpLines = new LinkedList<>();
+            byte[] tmpChunk = new byte[TAIL_CHUNK_SIZE];
+            // Bytes of current (incomplete) line in reverse order
+            ReverseLineBuffer tmpLineBuffer = new ReverseLineBuffer();
+            long tmpPosition = tmpRandomAccessFile.length();
+            while (tmpPosition > 0 && tmpLines.size() < aNumberOfLines) {
+                int tmpChunkLength = (int) Math.min((long) TAIL_CHUNK_SIZE, tmpPosition);
+                tmpPosition -= tmpChunkLength;
+                tmpRandomAccessFile.seek(tmpPosition);
+                tmpRandomAccessFile.readFully(tmpChunk, 0, tmpChunkLength);
+                for (int i = tmpChunkLength - 1; i >= 0 && tmpLines.size() < aNumberOfLines; i--) {
+                    if (tmpChunk[i] == '\n') {
+                        this.addLine(tmpLines, tmpLineBuffer.getLine());
+                    } else {
+                        tmpLineBuffer.add(tmpChunk[i]);
+                    }
+                }
+            }
+            if (tmpPosition == 0 && tmpLines.size() < aNumberOfLines) {
+                this.addLine(tmpLines, tmpLineBuffer.getLine());
+            }
+            return tmpLines.toArray(new String[0]);
+        } catch (IOException anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return null;
+        }
+    }
+
+    /**
+     * Returns last step of progress file without reading the complete file
+     *
+     * @param aProgressFilePathname Pathname of progress file
+     * @return Last step of progress file or -1 if progress file does not 
+     * exist, has an unknown format or contains no data pairs
+     */
+    public int getLastStep(String aProgressFilePathname) {
+        if (aProgressFilePathname == null || aProgressFilePathname.isEmpty() || !(new File(aProgressFilePathname)).isFile()) {
+            return -1;
+        }
+        try {
+            int tmpNumberOfLines;
+            try (BufferedReader tmpBufferedReader = new BufferedReader(new FileReader(aProgressFilePathname))) {
+                tmpNumberOfLines = Integer.parseInt(tmpBufferedReader.readLine().trim());
+                if (!VERSION_LINE.equals(tmpBufferedReader.readLine())) {
+                    return -1;
+                }
+            }
+            if (tmpNumberOfLines < 3) {
+                return -1;
+            }
+            String[] tmpLastLines = this.readLastLines(aProgressFilePathname, 2);
+            if (tmpLastLines == null || tmpLastLines.length < 2) {
+                return -1;
+            }
+            return Integer.parseInt(tmpLastLines[0].trim());
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return -1;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="- Header related methods">
+    /**
+     * Returns number of defined lines of file in defined string array format 
+     * (see FileUtilityMethods.readDefinedStringArrayFromFile()), i.e. the 
+     * number in the first line, without reading the complete file
+     *
+     * @param aFilePathname Pathname of file
+     * @return Number of defined lines or -1 if file does not exist or has an 
+     * unknown format
+     */
+    public int getNumberOfDefinedLines(String aFilePathname) {
+        if (aFilePathname == null || aFilePathname.isEmpty() || !(new File(aFilePathname)).isFile()) {
+            return -1;
+        }
+        try (BufferedReader tmpBufferedReader = new BufferedReader(new FileReader(aFilePathname))) {
+            return Integer.parseInt(tmpBufferedReader.readLine().trim());
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return -1;
+        }
+    }
+
+    /**
+     * Returns first defined lines of file in defined string array format 
+     * (see FileUtilityMethods.readDefinedStringArrayFromFile()) without 
+     * reading the complete file
+     *
+     * @param aFilePathname Pathname of file
+     * @param aNumberOfLines Number of lines to be read (greater 0)
+     * @return First defined lines or null if file does not exist, has an 
+     * unknown format or has less than aNumberOfLines defined lines
+     * @throws IllegalArgumentException Thrown if aNumberOfLines is less than 1
+     */
+    public String[] readFirstDefinedLines(String aFilePathname, int aNumberOfLines) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aNumberOfLines < 1) {
+            throw new IllegalArgumentException("aNumberOfLines is less than 1.");
+        }
+        // </editor-fold>
+        if (aFilePathname == null || aFilePathname.isEmpty() || !(new File(aFilePathname)).isFile()) {
+            return null;
+        }
+        try (BufferedReader tmpBufferedReader = new BufferedReader(new FileReader(aFilePathname))) {
+            int tmpNumberOfLines = Integer.parseInt(tmpBufferedReader.readLine().trim());
+            if (tmpNumberOfLines < aNumberOfLines) {
+                return null;
+            }
+            String[] tmpLines = new String[aNumberOfLines];
+            for (int i = 0; i < aNumberOfLines; i++) {
+                tmpLines[i] = tmpBufferedReader.readLine();
+                if (tmpLines[i] == null) {
+                    return null;
+                }
+            }
+            return tmpLines;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return null;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="- Index related methods">
+    /**
+     * Returns pathname of sidecar index file of progress file
+     *
+     * @param aProgressFilePathname Pathname of progress file
+     * @return Pathname of sidecar index file of progress file
+     * @throws IllegalArgumentException Thrown if argument is null/empty
+     */
+    public String getIndexFilePathname(String aProgressFilePathname) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aProgressFilePathname == null || aProgressFilePathname.isEmpty()) {
+            throw new IllegalArgumentException("aProgressFilePathname is null/empty.");
+        }
+        // </editor-fold>
+        return aProgressFilePathname + ModelDefinitions.PROGRESS_FILE_INDEX_FILE_ENDING;
+    }
+
+    /**
+     * Returns line-offset index of progress file: The sidecar index file is 
+     * read if it is current, otherwise the index is built with a single 
+     * sequential pass over the progress file and the sidecar index file is 
+     * (re)written.
+     * NOTE: If the sidecar index file can not be written (e.g. due to a 
+     * write-protected Job Result directory) the index is still returned.
+     *
+     * @param aProgressFilePathname Pathname of progress file
+     * @return Line-offset index of progress file or null if progress file 
+     * does not exist or has an unknown format
+     */
+    public ProgressFileIndex getIndex(String aProgressFilePathname) {
+        if (aProgressFilePathname == null || aProgressFilePathname.isEmpty() || !(new File(aProgressFilePathname)).isFile()) {
+            return null;
+        }
+        ProgressFileIndex tmpIndex = this.readIndexFile(aProgressFilePathname);
+        if (tmpIndex != null) {
+            return tmpIndex;
+        }
+        tmpIndex = this.buildIndex(aProgressFilePathname);
+        if (tmpIndex != null) {
+            this.writeIndexFile(tmpIndex);
+        }
+        return tmpIndex;
+    }
+
+    /**
+     * Builds line-offset index of progress file with a single sequential 
+     * pass over the progress file (no sidecar index file is used)
+     *
+     * @param aProgressFilePathname Pathname of progress file
+     * @return Line-offset index of progress file or null if progress file 
+     * does not exist or has an unknown format (including steps that are not 
+     * ascending)
+     */
+    public ProgressFileIndex buildIndex(String aProgressFilePathname) {
+        if (aProgressFilePathname == null || aProgressFilePathname.isEmpty() || !(new File(aProgressFilePathname)).isFile()) {
+            return null;
+        }
+        try (InputStream tmpInputStream = new BufferedInputStream(new FileInputStream(aProgressFilePathname), ModelDefinitions.BUFFER_SIZE)) {
+            StringBuilder tmpLineBuilder = new StringBuilder(32);
+            long tmpOffset = 0L;
+            // <editor-fold defaultstate="collapsed" desc="Header">
+            tmpOffset += this.readLine(tmpInputStream, tmpLineBuilder);
+            int tmpNumberOfLines = Integer.parseInt(tmpLineBuilder.toString().trim());
+            tmpOffset += this.readLine(tmpInputStream, tmpLineBuilder);
+            if (tmpNumberOfLines < 1 || !VERSION_LINE.equals(tmpLineBuilder.toString())) {
+                return null;
+            }
+            // </editor-fold>
+            int tmpNumberOfDataPairs = (tmpNumberOfLines - 1) / 2;
+            long[] tmpOffsets = new long[tmpNumberOfDataPairs];
+            int[] tmpSteps = new int[tmpNumberOfDataPairs];
+            for (int i = 0; i < tmpNumberOfDataPairs; i++) {
+                tmpOffsets[i] = tmpOffset;
+                int tmpLength = this.readLine(tmpInputStream, tmpLineBuilder);
+                if (tmpLength < 0) {
+                    return null;
+                }
+                tmpOffset += tmpLength;
+                tmpSteps[i] = Integer.parseInt(tmpLineBuilder.toString().trim());
+                if (i > 0 && tmpSteps[i] < tmpSteps[i - 1]) {
+                    return null;
+                }
+                // Value line: Only skipped
+                tmpLength = this.skipLine(tmpInputStream);
+                if (tmpLength < 0) {
+                    return null;
+                }
+                tmpOffset += tmpLength;
+            }
+            return new ProgressFileIndex(aProgressFilePathname, tmpOffsets, tmpSteps);
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return null;
+        }
+    }
+    // </editor-fold>
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Adds line in front of list (removes carriage return at the end)
+     *
+     * @param aLines Lines
+     * @param aLine Line
+     */
+    private void addLine(LinkedList<String> aLines, String aLine) {
+        if (aLine.endsWith("\r")) {
+            aLine = aLine.substring(0, aLine.length() - 1);
+        }
+        // Trailing empty lines are ignored
+        if (aLines.isEmpty() && aLine.isEmpty()) {
+            return;
+        }
+        aLines.addFirst(aLine);
+    }
+
+    /**
+     * Reads line into aLineBuilder (without line terminator)
+     *
+     * @param anInputStream Input stream
+     * @param aLineBuilder Line builder (is cleared)
+     * @return Number of bytes read including line terminator or -1 if end of 
+     * stream was reached before any byte was read
+     * @throws IOException Thrown if stream could not be read
+     */
+    private int readLine(InputStream anInputStream, StringBuilder aLineBuilder) throws IOException {
+        aLineBuilder.setLength(0);
+        int tmpLength = 0;
+        int tmpByte;
+        while ((tmpByte = anInputStream.read()) >= 0) {
+            tmpLength++;
+            if (tmpByte == '\n') {
+                break;
+            }
+            if (tmpByte != '\r') {
+                aLineBuilder.append((char) tmpByte);
+            }
+        }
+        if (tmpLength == 0) {
+            return -1;
+        }
+        return tmpLength;
+    }
+
+    /**
+     * Skips line
+     *
+     * @param anInputStream Input stream
+     * @return Number of bytes skipped including line terminator or -1 if end 
+     * of stream was reached before any byte was read
+     * @throws IOException Thrown if stream could not be read
+     */
+    private int skipLine(InputStream anInputStream) throws IOException {
+        int tmpLength = 0;
+        int tmpByte;
+        while ((tmpByte = anInputStream.read()) >= 0) {
+            tmpLength++;
+            if (tmpByte == '\n') {
+                break;
+            }
+        }
+        if (tmpLength == 0) {
+            return -1;
+        }
+        return tmpLength;
+    }
+
+    /**
+     * Reads sidecar index file if it is current
+     *
+     * @param aProgressFilePathname Pathname of progress file
+     * @return Line-offset index or null if sidecar index file does not exist, 
+     * is outdated or invalid
+     */
+    private ProgressFileIndex readIndexFile(String aProgressFilePathname) {
+        File tmpProgressFile = new File(aProgressFilePathname);
+        File tmpIndexFile = new File(this.getIndexFilePathname(aProgressFilePathname));
+        if (!tmpIndexFile.isFile()) {
+            return null;
+        }
+        try (DataInputStream tmpDataInputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(tmpIndexFile), ModelDefinitions.BUFFER_SIZE))) {
+            if (tmpDataInputStream.readInt() != MAGIC_NUMBER || tmpDataInputStream.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            if (tmpDataInputStream.readLong() != tmpProgressFile.length() || tmpDataInputStream.readLong() != tmpProgressFile.lastModified()) {
+                return null;
+            }
+            int tmpNumberOfDataPairs = tmpDataInputStream.readInt();
+            if (tmpNumberOfDataPairs < 0) {
+                return null;
+            }
+            long[] tmpOffsets = new long[tmpNumberOfDataPairs];
+            int[] tmpSteps = new int[tmpNumberOfDataPairs];
+            for (int i = 0; i < tmpNumberOfDataPairs; i++) {
+                tmpOffsets[i] = tmpDataInputStream.readLong();
+                tmpSteps[i] = tmpDataInputStream.readInt();
+            }
+            return new ProgressFileIndex(aProgressFilePathname, tmpOffsets, tmpSteps);
+        } catch (IOException anException) {
+            // Invalid sidecar index file: Index is rebuilt
+            return null;
+        }
+    }
+
+    /**
+     * Writes sidecar index file: Index is written to a temporary file first 
+     * that is then renamed so that readers never see a partial index file
+     *
+     * @param anIndex Line-offset index
+     * @return True: Sidecar index file was written, false: Otherwise
+     */
+    private boolean writeIndexFile(ProgressFileIndex anIndex) {
+        File tmpProgressFile = new File(anIndex.getProgressFilePathname());
+        File tmpIndexFile = new File(this.getIndexFilePathname(anIndex.getProgressFilePathname()));
+        File tmpTemporaryIndexFile = new File(tmpIndexFile.getPath() + ".tmp");
+        try {
+            try (DataOutputStream tmpDataOutputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpTemporaryIndexFile), ModelDefinitions.BUFFER_SIZE))) {
+                tmpDataOutputStream.writeInt(MAGIC_NUMBER);
+                tmpDataOutputStream.writeInt(FORMAT_VERSION);
+                tmpDataOutputStream.writeLong(tmpProgressFile.length());
+                tmpDataOutputStream.writeLong(tmpProgressFile.lastModified());
+                tmpDataOutputStream.writeInt(anIndex.getNumberOfDataPairs());
+                long[] tmpOffsets = anIndex.getOffsets();
+                int[] tmpSteps = anIndex.getSteps();
+                for (int i = 0; i < tmpOffsets.length; i++) {
+                    tmpDataOutputStream.writeLong(tmpOffsets[i]);
+                    tmpDataOutputStream.writeInt(tmpSteps[i]);
+                }
+            }
+            if (tmpIndexFile.isFile() && !tmpIndexFile.delete()) {
+                tmpTemporaryIndexFile.delete();
+                return false;
+            }
+            return tmpTemporaryIndexFile.renameTo(tmpIndexFile);
+        } catch (IOException anException) {
+            // Sidecar index file is optional (e.g. write-protected Job Result directory)
+            tmpTemporaryIndexFile.delete();
+            return false;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class ReverseLineBuffer">
+    /**
+     * Buffer for bytes of a line that are added in reverse order
+     */
+    private static class ReverseLineBuffer {
+
+        /**
+         * Bytes in reverse order
+         */
+        private byte[] bytes = new byte[256];
+
+        /**
+         * Number of bytes
+         */
+        private int size = 0;
+
+        /**
+         * Adds byte
+         *
+         * @param aByte Byte
+         */
+        public void add(byte aByte) {
+            if (this.size == this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, 2 * this.bytes.length);
+            }
+            this.bytes[this.size++] = aByte;
+        }
+
+        /**
+         * Returns line (in correct order) and clears buffer
+         *
+         * @return Line
+         */
+        public String getLine() {
+            byte[] tmpLineBytes = new byte[this.size];
+            for (int i = 0; i < this.size; i++) {
+                tmpLineBytes[i] = this.bytes[this.size - 1 - i];
+            }
+            this.size = 0;
+            return new String(tmpLineBytes, StandardCharsets.UTF_8);
+        }
+
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,606 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Line tokenizer for (inflated) text step files that works directly on a
+ * byte buffer: Every line is a token. Numbers are parsed without creation of
+ * intermediate String objects and names are looked up in an interned name
+ * table so that a name String is created only once per tokenizer.
+ * <br>
+ * Decimal to double conversion uses the Eisel-Lemire algorithm which yields
+ * the same (correctly rounded) result as Double.parseDouble(). Only for rare
+ * cases (more than 19 significant digits, subnormal numbers, NaN, Infinity)
+ * Double.parseDouble() is used as fallback.
+ * <br>
+ * NOTE: This class is NOT thread-safe.
+ *
+ * @author Achim Zielesny
+ */
+public class StepFileTokenizer {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static class variables">
+    /**
+     * Smallest decimal exponent of power of five table
+     */
+    private static final int SMALLEST_POWER_OF_FIVE = -342;
+
+    /**
+     * Largest decimal exponent of power of five table
+     */
+    private static final int LARGEST_POWER_OF_FIVE = 308;
+
+    /**
+     * Truncated 128 bit representations of powers of five (normalized with
+     * most significant bit set): High 64 bit at even and low 64 bit at odd
+     * index
+     */
+    private static final long[] POWER_OF_FIVE_128 = StepFileTokenizer.createPowerOfFiveTable();
+
+    /**
+     * Exact powers of ten that can be represented as double
+     */
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Maximum mantissa for exact fast path (2^53)
+     */
+    private static final long MAXIMUM_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * Initial capacity of interned name table
+     */
+    private static final int INITIAL_NAME_TABLE_CAPACITY = 16;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Input stream
+     */
+    private final InputStream inputStream;
+
+    /**
+     * Byte buffer with inflated data
+     */
+    private byte[] buffer;
+
+    /**
+     * Number of valid bytes in buffer
+     */
+    private int bufferLength;
+
+    /**
+     * Position of next unread byte in buffer
+     */
+    private int position;
+
+    /**
+     * Start index of current token in buffer (inclusive)
+     */
+    private int tokenStart;
+
+    /**
+     * End index of current token in buffer (exclusive)
+     */
+    private int tokenEnd;
+
+    /**
+     * True: End of input stream is reached, false: Otherwise
+     */
+    private boolean isEndOfStream;
+
+    /**
+     * Interned names as bytes
+     */
+    private byte[][] nameBytes;
+
+    /**
+     * Interned names (corresponds to nameBytes)
+     */
+    private String[] names;
+
+    /**
+     * Hash codes of interned names (corresponds to nameBytes)
+     */
+    private int[] nameHashCodes;
+
+    /**
+     * Number of interned names
+     */
+    private int numberOfNames;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param anInputStream Input stream with inflated (uncompressed) text
+     * data (is NOT closed by tokenizer)
+     * @param aBufferSize Initial buffer size in byte (is enlarged for very
+     * long lines)
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     */
+    public StepFileTokenizer(InputStream anInputStream, int aBufferSize) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (anInputStream == null) {
+            throw new IllegalArgumentException("anInputStream is null.");
+        }
+        if (aBufferSize < 1) {
+            throw new IllegalArgumentException("aBufferSize is less than 1.");
+        }
+        // </editor-fold>
+        this.inputStream = anInputStream;
+        this.buffer = new byte[aBufferSize];
+        this.bufferLength = 0;
+        this.position = 0;
+        this.isEndOfStream = false;
+        this.nameBytes = new byte[StepFileTokenizer.INITIAL_NAME_TABLE_CAPACITY][];
+        this.names = new String[StepFileTokenizer.INITIAL_NAME_TABLE_CAPACITY];
+        this.nameHashCodes = new int[StepFileTokenizer.INITIAL_NAME_TABLE_CAPACITY];
+        this.numberOfNames = 0;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Advances to next token (line). Line terminators "\n", "\r\n" and "\r"
+     * are supported.
+     *
+     * @return True: Next token is available, false: End of stream is reached
+     * @throws IOException Thrown if input stream could not be read
+     */
+    public boolean nextToken() throws IOException {
+        int tmpSearchIndex = this.position;
+        while (true) {
+            for (int i = tmpSearchIndex; i < this.bufferLength; i++) {
+                byte tmpByte = this.buffer[i];
+                if (tmpByte == '\n' || tmpByte == '\r') {
+                    if (tmpByte == '\r' && i + 1 >= this.bufferLength && !this.isEndOfStream) {
+                        // Possible "\r\n" across buffer boundary: Read more data first
+                        break;
+                    }
+                    this.tokenStart = this.position;
+                    this.tokenEnd = i;
+                    if (tmpByte == '\r' && i + 1 < this.bufferLength && this.buffer[i + 1] == '\n') {
+                        this.position = i + 2;
+                    } else {
+                        this.position = i + 1;
+                    }
+                    return true;
+                }
+                tmpSearchIndex = i + 1;
+            }
+            if (this.isEndOfStream) {
+                if (this.position < this.bufferLength) {
+                    // Last line without line terminator
+                    this.tokenStart = this.position;
+                    this.tokenEnd = this.bufferLength;
+                    this.position = this.bufferLength;
+                    return true;
+                } else {
+                    return false;
+                }
+            }
+            int tmpShift = this.fillBuffer();
+            tmpSearchIndex -= tmpShift;
+        }
+    }
+
+    /**
+     * Returns if current token equals aText (ASCII)
+     *
+     * @param aText Text
+     * @return True: Current token equals aText, false: Otherwise
+     */
+    public boolean isToken(String aText) {
+        if (aText == null || aText.length() != this.tokenEnd - this.tokenStart) {
+            return false;
+        }
+        for (int i = 0; i < aText.length(); i++) {
+            if (aText.charAt(i) != (char) (this.buffer[this.tokenStart + i] & 0xFF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns current token as interned name: The String instance for a
+     * specific name is created only once
+     *
+     * @return Current token as interned name
+     */
+    public String getName() {
+        int tmpLength = this.tokenEnd - this.tokenStart;
+        int tmpHashCode = 1;
+        for (int i = this.tokenStart; i < this.tokenEnd; i++) {
+            tmpHashCode = 31 * tmpHashCode + this.buffer[i];
+        }
+        for (int i = 0; i < this.numberOfNames; i++) {
+            if (this.nameHashCodes[i] == tmpHashCode && this.nameBytes[i].length == tmpLength) {
+                byte[] tmpNameBytes = this.nameBytes[i];
+                boolean tmpIsEqual = true;
+                for (int k = 0; k < tmpLength; k++) {
+                    if (tmpNameBytes[k] != this.buffer[this.tokenStart + k]) {
+                        tmpIsEqual = false;
+                        break;
+                    }
+                }
+                if (tmpIsEqual) {
+                    return this.names[i];
+                }
+            }
+        }
+        if (this.numberOfNames == this.names.length) {
+            int tmpNewCapacity = 2 * this.names.length;
+            this.nameBytes = Arrays.copyOf(this.nameBytes, tmpNewCapacity);
+            this.names = Arrays.copyOf(this.names, tmpNewCapacity);
+            this.nameHashCodes = Arrays.copyOf(this.nameHashCodes, tmpNewCapacity);
+        }
+        byte[] tmpNewNameBytes = Arrays.copyOfRange(this.buffer, this.tokenStart, this.tokenEnd);
+        this.nameBytes[this.numberOfNames] = tmpNewNameBytes;
+        this.names[this.numberOfNames] = new String(tmpNewNameBytes, StandardCharsets.UTF_8);
+        this.nameHashCodes[this.numberOfNames] = tmpHashCode;
+        return this.names[this.numberOfNames++];
+    }
+
+    /**
+     * Parses current token as int
+     *
+     * @return Int value of current token
+     * @throws NumberFormatException Thrown if current token is not an int
+     */
+    public int parseInt() throws NumberFormatException {
+        int tmpIndex = this.tokenStart;
+        int tmpEnd = this.tokenEnd;
+        if (tmpIndex >= tmpEnd) {
+            throw new NumberFormatException("Empty token.");
+        }
+        boolean tmpIsNegative = false;
+        if (this.buffer[tmpIndex] == '-') {
+            tmpIsNegative = true;
+            tmpIndex++;
+        } else if (this.buffer[tmpIndex] == '+') {
+            tmpIndex++;
+        }
+        if (tmpIndex >= tmpEnd) {
+            throw new NumberFormatException("No digits.");
+        }
+        long tmpValue = 0L;
+        for (; tmpIndex < tmpEnd; tmpIndex++) {
+            int tmpDigit = this.buffer[tmpIndex] - '0';
+            if (tmpDigit < 0 || tmpDigit > 9) {
+                throw new NumberFormatException("Invalid int token.");
+            }
+            tmpValue = 10L * tmpValue + tmpDigit;
+            if (tmpValue > (long) Integer.MAX_VALUE + 1L) {
+                throw new NumberFormatException("Int overflow.");
+            }
+        }
+        if (tmpIsNegative) {
+            tmpValue = -tmpValue;
+        }
+        if (tmpValue > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Int overflow.");
+        }
+        return (int) tmpValue;
+    }
+
+    /**
+     * Parses current token as double. The result is identical to
+     * Double.parseDouble() for the token string.
+     *
+     * @return Double value of current token
+     * @throws NumberFormatException Thrown if current token is not a double
+     */
+    public double parseDouble() throws NumberFormatException {
+        int tmpIndex = this.tokenStart;
+        int tmpEnd = this.tokenEnd;
+        // <editor-fold defaultstate="collapsed" desc="Sign">
+        boolean tmpIsNegative = false;
+        if (tmpIndex < tmpEnd) {
+            if (this.buffer[tmpIndex] == '-') {
+                tmpIsNegative = true;
+                tmpIndex++;
+            } else if (this.buffer[tmpIndex] == '+') {
+                tmpIndex++;
+            }
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Mantissa">
+        long tmpMantissa = 0L;
+        int tmpNumberOfSignificantDigits = 0;
+        int tmpNumberOfDigits = 0;
+        int tmpDecimalExponent = 0;
+        boolean tmpIsDecimalPoint = false;
+        for (; tmpIndex < tmpEnd; tmpIndex++) {
+            byte tmpByte = this.buffer[tmpIndex];
+            if (tmpByte >= '0' && tmpByte <= '9') {
+                tmpNumberOfDigits++;
+                if (tmpMantissa == 0L && tmpByte == '0') {
+                    // Leading zero is not significant
+                    if (tmpIsDecimalPoint) {
+                        tmpDecimalExponent--;
+                    }
+                } else {
+                    tmpNumberOfSignificantDigits++;
+                    if (tmpNumberOfSignificantDigits > 19) {
+                        return this.parseDoubleFallback();
+                    }
+                    // NOTE: 19 digits fit into unsigned long
+                    tmpMantissa = 10L * tmpMantissa + (tmpByte - '0');
+                    if (tmpIsDecimalPoint) {
+                        tmpDecimalExponent--;
+                    }
+                }
+            } else if (tmpByte == '.' && !tmpIsDecimalPoint) {
+                tmpIsDecimalPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (tmpNumberOfDigits == 0) {
+            // NaN, Infinity or invalid token
+            return this.parseDoubleFallback();
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Exponent">
+        if (tmpIndex < tmpEnd) {
+            byte tmpByte = this.buffer[tmpIndex];
+            if (tmpByte != 'E' && tmpByte != 'e') {
+                return this.parseDoubleFallback();
+            }
+            tmpIndex++;
+            boolean tmpIsNegativeExponent = false;
+            if (tmpIndex < tmpEnd) {
+                if (this.buffer[tmpIndex] == '-') {
+                    tmpIsNegativeExponent = true;
+                    tmpIndex++;
+                } else if (this.buffer[tmpIndex] == '+') {
+                    tmpIndex++;
+                }
+            }
+            if (tmpIndex >= tmpEnd) {
+                throw new NumberFormatException("Invalid exponent.");
+            }
+            int tmpExponent = 0;
+            for (; tmpIndex < tmpEnd; tmpIndex++) {
+                int tmpDigit = this.buffer[tmpIndex] - '0';
+                if (tmpDigit < 0 || tmpDigit > 9) {
+                    return this.parseDoubleFallback();
+                }
+                if (tmpExponent < 100000) {
+                    tmpExponent = 10 * tmpExponent + tmpDigit;
+                }
+            }
+            if (tmpIsNegativeExponent) {
+                tmpDecimalExponent -= tmpExponent;
+            } else {
+                tmpDecimalExponent += tmpExponent;
+            }
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Conversion">
+        double tmpValue;
+        if (tmpMantissa == 0L) {
+            tmpValue = 0.0;
+        } else if (tmpMantissa > 0L && tmpMantissa <= StepFileTokenizer.MAXIMUM_EXACT_MANTISSA && tmpDecimalExponent >= -22 && tmpDecimalExponent <= 22) {
+            // Exact fast path (Clinger): Mantissa and power of ten are exact doubles
+            if (tmpDecimalExponent < 0) {
+                tmpValue = (double) tmpMantissa / StepFileTokenizer.EXACT_POWERS_OF_TEN[-tmpDecimalExponent];
+            } else {
+                tmpValue = (double) tmpMantissa * StepFileTokenizer.EXACT_POWERS_OF_TEN[tmpDecimalExponent];
+            }
+        } else {
+            long tmpBits = StepFileTokenizer.computeDoubleBits(tmpMantissa, tmpDecimalExponent);
+            if (tmpBits < 0L) {
+                return this.parseDoubleFallback();
+            }
+            tmpValue = Double.longBitsToDouble(tmpBits);
+        }
+        if (tmpIsNegative) {
+            return -tmpValue;
+        } else {
+            return tmpValue;
+        }
+        // </editor-fold>
+    }
+
+    /**
+     * Returns current token as String (creates new String instance)
+     *
+     * @return Current token as String
+     */
+    public String getTokenString() {
+        return new String(this.buffer, this.tokenStart, this.tokenEnd - this.tokenStart, StandardCharsets.UTF_8);
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Fills buffer: Unread bytes are moved to buffer start, buffer is
+     * enlarged if it is completely filled with unread bytes.
+     *
+     * @return Shift of buffer content towards buffer start
+     * @throws IOException Thrown if input stream could not be read
+     */
+    private int fillBuffer() throws IOException {
+        int tmpShift = this.position;
+        if (tmpShift > 0) {
+            System.arraycopy(this.buffer, this.position, this.buffer, 0, this.bufferLength - this.position);
+            this.bufferLength -= this.position;
+            this.position = 0;
+        }
+        if (this.bufferLength == this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, 2 * this.buffer.length);
+        }
+        int tmpNumberOfReadBytes = this.inputStream.read(this.buffer, this.bufferLength, this.buffer.length - this.bufferLength);
+        if (tmpNumberOfReadBytes < 0) {
+            this.isEndOfStream = true;
+        } else {
+            this.bufferLength += tmpNumberOfReadBytes;
+        }
+        return tmpShift;
+    }
+
+    /**
+     * Parses current token with Double.parseDouble()
+     *
+     * @return Double value of current token
+     * @throws NumberFormatException Thrown if current token is not a double
+     */
+    private double parseDoubleFallback() throws NumberFormatException {
+        return Double.parseDouble(this.getTokenString());
+    }
+
+    /**
+     * Eisel-Lemire conversion of aMantissa * 10^aDecimalExponent to the
+     * bits of the correctly rounded double value
+     *
+     * @param aMantissa Mantissa (greater zero, exact)
+     * @param aDecimalExponent Decimal exponent
+     * @return Bits of double value or -1 if value can not be determined
+     * (subnormal numbers)
+     */
+    private static long computeDoubleBits(long aMantissa, int aDecimalExponent) {
+        if (aDecimalExponent < StepFileTokenizer.SMALLEST_POWER_OF_FIVE) {
+            return 0L;
+        }
+        if (aDecimalExponent > StepFileTokenizer.LARGEST_POWER_OF_FIVE) {
+            return 0x7FF0000000000000L;
+        }
+        int tmpLeadingZeros = Long.numberOfLeadingZeros(aMantissa);
+        long tmpMantissa = aMantissa << tmpLeadingZeros;
+        int tmpIndex = 2 * (aDecimalExponent - StepFileTokenizer.SMALLEST_POWER_OF_FIVE);
+        // <editor-fold defaultstate="collapsed" desc="128 bit product approximation">
+        long tmpHigh = StepFileTokenizer.unsignedMultiplyHigh(tmpMantissa, StepFileTokenizer.POWER_OF_FIVE_128[tmpIndex]);
+        long tmpLow = tmpMantissa * StepFileTokenizer.POWER_OF_FIVE_128[tmpIndex];
+        // Precision mask for 52 + 3 bit
+        long tmpPrecisionMask = 0xFFFFFFFFFFFFFFFFL >>> 55;
+        if ((tmpHigh & tmpPrecisionMask) == tmpPrecisionMask) {
+            long tmpSecondHigh = StepFileTokenizer.unsignedMultiplyHigh(tmpMantissa, StepFileTokenizer.POWER_OF_FIVE_128[tmpIndex + 1]);
+            long tmpNewLow = tmpLow + tmpSecondHigh;
+            if (Long.compareUnsigned(tmpSecondHigh, tmpNewLow) > 0) {
+                tmpHigh++;
+            }
+            tmpLow = tmpNewLow;
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Rounding">
+        int tmpUpperBit = (int) (tmpHigh >>> 63);
+        long tmpResultMantissa = tmpHigh >>> (tmpUpperBit + 64 - 52 - 3);
+        int tmpPower2 = (((152170 + 65536) * aDecimalExponent) >> 16) + 63 + tmpUpperBit - tmpLeadingZeros + 1023;
+        if (tmpPower2 <= 0) {
+            // Subnormal
+            return -1L;
+        }
+        if (Long.compareUnsigned(tmpLow, 1L) <= 0 && aDecimalExponent >= -4 && aDecimalExponent <= 23 && (tmpResultMantissa & 3L) == 1L) {
+            if ((tmpResultMantissa << (tmpUpperBit + 64 - 52 - 3)) == tmpHigh) {
+                // Exactly half-way: Round to even
+                tmpResultMantissa &= ~1L;
+            }
+        }
+        tmpResultMantissa += (tmpResultMantissa & 1L);
+        tmpResultMantissa >>>= 1;
+        if (tmpResultMantissa >= (2L << 52)) {
+            tmpResultMantissa = 1L << 52;
+            tmpPower2++;
+        }
+        tmpResultMantissa &= ~(1L << 52);
+        if (tmpPower2 >= 0x7FF) {
+            return 0x7FF0000000000000L;
+        }
+        // </editor-fold>
+        return tmpResultMantissa | ((long) tmpPower2 << 52);
+    }
+
+    /**
+     * Returns the high 64 bit of the unsigned 128 bit product of two longs
+     *
+     * @param aValue1 Value 1 (unsigned)
+     * @param aValue2 Value 2 (unsigned)
+     * @return High 64 bit of unsigned 128 bit product
+     */
+    private static long unsignedMultiplyHigh(long aValue1, long aValue2) {
+        long tmpLow1 = aValue1 & 0xFFFFFFFFL;
+        long tmpHigh1 = aValue1 >>> 32;
+        long tmpLow2 = aValue2 & 0xFFFFFFFFL;
+        long tmpHigh2 = aValue2 >>> 32;
+        long tmpLowLow = tmpLow1 * tmpLow2;
+        long tmpHighLow = tmpHigh1 * tmpLow2;
+        long tmpLowHigh = tmpLow1 * tmpHigh2;
+        long tmpHighHigh = tmpHigh1 * tmpHigh2;
+        long tmpCross = (tmpLowLow >>> 32) + (tmpHighLow & 0xFFFFFFFFL) + tmpLowHigh;
+        return tmpHighHigh + (tmpHighLow >>> 32) + (tmpCross >>> 32);
+    }
+
+    /**
+     * Creates table of truncated 128 bit representations of powers of five
+     *
+     * @return Table of truncated 128 bit representations of powers of five
+     */
+    private static long[] createPowerOfFiveTable() {
+        int tmpSize = StepFileTokenizer.LARGEST_POWER_OF_FIVE - StepFileTokenizer.SMALLEST_POWER_OF_FIVE + 1;
+        long[] tmpTable = new long[2 * tmpSize];
+        BigInteger tmpFive = BigInteger.valueOf(5L);
+        BigInteger tmpTwoPower128 = BigInteger.ONE.shiftLeft(128);
+        BigInteger tmpMask64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int q = StepFileTokenizer.SMALLEST_POWER_OF_FIVE; q <= StepFileTokenizer.LARGEST_POWER_OF_FIVE; q++) {
+            BigInteger tmpValue;
+            if (q < 0) {
+                BigInteger tmpPowerOfFive = tmpFive.pow(-q);
+                // Smallest z with 2^z >= 5^-q
+                int z = tmpPowerOfFive.subtract(BigInteger.ONE).bitLength();
+                int b;
+                if (q >= -27) {
+                    b = z + 127;
+                } else {
+                    b = 2 * z + 2 * 64;
+                }
+                tmpValue = BigInteger.ONE.shiftLeft(b).divide(tmpPowerOfFive).add(BigInteger.ONE);
+                if (tmpValue.compareTo(tmpTwoPower128) >= 0) {
+                    tmpValue = tmpValue.shiftRight(tmpValue.bitLength() - 128);
+                }
+            } else {
+                tmpValue = tmpFive.pow(q);
+                if (tmpValue.bitLength() < 128) {
+                    tmpValue = tmpValue.shiftLeft(128 - tmpValue.bitLength());
+                } else {
+                    tmpValue = tmpValue.shiftRight(tmpValue.bitLength() - 128);
+                }
+            }
+            int tmpIndex = 2 * (q - StepFileTokenizer.SMALLEST_POWER_OF_FIVE);
+            tmpTable[tmpIndex] = tmpValue.shiftRight(64).longValue();
+            tmpTable[tmpIndex + 1] = tmpValue.and(tmpMask64).longValue();
+        }
+        return tmpTable;
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,629 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.jdpd.utilities.Strings;
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.util.ModelUtils;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Utility methods for particle positions step files: Reading of GZIP text
+ * step files ("Version 1.0.0", see StepFileTokenizer) and of binary columnar
+ * step files as well as conversion of text step files to binary step files.
+ * <br>
+ * Binary step file layout (little endian):
+ * <br>
+ * int magic number, int format version, byte precision (4: float, 8: double),
+ * int total number of particles, int number of blocks,
+ * per block: molecule name, particle name (each as int length plus UTF-8
+ * bytes) and int number of positions,
+ * then contiguous columns x, y, z (float or double) followed by particle
+ * index and molecule index columns (int).
+ * <br>
+ * Binary step files are located in directory
+ * ModelDefinitions.JOB_RESULT_BINARY_STEPS_DIRECTORY next to the steps
+ * directory of the text step files and are used instead of the text step
+ * files if they are not older.
+ *
+ * @author Achim Zielesny
+ */
+public class StepFileUtils {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static class variables">
+    /**
+     * Magic number of binary step file ("MFPP")
+     */
+    private static final int MAGIC_NUMBER = 0x4D465050;
+
+    /**
+     * Format version of binary step file
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Precision byte for float columns
+     */
+    private static final byte FLOAT_PRECISION = 4;
+
+    /**
+     * Precision byte for double columns
+     */
+    private static final byte DOUBLE_PRECISION = 8;
+
+    /**
+     * Size of chunk buffer for column writing in byte
+     */
+    private static final int CHUNK_SIZE = 1 << 20;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    // <editor-fold defaultstate="collapsed" desc="- Pathname related methods">
+    /**
+     * Returns pathname of binary step file that corresponds to text step file
+     *
+     * @param aTextStepFilePathname Pathname of GZIP text step file
+     * @return Pathname of binary step file that corresponds to text step file
+     * @throws IllegalArgumentException Thrown if argument is invalid
+     */
+    public String getBinaryStepFilePathname(String aTextStepFilePathname) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aTextStepFilePathname == null || aTextStepFilePathname.isEmpty()) {
+            throw new IllegalArgumentException("aTextStepFilePathname is null/empty.");
+        }
+        // </editor-fold>
+        File tmpTextStepFile = new File(aTextStepFilePathname);
+        String tmpFilename = tmpTextStepFile.getName();
+        if (tmpFilename.endsWith(Strings.GZIP_FILE_ENDING)) {
+            tmpFilename = tmpFilename.substring(0, tmpFilename.length() - Strings.GZIP_FILE_ENDING.length());
+        }
+        File tmpStepsDirectory = tmpTextStepFile.getAbsoluteFile().getParentFile();
+        File tmpBaseDirectory = tmpStepsDirectory.getParentFile();
+        if (tmpBaseDirectory == null) {
+            tmpBaseDirectory = tmpStepsDirectory;
+        }
+        return tmpBaseDirectory.getPath() + File.separatorChar + ModelDefinitions.JOB_RESULT_BINARY_STEPS_DIRECTORY + File.separatorChar
+            + tmpFilename + ModelDefinitions.BINARY_STEP_FILE_ENDING;
+    }
+
+    /**
+     * Returns if binary step file exists for text step file that is not older
+     * than the text step file
+     *
+     * @param aTextStepFilePathname Pathname of GZIP text step file
+     * @return True: Current binary step file exists, false: Otherwise
+     */
+    public boolean hasCurrentBinaryStepFile(String aTextStepFilePathname) {
+        if (aTextStepFilePathname == null || aTextStepFilePathname.isEmpty()) {
+            return false;
+        }
+        File tmpTextStepFile = new File(aTextStepFilePathname);
+        File tmpBinaryStepFile = new File(this.getBinaryStepFilePathname(aTextStepFilePathname));
+        return tmpBinaryStepFile.isFile() && (!tmpTextStepFile.isFile() || tmpBinaryStepFile.lastModified() >= tmpTextStepFile.lastModified());
+    }
+
+    /**
+     * Returns coordinate precision of binary step file in bytes that is read
+     * from the file header
+     *
+     * @param aBinaryStepFilePathname Pathname of binary step file
+     * @return Coordinate precision in bytes (4: float, 8: double) or 0 if
+     * header could not be read
+     */
+    public byte getBinaryStepFilePrecision(String aBinaryStepFilePathname) {
+        if (aBinaryStepFilePathname == null || aBinaryStepFilePathname.isEmpty() || !(new File(aBinaryStepFilePathname)).isFile()) {
+            return 0;
+        }
+        try (RandomAccessFile tmpRandomAccessFile = new RandomAccessFile(aBinaryStepFilePathname, "r")) {
+            ByteBuffer tmpBuffer = ByteBuffer.allocate(9).order(ByteOrder.LITTLE_ENDIAN);
+            if (tmpRandomAccessFile.getChannel().read(tmpBuffer, 0) != 9) {
+                return 0;
+            }
+            tmpBuffer.flip();
+            if (tmpBuffer.getInt() != StepFileUtils.MAGIC_NUMBER || tmpBuffer.getInt() != StepFileUtils.FORMAT_VERSION) {
+                return 0;
+            }
+            byte tmpPrecision = tmpBuffer.get();
+            if (tmpPrecision != StepFileUtils.FLOAT_PRECISION && tmpPrecision != StepFileUtils.DOUBLE_PRECISION) {
+                return 0;
+            }
+            return tmpPrecision;
+        } catch (Exception anException) {
+            return 0;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="- Read methods">
+    /**
+     * Reads frame of step file: A binary step file is read if aStepFilePathname
+     * is a binary step file or if a current binary step file exists for the
+     * text step file. Otherwise the GZIP text step file is read.
+     * NOTE: No logging is performed since step files may be in write process.
+     *
+     * @param aStepFilePathname Pathname of text or binary step file
+     * @return Frame or null if frame could not be read
+     */
+    public ParticlePositionFrame readFrame(String aStepFilePathname) {
+        if (aStepFilePathname == null || aStepFilePathname.isEmpty()) {
+            return null;
+        }
+        if (aStepFilePathname.endsWith(ModelDefinitions.BINARY_STEP_FILE_ENDING)) {
+            return this.readBinaryFrame(aStepFilePathname);
+        }
+        if (this.hasCurrentBinaryStepFile(aStepFilePathname)) {
+            ParticlePositionFrame tmpFrame = this.readBinaryFrame(this.getBinaryStepFilePathname(aStepFilePathname));
+            if (tmpFrame != null) {
+                return tmpFrame;
+            }
+        }
+        return this.readTextFrame(aStepFilePathname);
+    }
+
+    /**
+     * Reads frame of GZIP text step file ("Version 1.0.0")
+     * NOTE: No logging is performed since step files may be in write process.
+     *
+     * @param aTextStepFilePathname Pathname of GZIP text step file
+     * @return Frame or null if frame could not be read
+     */
+    public ParticlePositionFrame readTextFrame(String aTextStepFilePathname) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aTextStepFilePathname == null || aTextStepFilePathname.isEmpty() || !(new File(aTextStepFilePathname)).isFile()) {
+            return null;
+        }
+        // </editor-fold>
+        try (GZIPInputStream tmpGzipInputStream = new GZIPInputStream(new FileInputStream(aTextStepFilePathname), ModelDefinitions.BUFFER_SIZE)) {
+            StepFileTokenizer tmpTokenizer = new StepFileTokenizer(tmpGzipInputStream, ModelDefinitions.BUFFER_SIZE);
+            if (!tmpTokenizer.nextToken() || !tmpTokenizer.isToken("Version 1.0.0")) {
+                return null;
+            }
+            if (!tmpTokenizer.nextToken()) {
+                return null;
+            }
+            int tmpTotalNumberOfParticles = tmpTokenizer.parseInt();
+            ArrayList<String> tmpMoleculeNameList = new ArrayList<>();
+            ArrayList<String> tmpParticleNameList = new ArrayList<>();
+            ArrayList<Integer> tmpBlockSizeList = new ArrayList<>();
+            double[] tmpX = new double[tmpTotalNumberOfParticles];
+            double[] tmpY = new double[tmpTotalNumberOfParticles];
+            double[] tmpZ = new double[tmpTotalNumberOfParticles];
+            int[] tmpParticleIndices = new int[tmpTotalNumberOfParticles];
+            int[] tmpMoleculeIndices = new int[tmpTotalNumberOfParticles];
+            int tmpIndex = 0;
+            while (tmpTokenizer.nextToken()) {
+                tmpMoleculeNameList.add(tmpTokenizer.getName());
+                this.nextTokenOrThrow(tmpTokenizer);
+                tmpParticleNameList.add(tmpTokenizer.getName());
+                this.nextTokenOrThrow(tmpTokenizer);
+                int tmpNumberOfPositions = tmpTokenizer.parseInt();
+                tmpBlockSizeList.add(tmpNumberOfPositions);
+                if (tmpIndex + tmpNumberOfPositions > tmpX.length) {
+                    int tmpNewLength = tmpIndex + tmpNumberOfPositions;
+                    tmpX = Arrays.copyOf(tmpX, tmpNewLength);
+                    tmpY = Arrays.copyOf(tmpY, tmpNewLength);
+                    tmpZ = Arrays.copyOf(tmpZ, tmpNewLength);
+                    tmpParticleIndices = Arrays.copyOf(tmpParticleIndices, tmpNewLength);
+                    tmpMoleculeIndices = Arrays.copyOf(tmpMoleculeIndices, tmpNewLength);
+                }
+                for (int i = 0; i < tmpNumberOfPositions; i++) {
+                    this.nextTokenOrThrow(tmpTokenizer);
+                    tmpX[tmpIndex] = tmpTokenizer.parseDouble();
+                    this.nextTokenOrThrow(tmpTokenizer);
+                    tmpY[tmpIndex] = tmpTokenizer.parseDouble();
+                    this.nextTokenOrThrow(tmpTokenizer);
+                    tmpZ[tmpIndex] = tmpTokenizer.parseDouble();
+                    this.nextTokenOrThrow(tmpTokenizer);
+                    tmpParticleIndices[tmpIndex] = tmpTokenizer.parseInt();
+                    this.nextTokenOrThrow(tmpTokenizer);
+                    tmpMoleculeIndices[tmpIndex] = tmpTokenizer.parseInt();
+                    tmpIndex++;
+                }
+            }
+            if (tmpIndex < tmpX.length) {
+                tmpX = Arrays.copyOf(tmpX, tmpIndex);
+                tmpY = Arrays.copyOf(tmpY, tmpIndex);
+                tmpZ = Arrays.copyOf(tmpZ, tmpIndex);
+                tmpParticleIndices = Arrays.copyOf(tmpParticleIndices, tmpIndex);
+                tmpMoleculeIndices = Arrays.copyOf(tmpMoleculeIndices, tmpIndex);
+            }
+            int[] tmpBlockSizes = new int[tmpBlockSizeList.size()];
+            for (int i = 0; i < tmpBlockSizes.length; i++) {
+                tmpBlockSizes[i] = tmpBlockSizeList.get(i);
+            }
+            return new ParticlePositionFrame(
+                tmpTotalNumberOfParticles,
+                tmpMoleculeNameList.toArray(new String[0]),
+                tmpParticleNameList.toArray(new String[0]),
+                tmpBlockSizes,
+                tmpX,
+                tmpY,
+                tmpZ,
+                tmpParticleIndices,
+                tmpMoleculeIndices
+            );
+        } catch (Exception anException) {
+            // Note: Exception may be thrown since step file can be still in
+            // write process thus
+            // ModelUtils.appendToLogfile(true, anException);
+            // should not be thrown
+            return null;
+        }
+    }
+
+    /**
+     * Reads frame of binary step file. The complete file is read into a heap
+     * buffer with a single channel read loop: A memory-mapped buffer is not
+     * unmapped before garbage collection and would lock the file (e.g. on
+     * Windows it could neither be replaced nor deleted).
+     * NOTE: No logging is performed (same behaviour as readTextFrame()).
+     *
+     * @param aBinaryStepFilePathname Pathname of binary step file
+     * @return Frame or null if frame could not be read
+     */
+    public ParticlePositionFrame readBinaryFrame(String aBinaryStepFilePathname) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aBinaryStepFilePathname == null || aBinaryStepFilePathname.isEmpty() || !(new File(aBinaryStepFilePathname)).isFile()) {
+            return null;
+        }
+        // </editor-fold>
+        try (RandomAccessFile tmpRandomAccessFile = new RandomAccessFile(aBinaryStepFilePathname, "r");
+            FileChannel tmpFileChannel = tmpRandomAccessFile.getChannel()
+        ) {
+            long tmpFileSize = tmpFileChannel.size();
+            if (tmpFileSize > (long) Integer.MAX_VALUE) {
+                return null;
+            }
+            ByteBuffer tmpBuffer = ByteBuffer.allocate((int) tmpFileSize);
+            while (tmpBuffer.hasRemaining()) {
+                if (tmpFileChannel.read(tmpBuffer) < 0) {
+                    return null;
+                }
+            }
+            tmpBuffer.flip();
+            tmpBuffer.order(ByteOrder.LITTLE_ENDIAN);
+            // <editor-fold defaultstate="collapsed" desc="Header">
+            if (tmpBuffer.getInt() != StepFileUtils.MAGIC_NUMBER) {
+                return null;
+            }
+            if (tmpBuffer.getInt() != StepFileUtils.FORMAT_VERSION) {
+                return null;
+            }
+            byte tmpPrecision = tmpBuffer.get();
+            if (tmpPrecision != StepFileUtils.FLOAT_PRECISION && tmpPrecision != StepFileUtils.DOUBLE_PRECISION) {
+                return null;
+            }
+            int tmpTotalNumberOfParticles = tmpBuffer.getInt();
+            int tmpNumberOfBlocks = tmpBuffer.getInt();
+            String[] tmpMoleculeNames = new String[tmpNumberOfBlocks];
+            String[] tmpParticleNames = new String[tmpNumberOfBlocks];
+            int[] tmpBlockSizes = new int[tmpNumberOfBlocks];
+            int tmpNumberOfPositions = 0;
+            for (int i = 0; i < tmpNumberOfBlocks; i++) {
+                tmpMoleculeNames[i] = this.getString(tmpBuffer);
+                tmpParticleNames[i] = this.getString(tmpBuffer);
+                tmpBlockSizes[i] = tmpBuffer.getInt();
+                tmpNumberOfPositions += tmpBlockSizes[i];
+            }
+            if ((long) tmpBuffer.remaining() != (long) tmpNumberOfPositions * (3L * tmpPrecision + 8L)) {
+                return null;
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Columns">
+            double[] tmpX = new double[tmpNumberOfPositions];
+            double[] tmpY = new double[tmpNumberOfPositions];
+            double[] tmpZ = new double[tmpNumberOfPositions];
+            if (tmpPrecision == StepFileUtils.DOUBLE_PRECISION) {
+                this.getDoubleColumn(tmpBuffer, tmpX);
+                this.getDoubleColumn(tmpBuffer, tmpY);
+                this.getDoubleColumn(tmpBuffer, tmpZ);
+            } else {
+                float[] tmpFloatColumn = new float[tmpNumberOfPositions];
+                this.getFloatColumn(tmpBuffer, tmpFloatColumn, tmpX);
+                this.getFloatColumn(tmpBuffer, tmpFloatColumn, tmpY);
+                this.getFloatColumn(tmpBuffer, tmpFloatColumn, tmpZ);
+            }
+            int[] tmpParticleIndices = new int[tmpNumberOfPositions];
+            int[] tmpMoleculeIndices = new int[tmpNumberOfPositions];
+            this.getIntColumn(tmpBuffer, tmpParticleIndices);
+            this.getIntColumn(tmpBuffer, tmpMoleculeIndices);
+            // </editor-fold>
+            return new ParticlePositionFrame(
+                tmpTotalNumberOfParticles,
+                tmpMoleculeNames,
+                tmpParticleNames,
+                tmpBlockSizes,
+                tmpX,
+                tmpY,
+                tmpZ,
+                tmpParticleIndices,
+                tmpMoleculeIndices
+            );
+        } catch (Exception anException) {
+            return null;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="- Write and conversion methods">
+    /**
+     * Writes frame to binary step file. The file is written to a temporary
+     * file first that is then moved to aBinaryStepFilePathname so that
+     * readers never see a partially written binary step file.
+     *
+     * @param aFrame Frame
+     * @param aBinaryStepFilePathname Pathname of binary step file (parent
+     * directory is created if necessary)
+     * @param anIsDoublePrecision True: Coordinates are written with double
+     * precision, false: Coordinates are written with float precision
+     * @return True: Operation successful, false: Otherwise
+     */
+    public boolean writeBinaryFrame(ParticlePositionFrame aFrame, String aBinaryStepFilePathname, boolean anIsDoublePrecision) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aFrame == null) {
+            return false;
+        }
+        if (aBinaryStepFilePathname == null || aBinaryStepFilePathname.isEmpty()) {
+            return false;
+        }
+        // </editor-fold>
+        File tmpBinaryStepFile = new File(aBinaryStepFilePathname);
+        File tmpTemporaryFile = new File(aBinaryStepFilePathname + ModelDefinitions.TEMPORARY_FILE_ENDING);
+        try {
+            File tmpDirectory = tmpBinaryStepFile.getAbsoluteFile().getParentFile();
+            if (!tmpDirectory.isDirectory() && !tmpDirectory.mkdirs() && !tmpDirectory.isDirectory()) {
+                ModelUtils.appendToLogfile(true, "StepFileUtils.writeBinaryFrame: Directory could not be created.");
+                return false;
+            }
+            try (RandomAccessFile tmpRandomAccessFile = new RandomAccessFile(tmpTemporaryFile, "rw");
+                FileChannel tmpFileChannel = tmpRandomAccessFile.getChannel()
+            ) {
+                tmpRandomAccessFile.setLength(0L);
+                // <editor-fold defaultstate="collapsed" desc="Header">
+                byte[][] tmpMoleculeNameBytes = new byte[aFrame.getNumberOfBlocks()][];
+                byte[][] tmpParticleNameBytes = new byte[aFrame.getNumberOfBlocks()][];
+                int tmpHeaderSize = 4 + 4 + 1 + 4 + 4;
+                for (int i = 0; i < aFrame.getNumberOfBlocks(); i++) {
+                    tmpMoleculeNameBytes[i] = aFrame.getBlockMoleculeNames()[i].getBytes(StandardCharsets.UTF_8);
+                    tmpParticleNameBytes[i] = aFrame.getBlockParticleNames()[i].getBytes(StandardCharsets.UTF_8);
+                    tmpHeaderSize += 4 + tmpMoleculeNameBytes[i].length + 4 + tmpParticleNameBytes[i].length + 4;
+                }
+                ByteBuffer tmpHeaderBuffer = ByteBuffer.allocate(tmpHeaderSize).order(ByteOrder.LITTLE_ENDIAN);
+                tmpHeaderBuffer.putInt(StepFileUtils.MAGIC_NUMBER);
+                tmpHeaderBuffer.putInt(StepFileUtils.FORMAT_VERSION);
+                if (anIsDoublePrecision) {
+                    tmpHeaderBuffer.put(StepFileUtils.DOUBLE_PRECISION);
+                } else {
+                    tmpHeaderBuffer.put(StepFileUtils.FLOAT_PRECISION);
+                }
+                tmpHeaderBuffer.putInt(aFrame.getTotalNumberOfParticles());
+                tmpHeaderBuffer.putInt(aFrame.getNumberOfBlocks());
+                for (int i = 0; i < aFrame.getNumberOfBlocks(); i++) {
+                    tmpHeaderBuffer.putInt(tmpMoleculeNameBytes[i].length);
+                    tmpHeaderBuffer.put(tmpMoleculeNameBytes[i]);
+                    tmpHeaderBuffer.putInt(tmpParticleNameBytes[i].length);
+                    tmpHeaderBuffer.put(tmpParticleNameBytes[i]);
+                    tmpHeaderBuffer.putInt(aFrame.getBlockSizes()[i]);
+                }
+                tmpHeaderBuffer.flip();
+                this.writeBuffer(tmpFileChannel, tmpHeaderBuffer);
+                // </editor-fold>
+                // <editor-fold defaultstate="collapsed" desc="Columns">
+                ByteBuffer tmpChunkBuffer = ByteBuffer.allocate(StepFileUtils.CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                this.writeCoordinateColumn(tmpFileChannel, tmpChunkBuffer, aFrame.getX(), anIsDoublePrecision);
+                this.writeCoordinateColumn(tmpFileChannel, tmpChunkBuffer, aFrame.getY(), anIsDoublePrecision);
+                this.writeCoordinateColumn(tmpFileChannel, tmpChunkBuffer, aFrame.getZ(), anIsDoublePrecision);
+                this.writeIntColumn(tmpFileChannel, tmpChunkBuffer, aFrame.getParticleIndices());
+                this.writeIntColumn(tmpFileChannel, tmpChunkBuffer, aFrame.getMoleculeIndices());
+                // </editor-fold>
+            }
+            Files.move(tmpTemporaryFile.toPath(), tmpBinaryStepFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            tmpTemporaryFile.delete();
+            return false;
+        }
+    }
+
+    /**
+     * Converts GZIP text step file ("Version 1.0.0") to corresponding binary
+     * step file (see getBinaryStepFilePathname())
+     *
+     * @param aTextStepFilePathname Pathname of GZIP text step file
+     * @param anIsDoublePrecision True: Coordinates are written with double
+     * precision, false: Coordinates are written with float precision
+     * @return True: Operation successful, false: Otherwise
+     */
+    public boolean convertTextStepFile(String aTextStepFilePathname, boolean anIsDoublePrecision) {
+        ParticlePositionFrame tmpFrame = this.readTextFrame(aTextStepFilePathname);
+        if (tmpFrame == null) {
+            ModelUtils.appendToLogfile(true, "StepFileUtils.convertTextStepFile: Text step file could not be read: " + aTextStepFilePathname);
+            return false;
+        }
+        return this.writeBinaryFrame(tmpFrame, this.getBinaryStepFilePathname(aTextStepFilePathname), anIsDoublePrecision);
+    }
+
+    /**
+     * Converts GZIP text step files in parallel to corresponding binary step
+     * files. Text step files with current binary step file are skipped.
+     *
+     * @param aTextStepFilePathnames Pathnames of GZIP text step files
+     * @param anIsDoublePrecision True: Coordinates are written with double
+     * precision, false: Coordinates are written with float precision
+     * @return True: Operation successful, false: Otherwise
+     */
+    public boolean convertTextStepFiles(String[] aTextStepFilePathnames, boolean anIsDoublePrecision) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aTextStepFilePathnames == null) {
+            return false;
+        }
+        // </editor-fold>
+        AtomicBoolean tmpIsSuccessful = new AtomicBoolean(true);
+        IntStream.range(0, aTextStepFilePathnames.length).parallel().forEach(i -> {
+            if (!this.hasCurrentBinaryStepFile(aTextStepFilePathnames[i])) {
+                if (!this.convertTextStepFile(aTextStepFilePathnames[i], anIsDoublePrecision)) {
+                    tmpIsSuccessful.set(false);
+                }
+            }
+        });
+        return tmpIsSuccessful.get();
+    }
+    // </editor-fold>
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Advances tokenizer to next token
+     *
+     * @param aTokenizer Tokenizer
+     * @throws IOException Thrown if input stream could not be read or end of
+     * stream is reached
+     */
+    private void nextTokenOrThrow(StepFileTokenizer aTokenizer) throws IOException {
+        if (!aTokenizer.nextToken()) {
+            throw new IOException("Unexpected end of step file.");
+        }
+    }
+
+    /**
+     * Reads string (int length plus UTF-8 bytes) from buffer
+     *
+     * @param aBuffer Buffer
+     * @return String
+     */
+    private String getString(ByteBuffer aBuffer) {
+        byte[] tmpBytes = new byte[aBuffer.getInt()];
+        aBuffer.get(tmpBytes);
+        return new String(tmpBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads double column from buffer and advances buffer position
+     *
+     * @param aBuffer Buffer
+     * @param aColumn Column to be filled
+     */
+    private void getDoubleColumn(ByteBuffer aBuffer, double[] aColumn) {
+        aBuffer.asDoubleBuffer().get(aColumn);
+        aBuffer.position(aBuffer.position() + aColumn.length * Double.BYTES);
+    }
+
+    /**
+     * Reads float column from buffer and advances buffer position
+     *
+     * @param aBuffer Buffer
+     * @param aFloatColumn Float column of same length as aColumn (buffer)
+     * @param aColumn Column to be filled
+     */
+    private void getFloatColumn(ByteBuffer aBuffer, float[] aFloatColumn, double[] aColumn) {
+        aBuffer.asFloatBuffer().get(aFloatColumn);
+        aBuffer.position(aBuffer.position() + aFloatColumn.length * Float.BYTES);
+        for (int i = 0; i < aColumn.length; i++) {
+            aColumn[i] = aFloatColumn[i];
+        }
+    }
+
+    /**
+     * Reads int column from buffer and advances buffer position
+     *
+     * @param aBuffer Buffer
+     * @param aColumn Column to be filled
+     */
+    private void getIntColumn(ByteBuffer aBuffer, int[] aColumn) {
+        aBuffer.asIntBuffer().get(aColumn);
+        aBuffer.position(aBuffer.position() + aColumn.length * Integer.BYTES);
+    }
+
+    /**
+     * Writes coordinate column in chunks
+     *
+     * @param aFileChannel File channel
+     * @param aChunkBuffer Chunk buffer
+     * @param aColumn Column
+     * @param anIsDoublePrecision True: Double precision, false: Float precision
+     * @throws IOException Thrown if write operation fails
+     */
+    private void writeCoordinateColumn(FileChannel aFileChannel, ByteBuffer aChunkBuffer, double[] aColumn, boolean anIsDoublePrecision) throws IOException {
+        int tmpValueSize = anIsDoublePrecision ? Double.BYTES : Float.BYTES;
+        int tmpValuesPerChunk = aChunkBuffer.capacity() / tmpValueSize;
+        for (int tmpStart = 0; tmpStart < aColumn.length; tmpStart += tmpValuesPerChunk) {
+            int tmpEnd = Math.min(tmpStart + tmpValuesPerChunk, aColumn.length);
+            aChunkBuffer.clear();
+            if (anIsDoublePrecision) {
+                aChunkBuffer.asDoubleBuffer().put(aColumn, tmpStart, tmpEnd - tmpStart);
+            } else {
+                for (int i = tmpStart; i < tmpEnd; i++) {
+                    aChunkBuffer.putFloat((i - tmpStart) * Float.BYTES, (float) aColumn[i]);
+                }
+            }
+            aChunkBuffer.limit((tmpEnd - tmpStart) * tmpValueSize);
+            this.writeBuffer(aFileChannel, aChunkBuffer);
+        }
+    }
+
+    /**
+     * Writes int column in chunks
+     *
+     * @param aFileChannel File channel
+     * @param aChunkBuffer Chunk buffer
+     * @param aColumn Column
+     * @throws IOException Thrown if write operation fails
+     */
+    private void writeIntColumn(FileChannel aFileChannel, ByteBuffer aChunkBuffer, int[] aColumn) throws IOException {
+        int tmpValuesPerChunk = aChunkBuffer.capacity() / Integer.BYTES;
+        for (int tmpStart = 0; tmpStart < aColumn.length; tmpStart += tmpValuesPerChunk) {
+            int tmpEnd = Math.min(tmpStart + tmpValuesPerChunk, aColumn.length);
+            aChunkBuffer.clear();
+            aChunkBuffer.asIntBuffer().put(aColumn, tmpStart, tmpEnd - tmpStart);
+            aChunkBuffer.limit((tmpEnd - tmpStart) * Integer.BYTES);
+            this.writeBuffer(aFileChannel, aChunkBuffer);
+        }
+    }
+
+    /**
+     * Writes complete buffer (from position to limit) to file channel
+     *
+     * @param aFileChannel File channel
+     * @param aBuffer Buffer
+     * @throws IOException Thrown if write operation fails
+     */
+    private void writeBuffer(FileChannel aFileChannel, ByteBuffer aBuffer) throws IOException {
+        while (aBuffer.hasRemaining()) {
+            aFileChannel.write(aBuffer);
+        }
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,616 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.jdpd.utilities.FileOutputStrings;
+import de.gnwi.jdpd.utilities.Strings;
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.preference.Preferences;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Singleton process-wide cache of parsed particle positions step frames.
+ * Frames are keyed by job result path, step and coordinate precision of the
+ * file that is read (text step file or float/double binary step file) and
+ * are removed in least-recently-used order if the byte budget (see
+ * Preferences.getStepFrameCacheSizeInMegabytes()) is exceeded.
+ * <br>
+ * A cached frame is only used if the length and last modification time of
+ * the read file are unchanged. Concurrent requests of the same frame are
+ * parsed only once. Following steps may be prefetched by a single
+ * background thread.
+ * <br>
+ * NOTE: Cached frames are shared, i.e. they must be treated as read-only
+ * (see ParticlePositionFrame).
+ *
+ * @author Achim Zielesny
+ */
+public final class StepFrameCache {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static class variables">
+    /**
+     * Step frame cache instance
+     */
+    private static final StepFrameCache stepFrameCache = new StepFrameCache(-1L);
+
+    /**
+     * Precision code of text step file frames
+     */
+    private static final byte TEXT_PRECISION = 0;
+
+    /**
+     * Estimated number of bytes per position (x, y, z, particle index,
+     * molecule index)
+     */
+    private static final long BYTES_PER_POSITION = 3L * 8L + 2L * 4L;
+
+    /**
+     * Estimated number of bytes per block (names, block size and array
+     * references)
+     */
+    private static final long BYTES_PER_BLOCK = 128L;
+
+    /**
+     * Estimated number of bytes of frame and cache entry overhead
+     */
+    private static final long BYTES_PER_FRAME = 512L;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Step file utility methods
+     */
+    private final StepFileUtils stepFileUtils = new StepFileUtils();
+
+    /**
+     * Fixed maximum size of cache in bytes (less than 0: Size is taken from
+     * Preferences)
+     */
+    private final long fixedMaximumSizeInBytes;
+
+    /**
+     * Cached frames in access order (least recently used first)
+     */
+    private final LinkedHashMap<StepFrameKey, StepFrameEntry> frameMap;
+
+    /**
+     * Frames that are currently read
+     */
+    private final HashMap<StepFrameKey, FutureTask<ParticlePositionFrame>> loadingMap;
+
+    /**
+     * Generation of prefetch requests: Pending prefetches of an older
+     * generation are skipped
+     */
+    private final AtomicLong prefetchGeneration;
+
+    /**
+     * Number of cache hits
+     */
+    private final AtomicLong numberOfHits;
+
+    /**
+     * Number of cache misses
+     */
+    private final AtomicLong numberOfMisses;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Estimated size of cached frames in bytes
+     */
+    private long sizeInBytes;
+
+    /**
+     * Executor service for prefetch
+     */
+    private ExecutorService prefetchExecutorService;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aFixedMaximumSizeInBytes Fixed maximum size of cache in bytes
+     * (less than 0: Size is taken from Preferences)
+     */
+    StepFrameCache(long aFixedMaximumSizeInBytes) {
+        this.fixedMaximumSizeInBytes = aFixedMaximumSizeInBytes;
+        this.frameMap = new LinkedHashMap<>(16, 0.75f, true);
+        this.loadingMap = new HashMap<>();
+        this.prefetchGeneration = new AtomicLong(0L);
+        this.numberOfHits = new AtomicLong(0L);
+        this.numberOfMisses = new AtomicLong(0L);
+        this.sizeInBytes = 0L;
+        this.prefetchExecutorService = null;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public singleton instance method">
+    /**
+     * Singleton initialisation and instance method
+     *
+     * @return StepFrameCache instance
+     */
+    public static StepFrameCache getInstance() {
+        return StepFrameCache.stepFrameCache;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Returns frame of step file from cache or reads it (see
+     * StepFileUtils.readFrame())
+     * NOTE: No logging is performed since step files may be in write process.
+     *
+     * @param aStepFilePathname Pathname of text or binary step file
+     * @return Frame or null if frame could not be read
+     */
+    public ParticlePositionFrame getFrame(String aStepFilePathname) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aStepFilePathname == null || aStepFilePathname.isEmpty()) {
+            return null;
+        }
+        // </editor-fold>
+        if (this.getMaximumSizeInBytes() <= 0L) {
+            return this.stepFileUtils.readFrame(aStepFilePathname);
+        }
+        StepFrameSource tmpSource = this.getSource(aStepFilePathname);
+        if (tmpSource == null) {
+            return null;
+        }
+        FutureTask<ParticlePositionFrame> tmpLoadingTask;
+        boolean tmpIsLoader = false;
+        synchronized (this) {
+            StepFrameEntry tmpEntry = this.frameMap.get(tmpSource.key);
+            if (tmpEntry != null) {
+                if (tmpEntry.isValid(tmpSource)) {
+                    this.numberOfHits.incrementAndGet();
+                    return tmpEntry.frame;
+                }
+                this.removeEntry(tmpSource.key);
+            }
+            tmpLoadingTask = this.loadingMap.get(tmpSource.key);
+            if (tmpLoadingTask == null) {
+                tmpLoadingTask = new FutureTask<>(() -> this.readFrame(tmpSource));
+                this.loadingMap.put(tmpSource.key, tmpLoadingTask);
+                tmpIsLoader = true;
+                this.numberOfMisses.incrementAndGet();
+            }
+        }
+        ParticlePositionFrame tmpFrame = null;
+        try {
+            if (tmpIsLoader) {
+                tmpLoadingTask.run();
+            }
+            tmpFrame = tmpLoadingTask.get();
+        } catch (InterruptedException anException) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException anException) {
+            tmpFrame = null;
+        } finally {
+            if (tmpIsLoader) {
+                synchronized (this) {
+                    this.loadingMap.remove(tmpSource.key);
+                    if (tmpFrame != null) {
+                        this.putEntry(tmpSource, tmpFrame);
+                    }
+                }
+            }
+        }
+        if (tmpFrame == null && tmpSource.key.precision != StepFrameCache.TEXT_PRECISION && !tmpSource.isBinaryRequest) {
+            // Binary step file could not be read: Fall back to (uncached) text step file
+            return this.stepFileUtils.readTextFrame(aStepFilePathname);
+        }
+        return tmpFrame;
+    }
+
+    /**
+     * Reads frames of step files into the cache with a single background
+     * thread. Pending prefetches of former calls are skipped.
+     *
+     * @param aStepFilePathnames Pathnames of text or binary step files in
+     * prefetch order (may be null/empty)
+     */
+    public void prefetch(String[] aStepFilePathnames) {
+        if (aStepFilePathnames == null || aStepFilePathnames.length == 0 || this.getMaximumSizeInBytes() <= 0L) {
+            return;
+        }
+        long tmpGeneration = this.prefetchGeneration.incrementAndGet();
+        ExecutorService tmpExecutorService = this.getPrefetchExecutorService();
+        for (String tmpStepFilePathname : aStepFilePathnames) {
+            if (tmpStepFilePathname != null && !tmpStepFilePathname.isEmpty()) {
+                tmpExecutorService.submit(() -> {
+                    if (this.prefetchGeneration.get() == tmpGeneration) {
+                        this.getFrame(tmpStepFilePathname);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Removes all cached frames and skips pending prefetches
+     */
+    public void clear() {
+        this.prefetchGeneration.incrementAndGet();
+        synchronized (this) {
+            this.frameMap.clear();
+            this.sizeInBytes = 0L;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Number of cached frames
+     *
+     * @return Number of cached frames
+     */
+    public synchronized int getNumberOfFrames() {
+        return this.frameMap.size();
+    }
+
+    /**
+     * Estimated size of cached frames in bytes
+     *
+     * @return Estimated size of cached frames in bytes
+     */
+    public synchronized long getSizeInBytes() {
+        return this.sizeInBytes;
+    }
+
+    /**
+     * Number of cache hits
+     *
+     * @return Number of cache hits
+     */
+    public long getNumberOfHits() {
+        return this.numberOfHits.get();
+    }
+
+    /**
+     * Number of cache misses (frames that were read)
+     *
+     * @return Number of cache misses
+     */
+    public long getNumberOfMisses() {
+        return this.numberOfMisses.get();
+    }
+
+    /**
+     * Estimated size of frame in bytes
+     *
+     * @param aFrame Frame
+     * @return Estimated size of frame in bytes
+     */
+    public static long getEstimatedSizeInBytes(ParticlePositionFrame aFrame) {
+        return StepFrameCache.BYTES_PER_FRAME
+            + (long) aFrame.getNumberOfBlocks() * StepFrameCache.BYTES_PER_BLOCK
+            + (long) aFrame.getNumberOfPositions() * StepFrameCache.BYTES_PER_POSITION;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Maximum size of cache in bytes
+     *
+     * @return Maximum size of cache in bytes
+     */
+    private long getMaximumSizeInBytes() {
+        if (this.fixedMaximumSizeInBytes >= 0L) {
+            return this.fixedMaximumSizeInBytes;
+        } else {
+            return (long) Preferences.getInstance().getStepFrameCacheSizeInMegabytes() * 1024L * 1024L;
+        }
+    }
+
+    /**
+     * Returns source of step file, i.e. the file that is actually read
+     *
+     * @param aStepFilePathname Pathname of text or binary step file
+     * @return Source or null if no readable file exists
+     */
+    private StepFrameSource getSource(String aStepFilePathname) {
+        boolean tmpIsBinaryRequest = aStepFilePathname.endsWith(ModelDefinitions.BINARY_STEP_FILE_ENDING);
+        String tmpSourcePathname = aStepFilePathname;
+        byte tmpPrecision = StepFrameCache.TEXT_PRECISION;
+        if (tmpIsBinaryRequest) {
+            tmpPrecision = this.stepFileUtils.getBinaryStepFilePrecision(aStepFilePathname);
+            if (tmpPrecision == StepFrameCache.TEXT_PRECISION) {
+                return null;
+            }
+        } else if (this.stepFileUtils.hasCurrentBinaryStepFile(aStepFilePathname)) {
+            String tmpBinaryStepFilePathname = this.stepFileUtils.getBinaryStepFilePathname(aStepFilePathname);
+            tmpPrecision = this.stepFileUtils.getBinaryStepFilePrecision(tmpBinaryStepFilePathname);
+            if (tmpPrecision != StepFrameCache.TEXT_PRECISION) {
+                tmpSourcePathname = tmpBinaryStepFilePathname;
+            }
+        }
+        File tmpSourceFile = new File(tmpSourcePathname);
+        if (!tmpSourceFile.isFile()) {
+            return null;
+        }
+        // <editor-fold defaultstate="collapsed" desc="Key">
+        File tmpRequestedFile = (new File(aStepFilePathname)).getAbsoluteFile();
+        File tmpStepsDirectory = tmpRequestedFile.getParentFile();
+        File tmpJobResultDirectory = tmpStepsDirectory.getParentFile();
+        if (tmpJobResultDirectory == null) {
+            tmpJobResultDirectory = tmpStepsDirectory;
+        }
+        String tmpStep = tmpRequestedFile.getName();
+        if (tmpStep.endsWith(ModelDefinitions.BINARY_STEP_FILE_ENDING)) {
+            tmpStep = tmpStep.substring(0, tmpStep.length() - ModelDefinitions.BINARY_STEP_FILE_ENDING.length());
+        }
+        if (tmpStep.endsWith(Strings.GZIP_FILE_ENDING)) {
+            tmpStep = tmpStep.substring(0, tmpStep.length() - Strings.GZIP_FILE_ENDING.length());
+        }
+        if (tmpStep.startsWith(FileOutputStrings.PARTICLE_POSITIONS_SIMULATION_STEP_FILE_PREFIX)) {
+            tmpStep = tmpStep.substring(FileOutputStrings.PARTICLE_POSITIONS_SIMULATION_STEP_FILE_PREFIX.length());
+        }
+        // NOTE: Steps directory is part of step since e.g. minimization steps have the same file names
+        tmpStep = tmpStepsDirectory.getName() + File.separatorChar + tmpStep;
+        // </editor-fold>
+        return new StepFrameSource(
+            new StepFrameKey(tmpJobResultDirectory.getPath(), tmpStep, tmpPrecision),
+            tmpSourcePathname,
+            tmpSourceFile.length(),
+            tmpSourceFile.lastModified(),
+            tmpIsBinaryRequest
+        );
+    }
+
+    /**
+     * Reads frame of source
+     *
+     * @param aSource Source
+     * @return Frame or null if frame could not be read
+     */
+    private ParticlePositionFrame readFrame(StepFrameSource aSource) {
+        if (aSource.key.precision == StepFrameCache.TEXT_PRECISION) {
+            return this.stepFileUtils.readTextFrame(aSource.pathname);
+        } else {
+            return this.stepFileUtils.readBinaryFrame(aSource.pathname);
+        }
+    }
+
+    /**
+     * Puts frame into cache and removes least recently used frames if
+     * maximum size is exceeded.
+     * NOTE: Must be called in synchronized block.
+     *
+     * @param aSource Source
+     * @param aFrame Frame
+     */
+    private void putEntry(StepFrameSource aSource, ParticlePositionFrame aFrame) {
+        long tmpMaximumSizeInBytes = this.getMaximumSizeInBytes();
+        long tmpFrameSizeInBytes = StepFrameCache.getEstimatedSizeInBytes(aFrame);
+        if (tmpFrameSizeInBytes > tmpMaximumSizeInBytes) {
+            return;
+        }
+        this.removeEntry(aSource.key);
+        this.frameMap.put(aSource.key, new StepFrameEntry(aFrame, tmpFrameSizeInBytes, aSource.length, aSource.lastModified));
+        this.sizeInBytes += tmpFrameSizeInBytes;
+        Iterator<Map.Entry<StepFrameKey, StepFrameEntry>> tmpIterator = this.frameMap.entrySet().iterator();
+        while (this.sizeInBytes > tmpMaximumSizeInBytes && tmpIterator.hasNext()) {
+            this.sizeInBytes -= tmpIterator.next().getValue().sizeInBytes;
+            tmpIterator.remove();
+        }
+    }
+
+    /**
+     * Removes frame from cache.
+     * NOTE: Must be called in synchronized block.
+     *
+     * @param aKey Key
+     */
+    private void removeEntry(StepFrameKey aKey) {
+        StepFrameEntry tmpEntry = this.frameMap.remove(aKey);
+        if (tmpEntry != null) {
+            this.sizeInBytes -= tmpEntry.sizeInBytes;
+        }
+    }
+
+    /**
+     * Returns executor service for prefetch (single daemon thread)
+     *
+     * @return Executor service for prefetch
+     */
+    private synchronized ExecutorService getPrefetchExecutorService() {
+        if (this.prefetchExecutorService == null) {
+            this.prefetchExecutorService = Executors.newSingleThreadExecutor(aRunnable -> {
+                Thread tmpThread = new Thread(aRunnable, "StepFrameCachePrefetch");
+                tmpThread.setDaemon(true);
+                tmpThread.setPriority(Thread.MIN_PRIORITY);
+                return tmpThread;
+            });
+        }
+        return this.prefetchExecutorService;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private classes">
+    /**
+     * Cache key: Job result path, step and precision
+     */
+    private static final class StepFrameKey {
+
+        /**
+         * Job result path
+         */
+        final String jobResultPath;
+
+        /**
+         * Step (with steps directory)
+         */
+        final String step;
+
+        /**
+         * Precision (0: Text step file, 4: Float, 8: Double)
+         */
+        final byte precision;
+
+        /**
+         * Constructor
+         *
+         * @param aJobResultPath Job result path
+         * @param aStep Step (with steps directory)
+         * @param aPrecision Precision
+         */
+        StepFrameKey(String aJobResultPath, String aStep, byte aPrecision) {
+            this.jobResultPath = aJobResultPath;
+            this.step = aStep;
+            this.precision = aPrecision;
+        }
+
+        @Override
+        public boolean equals(Object anObject) {
+            if (this == anObject) {
+                return true;
+            }
+            if (!(anObject instanceof StepFrameKey)) {
+                return false;
+            }
+            StepFrameKey tmpKey = (StepFrameKey) anObject;
+            return this.precision == tmpKey.precision && this.step.equals(tmpKey.step) && this.jobResultPath.equals(tmpKey.jobResultPath);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.jobResultPath, this.step, this.precision);
+        }
+
+    }
+
+    /**
+     * Source of frame, i.e. the file that is actually read
+     */
+    private static final class StepFrameSource {
+
+        /**
+         * Key
+         */
+        final StepFrameKey key;
+
+        /**
+         * Pathname of read file
+         */
+        final String pathname;
+
+        /**
+         * Length of read file
+         */
+        final long length;
+
+        /**
+         * Last modification time of read file
+         */
+        final long lastModified;
+
+        /**
+         * True: Binary step file was requested, false: Otherwise
+         */
+        final boolean isBinaryRequest;
+
+        /**
+         * Constructor
+         *
+         * @param aKey Key
+         * @param aPathname Pathname of read file
+         * @param aLength Length of read file
+         * @param aLastModified Last modification time of read file
+         * @param anIsBinaryRequest True: Binary step file was requested,
+         * false: Otherwise
+         */
+        StepFrameSource(StepFrameKey aKey, String aPathname, long aLength, long aLastModified, boolean anIsBinaryRequest) {
+            this.key = aKey;
+            this.pathname = aPathname;
+            this.length = aLength;
+            this.lastModified = aLastModified;
+            this.isBinaryRequest = anIsBinaryRequest;
+        }
+
+    }
+
+    /**
+     * Cache entry
+     */
+    private static final class StepFrameEntry {
+
+        /**
+         * Frame
+         */
+        final ParticlePositionFrame frame;
+
+        /**
+         * Estimated size of frame in bytes
+         */
+        final long sizeInBytes;
+
+        /**
+         * Length of read file
+         */
+        final long length;
+
+        /**
+         * Last modification time of read file
+         */
+        final long lastModified;
+
+        /**
+         * Constructor
+         *
+         * @param aFrame Frame
+         * @param aSizeInBytes Estimated size of frame in bytes
+         * @param aLength Length of read file
+         * @param aLastModified Last modification time of read file
+         */
+        StepFrameEntry(ParticlePositionFrame aFrame, long aSizeInBytes, long aLength, long aLastModified) {
+            this.frame = aFrame;
+            this.sizeInBytes = aSizeInBytes;
+            this.length = aLength;
+            this.lastModified = aLastModified;
+        }
+
+        /**
+         * Returns if entry is valid for source, i.e. if read file is
+         * unchanged
+         *
+         * @param aSource Source
+         * @return True: Entry is valid, false: Otherwise
+         */
+        boolean isValid(StepFrameSource aSource) {
+            return this.length == aSource.length && this.lastModified == aSource.lastModified;
+        }
+
+    }
+    // </editor-fold>
+
+}
@@ -21,10 +21,14 @@ package de.gnwi.mfsim.model.particleStructure;
 
 import de.gnwi.mfsim.model.util.ModelUtils;
 import de.gnwi.mfsim.model.graphics.SpicesGraphics;
-import java.util.concurrent.ConcurrentHashMap;
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.util.ContentCache;
 
 /**
- * Pool for graphical Spices
+ * Pool for graphical Spices: Bounded cache keyed by the molecular structure
+ * string (see ContentCache). A Spices instance is
+ * used exclusively by the caller between getSpices() and 
+ * setSpicesForReuse().
  *
  * @author Achim Zielesny
  */
@@ -40,9 +44,9 @@ public class SpicesPool {
     //
     // <editor-fold defaultstate="collapsed" desc="Private class variables">
     /**
-     * Molecular structure string to Spices map
+     * Molecular structure string to Spices cache
      */
-    private ConcurrentHashMap<String, SpicesGraphics> spicesMap;
+    private final ContentCache<SpicesGraphics> spicesCache;
 
     // </editor-fold>
     //
@@ -51,8 +55,11 @@ public class SpicesPool {
      * Singleton constructor
      */
     private SpicesPool() {
-        // NOTE: 100 Spices instances are sufficient for all practical purposes
-        this.spicesMap = new ConcurrentHashMap<>(100);
+        this.spicesCache = 
+            new ContentCache<>(
+                ModelDefinitions.SPICES_CACHE_MAXIMUM_WEIGHT, 
+                ModelDefinitions.CACHE_MAXIMUM_NUMBER_OF_INSTANCES_PER_CONTENT
+            );
     }
 
     // </editor-fold>
@@ -75,7 +82,7 @@ public class SpicesPool {
      * @param aMolecularStructureString Molecular structure string
      * @return Spices instance or null if molecular structure string is invalid
      */
-    public synchronized SpicesGraphics getSpices(String aMolecularStructureString) {
+    public SpicesGraphics getSpices(String aMolecularStructureString) {
         // <editor-fold defaultstate="collapsed" desc="Checks">
         if (aMolecularStructureString == null || aMolecularStructureString.isEmpty()) {
             // Utility.appendToLogfile(true, "SpicesPool.getSpices: Null");
@@ -83,7 +90,7 @@ public class SpicesPool {
         }
         // </editor-fold>
         try {
-            SpicesGraphics tmpSpices = this.spicesMap.remove(aMolecularStructureString);
+            SpicesGraphics tmpSpices = this.spicesCache.poll(aMolecularStructureString);
             if (tmpSpices == null) {
                 tmpSpices = new SpicesGraphics(aMolecularStructureString);
                 if (tmpSpices.isValid()) {
@@ -115,7 +122,7 @@ public class SpicesPool {
         if (aSpices != null) {
             // Utility.appendToLogfile(true, "SpicesPool.setSpicesForReuse: "
             //         + aSpices.getInputStructure().substring(0, aSpices.getInputStructure().length() > 20 ? 20 : aSpices.getInputStructure().length()));
-            this.spicesMap.putIfAbsent(aSpices.getInputStructure(), aSpices);
+            this.spicesCache.offer(aSpices.getInputStructure(), aSpices);
             // Utility.appendToLogfile(true, "SpicesPool Size = " + String.valueOf(this.spicesMap.size()));
         }
     }
@@ -126,7 +133,25 @@ public class SpicesPool {
      * @return Number of pooled Spices instances
      */
     public int getPoolSize() {
-        return this.spicesMap.size();
+        return this.spicesCache.getNumberOfInstances();
+    }
+
+    /**
+     * Returns number of getSpices() calls with pooled Spices instance
+     *
+     * @return Number of hits
+     */
+    public long getHitCount() {
+        return this.spicesCache.getHitCount();
+    }
+
+    /**
+     * Returns number of getSpices() calls without pooled Spices instance
+     *
+     * @return Number of misses
+     */
+    public long getMissCount() {
+        return this.spicesCache.getMissCount();
     }
 
     // </editor-fold>
@@ -137,7 +162,7 @@ public class SpicesPool {
      */
     public void clear() {
         // Utility.appendToLogfile(true, "SpicesPool.clear");
-        this.spicesMap.clear();
+        this.spicesCache.clear();
     }
     // </editor-fold>
     
@@ -19,11 +19,14 @@
  */
 package de.gnwi.mfsim.model.peptide;
 
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.util.ContentCache;
 import de.gnwi.mfsim.model.util.ModelUtils;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * PdbToDpd pool
+ * PdbToDpd pool: Bounded cache keyed by the protein data string (see 
+ * ContentCache). A PdbToDpd instance is used exclusively by the 
+ * caller between getPdbToDpd() and setPdbToDpdForReuse().
  *
  * @author Achim Zielesny
  */
@@ -39,9 +42,9 @@ public class PdbToDpdPool {
     //
     // <editor-fold defaultstate="collapsed" desc="Private class variables">
     /**
-     * Protein data to PdbToDpd map
+     * Protein data to PdbToDpd cache
      */
-    private ConcurrentHashMap<String, PdbToDpd> pdbToDPDMap;
+    private final ContentCache<PdbToDpd> pdbToDPDCache;
 
     // </editor-fold>
     //
@@ -50,8 +53,11 @@ public class PdbToDpdPool {
      * Singleton constructor
      */
     private PdbToDpdPool() {
-        // NOTE: 100 PdbToDpd instances are sufficient for all practical purposes
-        this.pdbToDPDMap = new ConcurrentHashMap<>(100);
+        this.pdbToDPDCache = 
+            new ContentCache<>(
+                ModelDefinitions.PDB_TO_DPD_CACHE_MAXIMUM_WEIGHT, 
+                ModelDefinitions.CACHE_MAXIMUM_NUMBER_OF_INSTANCES_PER_CONTENT
+            );
     }
 
     // </editor-fold>
@@ -75,14 +81,14 @@ public class PdbToDpdPool {
      * @param aProteinData Protein data
      * @return PdbToDpd instance or null if protein data are invalid
      */
-    public synchronized PdbToDpd getPdbToDpd(String aProteinData) {
+    public PdbToDpd getPdbToDpd(String aProteinData) {
         // <editor-fold defaultstate="collapsed" desc="Checks">
         if (aProteinData == null || aProteinData.isEmpty()) {
             return null;
         }
         // </editor-fold>
         try {
-            PdbToDpd tmpPdbToDPD = this.pdbToDPDMap.remove(aProteinData);
+            PdbToDpd tmpPdbToDPD = this.pdbToDPDCache.poll(aProteinData);
             if (tmpPdbToDPD == null) {
                 tmpPdbToDPD = new PdbToDpd(aProteinData);
             }
@@ -102,7 +108,7 @@ public class PdbToDpdPool {
     public void setPdbToDpdForReuse(PdbToDpd aPdbToDPD, String aProteinData) {
         try{
             if (aPdbToDPD != null) {
-                this.pdbToDPDMap.putIfAbsent(aProteinData, aPdbToDPD);
+                this.pdbToDPDCache.offer(aProteinData, aPdbToDPD);
             }
         } catch (Exception anException) {
             ModelUtils.appendToLogfile(true, anException);
@@ -116,7 +122,25 @@ public class PdbToDpdPool {
      * @return Number of pooled PdbToDpd instances
      */
     public int getPoolSize() {
-        return this.pdbToDPDMap.size();
+        return this.pdbToDPDCache.getNumberOfInstances();
+    }
+
+    /**
+     * Returns number of getPdbToDpd() calls with pooled PdbToDpd instance
+     *
+     * @return Number of hits
+     */
+    public long getHitCount() {
+        return this.pdbToDPDCache.getHitCount();
+    }
+
+    /**
+     * Returns number of getPdbToDpd() calls without pooled PdbToDpd instance
+     *
+     * @return Number of misses
+     */
+    public long getMissCount() {
+        return this.pdbToDPDCache.getMissCount();
     }
 
     // </editor-fold>
@@ -126,7 +150,7 @@ public class PdbToDpdPool {
      * Clears pool
      */
     public void clear() {
-        this.pdbToDPDMap.clear();
+        this.pdbToDPDCache.clear();
     }
     // </editor-fold>
     
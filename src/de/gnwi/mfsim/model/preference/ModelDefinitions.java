@@ -21,6 +21,7 @@ package de.gnwi.mfsim.model.preference;
 
 import de.gnwi.mfsim.model.graphics.SimulationBoxViewEnum;
 import de.gnwi.mfsim.model.job.JobUpdateUtils;
+import de.gnwi.mfsim.model.util.ArchiveCompressionEnum;
 import de.gnwi.mfsim.model.util.ImageStorageEnum;
 import de.gnwi.mfsim.model.util.ParticleColorDisplayEnum;
 import de.gnwi.mfsim.model.util.StandardColorEnum;
@@ -82,6 +83,11 @@ public interface ModelDefinitions {
      */
     String JDPD_STEPS_DIRECTORY = "Jdpd_Steps";
 
+    /**
+     * Binary steps directory in Job Result directory
+     */
+    String JOB_RESULT_BINARY_STEPS_DIRECTORY = "Jdpd_BinSteps";
+
     /**
      * Minimization steps directory for Jdpd in Job Result directory
      */
@@ -111,6 +117,12 @@ public interface ModelDefinitions {
      * Molecule-center RDF directory in Job Result directory
      */
     String JOB_RESULT_MOLECULE_CENTER_PAIR_RDF_DIRECTORY = "MCP_RDF";
+
+    /**
+     * RDF directory for partial RDF results of single steps (online 
+     * analysis) in Job Result directory
+     */
+    String JOB_RESULT_RDF_FOR_STEP_DIRECTORY = "RDF_Steps";
     
     /**
      * Particle-pair distance directory in Job Result directory
@@ -227,6 +239,17 @@ public interface ModelDefinitions {
      */
     String JOB_RESULT_INFO_FILENAME = "JobResultInfo.txt";
 
+    /**
+     * File name of persistent job result index file in job result path
+     */
+    String JOB_RESULT_INDEX_FILENAME = "JobResultIndex.bin";
+
+    /**
+     * File name of core allocation file of job result (see 
+     * JobCoreBudgetScheduler)
+     */
+    String JOB_RESULT_CORE_ALLOCATION_FILENAME = "JobCoreAllocation.txt";
+
     /**
      * File name of compressed XML file with value item container information of
      * job input
@@ -238,6 +261,31 @@ public interface ModelDefinitions {
      */
     String LOGFILE_NAME = "MFsim_Logfile.txt";
 
+    /**
+     * Capacity of ring buffer of asynchronous log writer (see AsyncLogWriter)
+     */
+    int LOGFILE_RING_BUFFER_CAPACITY = 8192;
+
+    /**
+     * Number of pending log entries that wake the log writer thread
+     */
+    int LOGFILE_WRITER_BATCH_SIZE = 256;
+
+    /**
+     * Maximum time in milliseconds before pending log entries are flushed
+     */
+    long LOGFILE_WRITER_FLUSH_INTERVAL_MILLISECONDS = 250L;
+
+    /**
+     * Maximum size of log file in byte before it is rotated
+     */
+    long LOGFILE_MAXIMUM_SIZE = 10L * 1024L * 1024L;
+
+    /**
+     * Number of rotated log files that are kept
+     */
+    int LOGFILE_NUMBER_OF_ROTATED_FILES = 3;
+
     /**
      * Single instance file name
      */
@@ -300,6 +348,21 @@ public interface ModelDefinitions {
      */
     String JOB_RESULT_PARTICLE_IN_MOLECULE_PAIR_AVERAGE_DISTANCE_FOR_STEP_FILE_PREFIX = "MoleculeParticlePairAverageDistanceForStep_";
 
+    /**
+     * Prefix of particle-pair RDF for specified step file
+     */
+    String JOB_RESULT_PARTICLE_PAIR_RDF_FOR_STEP_FILE_PREFIX = "ParticlePairRdfForStep_";
+
+    /**
+     * Prefix of molecule-particle-pair RDF for specified step file
+     */
+    String JOB_RESULT_PARTICLE_IN_MOLECULE_PAIR_RDF_FOR_STEP_FILE_PREFIX = "MoleculeParticlePairRdfForStep_";
+
+    /**
+     * Prefix of molecule-center-pair RDF for specified step file
+     */
+    String JOB_RESULT_MOLECULE_CENTER_PAIR_RDF_FOR_STEP_FILE_PREFIX = "MoleculeCenterPairRdfForStep_";
+
     /**
      * File name prefix for particle set file
      */
@@ -353,6 +416,21 @@ public interface ModelDefinitions {
      * Job export identification
      */
     String JOB_EXPORT_IDENTIFICATION = "zFi6b6DG90aetddYVAFv6Q";
+
+    /**
+     * File ending of binary particle positions step files
+     */
+    String BINARY_STEP_FILE_ENDING = ".bin";
+
+    /**
+     * File ending of sidecar line-offset index files of progress files
+     */
+    String PROGRESS_FILE_INDEX_FILE_ENDING = ".idx";
+
+    /**
+     * File ending of temporary files that are renamed after write
+     */
+    String TEMPORARY_FILE_ENDING = ".tmp";
     // </editor-fold>
     // </editor-fold>
     //
@@ -874,6 +952,18 @@ public interface ModelDefinitions {
      */
     int MAXIMUM_NUMBER_OF_PROCESSOR_CORES = Integer.MAX_VALUE;
 
+    /**
+     * Minimum global core budget for parallel simulations (0: No core 
+     * budget, i.e. number of parallel simulations is used)
+     */
+    int MINIMUM_JOB_CORE_BUDGET = 0;
+
+    /**
+     * Default global core budget for parallel simulations (0: No core 
+     * budget, i.e. number of parallel simulations is used)
+     */
+    int DEFAULT_JOB_CORE_BUDGET = 0;
+
     /**
      * Minimum number of parallel slicers.
      */
@@ -889,6 +979,111 @@ public interface ModelDefinitions {
      */
     int MAXIMUM_NUMBER_OF_PARALLEL_SLICERS = Integer.MAX_VALUE;
 
+    /**
+     * Minimum number of online analysis threads (0: No online analysis)
+     */
+    int MINIMUM_NUMBER_OF_ONLINE_ANALYSIS_THREADS = 0;
+
+    /**
+     * Default number of online analysis threads
+     */
+    int DEFAULT_NUMBER_OF_ONLINE_ANALYSIS_THREADS = 1;
+
+    /**
+     * Maximum number of online analysis threads
+     */
+    int MAXIMUM_NUMBER_OF_ONLINE_ANALYSIS_THREADS = Integer.MAX_VALUE;
+
+    /**
+     * Minimum size of step frame cache in megabytes (0: No caching)
+     */
+    int MINIMUM_STEP_FRAME_CACHE_SIZE_IN_MEGABYTES = 0;
+
+    /**
+     * Default size of step frame cache in megabytes
+     */
+    int DEFAULT_STEP_FRAME_CACHE_SIZE_IN_MEGABYTES = 512;
+
+    /**
+     * Maximum size of step frame cache in megabytes
+     */
+    int MAXIMUM_STEP_FRAME_CACHE_SIZE_IN_MEGABYTES = Integer.MAX_VALUE;
+
+    /**
+     * Minimum number of prefetched steps (0: No prefetch)
+     */
+    int MINIMUM_NUMBER_OF_PREFETCHED_STEPS = 0;
+
+    /**
+     * Default number of prefetched steps
+     */
+    int DEFAULT_NUMBER_OF_PREFETCHED_STEPS = 2;
+
+    /**
+     * Maximum number of prefetched steps
+     */
+    int MAXIMUM_NUMBER_OF_PREFETCHED_STEPS = Integer.MAX_VALUE;
+
+    /**
+     * Minimum number of threads of the read stage of the movie frame pipeline (0: No frame pipeline)
+     */
+    int MINIMUM_NUMBER_OF_FRAME_PIPELINE_READERS = 0;
+
+    /**
+     * Default number of threads of the read stage of the movie frame pipeline
+     */
+    int DEFAULT_NUMBER_OF_FRAME_PIPELINE_READERS = 1;
+
+    /**
+     * Maximum number of threads of the read stage of the movie frame pipeline
+     */
+    int MAXIMUM_NUMBER_OF_FRAME_PIPELINE_READERS = Integer.MAX_VALUE;
+
+    /**
+     * Minimum number of threads of the transform stage of the movie frame pipeline
+     */
+    int MINIMUM_NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS = 1;
+
+    /**
+     * Default number of threads of the transform stage of the movie frame pipeline
+     */
+    int DEFAULT_NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS = 1;
+
+    /**
+     * Maximum number of threads of the transform stage of the movie frame pipeline
+     */
+    int MAXIMUM_NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS = Integer.MAX_VALUE;
+
+    /**
+     * Minimum number of threads of the rasterize stage of the movie frame pipeline
+     */
+    int MINIMUM_NUMBER_OF_FRAME_PIPELINE_RASTERIZERS = 1;
+
+    /**
+     * Default number of threads of the rasterize stage of the movie frame pipeline
+     */
+    int DEFAULT_NUMBER_OF_FRAME_PIPELINE_RASTERIZERS = 1;
+
+    /**
+     * Maximum number of threads of the rasterize stage of the movie frame pipeline
+     */
+    int MAXIMUM_NUMBER_OF_FRAME_PIPELINE_RASTERIZERS = Integer.MAX_VALUE;
+
+    /**
+     * Minimum number of threads of the store stage of the movie frame pipeline
+     */
+    int MINIMUM_NUMBER_OF_FRAME_PIPELINE_WRITERS = 1;
+
+    /**
+     * Default number of threads of the store stage of the movie frame pipeline
+     */
+    int DEFAULT_NUMBER_OF_FRAME_PIPELINE_WRITERS = 1;
+
+    /**
+     * Maximum number of threads of the store stage of the movie frame pipeline
+     */
+    int MAXIMUM_NUMBER_OF_FRAME_PIPELINE_WRITERS = Integer.MAX_VALUE;
+
     /**
      * Minimum of minimum number of simulation box cells for parallelisation
      */
@@ -1257,6 +1452,13 @@ public interface ModelDefinitions {
      */
     boolean IS_JDPD_LOG_LEVEL_EXCEPTION_DEFAULT = true;
 
+    /**
+     * Default binary step file conversion flag.
+     * True: Particle positions step files are converted to binary step files
+     * after job execution, false: Otherwise
+     */
+    boolean IS_BINARY_STEP_FILE_CONVERSION_DEFAULT = false;
+
     /**
      * Default compartment constant body flag
      * True: Compartment body volume is constant/preserved, false: Otherwise
@@ -1285,11 +1487,9 @@ public interface ModelDefinitions {
     boolean IS_JOB_RESULT_ARCHIVE_PROCESS_PARALLEL_IN_BACKGROUND_DEFAULT = false;
 
     /**
-     * Default Job Result archive file compression flag: True: Job Result
-     * archive file is uncompressed, false: Otherwise (archive file is
-     * compressed)
+     * Default Job Result archive file compression
      */
-    boolean IS_JOB_RESULT_ARCHIVE_FILE_UNCOMPRESSED_DEFAULT = true;
+    ArchiveCompressionEnum DEFAULT_JOB_RESULT_ARCHIVE_COMPRESSION = ArchiveCompressionEnum.UNCOMPRESSED;
 
     /**
      * Default Job Input inclusion flag: 
@@ -1498,6 +1698,45 @@ public interface ModelDefinitions {
      * Delay in milliseconds for trials to read graphical particle position file
      */
     long GRAPHICAL_PARTICLE_POSITION_FILE_READ_DELAY = 1000L;
+
+    /**
+     * Number of particles per chunk of Jdpd positions/bonds file (see 
+     * JdpdPositionsBondsWriter)
+     */
+    int JDPD_POSITIONS_BONDS_NUMBER_OF_PARTICLES_PER_CHUNK = 32768;
+
+    /**
+     * Maximum number of pending chunks per thread of Jdpd positions/bonds 
+     * file (see JdpdPositionsBondsWriter)
+     */
+    int JDPD_POSITIONS_BONDS_MAXIMUM_NUMBER_OF_PENDING_CHUNKS_PER_THREAD = 2;
+
+    /**
+     * Maximum file size in byte for compression of archive entry into memory 
+     * (larger files are compressed into temporary files, see 
+     * ParallelZipArchiver)
+     */
+    long ARCHIVE_IN_MEMORY_ENTRY_SIZE = 4194304L;
+
+    /**
+     * Maximum time in seconds to wait for cancelled archive worker threads 
+     * (see ParallelZipArchiver)
+     */
+    long ARCHIVE_WORKER_TERMINATION_TIMEOUT_SECONDS = 60L;
+
+    /**
+     * Maximum number of failed analysis trials of a step file during online 
+     * analysis (see JobResultOnlineAnalysis): Afterwards the step file is 
+     * skipped and analysed after the simulation
+     */
+    int ONLINE_ANALYSIS_MAXIMUM_NUMBER_OF_FAILED_TRIALS = 100;
+
+    /**
+     * Maximum number of simultaneously open particle-pair distance files 
+     * (see JobUtilityMethods.writeParticlePairDistanceFiles()): Each open 
+     * file occupies a file handle and a write buffer of size BUFFER_SIZE
+     */
+    int MAXIMUM_NUMBER_OF_OPEN_DISTANCE_FILES = 64;
     // </editor-fold>
     // </editor-fold>
     //
@@ -1894,6 +2133,36 @@ public interface ModelDefinitions {
      */
     int INITIAL_NUMBER_OF_BODIES = 10;
 
+    /**
+     * Maximum number of cells of spatial hash for excluded bodies (see 
+     * BodySpatialHash)
+     */
+    int MAXIMUM_NUMBER_OF_SPATIAL_HASH_CELLS = 32768;
+
+    /**
+     * Number of spatial hash cells along longest direction if there are no
+     * spheres (see BodySpatialHash)
+     */
+    double DEFAULT_NUMBER_OF_SPATIAL_HASH_CELLS_PER_DIRECTION = 16.0;
+
+    /**
+     * Maximum total length of molecular structure strings of pooled Spices
+     * instances (see SpicesPool)
+     */
+    long SPICES_CACHE_MAXIMUM_WEIGHT = 4000000L;
+
+    /**
+     * Maximum total length of protein data of pooled PdbToDpd instances (see 
+     * PdbToDpdPool)
+     */
+    long PDB_TO_DPD_CACHE_MAXIMUM_WEIGHT = 20000000L;
+
+    /**
+     * Maximum number of pooled instances for the same molecular structure 
+     * string or protein data (see SpicesPool and PdbToDpdPool)
+     */
+    int CACHE_MAXIMUM_NUMBER_OF_INSTANCES_PER_CONTENT = 8;
+
     /**
      * Maximum number of each compartment in simulation box: This number must be
      * higher than any expected value.
@@ -2017,6 +2286,41 @@ public interface ModelDefinitions {
      * Number of decimals for symmetry index display
      */    
     int SYMMETRY_INDEX_NUMBER_OF_DECIMALS = 4;
+
+    /**
+     * Minimum number of particles for parallel filtering of graphical 
+     * particle positions
+     */
+    int MINIMUM_NUMBER_OF_PARTICLES_FOR_PARALLEL_FILTERING = 50000;
+
+    /**
+     * Minimum number of particles for parallel depth sorting of graphical 
+     * particle positions
+     */
+    int MINIMUM_NUMBER_OF_PARTICLES_FOR_PARALLEL_SORTING = 100000;
+
+    /**
+     * Maximum number of cached pixels of pre-rendered particle sprites
+     */
+    long MAXIMUM_PARTICLE_SPRITE_CACHE_SIZE_IN_PIXEL = 8000000L;
+
+    /**
+     * Width and height of a tile of the tile-parallel pixel graphics factory
+     * in pixel
+     */
+    int PIXEL_GRAPHICS_TILE_SIZE_IN_PIXEL = 64;
+
+    /**
+     * Capacity of the bounded queue in front of each stage of the movie 
+     * frame pipeline
+     */
+    int FRAME_PIPELINE_QUEUE_CAPACITY = 4;
+
+    /**
+     * Timeout in milliseconds for polling/offering frames of the movie frame
+     * pipeline (determines the reaction time to a stop)
+     */
+    long FRAME_PIPELINE_POLL_TIMEOUT_IN_MILLISECONDS = 100L;
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="- Color related definitions">
@@ -2038,6 +2342,21 @@ public interface ModelDefinitions {
      * DPD movie file ending
      */
     String MOVIE_FILE_ENDING = ".mp4";
+
+    /**
+     * DPD movie file ending of Motion-JPEG AVI movie (created without FFmpeg)
+     */
+    String MJPEG_AVI_MOVIE_FILE_ENDING = ".avi";
+
+    /**
+     * DPD movie file ending of animated PNG movie
+     */
+    String APNG_MOVIE_FILE_ENDING = ".png";
+
+    /**
+     * Maximum number of frames queued for background movie encoding
+     */
+    int MOVIE_ENCODER_QUEUE_CAPACITY = 8;
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="- Selection related definitions">
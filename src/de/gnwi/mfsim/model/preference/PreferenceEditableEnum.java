@@ -167,9 +167,9 @@ public enum PreferenceEditableEnum {
      */
     IS_JOB_RESULT_ARCHIVE_PROCESS_PARALLEL_IN_BACKGROUND,
     /**
-     * PreferenceBasic: this.isJobResultArchiveFileUncompressed
+     * PreferenceBasic: this.jobResultArchiveCompression
      */
-    IS_JOB_RESULT_ARCHIVE_FILE_UNCOMPRESSED,
+    JOB_RESULT_ARCHIVE_COMPRESSION,
     /**
      * PreferenceBasic: this.isJdpdKernelDoublePrecision
      */
@@ -178,6 +178,10 @@ public enum PreferenceEditableEnum {
      * PreferenceBasic: this.isJdpdLogLevelException
      */
     IS_JDPD_LOG_LEVEL_EXCEPTION,
+    /**
+     * PreferenceBasic: this.isBinaryStepFileConversion
+     */
+    IS_BINARY_STEP_FILE_CONVERSION,
     /**
      * PreferenceBasic: this.isConstantCompartmentBodyVolume
      */
@@ -294,6 +298,10 @@ public enum PreferenceEditableEnum {
      * PreferenceBasic: this.numberOfParallelSimulations
      */
     NUMBER_OF_PARALLEL_SIMULATIONS,
+    /**
+     * PreferenceBasic: this.jobCoreBudget
+     */
+    JOB_CORE_BUDGET,
     /**
      * PreferenceBasic: this.numberOfParallelSlicers
      */
@@ -306,6 +314,34 @@ public enum PreferenceEditableEnum {
      * PreferenceBasic: this.numberOfParallelParticlePositionWriters
      */
     NUMBER_OF_PARALLEL_PARTICLE_POSITION_WRITERS,
+    /**
+     * PreferenceBasic: this.numberOfOnlineAnalysisThreads
+     */
+    NUMBER_OF_ONLINE_ANALYSIS_THREADS,
+    /**
+     * PreferenceBasic: this.stepFrameCacheSizeInMegabytes
+     */
+    STEP_FRAME_CACHE_SIZE_IN_MEGABYTES,
+    /**
+     * PreferenceBasic: this.numberOfPrefetchedSteps
+     */
+    NUMBER_OF_PREFETCHED_STEPS,
+    /**
+     * PreferenceBasic: this.numberOfFramePipelineReaders
+     */
+    NUMBER_OF_FRAME_PIPELINE_READERS,
+    /**
+     * PreferenceBasic: this.numberOfFramePipelineTransformers
+     */
+    NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS,
+    /**
+     * PreferenceBasic: this.numberOfFramePipelineRasterizers
+     */
+    NUMBER_OF_FRAME_PIPELINE_RASTERIZERS,
+    /**
+     * PreferenceBasic: this.numberOfFramePipelineWriters
+     */
+    NUMBER_OF_FRAME_PIPELINE_WRITERS,
     /**
      * PreferenceBasic: this.numberOfAfterDecimalDigitsForParticlePositions
      */
@@ -422,10 +458,11 @@ public enum PreferenceEditableEnum {
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.IS_NEAREST_NEIGHBOR_EVALUATION_INCLUSION.name(),PreferenceEditableEnum.IS_NEAREST_NEIGHBOR_EVALUATION_INCLUSION);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.IS_JOB_RESULT_ARCHIVE_PROCESS_PARALLEL_IN_BACKGROUND.name(),
                     PreferenceEditableEnum.IS_JOB_RESULT_ARCHIVE_PROCESS_PARALLEL_IN_BACKGROUND);
-            PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.IS_JOB_RESULT_ARCHIVE_FILE_UNCOMPRESSED.name(),
-                    PreferenceEditableEnum.IS_JOB_RESULT_ARCHIVE_FILE_UNCOMPRESSED);
+            PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.JOB_RESULT_ARCHIVE_COMPRESSION.name(),
+                    PreferenceEditableEnum.JOB_RESULT_ARCHIVE_COMPRESSION);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.IS_JDPD_KERNEL_DOUBLE_PRECISION.name(), PreferenceEditableEnum.IS_JDPD_KERNEL_DOUBLE_PRECISION);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.IS_JDPD_LOG_LEVEL_EXCEPTION.name(), PreferenceEditableEnum.IS_JDPD_LOG_LEVEL_EXCEPTION);
+            PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.IS_BINARY_STEP_FILE_CONVERSION.name(), PreferenceEditableEnum.IS_BINARY_STEP_FILE_CONVERSION);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.IS_CONSTANT_COMPARTMENT_BODY_VOLUME.name(), PreferenceEditableEnum.IS_CONSTANT_COMPARTMENT_BODY_VOLUME);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.IS_SIMULATION_BOX_SLICER.name(), PreferenceEditableEnum.IS_SIMULATION_BOX_SLICER);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.IS_MOLECULE_DISPLAY_WITH_STANDARD_PARTICLE_SIZE.name(),
@@ -468,9 +505,17 @@ public enum PreferenceEditableEnum {
                     PreferenceEditableEnum.JMOL_SPECULAR_REFLECTION_PERCENTAGE);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.JMOL_SPECULAR_REFLECTION_POWER.name(), PreferenceEditableEnum.JMOL_SPECULAR_REFLECTION_POWER);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.NUMBER_OF_PARALLEL_SIMULATIONS.name(), PreferenceEditableEnum.NUMBER_OF_PARALLEL_SIMULATIONS);
+            PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.JOB_CORE_BUDGET.name(), PreferenceEditableEnum.JOB_CORE_BUDGET);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.NUMBER_OF_PARALLEL_SLICERS.name(), PreferenceEditableEnum.NUMBER_OF_PARALLEL_SLICERS);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.NUMBER_OF_PARALLEL_CALCULATORS.name(), PreferenceEditableEnum.NUMBER_OF_PARALLEL_CALCULATORS);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.NUMBER_OF_PARALLEL_PARTICLE_POSITION_WRITERS.name(), PreferenceEditableEnum.NUMBER_OF_PARALLEL_PARTICLE_POSITION_WRITERS);
+            PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.NUMBER_OF_ONLINE_ANALYSIS_THREADS.name(), PreferenceEditableEnum.NUMBER_OF_ONLINE_ANALYSIS_THREADS);
+            PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.STEP_FRAME_CACHE_SIZE_IN_MEGABYTES.name(), PreferenceEditableEnum.STEP_FRAME_CACHE_SIZE_IN_MEGABYTES);
+            PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.NUMBER_OF_PREFETCHED_STEPS.name(), PreferenceEditableEnum.NUMBER_OF_PREFETCHED_STEPS);
+            PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_READERS.name(), PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_READERS);
+            PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS.name(), PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS);
+            PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_RASTERIZERS.name(), PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_RASTERIZERS);
+            PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_WRITERS.name(), PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_WRITERS);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.NUMBER_OF_AFTER_DECIMAL_SEPARATOR_DIGITS_FOR_PARTICLE_POSITIONS.name(), PreferenceEditableEnum.NUMBER_OF_AFTER_DECIMAL_SEPARATOR_DIGITS_FOR_PARTICLE_POSITIONS);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.MAXIMUM_NUMBER_OF_POSITION_CORRECTION_TRIALS.name(), PreferenceEditableEnum.MAXIMUM_NUMBER_OF_POSITION_CORRECTION_TRIALS);
             PreferenceEditableEnum.representationToPreferenceEditableEnumMap.put(PreferenceEditableEnum.MOVIE_QUALITY.name(), PreferenceEditableEnum.MOVIE_QUALITY);
@@ -96,10 +96,16 @@ public interface PreferenceXmlName {
     String IS_JOB_RESULT_ARCHIVE_PROCESS_PARALLEL_IN_BACKGROUND = "IsJobResultArchiveProcessParallelInBackground";
 
     /**
-     * Name of Job Result archive file compression flag
+     * Name of former Job Result archive file compression flag (read only for 
+     * conversion)
      */
     String IS_JOB_RESULT_ARCHIVE_FILE_UNCOMPRESSED = "IsJobResultArchiveFileUncompressed";
 
+    /**
+     * Name of Job Result archive file compression
+     */
+    String JOB_RESULT_ARCHIVE_COMPRESSION = "JobResultArchiveCompression";
+
     /**
      * Name of Jdpd kernel double precision flag
      */
@@ -109,6 +115,11 @@ public interface PreferenceXmlName {
      * Name of Jdpd exceptions log level flag
      */
     String IS_JDPD_LOG_LEVEL_EXCEPTION = "IsJdpdLogLevelException";
+
+    /**
+     * Name of binary step file conversion flag
+     */
+    String IS_BINARY_STEP_FILE_CONVERSION = "IsBinaryStepFileConversion";
     
     /**
      * Name of compartment constant body flag
@@ -590,6 +601,11 @@ public interface PreferenceXmlName {
      */
     String NUMBER_OF_PARALLEL_SIMULATIONS = "NumberOfParallelSimulations";
 
+    /**
+     * Global core budget for parallel simulations
+     */
+    String JOB_CORE_BUDGET = "JobCoreBudget";
+
     /**
      * Number of parallel slicers
      */
@@ -605,6 +621,41 @@ public interface PreferenceXmlName {
      */
     String NUMBER_OF_PARALLEL_PARTICLE_POSITION_WRITERS = "NumberOfParallelParticlePositionWriters";
 
+    /**
+     * Number of online analysis threads
+     */
+    String NUMBER_OF_ONLINE_ANALYSIS_THREADS = "NumberOfOnlineAnalysisThreads";
+
+    /**
+     * Size of step frame cache in megabytes
+     */
+    String STEP_FRAME_CACHE_SIZE_IN_MEGABYTES = "StepFrameCacheSizeInMegabytes";
+
+    /**
+     * Number of prefetched steps
+     */
+    String NUMBER_OF_PREFETCHED_STEPS = "NumberOfPrefetchedSteps";
+
+    /**
+     * Number of threads of the read stage of the movie frame pipeline
+     */
+    String NUMBER_OF_FRAME_PIPELINE_READERS = "NumberOfFramePipelineReaders";
+
+    /**
+     * Number of threads of the transform stage of the movie frame pipeline
+     */
+    String NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS = "NumberOfFramePipelineTransformers";
+
+    /**
+     * Number of threads of the rasterize stage of the movie frame pipeline
+     */
+    String NUMBER_OF_FRAME_PIPELINE_RASTERIZERS = "NumberOfFramePipelineRasterizers";
+
+    /**
+     * Number of threads of the store stage of the movie frame pipeline
+     */
+    String NUMBER_OF_FRAME_PIPELINE_WRITERS = "NumberOfFramePipelineWriters";
+
     /**
      * Number of after-decimal-separator digits for particle positions
      */
@@ -26,6 +26,7 @@ import de.gnwi.mfsim.model.valueItem.ValueItemEnumDataType;
 import de.gnwi.mfsim.model.valueItem.ValueItem;
 import de.gnwi.mfsim.model.valueItem.ValueItemEnumBasicType;
 import de.gnwi.mfsim.model.particle.StandardParticleInteractionData;
+import de.gnwi.mfsim.model.util.ArchiveCompressionEnum;
 import de.gnwi.mfsim.model.util.FileDeletionTask;
 import de.gnwi.mfsim.model.util.GraphicsModeEnum;
 import de.gnwi.mfsim.model.util.ImageStorageEnum;
@@ -436,10 +437,9 @@ public final class Preferences {
     private boolean isJobResultArchiveProcessParallelInBackground;
 
     /**
-     * True: Job Result archive file is uncompressed, false: Otherwise (archive
-     * file is compressed)
+     * Job Result archive file compression
      */
-    private boolean isJobResultArchiveFileUncompressed;
+    private ArchiveCompressionEnum jobResultArchiveCompression;
 
     /**
      * True: Jdpd kernel with double precision arithmetic is used, false: JdpdSP
@@ -453,6 +453,12 @@ public final class Preferences {
      */
     private boolean isJdpdLogLevelException;
 
+    /**
+     * True: Particle positions step files are converted to binary step files
+     * after job execution, false: Otherwise
+     */
+    private boolean isBinaryStepFileConversion;
+
     /**
      * True: Compartment body volume is constant/preserved, false: Otherwise
      */
@@ -555,6 +561,12 @@ public final class Preferences {
      */
     private String dpdDataPath;
 
+    /**
+     * Full pathname of log file that replaces the log file in the DPD data 
+     * directory (null: Log file in DPD data directory is used, NOT persisted)
+     */
+    private String logfilePathname;
+
     /**
      * Number of slices for simulation box slicer per view
      */
@@ -595,6 +607,11 @@ public final class Preferences {
      */
     private int numberOfParallelSimulations;
 
+    /**
+     * Global core budget for parallel simulations (0: No core budget)
+     */
+    private int jobCoreBudget;
+
     /**
      * Number of parallel slicers
      */
@@ -610,6 +627,41 @@ public final class Preferences {
      */
     private int numberOfParallelParticlePositionWriters;
 
+    /**
+     * Number of online analysis threads (0: No online analysis)
+     */
+    private int numberOfOnlineAnalysisThreads;
+
+    /**
+     * Size of the shared cache of parsed simulation step frames in megabytes (0: No caching)
+     */
+    private int stepFrameCacheSizeInMegabytes;
+
+    /**
+     * Number of following simulation steps that are read in advance into the step frame cache (0: No prefetch)
+     */
+    private int numberOfPrefetchedSteps;
+
+    /**
+     * Number of threads of the read stage of the movie frame pipeline (0: No frame pipeline)
+     */
+    private int numberOfFramePipelineReaders;
+
+    /**
+     * Number of threads of the transform stage of the movie frame pipeline
+     */
+    private int numberOfFramePipelineTransformers;
+
+    /**
+     * Number of threads of the rasterize stage of the movie frame pipeline
+     */
+    private int numberOfFramePipelineRasterizers;
+
+    /**
+     * Number of threads of the store stage of the movie frame pipeline
+     */
+    private int numberOfFramePipelineWriters;
+
     /**
      * Number of after-decimal-separator digits for particle positions
      */
@@ -1045,6 +1097,28 @@ public final class Preferences {
         tmpValueItem.setVerticalPosition(tmpVerticalPosition++);
         tmpValueItemContainer.addValueItem(tmpValueItem);
         // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="- Binary step file conversion">
+        tmpValueItem = new ValueItem();
+        tmpValueItem.setNodeNames(tmpNodeNames);
+        tmpValueItem.setDefaultTypeFormat(new ValueItemDataTypeFormat(
+                ModelMessage.get("Preferences.JdpdKernel.BinaryStepFileConversion.False"), 
+                new String[] {
+                    ModelMessage.get("Preferences.JdpdKernel.BinaryStepFileConversion.True"), 
+                    ModelMessage.get("Preferences.JdpdKernel.BinaryStepFileConversion.False")
+                }
+            )
+        );
+        tmpValueItem.setName(PreferenceEditableEnum.IS_BINARY_STEP_FILE_CONVERSION.name());
+        tmpValueItem.setDescription(ModelMessage.get("Preferences.JdpdKernel.BinaryStepFileConversion.Description"));
+        tmpValueItem.setDisplayName(ModelMessage.get("Preferences.JdpdKernel.BinaryStepFileConversion"));
+        if (this.isBinaryStepFileConversion) {
+            tmpValueItem.setValue(ModelMessage.get("Preferences.JdpdKernel.BinaryStepFileConversion.True"));
+        } else {
+            tmpValueItem.setValue(ModelMessage.get("Preferences.JdpdKernel.BinaryStepFileConversion.False"));
+        }
+        tmpValueItem.setVerticalPosition(tmpVerticalPosition++);
+        tmpValueItemContainer.addValueItem(tmpValueItem);
+        // </editor-fold>
         // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="Parallel computing settings">
         tmpVerticalPosition = this.addParallelComputingEditablePreferencesValueItems(tmpValueItemContainer, tmpVerticalPosition);
@@ -1745,9 +1819,26 @@ public final class Preferences {
                         tmpHasChanged = true;
                     }
                     break;
-                case IS_JOB_RESULT_ARCHIVE_FILE_UNCOMPRESSED:
-                    if (this.setJobResultArchiveFileUncompressed(tmpSingleValueItem.getValue().equals(ModelMessage.get("Preferences.JobResultArchives.IsJobResultArchiveFileCompression.False")))) {
-                        tmpHasChanged = true;
+                case JOB_RESULT_ARCHIVE_COMPRESSION:
+                    if (tmpSingleValueItem.getValue().equals(ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Uncompressed"))) {
+                        if (this.setJobResultArchiveCompression(ArchiveCompressionEnum.UNCOMPRESSED)) {
+                            tmpHasChanged = true;
+                        }
+                    }
+                    if (tmpSingleValueItem.getValue().equals(ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Fastest"))) {
+                        if (this.setJobResultArchiveCompression(ArchiveCompressionEnum.FASTEST)) {
+                            tmpHasChanged = true;
+                        }
+                    }
+                    if (tmpSingleValueItem.getValue().equals(ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Default"))) {
+                        if (this.setJobResultArchiveCompression(ArchiveCompressionEnum.DEFAULT)) {
+                            tmpHasChanged = true;
+                        }
+                    }
+                    if (tmpSingleValueItem.getValue().equals(ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Best"))) {
+                        if (this.setJobResultArchiveCompression(ArchiveCompressionEnum.BEST)) {
+                            tmpHasChanged = true;
+                        }
                     }
                     break;
                 case IS_JDPD_KERNEL_DOUBLE_PRECISION:
@@ -1760,6 +1851,11 @@ public final class Preferences {
                         tmpHasChanged = true;
                     }
                     break;
+                case IS_BINARY_STEP_FILE_CONVERSION:
+                    if (this.setBinaryStepFileConversion(tmpSingleValueItem.getValue().equals(ModelMessage.get("Preferences.JdpdKernel.BinaryStepFileConversion.True")))) {
+                        tmpHasChanged = true;
+                    }
+                    break;
                 case IS_CONSTANT_COMPARTMENT_BODY_VOLUME:
                     if (this.setConstantCompartmentBodyVolumeFlag(tmpSingleValueItem.getValue().equals(ModelMessage.get("Preferences.GraphicsSettings.ConstantCompartmentBodyVolumeFlag.True")))) {
                         tmpHasChanged = true;
@@ -1830,6 +1926,11 @@ public final class Preferences {
                         tmpHasChanged = true;
                     }
                     break;
+                case JOB_CORE_BUDGET:
+                    if (this.setJobCoreBudget(tmpSingleValueItem.getValueAsInt())) {
+                        tmpHasChanged = true;
+                    }
+                    break;
                 case NUMBER_OF_PARALLEL_SLICERS:
                     if (this.setNumberOfParallelSlicers(tmpSingleValueItem.getValueAsInt())) {
                         tmpHasChanged = true;
@@ -1845,6 +1946,41 @@ public final class Preferences {
                         tmpHasChanged = true;
                     }
                     break;
+                case NUMBER_OF_ONLINE_ANALYSIS_THREADS:
+                    if (this.setNumberOfOnlineAnalysisThreads(tmpSingleValueItem.getValueAsInt())) {
+                        tmpHasChanged = true;
+                    }
+                    break;
+                case STEP_FRAME_CACHE_SIZE_IN_MEGABYTES:
+                    if (this.setStepFrameCacheSizeInMegabytes(tmpSingleValueItem.getValueAsInt())) {
+                        tmpHasChanged = true;
+                    }
+                    break;
+                case NUMBER_OF_PREFETCHED_STEPS:
+                    if (this.setNumberOfPrefetchedSteps(tmpSingleValueItem.getValueAsInt())) {
+                        tmpHasChanged = true;
+                    }
+                    break;
+                case NUMBER_OF_FRAME_PIPELINE_READERS:
+                    if (this.setNumberOfFramePipelineReaders(tmpSingleValueItem.getValueAsInt())) {
+                        tmpHasChanged = true;
+                    }
+                    break;
+                case NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS:
+                    if (this.setNumberOfFramePipelineTransformers(tmpSingleValueItem.getValueAsInt())) {
+                        tmpHasChanged = true;
+                    }
+                    break;
+                case NUMBER_OF_FRAME_PIPELINE_RASTERIZERS:
+                    if (this.setNumberOfFramePipelineRasterizers(tmpSingleValueItem.getValueAsInt())) {
+                        tmpHasChanged = true;
+                    }
+                    break;
+                case NUMBER_OF_FRAME_PIPELINE_WRITERS:
+                    if (this.setNumberOfFramePipelineWriters(tmpSingleValueItem.getValueAsInt())) {
+                        tmpHasChanged = true;
+                    }
+                    break;
                 case NUMBER_OF_AFTER_DECIMAL_SEPARATOR_DIGITS_FOR_PARTICLE_POSITIONS:
                     if (this.setNumberOfAfterDecimalDigitsForParticlePositions(tmpSingleValueItem.getValueAsInt())) {
                         tmpHasChanged = true;
@@ -1880,6 +2016,20 @@ public final class Preferences {
                             this.setSlicerGraphicsMode(GraphicsModeEnum.PIXEL_FINAL);
                         }
                     }
+                    if (tmpSingleValueItem.getValue().equals(ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.PixelTilesAll"))) {
+                        if (!tmpHasChanged) {
+                            tmpHasChanged = this.setSlicerGraphicsMode(GraphicsModeEnum.PIXEL_TILES_ALL);
+                        } else {
+                            this.setSlicerGraphicsMode(GraphicsModeEnum.PIXEL_TILES_ALL);
+                        }
+                    }
+                    if (tmpSingleValueItem.getValue().equals(ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.PixelTilesFinal"))) {
+                        if (!tmpHasChanged) {
+                            tmpHasChanged = this.setSlicerGraphicsMode(GraphicsModeEnum.PIXEL_TILES_FINAL);
+                        } else {
+                            this.setSlicerGraphicsMode(GraphicsModeEnum.PIXEL_TILES_FINAL);
+                        }
+                    }
                     if (tmpSingleValueItem.getValue().equals(ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.BufferedImageAll"))) {
                         if (!tmpHasChanged) {
                             tmpHasChanged = this.setSlicerGraphicsMode(GraphicsModeEnum.BUFFERED_IMAGE_ALL);
@@ -2264,12 +2414,28 @@ public final class Preferences {
             tmpRoot.addContent(new Element(PreferenceXmlName.TIME_STEP_DISPLAY_SLICER).addContent(Integer.toString(this.timeStepDisplaySlicer)));
             // this.numberOfParallelSimulations
             tmpRoot.addContent(new Element(PreferenceXmlName.NUMBER_OF_PARALLEL_SIMULATIONS).addContent(Integer.toString(this.numberOfParallelSimulations)));
+            // this.jobCoreBudget
+            tmpRoot.addContent(new Element(PreferenceXmlName.JOB_CORE_BUDGET).addContent(Integer.toString(this.jobCoreBudget)));
             // this.numberOfParallelSlicers
             tmpRoot.addContent(new Element(PreferenceXmlName.NUMBER_OF_PARALLEL_SLICERS).addContent(Integer.toString(this.numberOfParallelSlicers)));
             // this.numberOfParallelCalculators
             tmpRoot.addContent(new Element(PreferenceXmlName.NUMBER_OF_PARALLEL_CALCULATORS).addContent(Integer.toString(this.numberOfParallelCalculators)));
             // this.numberOfParallelParticlePositionWriters
             tmpRoot.addContent(new Element(PreferenceXmlName.NUMBER_OF_PARALLEL_PARTICLE_POSITION_WRITERS).addContent(Integer.toString(this.numberOfParallelParticlePositionWriters)));
+            // this.numberOfOnlineAnalysisThreads
+            tmpRoot.addContent(new Element(PreferenceXmlName.NUMBER_OF_ONLINE_ANALYSIS_THREADS).addContent(Integer.toString(this.numberOfOnlineAnalysisThreads)));
+            // this.stepFrameCacheSizeInMegabytes
+            tmpRoot.addContent(new Element(PreferenceXmlName.STEP_FRAME_CACHE_SIZE_IN_MEGABYTES).addContent(Integer.toString(this.stepFrameCacheSizeInMegabytes)));
+            // this.numberOfPrefetchedSteps
+            tmpRoot.addContent(new Element(PreferenceXmlName.NUMBER_OF_PREFETCHED_STEPS).addContent(Integer.toString(this.numberOfPrefetchedSteps)));
+            // this.numberOfFramePipelineReaders
+            tmpRoot.addContent(new Element(PreferenceXmlName.NUMBER_OF_FRAME_PIPELINE_READERS).addContent(Integer.toString(this.numberOfFramePipelineReaders)));
+            // this.numberOfFramePipelineTransformers
+            tmpRoot.addContent(new Element(PreferenceXmlName.NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS).addContent(Integer.toString(this.numberOfFramePipelineTransformers)));
+            // this.numberOfFramePipelineRasterizers
+            tmpRoot.addContent(new Element(PreferenceXmlName.NUMBER_OF_FRAME_PIPELINE_RASTERIZERS).addContent(Integer.toString(this.numberOfFramePipelineRasterizers)));
+            // this.numberOfFramePipelineWriters
+            tmpRoot.addContent(new Element(PreferenceXmlName.NUMBER_OF_FRAME_PIPELINE_WRITERS).addContent(Integer.toString(this.numberOfFramePipelineWriters)));
             // this.numberOfAfterDecimalDigitsForParticlePositions
             tmpRoot.addContent(new Element(PreferenceXmlName.NUMBER_OF_AFTER_DECIMAL_SEPARATOR_DIGITS_FOR_PARTICLE_POSITIONS).addContent(Integer.toString(this.numberOfAfterDecimalDigitsForParticlePositions)));
             // this.maximumNumberOfPositionCorrectionTrials
@@ -2370,12 +2536,14 @@ public final class Preferences {
             tmpRoot.addContent(new Element(PreferenceXmlName.IS_NEAREST_NEIGHBOR_EVALUATION_INCLUSION).addContent(Boolean.toString(this.isNearestNeighborEvaluationInclusion)));
             // this.isJobResultArchiveProcessParallelInBackground
             tmpRoot.addContent(new Element(PreferenceXmlName.IS_JOB_RESULT_ARCHIVE_PROCESS_PARALLEL_IN_BACKGROUND).addContent(Boolean.toString(this.isJobResultArchiveProcessParallelInBackground)));
-            // this.isJobResultArchiveFileUncompressed
-            tmpRoot.addContent(new Element(PreferenceXmlName.IS_JOB_RESULT_ARCHIVE_FILE_UNCOMPRESSED).addContent(Boolean.toString(this.isJobResultArchiveFileUncompressed)));
+            // this.jobResultArchiveCompression
+            tmpRoot.addContent(new Element(PreferenceXmlName.JOB_RESULT_ARCHIVE_COMPRESSION).addContent(this.jobResultArchiveCompression.name()));
             // this.isJdpdKernelDoublePrecision
             tmpRoot.addContent(new Element(PreferenceXmlName.IS_JDPD_KERNEL_DOUBLE_PRECISION).addContent(Boolean.toString(this.isJdpdKernelDoublePrecision)));
             // this.isJdpdLogLevelException
             tmpRoot.addContent(new Element(PreferenceXmlName.IS_JDPD_LOG_LEVEL_EXCEPTION).addContent(Boolean.toString(this.isJdpdLogLevelException)));
+            // this.isBinaryStepFileConversion
+            tmpRoot.addContent(new Element(PreferenceXmlName.IS_BINARY_STEP_FILE_CONVERSION).addContent(Boolean.toString(this.isBinaryStepFileConversion)));
             // this.isConstantCompartmentBodyVolume
             tmpRoot.addContent(new Element(PreferenceXmlName.IS_CONSTANT_COMPARTMENT_BODY_VOLUME).addContent(Boolean.toString(this.isConstantCompartmentBodyVolume)));
             // this.isSimulationBoxSlicer
@@ -2536,15 +2704,29 @@ public final class Preferences {
     }
 
     // </editor-fold>
-    // <editor-fold defaultstate="collapsed" desc="- LogfilePathname (get only)">
+    // <editor-fold defaultstate="collapsed" desc="- LogfilePathname (get/set)">
     /**
      * Full path and name of log file
      *
      * @return path and name of log file
      */
     public String getLogfilePathname() {
+        if (this.logfilePathname != null) {
+            return this.logfilePathname;
+        }
         return this.dpdDataPath + File.separatorChar + ModelDefinitions.LOGFILE_NAME;
     }
+
+    /**
+     * Sets full path and name of log file that replaces the log file in the 
+     * DPD data directory (e.g. for tests). NOTE: Value is NOT persisted.
+     *
+     * @param aLogfilePathname Full path and name of log file (null: Log file
+     * in DPD data directory is used)
+     */
+    public void setLogfilePathname(String aLogfilePathname) {
+        this.logfilePathname = aLogfilePathname;
+    }
     // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="- DpdSourceTutorialsPath (get only)">
     /**
@@ -4096,37 +4278,34 @@ public final class Preferences {
     }
 
     // </editor-fold>
-    // <editor-fold defaultstate="collapsed" desc="- JobResultArchiveFileUncompressed">
+    // <editor-fold defaultstate="collapsed" desc="- JobResultArchiveCompression">
     /**
-     * True: Job Result archive file is uncompressed, false: Otherwise (archive
-     * file is compressed)
+     * Job Result archive file compression
      *
-     * @return True: Job Result archive file is uncompressed, false: Otherwise
-     * (archive file is compressed)
+     * @return Job Result archive file compression
      */
-    public boolean isJobResultArchiveFileUncompressed() {
-        return this.isJobResultArchiveFileUncompressed;
+    public ArchiveCompressionEnum getJobResultArchiveCompression() {
+        return this.jobResultArchiveCompression;
     }
 
     /**
-     * Default Job Result archive file compression flag
+     * Default Job Result archive file compression
      *
-     * @return Default Default Job Result archive file compression flag
+     * @return Default Job Result archive file compression
      */
-    public boolean getDefaultJobResultArchiveFileUncompressed() {
-        return ModelDefinitions.IS_JOB_RESULT_ARCHIVE_FILE_UNCOMPRESSED_DEFAULT;
+    public ArchiveCompressionEnum getDefaultJobResultArchiveCompression() {
+        return ModelDefinitions.DEFAULT_JOB_RESULT_ARCHIVE_COMPRESSION;
     }
 
     /**
-     * True: Job Result archive file is uncompressed, false: Otherwise (archive
-     * file is compressed)
+     * Job Result archive file compression
      *
      * @param aValue Value
      * @return True: Value changed, false: Otherwise
      */
-    public boolean setJobResultArchiveFileUncompressed(boolean aValue) {
-        if (this.isJobResultArchiveFileUncompressed != aValue) {
-            this.isJobResultArchiveFileUncompressed = aValue;
+    public boolean setJobResultArchiveCompression(ArchiveCompressionEnum aValue) {
+        if (this.jobResultArchiveCompression != aValue) {
+            this.jobResultArchiveCompression = aValue;
             return true;
         } else {
             return false;
@@ -4206,6 +4385,42 @@ public final class Preferences {
         }
     }
     // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="- BinaryStepFileConversion">
+    /**
+     * True: Particle positions step files are converted to binary step files
+     * after job execution, false: Otherwise
+     *
+     * @return Binary step file conversion flag
+     */
+    public boolean isBinaryStepFileConversion() {
+        return this.isBinaryStepFileConversion;
+    }
+
+    /**
+     * Default binary step file conversion flag
+     *
+     * @return Default binary step file conversion flag
+     */
+    public boolean getDefaultBinaryStepFileConversion() {
+        return ModelDefinitions.IS_BINARY_STEP_FILE_CONVERSION_DEFAULT;
+    }
+
+    /**
+     * True: Particle positions step files are converted to binary step files
+     * after job execution, false: Otherwise
+     *
+     * @param aValue Value
+     * @return True: Value changed, false: Otherwise
+     */
+    public boolean setBinaryStepFileConversion(boolean aValue) {
+        if (this.isBinaryStepFileConversion != aValue) {
+            this.isBinaryStepFileConversion = aValue;
+            return true;
+        } else {
+            return false;
+        }
+    }
+    // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="- ConstantCompartmentBodyVolume">
     /**
      * Compartment constant body flag
@@ -4829,6 +5044,45 @@ public final class Preferences {
         return tmpHasChanged;
     }
     // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="- JobCoreBudget">
+    /**
+     * Global core budget for parallel simulations (0: No core budget, i.e. 
+     * number of parallel simulations is used)
+     *
+     * @return Global core budget for parallel simulations
+     */
+    public int getJobCoreBudget() {
+        return this.jobCoreBudget;
+    }
+
+    /**
+     * Default global core budget for parallel simulations
+     *
+     * @return Default global core budget for parallel simulations
+     */
+    public int getDefaultJobCoreBudget() {
+        return ModelDefinitions.DEFAULT_JOB_CORE_BUDGET;
+    }
+
+    /**
+     * Global core budget for parallel simulations
+     *
+     * @param aValue Global core budget for parallel simulations (0: No core 
+     * budget)
+     * @return True: Value changed, false: Otherwise
+     */
+    public boolean setJobCoreBudget(int aValue) {
+        boolean tmpHasChanged = false;
+        // <editor-fold defaultstate="collapsed" desc="Set new value if changed">
+        int tmpCorrectedValue = ModelUtils.correctIntegerValue(aValue, ModelDefinitions.MINIMUM_JOB_CORE_BUDGET, ModelDefinitions.MAXIMUM_NUMBER_OF_PROCESSOR_CORES);
+        if (this.jobCoreBudget != tmpCorrectedValue) {
+            this.jobCoreBudget = tmpCorrectedValue;
+            tmpHasChanged = true;
+        }
+        // </editor-fold>
+        return tmpHasChanged;
+    }
+    // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="- NumberOfParallelSlicers">
     /**
      * Number of parallel slicers
@@ -4950,6 +5204,281 @@ public final class Preferences {
         return tmpHasChanged;
     }
     // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="- NumberOfOnlineAnalysisThreads">
+    /**
+     * Number of online analysis threads, i.e. threads that analyse new 
+     * particle positions step files (RDF, particle-pair distances) while the
+     * simulation is running (0: No online analysis)
+     *
+     * @return Number of online analysis threads
+     */
+    public int getNumberOfOnlineAnalysisThreads() {
+        return this.numberOfOnlineAnalysisThreads;
+    }
+
+    /**
+     * Default number of online analysis threads
+     *
+     * @return Default number of online analysis threads
+     */
+    public int getDefaultNumberOfOnlineAnalysisThreads() {
+        return ModelDefinitions.DEFAULT_NUMBER_OF_ONLINE_ANALYSIS_THREADS;
+    }
+
+    /**
+     * Number of online analysis threads
+     *
+     * @param aValue Number of online analysis threads
+     * @return True: Value changed, false: Otherwise
+     */
+    public boolean setNumberOfOnlineAnalysisThreads(int aValue) {
+
+        boolean tmpHasChanged = false;
+
+        // <editor-fold defaultstate="collapsed" desc="Set new value if changed">
+        int tmpCorrectedValue = ModelUtils.correctIntegerValue(aValue, ModelDefinitions.MINIMUM_NUMBER_OF_ONLINE_ANALYSIS_THREADS, ModelDefinitions.MAXIMUM_NUMBER_OF_ONLINE_ANALYSIS_THREADS);
+        if (this.numberOfOnlineAnalysisThreads != tmpCorrectedValue) {
+            this.numberOfOnlineAnalysisThreads = tmpCorrectedValue;
+            tmpHasChanged = true;
+        }
+        // </editor-fold>
+        return tmpHasChanged;
+    }
+    // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="- StepFrameCacheSizeInMegabytes">
+    /**
+     * Size of the shared cache of parsed simulation step frames in megabytes (0: No caching)
+     *
+     * @return Size of step frame cache in megabytes
+     */
+    public int getStepFrameCacheSizeInMegabytes() {
+        return this.stepFrameCacheSizeInMegabytes;
+    }
+
+    /**
+     * Default size of step frame cache in megabytes
+     *
+     * @return Default size of step frame cache in megabytes
+     */
+    public int getDefaultStepFrameCacheSizeInMegabytes() {
+        return ModelDefinitions.DEFAULT_STEP_FRAME_CACHE_SIZE_IN_MEGABYTES;
+    }
+
+    /**
+     * Size of step frame cache in megabytes
+     *
+     * @param aValue Size of step frame cache in megabytes
+     * @return True: Value changed, false: Otherwise
+     */
+    public boolean setStepFrameCacheSizeInMegabytes(int aValue) {
+
+        boolean tmpHasChanged = false;
+
+        // <editor-fold defaultstate="collapsed" desc="Set new value if changed">
+        int tmpCorrectedValue = ModelUtils.correctIntegerValue(aValue, ModelDefinitions.MINIMUM_STEP_FRAME_CACHE_SIZE_IN_MEGABYTES, ModelDefinitions.MAXIMUM_STEP_FRAME_CACHE_SIZE_IN_MEGABYTES);
+        if (this.stepFrameCacheSizeInMegabytes != tmpCorrectedValue) {
+            this.stepFrameCacheSizeInMegabytes = tmpCorrectedValue;
+            tmpHasChanged = true;
+        }
+        // </editor-fold>
+        return tmpHasChanged;
+    }
+    // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="- NumberOfPrefetchedSteps">
+    /**
+     * Number of following simulation steps that are read in advance into the step frame cache (0: No prefetch)
+     *
+     * @return Number of prefetched steps
+     */
+    public int getNumberOfPrefetchedSteps() {
+        return this.numberOfPrefetchedSteps;
+    }
+
+    /**
+     * Default number of prefetched steps
+     *
+     * @return Default number of prefetched steps
+     */
+    public int getDefaultNumberOfPrefetchedSteps() {
+        return ModelDefinitions.DEFAULT_NUMBER_OF_PREFETCHED_STEPS;
+    }
+
+    /**
+     * Number of prefetched steps
+     *
+     * @param aValue Number of prefetched steps
+     * @return True: Value changed, false: Otherwise
+     */
+    public boolean setNumberOfPrefetchedSteps(int aValue) {
+
+        boolean tmpHasChanged = false;
+
+        // <editor-fold defaultstate="collapsed" desc="Set new value if changed">
+        int tmpCorrectedValue = ModelUtils.correctIntegerValue(aValue, ModelDefinitions.MINIMUM_NUMBER_OF_PREFETCHED_STEPS, ModelDefinitions.MAXIMUM_NUMBER_OF_PREFETCHED_STEPS);
+        if (this.numberOfPrefetchedSteps != tmpCorrectedValue) {
+            this.numberOfPrefetchedSteps = tmpCorrectedValue;
+            tmpHasChanged = true;
+        }
+        // </editor-fold>
+        return tmpHasChanged;
+    }
+    // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="- NumberOfFramePipelineReaders">
+    /**
+     * Number of threads of the read stage of the movie frame pipeline (0: No frame pipeline)
+     *
+     * @return Number of threads of the read stage of the movie frame pipeline
+     */
+    public int getNumberOfFramePipelineReaders() {
+        return this.numberOfFramePipelineReaders;
+    }
+
+    /**
+     * Default number of threads of the read stage of the movie frame pipeline
+     *
+     * @return Default number of threads of the read stage of the movie frame pipeline
+     */
+    public int getDefaultNumberOfFramePipelineReaders() {
+        return ModelDefinitions.DEFAULT_NUMBER_OF_FRAME_PIPELINE_READERS;
+    }
+
+    /**
+     * Number of threads of the read stage of the movie frame pipeline
+     *
+     * @param aValue Number of threads of the read stage of the movie frame pipeline
+     * @return True: Value changed, false: Otherwise
+     */
+    public boolean setNumberOfFramePipelineReaders(int aValue) {
+
+        boolean tmpHasChanged = false;
+
+        // <editor-fold defaultstate="collapsed" desc="Set new value if changed">
+        int tmpCorrectedValue = ModelUtils.correctIntegerValue(aValue, ModelDefinitions.MINIMUM_NUMBER_OF_FRAME_PIPELINE_READERS, ModelDefinitions.MAXIMUM_NUMBER_OF_FRAME_PIPELINE_READERS);
+        if (this.numberOfFramePipelineReaders != tmpCorrectedValue) {
+            this.numberOfFramePipelineReaders = tmpCorrectedValue;
+            tmpHasChanged = true;
+        }
+        // </editor-fold>
+        return tmpHasChanged;
+    }
+    // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="- NumberOfFramePipelineTransformers">
+    /**
+     * Number of threads of the transform stage of the movie frame pipeline
+     *
+     * @return Number of threads of the transform stage of the movie frame pipeline
+     */
+    public int getNumberOfFramePipelineTransformers() {
+        return this.numberOfFramePipelineTransformers;
+    }
+
+    /**
+     * Default number of threads of the transform stage of the movie frame pipeline
+     *
+     * @return Default number of threads of the transform stage of the movie frame pipeline
+     */
+    public int getDefaultNumberOfFramePipelineTransformers() {
+        return ModelDefinitions.DEFAULT_NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS;
+    }
+
+    /**
+     * Number of threads of the transform stage of the movie frame pipeline
+     *
+     * @param aValue Number of threads of the transform stage of the movie frame pipeline
+     * @return True: Value changed, false: Otherwise
+     */
+    public boolean setNumberOfFramePipelineTransformers(int aValue) {
+
+        boolean tmpHasChanged = false;
+
+        // <editor-fold defaultstate="collapsed" desc="Set new value if changed">
+        int tmpCorrectedValue = ModelUtils.correctIntegerValue(aValue, ModelDefinitions.MINIMUM_NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS, ModelDefinitions.MAXIMUM_NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS);
+        if (this.numberOfFramePipelineTransformers != tmpCorrectedValue) {
+            this.numberOfFramePipelineTransformers = tmpCorrectedValue;
+            tmpHasChanged = true;
+        }
+        // </editor-fold>
+        return tmpHasChanged;
+    }
+    // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="- NumberOfFramePipelineRasterizers">
+    /**
+     * Number of threads of the rasterize stage of the movie frame pipeline
+     *
+     * @return Number of threads of the rasterize stage of the movie frame pipeline
+     */
+    public int getNumberOfFramePipelineRasterizers() {
+        return this.numberOfFramePipelineRasterizers;
+    }
+
+    /**
+     * Default number of threads of the rasterize stage of the movie frame pipeline
+     *
+     * @return Default number of threads of the rasterize stage of the movie frame pipeline
+     */
+    public int getDefaultNumberOfFramePipelineRasterizers() {
+        return ModelDefinitions.DEFAULT_NUMBER_OF_FRAME_PIPELINE_RASTERIZERS;
+    }
+
+    /**
+     * Number of threads of the rasterize stage of the movie frame pipeline
+     *
+     * @param aValue Number of threads of the rasterize stage of the movie frame pipeline
+     * @return True: Value changed, false: Otherwise
+     */
+    public boolean setNumberOfFramePipelineRasterizers(int aValue) {
+
+        boolean tmpHasChanged = false;
+
+        // <editor-fold defaultstate="collapsed" desc="Set new value if changed">
+        int tmpCorrectedValue = ModelUtils.correctIntegerValue(aValue, ModelDefinitions.MINIMUM_NUMBER_OF_FRAME_PIPELINE_RASTERIZERS, ModelDefinitions.MAXIMUM_NUMBER_OF_FRAME_PIPELINE_RASTERIZERS);
+        if (this.numberOfFramePipelineRasterizers != tmpCorrectedValue) {
+            this.numberOfFramePipelineRasterizers = tmpCorrectedValue;
+            tmpHasChanged = true;
+        }
+        // </editor-fold>
+        return tmpHasChanged;
+    }
+    // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="- NumberOfFramePipelineWriters">
+    /**
+     * Number of threads of the store stage of the movie frame pipeline
+     *
+     * @return Number of threads of the store stage of the movie frame pipeline
+     */
+    public int getNumberOfFramePipelineWriters() {
+        return this.numberOfFramePipelineWriters;
+    }
+
+    /**
+     * Default number of threads of the store stage of the movie frame pipeline
+     *
+     * @return Default number of threads of the store stage of the movie frame pipeline
+     */
+    public int getDefaultNumberOfFramePipelineWriters() {
+        return ModelDefinitions.DEFAULT_NUMBER_OF_FRAME_PIPELINE_WRITERS;
+    }
+
+    /**
+     * Number of threads of the store stage of the movie frame pipeline
+     *
+     * @param aValue Number of threads of the store stage of the movie frame pipeline
+     * @return True: Value changed, false: Otherwise
+     */
+    public boolean setNumberOfFramePipelineWriters(int aValue) {
+
+        boolean tmpHasChanged = false;
+
+        // <editor-fold defaultstate="collapsed" desc="Set new value if changed">
+        int tmpCorrectedValue = ModelUtils.correctIntegerValue(aValue, ModelDefinitions.MINIMUM_NUMBER_OF_FRAME_PIPELINE_WRITERS, ModelDefinitions.MAXIMUM_NUMBER_OF_FRAME_PIPELINE_WRITERS);
+        if (this.numberOfFramePipelineWriters != tmpCorrectedValue) {
+            this.numberOfFramePipelineWriters = tmpCorrectedValue;
+            tmpHasChanged = true;
+        }
+        // </editor-fold>
+        return tmpHasChanged;
+    }
+    // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="- NumberOfAfterDecimalDigitsForParticlePositions">
     /**
      * Number of after-decimal-separator digits for particle positions
@@ -9325,6 +9854,8 @@ public final class Preferences {
                 new String[]{
                     ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.PixelAll"),
                     ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.PixelFinal"),
+                    ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.PixelTilesAll"),
+                    ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.PixelTilesFinal"),
                     ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.BufferedImageAll"),
                     ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.BufferedImageFinal"),
                     ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.VolatileImageAll"),
@@ -9340,6 +9871,12 @@ public final class Preferences {
             case PIXEL_FINAL:
                 tmpValueItem.setValue(ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.PixelFinal"));
                 break;
+            case PIXEL_TILES_ALL:
+                tmpValueItem.setValue(ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.PixelTilesAll"));
+                break;
+            case PIXEL_TILES_FINAL:
+                tmpValueItem.setValue(ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.PixelTilesFinal"));
+                break;
             case BUFFERED_IMAGE_ALL:
                 tmpValueItem.setValue(ModelMessage.get("Preferences.SimulationBoxSlicerSettings.GraphicsSettings.GraphicsMode.BufferedImageAll"));
                 break;
@@ -9931,16 +10468,27 @@ public final class Preferences {
         // <editor-fold defaultstate="collapsed" desc="Job Result archive file compression">
         tmpValueItem = new ValueItem();
         tmpValueItem.setNodeNames(tmpNodeNames);
-        tmpValueItem.setDefaultTypeFormat(new ValueItemDataTypeFormat(ModelMessage.get("Preferences.JobResultArchives.IsJobResultArchiveFileCompression.False"), new String[]{
-            ModelMessage.get("Preferences.JobResultArchives.IsJobResultArchiveFileCompression.False"),
-            ModelMessage.get("Preferences.JobResultArchives.IsJobResultArchiveFileCompression.True")}));
-        tmpValueItem.setName(PreferenceEditableEnum.IS_JOB_RESULT_ARCHIVE_FILE_UNCOMPRESSED.name());
-        tmpValueItem.setDescription(ModelMessage.get("Preferences.JobResultArchives.IsJobResultArchiveFileCompression.Description"));
-        tmpValueItem.setDisplayName(ModelMessage.get("Preferences.JobResultArchives.IsJobResultArchiveFileCompression"));
-        if (this.isJobResultArchiveFileUncompressed) {
-            tmpValueItem.setValue(ModelMessage.get("Preferences.JobResultArchives.IsJobResultArchiveFileCompression.False"));
-        } else {
-            tmpValueItem.setValue(ModelMessage.get("Preferences.JobResultArchives.IsJobResultArchiveFileCompression.True"));
+        tmpValueItem.setDefaultTypeFormat(new ValueItemDataTypeFormat(ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Uncompressed"), new String[]{
+            ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Uncompressed"),
+            ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Fastest"),
+            ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Default"),
+            ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Best")}));
+        tmpValueItem.setName(PreferenceEditableEnum.JOB_RESULT_ARCHIVE_COMPRESSION.name());
+        tmpValueItem.setDescription(ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Description"));
+        tmpValueItem.setDisplayName(ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression"));
+        switch (this.jobResultArchiveCompression) {
+            case UNCOMPRESSED:
+                tmpValueItem.setValue(ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Uncompressed"));
+                break;
+            case FASTEST:
+                tmpValueItem.setValue(ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Fastest"));
+                break;
+            case DEFAULT:
+                tmpValueItem.setValue(ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Default"));
+                break;
+            case BEST:
+                tmpValueItem.setValue(ModelMessage.get("Preferences.JobResultArchives.JobResultArchiveCompression.Best"));
+                break;
         }
         tmpValueItem.setVerticalPosition(aVerticalPosition++);
         aValueItemContainer.addValueItem(tmpValueItem);
@@ -10483,6 +11031,11 @@ public final class Preferences {
         tmpValueItem.setVerticalPosition(aVerticalPosition++);
         aValueItemContainer.addValueItem(tmpValueItem);
 
+        tmpValueItem = this.getJobCoreBudgetValueItem();
+        tmpValueItem.setNodeNames(tmpNodeNames);
+        tmpValueItem.setVerticalPosition(aVerticalPosition++);
+        aValueItemContainer.addValueItem(tmpValueItem);
+
         tmpValueItem = this.getNumberOfParallelCalculatorsValueItem();
         tmpValueItem.setNodeNames(tmpNodeNames);
         tmpValueItem.setVerticalPosition(aVerticalPosition++);
@@ -10493,6 +11046,41 @@ public final class Preferences {
         tmpValueItem.setVerticalPosition(aVerticalPosition++);
         aValueItemContainer.addValueItem(tmpValueItem);
 
+        tmpValueItem = this.getNumberOfOnlineAnalysisThreadsValueItem();
+        tmpValueItem.setNodeNames(tmpNodeNames);
+        tmpValueItem.setVerticalPosition(aVerticalPosition++);
+        aValueItemContainer.addValueItem(tmpValueItem);
+
+        tmpValueItem = this.getStepFrameCacheSizeInMegabytesValueItem();
+        tmpValueItem.setNodeNames(tmpNodeNames);
+        tmpValueItem.setVerticalPosition(aVerticalPosition++);
+        aValueItemContainer.addValueItem(tmpValueItem);
+
+        tmpValueItem = this.getNumberOfPrefetchedStepsValueItem();
+        tmpValueItem.setNodeNames(tmpNodeNames);
+        tmpValueItem.setVerticalPosition(aVerticalPosition++);
+        aValueItemContainer.addValueItem(tmpValueItem);
+
+        tmpValueItem = this.getNumberOfFramePipelineReadersValueItem();
+        tmpValueItem.setNodeNames(tmpNodeNames);
+        tmpValueItem.setVerticalPosition(aVerticalPosition++);
+        aValueItemContainer.addValueItem(tmpValueItem);
+
+        tmpValueItem = this.getNumberOfFramePipelineTransformersValueItem();
+        tmpValueItem.setNodeNames(tmpNodeNames);
+        tmpValueItem.setVerticalPosition(aVerticalPosition++);
+        aValueItemContainer.addValueItem(tmpValueItem);
+
+        tmpValueItem = this.getNumberOfFramePipelineRasterizersValueItem();
+        tmpValueItem.setNodeNames(tmpNodeNames);
+        tmpValueItem.setVerticalPosition(aVerticalPosition++);
+        aValueItemContainer.addValueItem(tmpValueItem);
+
+        tmpValueItem = this.getNumberOfFramePipelineWritersValueItem();
+        tmpValueItem.setNodeNames(tmpNodeNames);
+        tmpValueItem.setVerticalPosition(aVerticalPosition++);
+        aValueItemContainer.addValueItem(tmpValueItem);
+
         tmpValueItem = this.getNumberOfSimulationBoxCellsforParallelizationValueItem();
         tmpValueItem.setNodeNames(tmpNodeNames);
         tmpValueItem.setVerticalPosition(aVerticalPosition++);
@@ -10546,6 +11134,41 @@ public final class Preferences {
         return tmpValueItem;
     }
 
+    /**
+     * Returns value item for this.jobCoreBudget
+     *
+     * @return Value item for this.jobCoreBudget
+     */
+    private ValueItem getJobCoreBudgetValueItem() {
+        ValueItem tmpValueItem = new ValueItem();
+        if (!this.isJobWorking()) {
+            tmpValueItem.setDefaultTypeFormat(
+                new ValueItemDataTypeFormat(
+                    String.valueOf(this.getDefaultJobCoreBudget()), 
+                    0,
+                    ModelDefinitions.MINIMUM_JOB_CORE_BUDGET,
+                    Double.POSITIVE_INFINITY
+                )
+            );
+        } else {
+            tmpValueItem.setDefaultTypeFormat(
+                new ValueItemDataTypeFormat(
+                    String.valueOf(this.getDefaultJobCoreBudget()), 
+                    0,
+                    ModelDefinitions.MINIMUM_JOB_CORE_BUDGET,
+                    Double.POSITIVE_INFINITY,
+                    false,
+                    false
+                )
+            );
+        }
+        tmpValueItem.setName(PreferenceEditableEnum.JOB_CORE_BUDGET.name());
+        tmpValueItem.setDescription(ModelMessage.get("Preferences.ParallelComputing.JobCoreBudget.Description"));
+        tmpValueItem.setDisplayName(ModelMessage.get("Preferences.ParallelComputing.JobCoreBudget"));
+        tmpValueItem.setValue(String.valueOf(this.jobCoreBudget));
+        return tmpValueItem;
+    }
+
     /**
      * Returns value item for this.numberOfParallelSlicers
      *
@@ -10641,6 +11264,173 @@ public final class Preferences {
         return tmpValueItem;
     }
 
+    /**
+     * Returns value item for this.numberOfOnlineAnalysisThreads
+     *
+     * @return Value item for this.numberOfOnlineAnalysisThreads
+     */
+    private ValueItem getNumberOfOnlineAnalysisThreadsValueItem() {
+        ValueItem tmpValueItem = new ValueItem();
+        if (!this.isJobWorking()) {
+            tmpValueItem.setDefaultTypeFormat(
+                new ValueItemDataTypeFormat(
+                    String.valueOf(this.getDefaultNumberOfOnlineAnalysisThreads()), 
+                    0,
+                    ModelDefinitions.MINIMUM_NUMBER_OF_ONLINE_ANALYSIS_THREADS,    
+                    Double.POSITIVE_INFINITY
+                )
+            );
+        } else {
+            tmpValueItem.setDefaultTypeFormat(
+                new ValueItemDataTypeFormat(
+                    String.valueOf(this.getDefaultNumberOfOnlineAnalysisThreads()), 
+                    0,
+                    ModelDefinitions.MINIMUM_NUMBER_OF_ONLINE_ANALYSIS_THREADS,    
+                    Double.POSITIVE_INFINITY,
+                    false,
+                    false
+                )
+            );
+        }
+        tmpValueItem.setName(PreferenceEditableEnum.NUMBER_OF_ONLINE_ANALYSIS_THREADS.name());
+        tmpValueItem.setDescription(ModelMessage.get("Preferences.ParallelComputing.NumberOfOnlineAnalysisThreads.Description"));
+        tmpValueItem.setDisplayName(ModelMessage.get("Preferences.ParallelComputing.NumberOfOnlineAnalysisThreads"));
+        tmpValueItem.setValue(String.valueOf(this.numberOfOnlineAnalysisThreads));
+        return tmpValueItem;
+    }
+
+    /**
+     * Returns value item for this.stepFrameCacheSizeInMegabytes
+     *
+     * @return Value item for this.stepFrameCacheSizeInMegabytes
+     */
+    private ValueItem getStepFrameCacheSizeInMegabytesValueItem() {
+        ValueItem tmpValueItem = new ValueItem();
+        tmpValueItem.setDefaultTypeFormat(
+            new ValueItemDataTypeFormat(
+                String.valueOf(this.getDefaultStepFrameCacheSizeInMegabytes()),
+                0, 
+                ModelDefinitions.MINIMUM_STEP_FRAME_CACHE_SIZE_IN_MEGABYTES,
+                Double.POSITIVE_INFINITY
+            )
+        );
+        tmpValueItem.setName(PreferenceEditableEnum.STEP_FRAME_CACHE_SIZE_IN_MEGABYTES.name());
+        tmpValueItem.setDescription(ModelMessage.get("Preferences.ParallelComputing.StepFrameCacheSizeInMegabytes.Description"));
+        tmpValueItem.setDisplayName(ModelMessage.get("Preferences.ParallelComputing.StepFrameCacheSizeInMegabytes"));
+        tmpValueItem.setValue(String.valueOf(this.stepFrameCacheSizeInMegabytes));
+        return tmpValueItem;
+    }
+
+    /**
+     * Returns value item for this.numberOfPrefetchedSteps
+     *
+     * @return Value item for this.numberOfPrefetchedSteps
+     */
+    private ValueItem getNumberOfPrefetchedStepsValueItem() {
+        ValueItem tmpValueItem = new ValueItem();
+        tmpValueItem.setDefaultTypeFormat(
+            new ValueItemDataTypeFormat(
+                String.valueOf(this.getDefaultNumberOfPrefetchedSteps()),
+                0, 
+                ModelDefinitions.MINIMUM_NUMBER_OF_PREFETCHED_STEPS,
+                Double.POSITIVE_INFINITY
+            )
+        );
+        tmpValueItem.setName(PreferenceEditableEnum.NUMBER_OF_PREFETCHED_STEPS.name());
+        tmpValueItem.setDescription(ModelMessage.get("Preferences.ParallelComputing.NumberOfPrefetchedSteps.Description"));
+        tmpValueItem.setDisplayName(ModelMessage.get("Preferences.ParallelComputing.NumberOfPrefetchedSteps"));
+        tmpValueItem.setValue(String.valueOf(this.numberOfPrefetchedSteps));
+        return tmpValueItem;
+    }
+
+    /**
+     * Returns value item for this.numberOfFramePipelineReaders
+     *
+     * @return Value item for this.numberOfFramePipelineReaders
+     */
+    private ValueItem getNumberOfFramePipelineReadersValueItem() {
+        ValueItem tmpValueItem = new ValueItem();
+        tmpValueItem.setDefaultTypeFormat(
+            new ValueItemDataTypeFormat(
+                String.valueOf(this.getDefaultNumberOfFramePipelineReaders()),
+                0, 
+                ModelDefinitions.MINIMUM_NUMBER_OF_FRAME_PIPELINE_READERS,
+                Double.POSITIVE_INFINITY
+            )
+        );
+        tmpValueItem.setName(PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_READERS.name());
+        tmpValueItem.setDescription(ModelMessage.get("Preferences.ParallelComputing.NumberOfFramePipelineReaders.Description"));
+        tmpValueItem.setDisplayName(ModelMessage.get("Preferences.ParallelComputing.NumberOfFramePipelineReaders"));
+        tmpValueItem.setValue(String.valueOf(this.numberOfFramePipelineReaders));
+        return tmpValueItem;
+    }
+
+    /**
+     * Returns value item for this.numberOfFramePipelineTransformers
+     *
+     * @return Value item for this.numberOfFramePipelineTransformers
+     */
+    private ValueItem getNumberOfFramePipelineTransformersValueItem() {
+        ValueItem tmpValueItem = new ValueItem();
+        tmpValueItem.setDefaultTypeFormat(
+            new ValueItemDataTypeFormat(
+                String.valueOf(this.getDefaultNumberOfFramePipelineTransformers()),
+                0, 
+                ModelDefinitions.MINIMUM_NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS,
+                Double.POSITIVE_INFINITY
+            )
+        );
+        tmpValueItem.setName(PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS.name());
+        tmpValueItem.setDescription(ModelMessage.get("Preferences.ParallelComputing.NumberOfFramePipelineTransformers.Description"));
+        tmpValueItem.setDisplayName(ModelMessage.get("Preferences.ParallelComputing.NumberOfFramePipelineTransformers"));
+        tmpValueItem.setValue(String.valueOf(this.numberOfFramePipelineTransformers));
+        return tmpValueItem;
+    }
+
+    /**
+     * Returns value item for this.numberOfFramePipelineRasterizers
+     *
+     * @return Value item for this.numberOfFramePipelineRasterizers
+     */
+    private ValueItem getNumberOfFramePipelineRasterizersValueItem() {
+        ValueItem tmpValueItem = new ValueItem();
+        tmpValueItem.setDefaultTypeFormat(
+            new ValueItemDataTypeFormat(
+                String.valueOf(this.getDefaultNumberOfFramePipelineRasterizers()),
+                0, 
+                ModelDefinitions.MINIMUM_NUMBER_OF_FRAME_PIPELINE_RASTERIZERS,
+                Double.POSITIVE_INFINITY
+            )
+        );
+        tmpValueItem.setName(PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_RASTERIZERS.name());
+        tmpValueItem.setDescription(ModelMessage.get("Preferences.ParallelComputing.NumberOfFramePipelineRasterizers.Description"));
+        tmpValueItem.setDisplayName(ModelMessage.get("Preferences.ParallelComputing.NumberOfFramePipelineRasterizers"));
+        tmpValueItem.setValue(String.valueOf(this.numberOfFramePipelineRasterizers));
+        return tmpValueItem;
+    }
+
+    /**
+     * Returns value item for this.numberOfFramePipelineWriters
+     *
+     * @return Value item for this.numberOfFramePipelineWriters
+     */
+    private ValueItem getNumberOfFramePipelineWritersValueItem() {
+        ValueItem tmpValueItem = new ValueItem();
+        tmpValueItem.setDefaultTypeFormat(
+            new ValueItemDataTypeFormat(
+                String.valueOf(this.getDefaultNumberOfFramePipelineWriters()),
+                0, 
+                ModelDefinitions.MINIMUM_NUMBER_OF_FRAME_PIPELINE_WRITERS,
+                Double.POSITIVE_INFINITY
+            )
+        );
+        tmpValueItem.setName(PreferenceEditableEnum.NUMBER_OF_FRAME_PIPELINE_WRITERS.name());
+        tmpValueItem.setDescription(ModelMessage.get("Preferences.ParallelComputing.NumberOfFramePipelineWriters.Description"));
+        tmpValueItem.setDisplayName(ModelMessage.get("Preferences.ParallelComputing.NumberOfFramePipelineWriters"));
+        tmpValueItem.setValue(String.valueOf(this.numberOfFramePipelineWriters));
+        return tmpValueItem;
+    }
+
     /**
      * Returns value item for this.numberOfSimulationBoxCellsforParallelization
      *
@@ -10866,6 +11656,9 @@ public final class Preferences {
         // <editor-fold defaultstate="collapsed" desc="this.numberOfParallelSimulations">
         this.numberOfParallelSimulations = this.getDefaultNumberOfParallelSimulations();
         // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="this.jobCoreBudget">
+        this.jobCoreBudget = this.getDefaultJobCoreBudget();
+        // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="this.numberOfParallelSlicers">
         this.numberOfParallelSlicers = this.getDefaultNumberOfParallelSlicers();
         // </editor-fold>
@@ -10875,6 +11668,27 @@ public final class Preferences {
         // <editor-fold defaultstate="collapsed" desc="this.numberOfParallelParticlePositionWriters">
         this.numberOfParallelParticlePositionWriters = this.getDefaultNumberOfParallelParticlePositionWriters();
         // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="this.numberOfOnlineAnalysisThreads">
+        this.numberOfOnlineAnalysisThreads = this.getDefaultNumberOfOnlineAnalysisThreads();
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="this.stepFrameCacheSizeInMegabytes">
+        this.stepFrameCacheSizeInMegabytes = this.getDefaultStepFrameCacheSizeInMegabytes();
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="this.numberOfPrefetchedSteps">
+        this.numberOfPrefetchedSteps = this.getDefaultNumberOfPrefetchedSteps();
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="this.numberOfFramePipelineReaders">
+        this.numberOfFramePipelineReaders = this.getDefaultNumberOfFramePipelineReaders();
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="this.numberOfFramePipelineTransformers">
+        this.numberOfFramePipelineTransformers = this.getDefaultNumberOfFramePipelineTransformers();
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="this.numberOfFramePipelineRasterizers">
+        this.numberOfFramePipelineRasterizers = this.getDefaultNumberOfFramePipelineRasterizers();
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="this.numberOfFramePipelineWriters">
+        this.numberOfFramePipelineWriters = this.getDefaultNumberOfFramePipelineWriters();
+        // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="this.numberOfAfterDecimalDigitsForParticlePositions">
         this.numberOfAfterDecimalDigitsForParticlePositions = this.getDefaultNumberOfAfterDecimalDigitsForParticlePositions();
         // </editor-fold>
@@ -11050,8 +11864,8 @@ public final class Preferences {
         // <editor-fold defaultstate="collapsed" desc="isJobResultArchiveProcessParallelInBackground">
         this.isJobResultArchiveProcessParallelInBackground = this.getDefaultJobResultArchiveProcessParallelInBackground();
         // </editor-fold>
-        // <editor-fold defaultstate="collapsed" desc="isJobResultArchiveFileUncompressed">
-        this.isJobResultArchiveFileUncompressed = this.getDefaultJobResultArchiveFileUncompressed();
+        // <editor-fold defaultstate="collapsed" desc="jobResultArchiveCompression">
+        this.jobResultArchiveCompression = this.getDefaultJobResultArchiveCompression();
         // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="this.isJdpdKernelDoublePrecision">
         this.isJdpdKernelDoublePrecision = this.getDefaultJdpdKernelDoublePrecision();
@@ -11059,6 +11873,9 @@ public final class Preferences {
         // <editor-fold defaultstate="collapsed" desc="this.isJdpdLogLevelException">
         this.isJdpdLogLevelException = this.getDefaultJdpdLogLevelException();
         // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="this.isBinaryStepFileConversion">
+        this.isBinaryStepFileConversion = this.getDefaultBinaryStepFileConversion();
+        // </editor-fold>
         // <editor-fold defaultstate="collapsed" desc="this.isConstantCompartmentBodyVolume">
         this.isConstantCompartmentBodyVolume = this.getDefaultConstantCompartmentBodyVolumeFlag();
         // </editor-fold>
@@ -11447,6 +12264,12 @@ public final class Preferences {
                 this.numberOfParallelSimulations = Integer.parseInt(tmpCurrentElement.getText());
             }
             // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="this.jobCoreBudget">
+            tmpCurrentElement = anElement.getChild(PreferenceXmlName.JOB_CORE_BUDGET);
+            if (tmpCurrentElement != null) {
+                this.jobCoreBudget = Integer.parseInt(tmpCurrentElement.getText());
+            }
+            // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="this.numberOfParallelSlicers">
             tmpCurrentElement = anElement.getChild(PreferenceXmlName.NUMBER_OF_PARALLEL_SLICERS);
             if (tmpCurrentElement != null) {
@@ -11465,6 +12288,48 @@ public final class Preferences {
                 this.numberOfParallelParticlePositionWriters = Integer.parseInt(tmpCurrentElement.getText());
             }
             // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="this.numberOfOnlineAnalysisThreads">
+            tmpCurrentElement = anElement.getChild(PreferenceXmlName.NUMBER_OF_ONLINE_ANALYSIS_THREADS);
+            if (tmpCurrentElement != null) {
+                this.numberOfOnlineAnalysisThreads = Integer.parseInt(tmpCurrentElement.getText());
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="this.stepFrameCacheSizeInMegabytes">
+            tmpCurrentElement = anElement.getChild(PreferenceXmlName.STEP_FRAME_CACHE_SIZE_IN_MEGABYTES);
+            if (tmpCurrentElement != null) {
+                this.stepFrameCacheSizeInMegabytes = Integer.parseInt(tmpCurrentElement.getText());
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="this.numberOfPrefetchedSteps">
+            tmpCurrentElement = anElement.getChild(PreferenceXmlName.NUMBER_OF_PREFETCHED_STEPS);
+            if (tmpCurrentElement != null) {
+                this.numberOfPrefetchedSteps = Integer.parseInt(tmpCurrentElement.getText());
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="this.numberOfFramePipelineReaders">
+            tmpCurrentElement = anElement.getChild(PreferenceXmlName.NUMBER_OF_FRAME_PIPELINE_READERS);
+            if (tmpCurrentElement != null) {
+                this.numberOfFramePipelineReaders = Integer.parseInt(tmpCurrentElement.getText());
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="this.numberOfFramePipelineTransformers">
+            tmpCurrentElement = anElement.getChild(PreferenceXmlName.NUMBER_OF_FRAME_PIPELINE_TRANSFORMERS);
+            if (tmpCurrentElement != null) {
+                this.numberOfFramePipelineTransformers = Integer.parseInt(tmpCurrentElement.getText());
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="this.numberOfFramePipelineRasterizers">
+            tmpCurrentElement = anElement.getChild(PreferenceXmlName.NUMBER_OF_FRAME_PIPELINE_RASTERIZERS);
+            if (tmpCurrentElement != null) {
+                this.numberOfFramePipelineRasterizers = Integer.parseInt(tmpCurrentElement.getText());
+            }
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="this.numberOfFramePipelineWriters">
+            tmpCurrentElement = anElement.getChild(PreferenceXmlName.NUMBER_OF_FRAME_PIPELINE_WRITERS);
+            if (tmpCurrentElement != null) {
+                this.numberOfFramePipelineWriters = Integer.parseInt(tmpCurrentElement.getText());
+            }
+            // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="this.numberOfAfterDecimalDigitsForParticlePositions">
             tmpCurrentElement = anElement.getChild(PreferenceXmlName.NUMBER_OF_AFTER_DECIMAL_SEPARATOR_DIGITS_FOR_PARTICLE_POSITIONS);
             if (tmpCurrentElement != null) {
@@ -11792,10 +12657,20 @@ public final class Preferences {
                 this.isJobResultArchiveProcessParallelInBackground = Boolean.parseBoolean(tmpCurrentElement.getText());
             }
             // </editor-fold>
-            // <editor-fold defaultstate="collapsed" desc="this.isJobResultArchiveFileUncompressed">
-            tmpCurrentElement = anElement.getChild(PreferenceXmlName.IS_JOB_RESULT_ARCHIVE_FILE_UNCOMPRESSED);
+            // <editor-fold defaultstate="collapsed" desc="this.jobResultArchiveCompression">
+            tmpCurrentElement = anElement.getChild(PreferenceXmlName.JOB_RESULT_ARCHIVE_COMPRESSION);
             if (tmpCurrentElement != null) {
-                this.isJobResultArchiveFileUncompressed = Boolean.parseBoolean(tmpCurrentElement.getText());
+                this.jobResultArchiveCompression = ArchiveCompressionEnum.valueOf(tmpCurrentElement.getText());
+            } else {
+                // Former preference: Boolean uncompressed flag
+                tmpCurrentElement = anElement.getChild(PreferenceXmlName.IS_JOB_RESULT_ARCHIVE_FILE_UNCOMPRESSED);
+                if (tmpCurrentElement != null) {
+                    if (Boolean.parseBoolean(tmpCurrentElement.getText())) {
+                        this.jobResultArchiveCompression = ArchiveCompressionEnum.UNCOMPRESSED;
+                    } else {
+                        this.jobResultArchiveCompression = ArchiveCompressionEnum.DEFAULT;
+                    }
+                }
             }
 
             // </editor-fold>
@@ -11811,6 +12686,12 @@ public final class Preferences {
                 this.isJdpdLogLevelException = Boolean.parseBoolean(tmpCurrentElement.getText());
             }
             // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="this.isBinaryStepFileConversion">
+            tmpCurrentElement = anElement.getChild(PreferenceXmlName.IS_BINARY_STEP_FILE_CONVERSION);
+            if (tmpCurrentElement != null) {
+                this.isBinaryStepFileConversion = Boolean.parseBoolean(tmpCurrentElement.getText());
+            }
+            // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="this.isConstantCompartmentBodyVolume">
             tmpCurrentElement = anElement.getChild(PreferenceXmlName.IS_CONSTANT_COMPARTMENT_BODY_VOLUME);
             if (tmpCurrentElement != null) {
@@ -0,0 +1,46 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.util;
+
+/**
+ * Enumeration for archive compression presets
+ *
+ * @author Achim Zielesny
+ */
+public enum ArchiveCompressionEnum {
+
+    /**
+     * No compression (fastest, largest archive)
+     */
+    UNCOMPRESSED,
+    /**
+     * Fastest compression
+     */
+    FASTEST,
+    /**
+     * Default compression (balance of speed and archive size)
+     */
+    DEFAULT,
+    /**
+     * Best compression (slowest, smallest archive)
+     */
+    BEST
+
+}
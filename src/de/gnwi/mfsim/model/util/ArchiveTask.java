@@ -22,15 +22,14 @@ package de.gnwi.mfsim.model.util;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 import de.gnwi.mfsim.model.preference.ModelDefinitions;
 
 /**
- * Task for archiving a directory path in a ZIP file
+ * Task for archiving a directory path in a ZIP file (files are compressed in
+ * parallel, see ParallelZipArchiver)
  *
  * @author Achim Zielesny
  *
@@ -91,14 +90,19 @@ public class ArchiveTask implements ProgressTaskInterface {
     private int numberOfFiles;
 
     /**
-     * Variable for counting files
+     * Files to archive
      */
-    private int fileCounter;
+    private List<File> files;
 
     /**
-     * ZIP output stream
+     * ZIP entry names of files to archive
      */
-    ZipOutputStream zipOutputStream;
+    private List<String> entryNames;
+
+    /**
+     * Parallel ZIP archiver
+     */
+    private volatile ParallelZipArchiver parallelZipArchiver;
 
     /**
      * Pattern for file exclusion from archiving, i.e. files that match pattern
@@ -107,10 +111,9 @@ public class ArchiveTask implements ProgressTaskInterface {
     private Pattern fileExclusionRegexPattern;
 
     /**
-     * True: Archive file is uncompressed, false: Otherwise (archive file is
-     * compressed)
+     * Archive compression
      */
-    private boolean isUncompressed;
+    private ArchiveCompressionEnum compression;
     
     /**
      * Progress value
@@ -129,15 +132,14 @@ public class ArchiveTask implements ProgressTaskInterface {
      * @param aFileExclusionRegexPatternString String with pattern for file
      * exclusion from archiving, i.e. files that match pattern are NOT archived
      * (may be null or empty)
-     * @param anIsUncompressed True: Archive file is uncompressed, false:
-     * Otherwise (archive file is compressed)
+     * @param aCompression Archive compression
      * @throws IllegalArgumentException Thrown if an argument is illegal
      */
     public ArchiveTask(
         String aDirectoryPath, 
         String aZipFilePathname, 
         String aFileExclusionRegexPatternString, 
-        boolean anIsUncompressed
+        ArchiveCompressionEnum aCompression
     ) throws IllegalArgumentException {
         // <editor-fold defaultstate="collapsed" desc="Checks">
         if (aDirectoryPath == null || aDirectoryPath.isEmpty() || !(new File(aDirectoryPath)).isDirectory()) {
@@ -146,14 +148,17 @@ public class ArchiveTask implements ProgressTaskInterface {
         if (aZipFilePathname == null || aZipFilePathname.isEmpty() || (new File(aZipFilePathname)).isFile()) {
             throw new IllegalArgumentException("Argument is illegal.");
         }
+        if (aCompression == null) {
+            throw new IllegalArgumentException("Argument is illegal.");
+        }
         // </editor-fold>
         this.isStarted = false;
         this.isStopped = false;
         this.isFinished = false;
         this.directoryPath = aDirectoryPath;
         this.zipFilePathname = aZipFilePathname;
-        this.isUncompressed = anIsUncompressed;
-        this.zipOutputStream = null;
+        this.compression = aCompression;
+        this.parallelZipArchiver = null;
         this.propertyChangeSupport = new PropertyChangeSupport(this);
         this.progressValue = -1;
 
@@ -215,6 +220,10 @@ public class ArchiveTask implements ProgressTaskInterface {
      */
     public void stop() {
         this.isStopped = true;
+        ParallelZipArchiver tmpParallelZipArchiver = this.parallelZipArchiver;
+        if (tmpParallelZipArchiver != null) {
+            tmpParallelZipArchiver.stop();
+        }
     }
     // </editor-fold>
     //
@@ -255,11 +264,13 @@ public class ArchiveTask implements ProgressTaskInterface {
             this.isStarted = true;
             this.setProgressValue(0);
             // </editor-fold>
-            // <editor-fold defaultstate="collapsed" desc="Count files to archive">
-            // Set this.numberOfFiles
+            // <editor-fold defaultstate="collapsed" desc="Collect files to archive">
+            // Set this.numberOfFiles, this.files and this.entryNames
             File tmpDirectory = new File(this.directoryPath);
             this.numberOfFiles = 0;
-            this.countFilesInDirectory(tmpDirectory);
+            this.files = new ArrayList<>();
+            this.entryNames = new ArrayList<>();
+            this.collectFilesInDirectory(tmpDirectory, tmpDirectory);
             if (this.numberOfFiles == -1) {
                 // Fire property change to notify property change listeners about cancellation due to internal error
                 this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
@@ -268,21 +279,19 @@ public class ArchiveTask implements ProgressTaskInterface {
 
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Archive directory into ZIP file">
-            this.fileCounter = 0;
-            this.zipOutputStream = new ZipOutputStream(new FileOutputStream(this.zipFilePathname));
-            if (this.isUncompressed) {
-                // Do NOT compress (faster)
-                this.zipOutputStream.setLevel(ZipOutputStream.STORED);
-            } else {
-                // Compress (slower)
-                this.zipOutputStream.setLevel(ZipOutputStream.DEFLATED);
+            this.parallelZipArchiver = new ParallelZipArchiver(this.compression, Math.max(1, Runtime.getRuntime().availableProcessors()));
+            if (this.isStopped) {
+                return this.returnCancelled();
             }
-            if (!this.copyDirectoryToZipOutputStream(tmpDirectory, tmpDirectory, this.zipOutputStream)) {
-                // Fire property change to notify property change listeners about cancellation due to internal error
-                this.propertyChangeSupport.firePropertyChange(ModelDefinitions.PROPERTY_CHANGE_ERROR, false, true);
+            boolean tmpIsArchived = 
+                this.parallelZipArchiver.archive(
+                    this.files, 
+                    this.entryNames, 
+                    this.zipFilePathname, 
+                    (int aFileCounter) -> this.setProgressValue(this.miscUtilityMethods.getPercentWithMax99(aFileCounter, this.numberOfFiles))
+                );
+            if (!tmpIsArchived) {
                 return this.returnCancelled();
-            } else {
-                this.zipOutputStream.close();
             }
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Set this.isFinished to true BEFORE setting final progress in percent to 100">
@@ -322,86 +331,31 @@ public class ArchiveTask implements ProgressTaskInterface {
      * Deletes ZIP file
      */
     private void deleteZipFile() {
-        if (this.zipOutputStream != null) {
-            try {
-                this.zipOutputStream.close();
-            } catch (Exception anException) {
-                ModelUtils.appendToLogfile(true, anException);
-                // Do nothing
-            }
-        }
         this.fileUtilityMethods.deleteSingleFile(this.zipFilePathname);
     }
 
     /**
-     * Copies directory (with all files and sub directories) to open ZIP output
-     * stream
-     *
-     * @param aDirectory Directory
-     * @param aBaseDirectory Base directory
-     * @param aZipOutputStream ZIP output stream
-     *
-     * @return True: Operation was successful, false: Otherwise
-     */
-    private boolean copyDirectoryToZipOutputStream(File aDirectory, File aBaseDirectory, ZipOutputStream aZipOutputStream) {
-        // NO checks are performed
-        try {
-            File[] tmpFiles = aDirectory.listFiles();
-            byte[] tmpBuffer = new byte[ModelDefinitions.BUFFER_SIZE];
-            for (int i = 0; i < tmpFiles.length; i++) {
-                // <editor-fold defaultstate="collapsed" desc="Check if canceled">
-                if (this.isStopped) {
-                    return this.returnCancelled();
-                }
-                // </editor-fold>
-                // <editor-fold defaultstate="collapsed" desc="Set progress">
-                this.setProgressValue(this.miscUtilityMethods.getPercentWithMax99(this.fileCounter, this.numberOfFiles));
-
-                // </editor-fold>
-                if (tmpFiles[i].isDirectory()) {
-                    if (!this.copyDirectoryToZipOutputStream(tmpFiles[i], aBaseDirectory, aZipOutputStream)) {
-                        return false;
-                    }
-                } else if (this.fileExclusionRegexPattern == null || !this.fileExclusionRegexPattern.matcher(tmpFiles[i].getName()).matches()) {
-                    int tmpLength;
-                    FileInputStream tmpFileInputStream = new FileInputStream(tmpFiles[i]);
-                    ZipEntry tmpEntry = new ZipEntry(tmpFiles[i].getPath().substring(aBaseDirectory.getParent().length() + 1));
-                    tmpEntry.setTime(tmpFiles[i].lastModified());
-                    aZipOutputStream.putNextEntry(tmpEntry);
-                    while ((tmpLength = tmpFileInputStream.read(tmpBuffer)) != -1) {
-                        aZipOutputStream.write(tmpBuffer, 0, tmpLength);
-                    }
-                    tmpFileInputStream.close();
-                    this.fileCounter++;
-                }
-            }
-            return true;
-        } catch (Exception anException) {
-            ModelUtils.appendToLogfile(true, anException);
-            return false;
-        }
-    }
-
-    /**
-     * *
-     * Counts files in aDirectory and all sub directories with class variable
+     * Collects files (with ZIP entry names) in aDirectory and all sub
+     * directories with class variables this.files, this.entryNames and 
      * this.numberOfFiles
      *
      * @param aDirectory Directory
+     * @param aBaseDirectory Base directory
      */
-    private void countFilesInDirectory(File aDirectory) {
-
+    private void collectFilesInDirectory(File aDirectory, File aBaseDirectory) {
         // NO checks are performed
         try {
             File[] tmpFiles = aDirectory.listFiles();
             for (int i = 0; i < tmpFiles.length; i++) {
                 if (tmpFiles[i].isDirectory()) {
-                    this.countFilesInDirectory(tmpFiles[i]);
+                    this.collectFilesInDirectory(tmpFiles[i], aBaseDirectory);
                     if (this.numberOfFiles == -1) {
                         return;
                     }
                 } else {
                     if (this.fileExclusionRegexPattern == null || !this.fileExclusionRegexPattern.matcher(tmpFiles[i].getName()).matches()) {
+                        this.files.add(tmpFiles[i]);
+                        this.entryNames.add(tmpFiles[i].getPath().substring(aBaseDirectory.getParent().length() + 1));
                         this.numberOfFiles++;
                     }
                 }
@@ -416,7 +370,9 @@ public class ArchiveTask implements ProgressTaskInterface {
      * Release memory
      */
     private void releaseMemory() {
-        this.zipOutputStream = null;
+        this.parallelZipArchiver = null;
+        this.files = null;
+        this.entryNames = null;
         this.fileExclusionRegexPattern = null;
     }
 
@@ -0,0 +1,547 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.util;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous batched log writer: Producer threads put log entries into a
+ * bounded lock-free multi-producer/single-consumer ring buffer, a single 
+ * background writer thread drains the ring buffer in batches into an open 
+ * buffered stream of the log file. The writer thread is woken if a batch of 
+ * entries is pending (size threshold) and otherwise flushes at least every 
+ * flush interval (time threshold). If the log file exceeds a maximum size it 
+ * is rotated, i.e. renamed to [log file].1 (former [log file].1 becomes 
+ * [log file].2 etc.). A shutdown hook guarantees that all pending entries are 
+ * written on JVM exit.
+ * NOTE: The writer thread never logs its own errors to the log file (this 
+ * would recursively feed the ring buffer). Instead the number of lost entries
+ * is counted.
+ *
+ * @author Achim Zielesny
+ */
+public class AsyncLogWriter {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Full pathname of log file
+     */
+    private final String logfilePathname;
+
+    /**
+     * Capacity of ring buffer (power of 2)
+     */
+    private final int capacity;
+
+    /**
+     * Mask for ring buffer index (capacity - 1)
+     */
+    private final int mask;
+
+    /**
+     * Ring buffer slots
+     */
+    private final AtomicReferenceArray<String> slots;
+
+    /**
+     * Slot sequences: Slot is free for producer sequence s if slot sequence 
+     * is s, slot is published for consumer sequence s if slot sequence is 
+     * s + 1
+     */
+    private final AtomicLongArray slotSequences;
+
+    /**
+     * Next producer sequence
+     */
+    private final AtomicLong producerSequence;
+
+    /**
+     * Number of entries that trigger a wake up of writer thread and maximum 
+     * number of entries that are written before stream is flushed
+     */
+    private final int batchSize;
+
+    /**
+     * Flush interval in nanoseconds
+     */
+    private final long flushIntervalNanoseconds;
+
+    /**
+     * Maximum size of log file in byte before rotation (less/equal 0: No 
+     * rotation)
+     */
+    private final long maximumLogfileSize;
+
+    /**
+     * Number of rotated log files that are kept
+     */
+    private final int numberOfRotatedLogfiles;
+
+    /**
+     * Lock for log file stream (only held by writer thread during write of 
+     * a batch and by methods that close the stream, NEVER by producers)
+     */
+    private final Object streamLock = new Object();
+
+    /**
+     * Background writer thread
+     */
+    private final Thread writerThread;
+
+    /**
+     * Shutdown hook
+     */
+    private final Thread shutdownHook;
+
+    /**
+     * Number of entries that could not be written
+     */
+    private final AtomicLong numberOfLostEntries;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * Next consumer sequence (only changed by writer thread)
+     */
+    private volatile long consumerSequence;
+
+    /**
+     * Consumer sequence up to which all entries are written and flushed to 
+     * log file
+     */
+    private volatile long flushedSequence;
+
+    /**
+     * True: Writer is closed, false: Otherwise
+     */
+    private volatile boolean isClosed;
+
+    /**
+     * Buffered writer of log file (may be null)
+     */
+    private BufferedWriter bufferedWriter;
+
+    /**
+     * Current size of log file in byte (approximated by number of chars)
+     */
+    private long currentLogfileSize;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     * NOTE: Writer thread is started and shutdown hook is registered.
+     *
+     * @param aLogfilePathname Full pathname of log file
+     * @param aRingBufferCapacity Capacity of ring buffer (is rounded up to the
+     * next power of 2)
+     * @param aBatchSize Batch size (greater 0)
+     * @param aFlushIntervalInMilliseconds Flush interval in milliseconds 
+     * (greater 0)
+     * @param aMaximumLogfileSize Maximum size of log file in byte before 
+     * rotation (less/equal 0: No rotation)
+     * @param aNumberOfRotatedLogfiles Number of rotated log files that are 
+     * kept (greater/equal 0)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public AsyncLogWriter(
+        String aLogfilePathname,
+        int aRingBufferCapacity,
+        int aBatchSize,
+        long aFlushIntervalInMilliseconds,
+        long aMaximumLogfileSize,
+        int aNumberOfRotatedLogfiles
+    ) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aLogfilePathname == null || aLogfilePathname.isEmpty()) {
+            throw new IllegalArgumentException("AsyncLogWriter.Constructor: aLogfilePathname is null/empty.");
+        }
+        if (aRingBufferCapacity < 2 || aRingBufferCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("AsyncLogWriter.Constructor: aRingBufferCapacity is illegal.");
+        }
+        if (aBatchSize < 1) {
+            throw new IllegalArgumentException("AsyncLogWriter.Constructor: aBatchSize is less than 1.");
+        }
+        if (aFlushIntervalInMilliseconds < 1L) {
+            throw new IllegalArgumentException("AsyncLogWriter.Constructor: aFlushIntervalInMilliseconds is less than 1.");
+        }
+        if (aNumberOfRotatedLogfiles < 0) {
+            throw new IllegalArgumentException("AsyncLogWriter.Constructor: aNumberOfRotatedLogfiles is less than 0.");
+        }
+        // </editor-fold>
+        this.logfilePathname = aLogfilePathname;
+        int tmpCapacity = Integer.highestOneBit(aRingBufferCapacity);
+        if (tmpCapacity < aRingBufferCapacity) {
+            tmpCapacity <<= 1;
+        }
+        this.capacity = tmpCapacity;
+        this.mask = tmpCapacity - 1;
+        this.slots = new AtomicReferenceArray<>(tmpCapacity);
+        this.slotSequences = new AtomicLongArray(tmpCapacity);
+        for (int i = 0; i < tmpCapacity; i++) {
+            this.slotSequences.set(i, i);
+        }
+        this.producerSequence = new AtomicLong(0L);
+        this.consumerSequence = 0L;
+        this.flushedSequence = 0L;
+        this.batchSize = Math.min(aBatchSize, tmpCapacity);
+        this.flushIntervalNanoseconds = aFlushIntervalInMilliseconds * 1000000L;
+        this.maximumLogfileSize = aMaximumLogfileSize;
+        this.numberOfRotatedLogfiles = aNumberOfRotatedLogfiles;
+        this.numberOfLostEntries = new AtomicLong(0L);
+        this.isClosed = false;
+        this.bufferedWriter = null;
+        this.currentLogfileSize = 0L;
+
+        this.writerThread = new Thread(() -> this.writeLoop(), "AsyncLogWriter");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        this.shutdownHook = new Thread(() -> this.close(), "AsyncLogWriter-Shutdown");
+        try {
+            Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+        } catch (IllegalStateException anException) {
+            // JVM is already shutting down: Entries are written by explicit close()
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Appends log entry. NOTE: Method is lock-free as long as ring buffer is 
+     * not full. If ring buffer is full the calling thread waits until the 
+     * writer thread has drained entries (back pressure, no entry is dropped). 
+     * If writer is closed entry is written synchronously.
+     *
+     * @param anEntry Log entry (without line separator, may be null/empty 
+     * then nothing is done)
+     */
+    public void append(String anEntry) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (anEntry == null || anEntry.isEmpty()) {
+            return;
+        }
+        // </editor-fold>
+        while (!this.isClosed) {
+            if (this.offer(anEntry)) {
+                return;
+            }
+            // Ring buffer is full: Wake writer thread and wait a moment
+            LockSupport.unpark(this.writerThread);
+            LockSupport.parkNanos(50000L);
+        }
+        // Writer is closed: Write synchronously (after entries that may 
+        // have been published during close)
+        synchronized (this.streamLock) {
+            this.drain(Integer.MAX_VALUE);
+            this.writeEntry(anEntry);
+            this.flushStream();
+            this.closeStream();
+        }
+    }
+
+    /**
+     * Blocks until all entries that were appended before this call are 
+     * written and flushed to log file
+     */
+    public void flush() {
+        long tmpTargetSequence = this.producerSequence.get();
+        while (this.flushedSequence < tmpTargetSequence && this.writerThread.isAlive()) {
+            LockSupport.unpark(this.writerThread);
+            LockSupport.parkNanos(100000L);
+        }
+    }
+
+    /**
+     * Flushes all pending entries and deletes log file as well as all rotated
+     * log files. Log file is re-created with next entry.
+     */
+    public void reset() {
+        this.flush();
+        synchronized (this.streamLock) {
+            this.closeStream();
+            new File(this.logfilePathname).delete();
+            for (int i = 1; i <= this.numberOfRotatedLogfiles; i++) {
+                new File(this.getRotatedLogfilePathname(i)).delete();
+            }
+            this.currentLogfileSize = 0L;
+        }
+    }
+
+    /**
+     * Flushes all pending entries, stops writer thread and closes log file.
+     * Subsequent entries are written synchronously.
+     */
+    public void close() {
+        if (this.isClosed) {
+            return;
+        }
+        this.flush();
+        this.isClosed = true;
+        LockSupport.unpark(this.writerThread);
+        try {
+            this.writerThread.join();
+        } catch (InterruptedException anException) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this.streamLock) {
+            // Entries that were published in between
+            this.drain(Integer.MAX_VALUE);
+            this.flushStream();
+            this.closeStream();
+        }
+        if (Thread.currentThread() != this.shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+            } catch (IllegalStateException anException) {
+                // JVM is already shutting down: Nothing to do
+            }
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Full pathname of log file
+     *
+     * @return Full pathname of log file
+     */
+    public String getLogfilePathname() {
+        return this.logfilePathname;
+    }
+
+    /**
+     * Pathname of rotated log file with specified index
+     *
+     * @param anIndex Index (1 = most recent rotated log file)
+     * @return Pathname of rotated log file with specified index
+     */
+    public String getRotatedLogfilePathname(int anIndex) {
+        return this.logfilePathname + "." + String.valueOf(anIndex);
+    }
+
+    /**
+     * Capacity of ring buffer
+     *
+     * @return Capacity of ring buffer
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Number of entries that are not yet written and flushed
+     *
+     * @return Number of entries that are not yet written and flushed
+     */
+    public long getNumberOfPendingEntries() {
+        return this.producerSequence.get() - this.flushedSequence;
+    }
+
+    /**
+     * Number of entries that could not be written due to IO errors
+     *
+     * @return Number of entries that could not be written
+     */
+    public long getNumberOfLostEntries() {
+        return this.numberOfLostEntries.get();
+    }
+
+    /**
+     * True: Writer is closed, false: Otherwise
+     *
+     * @return True: Writer is closed, false: Otherwise
+     */
+    public boolean isClosed() {
+        return this.isClosed;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Offers entry to ring buffer (lock-free)
+     *
+     * @param anEntry Entry
+     * @return True: Entry was put into ring buffer, false: Ring buffer is full
+     */
+    private boolean offer(String anEntry) {
+        while (true) {
+            long tmpSequence = this.producerSequence.get();
+            int tmpIndex = (int) (tmpSequence & this.mask);
+            long tmpDifference = this.slotSequences.get(tmpIndex) - tmpSequence;
+            if (tmpDifference == 0L) {
+                if (this.producerSequence.compareAndSet(tmpSequence, tmpSequence + 1L)) {
+                    this.slots.lazySet(tmpIndex, anEntry);
+                    // Publish slot for consumer
+                    this.slotSequences.set(tmpIndex, tmpSequence + 1L);
+                    if (tmpSequence + 1L - this.consumerSequence == this.batchSize) {
+                        // Size threshold reached
+                        LockSupport.unpark(this.writerThread);
+                    }
+                    return true;
+                }
+            } else if (tmpDifference < 0L) {
+                // Slot is still occupied by entry of previous cycle
+                return false;
+            }
+            // Otherwise another producer claimed sequence: Retry
+        }
+    }
+
+    /**
+     * Background loop of writer thread
+     */
+    private void writeLoop() {
+        while (!this.isClosed) {
+            int tmpNumberOfEntries;
+            synchronized (this.streamLock) {
+                tmpNumberOfEntries = this.drain(this.batchSize);
+                if (tmpNumberOfEntries < this.batchSize) {
+                    // Ring buffer is drained: Flush
+                    this.flushStream();
+                }
+            }
+            if (tmpNumberOfEntries < this.batchSize) {
+                // Wait for size threshold, flush request or flush interval
+                LockSupport.parkNanos(this, this.flushIntervalNanoseconds);
+            }
+        }
+    }
+
+    /**
+     * Drains published entries from ring buffer and writes them to log file.
+     * NOTE: streamLock must be held.
+     *
+     * @param aMaximumNumberOfEntries Maximum number of entries to be drained
+     * @return Number of drained entries
+     */
+    private int drain(int aMaximumNumberOfEntries) {
+        int tmpCounter = 0;
+        long tmpSequence = this.consumerSequence;
+        while (tmpCounter < aMaximumNumberOfEntries) {
+            int tmpIndex = (int) (tmpSequence & this.mask);
+            if (this.slotSequences.get(tmpIndex) != tmpSequence + 1L) {
+                // Slot is not (yet) published
+                break;
+            }
+            String tmpEntry = this.slots.get(tmpIndex);
+            this.slots.lazySet(tmpIndex, null);
+            // Release slot for producer of next cycle
+            this.slotSequences.set(tmpIndex, tmpSequence + this.capacity);
+            tmpSequence++;
+            this.consumerSequence = tmpSequence;
+            this.writeEntry(tmpEntry);
+            tmpCounter++;
+        }
+        return tmpCounter;
+    }
+
+    /**
+     * Writes single entry to log file stream (rotates log file if necessary).
+     * NOTE: streamLock must be held.
+     *
+     * @param anEntry Entry
+     */
+    private void writeEntry(String anEntry) {
+        try {
+            int tmpLength = anEntry.length() + System.lineSeparator().length();
+            if (this.maximumLogfileSize > 0L 
+                && this.currentLogfileSize > 0L 
+                && this.currentLogfileSize + tmpLength > this.maximumLogfileSize
+            ) {
+                this.rotate();
+            }
+            if (this.bufferedWriter == null) {
+                File tmpLogfile = new File(this.logfilePathname);
+                this.currentLogfileSize = tmpLogfile.isFile() ? tmpLogfile.length() : 0L;
+                // Parameter true: Append
+                this.bufferedWriter = new BufferedWriter(new FileWriter(tmpLogfile, true));
+            }
+            this.bufferedWriter.write(anEntry);
+            this.bufferedWriter.newLine();
+            this.currentLogfileSize += tmpLength;
+        } catch (IOException anException) {
+            // NOTE: Do NOT use ModelUtils.appendToLogfile() here
+            this.numberOfLostEntries.incrementAndGet();
+            this.closeStream();
+        }
+    }
+
+    /**
+     * Flushes log file stream and sets flushed sequence.
+     * NOTE: streamLock must be held.
+     */
+    private void flushStream() {
+        if (this.bufferedWriter != null) {
+            try {
+                this.bufferedWriter.flush();
+            } catch (IOException anException) {
+                this.closeStream();
+            }
+        }
+        this.flushedSequence = this.consumerSequence;
+    }
+
+    /**
+     * Closes log file stream.
+     * NOTE: streamLock must be held.
+     */
+    private void closeStream() {
+        if (this.bufferedWriter != null) {
+            try {
+                this.bufferedWriter.close();
+            } catch (IOException anException) {
+                // Nothing to do
+            }
+            this.bufferedWriter = null;
+        }
+    }
+
+    /**
+     * Rotates log file: [log file].(n-1) becomes [log file].n, ..., 
+     * [log file] becomes [log file].1
+     * NOTE: streamLock must be held.
+     */
+    private void rotate() {
+        this.closeStream();
+        File tmpLogfile = new File(this.logfilePathname);
+        if (this.numberOfRotatedLogfiles == 0) {
+            tmpLogfile.delete();
+        } else {
+            new File(this.getRotatedLogfilePathname(this.numberOfRotatedLogfiles)).delete();
+            for (int i = this.numberOfRotatedLogfiles - 1; i >= 1; i--) {
+                File tmpRotatedLogfile = new File(this.getRotatedLogfilePathname(i));
+                if (tmpRotatedLogfile.isFile()) {
+                    tmpRotatedLogfile.renameTo(new File(this.getRotatedLogfilePathname(i + 1)));
+                }
+            }
+            tmpLogfile.renameTo(new File(this.getRotatedLogfilePathname(1)));
+        }
+        this.currentLogfileSize = 0L;
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,335 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.util;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of idle instances that are keyed by the content string they 
+ * are built from (e.g. SPICES or protein data): Instances are taken from the cache for exclusive use and 
+ * offered back afterwards. The weight of an instance is the length of its 
+ * content string. If the total weight exceeds the maximum weight the least 
+ * recently used instances are evicted.
+ * NOTE: Content strings are used as keys directly since their hash code is 
+ * cached by the string instance, i.e. a lookup does NOT re-hash (possibly 
+ * large) content.
+ * Lookups (poll) are lock-free and may run concurrently, offers and 
+ * evictions are synchronized.
+ *
+ * @author Achim Zielesny
+ * @param <T> Instance type
+ */
+public class ContentCache<T> {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Maximum total weight
+     */
+    private final long maximumWeight;
+
+    /**
+     * Maximum number of idle instances per content
+     */
+    private final int maximumNumberOfInstancesPerContent;
+
+    /**
+     * Content to cache entry map
+     */
+    private final ConcurrentHashMap<String, CacheEntry<T>> contentToEntryMap;
+
+    /**
+     * Access counter for least recently used eviction
+     */
+    private final AtomicLong accessCounter;
+
+    /**
+     * Total weight of idle instances
+     */
+    private final AtomicLong weight;
+
+    /**
+     * Number of idle instances
+     */
+    private final AtomicLong numberOfInstances;
+
+    /**
+     * Number of hits
+     */
+    private final AtomicLong hitCount;
+
+    /**
+     * Number of misses
+     */
+    private final AtomicLong missCount;
+
+    /**
+     * Number of evicted (or rejected) instances
+     */
+    private final AtomicLong evictionCount;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aMaximumWeight Maximum total weight (sum of content string 
+     * lengths of idle instances)
+     * @param aMaximumNumberOfInstancesPerContent Maximum number of idle 
+     * instances per content
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     */
+    public ContentCache(long aMaximumWeight, int aMaximumNumberOfInstancesPerContent) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aMaximumWeight < 1L) {
+            throw new IllegalArgumentException("aMaximumWeight is less than 1.");
+        }
+        if (aMaximumNumberOfInstancesPerContent < 1) {
+            throw new IllegalArgumentException("aMaximumNumberOfInstancesPerContent is less than 1.");
+        }
+        // </editor-fold>
+        this.maximumWeight = aMaximumWeight;
+        this.maximumNumberOfInstancesPerContent = aMaximumNumberOfInstancesPerContent;
+        this.contentToEntryMap = new ConcurrentHashMap<>(100);
+        this.accessCounter = new AtomicLong(0L);
+        this.weight = new AtomicLong(0L);
+        this.numberOfInstances = new AtomicLong(0L);
+        this.hitCount = new AtomicLong(0L);
+        this.missCount = new AtomicLong(0L);
+        this.evictionCount = new AtomicLong(0L);
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Removes and returns an idle instance for content
+     *
+     * @param aContent Content string
+     * @return Idle instance (hit) or null if no idle instance is cached (miss)
+     */
+    public T poll(String aContent) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aContent == null || aContent.isEmpty()) {
+            return null;
+        }
+        // </editor-fold>
+        CacheEntry<T> tmpEntry = this.contentToEntryMap.get(aContent);
+        if (tmpEntry != null) {
+            T tmpInstance = tmpEntry.idleInstances.pollFirst();
+            if (tmpInstance != null) {
+                tmpEntry.lastAccess = this.accessCounter.incrementAndGet();
+                this.weight.addAndGet(-tmpEntry.weight);
+                this.numberOfInstances.decrementAndGet();
+                this.hitCount.incrementAndGet();
+                return tmpInstance;
+            }
+        }
+        this.missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Offers idle instance for content. Least recently used instances are 
+     * evicted if the maximum weight is exceeded.
+     *
+     * @param aContent Content string
+     * @param anInstance Instance built from aContent (must NOT be used by
+     * caller afterwards)
+     * @return True: Instance is cached, false: Otherwise
+     */
+    public synchronized boolean offer(String aContent, T anInstance) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aContent == null || aContent.isEmpty() || anInstance == null) {
+            return false;
+        }
+        if (aContent.length() > this.maximumWeight) {
+            this.evictionCount.incrementAndGet();
+            return false;
+        }
+        // </editor-fold>
+        CacheEntry<T> tmpEntry = this.contentToEntryMap.get(aContent);
+        if (tmpEntry == null) {
+            tmpEntry = new CacheEntry<>(aContent.length());
+            this.contentToEntryMap.put(aContent, tmpEntry);
+        }
+        if (tmpEntry.idleInstances.size() >= this.maximumNumberOfInstancesPerContent) {
+            this.evictionCount.incrementAndGet();
+            return false;
+        }
+        tmpEntry.idleInstances.addFirst(anInstance);
+        tmpEntry.lastAccess = this.accessCounter.incrementAndGet();
+        this.weight.addAndGet(tmpEntry.weight);
+        this.numberOfInstances.incrementAndGet();
+        while (this.weight.get() > this.maximumWeight) {
+            if (!this.evictLeastRecentlyUsedInstance()) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Clears cache (statistics are NOT reset)
+     */
+    public synchronized void clear() {
+        for (CacheEntry<T> tmpEntry : this.contentToEntryMap.values()) {
+            while (tmpEntry.idleInstances.pollFirst() != null) {
+                this.weight.addAndGet(-tmpEntry.weight);
+                this.numberOfInstances.decrementAndGet();
+            }
+        }
+        this.contentToEntryMap.clear();
+    }
+
+    /**
+     * Resets statistics
+     */
+    public void resetStatistics() {
+        this.hitCount.set(0L);
+        this.missCount.set(0L);
+        this.evictionCount.set(0L);
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Number of idle instances
+     *
+     * @return Number of idle instances
+     */
+    public int getNumberOfInstances() {
+        return (int) this.numberOfInstances.get();
+    }
+
+    /**
+     * Total weight of idle instances
+     *
+     * @return Total weight of idle instances
+     */
+    public long getWeight() {
+        return this.weight.get();
+    }
+
+    /**
+     * Maximum total weight
+     *
+     * @return Maximum total weight
+     */
+    public long getMaximumWeight() {
+        return this.maximumWeight;
+    }
+
+    /**
+     * Number of hits
+     *
+     * @return Number of hits
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Number of misses
+     *
+     * @return Number of misses
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * Number of evicted (or rejected) instances
+     *
+     * @return Number of evicted (or rejected) instances
+     */
+    public long getEvictionCount() {
+        return this.evictionCount.get();
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Evicts least recently used idle instance (and removes empty entries)
+     * NOTE: Must be called within synchronized method.
+     *
+     * @return True: Instance was evicted, false: No idle instance available
+     */
+    private boolean evictLeastRecentlyUsedInstance() {
+        CacheEntry<T> tmpLeastRecentlyUsedEntry = null;
+        Iterator<Entry<String, CacheEntry<T>>> tmpIterator = this.contentToEntryMap.entrySet().iterator();
+        while (tmpIterator.hasNext()) {
+            CacheEntry<T> tmpEntry = tmpIterator.next().getValue();
+            if (tmpEntry.idleInstances.isEmpty()) {
+                tmpIterator.remove();
+            } else if (tmpLeastRecentlyUsedEntry == null || tmpEntry.lastAccess < tmpLeastRecentlyUsedEntry.lastAccess) {
+                tmpLeastRecentlyUsedEntry = tmpEntry;
+            }
+        }
+        if (tmpLeastRecentlyUsedEntry == null) {
+            return false;
+        }
+        if (tmpLeastRecentlyUsedEntry.idleInstances.pollLast() != null) {
+            this.weight.addAndGet(-tmpLeastRecentlyUsedEntry.weight);
+            this.numberOfInstances.decrementAndGet();
+            this.evictionCount.incrementAndGet();
+        }
+        return true;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private classes">
+    /**
+     * Cache entry with idle instances of a single content
+     */
+    private static class CacheEntry<T> {
+
+        /**
+         * Weight of single instance
+         */
+        final long weight;
+
+        /**
+         * Idle instances (most recently offered first)
+         */
+        final ConcurrentLinkedDeque<T> idleInstances;
+
+        /**
+         * Last access
+         */
+        volatile long lastAccess;
+
+        /**
+         * Constructor
+         *
+         * @param aWeight Weight of single instance
+         */
+        CacheEntry(long aWeight) {
+            this.weight = aWeight;
+            this.idleInstances = new ConcurrentLinkedDeque<>();
+            this.lastAccess = 0L;
+        }
+
+    }
+    // </editor-fold>
+
+}
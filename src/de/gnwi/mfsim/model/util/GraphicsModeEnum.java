@@ -33,6 +33,14 @@ public enum GraphicsModeEnum {
      * Pixel (final)
      */
     PIXEL_FINAL,
+    /**
+     * Tile-parallel pixel (all)
+     */
+    PIXEL_TILES_ALL,
+    /**
+     * Tile-parallel pixel (final)
+     */
+    PIXEL_TILES_FINAL,
     /**
      * Buffered image (all)
      */
@@ -0,0 +1,369 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ * 
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.util;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * Utility class for integer IDs that accumulate the statistics of values for
+ * bins (histogram/RDF bins) in a streaming manner: For every bin of an ID the
+ * key, the number of values, the sum of values and the sum of squared values 
+ * are stored in primitive arrays so that memory consumption does not depend
+ * on the number of accumulated values.
+ * NOTE: An instance is NOT thread-safe. For parallel accumulation every 
+ * worker uses its own instance and instances are combined with merge().
+ * 
+ * @author Achim Zielesny
+ */
+public class IdBinStatisticsAccumulator {
+    
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * Initial number of bins of an ID
+     */
+    private static final int INITIAL_NUMBER_OF_BINS = 64;
+
+    /**
+     * Version of accumulator file format
+     */
+    private static final int FILE_FORMAT_VERSION = 1;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Number of series of an ID (index = ID)
+     */
+    private final long[] numberOfSeries;
+
+    /**
+     * Keys of bins (index 1 = ID, index 2 = bin index)
+     */
+    private final double[][] keys;
+
+    /**
+     * Number of values of bins (index 1 = ID, index 2 = bin index)
+     */
+    private final long[][] counts;
+
+    /**
+     * Sum of values of bins (index 1 = ID, index 2 = bin index)
+     */
+    private final double[][] sums;
+
+    /**
+     * Sum of squared values of bins (index 1 = ID, index 2 = bin index)
+     */
+    private final double[][] sumsOfSquares;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor
+     * 
+     * @param aNumberOfIds Number of IDs (IDs are 0, 1, ..., aNumberOfIds - 1)
+     * @throws IllegalArgumentException Thrown if argument is invalid
+     */
+    public IdBinStatisticsAccumulator(int aNumberOfIds) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aNumberOfIds < 1) {
+            throw new IllegalArgumentException("aNumberOfIds is less than 1.");
+        }
+        // </editor-fold>
+        this.numberOfSeries = new long[aNumberOfIds];
+        this.keys = new double[aNumberOfIds][];
+        this.counts = new long[aNumberOfIds][];
+        this.sums = new double[aNumberOfIds][];
+        this.sumsOfSquares = new double[aNumberOfIds][];
+        for (int i = 0; i < aNumberOfIds; i++) {
+            this.keys[i] = new double[0];
+            this.counts[i] = new long[0];
+            this.sums[i] = new double[0];
+            this.sumsOfSquares[i] = new double[0];
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Registers a (possibly empty) series of bin values for ID, e.g. the RDF 
+     * of a single simulation step
+     * 
+     * @param anId ID
+     */
+    public void addSeries(int anId) {
+        this.numberOfSeries[anId]++;
+    }
+    
+    /**
+     * Adds a value for bin of ID
+     * 
+     * @param anId ID
+     * @param aBinIndex Bin index (greater or equal to 0)
+     * @param aKey Key of bin (e.g. center of distance segment)
+     * @param aValue Value
+     */
+    public void add(int anId, int aBinIndex, double aKey, double aValue) {
+        if (aBinIndex >= this.counts[anId].length) {
+            this.ensureNumberOfBins(anId, Math.max(aBinIndex + 1, Math.max(IdBinStatisticsAccumulator.INITIAL_NUMBER_OF_BINS, 2 * this.counts[anId].length)));
+        }
+        this.keys[anId][aBinIndex] = aKey;
+        this.counts[anId][aBinIndex]++;
+        this.sums[anId][aBinIndex] += aValue;
+        this.sumsOfSquares[anId][aBinIndex] += aValue * aValue;
+    }
+
+    /**
+     * Merges another accumulator into this accumulator
+     * 
+     * @param anotherAccumulator Another accumulator with the same number of 
+     * IDs
+     * @throws IllegalArgumentException Thrown if argument is invalid
+     */
+    public void merge(IdBinStatisticsAccumulator anotherAccumulator) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (anotherAccumulator == null || anotherAccumulator.getNumberOfIds() != this.getNumberOfIds()) {
+            throw new IllegalArgumentException("anotherAccumulator is invalid.");
+        }
+        // </editor-fold>
+        for (int i = 0; i < this.numberOfSeries.length; i++) {
+            this.numberOfSeries[i] += anotherAccumulator.numberOfSeries[i];
+            long[] tmpOtherCounts = anotherAccumulator.counts[i];
+            if (tmpOtherCounts.length > this.counts[i].length) {
+                this.ensureNumberOfBins(i, tmpOtherCounts.length);
+            }
+            for (int k = 0; k < tmpOtherCounts.length; k++) {
+                if (tmpOtherCounts[k] > 0) {
+                    this.keys[i][k] = anotherAccumulator.keys[i][k];
+                    this.counts[i][k] += tmpOtherCounts[k];
+                    this.sums[i][k] += anotherAccumulator.sums[i][k];
+                    this.sumsOfSquares[i][k] += anotherAccumulator.sumsOfSquares[i][k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes accumulator to binary file. The file is written to a temporary
+     * file first that is renamed afterwards, i.e. an existing file is always
+     * complete.
+     * 
+     * @param aFilePathname File pathname
+     * @return True: Operation successful, false: Otherwise
+     */
+    public boolean writeToFile(String aFilePathname) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aFilePathname == null || aFilePathname.isEmpty()) {
+            return false;
+        }
+        // </editor-fold>
+        File tmpTemporaryFile = new File(aFilePathname + ModelDefinitions.TEMPORARY_FILE_ENDING);
+        try {
+            try (DataOutputStream tmpDataOutputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpTemporaryFile), ModelDefinitions.BUFFER_SIZE))) {
+                tmpDataOutputStream.writeInt(IdBinStatisticsAccumulator.FILE_FORMAT_VERSION);
+                tmpDataOutputStream.writeInt(this.numberOfSeries.length);
+                for (int i = 0; i < this.numberOfSeries.length; i++) {
+                    int tmpNumberOfBins = this.getNumberOfBins(i);
+                    tmpDataOutputStream.writeLong(this.numberOfSeries[i]);
+                    tmpDataOutputStream.writeInt(tmpNumberOfBins);
+                    for (int k = 0; k < tmpNumberOfBins; k++) {
+                        tmpDataOutputStream.writeDouble(this.keys[i][k]);
+                        tmpDataOutputStream.writeLong(this.counts[i][k]);
+                        tmpDataOutputStream.writeDouble(this.sums[i][k]);
+                        tmpDataOutputStream.writeDouble(this.sumsOfSquares[i][k]);
+                    }
+                }
+            }
+            Files.move(tmpTemporaryFile.toPath(), (new File(aFilePathname)).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            tmpTemporaryFile.delete();
+            return false;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public static methods">
+    /**
+     * Reads accumulator from binary file (see writeToFile())
+     * 
+     * @param aFilePathname File pathname
+     * @param aNumberOfIds Expected number of IDs
+     * @return Accumulator or null if file does not exist or is invalid
+     */
+    public static IdBinStatisticsAccumulator readFromFile(String aFilePathname, int aNumberOfIds) {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aFilePathname == null || aFilePathname.isEmpty() || !(new File(aFilePathname)).isFile()) {
+            return null;
+        }
+        if (aNumberOfIds < 1) {
+            return null;
+        }
+        // </editor-fold>
+        try (DataInputStream tmpDataInputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(aFilePathname), ModelDefinitions.BUFFER_SIZE))) {
+            if (tmpDataInputStream.readInt() != IdBinStatisticsAccumulator.FILE_FORMAT_VERSION) {
+                return null;
+            }
+            if (tmpDataInputStream.readInt() != aNumberOfIds) {
+                return null;
+            }
+            IdBinStatisticsAccumulator tmpAccumulator = new IdBinStatisticsAccumulator(aNumberOfIds);
+            for (int i = 0; i < aNumberOfIds; i++) {
+                tmpAccumulator.numberOfSeries[i] = tmpDataInputStream.readLong();
+                int tmpNumberOfBins = tmpDataInputStream.readInt();
+                if (tmpNumberOfBins < 0) {
+                    return null;
+                }
+                tmpAccumulator.ensureNumberOfBins(i, tmpNumberOfBins);
+                for (int k = 0; k < tmpNumberOfBins; k++) {
+                    tmpAccumulator.keys[i][k] = tmpDataInputStream.readDouble();
+                    tmpAccumulator.counts[i][k] = tmpDataInputStream.readLong();
+                    tmpAccumulator.sums[i][k] = tmpDataInputStream.readDouble();
+                    tmpAccumulator.sumsOfSquares[i][k] = tmpDataInputStream.readDouble();
+                }
+            }
+            return tmpAccumulator;
+        } catch (Exception anException) {
+            ModelUtils.appendToLogfile(true, anException);
+            return null;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Number of IDs
+     * 
+     * @return Number of IDs
+     */
+    public int getNumberOfIds() {
+        return this.numberOfSeries.length;
+    }
+
+    /**
+     * Number of series of ID
+     * 
+     * @param anId ID
+     * @return Number of series of ID
+     */
+    public long getNumberOfSeries(int anId) {
+        return this.numberOfSeries[anId];
+    }
+
+    /**
+     * Number of bins of ID (index of last bin with values + 1)
+     * 
+     * @param anId ID
+     * @return Number of bins of ID
+     */
+    public int getNumberOfBins(int anId) {
+        long[] tmpCounts = this.counts[anId];
+        int tmpNumberOfBins = tmpCounts.length;
+        while (tmpNumberOfBins > 0 && tmpCounts[tmpNumberOfBins - 1] == 0) {
+            tmpNumberOfBins--;
+        }
+        return tmpNumberOfBins;
+    }
+
+    /**
+     * Key of bin of ID
+     * 
+     * @param anId ID
+     * @param aBinIndex Bin index
+     * @return Key of bin of ID
+     */
+    public double getKey(int anId, int aBinIndex) {
+        return this.keys[anId][aBinIndex];
+    }
+
+    /**
+     * Number of values of bin of ID
+     * 
+     * @param anId ID
+     * @param aBinIndex Bin index
+     * @return Number of values of bin of ID
+     */
+    public long getCount(int anId, int aBinIndex) {
+        return this.counts[anId][aBinIndex];
+    }
+
+    /**
+     * Mean value of bin of ID
+     * 
+     * @param anId ID
+     * @param aBinIndex Bin index
+     * @return Mean value of bin of ID or Double.NaN if bin has no values
+     */
+    public double getMean(int anId, int aBinIndex) {
+        long tmpCount = this.counts[anId][aBinIndex];
+        if (tmpCount == 0) {
+            return Double.NaN;
+        }
+        return this.sums[anId][aBinIndex] / (double) tmpCount;
+    }
+
+    /**
+     * Standard deviation (sample) of values of bin of ID
+     * 
+     * @param anId ID
+     * @param aBinIndex Bin index
+     * @return Standard deviation of values of bin of ID or Double.NaN if bin 
+     * has less than 2 values
+     */
+    public double getStandardDeviation(int anId, int aBinIndex) {
+        long tmpCount = this.counts[anId][aBinIndex];
+        if (tmpCount < 2) {
+            return Double.NaN;
+        }
+        double tmpMean = this.sums[anId][aBinIndex] / (double) tmpCount;
+        double tmpVariance = (this.sumsOfSquares[anId][aBinIndex] - (double) tmpCount * tmpMean * tmpMean) / (double) (tmpCount - 1);
+        // NOTE: Roundoff errors may lead to a slightly negative variance
+        return Math.sqrt(Math.max(0.0, tmpVariance));
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Ensures number of bins of ID
+     * 
+     * @param anId ID
+     * @param aNumberOfBins Number of bins
+     */
+    private void ensureNumberOfBins(int anId, int aNumberOfBins) {
+        if (aNumberOfBins > this.counts[anId].length) {
+            this.keys[anId] = Arrays.copyOf(this.keys[anId], aNumberOfBins);
+            this.counts[anId] = Arrays.copyOf(this.counts[anId], aNumberOfBins);
+            this.sums[anId] = Arrays.copyOf(this.sums[anId], aNumberOfBins);
+            this.sumsOfSquares[anId] = Arrays.copyOf(this.sumsOfSquares[anId], aNumberOfBins);
+        }
+    }
+    // </editor-fold>
+    
+}
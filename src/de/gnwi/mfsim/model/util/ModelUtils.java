@@ -28,6 +28,8 @@ import java.io.*;
 import java.net.ServerSocket;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.regex.Pattern;
 import org.jdom2.Element;
@@ -50,21 +52,37 @@ public final class ModelUtils {
      * Last time stamp in standard format
      */
     private static String lastTimeStampInStandardFormat = "";
+
+    /**
+     * Asynchronous log writer (may be null)
+     */
+    private static volatile AsyncLogWriter logWriter;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * Thread-safe formatter for log entry timestamps (see
+     * ModelDefinitions.STANDARD_TIMESTAMP_FORMAT)
+     */
+    private static final DateTimeFormatter LOG_TIMESTAMP_FORMATTER = 
+        DateTimeFormatter.ofPattern(ModelDefinitions.STANDARD_TIMESTAMP_FORMAT).withZone(ZoneId.systemDefault());
     // </editor-fold>
     //
     // <editor-fold defaultstate="collapsed" desc="Public static synchronized methods">
     // <editor-fold defaultstate="collapsed" desc="- Log file related methods">
     /**
-     * Deletes log file. NOTE: Log file related methods need to be synchronized.
+     * Deletes log file (and rotated log files). NOTE: Pending log entries are 
+     * written before.
      */
     public static synchronized void resetLogfile() {
         // Delete log file
         try {
-            File tmpFile = new File(Preferences.getInstance().getLogfilePathname());
-            if (!tmpFile.isFile()) {
+            AsyncLogWriter tmpLogWriter = ModelUtils.getLogWriter();
+            tmpLogWriter.flush();
+            if (!(new File(tmpLogWriter.getLogfilePathname())).isFile()) {
                 return;
             } else {
-                tmpFile.delete();
+                tmpLogWriter.reset();
             }
             Preferences.getInstance().setLogEvent(false);
         } catch (Exception anException) {
@@ -77,13 +95,25 @@ public final class ModelUtils {
     }
 
     /**
-     * Appends single string to log file. NOTE: Log file related methods need to
-     * be synchronised.
+     * Flushes all pending log entries to log file (blocks until entries are 
+     * written)
+     */
+    public static void flushLogfile() {
+        AsyncLogWriter tmpLogWriter = ModelUtils.logWriter;
+        if (tmpLogWriter != null) {
+            tmpLogWriter.flush();
+        }
+    }
+
+    /**
+     * Appends single string to log file. NOTE: Method is NOT synchronized: 
+     * The log entry is put into the lock-free ring buffer of the asynchronous
+     * log writer (see AsyncLogWriter) and written by its background thread.
      *
      * @param anObject Object to be appended
      * @param anIsEvent True: Object is log event, false: Otherwise
      */
-    public static synchronized void appendToLogfile(boolean anIsEvent, Object anObject) {
+    public static void appendToLogfile(boolean anIsEvent, Object anObject) {
         // <editor-fold defaultstate="collapsed" desc="Checks">
         if (anObject == null) {
             return;
@@ -91,7 +121,7 @@ public final class ModelUtils {
         // </editor-fold>
         if (anObject instanceof String) {
             String tmpString = (String) anObject;
-            ModelUtils.appendSingleStringToFile(ModelUtils.getTimestampInStandardFormat() + ": " + tmpString, Preferences.getInstance().getLogfilePathname());
+            ModelUtils.getLogWriter().append(ModelUtils.getLogTimestamp() + ": " + tmpString);
             if (anIsEvent) {
                 Preferences.getInstance().setLogEvent(true);
             }
@@ -99,13 +129,55 @@ public final class ModelUtils {
             Exception tmpException = (Exception) anObject;
             StringWriter tmpStringWriter = new StringWriter();
             tmpException.printStackTrace(new PrintWriter(tmpStringWriter));
-            String tmpStackTrace = ModelUtils.getTimestampInStandardFormat() + ": " + tmpStringWriter.toString();
-            ModelUtils.appendSingleStringToFile(tmpStackTrace, Preferences.getInstance().getLogfilePathname());
+            String tmpStackTrace = ModelUtils.getLogTimestamp() + ": " + tmpStringWriter.toString();
+            ModelUtils.getLogWriter().append(tmpStackTrace);
             if (anIsEvent) {
                 Preferences.getInstance().setLogEvent(true);
             }
         }
     }
+
+    /**
+     * Returns asynchronous log writer for current log file pathname (a new 
+     * writer is created if pathname changed)
+     *
+     * @return Asynchronous log writer
+     */
+    private static AsyncLogWriter getLogWriter() {
+        String tmpLogfilePathname = Preferences.getInstance().getLogfilePathname();
+        AsyncLogWriter tmpLogWriter = ModelUtils.logWriter;
+        if (tmpLogWriter != null && tmpLogWriter.getLogfilePathname().equals(tmpLogfilePathname)) {
+            return tmpLogWriter;
+        }
+        synchronized (AsyncLogWriter.class) {
+            tmpLogWriter = ModelUtils.logWriter;
+            if (tmpLogWriter == null || !tmpLogWriter.getLogfilePathname().equals(tmpLogfilePathname)) {
+                if (tmpLogWriter != null) {
+                    tmpLogWriter.close();
+                }
+                tmpLogWriter = 
+                    new AsyncLogWriter(
+                        tmpLogfilePathname, 
+                        ModelDefinitions.LOGFILE_RING_BUFFER_CAPACITY, 
+                        ModelDefinitions.LOGFILE_WRITER_BATCH_SIZE, 
+                        ModelDefinitions.LOGFILE_WRITER_FLUSH_INTERVAL_MILLISECONDS, 
+                        ModelDefinitions.LOGFILE_MAXIMUM_SIZE, 
+                        ModelDefinitions.LOGFILE_NUMBER_OF_ROTATED_FILES
+                    );
+                ModelUtils.logWriter = tmpLogWriter;
+            }
+            return tmpLogWriter;
+        }
+    }
+
+    /**
+     * Returns current timestamp for log entry without any lock
+     *
+     * @return Current timestamp in standard form
+     */
+    private static String getLogTimestamp() {
+        return ModelUtils.LOG_TIMESTAMP_FORMATTER.format(Instant.now());
+    }
     // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="- Timestamp related methods">
     /**
@@ -1604,6 +1676,7 @@ public final class ModelUtils {
      */
     public static void exitApplication(int anErrorValue) {
         ModelUtils.deleteSingleFile(ModelUtils.getSingleInstanceFilePathname());
+        ModelUtils.flushLogfile();
         System.exit(anErrorValue);
     }
     
@@ -0,0 +1,768 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.util;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Parallel ZIP archiver: Independent entries (files) are compressed in 
+ * parallel into temporary raw deflate streams (in memory for small files, 
+ * temporary files otherwise) and assembled in order into a standard ZIP 
+ * file (with ZIP64 extensions if necessary) by the calling thread.
+ * Already compressed files (GZIP files with extension .gz) and files that 
+ * do not become smaller are stored without compression.
+ * NOTE: The number of pending entries is bounded.
+ *
+ * @author Achim Zielesny
+ */
+public class ParallelZipArchiver {
+
+    // <editor-fold defaultstate="collapsed" desc="Private static final class variables">
+    /**
+     * ZIP64 magic value for 32 bit fields
+     */
+    private static final long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+
+    /**
+     * ZIP64 magic value for 16 bit number of entries
+     */
+    private static final int ZIP64_MAGIC_NUMBER_OF_ENTRIES = 0xFFFF;
+
+    /**
+     * General purpose bit flag: UTF-8 entry names
+     */
+    private static final int FLAG_UTF8 = 0x0800;
+
+    /**
+     * Compression method: Stored
+     */
+    private static final int METHOD_STORED = 0;
+
+    /**
+     * Compression method: Deflated
+     */
+    private static final int METHOD_DEFLATED = 8;
+
+    /**
+     * Version needed to extract
+     */
+    private static final int VERSION_DEFAULT = 20;
+
+    /**
+     * Version needed to extract with ZIP64 extensions
+     */
+    private static final int VERSION_ZIP64 = 45;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Compression preset
+     */
+    private final ArchiveCompressionEnum compression;
+
+    /**
+     * Number of threads
+     */
+    private final int numberOfThreads;
+
+    /**
+     * True: ZIP64 extensions are always written (for tests), false: ZIP64 
+     * extensions are only written if necessary
+     */
+    private final boolean isZip64Forced;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private class variables">
+    /**
+     * True: Archiving was stopped, false: Otherwise
+     */
+    private volatile boolean isStopped;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructors">
+    /**
+     * Constructor
+     *
+     * @param aCompression Compression preset
+     * @param aNumberOfThreads Number of threads for compression
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     */
+    public ParallelZipArchiver(ArchiveCompressionEnum aCompression, int aNumberOfThreads) throws IllegalArgumentException {
+        this(aCompression, aNumberOfThreads, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param aCompression Compression preset
+     * @param aNumberOfThreads Number of threads for compression
+     * @param anIsZip64Forced True: ZIP64 extensions are always written, 
+     * false: ZIP64 extensions are only written if necessary
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     */
+    ParallelZipArchiver(ArchiveCompressionEnum aCompression, int aNumberOfThreads, boolean anIsZip64Forced) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aCompression == null) {
+            throw new IllegalArgumentException("aCompression is null.");
+        }
+        if (aNumberOfThreads < 1) {
+            throw new IllegalArgumentException("aNumberOfThreads is less than 1.");
+        }
+        // </editor-fold>
+        this.compression = aCompression;
+        this.numberOfThreads = aNumberOfThreads;
+        this.isZip64Forced = anIsZip64Forced;
+        this.isStopped = false;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Archives files into ZIP file
+     *
+     * @param aFiles Files
+     * @param anEntryNames Entry names of files
+     * @param aZipFilePathname ZIP file pathname (is overwritten if it exists)
+     * @param aProgressListener Listener that is called with the number of 
+     * written entries after each entry (may be null)
+     * @return True: Archiving finished, false: Archiving was stopped (ZIP 
+     * file is incomplete)
+     * @throws IllegalArgumentException Thrown if an argument is invalid
+     * @throws IOException Thrown if archiving fails
+     */
+    public boolean archive(List<File> aFiles, List<String> anEntryNames, String aZipFilePathname, IntConsumer aProgressListener) throws IllegalArgumentException, IOException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aFiles == null || anEntryNames == null || aFiles.size() != anEntryNames.size()) {
+            throw new IllegalArgumentException("aFiles/anEntryNames is null or sizes differ.");
+        }
+        if (aZipFilePathname == null || aZipFilePathname.isEmpty()) {
+            throw new IllegalArgumentException("aZipFilePathname is null/empty.");
+        }
+        // </editor-fold>
+        File tmpTemporaryDirectory = new File(aZipFilePathname).getAbsoluteFile().getParentFile();
+        ExecutorService tmpExecutorService = Executors.newFixedThreadPool(this.numberOfThreads);
+        ArrayDeque<Future<CompressedEntry>> tmpPendingEntries = new ArrayDeque<>();
+        ArrayList<CentralDirectoryRecord> tmpCentralDirectoryRecords = new ArrayList<>(aFiles.size());
+        try (CountingOutputStream tmpOutputStream = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(aZipFilePathname), ModelDefinitions.BUFFER_SIZE))) {
+            int tmpNextIndex = 0;
+            int tmpMaximumNumberOfPendingEntries = 2 * this.numberOfThreads;
+            while (tmpNextIndex < aFiles.size() || !tmpPendingEntries.isEmpty()) {
+                if (this.isStopped) {
+                    return false;
+                }
+                while (tmpNextIndex < aFiles.size() && tmpPendingEntries.size() < tmpMaximumNumberOfPendingEntries) {
+                    final File tmpFile = aFiles.get(tmpNextIndex);
+                    final String tmpEntryName = anEntryNames.get(tmpNextIndex);
+                    tmpPendingEntries.addLast(tmpExecutorService.submit(() -> this.compressEntry(tmpFile, tmpEntryName, tmpTemporaryDirectory)));
+                    tmpNextIndex++;
+                }
+                CompressedEntry tmpEntry = this.getCompressedEntry(tmpPendingEntries.pollFirst());
+                try {
+                    tmpCentralDirectoryRecords.add(this.writeEntry(tmpEntry, tmpOutputStream));
+                } finally {
+                    tmpEntry.deleteTemporaryFile();
+                }
+                if (aProgressListener != null) {
+                    aProgressListener.accept(tmpCentralDirectoryRecords.size());
+                }
+            }
+            this.writeCentralDirectory(tmpCentralDirectoryRecords, tmpOutputStream);
+            return true;
+        } finally {
+            // <editor-fold defaultstate="collapsed" desc="Cancel pending entries and delete their temporary files">
+            // NOTE: Cancelled tasks that are already running delete their temporary files themselves
+            for (Future<CompressedEntry> tmpFuture : tmpPendingEntries) {
+                tmpFuture.cancel(true);
+            }
+            tmpExecutorService.shutdownNow();
+            try {
+                tmpExecutorService.awaitTermination(ModelDefinitions.ARCHIVE_WORKER_TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException anException) {
+                Thread.currentThread().interrupt();
+            }
+            for (Future<CompressedEntry> tmpFuture : tmpPendingEntries) {
+                if (tmpFuture.isDone() && !tmpFuture.isCancelled()) {
+                    try {
+                        tmpFuture.get().deleteTemporaryFile();
+                    } catch (Exception anException) {
+                        // Do nothing: Failed task has already deleted its temporary file
+                    }
+                }
+            }
+            // </editor-fold>
+        }
+    }
+
+    /**
+     * Stops archiving
+     */
+    public void stop() {
+        this.isStopped = true;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Returns compressed entry of future
+     *
+     * @param aFuture Future
+     * @return Compressed entry
+     * @throws IOException Thrown if compression failed
+     */
+    private CompressedEntry getCompressedEntry(Future<CompressedEntry> aFuture) throws IOException {
+        try {
+            return aFuture.get();
+        } catch (InterruptedException anException) {
+            Thread.currentThread().interrupt();
+            throw new IOException(anException);
+        } catch (ExecutionException anException) {
+            if (anException.getCause() instanceof IOException) {
+                throw (IOException) anException.getCause();
+            } else {
+                throw new IOException(anException.getCause());
+            }
+        }
+    }
+
+    /**
+     * Returns deflater level of compression preset
+     *
+     * @return Deflater level
+     */
+    private int getDeflaterLevel() {
+        switch (this.compression) {
+            case FASTEST:
+                return Deflater.BEST_SPEED;
+            case BEST:
+                return Deflater.BEST_COMPRESSION;
+            default:
+                return Deflater.DEFAULT_COMPRESSION;
+        }
+    }
+
+    /**
+     * Compresses file (called by worker threads)
+     *
+     * @param aFile File
+     * @param anEntryName Entry name
+     * @param aTemporaryDirectory Directory for temporary files
+     * @return Compressed entry
+     * @throws IOException Thrown if file can not be read or compressed
+     */
+    private CompressedEntry compressEntry(File aFile, String anEntryName, File aTemporaryDirectory) throws IOException {
+        CompressedEntry tmpEntry = new CompressedEntry(aFile, anEntryName);
+        try {
+            byte[] tmpBuffer = new byte[ModelDefinitions.BUFFER_SIZE];
+            CRC32 tmpCrc32 = new CRC32();
+            int tmpLength;
+            if (this.compression == ArchiveCompressionEnum.UNCOMPRESSED || aFile.getName().toLowerCase().endsWith(".gz")) {
+                // <editor-fold defaultstate="collapsed" desc="Stored: CRC only (file is copied on write)">
+                long tmpSize = 0L;
+                try (InputStream tmpInputStream = new FileInputStream(aFile)) {
+                    while ((tmpLength = tmpInputStream.read(tmpBuffer)) != -1) {
+                        this.checkInterrupted();
+                        tmpCrc32.update(tmpBuffer, 0, tmpLength);
+                        tmpSize += tmpLength;
+                    }
+                }
+                tmpEntry.setStored(tmpCrc32.getValue(), tmpSize);
+                // </editor-fold>
+            } else {
+                // <editor-fold defaultstate="collapsed" desc="Deflated into memory or temporary file">
+                boolean tmpIsInMemory = aFile.length() <= ModelDefinitions.ARCHIVE_IN_MEMORY_ENTRY_SIZE;
+                ByteArrayOutputStream tmpByteArrayOutputStream = null;
+                File tmpTemporaryFile = null;
+                OutputStream tmpTargetOutputStream;
+                if (tmpIsInMemory) {
+                    tmpByteArrayOutputStream = new ByteArrayOutputStream((int) Math.max(32L, aFile.length() / 2L));
+                    tmpTargetOutputStream = tmpByteArrayOutputStream;
+                } else {
+                    tmpTemporaryFile = File.createTempFile("MFsimArchive", ".tmp", aTemporaryDirectory);
+                    tmpEntry.temporaryFile = tmpTemporaryFile;
+                    tmpTargetOutputStream = new BufferedOutputStream(new FileOutputStream(tmpTemporaryFile), ModelDefinitions.BUFFER_SIZE);
+                }
+                Deflater tmpDeflater = new Deflater(this.getDeflaterLevel(), true);
+                long tmpSize = 0L;
+                CountingOutputStream tmpCountingOutputStream = new CountingOutputStream(tmpTargetOutputStream);
+                try (InputStream tmpInputStream = new FileInputStream(aFile);
+                    DeflaterOutputStream tmpDeflaterOutputStream = new DeflaterOutputStream(tmpCountingOutputStream, tmpDeflater, ModelDefinitions.BUFFER_SIZE)) {
+                    while ((tmpLength = tmpInputStream.read(tmpBuffer)) != -1) {
+                        this.checkInterrupted();
+                        tmpCrc32.update(tmpBuffer, 0, tmpLength);
+                        tmpDeflaterOutputStream.write(tmpBuffer, 0, tmpLength);
+                        tmpSize += tmpLength;
+                    }
+                } finally {
+                    tmpDeflater.end();
+                }
+                if (tmpCountingOutputStream.getCount() >= tmpSize) {
+                    // No size reduction: Store
+                    tmpEntry.deleteTemporaryFile();
+                    tmpEntry.setStored(tmpCrc32.getValue(), tmpSize);
+                } else {
+                    tmpEntry.setDeflated(
+                        tmpCrc32.getValue(), 
+                        tmpSize, 
+                        tmpCountingOutputStream.getCount(), 
+                        tmpIsInMemory ? tmpByteArrayOutputStream.toByteArray() : null
+                    );
+                }
+                // </editor-fold>
+            }
+            // Result of cancelled task is discarded
+            this.checkInterrupted();
+            return tmpEntry;
+        } catch (IOException | RuntimeException anException) {
+            tmpEntry.deleteTemporaryFile();
+            throw anException;
+        }
+    }
+
+    /**
+     * Throws exception if current (worker) thread is interrupted
+     *
+     * @throws InterruptedIOException Thrown if current thread is interrupted
+     */
+    private void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Compression of entry was cancelled.");
+        }
+    }
+
+    /**
+     * Writes local file header and data of entry
+     *
+     * @param anEntry Compressed entry
+     * @param anOutputStream Output stream
+     * @return Central directory record of entry
+     * @throws IOException Thrown if writing fails
+     */
+    private CentralDirectoryRecord writeEntry(CompressedEntry anEntry, CountingOutputStream anOutputStream) throws IOException {
+        CentralDirectoryRecord tmpRecord = new CentralDirectoryRecord();
+        tmpRecord.nameBytes = anEntry.entryName.getBytes(StandardCharsets.UTF_8);
+        tmpRecord.method = anEntry.method;
+        tmpRecord.crc = anEntry.crc;
+        tmpRecord.size = anEntry.size;
+        tmpRecord.compressedSize = anEntry.compressedSize;
+        tmpRecord.dosTime = this.getDosTime(anEntry.file.lastModified());
+        tmpRecord.offset = anOutputStream.getCount();
+        boolean tmpIsZip64 = this.isZip64Forced || tmpRecord.size >= ZIP64_MAGIC_VALUE || tmpRecord.compressedSize >= ZIP64_MAGIC_VALUE;
+        // <editor-fold defaultstate="collapsed" desc="Local file header">
+        this.writeInt(anOutputStream, 0x04034b50L);
+        this.writeShort(anOutputStream, tmpIsZip64 ? VERSION_ZIP64 : VERSION_DEFAULT);
+        this.writeShort(anOutputStream, FLAG_UTF8);
+        this.writeShort(anOutputStream, tmpRecord.method);
+        this.writeInt(anOutputStream, tmpRecord.dosTime);
+        this.writeInt(anOutputStream, tmpRecord.crc);
+        this.writeInt(anOutputStream, tmpIsZip64 ? ZIP64_MAGIC_VALUE : tmpRecord.compressedSize);
+        this.writeInt(anOutputStream, tmpIsZip64 ? ZIP64_MAGIC_VALUE : tmpRecord.size);
+        this.writeShort(anOutputStream, tmpRecord.nameBytes.length);
+        this.writeShort(anOutputStream, tmpIsZip64 ? 20 : 0);
+        anOutputStream.write(tmpRecord.nameBytes);
+        if (tmpIsZip64) {
+            this.writeShort(anOutputStream, 0x0001);
+            this.writeShort(anOutputStream, 16);
+            this.writeLong(anOutputStream, tmpRecord.size);
+            this.writeLong(anOutputStream, tmpRecord.compressedSize);
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Data">
+        if (anEntry.data != null) {
+            anOutputStream.write(anEntry.data);
+        } else {
+            File tmpDataFile = anEntry.method == METHOD_STORED ? anEntry.file : anEntry.temporaryFile;
+            byte[] tmpBuffer = new byte[ModelDefinitions.BUFFER_SIZE];
+            long tmpCount = 0L;
+            int tmpLength;
+            try (InputStream tmpInputStream = new FileInputStream(tmpDataFile)) {
+                while ((tmpLength = tmpInputStream.read(tmpBuffer)) != -1) {
+                    anOutputStream.write(tmpBuffer, 0, tmpLength);
+                    tmpCount += tmpLength;
+                }
+            }
+            if (tmpCount != tmpRecord.compressedSize) {
+                throw new IOException("Size of " + anEntry.file.getPath() + " changed during archiving.");
+            }
+        }
+        // </editor-fold>
+        return tmpRecord;
+    }
+
+    /**
+     * Writes central directory and end of central directory records
+     *
+     * @param aRecords Central directory records
+     * @param anOutputStream Output stream
+     * @throws IOException Thrown if writing fails
+     */
+    private void writeCentralDirectory(List<CentralDirectoryRecord> aRecords, CountingOutputStream anOutputStream) throws IOException {
+        long tmpCentralDirectoryOffset = anOutputStream.getCount();
+        for (CentralDirectoryRecord tmpRecord : aRecords) {
+            boolean tmpIsZip64 = 
+                this.isZip64Forced 
+                || tmpRecord.size >= ZIP64_MAGIC_VALUE 
+                || tmpRecord.compressedSize >= ZIP64_MAGIC_VALUE 
+                || tmpRecord.offset >= ZIP64_MAGIC_VALUE;
+            this.writeInt(anOutputStream, 0x02014b50L);
+            this.writeShort(anOutputStream, tmpIsZip64 ? VERSION_ZIP64 : VERSION_DEFAULT);
+            this.writeShort(anOutputStream, tmpIsZip64 ? VERSION_ZIP64 : VERSION_DEFAULT);
+            this.writeShort(anOutputStream, FLAG_UTF8);
+            this.writeShort(anOutputStream, tmpRecord.method);
+            this.writeInt(anOutputStream, tmpRecord.dosTime);
+            this.writeInt(anOutputStream, tmpRecord.crc);
+            this.writeInt(anOutputStream, tmpIsZip64 ? ZIP64_MAGIC_VALUE : tmpRecord.compressedSize);
+            this.writeInt(anOutputStream, tmpIsZip64 ? ZIP64_MAGIC_VALUE : tmpRecord.size);
+            this.writeShort(anOutputStream, tmpRecord.nameBytes.length);
+            this.writeShort(anOutputStream, tmpIsZip64 ? 28 : 0);
+            // File comment length, disk number start, internal and external file attributes
+            this.writeShort(anOutputStream, 0);
+            this.writeShort(anOutputStream, 0);
+            this.writeShort(anOutputStream, 0);
+            this.writeInt(anOutputStream, 0L);
+            this.writeInt(anOutputStream, tmpIsZip64 ? ZIP64_MAGIC_VALUE : tmpRecord.offset);
+            anOutputStream.write(tmpRecord.nameBytes);
+            if (tmpIsZip64) {
+                this.writeShort(anOutputStream, 0x0001);
+                this.writeShort(anOutputStream, 24);
+                this.writeLong(anOutputStream, tmpRecord.size);
+                this.writeLong(anOutputStream, tmpRecord.compressedSize);
+                this.writeLong(anOutputStream, tmpRecord.offset);
+            }
+        }
+        long tmpCentralDirectorySize = anOutputStream.getCount() - tmpCentralDirectoryOffset;
+        boolean tmpIsZip64 = 
+            this.isZip64Forced 
+            || aRecords.size() >= ZIP64_MAGIC_NUMBER_OF_ENTRIES 
+            || tmpCentralDirectoryOffset >= ZIP64_MAGIC_VALUE 
+            || tmpCentralDirectorySize >= ZIP64_MAGIC_VALUE;
+        if (tmpIsZip64) {
+            // <editor-fold defaultstate="collapsed" desc="ZIP64 end of central directory record and locator">
+            long tmpZip64EndOffset = anOutputStream.getCount();
+            this.writeInt(anOutputStream, 0x06064b50L);
+            this.writeLong(anOutputStream, 44L);
+            this.writeShort(anOutputStream, VERSION_ZIP64);
+            this.writeShort(anOutputStream, VERSION_ZIP64);
+            this.writeInt(anOutputStream, 0L);
+            this.writeInt(anOutputStream, 0L);
+            this.writeLong(anOutputStream, aRecords.size());
+            this.writeLong(anOutputStream, aRecords.size());
+            this.writeLong(anOutputStream, tmpCentralDirectorySize);
+            this.writeLong(anOutputStream, tmpCentralDirectoryOffset);
+            this.writeInt(anOutputStream, 0x07064b50L);
+            this.writeInt(anOutputStream, 0L);
+            this.writeLong(anOutputStream, tmpZip64EndOffset);
+            this.writeInt(anOutputStream, 1L);
+            // </editor-fold>
+        }
+        // <editor-fold defaultstate="collapsed" desc="End of central directory record">
+        this.writeInt(anOutputStream, 0x06054b50L);
+        this.writeShort(anOutputStream, 0);
+        this.writeShort(anOutputStream, 0);
+        this.writeShort(anOutputStream, tmpIsZip64 ? ZIP64_MAGIC_NUMBER_OF_ENTRIES : aRecords.size());
+        this.writeShort(anOutputStream, tmpIsZip64 ? ZIP64_MAGIC_NUMBER_OF_ENTRIES : aRecords.size());
+        this.writeInt(anOutputStream, tmpIsZip64 ? ZIP64_MAGIC_VALUE : tmpCentralDirectorySize);
+        this.writeInt(anOutputStream, tmpIsZip64 ? ZIP64_MAGIC_VALUE : tmpCentralDirectoryOffset);
+        this.writeShort(anOutputStream, 0);
+        // </editor-fold>
+    }
+
+    /**
+     * Returns MS-DOS date and time (local time zone)
+     *
+     * @param aTime Time in milliseconds since epoch
+     * @return MS-DOS date (high 16 bits) and time (low 16 bits)
+     */
+    private long getDosTime(long aTime) {
+        LocalDateTime tmpDateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(aTime), ZoneId.systemDefault());
+        if (tmpDateTime.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return ((long) (tmpDateTime.getYear() - 1980) << 25)
+            | ((long) tmpDateTime.getMonthValue() << 21)
+            | ((long) tmpDateTime.getDayOfMonth() << 16)
+            | ((long) tmpDateTime.getHour() << 11)
+            | ((long) tmpDateTime.getMinute() << 5)
+            | ((long) tmpDateTime.getSecond() >> 1);
+    }
+
+    /**
+     * Writes 16 bit value (little endian)
+     *
+     * @param anOutputStream Output stream
+     * @param aValue Value
+     * @throws IOException Thrown if writing fails
+     */
+    private void writeShort(OutputStream anOutputStream, int aValue) throws IOException {
+        anOutputStream.write(aValue & 0xFF);
+        anOutputStream.write((aValue >>> 8) & 0xFF);
+    }
+
+    /**
+     * Writes 32 bit value (little endian)
+     *
+     * @param anOutputStream Output stream
+     * @param aValue Value
+     * @throws IOException Thrown if writing fails
+     */
+    private void writeInt(OutputStream anOutputStream, long aValue) throws IOException {
+        this.writeShort(anOutputStream, (int) (aValue & 0xFFFFL));
+        this.writeShort(anOutputStream, (int) ((aValue >>> 16) & 0xFFFFL));
+    }
+
+    /**
+     * Writes 64 bit value (little endian)
+     *
+     * @param anOutputStream Output stream
+     * @param aValue Value
+     * @throws IOException Thrown if writing fails
+     */
+    private void writeLong(OutputStream anOutputStream, long aValue) throws IOException {
+        this.writeInt(anOutputStream, aValue & ZIP64_MAGIC_VALUE);
+        this.writeInt(anOutputStream, aValue >>> 32);
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private classes">
+    /**
+     * Compressed entry
+     */
+    private static class CompressedEntry {
+
+        /**
+         * Source file
+         */
+        final File file;
+
+        /**
+         * Entry name
+         */
+        final String entryName;
+
+        /**
+         * Compression method
+         */
+        int method;
+
+        /**
+         * CRC-32 of uncompressed data
+         */
+        long crc;
+
+        /**
+         * Uncompressed size
+         */
+        long size;
+
+        /**
+         * Compressed size
+         */
+        long compressedSize;
+
+        /**
+         * Compressed data in memory (null: Data in temporary file or source 
+         * file for stored entry)
+         */
+        byte[] data;
+
+        /**
+         * Temporary file with compressed data (may be null)
+         */
+        File temporaryFile;
+
+        /**
+         * Constructor
+         *
+         * @param aFile Source file
+         * @param anEntryName Entry name
+         */
+        CompressedEntry(File aFile, String anEntryName) {
+            this.file = aFile;
+            this.entryName = anEntryName;
+        }
+
+        /**
+         * Sets stored entry (data is copied from source file)
+         *
+         * @param aCrc CRC-32
+         * @param aSize Size
+         */
+        void setStored(long aCrc, long aSize) {
+            this.method = METHOD_STORED;
+            this.crc = aCrc;
+            this.size = aSize;
+            this.compressedSize = aSize;
+            this.data = null;
+        }
+
+        /**
+         * Sets deflated entry
+         *
+         * @param aCrc CRC-32
+         * @param aSize Uncompressed size
+         * @param aCompressedSize Compressed size
+         * @param aData Compressed data in memory (null: Data in temporary file)
+         */
+        void setDeflated(long aCrc, long aSize, long aCompressedSize, byte[] aData) {
+            this.method = METHOD_DEFLATED;
+            this.crc = aCrc;
+            this.size = aSize;
+            this.compressedSize = aCompressedSize;
+            this.data = aData;
+        }
+
+        /**
+         * Deletes temporary file if existent
+         */
+        void deleteTemporaryFile() {
+            if (this.temporaryFile != null) {
+                this.temporaryFile.delete();
+                this.temporaryFile = null;
+            }
+        }
+
+    }
+
+    /**
+     * Central directory record of written entry
+     */
+    private static class CentralDirectoryRecord {
+
+        /**
+         * UTF-8 entry name
+         */
+        byte[] nameBytes;
+
+        /**
+         * Compression method
+         */
+        int method;
+
+        /**
+         * MS-DOS date and time
+         */
+        long dosTime;
+
+        /**
+         * CRC-32
+         */
+        long crc;
+
+        /**
+         * Uncompressed size
+         */
+        long size;
+
+        /**
+         * Compressed size
+         */
+        long compressedSize;
+
+        /**
+         * Offset of local file header
+         */
+        long offset;
+
+    }
+
+    /**
+     * Output stream that counts written bytes
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        /**
+         * Output stream
+         */
+        private final OutputStream outputStream;
+
+        /**
+         * Number of written bytes
+         */
+        private long count;
+
+        /**
+         * Constructor
+         *
+         * @param anOutputStream Output stream
+         */
+        CountingOutputStream(OutputStream anOutputStream) {
+            this.outputStream = anOutputStream;
+            this.count = 0L;
+        }
+
+        /**
+         * Number of written bytes
+         *
+         * @return Number of written bytes
+         */
+        long getCount() {
+            return this.count;
+        }
+
+        @Override
+        public void write(int aByte) throws IOException {
+            this.outputStream.write(aByte);
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] aBuffer, int anOffset, int aLength) throws IOException {
+            this.outputStream.write(aBuffer, anOffset, aLength);
+            this.count += aLength;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.outputStream.close();
+        }
+
+    }
+    // </editor-fold>
+
+}
@@ -20,7 +20,7 @@
 package de.gnwi.mfsim.model.util;
 
 import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
-import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePosition;
+import de.gnwi.mfsim.model.graphics.particle.IGraphicalParticlePosition;
 import de.gnwi.mfsim.model.graphics.particle.GraphicalParticle;
 import java.util.HashMap;
 import java.util.Arrays;
@@ -440,7 +440,7 @@ public class VolumeFrequency {
      * @param aGraphicalParticlePosition Graphical particle position
      * @throws IllegalArgumentException Thrown if argument is illegal
      */
-    public void incrementCounters(GraphicalParticlePosition aGraphicalParticlePosition) {
+    public void incrementCounters(IGraphicalParticlePosition aGraphicalParticlePosition) {
         // <editor-fold defaultstate="collapsed" desc="Checks">
         if (aGraphicalParticlePosition == null) {
             throw new IllegalArgumentException("An argument is illegal");
@@ -465,7 +465,7 @@ public class VolumeFrequency {
      * @param aVolumeAxis Axis along which particles are counted
      * @param aGraphicalParticlePosition Graphical particle position
      */
-    public void incrementCounters(VolumeAxis aVolumeAxis, GraphicalParticlePosition aGraphicalParticlePosition) {
+    public void incrementCounters(VolumeAxis aVolumeAxis, IGraphicalParticlePosition aGraphicalParticlePosition) {
         GraphicalParticle tmpGraphicalParticle = (GraphicalParticle) aGraphicalParticlePosition.getGraphicalParticle();
         switch (aVolumeAxis) {
             case X:
@@ -47,6 +47,7 @@ import static de.gnwi.mfsim.model.valueItem.ValueItemEnumDataType.TEXT_EMPTY;
 import static de.gnwi.mfsim.model.valueItem.ValueItemEnumDataType.TIMESTAMP;
 import static de.gnwi.mfsim.model.valueItem.ValueItemEnumDataType.TIMESTAMP_EMPTY;
 import java.io.StringReader;
+import java.lang.ref.SoftReference;
 import java.text.NumberFormat;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -186,6 +187,42 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      */
     private ValueItemMatrixElement[][] matrix;
 
+    /**
+     * Loader for lazy matrix (null if matrix is not lazy)
+     */
+    private ValueItemMatrixLoaderInterface lazyMatrixLoader;
+
+    /**
+     * Soft reference to materialized lazy matrix
+     */
+    private SoftReference<ValueItemMatrixElement[][]> lazyMatrixReference;
+
+    /**
+     * Row count of lazy matrix
+     */
+    private int lazyMatrixRowCount;
+
+    /**
+     * Column type formats of lazy matrix
+     */
+    private ValueItemDataTypeFormat[] lazyMatrixColumnTypeFormats;
+
+    /**
+     * Numeric matrix (null if matrix is not numeric or numeric matrix is lazy)
+     */
+    private ValueItemNumericMatrix numericMatrix;
+
+    /**
+     * Loader for lazy numeric matrix (null if matrix is not numeric or 
+     * numeric matrix is not lazy)
+     */
+    private ValueItemNumericMatrixLoaderInterface numericMatrixLoader;
+
+    /**
+     * Soft reference to loaded lazy numeric matrix
+     */
+    private SoftReference<ValueItemNumericMatrix> numericMatrixReference;
+
     /**
      * Column names of matrix
      */
@@ -721,7 +758,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
         if (this.basicType != ValueItemEnumBasicType.FLEXIBLE_MATRIX) {
             return false;
         }
-        if (this.matrix == null) {
+        if (this.isMatrixUndefined()) {
             return false;
         }
         if (this.getMatrixRowCount() >= this.getMatrixMaximumNumberOfRows()) {
@@ -750,18 +787,18 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
         if (!this.canInsertMatrixRow()) {
             return false;
         }
-        if (aRowIndex < 0 || aRowIndex > this.matrix.length) {
-            aRowIndex = this.matrix.length;
+        if (aRowIndex < 0 || aRowIndex > this.getMaterializedMatrix().length) {
+            aRowIndex = this.getMaterializedMatrix().length;
         }
 
         // </editor-fold>
-        ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[this.matrix.length + 1][this.matrix[0].length];
+        ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[this.getMaterializedMatrix().length + 1][this.getMaterializedMatrix()[0].length];
         int tmpExclusiveSelectionTextColumn = -1;
         int tmpOldRowIndex = 0;
-        for (int i = 0; i < this.matrix.length + 1; i++) {
+        for (int i = 0; i < this.getMaterializedMatrix().length + 1; i++) {
             if (i == aRowIndex) {
                 // <editor-fold defaultstate="collapsed" desc="New row">
-                for (int k = 0; k < this.matrix[0].length; k++) {
+                for (int k = 0; k < this.getMaterializedMatrix()[0].length; k++) {
                     // <editor-fold defaultstate="collapsed" desc="New column of row">
                     if (this.isExclusiveSelectionTextColumn(k)) {
                         // <editor-fold defaultstate="collapsed" desc="Exclusive selection text column exists">
@@ -774,9 +811,9 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
                         // </editor-fold>
                     } else if (this.getTypeFormat(k).isUniqueDefault()) {
                         // <editor-fold defaultstate="collapsed" desc="Unique default value">
-                        String[] tmpOtherValues = new String[this.matrix.length];
-                        for (int j = 0; j < this.matrix.length; j++) {
-                            tmpOtherValues[j] = this.matrix[j][k].getValue();
+                        String[] tmpOtherValues = new String[this.getMaterializedMatrix().length];
+                        for (int j = 0; j < this.getMaterializedMatrix().length; j++) {
+                            tmpOtherValues[j] = this.getMaterializedMatrix()[j][k].getValue();
                         }
                         tmpMatrix[i][k] = new ValueItemMatrixElement(this.getTypeFormat(k).getUniqueDefaultValue(tmpOtherValues), this.getTypeFormat(k).getClone());
 
@@ -790,7 +827,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
                 }
                 // </editor-fold>
             } else {
-                tmpMatrix[i] = this.matrix[tmpOldRowIndex++];
+                tmpMatrix[i] = this.getMaterializedMatrix()[tmpOldRowIndex++];
             }
         }
         // <editor-fold defaultstate="collapsed" desc="Correct exclusive selection texts if necessary">
@@ -820,19 +857,19 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
         if (!this.canInsertMatrixRow()) {
             return false;
         }
-        if (aRowIndexToBeCopied < 0 || aRowIndexToBeCopied > this.matrix.length - 1) {
-            aRowIndexToBeCopied = this.matrix.length - 1;
+        if (aRowIndexToBeCopied < 0 || aRowIndexToBeCopied > this.getMaterializedMatrix().length - 1) {
+            aRowIndexToBeCopied = this.getMaterializedMatrix().length - 1;
         }
 
         // </editor-fold>
-        int tmpTargetRowIndex = this.matrix.length;
-        ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[this.matrix.length + 1][this.matrix[0].length];
+        int tmpTargetRowIndex = this.getMaterializedMatrix().length;
+        ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[this.getMaterializedMatrix().length + 1][this.getMaterializedMatrix()[0].length];
         int tmpExclusiveSelectionTextColumn = -1;
         int tmpOldRowIndex = 0;
-        for (int i = 0; i < this.matrix.length + 1; i++) {
+        for (int i = 0; i < this.getMaterializedMatrix().length + 1; i++) {
             if (i == tmpTargetRowIndex) {
                 // <editor-fold defaultstate="collapsed" desc="New row">
-                for (int k = 0; k < this.matrix[0].length; k++) {
+                for (int k = 0; k < this.getMaterializedMatrix()[0].length; k++) {
                     // <editor-fold defaultstate="collapsed" desc="New column of row">
                     if (this.isExclusiveSelectionTextColumn(k)) {
                         // <editor-fold defaultstate="collapsed" desc="Exclusive selection text column exists">
@@ -845,16 +882,16 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
                         // </editor-fold>
                     } else if (this.getTypeFormat(k).isUniqueDefault()) {
                         // <editor-fold defaultstate="collapsed" desc="Unique default value">
-                        String[] tmpOtherValues = new String[this.matrix.length];
-                        for (int j = 0; j < this.matrix.length; j++) {
-                            tmpOtherValues[j] = this.matrix[j][k].getValue();
+                        String[] tmpOtherValues = new String[this.getMaterializedMatrix().length];
+                        for (int j = 0; j < this.getMaterializedMatrix().length; j++) {
+                            tmpOtherValues[j] = this.getMaterializedMatrix()[j][k].getValue();
                         }
                         tmpMatrix[i][k] = new ValueItemMatrixElement(this.getTypeFormat(k).getUniqueDefaultValue(tmpOtherValues), this.getTypeFormat(k).getClone());
 
                         // </editor-fold>
                     } else {
                         // <editor-fold defaultstate="collapsed" desc="Standard default value">
-                        tmpMatrix[i][k] = this.matrix[aRowIndexToBeCopied][k].getClone();
+                        tmpMatrix[i][k] = this.getMaterializedMatrix()[aRowIndexToBeCopied][k].getClone();
 
                         // </editor-fold>
                     }
@@ -864,7 +901,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
 
                 // </editor-fold>
             } else {
-                tmpMatrix[i] = this.matrix[tmpOldRowIndex++];
+                tmpMatrix[i] = this.getMaterializedMatrix()[tmpOldRowIndex++];
             }
         }
 
@@ -892,27 +929,27 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
     public boolean removeMatrixRow(int aRowIndex) {
 
         // <editor-fold defaultstate="collapsed" desc="Checks">
-        if (this.basicType != ValueItemEnumBasicType.FLEXIBLE_MATRIX || this.matrix == null || this.matrix.length == 1) {
+        if (this.basicType != ValueItemEnumBasicType.FLEXIBLE_MATRIX || this.isMatrixUndefined() || this.getMaterializedMatrix().length == 1) {
             return false;
         }
-        if (aRowIndex < 0 || aRowIndex >= this.matrix.length) {
-            aRowIndex = this.matrix.length - 1;
+        if (aRowIndex < 0 || aRowIndex >= this.getMaterializedMatrix().length) {
+            aRowIndex = this.getMaterializedMatrix().length - 1;
         }
 
         // </editor-fold>
-        ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[this.matrix.length - 1][this.matrix[0].length];
+        ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[this.getMaterializedMatrix().length - 1][this.getMaterializedMatrix()[0].length];
         String tmpRemovedValueOfExclusiveSelectionTextColumn = null;
         int tmpExclusiveSelectionTextColumn = -1;
         int tmpNewRowIndex = 0;
-        for (int i = 0; i < this.matrix.length; i++) {
+        for (int i = 0; i < this.getMaterializedMatrix().length; i++) {
             if (i != aRowIndex) {
-                tmpMatrix[tmpNewRowIndex++] = this.matrix[i];
+                tmpMatrix[tmpNewRowIndex++] = this.getMaterializedMatrix()[i];
             } else {
 
                 // <editor-fold defaultstate="collapsed" desc="Check exclusive selection text column">
                 tmpExclusiveSelectionTextColumn = this.getExclusiveSelectionTextColumn();
                 if (tmpExclusiveSelectionTextColumn > -1) {
-                    tmpRemovedValueOfExclusiveSelectionTextColumn = this.matrix[i][tmpExclusiveSelectionTextColumn].getValue();
+                    tmpRemovedValueOfExclusiveSelectionTextColumn = this.getMaterializedMatrix()[i][tmpExclusiveSelectionTextColumn].getValue();
                 }
 
                 // </editor-fold>
@@ -1033,13 +1070,13 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
                         return null;
                     }
 
-                    if (this.matrix != null && this.matrix.length > 0) {
-                        ValueItemMatrixElement[][] tmpSchemaMatrix = new ValueItemMatrixElement[this.matrix.length][];
-                        for (int i = 0; i < this.matrix.length; i++) {
-                            if (this.matrix[i] != null && this.matrix[i].length > 0) {
-                                tmpSchemaMatrix[i] = new ValueItemMatrixElement[this.matrix[i].length];
-                                for (int k = 0; k < this.matrix[i].length; k++) {
-                                    ValueItemMatrixElement tmpValueItemMatrixElement = this.matrix[i][k];
+                    if (!this.isMatrixUndefined() && this.getMaterializedMatrix().length > 0) {
+                        ValueItemMatrixElement[][] tmpSchemaMatrix = new ValueItemMatrixElement[this.getMaterializedMatrix().length][];
+                        for (int i = 0; i < this.getMaterializedMatrix().length; i++) {
+                            if (this.getMaterializedMatrix()[i] != null && this.getMaterializedMatrix()[i].length > 0) {
+                                tmpSchemaMatrix[i] = new ValueItemMatrixElement[this.getMaterializedMatrix()[i].length];
+                                for (int k = 0; k < this.getMaterializedMatrix()[i].length; k++) {
+                                    ValueItemMatrixElement tmpValueItemMatrixElement = this.getMaterializedMatrix()[i][k];
                                     switch (tmpValueItemMatrixElement.getTypeFormat().getDataType()) {
                                         case DIRECTORY:
                                         case FILE:
@@ -1196,10 +1233,10 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
                     return false;
                 }
             }
-            if (this.matrix.length != aSchemaValueItem.getMatrix().length) {
+            if (this.getMaterializedMatrix().length != aSchemaValueItem.getMatrix().length) {
                 return false;
             }
-            if (this.matrix[0].length != aSchemaValueItem.getMatrix()[0].length) {
+            if (this.getMaterializedMatrix()[0].length != aSchemaValueItem.getMatrix()[0].length) {
                 return false;
             }
             for (int k = 0; k < this.matrixColumnNames.length; k++) {
@@ -1211,7 +1248,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
                 for (int k = 0; k < aSchemaValueItem.getMatrix()[i].length; k++) {
                     if (!aSchemaValueItem.getValue(i, k).equals(ModelDefinitions.SCHEMA_WILDCARD_STRING)) {
                         // Do compare ALL information (editable and non-editable)
-                        if (!this.matrix[i][k].getValue().equals(aSchemaValueItem.getValue(i, k))) {
+                        if (!this.getMaterializedMatrix()[i][k].getValue().equals(aSchemaValueItem.getValue(i, k))) {
                             return false;
                         }
                     }
@@ -1297,11 +1334,11 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
         if (aRow < 0) {
             return false;
         }
-        if (aRow > this.matrix.length - 1) {
+        if (aRow > this.getMaterializedMatrix().length - 1) {
             return false;
         }
         // </editor-fold>
-        for (ValueItemMatrixElement tmpSingleValueItemMatrixElement : this.matrix[aRow]) {
+        for (ValueItemMatrixElement tmpSingleValueItemMatrixElement : this.getMaterializedMatrix()[aRow]) {
             if (tmpSingleValueItemMatrixElement.hasProteinData()) {
                 return true;
             }
@@ -1357,9 +1394,10 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
             int tmpIndex = 0;
             for (Integer aRow : tmpIndexList) {
                 this.restoreArrayForMatrixRowSorting[tmpIndex] = aRow;
-                tmpNewMatrix[tmpIndex++] = this.matrix[aRow];
+                tmpNewMatrix[tmpIndex++] = this.getMaterializedMatrix()[aRow];
             }
             this.matrix = tmpNewMatrix;
+            this.clearLazyMatrix();
         }
     }
 
@@ -1378,9 +1416,10 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
         // </editor-fold>
         ValueItemMatrixElement[][] tmpNewMatrix = new ValueItemMatrixElement[this.getMatrixRowCount()][];
         for (int i = 0; i < this.getMatrixRowCount(); i++) {
-            tmpNewMatrix[this.restoreArrayForMatrixRowSorting[i]] = this.matrix[i];
+            tmpNewMatrix[this.restoreArrayForMatrixRowSorting[i]] = this.getMaterializedMatrix()[i];
         }
         this.matrix = tmpNewMatrix;
+        this.clearLazyMatrix();
         this.restoreArrayForMatrixRowSorting = null;
     }
     // </editor-fold>
@@ -1395,8 +1434,15 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
         // NOTE: This order corresponds to order in method initialize() and readXmlInformationV...()
         // NOTE: There is NO notification since cloned value item will not have any change receivers at this stage
         ValueItem tmpClonedValueItem = new ValueItem();
-        if (this.matrix != null) {
-            tmpClonedValueItem.setMatrix(ValueItemUtils.getClonedMatrixOfValueItemMatrixElements(this.matrix));
+        if (this.matrix == null && this.numericMatrix != null) {
+            // NOTE: Numeric matrix is treated as read-only and may be shared
+            tmpClonedValueItem.setNumericMatrix(this.numericMatrix);
+        } else if (this.matrix == null && this.numericMatrixLoader != null) {
+            tmpClonedValueItem.setLazyNumericMatrix(this.numericMatrixLoader, this.lazyMatrixRowCount, this.getClonedLazyMatrixColumnTypeFormats());
+        } else if (this.matrix == null && this.lazyMatrixLoader != null) {
+            tmpClonedValueItem.setLazyMatrix(this.lazyMatrixLoader, this.lazyMatrixRowCount, this.getClonedLazyMatrixColumnTypeFormats());
+        } else if (!this.isMatrixUndefined()) {
+            tmpClonedValueItem.setMatrix(ValueItemUtils.getClonedMatrixOfValueItemMatrixElements(this.getMaterializedMatrix()));
         }
         if (this.matrixColumnNames != null) {
             tmpClonedValueItem.setMatrixColumnNames(this.stringUtilityMethods.clone(this.matrixColumnNames));
@@ -1451,14 +1497,14 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
     public ValueItemMatrixElement[] getDefaultMatrixElementRow() {
 
         // <editor-fold defaultstate="collapsed" desc="Checks">
-        if (this.matrix == null) {
+        if (this.isMatrixUndefined()) {
             return null;
         }
 
         // </editor-fold>
-        ValueItemMatrixElement[] tmpDefaultMatrixElementRow = new ValueItemMatrixElement[this.matrix[0].length];
-        for (int k = 0; k < this.matrix[0].length; k++) {
-            ValueItemMatrixElement tmpNewMatrixElement = new ValueItemMatrixElement(this.matrix[0][k].getTypeFormat().getClone());
+        ValueItemMatrixElement[] tmpDefaultMatrixElementRow = new ValueItemMatrixElement[this.getMaterializedMatrix()[0].length];
+        for (int k = 0; k < this.getMaterializedMatrix()[0].length; k++) {
+            ValueItemMatrixElement tmpNewMatrixElement = new ValueItemMatrixElement(this.getMaterializedMatrix()[0][k].getTypeFormat().getClone());
             if (tmpNewMatrixElement.getTypeFormat().isFirstRowEditableOnly()) {
                 tmpNewMatrixElement.getTypeFormat().setEditable(false);
             }
@@ -1477,11 +1523,11 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
         int tmpExclusiveSelectionTextColumn = this.getExclusiveSelectionTextColumn();
         if (tmpExclusiveSelectionTextColumn > -1) {
             LinkedList<String> tmpCombinedSelectionTextList = new LinkedList<String>();
-            for (int i = 0; i < this.matrix.length; i++) {
-                if (!tmpCombinedSelectionTextList.contains(this.matrix[i][tmpExclusiveSelectionTextColumn].getValue())) {
-                    tmpCombinedSelectionTextList.addLast(this.matrix[i][tmpExclusiveSelectionTextColumn].getValue());
+            for (int i = 0; i < this.getMaterializedMatrix().length; i++) {
+                if (!tmpCombinedSelectionTextList.contains(this.getMaterializedMatrix()[i][tmpExclusiveSelectionTextColumn].getValue())) {
+                    tmpCombinedSelectionTextList.addLast(this.getMaterializedMatrix()[i][tmpExclusiveSelectionTextColumn].getValue());
                 }
-                String[] tmpSelectionTexts = this.matrix[i][tmpExclusiveSelectionTextColumn].getTypeFormat().getSelectionTexts();
+                String[] tmpSelectionTexts = this.getMaterializedMatrix()[i][tmpExclusiveSelectionTextColumn].getTypeFormat().getSelectionTexts();
                 for (String tmpSingleSelectionText : tmpSelectionTexts) {
                     if (!tmpCombinedSelectionTextList.contains(tmpSingleSelectionText)) {
                         tmpCombinedSelectionTextList.addLast(tmpSingleSelectionText);
@@ -1562,10 +1608,10 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      */
     public boolean isNumericOnly() {
         boolean tmpIsNumericOnly = true;
-        if (this.matrix != null) {
-            for (int k = 0; k < this.matrix[0].length; k++) {
-                if (!(this.matrix[0][k].getTypeFormat().getDataType() == ValueItemEnumDataType.NUMERIC 
-                    || this.matrix[0][k].getTypeFormat().getDataType() == ValueItemEnumDataType.NUMERIC_NULL)) {
+        if (!this.isMatrixUndefined()) {
+            for (int k = 0; k < this.getMaterializedMatrix()[0].length; k++) {
+                if (!(this.getMaterializedMatrix()[0][k].getTypeFormat().getDataType() == ValueItemEnumDataType.NUMERIC 
+                    || this.getMaterializedMatrix()[0][k].getTypeFormat().getDataType() == ValueItemEnumDataType.NUMERIC_NULL)) {
                     tmpIsNumericOnly = false;
                     break;
                 }
@@ -1842,7 +1888,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
     public int getExclusiveSelectionTextColumn() {
 
         // <editor-fold defaultstate="collapsed" desc="Checks">
-        if (this.matrix == null || this.matrix.length == 0) {
+        if (this.isMatrixUndefined() || this.getMaterializedMatrix().length == 0) {
             return -1;
         }
 
@@ -1864,7 +1910,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
     public boolean hasExclusiveSelectionTextColumn() {
 
         // <editor-fold defaultstate="collapsed" desc="Checks">
-        if (this.matrix == null || this.matrix.length == 0) {
+        if (this.isMatrixUndefined() || this.getMaterializedMatrix().length == 0) {
             return false;
         }
 
@@ -1886,7 +1932,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      */
     public boolean isExclusiveSelectionTextColumn(int aColumn) {
         // <editor-fold defaultstate="collapsed" desc="Checks">
-        if (this.matrix == null || this.matrix.length == 0) {
+        if (this.isMatrixUndefined() || this.getMaterializedMatrix().length == 0) {
             return false;
         }
         if (aColumn < 0 || aColumn >= this.getMatrixColumnCount()) {
@@ -2155,8 +2201,11 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Row count of matrix
      */
     public int getMatrixRowCount() {
-        if (this.matrix != null) {
-            return this.matrix.length;
+        if (this.matrix == null && this.lazyMatrixLoader != null) {
+            return this.lazyMatrixRowCount;
+        }
+        if (!this.isMatrixUndefined()) {
+            return this.getMaterializedMatrix().length;
         } else {
             return 0;
         }
@@ -2168,8 +2217,11 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Column count of matrix
      */
     public int getMatrixColumnCount() {
-        if (this.matrix != null) {
-            return this.matrix[0].length;
+        if (this.matrix == null && this.lazyMatrixLoader != null) {
+            return this.lazyMatrixColumnTypeFormats.length;
+        }
+        if (!this.isMatrixUndefined()) {
+            return this.getMaterializedMatrix()[0].length;
         } else {
             return 0;
         }
@@ -2203,6 +2255,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Matrix of this instance
      */
     public ValueItemMatrixElement[][] getMatrix() {
+        this.pinLazyMatrix();
         return this.matrix;
     }
 
@@ -2214,12 +2267,13 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
     public void setMatrix(ValueItemMatrixElement[][] aMatrix) {
         if (aMatrix == null) {
             // <editor-fold defaultstate="collapsed" desc="aMatrix is null">
-            if (this.matrix != null) {
+            if (!this.isMatrixUndefined()) {
                 // <editor-fold defaultstate="collapsed" desc="Clone matrix before change if specified">
                 this.setLastClonedMatrixWithClonedCurrentMatrix();
 
                 // </editor-fold>
                 this.matrix = null;
+                this.clearLazyMatrix();
                 this.notifyChangeReceiver(ChangeTypeEnum.VALUE_ITEM_MATRIX_CHANGE);
             }
             // </editor-fold>
@@ -2229,26 +2283,27 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
             this.setLastClonedMatrixWithClonedCurrentMatrix();
             // </editor-fold>
             this.matrix = aMatrix;
+            this.clearLazyMatrix();
             // <editor-fold defaultstate="collapsed" desc="Corrections">
             // Correct exclusive selection texts if necessary
             ValueItemUtils.correctExclusiveSelectionTexts(this.getExclusiveSelectionTextMatrixElementColumn(), null);
             // Correct unique value columns
-            ValueItemUtils.correctUniqueValueColumns(this.matrix, -1);
-            ValueItemUtils.correctPendingZeros(this.matrix);
+            ValueItemUtils.correctUniqueValueColumns(this.getMaterializedMatrix(), -1);
+            ValueItemUtils.correctPendingZeros(this.getMaterializedMatrix());
             // </editor-fold>
             this.notifyChangeReceiver(ChangeTypeEnum.VALUE_ITEM_MATRIX_CHANGE);
             // <editor-fold defaultstate="collapsed" desc="Set default column names">
             if (this.matrixColumnNames == null) {
-                this.matrixColumnNames = new String[this.matrix[0].length];
-                for (int i = 0; i < this.matrix[0].length; i++) {
+                this.matrixColumnNames = new String[this.getMaterializedMatrix()[0].length];
+                for (int i = 0; i < this.getMaterializedMatrix()[0].length; i++) {
                     this.matrixColumnNames[i] = "Column " + String.valueOf(i);
                 }
             }
             // </editor-fold>
             // <editor-fold defaultstate="collapsed" desc="Correct current row">
             // Set current row to last row of matrix
-            if (this.currentRow >= this.matrix.length) {
-                this.currentRow = this.matrix.length - 1;
+            if (this.currentRow >= this.getMaterializedMatrix().length) {
+                this.currentRow = this.getMaterializedMatrix().length - 1;
             }
             // </editor-fold>
             // </editor-fold>
@@ -2262,6 +2317,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return ValueItemMatrixElement at current matrix position
      */
     public ValueItemMatrixElement getValueItemMatrixElement() {
+        this.pinLazyMatrix();
         return this.matrix[this.currentRow][this.currentColumn];
     }
 
@@ -2274,9 +2330,176 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return ValueItemMatrixElement at specified matrix position
      */
     public ValueItemMatrixElement getValueItemMatrixElement(int aRow, int aColumn) {
+        this.pinLazyMatrix();
         return this.matrix[aRow][aColumn];
     }
 
+    // </editor-fold>
+    // <editor-fold defaultstate="collapsed" desc="--- Lazy matrix">
+    /**
+     * Sets lazy matrix: The matrix is materialized with aMatrixLoader on first
+     * access and may be evicted afterwards (by evictLazyMatrix() or by the
+     * garbage collector under memory pressure) until it is changed. Row count
+     * and column type formats are available without materialization.
+     * NOTE: Replaces this.matrix.
+     *
+     * @param aMatrixLoader Matrix loader
+     * @param aRowCount Row count of matrix
+     * @param aColumnTypeFormats Type formats of matrix columns
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public void setLazyMatrix(ValueItemMatrixLoaderInterface aMatrixLoader, int aRowCount, ValueItemDataTypeFormat[] aColumnTypeFormats) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aMatrixLoader == null) {
+            throw new IllegalArgumentException("aMatrixLoader is null.");
+        }
+        if (aRowCount < 1) {
+            throw new IllegalArgumentException("aRowCount is less than 1.");
+        }
+        if (aColumnTypeFormats == null || aColumnTypeFormats.length == 0) {
+            throw new IllegalArgumentException("aColumnTypeFormats is null/empty.");
+        }
+        // </editor-fold>
+        this.matrix = null;
+        this.lazyMatrixLoader = aMatrixLoader;
+        this.lazyMatrixReference = null;
+        this.lazyMatrixRowCount = aRowCount;
+        this.lazyMatrixColumnTypeFormats = aColumnTypeFormats;
+        this.notifyChangeReceiver(ChangeTypeEnum.VALUE_ITEM_MATRIX_CHANGE);
+        // <editor-fold defaultstate="collapsed" desc="Set default column names">
+        if (this.matrixColumnNames == null) {
+            this.matrixColumnNames = new String[aColumnTypeFormats.length];
+            for (int i = 0; i < aColumnTypeFormats.length; i++) {
+                this.matrixColumnNames[i] = "Column " + String.valueOf(i);
+            }
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="Correct current row">
+        if (this.currentRow >= aRowCount) {
+            this.currentRow = aRowCount - 1;
+        }
+        // </editor-fold>
+    }
+
+    /**
+     * Returns if matrix is lazy, i.e. not yet changed after setLazyMatrix()
+     *
+     * @return True: Matrix is lazy, false: Otherwise
+     */
+    public boolean isLazyMatrix() {
+        return this.matrix == null && this.lazyMatrixLoader != null;
+    }
+
+    /**
+     * Returns if lazy matrix is currently materialized
+     *
+     * @return True: Lazy matrix is currently materialized, false: Otherwise
+     * (or matrix is not lazy)
+     */
+    public boolean isLazyMatrixMaterialized() {
+        return this.isLazyMatrix() && this.lazyMatrixReference != null && this.lazyMatrixReference.get() != null;
+    }
+
+    /**
+     * Evicts materialized lazy matrix. NOTE: Matrix is materialized again on
+     * next access.
+     */
+    public void evictLazyMatrix() {
+        this.lazyMatrixReference = null;
+        this.numericMatrixReference = null;
+    }
+
+    /**
+     * Sets numeric matrix: Values are read from the primitive columns of 
+     * aNumericMatrix. A matrix of ValueItemMatrixElement instances is only 
+     * materialized (as a lazy matrix, see setLazyMatrix()) if it is 
+     * explicitly needed, e.g. for a change of a value.
+     * NOTE: aNumericMatrix must be treated as read-only after this call.
+     * NOTE: Replaces this.matrix.
+     *
+     * @param aNumericMatrix Numeric matrix
+     * @throws IllegalArgumentException Thrown if aNumericMatrix is null or has 
+     * no rows
+     */
+    public void setNumericMatrix(ValueItemNumericMatrix aNumericMatrix) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aNumericMatrix == null) {
+            throw new IllegalArgumentException("aNumericMatrix is null.");
+        }
+        // </editor-fold>
+        this.setLazyMatrix(() -> aNumericMatrix.getMatrixElements(), aNumericMatrix.getRowCount(), aNumericMatrix.getColumnTypeFormats());
+        this.numericMatrix = aNumericMatrix;
+    }
+
+    /**
+     * Sets lazy numeric matrix: The numeric matrix is loaded with 
+     * aNumericMatrixLoader on first value access and may be evicted 
+     * afterwards (see setLazyMatrix() and setNumericMatrix()).
+     * NOTE: Replaces this.matrix.
+     *
+     * @param aNumericMatrixLoader Numeric matrix loader
+     * @param aRowCount Row count of matrix
+     * @param aColumnTypeFormats Type formats of matrix columns
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public void setLazyNumericMatrix(ValueItemNumericMatrixLoaderInterface aNumericMatrixLoader, int aRowCount, ValueItemDataTypeFormat[] aColumnTypeFormats) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aNumericMatrixLoader == null) {
+            throw new IllegalArgumentException("aNumericMatrixLoader is null.");
+        }
+        // </editor-fold>
+        this.setLazyMatrix(
+            () -> {
+                ValueItemNumericMatrix tmpNumericMatrix = this.getNumericMatrix();
+                return tmpNumericMatrix == null ? null : tmpNumericMatrix.getMatrixElements();
+            }, 
+            aRowCount, 
+            aColumnTypeFormats
+        );
+        this.numericMatrixLoader = aNumericMatrixLoader;
+    }
+
+    /**
+     * Returns if matrix is numeric, i.e. values are read from the primitive 
+     * columns of a numeric matrix (see setNumericMatrix() and 
+     * setLazyNumericMatrix())
+     *
+     * @return True: Matrix is numeric, false: Otherwise
+     */
+    public boolean isNumericMatrix() {
+        return this.matrix == null && (this.numericMatrix != null || this.numericMatrixLoader != null);
+    }
+
+    /**
+     * Numeric matrix for direct access to primitive columns (e.g. for charts 
+     * or exporters). A lazy numeric matrix is loaded if necessary.
+     * NOTE: Numeric matrix must be treated as read-only.
+     *
+     * @return Numeric matrix or null if matrix is not numeric (or lazy numeric 
+     * matrix could not be loaded)
+     */
+    public ValueItemNumericMatrix getNumericMatrix() {
+        if (this.matrix != null) {
+            return null;
+        }
+        if (this.numericMatrix != null) {
+            return this.numericMatrix;
+        }
+        if (this.numericMatrixLoader == null) {
+            return null;
+        }
+        ValueItemNumericMatrix tmpNumericMatrix = this.numericMatrixReference != null ? this.numericMatrixReference.get() : null;
+        if (tmpNumericMatrix == null) {
+            tmpNumericMatrix = this.numericMatrixLoader.loadNumericMatrix();
+            if (tmpNumericMatrix == null) {
+                ModelUtils.appendToLogfile(true, "ValueItem.getNumericMatrix: Lazy numeric matrix of value item " + this.name + " could not be loaded.");
+                return null;
+            }
+            this.numericMatrixReference = new SoftReference<>(tmpNumericMatrix);
+        }
+        return tmpNumericMatrix;
+    }
+
     // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="--- Diagram">
     /**
@@ -2288,7 +2511,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
         if (this.matrixDiagramXValueColumn < 0 || this.matrixDiagramYValueColumn < 0) {
             return false;
         }
-        if (this.matrix == null) {
+        if (this.isMatrixUndefined()) {
             return false;
         }
         if (this.matrixDiagramXValueColumn >= this.getMatrixColumnCount() || this.matrixDiagramYValueColumn >= this.getMatrixColumnCount()) {
@@ -2360,7 +2583,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return True: Value item has value(s), false: Otherwise
      */
     public boolean hasValue() {
-        return this.matrix != null;
+        return !this.isMatrixUndefined();
     }
 
     /**
@@ -2385,7 +2608,10 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Value of matrix at current matrix position
      */
     public String getValue() {
-        return this.matrix[this.currentRow][this.currentColumn].getValue();
+        if (this.isNumericMatrix()) {
+            return this.getNumericMatrix().getValue(this.currentRow, this.currentColumn);
+        }
+        return this.getMaterializedMatrix()[this.currentRow][this.currentColumn].getValue();
     }
 
     /**
@@ -2395,7 +2621,10 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Formatted Value of matrix at current matrix position
      */
     public String getFormattedValue() {
-        return this.matrix[this.currentRow][this.currentColumn].getFormattedValue();
+        if (this.isNumericMatrix()) {
+            return this.getNumericMatrix().getFormattedValue(this.currentRow, this.currentColumn);
+        }
+        return this.getMaterializedMatrix()[this.currentRow][this.currentColumn].getFormattedValue();
     }
 
     /**
@@ -2407,7 +2636,10 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Value of matrix at specified matrix position
      */
     public String getValue(int aRow, int aColumn) {
-        return this.matrix[aRow][aColumn].getValue();
+        if (this.isNumericMatrix()) {
+            return this.getNumericMatrix().getValue(aRow, aColumn);
+        }
+        return this.getMaterializedMatrix()[aRow][aColumn].getValue();
     }
 
     /**
@@ -2419,7 +2651,10 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Formatted value of matrix at specified matrix position
      */
     public String getFormattedValue(int aRow, int aColumn) {
-        return this.matrix[aRow][aColumn].getFormattedValue();
+        if (this.isNumericMatrix()) {
+            return this.getNumericMatrix().getFormattedValue(aRow, aColumn);
+        }
+        return this.getMaterializedMatrix()[aRow][aColumn].getFormattedValue();
     }
 
     // </editor-fold>
@@ -2430,7 +2665,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Double value
      */
     public double getValueAsDouble() {
-        return Double.parseDouble(this.matrix[this.currentRow][this.currentColumn].getValue());
+        return Double.parseDouble(this.getValue());
     }
 
     /**
@@ -2442,9 +2677,8 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Double value at specified matrix position
      */
     public double getValueAsDouble(int aRow, int aColumn) {
-
         // Debug: System.out.println("String = " + this.matrix[aRow][aColumn].getValue());
-        return Double.parseDouble(this.matrix[aRow][aColumn].getValue());
+        return Double.parseDouble(this.getValue(aRow, aColumn));
     }
 
     /**
@@ -2453,7 +2687,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Float value
      */
     public float getValueAsFloat() {
-        return Float.parseFloat(this.matrix[this.currentRow][this.currentColumn].getValue());
+        return Float.parseFloat(this.getValue());
     }
 
     /**
@@ -2465,7 +2699,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Float value at specified matrix position
      */
     public float getValueAsFloat(int aRow, int aColumn) {
-        return Float.parseFloat(this.matrix[aRow][aColumn].getValue());
+        return Float.parseFloat(this.getValue(aRow, aColumn));
     }
 
     /**
@@ -2474,7 +2708,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Int value
      */
     public int getValueAsInt() {
-        return Integer.parseInt(this.matrix[this.currentRow][this.currentColumn].getValue());
+        return Integer.parseInt(this.getValue());
     }
 
     /**
@@ -2486,7 +2720,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Int value at specified matrix position
      */
     public int getValueAsInt(int aRow, int aColumn) {
-        return Integer.parseInt(this.matrix[aRow][aColumn].getValue());
+        return Integer.parseInt(this.getValue(aRow, aColumn));
     }
 
     /**
@@ -2495,7 +2729,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Long value
      */
     public long getValueAsLong() {
-        return Long.parseLong(this.matrix[this.currentRow][this.currentColumn].getValue());
+        return Long.parseLong(this.getValue());
     }
 
     /**
@@ -2507,7 +2741,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return Boolean value at specified matrix position
      */
     public boolean getValueAsBoolean(int aRow, int aColumn) {
-        return Boolean.parseBoolean(this.matrix[aRow][aColumn].getValue());
+        return Boolean.parseBoolean(this.getValue(aRow, aColumn));
     }
     // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="-- Set">
@@ -2520,7 +2754,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      */
     public boolean setValue(String aValue) {
         if (aValue != null) {
-            if (this.matrix == null) {
+            if (this.isMatrixUndefined()) {
                 this.basicType = ValueItemEnumBasicType.SCALAR;
                 ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[1][1];
                 tmpMatrix[0][0] = new ValueItemMatrixElement(aValue, new ValueItemDataTypeFormat(ValueItemEnumDataType.TEXT));
@@ -2545,13 +2779,14 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      */
     public boolean setValue(String aValue, int aRow, int aColumn) throws IllegalArgumentException {
         if (aValue != null) {
-            if (this.matrix[aRow][aColumn] == null || !this.matrix[aRow][aColumn].getValue().equals(aValue)) {
+            this.pinLazyMatrix();
+            if (this.getMaterializedMatrix()[aRow][aColumn] == null || !this.getMaterializedMatrix()[aRow][aColumn].getValue().equals(aValue)) {
                 // <editor-fold defaultstate="collapsed" desc="Clone matrix before change if specified">
                 this.setLastClonedMatrixWithClonedCurrentMatrix();
                 // </editor-fold>
                 // <editor-fold defaultstate="collapsed" desc="Check exclusive selection texts">
-                if (this.matrix[aRow][aColumn].getTypeFormat().hasExclusiveSelectionTexts()) {
-                    ValueItemDataTypeFormat tmpTypeFormat = this.matrix[aRow][aColumn].getTypeFormat();
+                if (this.getMaterializedMatrix()[aRow][aColumn].getTypeFormat().hasExclusiveSelectionTexts()) {
+                    ValueItemDataTypeFormat tmpTypeFormat = this.getMaterializedMatrix()[aRow][aColumn].getTypeFormat();
                     if (tmpTypeFormat.hasSelectionText(aValue)) {
                         // Correct default value of type format
                         tmpTypeFormat.setDefaultValue(aValue);
@@ -2560,15 +2795,15 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
                     }
                 }
                 // </editor-fold>
-                this.matrix[aRow][aColumn].setValue(aValue);
+                this.getMaterializedMatrix()[aRow][aColumn].setValue(aValue);
                 // <editor-fold defaultstate="collapsed" desc="Corrections">
                 // Correct exclusive selection texts if necessary
                 ValueItemUtils.correctExclusiveSelectionTexts(this.getExclusiveSelectionTextMatrixElementColumn(), null);
                 // Correct unique value columns
-                ValueItemUtils.correctUniqueValueColumns(this.matrix, aRow);
+                ValueItemUtils.correctUniqueValueColumns(this.getMaterializedMatrix(), aRow);
                 // Correct first row editable only columns
-                ValueItemUtils.correctFirstRowEditableOnlyColumns(this.matrix);
-                ValueItemUtils.correctPendingZerosColumn(this.matrix, aColumn);
+                ValueItemUtils.correctFirstRowEditableOnlyColumns(this.getMaterializedMatrix());
+                ValueItemUtils.correctPendingZerosColumn(this.getMaterializedMatrix(), aColumn);
                 // </editor-fold>
                 this.notifyChangeReceiver(ChangeTypeEnum.VALUE_ITEM_VALUE_CHANGE);
                 return true;
@@ -2587,7 +2822,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @throws IllegalArgumentException Thrown if argument is illegal
      */
     public boolean setDefaultValue(int aRow, int aColumn) throws IllegalArgumentException {
-        return this.setValue(matrix[aRow][aColumn].getTypeFormat().getDefaultValue(), aRow, aColumn);
+        return this.setValue(this.getMaterializedMatrix()[aRow][aColumn].getTypeFormat().getDefaultValue(), aRow, aColumn);
     }
     // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="-- Is/Has">
@@ -2601,7 +2836,11 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * false: otherwise
      */
     public boolean hasNumericNullValue(int aRow, int aColumn) {
-        return this.matrix[aRow][aColumn].hasNumericNullValue();
+        if (this.isNumericMatrix()) {
+            // Numeric matrix has NUMERIC columns only
+            return false;
+        }
+        return this.getMaterializedMatrix()[aRow][aColumn].hasNumericNullValue();
     }
     // </editor-fold>
     // </editor-fold>
@@ -2614,7 +2853,10 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return ValueItemEnumDataType and format of current position
      */
     public ValueItemDataTypeFormat getTypeFormat() {
-        return this.matrix[this.currentRow][this.currentColumn].getTypeFormat();
+        if (this.matrix == null && this.lazyMatrixLoader != null) {
+            return this.lazyMatrixColumnTypeFormats[this.currentColumn];
+        }
+        return this.getMaterializedMatrix()[this.currentRow][this.currentColumn].getTypeFormat();
     }
 
     /**
@@ -2625,7 +2867,10 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return ValueItemEnumDataType and format of specified current position
      */
     public ValueItemDataTypeFormat getTypeFormat(int aColumn) {
-        return this.matrix[this.currentRow][aColumn].getTypeFormat();
+        if (this.matrix == null && this.lazyMatrixLoader != null) {
+            return this.lazyMatrixColumnTypeFormats[aColumn];
+        }
+        return this.getMaterializedMatrix()[this.currentRow][aColumn].getTypeFormat();
     }
 
     /**
@@ -2637,7 +2882,10 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      * @return ValueItemEnumDataType and format of specified current position
      */
     public ValueItemDataTypeFormat getTypeFormat(int aRow, int aColumn) {
-        return this.matrix[aRow][aColumn].getTypeFormat();
+        if (this.matrix == null && this.lazyMatrixLoader != null) {
+            return this.lazyMatrixColumnTypeFormats[aColumn];
+        }
+        return this.getMaterializedMatrix()[aRow][aColumn].getTypeFormat();
     }
 
     /**
@@ -2649,7 +2897,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
         for (int i = 0; i < this.getMatrixColumnCount(); i++) {
             boolean tmpIsEditable = true;
             for (int k = 0; k < this.getMatrixRowCount(); k++) {
-                if (!this.matrix[k][i].getTypeFormat().isEditable()) {
+                if (!this.getMaterializedMatrix()[k][i].getTypeFormat().isEditable()) {
                     tmpIsEditable = false;
                     break;
                 }
@@ -2675,8 +2923,8 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
         }
 
         // </editor-fold>
-        for (int i = 0; i < this.matrix.length; i++) {
-            if (this.matrix[i][aColumn].getTypeFormat().getDataType() != ValueItemEnumDataType.NUMERIC) {
+        for (int i = 0; i < this.getMaterializedMatrix().length; i++) {
+            if (this.getMaterializedMatrix()[i][aColumn].getTypeFormat().getDataType() != ValueItemEnumDataType.NUMERIC) {
                 return false;
             }
         }
@@ -2693,6 +2941,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
     public void setDefaultTypeFormats(ValueItemDataTypeFormat[] aTypeFormats) {
         if (aTypeFormats != null) {
             this.matrix = new ValueItemMatrixElement[1][aTypeFormats.length];
+            this.clearLazyMatrix();
             for (int i = 0; i < aTypeFormats.length; i++) {
                 this.matrix[0][i] = new ValueItemMatrixElement(aTypeFormats[i]);
             }
@@ -2710,6 +2959,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
     public void setDefaultTypeFormat(ValueItemDataTypeFormat aTypeFormat) {
         if (aTypeFormat != null) {
             this.matrix = new ValueItemMatrixElement[1][1];
+            this.clearLazyMatrix();
             this.matrix[0][0] = new ValueItemMatrixElement(aTypeFormat);
             // NOTE: Do NOT notify update since this is an initializing method
         }
@@ -3104,6 +3354,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
         this.nodeNames = null;
         this.matrixOutputOmitColumns = null;
         this.matrix = null;
+        this.clearLazyMatrix();
         this.matrixColumnNames = null;
         this.matrixColumnWidths = null;
         this.supplementaryData = null;
@@ -3139,6 +3390,76 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
     }
     // </editor-fold>
     // <editor-fold defaultstate="collapsed" desc="- Miscellaneous methods">
+    /**
+     * Returns matrix and materializes lazy matrix if necessary
+     *
+     * @return Matrix or null if matrix is undefined
+     */
+    private ValueItemMatrixElement[][] getMaterializedMatrix() {
+        if (this.matrix != null || this.lazyMatrixLoader == null) {
+            return this.matrix;
+        }
+        ValueItemMatrixElement[][] tmpMatrix = this.lazyMatrixReference != null ? this.lazyMatrixReference.get() : null;
+        if (tmpMatrix == null) {
+            tmpMatrix = this.lazyMatrixLoader.loadMatrix();
+            if (tmpMatrix == null) {
+                ModelUtils.appendToLogfile(true, "ValueItem.getMaterializedMatrix: Lazy matrix of value item " + this.name + " could not be loaded.");
+                return null;
+            }
+            ValueItemUtils.correctUniqueValueColumns(tmpMatrix, -1);
+            ValueItemUtils.correctPendingZeros(tmpMatrix);
+            this.lazyMatrixReference = new SoftReference<>(tmpMatrix);
+        }
+        return tmpMatrix;
+    }
+
+    /**
+     * Returns if matrix is undefined (lazy matrix is NOT materialized)
+     *
+     * @return True: Matrix is undefined, false: Otherwise
+     */
+    private boolean isMatrixUndefined() {
+        return this.matrix == null && this.lazyMatrixLoader == null;
+    }
+
+    /**
+     * Makes materialized lazy matrix the permanent matrix so that changes are
+     * not lost by eviction
+     */
+    private void pinLazyMatrix() {
+        if (this.isLazyMatrix()) {
+            ValueItemMatrixElement[][] tmpMatrix = this.getMaterializedMatrix();
+            this.clearLazyMatrix();
+            this.matrix = tmpMatrix;
+        }
+    }
+
+    /**
+     * Clears lazy matrix
+     */
+    private void clearLazyMatrix() {
+        this.lazyMatrixLoader = null;
+        this.lazyMatrixReference = null;
+        this.lazyMatrixRowCount = 0;
+        this.lazyMatrixColumnTypeFormats = null;
+        this.numericMatrix = null;
+        this.numericMatrixLoader = null;
+        this.numericMatrixReference = null;
+    }
+
+    /**
+     * Returns cloned column type formats of lazy matrix
+     *
+     * @return Cloned column type formats of lazy matrix
+     */
+    private ValueItemDataTypeFormat[] getClonedLazyMatrixColumnTypeFormats() {
+        ValueItemDataTypeFormat[] tmpTypeFormats = new ValueItemDataTypeFormat[this.lazyMatrixColumnTypeFormats.length];
+        for (int i = 0; i < tmpTypeFormats.length; i++) {
+            tmpTypeFormats[i] = this.lazyMatrixColumnTypeFormats[i].getClone();
+        }
+        return tmpTypeFormats;
+    }
+
     /**
      * Returns exclusive selection text matrix element column
      *
@@ -3148,9 +3469,9 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
     private ValueItemMatrixElement[] getExclusiveSelectionTextMatrixElementColumn() {
         int tmpExclusiveSelectionTextColumn = this.getExclusiveSelectionTextColumn();
         if (tmpExclusiveSelectionTextColumn > -1) {
-            ValueItemMatrixElement[] tmpMatrixElementColumn = new ValueItemMatrixElement[this.matrix.length];
-            for (int i = 0; i < this.matrix.length; i++) {
-                tmpMatrixElementColumn[i] = this.matrix[i][tmpExclusiveSelectionTextColumn];
+            ValueItemMatrixElement[] tmpMatrixElementColumn = new ValueItemMatrixElement[this.getMaterializedMatrix().length];
+            for (int i = 0; i < this.getMaterializedMatrix().length; i++) {
+                tmpMatrixElementColumn[i] = this.getMaterializedMatrix()[i][tmpExclusiveSelectionTextColumn];
             }
             return tmpMatrixElementColumn;
         } else {
@@ -3164,7 +3485,7 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      */
     private void setLastClonedMatrixWithClonedCurrentMatrix() {
         if (this.isMatrixClonedBeforeChange) {
-            this.lastClonedMatrix = ValueItemUtils.getClonedMatrixOfValueItemMatrixElements(this.matrix);
+            this.lastClonedMatrix = ValueItemUtils.getClonedMatrixOfValueItemMatrixElements(this.getMaterializedMatrix());
         }
     }
 
@@ -3210,16 +3531,16 @@ public class ValueItem extends ChangeNotifier implements Comparable<ValueItem>,
      */
     private void addMatrixToXmlElement(Element anElement) {
         // <editor-fold defaultstate="collapsed" desc="Checks">
-        if (this.matrix == null || anElement == null) {
+        if (this.isMatrixUndefined() || anElement == null) {
             return;
         }
 
         // </editor-fold>
         Element tmpMatrixElement = new Element(ValueItemXmlName.MATRIX);
-        for (int i = 0; i < this.matrix.length; i++) {
+        for (int i = 0; i < this.getMaterializedMatrix().length; i++) {
             Element tmpRowElement = new Element(ValueItemXmlName.MATRIX_ROW);
-            for (int j = 0; j < matrix[i].length; j++) {
-                tmpRowElement.addContent(this.matrix[i][j].getAsXmlElement());
+            for (int j = 0; j < this.getMaterializedMatrix()[i].length; j++) {
+                tmpRowElement.addContent(this.getMaterializedMatrix()[i][j].getAsXmlElement());
             }
             tmpMatrixElement.addContent(tmpRowElement);
         }
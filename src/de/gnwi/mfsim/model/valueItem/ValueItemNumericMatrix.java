@@ -0,0 +1,358 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.valueItem;
+
+import de.gnwi.mfsim.model.util.ModelUtils;
+import java.text.DecimalFormat;
+
+/**
+ * Numeric matrix of value item with primitive column storage: Every column 
+ * is stored as a double[] or long[] array with a single (shared) type format 
+ * per column. Cell values are formatted to strings only on request, i.e. the 
+ * string values are identical to the values of corresponding 
+ * ValueItemMatrixElement instances after ValueItemUtils.correctPendingZeros().
+ * <br>
+ * NOTE: Column arrays are NOT cloned, i.e. they must be treated as read-only 
+ * if the instance is in use by a value item.
+ *
+ * @author Achim Zielesny
+ */
+public class ValueItemNumericMatrix {
+
+    // <editor-fold defaultstate="collapsed" desc="Private final class variables">
+    /**
+     * Row count
+     */
+    private final int rowCount;
+
+    /**
+     * Double columns (null for long columns)
+     */
+    private final double[][] doubleColumns;
+
+    /**
+     * Long columns (null for double columns)
+     */
+    private final long[][] longColumns;
+
+    /**
+     * Type formats of columns
+     */
+    private final ValueItemDataTypeFormat[] columnTypeFormats;
+
+    /**
+     * Decimal formats of columns
+     */
+    private final DecimalFormat[] decimalFormats;
+
+    /**
+     * Number of unnecessary pending zeros of columns (-1: Not yet determined)
+     */
+    private final int[] numberOfUnnecessaryPendingZeros;
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Constructor. All values are initialized with zero.
+     *
+     * @param aRowCount Row count
+     * @param aColumnTypeFormats Type formats of columns (data type must be 
+     * NUMERIC)
+     * @param anIsLongColumns True: Column is long column, false: Column is 
+     * double column
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public ValueItemNumericMatrix(int aRowCount, ValueItemDataTypeFormat[] aColumnTypeFormats, boolean[] anIsLongColumns) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (aRowCount < 0) {
+            throw new IllegalArgumentException("aRowCount is less than 0.");
+        }
+        if (aColumnTypeFormats == null || aColumnTypeFormats.length == 0) {
+            throw new IllegalArgumentException("aColumnTypeFormats is null/empty.");
+        }
+        if (anIsLongColumns == null || anIsLongColumns.length != aColumnTypeFormats.length) {
+            throw new IllegalArgumentException("anIsLongColumns is null or has invalid length.");
+        }
+        for (ValueItemDataTypeFormat tmpTypeFormat : aColumnTypeFormats) {
+            if (tmpTypeFormat == null || tmpTypeFormat.getDataType() != ValueItemEnumDataType.NUMERIC) {
+                throw new IllegalArgumentException("A type format is null or not numeric.");
+            }
+        }
+        // </editor-fold>
+        this.rowCount = aRowCount;
+        this.columnTypeFormats = aColumnTypeFormats;
+        this.doubleColumns = new double[aColumnTypeFormats.length][];
+        this.longColumns = new long[aColumnTypeFormats.length][];
+        this.decimalFormats = new DecimalFormat[aColumnTypeFormats.length];
+        this.numberOfUnnecessaryPendingZeros = new int[aColumnTypeFormats.length];
+        for (int i = 0; i < aColumnTypeFormats.length; i++) {
+            if (anIsLongColumns[i]) {
+                this.longColumns[i] = new long[aRowCount];
+            } else {
+                this.doubleColumns[i] = new double[aRowCount];
+            }
+            // Same format strings as in StringUtilityMethods.formatDoubleValue()
+            int tmpNumberOfDecimals = aColumnTypeFormats[i].getNumberOfDecimals();
+            if (tmpNumberOfDecimals > 0) {
+                StringBuilder tmpZeros = new StringBuilder(tmpNumberOfDecimals);
+                for (int k = 0; k < tmpNumberOfDecimals; k++) {
+                    tmpZeros.append('0');
+                }
+                this.decimalFormats[i] = new DecimalFormat("#0." + tmpZeros.toString() + ";-#0." + tmpZeros.toString());
+            } else {
+                this.decimalFormats[i] = new DecimalFormat("#0");
+            }
+            this.numberOfUnnecessaryPendingZeros[i] = -1;
+        }
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public methods">
+    /**
+     * Returns value at specified position as string (see class description)
+     *
+     * @param aRow Row
+     * @param aColumn Column
+     * @return Value at specified position as string
+     */
+    public synchronized String getValue(int aRow, int aColumn) {
+        if (this.numberOfUnnecessaryPendingZeros[aColumn] < 0) {
+            this.numberOfUnnecessaryPendingZeros[aColumn] = this.getNumberOfUnnecessaryPendingZeros(aColumn);
+        }
+        String tmpFormattedValue = this.getFormattedValue(aRow, aColumn);
+        if (this.numberOfUnnecessaryPendingZeros[aColumn] > 0) {
+            return tmpFormattedValue.substring(0, tmpFormattedValue.length() - this.numberOfUnnecessaryPendingZeros[aColumn]);
+        } else {
+            return tmpFormattedValue;
+        }
+    }
+
+    /**
+     * Returns value at specified position formatted with the number of 
+     * decimals of the column type format
+     *
+     * @param aRow Row
+     * @param aColumn Column
+     * @return Formatted value at specified position
+     */
+    public synchronized String getFormattedValue(int aRow, int aColumn) {
+        double tmpValue = this.getValueAsDouble(aRow, aColumn);
+        if (Double.isNaN(tmpValue) || Double.isInfinite(tmpValue)) {
+            return String.valueOf(tmpValue);
+        }
+        // Replace possible ',' as decimal separator by '.'
+        return this.decimalFormats[aColumn].format(tmpValue).replace(',', '.');
+    }
+
+    /**
+     * Returns value at specified position
+     *
+     * @param aRow Row
+     * @param aColumn Column
+     * @return Value at specified position
+     */
+    public double getValueAsDouble(int aRow, int aColumn) {
+        if (this.longColumns[aColumn] != null) {
+            return (double) this.longColumns[aColumn][aRow];
+        } else {
+            return this.doubleColumns[aColumn][aRow];
+        }
+    }
+
+    /**
+     * Sets value at specified position of double column
+     *
+     * @param aValue Value
+     * @param aRow Row
+     * @param aColumn Column
+     * @throws IllegalArgumentException Thrown if column is long column
+     */
+    public synchronized void setDouble(double aValue, int aRow, int aColumn) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (this.doubleColumns[aColumn] == null) {
+            throw new IllegalArgumentException("Column is long column.");
+        }
+        // </editor-fold>
+        this.doubleColumns[aColumn][aRow] = aValue;
+        this.numberOfUnnecessaryPendingZeros[aColumn] = -1;
+    }
+
+    /**
+     * Sets value at specified position of long column
+     *
+     * @param aValue Value
+     * @param aRow Row
+     * @param aColumn Column
+     * @throws IllegalArgumentException Thrown if column is double column
+     */
+    public synchronized void setLong(long aValue, int aRow, int aColumn) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (this.longColumns[aColumn] == null) {
+            throw new IllegalArgumentException("Column is double column.");
+        }
+        // </editor-fold>
+        this.longColumns[aColumn][aRow] = aValue;
+        this.numberOfUnnecessaryPendingZeros[aColumn] = -1;
+    }
+
+    /**
+     * Returns matrix with (new) ValueItemMatrixElement instances that share 
+     * the column type formats
+     *
+     * @return Matrix with ValueItemMatrixElement instances
+     */
+    public synchronized ValueItemMatrixElement[][] getMatrixElements() {
+        ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[this.rowCount][this.columnTypeFormats.length];
+        for (int i = 0; i < this.rowCount; i++) {
+            for (int k = 0; k < this.columnTypeFormats.length; k++) {
+                tmpMatrix[i][k] = new ValueItemMatrixElement(this.columnTypeFormats[k]);
+                tmpMatrix[i][k].setValueWithoutFormat(this.getValue(i, k));
+            }
+        }
+        return tmpMatrix;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public properties (get)">
+    /**
+     * Row count
+     *
+     * @return Row count
+     */
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Column count
+     *
+     * @return Column count
+     */
+    public int getColumnCount() {
+        return this.columnTypeFormats.length;
+    }
+
+    /**
+     * Type format of column
+     *
+     * @param aColumn Column
+     * @return Type format of column
+     */
+    public ValueItemDataTypeFormat getColumnTypeFormat(int aColumn) {
+        return this.columnTypeFormats[aColumn];
+    }
+
+    /**
+     * Type formats of columns
+     *
+     * @return Type formats of columns (new array)
+     */
+    public ValueItemDataTypeFormat[] getColumnTypeFormats() {
+        return this.columnTypeFormats.clone();
+    }
+
+    /**
+     * Returns if column is long column
+     *
+     * @param aColumn Column
+     * @return True: Column is long column, false: Column is double column
+     */
+    public boolean isLongColumn(int aColumn) {
+        return this.longColumns[aColumn] != null;
+    }
+
+    /**
+     * Double column (NOT cloned)
+     *
+     * @param aColumn Column
+     * @return Double column
+     * @throws IllegalArgumentException Thrown if column is long column
+     */
+    public double[] getDoubleColumn(int aColumn) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (this.doubleColumns[aColumn] == null) {
+            throw new IllegalArgumentException("Column is long column.");
+        }
+        // </editor-fold>
+        return this.doubleColumns[aColumn];
+    }
+
+    /**
+     * Long column (NOT cloned)
+     *
+     * @param aColumn Column
+     * @return Long column
+     * @throws IllegalArgumentException Thrown if column is double column
+     */
+    public long[] getLongColumn(int aColumn) throws IllegalArgumentException {
+        // <editor-fold defaultstate="collapsed" desc="Checks">
+        if (this.longColumns[aColumn] == null) {
+            throw new IllegalArgumentException("Column is double column.");
+        }
+        // </editor-fold>
+        return this.longColumns[aColumn];
+    }
+
+    /**
+     * Column as double values: Double column is returned directly (NOT 
+     * cloned), long column is converted to a new double array
+     *
+     * @param aColumn Column
+     * @return Column as double values
+     */
+    public double[] getColumnAsDouble(int aColumn) {
+        if (this.doubleColumns[aColumn] != null) {
+            return this.doubleColumns[aColumn];
+        }
+        double[] tmpColumn = new double[this.rowCount];
+        for (int i = 0; i < this.rowCount; i++) {
+            tmpColumn[i] = (double) this.longColumns[aColumn][i];
+        }
+        return tmpColumn;
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Returns number of unnecessary pending zeros of column (see 
+     * ValueItemUtils.correctPendingZerosColumn())
+     *
+     * @param aColumn Column
+     * @return Number of unnecessary pending zeros of column
+     */
+    private int getNumberOfUnnecessaryPendingZeros(int aColumn) {
+        if (this.rowCount == 0) {
+            return 0;
+        }
+        int tmpMaximumNumberOfUnnecessaryPendingZeros = Integer.MAX_VALUE;
+        for (int i = 0; i < this.rowCount; i++) {
+            int tmpNumberOfPendingZeros = ModelUtils.getNumberOfPendingZerosAfterDecimalPoint(this.getFormattedValue(i, aColumn));
+            if (tmpNumberOfPendingZeros < tmpMaximumNumberOfUnnecessaryPendingZeros) {
+                tmpMaximumNumberOfUnnecessaryPendingZeros = tmpNumberOfPendingZeros;
+                if (tmpMaximumNumberOfUnnecessaryPendingZeros == 0) {
+                    break;
+                }
+            }
+        }
+        return tmpMaximumNumberOfUnnecessaryPendingZeros;
+    }
+    // </editor-fold>
+
+}
@@ -0,0 +1,78 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics;
+
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePosition;
+import de.gnwi.mfsim.model.util.MiscUtilityMethods;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Reporting benchmark for GraphicalParticlePositionDepthSorter: Radix depth 
+ * sort versus comparator sort.
+ * NOTE: This is NOT part of the unit test suite (no Test prefix, no 
+ * assertions). It is started manually via main() and only prints timings.
+ *
+ * @author Achim Zielesny
+ */
+public class BenchmarkGraphicalParticlePositionDepthSorter {
+
+    /**
+     * Main
+     *
+     * @param args Optional: Number of positions and number of repetitions
+     */
+    public static void main(String[] args) {
+        int tmpLength = 500000;
+        int tmpNumberOfRepetitions = 5;
+        if (args.length > 0) {
+            tmpLength = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            tmpNumberOfRepetitions = Integer.parseInt(args[1]);
+        }
+        Random tmpRandom = new Random(42L);
+        GraphicalParticlePosition[] tmpPositions = TestGraphicalParticlePositionDepthSorter.getRandomPositions(tmpRandom, tmpLength);
+        MiscUtilityMethods tmpMiscUtilityMethods = new MiscUtilityMethods();
+        GraphicalParticlePositionDepthSorter tmpSorter = new GraphicalParticlePositionDepthSorter();
+        for (SimulationBoxViewEnum tmpView : new SimulationBoxViewEnum[] {SimulationBoxViewEnum.XY_TOP, SimulationBoxViewEnum.YZ_RIGHT}) {
+            Comparator<GraphicalParticlePosition> tmpComparator = TestGraphicalParticlePositionDepthSorter.getComparator(tmpView);
+            long tmpComparatorSortTime = Long.MAX_VALUE;
+            long tmpRadixSortTime = Long.MAX_VALUE;
+            for (int k = 0; k < tmpNumberOfRepetitions; k++) {
+                GraphicalParticlePosition[] tmpComparatorSorted = tmpPositions.clone();
+                long tmpStart = System.nanoTime();
+                tmpMiscUtilityMethods.sortGenericArray(tmpComparatorSorted, tmpComparator);
+                tmpComparatorSortTime = Math.min(tmpComparatorSortTime, System.nanoTime() - tmpStart);
+
+                GraphicalParticlePosition[] tmpRadixSorted = tmpPositions.clone();
+                tmpStart = System.nanoTime();
+                tmpSorter.sort(tmpView, tmpRadixSorted, tmpLength);
+                tmpRadixSortTime = Math.min(tmpRadixSortTime, System.nanoTime() - tmpStart);
+            }
+            System.out.println(
+                "GraphicalParticlePositionDepthSorter (" + tmpView.name() + "): " + tmpLength + " positions, " 
+                + "comparator sort = " + tmpComparatorSortTime / 1000000L + " ms, " 
+                + "radix sort = " + tmpRadixSortTime / 1000000L + " ms"
+            );
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics;
+
+import de.gnwi.mfsim.model.graphics.particle.GraphicalParticlePosition;
+import de.gnwi.mfsim.model.util.MiscUtilityMethods;
+import java.util.Comparator;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Test class for GraphicalParticlePositionDepthSorter
+ *
+ * @author Achim Zielesny
+ */
+public class TestGraphicalParticlePositionDepthSorter extends TestCase {
+
+    /**
+     * Test order for all box views against comparator sort (sequential and
+     * parallel variant)
+     */
+    public void test_order() {
+        Random tmpRandom = new Random(4711L);
+        for (int tmpLength : new int[] {0, 1, 2, 17, 1000, 20000}) {
+            for (SimulationBoxViewEnum tmpBoxView : SimulationBoxViewEnum.values()) {
+                if (tmpBoxView == SimulationBoxViewEnum.UNDEFINED) {
+                    continue;
+                }
+                GraphicalParticlePosition[] tmpPositions = TestGraphicalParticlePositionDepthSorter.getRandomPositions(tmpRandom, tmpLength);
+                GraphicalParticlePosition[] tmpExpectedPositions = tmpPositions.clone();
+                GraphicalParticlePosition[] tmpParallelPositions = tmpPositions.clone();
+                new MiscUtilityMethods().sortGenericArray(tmpExpectedPositions, TestGraphicalParticlePositionDepthSorter.getComparator(tmpBoxView));
+                new GraphicalParticlePositionDepthSorter().sort(tmpBoxView, tmpPositions, tmpLength);
+                new GraphicalParticlePositionDepthSorter(1).sort(tmpBoxView, tmpParallelPositions, tmpLength);
+                for (int i = 0; i < tmpLength; i++) {
+                    assertEquals(this.getDepth(tmpBoxView, tmpExpectedPositions[i]), this.getDepth(tmpBoxView, tmpPositions[i]), 0.0);
+                    assertEquals(this.getDepth(tmpBoxView, tmpExpectedPositions[i]), this.getDepth(tmpBoxView, tmpParallelPositions[i]), 0.0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that initial part of array is sorted only and that all objects are
+     * retained
+     */
+    public void test_partialSort() {
+        GraphicalParticlePosition[] tmpPositions = new GraphicalParticlePosition[] {
+            new GraphicalParticlePosition(3.0, 0.0, 0.0),
+            new GraphicalParticlePosition(-1.0, 0.0, 0.0),
+            new GraphicalParticlePosition(-0.0, 0.0, 0.0),
+            new GraphicalParticlePosition(0.0, 0.0, 0.0),
+            new GraphicalParticlePosition(-5.0, 0.0, 0.0)
+        };
+        GraphicalParticlePosition tmpLastPosition = tmpPositions[4];
+        new GraphicalParticlePositionDepthSorter().sort(SimulationBoxViewEnum.YZ_LEFT, tmpPositions, 4);
+        assertEquals(-1.0, tmpPositions[0].getX(), 0.0);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(tmpPositions[1].getX()));
+        assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(tmpPositions[2].getX()));
+        assertEquals(3.0, tmpPositions[3].getX(), 0.0);
+        assertSame(tmpLastPosition, tmpPositions[4]);
+        new GraphicalParticlePositionDepthSorter().sort(SimulationBoxViewEnum.YZ_RIGHT, tmpPositions, 5);
+        assertEquals(3.0, tmpPositions[0].getX(), 0.0);
+        assertEquals(-5.0, tmpPositions[4].getX(), 0.0);
+    }
+
+    /**
+     * Test radix depth sort versus comparator sort for a large number of 
+     * positions in all simulation box views
+     */
+    public void test_largeNumberOfPositions() {
+        int tmpLength = 500000;
+        Random tmpRandom = new Random(42L);
+        GraphicalParticlePosition[] tmpPositions = TestGraphicalParticlePositionDepthSorter.getRandomPositions(tmpRandom, tmpLength);
+        MiscUtilityMethods tmpMiscUtilityMethods = new MiscUtilityMethods();
+        GraphicalParticlePositionDepthSorter tmpSorter = new GraphicalParticlePositionDepthSorter();
+        for (SimulationBoxViewEnum tmpView : new SimulationBoxViewEnum[] {SimulationBoxViewEnum.XY_TOP, SimulationBoxViewEnum.YZ_RIGHT}) {
+            Comparator<GraphicalParticlePosition> tmpComparator = TestGraphicalParticlePositionDepthSorter.getComparator(tmpView);
+            GraphicalParticlePosition[] tmpComparatorSorted = tmpPositions.clone();
+            tmpMiscUtilityMethods.sortGenericArray(tmpComparatorSorted, tmpComparator);
+            GraphicalParticlePosition[] tmpRadixSorted = tmpPositions.clone();
+            tmpSorter.sort(tmpView, tmpRadixSorted, tmpLength);
+            for (int i = 0; i < tmpLength; i++) {
+                assertEquals(0, tmpComparator.compare(tmpComparatorSorted[i], tmpRadixSorted[i]));
+            }
+        }
+    }
+
+    /**
+     * Returns random positions
+     *
+     * @param aRandom Random number generator
+     * @param aLength Number of positions
+     * @return Random positions
+     */
+    static GraphicalParticlePosition[] getRandomPositions(Random aRandom, int aLength) {
+        GraphicalParticlePosition[] tmpPositions = new GraphicalParticlePosition[aLength];
+        for (int i = 0; i < aLength; i++) {
+            // Coarse grid values for x to enforce ties, negative values for y
+            tmpPositions[i] = new GraphicalParticlePosition(
+                (double) aRandom.nextInt(50), 
+                aRandom.nextDouble() * 40.0 - 20.0, 
+                aRandom.nextDouble() * 40.0
+            );
+        }
+        return tmpPositions;
+    }
+
+    /**
+     * Returns depth of position for box view
+     *
+     * @param aBoxView Box view
+     * @param aPosition Position
+     * @return Depth
+     */
+    private double getDepth(SimulationBoxViewEnum aBoxView, GraphicalParticlePosition aPosition) {
+        switch (aBoxView) {
+            case XZ_FRONT:
+            case XZ_BACK:
+                return aPosition.getY();
+            case XY_BOTTOM:
+            case XY_TOP:
+                return aPosition.getZ();
+            default:
+                return aPosition.getX();
+        }
+    }
+
+    /**
+     * Returns comparator for box view (former comparator sort semantics)
+     *
+     * @param aBoxView Box view
+     * @return Comparator
+     */
+    static Comparator<GraphicalParticlePosition> getComparator(SimulationBoxViewEnum aBoxView) {
+        switch (aBoxView) {
+            case XZ_FRONT:
+                return (aPosition1, aPosition2) -> Double.compare(aPosition1.getY(), aPosition2.getY());
+            case XZ_BACK:
+                return (aPosition1, aPosition2) -> Double.compare(aPosition2.getY(), aPosition1.getY());
+            case XY_BOTTOM:
+                return (aPosition1, aPosition2) -> Double.compare(aPosition1.getZ(), aPosition2.getZ());
+            case XY_TOP:
+                return (aPosition1, aPosition2) -> Double.compare(aPosition2.getZ(), aPosition1.getZ());
+            case YZ_LEFT:
+                return (aPosition1, aPosition2) -> Double.compare(aPosition1.getX(), aPosition2.getX());
+            default:
+                return (aPosition1, aPosition2) -> Double.compare(aPosition2.getX(), aPosition1.getX());
+        }
+    }
+
+}
@@ -0,0 +1,203 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.body;
+
+import de.gnwi.jdpd.interfaces.IRandom;
+import de.gnwi.jdpd.samples.random.ApacheCommonsRandom;
+import de.gnwi.mfsim.model.graphics.compartment.CompartmentBox;
+import de.gnwi.spices.PointInSpace;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test class for BodySpatialHash
+ * 
+ * @author Achim Zielesny
+ */
+public class TestBodySpatialHash {
+
+    /**
+     * Test that excluded volume queries are identical to a linear scan over 
+     * all bodies (random points, grid points and points outside the domain)
+     */
+    @Test
+    public void testIdenticalAcceptance() {
+        IRandom tmpRandom = new ApacheCommonsRandom(RandomSource.XO_SHI_RO_256_SS, 1);
+        ArrayList<BodyInterface> tmpBodies = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            // NOTE: Some spheres overlap with domain boundaries
+            tmpBodies.add(
+                new BodySphere(
+                    0.5 + 3.0 * tmpRandom.nextDouble(), 
+                    -2.0 + 24.0 * tmpRandom.nextDouble(), 
+                    -2.0 + 24.0 * tmpRandom.nextDouble(), 
+                    -2.0 + 24.0 * tmpRandom.nextDouble()
+                )
+            );
+        }
+        tmpBodies.add(new BodyXyLayer(20.0, 20.0, 2.0, 10.0, 10.0, 1.0));
+        tmpBodies.add(new BodyXyLayer(5.0, 7.0, 3.0, 4.0, 12.0, 15.0));
+        // Sphere outside domain
+        tmpBodies.add(new BodySphere(2.0, 30.0, 30.0, 30.0));
+        BodySpatialHash tmpSpatialHash = new BodySpatialHash(0.0, 20.0, 0.0, 20.0, 0.0, 20.0, BodySpatialHash.getTargetCellLength(tmpBodies, 5.0));
+        tmpSpatialHash.addBodies(tmpBodies);
+        assertEquals(tmpBodies.size(), tmpSpatialHash.getNumberOfBodies());
+        assertTrue(tmpSpatialHash.getNumberOfFullyOccupiedCells() > 0);
+
+        PointInSpace tmpPoint = new PointInSpace(0.0, 0.0, 0.0);
+        int tmpNumberOfExcludedPoints = 0;
+        for (int i = 0; i < 200000; i++) {
+            tmpPoint.setX(-5.0 + 40.0 * tmpRandom.nextDouble());
+            tmpPoint.setY(-5.0 + 40.0 * tmpRandom.nextDouble());
+            tmpPoint.setZ(-5.0 + 40.0 * tmpRandom.nextDouble());
+            boolean tmpIsExcluded = this.isInExcludedVolumeWithLinearScan(tmpBodies, tmpPoint);
+            assertEquals(tmpIsExcluded, tmpSpatialHash.isInExcludedVolume(tmpPoint));
+            if (tmpIsExcluded) {
+                tmpNumberOfExcludedPoints++;
+            }
+        }
+        assertTrue(tmpNumberOfExcludedPoints > 0);
+        // Grid points (cell corners and domain boundaries)
+        for (int x = 0; x <= 80; x++) {
+            for (int y = 0; y <= 80; y++) {
+                for (int z = 0; z <= 80; z++) {
+                    tmpPoint.setX(x * 0.25);
+                    tmpPoint.setY(y * 0.25);
+                    tmpPoint.setZ(z * 0.25);
+                    assertEquals(this.isInExcludedVolumeWithLinearScan(tmpBodies, tmpPoint), tmpSpatialHash.isInExcludedVolume(tmpPoint));
+                }
+            }
+        }
+        // Points on sphere surfaces
+        for (BodyInterface tmpBody : tmpBodies) {
+            if (tmpBody instanceof BodySphere) {
+                for (PointInSpace tmpSurfacePoint : tmpBody.getRandomPointsOnSurface(20, tmpRandom)) {
+                    assertEquals(this.isInExcludedVolumeWithLinearScan(tmpBodies, tmpSurfacePoint), tmpSpatialHash.isInExcludedVolume(tmpSurfacePoint));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test adaptive sampling in cells that are not fully occupied
+     */
+    @Test
+    public void testRandomPointInFreeCell() {
+        IRandom tmpRandom = new ApacheCommonsRandom(RandomSource.XO_SHI_RO_256_SS, 1);
+        BodySpatialHash tmpSpatialHash = new BodySpatialHash(0.0, 10.0, 0.0, 10.0, 0.0, 10.0, 1.0);
+        assertEquals(1000, tmpSpatialHash.getNumberOfCells());
+        // Layer occupies lower half of domain completely
+        BodyXyLayer tmpXyLayer = new BodyXyLayer(10.0, 10.0, 5.0, 5.0, 5.0, 2.5);
+        tmpSpatialHash.addBody(tmpXyLayer);
+        assertEquals(500, tmpSpatialHash.getNumberOfFullyOccupiedCells());
+        PointInSpace tmpPoint = new PointInSpace(0.0, 0.0, 0.0);
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(tmpSpatialHash.setRandomPointInFreeCell(tmpPoint, tmpRandom));
+            assertTrue(tmpPoint.getX() >= 0.0 && tmpPoint.getX() <= 10.0);
+            assertTrue(tmpPoint.getY() >= 0.0 && tmpPoint.getY() <= 10.0);
+            assertTrue(tmpPoint.getZ() >= 5.0 && tmpPoint.getZ() <= 10.0);
+        }
+        // Domain is fully occupied
+        tmpSpatialHash.addBody(new BodyXyLayer(10.0, 10.0, 5.0, 5.0, 5.0, 7.5));
+        assertEquals(1000, tmpSpatialHash.getNumberOfFullyOccupiedCells());
+        tmpPoint.setX(-1.0);
+        assertFalse(tmpSpatialHash.setRandomPointInFreeCell(tmpPoint, tmpRandom));
+        assertEquals(-1.0, tmpPoint.getX(), 0.0);
+    }
+
+    /**
+     * Test free volume methods of CompartmentBox that use spatial hash
+     */
+    @Test
+    public void testCompartmentBoxFreeVolume() {
+        IRandom tmpRandom = new ApacheCommonsRandom(RandomSource.XO_SHI_RO_256_SS, 1);
+        CompartmentBox tmpCompartmentBox = new CompartmentBox(20.0, 20.0, 20.0);
+        ArrayList<BodyInterface> tmpBodies = new ArrayList<>();
+        BodySphere tmpSphere = new BodySphere(6.0, 10.0, 10.0, 10.0);
+        tmpCompartmentBox.addBody(tmpSphere);
+        tmpBodies.add(tmpSphere);
+        LinkedList<BodySphere> tmpExcludedSphereList = new LinkedList<>();
+        for (int i = 0; i < 50; i++) {
+            tmpExcludedSphereList.add(
+                new BodySphere(
+                    0.5 + tmpRandom.nextDouble(), 
+                    20.0 * tmpRandom.nextDouble(), 
+                    20.0 * tmpRandom.nextDouble(), 
+                    20.0 * tmpRandom.nextDouble()
+                )
+            );
+        }
+        tmpCompartmentBox.setExcludedSphereList(tmpExcludedSphereList);
+        tmpBodies.addAll(tmpExcludedSphereList);
+
+        PointInSpace tmpPoint = new PointInSpace(0.0, 0.0, 0.0);
+        for (int i = 0; i < 100000; i++) {
+            tmpPoint.setX(-1.0 + 22.0 * tmpRandom.nextDouble());
+            tmpPoint.setY(-1.0 + 22.0 * tmpRandom.nextDouble());
+            tmpPoint.setZ(-1.0 + 22.0 * tmpRandom.nextDouble());
+            boolean tmpIsInFreeVolume = !this.isInExcludedVolumeWithLinearScan(tmpBodies, tmpPoint) && tmpCompartmentBox.isInContainer(tmpPoint);
+            assertEquals(tmpIsInFreeVolume, tmpCompartmentBox.isInFreeVolume(tmpPoint));
+        }
+
+        PointInSpace[] tmpBuffer = new PointInSpace[5000];
+        tmpCompartmentBox.fillFreeVolumeRandomPoints(tmpBuffer, 0, tmpBuffer.length, 1000, tmpRandom);
+        for (PointInSpace tmpFreePoint : tmpBuffer) {
+            assertTrue(tmpCompartmentBox.isInFreeVolume(tmpFreePoint));
+            assertFalse(this.isInExcludedVolumeWithLinearScan(tmpBodies, tmpFreePoint));
+        }
+
+        // Spatial hash is rebuilt after change of excluded spheres
+        tmpPoint.setX(2.0);
+        tmpPoint.setY(2.0);
+        tmpPoint.setZ(2.0);
+        tmpCompartmentBox.clearExcludedSphereList();
+        assertTrue(tmpCompartmentBox.isInFreeVolume(tmpPoint));
+        tmpCompartmentBox.getExcludedSphereList().add(new BodySphere(1.0, 2.0, 2.0, 2.0));
+        tmpCompartmentBox.setExcludedSphereList(tmpCompartmentBox.getExcludedSphereList());
+        assertFalse(tmpCompartmentBox.isInFreeVolume(tmpPoint));
+        // ... and after removal of body
+        tmpPoint.setX(10.0);
+        tmpPoint.setY(10.0);
+        tmpPoint.setZ(10.0);
+        assertFalse(tmpCompartmentBox.isInFreeVolume(tmpPoint));
+        tmpCompartmentBox.removeBody(tmpSphere);
+        assertTrue(tmpCompartmentBox.isInFreeVolume(tmpPoint));
+    }
+
+    /**
+     * Returns if point is in volume of any body (linear scan)
+     *
+     * @param aBodies Bodies
+     * @param aPoint Point
+     * @return True: Point is in volume of a body, false: Otherwise
+     */
+    private boolean isInExcludedVolumeWithLinearScan(ArrayList<BodyInterface> aBodies, PointInSpace aPoint) {
+        for (BodyInterface tmpBody : aBodies) {
+            if (tmpBody.isInVolume(aPoint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,153 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.factory;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Test class for TilePixelGraphicsFactory and ParticleSpriteCache
+ *
+ * @author Achim Zielesny
+ */
+public class TestTilePixelGraphicsFactory extends TestCase {
+
+    /**
+     * Test pixel-exact identity of images of PixelGraphicsFactory and 
+     * TilePixelGraphicsFactory for random draw sequences (including sprites 
+     * at/beyond the image border, single pixels, attenuation and clear)
+     */
+    public void test_pixelIdentity() {
+        Random tmpRandom = new Random(4711L);
+        int[][] tmpSprites = new int[10][];
+        for (int i = 0; i < tmpSprites.length; i++) {
+            tmpSprites[i] = this.getRandomSprite(tmpRandom, 2 * (i + 1));
+        }
+        for (int tmpTileSize : new int[] {1, 7, 64}) {
+            for (boolean tmpIsIntermediateImageCreation : new boolean[] {true, false}) {
+                int tmpWidth = 150;
+                int tmpHeight = 97;
+                PixelGraphicsFactory tmpExpectedFactory = new PixelGraphicsFactory(tmpWidth, tmpHeight, tmpIsIntermediateImageCreation);
+                TilePixelGraphicsFactory tmpTileFactory = new TilePixelGraphicsFactory(tmpWidth, tmpHeight, tmpIsIntermediateImageCreation, tmpTileSize);
+                for (int tmpSlice = 0; tmpSlice < 5; tmpSlice++) {
+                    if (tmpSlice == 3) {
+                        tmpExpectedFactory.clear();
+                        tmpTileFactory.clear();
+                    }
+                    tmpExpectedFactory.attenuateToBackgroundColor(0.3);
+                    tmpTileFactory.attenuateToBackgroundColor(0.3);
+                    for (int i = 0; i < 2000; i++) {
+                        int tmpSpriteIndex = tmpRandom.nextInt(tmpSprites.length);
+                        int tmpSize = 2 * (tmpSpriteIndex + 1);
+                        int tmpX = tmpRandom.nextInt(tmpWidth + 20) - 10;
+                        int tmpY = tmpRandom.nextInt(tmpHeight + 20) - 10;
+                        switch (tmpRandom.nextInt(3)) {
+                            case 0:
+                                tmpExpectedFactory.drawOpaque(tmpSprites[tmpSpriteIndex], tmpX, tmpY, tmpSize);
+                                tmpTileFactory.drawOpaque(tmpSprites[tmpSpriteIndex], tmpX, tmpY, tmpSize);
+                                break;
+                            case 1:
+                                tmpExpectedFactory.drawTransparent(tmpSprites[tmpSpriteIndex], tmpX, tmpY, tmpSize);
+                                tmpTileFactory.drawTransparent(tmpSprites[tmpSpriteIndex], tmpX, tmpY, tmpSize);
+                                break;
+                            case 2:
+                                Color tmpColor = new Color(tmpRandom.nextInt(256), tmpRandom.nextInt(256), tmpRandom.nextInt(256));
+                                tmpExpectedFactory.drawSinglePixel(tmpX, tmpY, tmpColor);
+                                tmpTileFactory.drawSinglePixel(tmpX, tmpY, tmpColor);
+                                break;
+                        }
+                    }
+                    this.assertPixelIdentity(tmpExpectedFactory.getIntermediateImage(), tmpTileFactory.getIntermediateImage());
+                }
+                this.assertPixelIdentity(tmpExpectedFactory.getImage(), tmpTileFactory.getImage());
+            }
+        }
+    }
+
+    /**
+     * Test ParticleSpriteCache hits and least-recently-used removal
+     */
+    public void test_particleSpriteCache() {
+        float[] tmpFractions = new float[] {0.0f, 0.2f, 1.0f};
+        Color[] tmpColors = new Color[] {Color.WHITE, Color.RED, Color.BLACK};
+        // Budget for two sprites with radius 10 (20 x 20 pixel)
+        ParticleSpriteCache tmpCache = new ParticleSpriteCache(800L);
+        int[] tmpSprite = tmpCache.getParticlePixels(10, tmpFractions, tmpColors, 0.0f);
+        assertNotNull(tmpSprite);
+        assertEquals(400, tmpSprite.length);
+        assertSame(tmpSprite, tmpCache.getParticlePixels(10, tmpFractions, tmpColors, 0.0f));
+        assertEquals(1L, tmpCache.getNumberOfHits());
+        assertEquals(1L, tmpCache.getNumberOfMisses());
+        // Corner pixel is outside particle disc and must be transparent
+        assertEquals(0, tmpSprite[0]);
+        // Other color/transparency means other sprite
+        int[] tmpTransparentSprite = tmpCache.getParticlePixels(10, tmpFractions, tmpColors, 0.5f);
+        assertNotSame(tmpSprite, tmpTransparentSprite);
+        assertEquals(2, tmpCache.getNumberOfSprites());
+        tmpColors[1] = Color.BLUE;
+        tmpCache.getParticlePixels(10, tmpFractions, tmpColors, 0.0f);
+        assertEquals(2, tmpCache.getNumberOfSprites());
+        assertEquals(800L, tmpCache.getSizeInPixel());
+        // Least-recently-used (first) sprite was removed
+        tmpColors[1] = Color.RED;
+        assertNotSame(tmpSprite, tmpCache.getParticlePixels(10, tmpFractions, tmpColors, 0.0f));
+        assertEquals(4L, tmpCache.getNumberOfMisses());
+        tmpCache.clear();
+        assertEquals(0, tmpCache.getNumberOfSprites());
+        assertEquals(0L, tmpCache.getSizeInPixel());
+    }
+
+    /**
+     * Returns random sprite with transparent (0) pixels and pixels of random
+     * color and alpha value
+     *
+     * @param aRandom Random number generator
+     * @param aWidthAndHeight Width and height of sprite
+     * @return Random sprite
+     */
+    private int[] getRandomSprite(Random aRandom, int aWidthAndHeight) {
+        int[] tmpSprite = new int[aWidthAndHeight * aWidthAndHeight];
+        for (int i = 0; i < tmpSprite.length; i++) {
+            if (aRandom.nextInt(4) > 0) {
+                tmpSprite[i] = aRandom.nextInt();
+            }
+        }
+        return tmpSprite;
+    }
+
+    /**
+     * Asserts pixel identity of images
+     *
+     * @param anExpectedImage Expected image
+     * @param anImage Image
+     */
+    private void assertPixelIdentity(BufferedImage anExpectedImage, BufferedImage anImage) {
+        int[] tmpExpectedPixels = ((DataBufferInt) anExpectedImage.getRaster().getDataBuffer()).getData();
+        int[] tmpPixels = ((DataBufferInt) anImage.getRaster().getDataBuffer()).getData();
+        assertEquals(tmpExpectedPixels.length, tmpPixels.length);
+        for (int i = 0; i < tmpExpectedPixels.length; i++) {
+            assertEquals("Pixel " + String.valueOf(i), tmpExpectedPixels[i], tmpPixels[i]);
+        }
+    }
+
+}
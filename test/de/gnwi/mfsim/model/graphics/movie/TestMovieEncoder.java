@@ -0,0 +1,382 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.movie;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.imageio.ImageIO;
+import junit.framework.TestCase;
+
+/**
+ * Test class for MjpegAviMovieEncoder, ApngMovieEncoder and 
+ * BackgroundMovieEncoder: Movie files are decoded again
+ *
+ * @author Achim Zielesny
+ */
+public class TestMovieEncoder extends TestCase {
+
+    /**
+     * Test Motion-JPEG AVI: Frame count, dimensions, index and decodable
+     * frames (BufferedImage and pixel frames)
+     */
+    public void test_mjpegAvi() throws Exception {
+        File tmpMovieFile = File.createTempFile("TestMovieEncoder", ".avi");
+        try {
+            try (MjpegAviMovieEncoder tmpEncoder = new MjpegAviMovieEncoder(tmpMovieFile, 20, 0.9f)) {
+                for (int i = 0; i < 5; i++) {
+                    tmpEncoder.addFrame(this.getImage(i, 61, 47, BufferedImage.TYPE_INT_ARGB));
+                }
+                for (int i = 5; i < 7; i++) {
+                    tmpEncoder.addFrame(this.getPixels(i, 61, 47), 61, 47);
+                }
+                try {
+                    tmpEncoder.addFrame(this.getImage(0, 60, 47, BufferedImage.TYPE_INT_RGB));
+                    fail("Frame with different size was accepted.");
+                } catch (IllegalArgumentException anException) {
+                    // Expected
+                }
+                assertEquals(7, tmpEncoder.getNumberOfFrames());
+            }
+            this.assertAvi(tmpMovieFile, 7, 61, 47, 20);
+        } finally {
+            tmpMovieFile.delete();
+        }
+    }
+
+    /**
+     * Test animated PNG: Frame count, dimensions, chunk CRCs and lossless 
+     * frame content
+     */
+    public void test_apng() throws Exception {
+        File tmpMovieFile = File.createTempFile("TestMovieEncoder", ".png");
+        try {
+            ArrayList<int[]> tmpExpectedFrames = new ArrayList<>();
+            try (ApngMovieEncoder tmpEncoder = new ApngMovieEncoder(tmpMovieFile, 25, Deflater.BEST_SPEED)) {
+                for (int i = 0; i < 4; i++) {
+                    BufferedImage tmpImage = this.getImage(i, 33, 21, BufferedImage.TYPE_INT_RGB);
+                    tmpExpectedFrames.add(tmpImage.getRGB(0, 0, 33, 21, null, 0, 33));
+                    tmpEncoder.addFrame(tmpImage);
+                }
+                int[] tmpPixels = this.getPixels(4, 33, 21);
+                tmpExpectedFrames.add(tmpPixels);
+                tmpEncoder.addFrame(tmpPixels, 33, 21);
+            }
+            this.assertApng(tmpMovieFile, tmpExpectedFrames, 33, 21);
+            // Default image (first frame) is readable by standard PNG decoder
+            BufferedImage tmpDefaultImage = ImageIO.read(tmpMovieFile);
+            assertEquals(33, tmpDefaultImage.getWidth());
+            assertEquals(21, tmpDefaultImage.getHeight());
+            int[] tmpDefaultPixels = tmpDefaultImage.getRGB(0, 0, 33, 21, null, 0, 33);
+            for (int i = 0; i < tmpDefaultPixels.length; i++) {
+                assertEquals(tmpExpectedFrames.get(0)[i] & 0xFFFFFF, tmpDefaultPixels[i] & 0xFFFFFF);
+            }
+        } finally {
+            tmpMovieFile.delete();
+        }
+    }
+
+    /**
+     * Test BackgroundMovieEncoder with both movie formats
+     */
+    public void test_backgroundMovieEncoder() throws Exception {
+        File tmpAviFile = File.createTempFile("TestMovieEncoder", ".avi");
+        File tmpPngFile = File.createTempFile("TestMovieEncoder", ".png");
+        try {
+            ArrayList<int[]> tmpExpectedFrames = new ArrayList<>();
+            try (
+                BackgroundMovieEncoder tmpAviEncoder = new BackgroundMovieEncoder(new MjpegAviMovieEncoder(tmpAviFile, 10, 0.8f), 2);
+                BackgroundMovieEncoder tmpPngEncoder = new BackgroundMovieEncoder(new ApngMovieEncoder(tmpPngFile, 10, Deflater.DEFAULT_COMPRESSION), 2)
+            ) {
+                for (int i = 0; i < 30; i++) {
+                    int[] tmpPixels = this.getPixels(i, 40, 30);
+                    tmpExpectedFrames.add(tmpPixels);
+                    tmpAviEncoder.addFrame(tmpPixels, 40, 30);
+                    tmpPngEncoder.addFrame(tmpPixels, 40, 30);
+                }
+                assertEquals(30, tmpAviEncoder.getNumberOfFrames());
+            }
+            this.assertAvi(tmpAviFile, 30, 40, 30, 10);
+            this.assertApng(tmpPngFile, tmpExpectedFrames, 40, 30);
+        } finally {
+            tmpAviFile.delete();
+            tmpPngFile.delete();
+        }
+    }
+
+    /**
+     * Test that a failure of the background encoder is reported to the 
+     * caller
+     */
+    public void test_backgroundMovieEncoderFailure() throws Exception {
+        File tmpMovieFile = File.createTempFile("TestMovieEncoder", ".png");
+        try {
+            BackgroundMovieEncoder tmpEncoder = new BackgroundMovieEncoder(new ApngMovieEncoder(tmpMovieFile, 10, Deflater.BEST_SPEED), 1);
+            tmpEncoder.addFrame(this.getPixels(0, 10, 10), 10, 10);
+            IOException tmpIOException = null;
+            try {
+                // Different frame size fails in background thread
+                tmpEncoder.addFrame(this.getPixels(0, 11, 10), 11, 10);
+                for (int i = 0; i < 10; i++) {
+                    tmpEncoder.addFrame(this.getPixels(0, 10, 10), 10, 10);
+                }
+            } catch (IOException anException) {
+                tmpIOException = anException;
+            }
+            try {
+                tmpEncoder.close();
+            } catch (IOException anException) {
+                tmpIOException = anException;
+            }
+            assertNotNull("Failure of background encoder was not reported.", tmpIOException);
+        } finally {
+            tmpMovieFile.delete();
+        }
+    }
+
+    // <editor-fold defaultstate="collapsed" desc="Private methods">
+    /**
+     * Returns test image
+     *
+     * @param anIndex Frame index
+     * @param aWidth Width
+     * @param aHeight Height
+     * @param anImageType Image type
+     * @return Test image
+     */
+    private BufferedImage getImage(int anIndex, int aWidth, int aHeight, int anImageType) {
+        BufferedImage tmpImage = new BufferedImage(aWidth, aHeight, anImageType);
+        Graphics2D tmpGraphics2D = tmpImage.createGraphics();
+        tmpGraphics2D.setColor(Color.BLACK);
+        tmpGraphics2D.fillRect(0, 0, aWidth, aHeight);
+        tmpGraphics2D.setColor(new Color(255, (anIndex * 40) % 256, 0));
+        tmpGraphics2D.fillOval(anIndex, anIndex, aWidth / 2, aHeight / 2);
+        tmpGraphics2D.dispose();
+        return tmpImage;
+    }
+
+    /**
+     * Returns test pixels
+     *
+     * @param anIndex Frame index
+     * @param aWidth Width
+     * @param aHeight Height
+     * @return Test pixels
+     */
+    private int[] getPixels(int anIndex, int aWidth, int aHeight) {
+        int[] tmpPixels = new int[aWidth * aHeight];
+        for (int i = 0; i < aHeight; i++) {
+            for (int j = 0; j < aWidth; j++) {
+                tmpPixels[i * aWidth + j] = 0xFF000000 | (((i + anIndex) * 5 % 256) << 16) | ((j * 7 % 256) << 8) | (anIndex * 13 % 256);
+            }
+        }
+        return tmpPixels;
+    }
+
+    /**
+     * Decodes AVI file and asserts its properties
+     *
+     * @param aMovieFile Movie file
+     * @param aNumberOfFrames Expected number of frames
+     * @param aWidth Expected width
+     * @param aHeight Expected height
+     * @param aFramesPerSecond Expected frames per second
+     */
+    private void assertAvi(File aMovieFile, int aNumberOfFrames, int aWidth, int aHeight, int aFramesPerSecond) throws Exception {
+        ByteBuffer tmpBuffer = ByteBuffer.wrap(Files.readAllBytes(aMovieFile.toPath())).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals("RIFF", this.getFourCc(tmpBuffer, 0));
+        assertEquals(tmpBuffer.capacity() - 8, tmpBuffer.getInt(4));
+        assertEquals("AVI ", this.getFourCc(tmpBuffer, 8));
+        // Walk top level chunks
+        int tmpIndex = 12;
+        int tmpMoviPosition = -1;
+        int tmpNumberOfFrameChunks = 0;
+        int tmpIndexEntries = -1;
+        while (tmpIndex < tmpBuffer.capacity()) {
+            String tmpId = this.getFourCc(tmpBuffer, tmpIndex);
+            int tmpSize = tmpBuffer.getInt(tmpIndex + 4);
+            if (tmpId.equals("LIST") && this.getFourCc(tmpBuffer, tmpIndex + 8).equals("hdrl")) {
+                assertEquals("avih", this.getFourCc(tmpBuffer, tmpIndex + 12));
+                int tmpAvih = tmpIndex + 20;
+                assertEquals(1000000 / aFramesPerSecond, tmpBuffer.getInt(tmpAvih));
+                assertEquals(aNumberOfFrames, tmpBuffer.getInt(tmpAvih + 16));
+                assertEquals(aWidth, tmpBuffer.getInt(tmpAvih + 32));
+                assertEquals(aHeight, tmpBuffer.getInt(tmpAvih + 36));
+                int tmpStrh = tmpAvih + 56 + 12;
+                assertEquals("strh", this.getFourCc(tmpBuffer, tmpStrh));
+                assertEquals("vids", this.getFourCc(tmpBuffer, tmpStrh + 8));
+                assertEquals("MJPG", this.getFourCc(tmpBuffer, tmpStrh + 12));
+                assertEquals(aFramesPerSecond, tmpBuffer.getInt(tmpStrh + 32));
+                assertEquals(aNumberOfFrames, tmpBuffer.getInt(tmpStrh + 40));
+            } else if (tmpId.equals("LIST") && this.getFourCc(tmpBuffer, tmpIndex + 8).equals("movi")) {
+                tmpMoviPosition = tmpIndex + 8;
+                int tmpChunk = tmpIndex + 12;
+                while (tmpChunk < tmpIndex + 8 + tmpSize) {
+                    assertEquals("00dc", this.getFourCc(tmpBuffer, tmpChunk));
+                    int tmpFrameSize = tmpBuffer.getInt(tmpChunk + 4);
+                    BufferedImage tmpFrame = ImageIO.read(new ByteArrayInputStream(tmpBuffer.array(), tmpChunk + 8, tmpFrameSize));
+                    assertNotNull(tmpFrame);
+                    assertEquals(aWidth, tmpFrame.getWidth());
+                    assertEquals(aHeight, tmpFrame.getHeight());
+                    tmpNumberOfFrameChunks++;
+                    tmpChunk += 8 + tmpFrameSize + (tmpFrameSize % 2);
+                }
+            } else if (tmpId.equals("idx1")) {
+                tmpIndexEntries = tmpSize / 16;
+                for (int i = 0; i < tmpIndexEntries; i++) {
+                    int tmpEntry = tmpIndex + 8 + i * 16;
+                    assertEquals("00dc", this.getFourCc(tmpBuffer, tmpEntry));
+                    int tmpOffset = tmpBuffer.getInt(tmpEntry + 8);
+                    assertEquals("00dc", this.getFourCc(tmpBuffer, tmpMoviPosition + tmpOffset));
+                    assertEquals(tmpBuffer.getInt(tmpEntry + 12), tmpBuffer.getInt(tmpMoviPosition + tmpOffset + 4));
+                }
+            }
+            tmpIndex += 8 + tmpSize + (tmpSize % 2);
+        }
+        assertEquals(tmpBuffer.capacity(), tmpIndex);
+        assertEquals(aNumberOfFrames, tmpNumberOfFrameChunks);
+        assertEquals(aNumberOfFrames, tmpIndexEntries);
+    }
+
+    /**
+     * Decodes animated PNG file and asserts its properties and (lossless)
+     * frame content
+     *
+     * @param aMovieFile Movie file
+     * @param anExpectedFrames Expected frames
+     * @param aWidth Expected width
+     * @param aHeight Expected height
+     */
+    private void assertApng(File aMovieFile, ArrayList<int[]> anExpectedFrames, int aWidth, int aHeight) throws Exception {
+        ByteBuffer tmpBuffer = ByteBuffer.wrap(Files.readAllBytes(aMovieFile.toPath()));
+        assertTrue(Arrays.equals(new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}, Arrays.copyOf(tmpBuffer.array(), 8)));
+        int tmpIndex = 8;
+        int tmpNumberOfFrameControls = 0;
+        int tmpExpectedSequenceNumber = 0;
+        ArrayList<int[]> tmpFrames = new ArrayList<>();
+        String tmpLastType = null;
+        while (tmpIndex < tmpBuffer.capacity()) {
+            int tmpLength = tmpBuffer.getInt(tmpIndex);
+            String tmpType = this.getFourCc(tmpBuffer, tmpIndex + 4);
+            CRC32 tmpCrc = new CRC32();
+            tmpCrc.update(tmpBuffer.array(), tmpIndex + 4, tmpLength + 4);
+            assertEquals(tmpType, (int) tmpCrc.getValue(), tmpBuffer.getInt(tmpIndex + 8 + tmpLength));
+            int tmpData = tmpIndex + 8;
+            switch (tmpType) {
+                case "IHDR":
+                    assertEquals(aWidth, tmpBuffer.getInt(tmpData));
+                    assertEquals(aHeight, tmpBuffer.getInt(tmpData + 4));
+                    break;
+                case "acTL":
+                    assertEquals(anExpectedFrames.size(), tmpBuffer.getInt(tmpData));
+                    break;
+                case "fcTL":
+                    assertEquals(tmpExpectedSequenceNumber++, tmpBuffer.getInt(tmpData));
+                    assertEquals(aWidth, tmpBuffer.getInt(tmpData + 4));
+                    assertEquals(aHeight, tmpBuffer.getInt(tmpData + 8));
+                    tmpNumberOfFrameControls++;
+                    break;
+                case "IDAT":
+                    tmpFrames.add(this.getUnfilteredPixels(tmpBuffer.array(), tmpData, tmpLength, aWidth, aHeight));
+                    break;
+                case "fdAT":
+                    assertEquals(tmpExpectedSequenceNumber++, tmpBuffer.getInt(tmpData));
+                    tmpFrames.add(this.getUnfilteredPixels(tmpBuffer.array(), tmpData + 4, tmpLength - 4, aWidth, aHeight));
+                    break;
+            }
+            tmpLastType = tmpType;
+            tmpIndex += 12 + tmpLength;
+        }
+        assertEquals("IEND", tmpLastType);
+        assertEquals(anExpectedFrames.size(), tmpNumberOfFrameControls);
+        assertEquals(anExpectedFrames.size(), tmpFrames.size());
+        for (int i = 0; i < tmpFrames.size(); i++) {
+            for (int j = 0; j < tmpFrames.get(i).length; j++) {
+                assertEquals(anExpectedFrames.get(i)[j] & 0xFFFFFF, tmpFrames.get(i)[j]);
+            }
+        }
+    }
+
+    /**
+     * Inflates and unfilters PNG image data (Sub filter only)
+     *
+     * @param aBytes Bytes
+     * @param anOffset Offset of compressed data
+     * @param aLength Length of compressed data
+     * @param aWidth Width
+     * @param aHeight Height
+     * @return RGB pixels
+     */
+    private int[] getUnfilteredPixels(byte[] aBytes, int anOffset, int aLength, int aWidth, int aHeight) throws Exception {
+        Inflater tmpInflater = new Inflater();
+        tmpInflater.setInput(aBytes, anOffset, aLength);
+        ByteArrayOutputStream tmpOutput = new ByteArrayOutputStream();
+        byte[] tmpBuffer = new byte[4096];
+        while (!tmpInflater.finished()) {
+            int tmpLength = tmpInflater.inflate(tmpBuffer);
+            assertFalse(tmpLength == 0 && tmpInflater.needsInput());
+            tmpOutput.write(tmpBuffer, 0, tmpLength);
+        }
+        tmpInflater.end();
+        byte[] tmpRaw = tmpOutput.toByteArray();
+        assertEquals(aHeight * (1 + 3 * aWidth), tmpRaw.length);
+        int[] tmpPixels = new int[aWidth * aHeight];
+        int tmpIndex = 0;
+        for (int i = 0; i < aHeight; i++) {
+            assertEquals(1, tmpRaw[tmpIndex++]);
+            int tmpRed = 0;
+            int tmpGreen = 0;
+            int tmpBlue = 0;
+            for (int j = 0; j < aWidth; j++) {
+                tmpRed = (tmpRed + tmpRaw[tmpIndex++]) & 0xFF;
+                tmpGreen = (tmpGreen + tmpRaw[tmpIndex++]) & 0xFF;
+                tmpBlue = (tmpBlue + tmpRaw[tmpIndex++]) & 0xFF;
+                tmpPixels[i * aWidth + j] = (tmpRed << 16) | (tmpGreen << 8) | tmpBlue;
+            }
+        }
+        return tmpPixels;
+    }
+
+    /**
+     * Returns four character code at index
+     *
+     * @param aBuffer Buffer
+     * @param anIndex Index
+     * @return Four character code
+     */
+    private String getFourCc(ByteBuffer aBuffer, int anIndex) {
+        return new String(aBuffer.array(), anIndex, 4, StandardCharsets.US_ASCII);
+    }
+    // </editor-fold>
+
+}
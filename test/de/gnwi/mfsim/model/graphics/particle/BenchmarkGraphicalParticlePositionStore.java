@@ -0,0 +1,74 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.particle;
+
+import de.gnwi.mfsim.model.util.BenchmarkUtils;
+import java.awt.Color;
+
+/**
+ * Reporting benchmark for GraphicalParticlePositionStore: Heap consumption 
+ * of store versus graphical particle position objects.
+ * NOTE: This is NOT part of the unit test suite (no Test prefix, no 
+ * assertions). It is started manually via main() and only prints its 
+ * measurements.
+ *
+ * @author Achim Zielesny
+ */
+public class BenchmarkGraphicalParticlePositionStore {
+
+    /**
+     * Main
+     *
+     * @param args Optional: Number of positions
+     */
+    public static void main(String[] args) {
+        int tmpNumberOfPositions = 500000;
+        if (args.length > 0) {
+            tmpNumberOfPositions = Integer.parseInt(args[0]);
+        }
+        GraphicalParticle[] tmpParticles = new GraphicalParticle[] {
+            new GraphicalParticle("A", "A", Color.RED, 1.0),
+            new GraphicalParticle("B", "B", Color.GREEN, 1.0),
+            new GraphicalParticle("C", "C", Color.BLUE, 1.0)
+        };
+
+        long tmpBaseline = BenchmarkUtils.getUsedMemory();
+        GraphicalParticlePosition[] tmpPositions = new GraphicalParticlePosition[tmpNumberOfPositions];
+        for (int i = 0; i < tmpNumberOfPositions; i++) {
+            tmpPositions[i] = new GraphicalParticlePosition(tmpParticles[i % 3], i * 0.001, i * 0.002, i * 0.003, i, i / 3);
+        }
+        long tmpObjectMemory = BenchmarkUtils.getUsedMemory() - tmpBaseline;
+
+        tmpBaseline = BenchmarkUtils.getUsedMemory();
+        GraphicalParticlePositionStore tmpStore = new GraphicalParticlePositionStore(tmpNumberOfPositions);
+        for (int i = 0; i < tmpNumberOfPositions; i++) {
+            tmpStore.add(tmpParticles[i % 3], i * 0.001, i * 0.002, i * 0.003, i, i / 3, false, false);
+        }
+        long tmpStoreMemory = BenchmarkUtils.getUsedMemory() - tmpBaseline;
+        System.out.println(
+            "GraphicalParticlePositionStore: " + tmpNumberOfPositions + " positions, " 
+            + "objects = " + BenchmarkUtils.getMemoryInMiB(tmpObjectMemory) + " (estimated " + BenchmarkUtils.getMemoryInMiB(tmpStore.getEstimatedObjectMemoryInBytes()) + "), " 
+            + "store = " + BenchmarkUtils.getMemoryInMiB(tmpStoreMemory) + " (estimated " + BenchmarkUtils.getMemoryInMiB(tmpStore.getEstimatedMemoryInBytes()) + ")"
+        );
+        // Keep objects reachable until measurement is finished
+        System.out.println("Number of positions: " + tmpPositions.length + " / " + tmpStore.getSize());
+    }
+
+}
@@ -0,0 +1,104 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.particle;
+
+import java.awt.Color;
+import java.util.HashMap;
+import junit.framework.TestCase;
+
+/**
+ * Test class for GraphicalParticleExclusionMask
+ *
+ * @author Achim Zielesny
+ */
+public class TestGraphicalParticleExclusionMask extends TestCase {
+
+    /**
+     * Test molecule, particle and molecule-particle exclusions
+     */
+    public void test_exclusions() {
+        // Molecules M1 (A, B) and M2 (A, C)
+        IGraphicalParticle[] tmpGraphicalParticles = new IGraphicalParticle[] {
+            this.getGraphicalParticle("M1", "A"),
+            this.getGraphicalParticle("M1", "B"),
+            this.getGraphicalParticle("M2", "A"),
+            this.getGraphicalParticle("M2", "C")
+        };
+        HashMap<String, String> tmpExcludedMoleculesTable = new HashMap<>();
+        HashMap<String, String> tmpExcludedParticlesTable = new HashMap<>();
+        HashMap<String, String> tmpExcludedMoleculeParticleStringTable = new HashMap<>();
+
+        // No exclusions
+        GraphicalParticleExclusionMask tmpMask = 
+            new GraphicalParticleExclusionMask(tmpGraphicalParticles, tmpExcludedMoleculesTable, tmpExcludedParticlesTable, tmpExcludedMoleculeParticleStringTable);
+        for (int i = 0; i < tmpGraphicalParticles.length; i++) {
+            assertFalse(tmpMask.isExcluded(i));
+            assertFalse(tmpMask.isMoleculeParticleExcluded(i));
+        }
+        // Type IDs
+        assertEquals(tmpMask.getMoleculeTypeId(0), tmpMask.getMoleculeTypeId(1));
+        assertTrue(tmpMask.getMoleculeTypeId(0) != tmpMask.getMoleculeTypeId(2));
+        assertEquals(tmpMask.getParticleTypeId(0), tmpMask.getParticleTypeId(2));
+        assertTrue(tmpMask.getParticleTypeId(1) != tmpMask.getParticleTypeId(3));
+
+        // Particle A is excluded in all molecules
+        tmpExcludedParticlesTable.put("A", "A");
+        tmpMask = new GraphicalParticleExclusionMask(tmpGraphicalParticles, tmpExcludedMoleculesTable, tmpExcludedParticlesTable, tmpExcludedMoleculeParticleStringTable);
+        assertTrue(tmpMask.isExcluded(0));
+        assertFalse(tmpMask.isExcluded(1));
+        assertTrue(tmpMask.isExcluded(2));
+        assertFalse(tmpMask.isExcluded(3));
+        assertFalse(tmpMask.isMoleculeParticleExcluded(0));
+        tmpExcludedParticlesTable.clear();
+
+        // Molecule M2 is excluded
+        tmpExcludedMoleculesTable.put("M2", "M2");
+        tmpMask = new GraphicalParticleExclusionMask(tmpGraphicalParticles, tmpExcludedMoleculesTable, tmpExcludedParticlesTable, tmpExcludedMoleculeParticleStringTable);
+        assertFalse(tmpMask.isExcluded(0));
+        assertFalse(tmpMask.isExcluded(1));
+        assertTrue(tmpMask.isExcluded(2));
+        assertTrue(tmpMask.isExcluded(3));
+        tmpExcludedMoleculesTable.clear();
+
+        // Only particle A of molecule M1 is excluded
+        tmpExcludedMoleculeParticleStringTable.put(((GraphicalParticle) tmpGraphicalParticles[0]).getMoleculeParticleString(), "");
+        tmpMask = new GraphicalParticleExclusionMask(tmpGraphicalParticles, tmpExcludedMoleculesTable, tmpExcludedParticlesTable, tmpExcludedMoleculeParticleStringTable);
+        assertTrue(tmpMask.isExcluded(0));
+        assertTrue(tmpMask.isMoleculeParticleExcluded(0));
+        assertFalse(tmpMask.isExcluded(1));
+        assertFalse(tmpMask.isExcluded(2));
+        assertFalse(tmpMask.isMoleculeParticleExcluded(2));
+        assertFalse(tmpMask.isExcluded(3));
+    }
+
+    /**
+     * Returns graphical particle
+     *
+     * @param aMoleculeName Molecule name
+     * @param aParticle Particle
+     * @return Graphical particle
+     */
+    private GraphicalParticle getGraphicalParticle(String aMoleculeName, String aParticle) {
+        GraphicalParticle tmpGraphicalParticle = new GraphicalParticle(aParticle, aParticle, Color.RED, 1.0);
+        tmpGraphicalParticle.setMoleculeName(aMoleculeName);
+        return tmpGraphicalParticle;
+    }
+
+}
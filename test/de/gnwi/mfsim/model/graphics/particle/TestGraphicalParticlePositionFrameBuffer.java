@@ -0,0 +1,122 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.particle;
+
+import de.gnwi.mfsim.model.graphics.BoxSizeInfo;
+import de.gnwi.mfsim.model.graphics.GraphicsUtilityMethods;
+import java.awt.Color;
+import java.util.stream.IntStream;
+import junit.framework.TestCase;
+
+/**
+ * Test class for GraphicalParticlePositionFrameBuffer
+ *
+ * @author Achim Zielesny
+ */
+public class TestGraphicalParticlePositionFrameBuffer extends TestCase {
+
+    /**
+     * Test that frames derived from buffer equal cloned and rotated positions
+     */
+    public void test_rotatedFrames() {
+        BoxSizeInfo tmpBoxSizeInfo = new BoxSizeInfo(0.0, 10.0, 0.0, 8.0, 0.0, 6.0);
+        GraphicalParticlePositionArrayList tmpGraphicalParticlePositionArrayList = this.getGraphicalParticlePositionArrayList(500);
+        GraphicalParticlePositionFrameBuffer tmpFrameBuffer = new GraphicalParticlePositionFrameBuffer(tmpGraphicalParticlePositionArrayList, tmpBoxSizeInfo);
+        assertEquals(500, tmpFrameBuffer.getSize());
+        GraphicsUtilityMethods tmpGraphicsUtilityMethods = new GraphicsUtilityMethods();
+        for (int i = 0; i < 36; i++) {
+            double tmpAngle = 10.0 * (double) i;
+            GraphicalParticlePositionArrayList tmpExpected = tmpGraphicalParticlePositionArrayList.getClone();
+            tmpGraphicsUtilityMethods.rotatePoints(tmpExpected, tmpAngle, 0.5 * tmpAngle, 0.0, tmpBoxSizeInfo.getBoxMidPoint());
+            GraphicalParticlePositionArrayList tmpFrame = tmpFrameBuffer.getRotatedGraphicalParticlePositionArrayList(tmpAngle, 0.5 * tmpAngle, 0.0);
+            this.assertEqualPositions(tmpExpected, tmpFrame);
+        }
+        // Buffered source positions are NOT changed
+        GraphicalParticlePositionArrayList tmpUnrotated = tmpFrameBuffer.getRotatedGraphicalParticlePositionArrayList(0.0, 0.0, 0.0);
+        this.assertEqualPositions(tmpGraphicalParticlePositionArrayList, tmpUnrotated);
+    }
+
+    /**
+     * Test that frames derived in parallel are independent of each other
+     */
+    public void test_parallelFrames() {
+        BoxSizeInfo tmpBoxSizeInfo = new BoxSizeInfo(0.0, 10.0, 0.0, 10.0, 0.0, 10.0);
+        GraphicalParticlePositionArrayList tmpGraphicalParticlePositionArrayList = this.getGraphicalParticlePositionArrayList(1000);
+        GraphicalParticlePositionFrameBuffer tmpFrameBuffer = new GraphicalParticlePositionFrameBuffer(tmpGraphicalParticlePositionArrayList, tmpBoxSizeInfo);
+        GraphicalParticlePositionArrayList[] tmpFrames = new GraphicalParticlePositionArrayList[72];
+        IntStream.range(0, tmpFrames.length).parallel().forEach(i -> 
+            tmpFrames[i] = tmpFrameBuffer.getRotatedGraphicalParticlePositionArrayList(0.0, 0.0, 5.0 * (double) i)
+        );
+        GraphicsUtilityMethods tmpGraphicsUtilityMethods = new GraphicsUtilityMethods();
+        for (int i = 0; i < tmpFrames.length; i++) {
+            GraphicalParticlePositionArrayList tmpExpected = tmpGraphicalParticlePositionArrayList.getClone();
+            tmpGraphicsUtilityMethods.rotatePoints(tmpExpected, 0.0, 0.0, 5.0 * (double) i, tmpBoxSizeInfo.getBoxMidPoint());
+            this.assertEqualPositions(tmpExpected, tmpFrames[i]);
+        }
+        // Frames do NOT share position instances
+        tmpFrames[0].getGraphicalParticlePositions()[0].setX(-1.0);
+        assertFalse(tmpFrames[1].getGraphicalParticlePositions()[0].getX() == -1.0);
+        assertFalse(tmpFrameBuffer.getRotatedGraphicalParticlePositionArrayList(0.0, 0.0, 0.0).getGraphicalParticlePositions()[0].getX() == -1.0);
+    }
+
+    /**
+     * Returns graphical particle position array list with specified size
+     * 
+     * @param aSize Size
+     * @return Graphical particle position array list
+     */
+    private GraphicalParticlePositionArrayList getGraphicalParticlePositionArrayList(int aSize) {
+        GraphicalParticle tmpParticleA = new GraphicalParticle("A", "A", Color.RED, 1.0);
+        GraphicalParticle tmpParticleB = new GraphicalParticle("B", "B", Color.BLUE, 1.5);
+        GraphicalParticlePositionArrayList tmpGraphicalParticlePositionArrayList = new GraphicalParticlePositionArrayList(64);
+        for (int i = 0; i < aSize; i++) {
+            tmpGraphicalParticlePositionArrayList.add(
+                i % 3 == 0 ? tmpParticleA : tmpParticleB, 
+                (i * 0.37) % 10.0, 
+                (i * 0.53) % 8.0, 
+                (i * 0.71) % 6.0, 
+                i, 
+                i / 4
+            );
+        }
+        return tmpGraphicalParticlePositionArrayList;
+    }
+
+    /**
+     * Asserts equal graphical particle positions
+     * 
+     * @param anExpected Expected positions
+     * @param anActual Actual positions
+     */
+    private void assertEqualPositions(GraphicalParticlePositionArrayList anExpected, GraphicalParticlePositionArrayList anActual) {
+        assertEquals(anExpected.getSize(), anActual.getSize());
+        GraphicalParticlePosition[] tmpExpectedPositions = anExpected.getGraphicalParticlePositions();
+        GraphicalParticlePosition[] tmpActualPositions = anActual.getGraphicalParticlePositions();
+        for (int i = 0; i < anExpected.getSize(); i++) {
+            assertSame(tmpExpectedPositions[i].getGraphicalParticle(), tmpActualPositions[i].getGraphicalParticle());
+            assertEquals(tmpExpectedPositions[i].getX(), tmpActualPositions[i].getX(), 0.0);
+            assertEquals(tmpExpectedPositions[i].getY(), tmpActualPositions[i].getY(), 0.0);
+            assertEquals(tmpExpectedPositions[i].getZ(), tmpActualPositions[i].getZ(), 0.0);
+            assertEquals(tmpExpectedPositions[i].getParticleIndex(), tmpActualPositions[i].getParticleIndex());
+            assertEquals(tmpExpectedPositions[i].getMoleculeIndex(), tmpActualPositions[i].getMoleculeIndex());
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.particle;
+
+import java.awt.Color;
+import junit.framework.TestCase;
+
+/**
+ * Test class for GraphicalParticlePositionStore
+ *
+ * @author Achim Zielesny
+ */
+public class TestGraphicalParticlePositionStore extends TestCase {
+
+    /**
+     * Test round trip from and to graphical particle position objects
+     */
+    public void test_roundTrip() {
+        GraphicalParticle tmpParticleA = new GraphicalParticle("A", "A", Color.RED, 1.0);
+        GraphicalParticle tmpParticleB = new GraphicalParticle("B", "B", Color.BLUE, 1.5);
+        GraphicalParticlePosition[] tmpPositions = new GraphicalParticlePosition[100];
+        for (int i = 0; i < tmpPositions.length; i++) {
+            tmpPositions[i] = new GraphicalParticlePosition(i % 3 == 0 ? tmpParticleA : tmpParticleB, i * 0.5, i * 0.25, i * 0.125, i, i / 4);
+            tmpPositions[i].setInBulk(i % 2 == 0);
+        }
+        GraphicalParticlePositionStore tmpStore = GraphicalParticlePositionStore.fromGraphicalParticlePositions(tmpPositions);
+        assertEquals(100, tmpStore.getSize());
+        assertEquals(2, tmpStore.getNumberOfGraphicalParticles());
+        GraphicalParticlePosition[] tmpRestoredPositions = tmpStore.getGraphicalParticlePositions();
+        for (int i = 0; i < tmpPositions.length; i++) {
+            assertSame(tmpPositions[i].getGraphicalParticle(), tmpRestoredPositions[i].getGraphicalParticle());
+            assertEquals(tmpPositions[i].getX(), tmpRestoredPositions[i].getX(), 0.0);
+            assertEquals(tmpPositions[i].getY(), tmpRestoredPositions[i].getY(), 0.0);
+            assertEquals(tmpPositions[i].getZ(), tmpRestoredPositions[i].getZ(), 0.0);
+            assertEquals(tmpPositions[i].getParticleIndex(), tmpRestoredPositions[i].getParticleIndex());
+            assertEquals(tmpPositions[i].getMoleculeIndex(), tmpRestoredPositions[i].getMoleculeIndex());
+            assertEquals(tmpPositions[i].isInBulk(), tmpRestoredPositions[i].isInBulk());
+            assertEquals(tmpPositions[i].isInBulk(), tmpStore.isInBulk(i));
+        }
+    }
+
+    /**
+     * Test view write-through, set beyond size and clone independence
+     */
+    public void test_viewSetAndClone() {
+        GraphicalParticle tmpParticleA = new GraphicalParticle("A", "A", Color.RED, 1.0);
+        GraphicalParticle tmpParticleB = new GraphicalParticle("B", "B", Color.BLUE, 1.5);
+        GraphicalParticlePositionStore tmpStore = new GraphicalParticlePositionStore(2);
+        tmpStore.set(9, tmpParticleA, 1.0, 2.0, 3.0, 9, 4, true, false);
+        assertEquals(10, tmpStore.getSize());
+        assertNull(tmpStore.getGraphicalParticle(0));
+        assertSame(tmpParticleA, tmpStore.getGraphicalParticle(9));
+        assertTrue(tmpStore.isInBulk(9));
+        assertFalse(tmpStore.isInFrame(9));
+
+        GraphicalParticlePositionView tmpView = tmpStore.getView().setIndex(9);
+        assertEquals(2.0, tmpView.getY(), 0.0);
+        tmpView.addX(0.5);
+        tmpView.setGraphicalParticle(tmpParticleB);
+        assertEquals(1.5, tmpStore.getX(9), 0.0);
+        assertSame(tmpParticleB, tmpStore.getGraphicalParticle(9));
+        assertEquals(4, tmpView.getMoleculeIndex());
+
+        GraphicalParticlePositionStore tmpClone = tmpStore.getClone();
+        tmpStore.setZ(9, 7.0);
+        tmpStore.setInBulk(9, false);
+        assertEquals(3.0, tmpClone.getZ(9), 0.0);
+        assertTrue(tmpClone.isInBulk(9));
+        assertSame(tmpParticleB, tmpClone.getGraphicalParticle(9));
+    }
+
+    /**
+     * Test deterministic footprint of store: Column capacity, graphical 
+     * particle table and estimated memory
+     */
+    public void test_footprint() {
+        int tmpNumberOfPositions = 500000;
+        GraphicalParticle[] tmpParticles = new GraphicalParticle[] {
+            new GraphicalParticle("A", "A", Color.RED, 1.0),
+            new GraphicalParticle("B", "B", Color.GREEN, 1.0),
+            new GraphicalParticle("C", "C", Color.BLUE, 1.0)
+        };
+        // Presized store does not grow
+        GraphicalParticlePositionStore tmpStore = new GraphicalParticlePositionStore(tmpNumberOfPositions);
+        for (int i = 0; i < tmpNumberOfPositions; i++) {
+            tmpStore.add(tmpParticles[i % 3], i * 0.001, i * 0.002, i * 0.003, i, i / 3, false, false);
+        }
+        assertEquals(tmpNumberOfPositions, tmpStore.getSize());
+        assertEquals(tmpNumberOfPositions, tmpStore.getCapacity());
+        // Graphical particles are stored once in table
+        assertEquals(3, tmpStore.getNumberOfGraphicalParticles());
+        for (int i = 0; i < tmpParticles.length; i++) {
+            assertSame(tmpParticles[i], tmpStore.getGraphicalParticles()[i]);
+        }
+        // 3 doubles, 3 ints and 1 byte per position
+        assertEquals(37L * tmpNumberOfPositions, tmpStore.getEstimatedMemoryInBytes());
+        assertTrue(2 * tmpStore.getEstimatedMemoryInBytes() < tmpStore.getEstimatedObjectMemoryInBytes());
+
+        // Growing store: Minimum capacity and growth by factor 1.5
+        GraphicalParticlePositionStore tmpGrowingStore = new GraphicalParticlePositionStore(0);
+        assertEquals(16, tmpGrowingStore.getCapacity());
+        for (int i = 0; i < 17; i++) {
+            tmpGrowingStore.add(tmpParticles[0], 0.0, 0.0, 0.0, i, i, false, false);
+        }
+        assertEquals(24, tmpGrowingStore.getCapacity());
+        // Reset keeps capacity and clears graphical particle table
+        tmpGrowingStore.reset();
+        assertEquals(0, tmpGrowingStore.getSize());
+        assertEquals(24, tmpGrowingStore.getCapacity());
+        assertEquals(0, tmpGrowingStore.getNumberOfGraphicalParticles());
+    }
+
+}
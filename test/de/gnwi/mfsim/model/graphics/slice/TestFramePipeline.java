@@ -0,0 +1,164 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.graphics.slice;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.TestCase;
+
+/**
+ * Test class for FramePipeline
+ *
+ * @author Achim Zielesny
+ */
+public class TestFramePipeline extends TestCase {
+
+    /**
+     * Test that all frames pass all stages with multiple threads per stage
+     * and that discarded frames do not reach the next stage
+     */
+    public void test_process() throws Exception {
+        int tmpNumberOfFrames = 500;
+        ConcurrentHashMap<Integer, Integer> tmpResultMap = new ConcurrentHashMap<>();
+        FramePipeline tmpFramePipeline = new FramePipeline("TestPipeline", 2);
+        tmpFramePipeline.addStage("Square", 3, (aFrameIndex, aFrame) -> (Integer) aFrame * (Integer) aFrame);
+        tmpFramePipeline.addStage("Filter", 1, (aFrameIndex, aFrame) -> aFrameIndex % 5 == 0 ? null : aFrame);
+        tmpFramePipeline.addStage("Collect", 2, (aFrameIndex, aFrame) -> {
+            assertNull(tmpResultMap.put(aFrameIndex, (Integer) aFrame));
+            return aFrame;
+        });
+        long tmpNumberOfPassedFrames = tmpFramePipeline.process(this.getFrames(tmpNumberOfFrames).iterator());
+        assertEquals(tmpNumberOfFrames - tmpNumberOfFrames / 5, tmpNumberOfPassedFrames);
+        assertEquals(tmpNumberOfFrames - tmpNumberOfFrames / 5, tmpResultMap.size());
+        for (int i = 0; i < tmpNumberOfFrames; i++) {
+            if (i % 5 == 0) {
+                assertFalse(tmpResultMap.containsKey(i));
+            } else {
+                assertEquals(i * i, tmpResultMap.get(i).intValue());
+            }
+        }
+        FramePipelineStageStatistics[] tmpStageStatistics = tmpFramePipeline.getStageStatistics();
+        assertEquals(3, tmpStageStatistics.length);
+        assertEquals(tmpNumberOfFrames, tmpStageStatistics[0].getNumberOfFrames());
+        assertEquals(0, tmpStageStatistics[0].getNumberOfDiscardedFrames());
+        assertEquals(tmpNumberOfFrames, tmpStageStatistics[1].getNumberOfFrames());
+        assertEquals(tmpNumberOfFrames / 5, tmpStageStatistics[1].getNumberOfDiscardedFrames());
+        assertEquals(tmpNumberOfFrames - tmpNumberOfFrames / 5, tmpStageStatistics[2].getNumberOfFrames());
+        String tmpReport = tmpFramePipeline.getThroughputReport();
+        assertTrue(tmpReport.contains("Square"));
+        assertTrue(tmpReport.contains("Filter"));
+        assertTrue(tmpReport.contains("Collect"));
+        assertTrue(tmpReport.contains("Bottleneck"));
+    }
+
+    /**
+     * Test back-pressure: A slow last stage limits the number of frames in
+     * the pipeline to the capacity of queues and threads
+     */
+    public void test_backPressure() throws Exception {
+        int tmpQueueCapacity = 2;
+        AtomicInteger tmpNumberOfFramesInPipeline = new AtomicInteger(0);
+        AtomicInteger tmpMaximumNumberOfFramesInPipeline = new AtomicInteger(0);
+        FramePipeline tmpFramePipeline = new FramePipeline("TestPipeline", tmpQueueCapacity);
+        tmpFramePipeline.addStage("Fast", 2, (aFrameIndex, aFrame) -> {
+            tmpMaximumNumberOfFramesInPipeline.accumulateAndGet(tmpNumberOfFramesInPipeline.incrementAndGet(), Math::max);
+            return aFrame;
+        });
+        tmpFramePipeline.addStage("Slow", 1, (aFrameIndex, aFrame) -> {
+            Thread.sleep(2);
+            tmpNumberOfFramesInPipeline.decrementAndGet();
+            return aFrame;
+        });
+        assertEquals(100L, tmpFramePipeline.process(this.getFrames(100).iterator()));
+        // Frames between stage "Fast" and end of stage "Slow": Threads of 
+        // stage "Fast" + queue of stage "Slow" + thread of stage "Slow"
+        assertTrue(tmpMaximumNumberOfFramesInPipeline.get() <= 2 + tmpQueueCapacity + 1);
+        FramePipelineStageStatistics[] tmpStageStatistics = tmpFramePipeline.getStageStatistics();
+        // Stage "Fast" is blocked by stage "Slow"
+        assertTrue(tmpStageStatistics[0].getOutputWaitTimeInNanoseconds() > 0L);
+        assertTrue(tmpStageStatistics[0].getFramesPerSecond() > tmpStageStatistics[1].getFramesPerSecond());
+        assertTrue(tmpFramePipeline.getThroughputReport().endsWith("Bottleneck: Slow"));
+    }
+
+    /**
+     * Test that first exception of a stage stops pipeline and is thrown
+     */
+    public void test_exception() {
+        AtomicInteger tmpNumberOfLastStageFrames = new AtomicInteger(0);
+        FramePipeline tmpFramePipeline = new FramePipeline("TestPipeline", 1);
+        tmpFramePipeline.addStage("Fail", 2, (aFrameIndex, aFrame) -> {
+            if (aFrameIndex == 10) {
+                throw new IllegalStateException("Frame 10");
+            }
+            return aFrame;
+        });
+        tmpFramePipeline.addStage("Count", 1, (aFrameIndex, aFrame) -> {
+            tmpNumberOfLastStageFrames.incrementAndGet();
+            return aFrame;
+        });
+        try {
+            tmpFramePipeline.process(this.getFrames(100000).iterator());
+            fail("Exception expected.");
+        } catch (Exception anException) {
+            assertTrue(anException instanceof IllegalStateException);
+            assertEquals("Frame 10", anException.getMessage());
+        }
+        assertTrue(tmpFramePipeline.isStopped());
+        assertTrue(tmpNumberOfLastStageFrames.get() < 100000);
+    }
+
+    /**
+     * Test stop of pipeline by a stage
+     */
+    public void test_stop() throws Exception {
+        FramePipeline tmpFramePipeline = new FramePipeline("TestPipeline", 1);
+        tmpFramePipeline.addStage("Stop", 1, (aFrameIndex, aFrame) -> {
+            if (aFrameIndex == 5) {
+                tmpFramePipeline.stop();
+            }
+            return aFrame;
+        });
+        tmpFramePipeline.addStage("Pass", 1, (aFrameIndex, aFrame) -> aFrame);
+        long tmpNumberOfPassedFrames = tmpFramePipeline.process(this.getFrames(100000).iterator());
+        assertTrue(tmpNumberOfPassedFrames <= 6L);
+        try {
+            tmpFramePipeline.process(this.getFrames(1).iterator());
+            fail("IllegalStateException expected.");
+        } catch (IllegalStateException anException) {
+            // Expected: Pipeline can only be processed once
+        }
+    }
+
+    /**
+     * Returns frames
+     *
+     * @param aNumberOfFrames Number of frames
+     * @return Frames
+     */
+    private ArrayList<Integer> getFrames(int aNumberOfFrames) {
+        ArrayList<Integer> tmpFrames = new ArrayList<>(aNumberOfFrames);
+        for (int i = 0; i < aNumberOfFrames; i++) {
+            tmpFrames.add(i);
+        }
+        return tmpFrames;
+    }
+
+}
@@ -0,0 +1,76 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.util.BenchmarkUtils;
+import de.gnwi.mfsim.model.valueItem.ValueItem;
+import de.gnwi.mfsim.model.valueItem.ValueItemContainer;
+import java.io.FileNotFoundException;
+
+/**
+ * Reporting benchmark for opening a Job Result: Time and heap memory of 
+ * the result value item container with lazy progress matrices before and 
+ * after all lazy matrices are loaded.
+ * NOTE: This is NOT part of the unit test suite (no Test prefix, no 
+ * assertions). It is started manually via main() with the path of a 
+ * (large) Job Result directory and only prints its measurements.
+ *
+ * @author Achim Zielesny
+ */
+public class BenchmarkJobResultOpen {
+
+    /**
+     * Main
+     *
+     * @param args Full path of Job Result directory
+     * @throws FileNotFoundException Thrown if Job Result is not found
+     */
+    public static void main(String[] args) throws FileNotFoundException {
+        if (args.length == 0) {
+            System.out.println("Usage: BenchmarkJobResultOpen <Job Result directory>");
+            return;
+        }
+        long tmpBaseline = BenchmarkUtils.getUsedMemory();
+        long tmpStart = System.nanoTime();
+        JobResult tmpJobResult = new JobResult(args[0]);
+        ValueItemContainer tmpValueItemContainer = tmpJobResult.getResultValueItemContainerForJobResult(false);
+        long tmpOpenTime = System.nanoTime() - tmpStart;
+        long tmpOpenMemory = BenchmarkUtils.getUsedMemory() - tmpBaseline;
+
+        int tmpNumberOfLazyMatrices = 0;
+        tmpStart = System.nanoTime();
+        for (ValueItem tmpValueItem : tmpValueItemContainer.getValueItemsOfContainer()) {
+            if (tmpValueItem.isLazyMatrix() && tmpValueItem.getMatrixRowCount() > 0) {
+                tmpValueItem.getValue(0, 0);
+                tmpNumberOfLazyMatrices++;
+            }
+        }
+        long tmpLoadTime = System.nanoTime() - tmpStart;
+        long tmpLoadMemory = BenchmarkUtils.getUsedMemory() - tmpBaseline;
+        System.out.println(
+            "JobResult open: " + tmpValueItemContainer.getValueItemsOfContainer().length + " value items, " 
+            + "open = " + tmpOpenTime / 1000000L + " ms / " + BenchmarkUtils.getMemoryInMiB(tmpOpenMemory) + ", "
+            + "load of " + tmpNumberOfLazyMatrices + " lazy matrices = " + tmpLoadTime / 1000000L + " ms / " + BenchmarkUtils.getMemoryInMiB(tmpLoadMemory)
+        );
+        // Keep value item container reachable until measurement is finished
+        tmpValueItemContainer.getValueItemsOfContainer();
+    }
+
+}
@@ -0,0 +1,339 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.spices.PointInSpace;
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Test class for DistanceDistributionUtils: Cell list implementation is
+ * compared bin-for-bin with all-pairs implementation
+ *
+ * @author Achim Zielesny
+ */
+public class TestDistanceDistributionUtils extends TestCase {
+
+    /**
+     * Segment length (see ModelDefinitions.RDF_BASIC_SEGMENT_LENGTH)
+     */
+    private static final double SEGMENT_LENGTH = 0.05;
+
+    /**
+     * Test with random particle positions in different boxes
+     */
+    public void test_randomConfigurations() {
+        Random tmpRandom = new Random(4711L);
+        double[][] tmpBoxLengths = new double[][] {
+            {10.0, 10.0, 10.0},
+            {30.0, 30.0, 5.0},
+            {7.5, 40.0, 12.25},
+            {3.0, 3.0, 3.0}
+        };
+        boolean[][] tmpPeriodicBoundaries = new boolean[][] {
+            {true, true, true},
+            {true, false, true},
+            {false, false, false}
+        };
+        int[] tmpNumbersOfParticles = new int[] {1, 2, 17, 500, 3000};
+        for (double[] tmpBoxLength : tmpBoxLengths) {
+            for (boolean[] tmpPeriodicBoundary : tmpPeriodicBoundaries) {
+                DistanceDistributionUtils tmpUtils = this.getDistanceDistributionUtils(tmpBoxLength, tmpPeriodicBoundary);
+                for (int tmpNumberOfParticles : tmpNumbersOfParticles) {
+                    PointInSpace[] tmpPositionsA = this.getRandomPositions(tmpRandom, tmpNumberOfParticles, tmpBoxLength);
+                    PointInSpace[] tmpPositionsB = this.getRandomPositions(tmpRandom, tmpNumberOfParticles / 2 + 1, tmpBoxLength);
+                    this.assertEqualParticlePair(tmpUtils, tmpBoxLength, tmpPeriodicBoundary, tmpPositionsA);
+                    this.assertDifferentParticlePair(tmpUtils, tmpBoxLength, tmpPeriodicBoundary, tmpPositionsA, tmpPositionsB);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test with particles on lattice (many distances on bin boundaries and
+     * on cut-off, coordinates on box boundaries)
+     */
+    public void test_latticeConfigurations() {
+        double[][] tmpBoxLengths = new double[][] {
+            {10.0, 10.0, 10.0},
+            {12.0, 6.0, 8.0}
+        };
+        boolean[][] tmpPeriodicBoundaries = new boolean[][] {
+            {true, true, true},
+            {false, true, false}
+        };
+        double[] tmpLatticeConstants = new double[] {1.0, 0.5};
+        for (double[] tmpBoxLength : tmpBoxLengths) {
+            for (boolean[] tmpPeriodicBoundary : tmpPeriodicBoundaries) {
+                DistanceDistributionUtils tmpUtils = this.getDistanceDistributionUtils(tmpBoxLength, tmpPeriodicBoundary);
+                for (double tmpLatticeConstant : tmpLatticeConstants) {
+                    // Lattice includes coordinates 0 and box length
+                    PointInSpace[] tmpPositionsA = this.getLatticePositions(tmpLatticeConstant, tmpBoxLength, 0.0);
+                    PointInSpace[] tmpPositionsB = this.getLatticePositions(tmpLatticeConstant, tmpBoxLength, 0.5 * tmpLatticeConstant);
+                    this.assertEqualParticlePair(tmpUtils, tmpBoxLength, tmpPeriodicBoundary, tmpPositionsA);
+                    this.assertDifferentParticlePair(tmpUtils, tmpBoxLength, tmpPeriodicBoundary, tmpPositionsA, tmpPositionsB);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test with particle positions outside simulation box
+     */
+    public void test_positionsOutsideBox() {
+        Random tmpRandom = new Random(42L);
+        double[] tmpBoxLength = new double[] {10.0, 10.0, 10.0};
+        boolean[] tmpPeriodicBoundary = new boolean[] {true, true, true};
+        DistanceDistributionUtils tmpUtils = this.getDistanceDistributionUtils(tmpBoxLength, tmpPeriodicBoundary);
+        PointInSpace[] tmpPositionsA = this.getRandomPositions(tmpRandom, 1000, tmpBoxLength);
+        PointInSpace[] tmpPositionsB = this.getRandomPositions(tmpRandom, 1000, tmpBoxLength);
+        tmpPositionsA[10].setX(-0.5);
+        tmpPositionsA[20].setZ(10.7);
+        tmpPositionsB[30].setY(11.0);
+        this.assertEqualParticlePair(tmpUtils, tmpBoxLength, tmpPeriodicBoundary, tmpPositionsA);
+        this.assertDifferentParticlePair(tmpUtils, tmpBoxLength, tmpPeriodicBoundary, tmpPositionsA, tmpPositionsB);
+    }
+
+    /**
+     * Test of checks
+     */
+    public void test_checks() {
+        DistanceDistributionUtils tmpUtils = this.getDistanceDistributionUtils(new double[] {10.0, 10.0, 10.0}, new boolean[] {true, true, true});
+        assertNull(tmpUtils.getEqualParticlePairDistanceBinFrequencies((PointInSpace[]) null));
+        assertNull(tmpUtils.getEqualParticlePairDistanceBinFrequencies(new PointInSpace[0]));
+        assertNull(tmpUtils.getEqualParticlePairDistanceBinFrequencies(new double[2], new double[2], new double[1]));
+        assertNull(tmpUtils.getDifferentParticlePairDistanceBinFrequencies(new PointInSpace[0], new PointInSpace[] {new PointInSpace(1.0, 1.0, 1.0)}));
+        assertNull(tmpUtils.getDifferentParticlePairDistanceBinFrequencies(new double[1], new double[1], new double[1], null, null, null));
+    }
+
+    /**
+     * Asserts bin-for-bin identity of cell list and all-pairs implementation
+     * for equal particle-pair
+     *
+     * @param aUtils DistanceDistributionUtils instance
+     * @param aBoxLength Box lengths in x, y and z-direction
+     * @param anIsPeriodicBoundary Periodic boundaries in x, y and z-direction
+     * @param aPositions Positions
+     */
+    private void assertEqualParticlePair(DistanceDistributionUtils aUtils, double[] aBoxLength, boolean[] anIsPeriodicBoundary, PointInSpace[] aPositions) {
+        double[] tmpExpected = this.getEqualParticlePairDistanceBinFrequencies_AllPairs(aBoxLength, anIsPeriodicBoundary, aPositions);
+        double[] tmpActual = aUtils.getEqualParticlePairDistanceBinFrequencies(aPositions);
+        assertTrue(Arrays.equals(tmpExpected, tmpActual));
+    }
+
+    /**
+     * Asserts bin-for-bin identity of cell list and all-pairs implementation
+     * for different particle-pair
+     *
+     * @param aUtils DistanceDistributionUtils instance
+     * @param aBoxLength Box lengths in x, y and z-direction
+     * @param anIsPeriodicBoundary Periodic boundaries in x, y and z-direction
+     * @param aPositionsA Positions A
+     * @param aPositionsB Positions B
+     */
+    private void assertDifferentParticlePair(DistanceDistributionUtils aUtils, double[] aBoxLength, boolean[] anIsPeriodicBoundary, PointInSpace[] aPositionsA, PointInSpace[] aPositionsB) {
+        double[] tmpExpected = this.getDifferentParticlePairDistanceBinFrequencies_AllPairs(aBoxLength, anIsPeriodicBoundary, aPositionsA, aPositionsB);
+        double[] tmpActual = aUtils.getDifferentParticlePairDistanceBinFrequencies(aPositionsA, aPositionsB);
+        assertTrue(Arrays.equals(tmpExpected, tmpActual));
+    }
+
+    /**
+     * Returns the frequencies of the distance bins between equal particle-pair
+     * A-A by evaluation of all particle pairs (reference implementation)
+     *
+     * @param aBoxLength Box lengths in x, y and z-direction
+     * @param anIsPeriodicBoundary Periodic boundaries in x, y and z-direction
+     * @param aParticlePositions Positions of particles A
+     * @return Frequencies of distance bins on average
+     */
+    private double[] getEqualParticlePairDistanceBinFrequencies_AllPairs(double[] aBoxLength, boolean[] anIsPeriodicBoundary, PointInSpace[] aParticlePositions) {
+        double tmpMinimumHalfBoxLength = this.getMinimumHalfBoxLength(aBoxLength);
+        // NOTE: Use long type for integer arithmetics to avoid possible overflow to NEGATIVE (!) minimum value Integer.MIN_VALUE!
+        long[] tmpAccumulatedFrequencies = new long[0];
+        for (int k = 0; k < aParticlePositions.length; k++) {
+            for (int l = k + 1; l < aParticlePositions.length; l++) {
+                double tmpDistance = this.calculateDistance(aBoxLength, anIsPeriodicBoundary, aParticlePositions[k], aParticlePositions[l]);
+                if (tmpDistance <= tmpMinimumHalfBoxLength) {
+                    int tmpBinIndex = (int) (tmpDistance / TestDistanceDistributionUtils.SEGMENT_LENGTH);
+                    if (tmpBinIndex + 1 > tmpAccumulatedFrequencies.length) {
+                        tmpAccumulatedFrequencies = Arrays.copyOf(tmpAccumulatedFrequencies, tmpBinIndex + 1);
+                    }
+                    tmpAccumulatedFrequencies[tmpBinIndex] += 2;
+                }
+            }
+        }
+        return this.getAveragedFrequencies(tmpAccumulatedFrequencies, aParticlePositions.length);
+    }
+
+    /**
+     * Returns the frequencies of the distance bins between different
+     * particle-pair A-B by evaluation of all particle pairs (reference 
+     * implementation)
+     *
+     * @param aBoxLength Box lengths in x, y and z-direction
+     * @param anIsPeriodicBoundary Periodic boundaries in x, y and z-direction
+     * @param aParticlePositionsA Positions of particles A
+     * @param aParticlePositionsB Positions of particles B
+     * @return Frequencies of distance bins on average
+     */
+    private double[] getDifferentParticlePairDistanceBinFrequencies_AllPairs(double[] aBoxLength, boolean[] anIsPeriodicBoundary, PointInSpace[] aParticlePositionsA, PointInSpace[] aParticlePositionsB) {
+        double tmpMinimumHalfBoxLength = this.getMinimumHalfBoxLength(aBoxLength);
+        // NOTE: Use long type for integer arithmetics to avoid possible overflow to NEGATIVE (!) minimum value Integer.MIN_VALUE!
+        long[] tmpAccumulatedFrequencies = new long[0];
+        for (int k = 0; k < aParticlePositionsA.length; k++) {
+            for (int l = 0; l < aParticlePositionsB.length; l++) {
+                double tmpDistance = this.calculateDistance(aBoxLength, anIsPeriodicBoundary, aParticlePositionsA[k], aParticlePositionsB[l]);
+                if (tmpDistance <= tmpMinimumHalfBoxLength) {
+                    int tmpBinIndex = (int) (tmpDistance / TestDistanceDistributionUtils.SEGMENT_LENGTH);
+                    if (tmpBinIndex + 1 > tmpAccumulatedFrequencies.length) {
+                        tmpAccumulatedFrequencies = Arrays.copyOf(tmpAccumulatedFrequencies, tmpBinIndex + 1);
+                    }
+                    tmpAccumulatedFrequencies[tmpBinIndex]++;
+                }
+            }
+        }
+        return this.getAveragedFrequencies(tmpAccumulatedFrequencies, aParticlePositionsA.length);
+    }
+
+    /**
+     * Returns minimum half box length
+     *
+     * @param aBoxLength Box lengths in x, y and z-direction
+     * @return Minimum half box length
+     */
+    private double getMinimumHalfBoxLength(double[] aBoxLength) {
+        return Math.min(0.5 * aBoxLength[0], Math.min(0.5 * aBoxLength[1], 0.5 * aBoxLength[2]));
+    }
+
+    /**
+     * Returns averaged frequencies
+     *
+     * @param anAccumulatedFrequencies Accumulated frequencies
+     * @param aNumberOfAccumulations Number of accumulations
+     * @return Averaged frequencies
+     */
+    private double[] getAveragedFrequencies(long[] anAccumulatedFrequencies, long aNumberOfAccumulations) {
+        double[] tmpAveragedFrequencies = new double[anAccumulatedFrequencies.length];
+        for (int i = 0; i < anAccumulatedFrequencies.length; i++) {
+            tmpAveragedFrequencies[i] = (double) anAccumulatedFrequencies[i] / (double) aNumberOfAccumulations;
+        }
+        return tmpAveragedFrequencies;
+    }
+
+    /**
+     * Calculates the distance between two particles with minimum image 
+     * convention in periodic directions
+     *
+     * @param aBoxLength Box lengths in x, y and z-direction
+     * @param anIsPeriodicBoundary Periodic boundaries in x, y and z-direction
+     * @param aParticlePosition Position of particle
+     * @param anotherParticlePosition Position of another particle
+     * @return Distance
+     */
+    private double calculateDistance(double[] aBoxLength, boolean[] anIsPeriodicBoundary, PointInSpace aParticlePosition, PointInSpace anotherParticlePosition) {
+        double[] tmpDelta = new double[] {
+            aParticlePosition.getX() - anotherParticlePosition.getX(),
+            aParticlePosition.getY() - anotherParticlePosition.getY(),
+            aParticlePosition.getZ() - anotherParticlePosition.getZ()
+        };
+        for (int i = 0; i < 3; i++) {
+            if (anIsPeriodicBoundary[i]) {
+                double tmpHalfBoxLength = 0.5 * aBoxLength[i];
+                if (tmpDelta[i] > tmpHalfBoxLength) {
+                    tmpDelta[i] -= aBoxLength[i];
+                } else if (tmpDelta[i] < (-tmpHalfBoxLength)) {
+                    tmpDelta[i] += aBoxLength[i];
+                }
+            }
+        }
+        return Math.sqrt(tmpDelta[0] * tmpDelta[0] + tmpDelta[1] * tmpDelta[1] + tmpDelta[2] * tmpDelta[2]);
+    }
+
+    /**
+     * Returns DistanceDistributionUtils instance
+     *
+     * @param aBoxLength Box lengths in x, y and z-direction
+     * @param anIsPeriodicBoundary Periodic boundaries in x, y and z-direction
+     * @return DistanceDistributionUtils instance
+     */
+    private DistanceDistributionUtils getDistanceDistributionUtils(double[] aBoxLength, boolean[] anIsPeriodicBoundary) {
+        return new DistanceDistributionUtils(
+            TestDistanceDistributionUtils.SEGMENT_LENGTH,
+            aBoxLength[0],
+            aBoxLength[1],
+            aBoxLength[2],
+            anIsPeriodicBoundary[0],
+            anIsPeriodicBoundary[1],
+            anIsPeriodicBoundary[2]
+        );
+    }
+
+    /**
+     * Returns random positions in box
+     *
+     * @param aRandom Random number generator
+     * @param aNumberOfPositions Number of positions
+     * @param aBoxLength Box lengths in x, y and z-direction
+     * @return Random positions in box
+     */
+    private PointInSpace[] getRandomPositions(Random aRandom, int aNumberOfPositions, double[] aBoxLength) {
+        PointInSpace[] tmpPositions = new PointInSpace[aNumberOfPositions];
+        for (int i = 0; i < aNumberOfPositions; i++) {
+            tmpPositions[i] = 
+                new PointInSpace(
+                    aRandom.nextDouble() * aBoxLength[0], 
+                    aRandom.nextDouble() * aBoxLength[1], 
+                    aRandom.nextDouble() * aBoxLength[2]
+                );
+        }
+        return tmpPositions;
+    }
+
+    /**
+     * Returns lattice positions in box (including box boundaries)
+     *
+     * @param aLatticeConstant Lattice constant
+     * @param aBoxLength Box lengths in x, y and z-direction
+     * @param anOffset Offset of lattice
+     * @return Lattice positions in box
+     */
+    private PointInSpace[] getLatticePositions(double aLatticeConstant, double[] aBoxLength, double anOffset) {
+        int tmpNumberX = (int) Math.floor((aBoxLength[0] - anOffset) / aLatticeConstant) + 1;
+        int tmpNumberY = (int) Math.floor((aBoxLength[1] - anOffset) / aLatticeConstant) + 1;
+        int tmpNumberZ = (int) Math.floor((aBoxLength[2] - anOffset) / aLatticeConstant) + 1;
+        PointInSpace[] tmpPositions = new PointInSpace[tmpNumberX * tmpNumberY * tmpNumberZ];
+        int tmpIndex = 0;
+        for (int i = 0; i < tmpNumberX; i++) {
+            for (int j = 0; j < tmpNumberY; j++) {
+                for (int k = 0; k < tmpNumberZ; k++) {
+                    tmpPositions[tmpIndex++] = 
+                        new PointInSpace(
+                            anOffset + (double) i * aLatticeConstant, 
+                            anOffset + (double) j * aLatticeConstant, 
+                            anOffset + (double) k * aLatticeConstant
+                        );
+                }
+            }
+        }
+        return tmpPositions;
+    }
+
+}
@@ -0,0 +1,201 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.graphics.SpicesGraphics;
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.util.StringUtilityMethods;
+import de.gnwi.spices.PointInSpace;
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Test class for JdpdPositionsBondsWriter
+ *
+ * @author Achim Zielesny
+ */
+public class TestJdpdPositionsBondsWriter extends TestCase {
+
+    /**
+     * Molecular structure strings of test blocks
+     */
+    private final String[] molecularStructureStrings = new String[] {"A-B-C(D-E)-F", "A", "A-B-C"};
+
+    /**
+     * Number of molecules of test blocks
+     */
+    private final int[] numbersOfMolecules = new int[] {3000, 5000, 1};
+
+    /**
+     * Test streaming output against single Spices call for each block
+     */
+    public void test_streamingOutput() throws Exception {
+        File tmpFile = File.createTempFile("JdpdPositionsBonds", ".txt");
+        try {
+            PointInSpace[][][] tmpCoordinates = this.getCoordinates(4711L);
+            List<String> tmpExpectedLines = this.getExpectedLines(tmpCoordinates);
+            JdpdPositionsBondsWriter tmpWriter = new JdpdPositionsBondsWriter(tmpFile.getPath(), false, 4, 500, 3);
+            try {
+                this.addBlocks(tmpWriter, tmpCoordinates);
+                tmpWriter.finish();
+            } finally {
+                tmpWriter.close();
+            }
+            assertEquals(tmpExpectedLines, Files.readAllLines(tmpFile.toPath(), Charset.defaultCharset()));
+        } finally {
+            tmpFile.delete();
+        }
+    }
+
+    /**
+     * Test line list mode with single thread and post-processed line list
+     */
+    public void test_lineListMode() throws Exception {
+        File tmpFile = File.createTempFile("JdpdPositionsBonds", ".txt");
+        try {
+            PointInSpace[][][] tmpCoordinates = this.getCoordinates(13L);
+            List<String> tmpExpectedLines = this.getExpectedLines(tmpCoordinates);
+            JdpdPositionsBondsWriter tmpWriter = new JdpdPositionsBondsWriter(tmpFile.getPath(), true, 1, 64, 1);
+            try {
+                this.addBlocks(tmpWriter, tmpCoordinates);
+                LinkedList<String> tmpLineList = tmpWriter.getLineList();
+                assertEquals(tmpExpectedLines, tmpLineList);
+                LinkedList<String> tmpPostProcessedLineList = new LinkedList<>(tmpLineList);
+                tmpPostProcessedLineList.add(ModelDefinitions.JDPD_BACKBONE_BOND_NUMBER + "0");
+                tmpWriter.setLineList(tmpPostProcessedLineList);
+                tmpExpectedLines.add(ModelDefinitions.JDPD_BACKBONE_BOND_NUMBER + "0");
+                tmpWriter.finish();
+            } finally {
+                tmpWriter.close();
+            }
+            assertEquals(tmpExpectedLines, Files.readAllLines(tmpFile.toPath(), Charset.defaultCharset()));
+        } finally {
+            tmpFile.delete();
+        }
+    }
+
+    /**
+     * Test deletion of incomplete file
+     */
+    public void test_incompleteFileDeletion() throws Exception {
+        File tmpFile = File.createTempFile("JdpdPositionsBonds", ".txt");
+        JdpdPositionsBondsWriter tmpWriter = new JdpdPositionsBondsWriter(tmpFile.getPath(), false, 2, 100, 2);
+        tmpWriter.addLine("Header");
+        tmpWriter.close();
+        assertFalse(tmpFile.exists());
+        try {
+            new JdpdPositionsBondsWriter(tmpFile.getPath(), false, 0, 100, 2);
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException anException) {
+            // Expected
+        }
+    }
+
+    /**
+     * Returns random first/last particle coordinates of test blocks
+     *
+     * @param aSeed Seed
+     * @return Coordinates with index 0: Block, 1: First (0) or last (1), 2: Molecule
+     */
+    private PointInSpace[][][] getCoordinates(long aSeed) {
+        Random tmpRandom = new Random(aSeed);
+        PointInSpace[][][] tmpCoordinates = new PointInSpace[this.numbersOfMolecules.length][2][];
+        for (int i = 0; i < this.numbersOfMolecules.length; i++) {
+            for (int j = 0; j < 2; j++) {
+                tmpCoordinates[i][j] = new PointInSpace[this.numbersOfMolecules[i]];
+                for (int k = 0; k < this.numbersOfMolecules[i]; k++) {
+                    tmpCoordinates[i][j][k] = new PointInSpace(tmpRandom.nextDouble() * 20.0, tmpRandom.nextDouble() * 20.0, tmpRandom.nextDouble() * 20.0);
+                }
+            }
+        }
+        return tmpCoordinates;
+    }
+
+    /**
+     * Adds header lines and blocks to writer
+     *
+     * @param aWriter Writer
+     * @param aCoordinates Coordinates
+     */
+    private void addBlocks(JdpdPositionsBondsWriter aWriter, PointInSpace[][][] aCoordinates) throws Exception {
+        int tmpLineNumber = 1;
+        for (int i = 0; i < this.molecularStructureStrings.length; i++) {
+            aWriter.addLine("# Block " + String.valueOf(i));
+            int tmpNumberOfParticlesPerMolecule = new SpicesGraphics(this.molecularStructureStrings[i]).getTotalNumberOfParticles();
+            int tmpNumberOfLines = aWriter.addParticleBlock(
+                this.molecularStructureStrings[i], 
+                aCoordinates[i][0], 
+                aCoordinates[i][1], 
+                tmpLineNumber, 
+                0.5, 
+                tmpNumberOfParticlesPerMolecule
+            );
+            assertEquals(this.numbersOfMolecules[i] * tmpNumberOfParticlesPerMolecule, tmpNumberOfLines);
+            tmpLineNumber += tmpNumberOfLines;
+        }
+        aWriter.addLine("# End");
+    }
+
+    /**
+     * Returns expected lines (former implementation with single Spices call 
+     * for each block)
+     *
+     * @param aCoordinates Coordinates
+     * @return Expected lines
+     */
+    private List<String> getExpectedLines(PointInSpace[][][] aCoordinates) {
+        StringUtilityMethods tmpStringUtilityMethods = new StringUtilityMethods();
+        LinkedList<String> tmpLines = new LinkedList<>();
+        int tmpLineNumber = 1;
+        for (int i = 0; i < this.molecularStructureStrings.length; i++) {
+            tmpLines.add("# Block " + String.valueOf(i));
+            SpicesGraphics tmpSpices = new SpicesGraphics(this.molecularStructureStrings[i]);
+            int tmpNumberOfParticlesPerMolecule = tmpSpices.getTotalNumberOfParticles();
+            tmpSpices.setCoordinates(tmpLineNumber, aCoordinates[i][0], aCoordinates[i][1], 0.5);
+            String[][] tmpParticlePositionsAndConnections = tmpSpices.getParticlePositionsAndConnections();
+            int tmpParticleCounter = 0;
+            for (String[] tmpParticle : tmpParticlePositionsAndConnections) {
+                StringBuilder tmpBuffer = new StringBuilder();
+                tmpBuffer.append(tmpParticle[0]).append(" ").append(tmpParticle[1]).append(" ").append(tmpParticle[2]);
+                for (int k = 3; k < 6; k++) {
+                    tmpBuffer.append(" ").append(tmpStringUtilityMethods.formatDoubleValue(tmpParticle[k], ModelDefinitions.NUMBER_OF_DECIMALS_FOR_GRAPHICS_COORDINATES));
+                }
+                for (int k = 6; k < tmpParticle.length; k++) {
+                    tmpBuffer.append(" ").append(tmpParticle[k]);
+                }
+                tmpLines.add(tmpBuffer.toString());
+                tmpParticleCounter++;
+                if (tmpParticleCounter == tmpNumberOfParticlesPerMolecule) {
+                    tmpLines.add("#---------");
+                    tmpParticleCounter = 0;
+                }
+            }
+            tmpLineNumber += tmpParticlePositionsAndConnections.length;
+        }
+        tmpLines.add("# End");
+        return tmpLines;
+    }
+
+}
@@ -0,0 +1,127 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import junit.framework.TestCase;
+
+/**
+ * Test class for JobBatchRunner
+ *
+ * @author Achim Zielesny
+ */
+public class TestJobBatchRunner extends TestCase {
+
+    /**
+     * Utility for files
+     */
+    private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
+    /**
+     * Test exit codes and output for invalid arguments
+     */
+    public void test_invalidArguments() throws IOException {
+        ByteArrayOutputStream tmpOutputStream = new ByteArrayOutputStream();
+        JobBatchRunner tmpRunner = new JobBatchRunner(new PrintStream(tmpOutputStream, true, "UTF-8"));
+        PrintStream tmpErr = System.err;
+        try {
+            System.setErr(new PrintStream(new ByteArrayOutputStream()));
+            assertEquals(JobBatchRunner.EXIT_INVALID_ARGUMENTS, tmpRunner.run(new String[0]));
+            assertEquals(JobBatchRunner.EXIT_INVALID_ARGUMENTS, tmpRunner.run(new String[] {"--help"}));
+        } finally {
+            System.setErr(tmpErr);
+        }
+        assertEquals(JobBatchRunner.EXIT_INVALID_ARGUMENTS, tmpRunner.run(new String[] {"-p"}));
+        assertEquals(JobBatchRunner.EXIT_INVALID_ARGUMENTS, tmpRunner.run(new String[] {"-p", "0", "."}));
+        assertEquals(JobBatchRunner.EXIT_INVALID_ARGUMENTS, tmpRunner.run(new String[] {"--parallel", "x", "."}));
+        File tmpDirectory = Files.createTempDirectory("TestJobBatchRunner").toFile();
+        try {
+            assertEquals(JobBatchRunner.EXIT_INVALID_ARGUMENTS, tmpRunner.run(new String[] {new File(tmpDirectory, "Missing").getPath()}));
+            // Empty directory: No job inputs
+            assertEquals(JobBatchRunner.EXIT_INVALID_ARGUMENTS, tmpRunner.run(new String[] {tmpDirectory.getPath()}));
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+        String[] tmpLines = new String(tmpOutputStream.toByteArray(), StandardCharsets.UTF_8).split("\\R");
+        assertEquals(5, tmpLines.length);
+        for (String tmpLine : tmpLines) {
+            String[] tmpItems = tmpLine.split("\t");
+            assertEquals(3, tmpItems.length);
+            assertEquals("ERROR", tmpItems[0]);
+            assertEquals("-1", tmpItems[1]);
+        }
+    }
+
+    /**
+     * Test resolution of job input paths
+     */
+    public void test_getJobInputPaths() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestJobBatchRunner").toFile();
+        try {
+            File tmpJobInputDirectoryA = this.createJobInputDirectory(tmpDirectory, "I_A");
+            File tmpJobInputDirectoryB = this.createJobInputDirectory(tmpDirectory, "I_B");
+            // Directory without job input XML file and directory without prefix are ignored
+            assertTrue(new File(tmpDirectory, "I_Empty").mkdir());
+            this.createJobInputDirectory(tmpDirectory, "Other");
+            JobBatchRunner tmpRunner = new JobBatchRunner(new PrintStream(new ByteArrayOutputStream()));
+
+            // Directory with job input directories
+            String[] tmpJobInputPaths = tmpRunner.getJobInputPaths(new ArrayList<>(Arrays.asList(tmpDirectory.getPath())));
+            assertTrue(Arrays.equals(new String[] {tmpJobInputDirectoryA.getAbsolutePath(), tmpJobInputDirectoryB.getAbsolutePath()}, tmpJobInputPaths));
+
+            // Job input directory, job input XML file and duplicates
+            tmpJobInputPaths = tmpRunner.getJobInputPaths(new ArrayList<>(Arrays.asList(
+                new File(tmpJobInputDirectoryB, ModelDefinitions.INTERNAL_XML_JOB_INPUT_VALUE_ITEM_CONTAINER_FILENAME).getPath(),
+                tmpJobInputDirectoryA.getPath(),
+                tmpJobInputDirectoryB.getPath()
+            )));
+            assertTrue(Arrays.equals(new String[] {tmpJobInputDirectoryB.getAbsolutePath(), tmpJobInputDirectoryA.getAbsolutePath()}, tmpJobInputPaths));
+
+            // Invalid path
+            assertNull(tmpRunner.getJobInputPaths(new ArrayList<>(Arrays.asList(new File(tmpDirectory, "Missing").getPath()))));
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Creates directory with (empty) job input XML file
+     *
+     * @param aDirectory Parent directory
+     * @param aName Name of directory
+     * @return Directory
+     */
+    private File createJobInputDirectory(File aDirectory, String aName) throws IOException {
+        File tmpJobInputDirectory = new File(aDirectory, aName);
+        assertTrue(tmpJobInputDirectory.mkdir());
+        assertTrue(new File(tmpJobInputDirectory, ModelDefinitions.INTERNAL_XML_JOB_INPUT_VALUE_ITEM_CONTAINER_FILENAME).createNewFile());
+        return tmpJobInputDirectory;
+    }
+
+}
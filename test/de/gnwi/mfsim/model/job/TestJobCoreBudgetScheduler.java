@@ -0,0 +1,139 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import java.util.ArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.TestCase;
+
+/**
+ * Test class for JobCoreBudgetScheduler
+ *
+ * @author Achim Zielesny
+ */
+public class TestJobCoreBudgetScheduler extends TestCase {
+
+    /**
+     * Test requested parallel task number
+     */
+    public void test_requestedParallelTaskNumber() {
+        JobCoreBudgetScheduler tmpScheduler = new JobCoreBudgetScheduler(8, 1000, 500, 0L);
+        try {
+            // Small job: Single parallel task
+            assertEquals(1, tmpScheduler.getRequestedParallelTaskNumber(0, 0));
+            assertEquals(1, tmpScheduler.getRequestedParallelTaskNumber(999, 499));
+            // Cells dominate
+            assertEquals(3, tmpScheduler.getRequestedParallelTaskNumber(3500, 100));
+            // Bonds dominate
+            assertEquals(5, tmpScheduler.getRequestedParallelTaskNumber(1000, 2600));
+            // Limited by core budget
+            assertEquals(8, tmpScheduler.getRequestedParallelTaskNumber(1000000, 0));
+        } finally {
+            tmpScheduler.shutdown();
+        }
+    }
+
+    /**
+     * Test allocated parallel task number
+     */
+    public void test_allocatedParallelTaskNumber() {
+        JobCoreBudgetScheduler tmpScheduler = new JobCoreBudgetScheduler(8, 1000, 500, 0L);
+        try {
+            // No free cores
+            assertEquals(0, tmpScheduler.getAllocatedParallelTaskNumber(2, 0, 3));
+            // Enough free cores
+            assertEquals(2, tmpScheduler.getAllocatedParallelTaskNumber(2, 5, 1));
+            // Not enough free cores but no running job
+            assertEquals(3, tmpScheduler.getAllocatedParallelTaskNumber(8, 3, 0));
+            // At least half of requested cores are free
+            assertEquals(4, tmpScheduler.getAllocatedParallelTaskNumber(8, 4, 1));
+            // Less than half of requested cores are free: Wait
+            assertEquals(0, tmpScheduler.getAllocatedParallelTaskNumber(8, 3, 1));
+        } finally {
+            tmpScheduler.shutdown();
+        }
+    }
+
+    /**
+     * Test scheduling of jobs within core budget
+     */
+    public void test_schedule() throws InterruptedException {
+        int tmpCoreBudget = 6;
+        JobCoreBudgetScheduler tmpScheduler = new JobCoreBudgetScheduler(tmpCoreBudget, 1000, 500, 0L);
+        try {
+            AtomicInteger tmpUsedCores = new AtomicInteger(0);
+            AtomicInteger tmpMaximumUsedCores = new AtomicInteger(0);
+            int[] tmpNumberOfCells = new int[] {6000, 1000, 2000, 1000, 4000, 3000, 1000, 1000, 6000, 2000};
+            int[] tmpSetParallelTaskNumbers = new int[tmpNumberOfCells.length];
+            ArrayList<JobCoreAllocation> tmpAllocationList = new ArrayList<>();
+            LinkedBlockingQueue<JobCoreAllocation> tmpFinishedQueue = new LinkedBlockingQueue<>();
+            for (int i = 0; i < tmpNumberOfCells.length; i++) {
+                final int tmpIndex = i;
+                tmpAllocationList.add(
+                    tmpScheduler.submit(
+                        () -> {
+                            int tmpCores = tmpSetParallelTaskNumbers[tmpIndex];
+                            tmpMaximumUsedCores.accumulateAndGet(tmpUsedCores.addAndGet(tmpCores), Math::max);
+                            Thread.sleep(20L);
+                            tmpUsedCores.addAndGet(-tmpCores);
+                            return tmpIndex != 3;
+                        },
+                        3 * tmpNumberOfCells[i],
+                        tmpNumberOfCells[i],
+                        0,
+                        aParallelTaskNumber -> tmpSetParallelTaskNumbers[tmpIndex] = aParallelTaskNumber,
+                        tmpFinishedQueue::add
+                    )
+                );
+            }
+            for (int i = 0; i < tmpNumberOfCells.length; i++) {
+                assertTrue(tmpAllocationList.contains(tmpFinishedQueue.take()));
+            }
+            assertTrue(tmpFinishedQueue.isEmpty());
+            assertEquals(0, tmpScheduler.getNumberOfRunningJobs());
+            assertEquals(0, tmpScheduler.getNumberOfUsedCores());
+            assertEquals(0, tmpScheduler.getNumberOfQueuedJobs());
+            assertTrue(tmpScheduler.getMaximumNumberOfUsedCores() <= tmpCoreBudget);
+            assertTrue(tmpMaximumUsedCores.get() <= tmpCoreBudget);
+            for (int i = 0; i < tmpNumberOfCells.length; i++) {
+                JobCoreAllocation tmpAllocation = tmpAllocationList.get(i);
+                assertEquals(Math.min(tmpCoreBudget, tmpNumberOfCells[i] / 1000), tmpAllocation.getRequestedParallelTaskNumber());
+                assertEquals(tmpAllocation.getAllocatedParallelTaskNumber(), tmpSetParallelTaskNumbers[i]);
+                assertTrue(tmpAllocation.getAllocatedParallelTaskNumber() >= 1);
+                assertTrue(2 * tmpAllocation.getAllocatedParallelTaskNumber() >= tmpAllocation.getRequestedParallelTaskNumber());
+                assertTrue(tmpAllocation.getWaitingTimeInMilliseconds() >= 0L);
+                assertTrue(tmpAllocation.getRunTimeInMilliseconds() >= 0L);
+                assertEquals(i != 3, tmpAllocation.isSuccessful());
+                String[] tmpLines = tmpAllocation.getInformationLines();
+                assertEquals(9, tmpLines.length);
+                assertEquals(String.valueOf(tmpCoreBudget), tmpLines[1]);
+                assertEquals(String.valueOf(tmpAllocation.getAllocatedParallelTaskNumber()), tmpLines[3]);
+            }
+            // Single large job gets complete core budget
+            JobCoreAllocation tmpAllocation = tmpScheduler.submit(() -> true, 100000, 100000, 0, null, tmpFinishedQueue::add);
+            assertSame(tmpAllocation, tmpFinishedQueue.take());
+            assertEquals(tmpCoreBudget, tmpAllocation.getAllocatedParallelTaskNumber());
+        } finally {
+            tmpScheduler.shutdown();
+        }
+    }
+
+}
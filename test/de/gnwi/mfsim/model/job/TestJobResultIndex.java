@@ -0,0 +1,254 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.preference.Preferences;
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import de.gnwi.mfsim.model.util.ModelUtils;
+import junit.framework.TestCase;
+
+/**
+ * Test class for JobResultIndex
+ *
+ * @author Achim Zielesny
+ */
+public class TestJobResultIndex extends TestCase {
+
+    /**
+     * Utility for files
+     */
+    private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
+    /**
+     * Temporary directory for log file
+     */
+    private File logfileDirectory;
+
+    /**
+     * Redirects log file to temporary directory
+     */
+    @Override
+    protected void setUp() throws IOException {
+        this.logfileDirectory = Files.createTempDirectory("TestJobResultIndexLog").toFile();
+        Preferences.getInstance().setLogfilePathname(new File(this.logfileDirectory, ModelDefinitions.LOGFILE_NAME).getPath());
+    }
+
+    /**
+     * Restores log file
+     */
+    @Override
+    protected void tearDown() {
+        ModelUtils.flushLogfile();
+        Preferences.getInstance().setLogfilePathname(null);
+        this.fileUtilityMethods.deleteDirectory(this.logfileDirectory);
+    }
+
+    /**
+     * Test detection of added, modified and removed job result directories
+     */
+    public void test_update() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestJobResultIndex").toFile();
+        try {
+            String tmpIndexFilePathname = new File(tmpDirectory, ModelDefinitions.JOB_RESULT_INDEX_FILENAME).getPath();
+            String[] tmpJobResultPaths = new String[5];
+            for (int i = 0; i < tmpJobResultPaths.length; i++) {
+                tmpJobResultPaths[i] = this.createJobResultDirectory(tmpDirectory, i, "Job " + i);
+            }
+            // Initial update: All job results are parsed
+            JobResultIndex tmpIndex = new JobResultIndex(tmpIndexFilePathname);
+            JobResult[] tmpJobResults = tmpIndex.update(tmpJobResultPaths);
+            assertEquals(5, tmpIndex.getNumberOfParsedJobResults());
+            assertEquals(5, tmpIndex.getNumberOfIndexedJobResults());
+            this.assertDescriptions(tmpJobResults, "Job 0", "Job 1", "Job 2", "Job 3", "Job 4");
+            assertTrue(new File(tmpIndexFilePathname).isFile());
+
+            // Unchanged: Nothing is parsed (also with new index instance that reads index file)
+            tmpJobResults = tmpIndex.update(tmpJobResultPaths);
+            assertEquals(0, tmpIndex.getNumberOfParsedJobResults());
+            this.assertDescriptions(tmpJobResults, "Job 0", "Job 1", "Job 2", "Job 3", "Job 4");
+            tmpIndex = new JobResultIndex(tmpIndexFilePathname);
+            tmpJobResults = tmpIndex.update(tmpJobResultPaths);
+            assertEquals(0, tmpIndex.getNumberOfParsedJobResults());
+            this.assertDescriptions(tmpJobResults, "Job 0", "Job 1", "Job 2", "Job 3", "Job 4");
+            assertEquals(JobResultProcessingStatusEnum.JOB_FINISHED_WITH_SUCCESS, tmpJobResults[2].getJobProcessingResult());
+
+            // Added
+            String[] tmpAddedJobResultPaths = new String[6];
+            System.arraycopy(tmpJobResultPaths, 0, tmpAddedJobResultPaths, 0, 5);
+            tmpAddedJobResultPaths[5] = this.createJobResultDirectory(tmpDirectory, 5, "Job 5");
+            tmpJobResults = tmpIndex.update(tmpAddedJobResultPaths);
+            assertEquals(1, tmpIndex.getNumberOfParsedJobResults());
+            assertEquals(6, tmpIndex.getNumberOfIndexedJobResults());
+            this.assertDescriptions(tmpJobResults, "Job 0", "Job 1", "Job 2", "Job 3", "Job 4", "Job 5");
+
+            // Modified
+            this.writeInformationFile(tmpAddedJobResultPaths[3], "Job 3 modified");
+            this.shiftLastModified(tmpAddedJobResultPaths[3]);
+            tmpJobResults = tmpIndex.update(tmpAddedJobResultPaths);
+            assertEquals(1, tmpIndex.getNumberOfParsedJobResults());
+            this.assertDescriptions(tmpJobResults, "Job 0", "Job 1", "Job 2", "Job 3 modified", "Job 4", "Job 5");
+
+            // Removed
+            String[] tmpRemovedJobResultPaths = new String[] {
+                tmpAddedJobResultPaths[0], 
+                tmpAddedJobResultPaths[2], 
+                tmpAddedJobResultPaths[3], 
+                tmpAddedJobResultPaths[5]
+            };
+            tmpJobResults = tmpIndex.update(tmpRemovedJobResultPaths);
+            assertEquals(0, tmpIndex.getNumberOfParsedJobResults());
+            assertEquals(4, tmpIndex.getNumberOfIndexedJobResults());
+            this.assertDescriptions(tmpJobResults, "Job 0", "Job 2", "Job 3 modified", "Job 5");
+            tmpIndex = new JobResultIndex(tmpIndexFilePathname);
+            tmpIndex.update(tmpRemovedJobResultPaths);
+            assertEquals(0, tmpIndex.getNumberOfParsedJobResults());
+            assertEquals(4, tmpIndex.getNumberOfIndexedJobResults());
+
+            // Job result without information file (e.g. in copying phase) is not indexed
+            File tmpIncompleteDirectory = new File(tmpDirectory, ModelDefinitions.PREFIX_OF_JOB_RESULT_DIRECTORY + "Incomplete");
+            assertTrue(tmpIncompleteDirectory.mkdir());
+            tmpJobResults = tmpIndex.update(new String[] {tmpRemovedJobResultPaths[0], tmpIncompleteDirectory.getPath()});
+            assertNotNull(tmpJobResults[0]);
+            assertNull(tmpJobResults[1]);
+            assertEquals(1, tmpIndex.getNumberOfIndexedJobResults());
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Test rebuild of corrupt index file
+     */
+    public void test_corruptIndexFile() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestJobResultIndex").toFile();
+        try {
+            File tmpIndexFile = new File(tmpDirectory, ModelDefinitions.JOB_RESULT_INDEX_FILENAME);
+            String[] tmpJobResultPaths = new String[3];
+            for (int i = 0; i < tmpJobResultPaths.length; i++) {
+                tmpJobResultPaths[i] = this.createJobResultDirectory(tmpDirectory, i, "Job " + i);
+            }
+            new JobResultIndex(tmpIndexFile.getPath()).update(tmpJobResultPaths);
+            byte[] tmpBytes = Files.readAllBytes(tmpIndexFile.toPath());
+
+            // Truncated index file
+            Files.write(tmpIndexFile.toPath(), Arrays.copyOf(tmpBytes, tmpBytes.length / 2));
+            JobResultIndex tmpIndex = new JobResultIndex(tmpIndexFile.getPath());
+            JobResult[] tmpJobResults = tmpIndex.update(tmpJobResultPaths);
+            assertEquals(3, tmpIndex.getNumberOfParsedJobResults());
+            this.assertDescriptions(tmpJobResults, "Job 0", "Job 1", "Job 2");
+            assertEquals(tmpBytes.length, Files.readAllBytes(tmpIndexFile.toPath()).length);
+
+            // Garbage index file
+            Files.write(tmpIndexFile.toPath(), "Garbage".getBytes(StandardCharsets.UTF_8));
+            tmpIndex = new JobResultIndex(tmpIndexFile.getPath());
+            tmpJobResults = tmpIndex.update(tmpJobResultPaths);
+            assertEquals(3, tmpIndex.getNumberOfParsedJobResults());
+            this.assertDescriptions(tmpJobResults, "Job 0", "Job 1", "Job 2");
+
+            // Rebuilt index file is used
+            tmpIndex = new JobResultIndex(tmpIndexFile.getPath());
+            tmpIndex.update(tmpJobResultPaths);
+            assertEquals(0, tmpIndex.getNumberOfParsedJobResults());
+
+            // Rebuild is logged to redirected log file
+            ModelUtils.flushLogfile();
+            String tmpLog = new String(Files.readAllBytes(new File(Preferences.getInstance().getLogfilePathname()).toPath()), StandardCharsets.UTF_8);
+            assertTrue(tmpLog.contains("Corrupt index file is rebuilt"));
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Creates job result directory with information file
+     *
+     * @param aDirectory Parent directory
+     * @param anIndex Index of job result
+     * @param aDescription Description
+     * @return Path of job result directory
+     */
+    private String createJobResultDirectory(File aDirectory, int anIndex, String aDescription) throws IOException {
+        File tmpJobResultDirectory = new File(aDirectory, ModelDefinitions.PREFIX_OF_JOB_RESULT_DIRECTORY + anIndex);
+        assertTrue(tmpJobResultDirectory.mkdir());
+        this.writeInformationFile(tmpJobResultDirectory.getPath(), aDescription);
+        return tmpJobResultDirectory.getPath();
+    }
+
+    /**
+     * Writes job result information file (defined string array format)
+     *
+     * @param aJobResultPath Job result directory path
+     * @param aDescription Description
+     */
+    private void writeInformationFile(String aJobResultPath, String aDescription) throws IOException {
+        String[] tmpLines = new String[] {
+            "Version 1.0.0",
+            aDescription,
+            "2023-01-01 10:00:00",
+            "2023-01-01 11:00:00",
+            "01:00:00",
+            JobResultProcessingStatusEnum.JOB_FINISHED_WITH_SUCCESS.name(),
+            "JobInput",
+            ModelDefinitions.APPLICATION_VERSION,
+            "Kernel"
+        };
+        try (PrintWriter tmpWriter = new PrintWriter(new OutputStreamWriter(new FileOutputStream(new File(aJobResultPath, ModelDefinitions.JOB_RESULT_INFO_FILENAME)), StandardCharsets.UTF_8))) {
+            tmpWriter.println(tmpLines.length);
+            for (String tmpLine : tmpLines) {
+                tmpWriter.println(tmpLine);
+            }
+        }
+    }
+
+    /**
+     * Shifts last-modified time of information file so that a change is 
+     * detected independent of the file system time resolution
+     *
+     * @param aJobResultPath Job result directory path
+     */
+    private void shiftLastModified(String aJobResultPath) {
+        File tmpInformationFile = new File(aJobResultPath, ModelDefinitions.JOB_RESULT_INFO_FILENAME);
+        assertTrue(tmpInformationFile.setLastModified(tmpInformationFile.lastModified() + 2000L));
+    }
+
+    /**
+     * Asserts descriptions of job results
+     *
+     * @param aJobResults Job results
+     * @param aDescriptions Expected descriptions
+     */
+    private void assertDescriptions(JobResult[] aJobResults, String... aDescriptions) {
+        assertEquals(aDescriptions.length, aJobResults.length);
+        for (int i = 0; i < aDescriptions.length; i++) {
+            assertNotNull(aJobResults[i]);
+            assertEquals(aDescriptions[i], aJobResults[i].getDescription());
+        }
+    }
+
+}
@@ -0,0 +1,328 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.preference.Preferences;
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import de.gnwi.mfsim.model.util.ModelUtils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import junit.framework.TestCase;
+
+/**
+ * Test class for JobResultOnlineAnalysis
+ *
+ * @author Achim Zielesny
+ */
+public class TestJobResultOnlineAnalysis extends TestCase {
+
+    /**
+     * Temporary directory for log file
+     */
+    private File logfileDirectory;
+
+    /**
+     * Redirects log file to temporary directory
+     */
+    @Override
+    protected void setUp() throws IOException {
+        this.logfileDirectory = Files.createTempDirectory("TestJobResultOnlineAnalysisLog").toFile();
+        Preferences.getInstance().setLogfilePathname(new File(this.logfileDirectory, ModelDefinitions.LOGFILE_NAME).getPath());
+    }
+
+    /**
+     * Restores log file
+     */
+    @Override
+    protected void tearDown() {
+        ModelUtils.flushLogfile();
+        Preferences.getInstance().setLogfilePathname(null);
+        new FileUtilityMethods().deleteDirectory(this.logfileDirectory);
+    }
+
+    /**
+     * Test retry of step file that is still in write process
+     */
+    public void test_retryOfStepFileInWriteProcess() throws Exception {
+        TestOnlineAnalysis tmpAnalysis = new TestOnlineAnalysis(2, 10, false);
+        tmpAnalysis.addStep(1);
+        tmpAnalysis.addStep(2);
+        // Step 2 is in write process for two trials
+        tmpAnalysis.setNumberOfFailures("Step_2", 2);
+        this.tick(tmpAnalysis, () -> tmpAnalysis.getNumberOfAnalysedStepFiles() == 2);
+        assertEquals(1, tmpAnalysis.getNumberOfTrials("Step_1"));
+        assertEquals(3, tmpAnalysis.getNumberOfTrials("Step_2"));
+        assertEquals(0, tmpAnalysis.getNumberOfSkippedStepFiles());
+        tmpAnalysis.shutdown();
+    }
+
+    /**
+     * Test skip of step file that can never be read
+     */
+    public void test_skipOfUnreadableStepFile() throws Exception {
+        TestOnlineAnalysis tmpAnalysis = new TestOnlineAnalysis(2, 3, false);
+        tmpAnalysis.addStep(1);
+        tmpAnalysis.addStep(2);
+        tmpAnalysis.setNumberOfFailures("Step_1", Integer.MAX_VALUE);
+        this.tick(tmpAnalysis, () -> tmpAnalysis.getNumberOfSkippedStepFiles() == 1 && tmpAnalysis.getNumberOfAnalysedStepFiles() == 1);
+        // Further calls do NOT retry skipped step file
+        for (int i = 0; i < 5; i++) {
+            tmpAnalysis.analyseNewStepFiles();
+            Thread.sleep(10L);
+        }
+        assertEquals(3, tmpAnalysis.getNumberOfTrials("Step_1"));
+        assertEquals(1, tmpAnalysis.getNumberOfTrials("Step_2"));
+        tmpAnalysis.shutdown();
+    }
+
+    /**
+     * Test deletion of RDF for step files of steps that drop out of the 
+     * latest steps
+     */
+    public void test_rdfDeletionOfOldSteps() throws Exception {
+        TestOnlineAnalysis tmpAnalysis = new TestOnlineAnalysis(2, 10, true);
+        tmpAnalysis.addStep(1);
+        tmpAnalysis.addStep(2);
+        this.tick(tmpAnalysis, () -> tmpAnalysis.getNumberOfAnalysedStepFiles() == 2);
+        assertTrue(tmpAnalysis.rdfStepFiles.contains("Step_1"));
+        assertTrue(tmpAnalysis.rdfStepFiles.contains("Step_2"));
+        assertTrue(tmpAnalysis.deletedRdfStepFiles.isEmpty());
+        tmpAnalysis.addStep(3);
+        this.tick(tmpAnalysis, () -> tmpAnalysis.getNumberOfAnalysedStepFiles() == 3 && tmpAnalysis.deletedRdfStepFiles.size() == 1);
+        assertEquals("Step_1", tmpAnalysis.deletedRdfStepFiles.get(0));
+        tmpAnalysis.addStep(4);
+        this.tick(tmpAnalysis, () -> tmpAnalysis.getNumberOfAnalysedStepFiles() == 4 && tmpAnalysis.deletedRdfStepFiles.size() == 2);
+        assertEquals("Step_2", tmpAnalysis.deletedRdfStepFiles.get(1));
+        tmpAnalysis.shutdown();
+    }
+
+    /**
+     * Test that shutdown waits for running analysis tasks
+     */
+    public void test_shutdownWaitsForRunningAnalysis() throws Exception {
+        TestOnlineAnalysis tmpAnalysis = new TestOnlineAnalysis(2, 10, false);
+        tmpAnalysis.analysisDelay = 300L;
+        tmpAnalysis.addStep(1);
+        tmpAnalysis.addStep(2);
+        tmpAnalysis.analyseNewStepFiles();
+        tmpAnalysis.shutdown();
+        assertEquals(2, tmpAnalysis.numberOfFinishedAnalyses.get());
+        assertFalse(tmpAnalysis.isAnalysisRunning.get());
+        // No analysis after shutdown
+        tmpAnalysis.addStep(3);
+        tmpAnalysis.analyseNewStepFiles();
+        assertEquals(0, tmpAnalysis.getNumberOfTrials("Step_3"));
+    }
+
+    /**
+     * Test that parallel streams of analysis tasks are confined to the 
+     * analysis threads and do NOT run in the common fork/join pool
+     */
+    public void test_parallelStreamsConfinedToAnalysisThreads() throws Exception {
+        TestOnlineAnalysis tmpAnalysis = new TestOnlineAnalysis(2, 10, false);
+        tmpAnalysis.isParallelStreamAnalysis = true;
+        for (int i = 1; i <= 4; i++) {
+            tmpAnalysis.addStep(i);
+        }
+        this.tick(tmpAnalysis, () -> tmpAnalysis.getNumberOfAnalysedStepFiles() == 4);
+        tmpAnalysis.shutdown();
+        assertFalse(tmpAnalysis.streamThreads.isEmpty());
+        assertTrue(tmpAnalysis.streamThreads.size() <= 2);
+        for (Thread tmpThread : tmpAnalysis.streamThreads) {
+            assertTrue(tmpThread instanceof ForkJoinWorkerThread);
+            ForkJoinPool tmpPool = ((ForkJoinWorkerThread) tmpThread).getPool();
+            assertNotSame(ForkJoinPool.commonPool(), tmpPool);
+            assertEquals(2, tmpPool.getParallelism());
+        }
+    }
+
+    /**
+     * Calls analyseNewStepFiles() until condition is true
+     *
+     * @param anAnalysis Online analysis
+     * @param aCondition Condition
+     * @throws InterruptedException Thrown if sleep is interrupted
+     */
+    private void tick(TestOnlineAnalysis anAnalysis, BooleanSupplier aCondition) throws InterruptedException {
+        for (int i = 0; i < 1000; i++) {
+            anAnalysis.analyseNewStepFiles();
+            if (aCondition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(5L);
+        }
+        fail("Condition not reached.");
+    }
+
+    /**
+     * Online analysis with in-memory step files
+     */
+    private static class TestOnlineAnalysis extends JobResultOnlineAnalysis {
+
+        /**
+         * Number of latest steps for RDF calculation
+         */
+        final int numberOfLatestSteps;
+
+        /**
+         * Step file names in order of creation
+         */
+        final List<String> stepFiles = Collections.synchronizedList(new ArrayList<>());
+
+        /**
+         * Step files with RDF for step files
+         */
+        final List<String> rdfStepFiles = Collections.synchronizedList(new ArrayList<>());
+
+        /**
+         * Step files with deleted RDF for step files
+         */
+        final List<String> deletedRdfStepFiles = Collections.synchronizedList(new ArrayList<>());
+
+        /**
+         * Step file to number of failures before success
+         */
+        final ConcurrentHashMap<String, Integer> numberOfFailuresMap = new ConcurrentHashMap<>();
+
+        /**
+         * Step file to number of trials
+         */
+        final ConcurrentHashMap<String, AtomicInteger> numberOfTrialsMap = new ConcurrentHashMap<>();
+
+        /**
+         * Number of finished analyses
+         */
+        final AtomicInteger numberOfFinishedAnalyses = new AtomicInteger(0);
+
+        /**
+         * True: Analysis is running
+         */
+        final AtomicBoolean isAnalysisRunning = new AtomicBoolean(false);
+
+        /**
+         * Delay of analysis in milliseconds
+         */
+        volatile long analysisDelay = 0L;
+
+        /**
+         * True: Analysis runs a parallel stream
+         */
+        volatile boolean isParallelStreamAnalysis = false;
+
+        /**
+         * Threads that executed parallel stream elements
+         */
+        final Set<Thread> streamThreads = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Constructor
+         *
+         * @param aNumberOfLatestSteps Number of latest steps for RDF
+         * @param aMaximumNumberOfFailedTrials Maximum number of failed trials
+         * @param anIsRdfCalculation True: RDF calculation, false: Distance 
+         * calculation
+         */
+        TestOnlineAnalysis(int aNumberOfLatestSteps, int aMaximumNumberOfFailedTrials, boolean anIsRdfCalculation) {
+            super("JobResult", null, aNumberOfLatestSteps, 2, aMaximumNumberOfFailedTrials, anIsRdfCalculation, !anIsRdfCalculation);
+            this.numberOfLatestSteps = aNumberOfLatestSteps;
+        }
+
+        void addStep(int aStep) {
+            this.stepFiles.add("Step_" + aStep);
+        }
+
+        void setNumberOfFailures(String aStepFile, int aNumberOfFailures) {
+            this.numberOfFailuresMap.put(aStepFile, aNumberOfFailures);
+        }
+
+        int getNumberOfTrials(String aStepFile) {
+            AtomicInteger tmpNumberOfTrials = this.numberOfTrialsMap.get(aStepFile);
+            return tmpNumberOfTrials == null ? 0 : tmpNumberOfTrials.get();
+        }
+
+        @Override
+        String[] getStepFilePathnames() {
+            synchronized (this.stepFiles) {
+                return this.stepFiles.toArray(new String[0]);
+            }
+        }
+
+        @Override
+        String[] getLatestStepFilePathnames() {
+            synchronized (this.stepFiles) {
+                int tmpSize = this.stepFiles.size();
+                return this.stepFiles.subList(Math.max(0, tmpSize - this.numberOfLatestSteps), tmpSize).toArray(new String[0]);
+            }
+        }
+
+        @Override
+        int getStep(String aStepFilePathname) {
+            return Integer.parseInt(aStepFilePathname.substring("Step_".length()));
+        }
+
+        @Override
+        boolean analyseStepFile(String aStepFilePathname, boolean anIsRdfCalculation) {
+            int tmpTrial = this.numberOfTrialsMap.computeIfAbsent(aStepFilePathname, (String aKey) -> new AtomicInteger(0)).incrementAndGet();
+            if (tmpTrial <= this.numberOfFailuresMap.getOrDefault(aStepFilePathname, 0)) {
+                // Step file is in write process
+                return false;
+            }
+            if (this.isParallelStreamAnalysis) {
+                IntStream.range(0, 200000).parallel().forEach((int anIndex) -> this.streamThreads.add(Thread.currentThread()));
+            }
+            this.isAnalysisRunning.set(true);
+            try {
+                if (this.analysisDelay > 0L) {
+                    Thread.sleep(this.analysisDelay);
+                }
+            } catch (InterruptedException anException) {
+                return false;
+            } finally {
+                this.isAnalysisRunning.set(false);
+            }
+            if (anIsRdfCalculation) {
+                this.rdfStepFiles.add(aStepFilePathname);
+            }
+            this.numberOfFinishedAnalyses.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        void deleteRdfForStepFiles(String aStepFilePathname) {
+            this.deletedRdfStepFiles.add(aStepFilePathname);
+            this.rdfStepFiles.remove(aStepFilePathname);
+        }
+
+    }
+
+}
@@ -0,0 +1,219 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.particle.StandardParticleInteractionData;
+import de.gnwi.mfsim.model.preference.ModelDefinitions;
+import de.gnwi.mfsim.model.preference.Preferences;
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import de.gnwi.mfsim.model.valueItem.ValueItemContainer;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import junit.framework.TestCase;
+
+/**
+ * Test class for JobUtilityMethods
+ *
+ * @author Achim Zielesny
+ */
+public class TestJobUtilityMethods extends TestCase {
+
+    /**
+     * Job utility methods
+     */
+    private final JobUtilityMethods jobUtilityMethods = new JobUtilityMethods();
+
+    /**
+     * File utility methods
+     */
+    private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
+    /**
+     * Test writeParticlePairDistanceFiles() with more pairs than 
+     * simultaneously open distance files
+     */
+    public void test_writeParticlePairDistanceFiles() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestJobUtilityMethods").toFile();
+        try {
+            String tmpJobResultPath = tmpDirectory.getPath();
+            assertTrue(new File(tmpDirectory, ModelDefinitions.JOB_RESULT_PARTICLE_PAIR_DISTANCE_DIRECTORY).mkdirs());
+            int tmpNumberOfPairs = 2 * ModelDefinitions.MAXIMUM_NUMBER_OF_OPEN_DISTANCE_FILES + 3;
+            String[] tmpSteps = new String[] {"100", "200", "300"};
+            double[][] tmpDistances = new double[tmpSteps.length][tmpNumberOfPairs];
+            String[] tmpAverageDistancesFilePathnames = new String[tmpSteps.length];
+            Random tmpRandom = new Random(5L);
+            for (int i = 0; i < tmpSteps.length; i++) {
+                String[] tmpLines = new String[tmpNumberOfPairs + 1];
+                tmpLines[0] = "Version 1.0.0";
+                for (int k = 0; k < tmpNumberOfPairs; k++) {
+                    tmpDistances[i][k] = tmpRandom.nextDouble() * 10.0;
+                    tmpLines[k + 1] = new ParticlePairAverageDistance(new String[] {"A" + k, "B"}, tmpDistances[i][k]).getTokenString();
+                }
+                tmpAverageDistancesFilePathnames[i] = tmpJobResultPath + File.separatorChar + "AverageDistances_" + tmpSteps[i] + ".txt";
+                assertTrue(this.fileUtilityMethods.writeDefinedStringArrayToFile(tmpLines, tmpAverageDistancesFilePathnames[i]));
+            }
+            this.jobUtilityMethods.writeParticlePairDistanceFiles(tmpJobResultPath, tmpSteps, tmpAverageDistancesFilePathnames, false);
+            for (int k = 0; k < tmpNumberOfPairs; k++) {
+                String[] tmpLines = this.fileUtilityMethods.readDefinedStringArrayFromFile(this.jobUtilityMethods.getJobResultParticlePairDistanceFilePathname(tmpJobResultPath, "A" + k + "_B"));
+                assertNotNull(tmpLines);
+                assertEquals(3 + 2 * tmpSteps.length, tmpLines.length);
+                assertEquals("Version 1.0.0", tmpLines[0]);
+                assertEquals("A" + k, tmpLines[1]);
+                assertEquals("B", tmpLines[2]);
+                for (int i = 0; i < tmpSteps.length; i++) {
+                    assertEquals(tmpSteps[i], tmpLines[3 + 2 * i]);
+                    assertEquals(tmpDistances[i][k], Double.parseDouble(tmpLines[4 + 2 * i]));
+                }
+            }
+            assertEquals(tmpNumberOfPairs, new File(tmpDirectory, ModelDefinitions.JOB_RESULT_PARTICLE_PAIR_DISTANCE_DIRECTORY).list().length);
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Test writeJdpdPositionsBondsFile() with a real job input (C10E4-water 
+     * bilayer formation study) and its fixed geometry random seed: Streamed 
+     * Jdpd positions/bonds files must be identical to files written with all
+     * lines collected in a line list and to the files of the former line 
+     * list implementation (SHA-256 digests of the lines with "\n" line
+     * separator).
+     * NOTE: The digests depend on the random number sequence of the 
+     * start geometry generation and must be renewed if it is changed.
+     */
+    public void test_writeJdpdPositionsBondsFile() throws Exception {
+        String tmpZipFilePathname = "2022 C10E4-water bilayer formation study" + File.separatorChar + "MFsim C10E4-water JobInputs Fragmentation A.zip";
+        String tmpJobInputEntryPrefix = "MFsim C10E4-water JobInputs Fragmentation A/I_20200525_145532/";
+        String[] tmpFormerDigests = new String[] {
+            "f5648d2b424546f714ba6731adb6e1b3933adaf4e69edb965060fd7c30e0a1f3",
+            "eb97d227a1449730e9dd1e1b7400b2b4deaa364e70b386ff894a4c7598733314"
+        };
+        if (!new File(tmpZipFilePathname).isFile()) {
+            fail("Missing job input archive: " + tmpZipFilePathname);
+        }
+        File tmpDirectory = Files.createTempDirectory("TestJobUtilityMethods").toFile();
+        try {
+            // <editor-fold defaultstate="collapsed" desc="Initialize and read job input">
+            Preferences.getInstance();
+            StandardParticleInteractionData.getInstance();
+            JdpdValueItemDefinition.getInstance();
+            File tmpJobInputDirectory = new File(tmpDirectory, "JobInput");
+            this.extractZipEntries(tmpZipFilePathname, tmpJobInputEntryPrefix, tmpJobInputDirectory);
+            ValueItemContainer tmpJobInputValueItemContainer = new JobInput(tmpJobInputDirectory.getPath(), false).getValueItemContainer();
+            assertNotNull(tmpJobInputValueItemContainer);
+            // </editor-fold>
+            // <editor-fold defaultstate="collapsed" desc="Streamed files">
+            File tmpStreamingDirectory = new File(tmpDirectory, "Streaming");
+            assertTrue(tmpStreamingDirectory.mkdirs());
+            assertNotNull(this.jobUtilityMethods.getJdpdInputText(tmpJobInputValueItemContainer, new File(tmpStreamingDirectory, "Jdpd_Input.txt").getPath()));
+            // </editor-fold>
+            File tmpLineListDirectory = new File(tmpDirectory, "LineList");
+            assertTrue(tmpLineListDirectory.mkdirs());
+            for (int i = 0; i < tmpFormerDigests.length; i++) {
+                String tmpFileName = ModelDefinitions.JDPD_POSITIONS_BONDS_FILE_PREFIX + String.valueOf(i) + ".txt";
+                File tmpStreamedFile = new File(tmpStreamingDirectory, tmpFileName);
+                assertTrue(tmpStreamedFile.isFile());
+                File tmpLineListFile = new File(tmpLineListDirectory, tmpFileName);
+                assertTrue(this.jobUtilityMethods.writeJdpdPositionsBondsFile(tmpJobInputValueItemContainer, this.getMoleculeName(tmpStreamedFile), tmpLineListFile.getPath(), true));
+                assertTrue(Arrays.equals(Files.readAllBytes(tmpLineListFile.toPath()), Files.readAllBytes(tmpStreamedFile.toPath())));
+                assertEquals(tmpFormerDigests[i], this.getLineDigest(tmpStreamedFile));
+            }
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Extracts all entries of zip file with specified prefix to directory
+     *
+     * @param aZipFilePathname Zip file pathname
+     * @param anEntryPrefix Entry prefix (is removed)
+     * @param aDirectory Destination directory
+     */
+    private void extractZipEntries(String aZipFilePathname, String anEntryPrefix, File aDirectory) throws IOException {
+        assertTrue(aDirectory.mkdirs());
+        try (ZipFile tmpZipFile = new ZipFile(aZipFilePathname)) {
+            Enumeration<? extends ZipEntry> tmpEntries = tmpZipFile.entries();
+            while (tmpEntries.hasMoreElements()) {
+                ZipEntry tmpEntry = tmpEntries.nextElement();
+                if (!tmpEntry.isDirectory() && tmpEntry.getName().startsWith(anEntryPrefix)) {
+                    try (InputStream tmpInputStream = tmpZipFile.getInputStream(tmpEntry)) {
+                        Files.copy(tmpInputStream, new File(aDirectory, tmpEntry.getName().substring(anEntryPrefix.length())).toPath());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns first molecule name of Jdpd positions/bonds file
+     *
+     * @param aFile Jdpd positions/bonds file
+     * @return First molecule name
+     */
+    private String getMoleculeName(File aFile) throws IOException {
+        String tmpPrefix = "# Molecule Name             = ";
+        try (BufferedReader tmpReader = new BufferedReader(new InputStreamReader(new FileInputStream(aFile), StandardCharsets.UTF_8))) {
+            String tmpLine;
+            while ((tmpLine = tmpReader.readLine()) != null) {
+                if (tmpLine.startsWith(tmpPrefix)) {
+                    return tmpLine.substring(tmpPrefix.length());
+                }
+            }
+        }
+        fail("No molecule name in " + aFile.getName());
+        return null;
+    }
+
+    /**
+     * Returns SHA-256 digest of the lines of file with "\n" line separator
+     *
+     * @param aFile File
+     * @return Hexadecimal digest
+     */
+    private String getLineDigest(File aFile) throws IOException, NoSuchAlgorithmException {
+        MessageDigest tmpMessageDigest = MessageDigest.getInstance("SHA-256");
+        try (BufferedReader tmpReader = new BufferedReader(new InputStreamReader(new FileInputStream(aFile), StandardCharsets.UTF_8))) {
+            String tmpLine;
+            while ((tmpLine = tmpReader.readLine()) != null) {
+                tmpMessageDigest.update((tmpLine + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        StringBuilder tmpBuffer = new StringBuilder();
+        for (byte tmpByte : tmpMessageDigest.digest()) {
+            tmpBuffer.append(String.format("%02x", tmpByte));
+        }
+        return tmpBuffer.toString();
+    }
+
+}
@@ -0,0 +1,173 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import junit.framework.TestCase;
+
+/**
+ * Test class for ProgressFileUtils and ProgressFileIndex
+ *
+ * @author Achim Zielesny
+ */
+public class TestProgressFileUtils extends TestCase {
+
+    /**
+     * Utility for files
+     */
+    private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
+    /**
+     * Progress file utility methods
+     */
+    private final ProgressFileUtils progressFileUtils = new ProgressFileUtils();
+
+    /**
+     * Test tail reader and last step
+     */
+    public void test_tail() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestProgressFileUtils").toFile();
+        try {
+            File tmpFile = new File(tmpDirectory, "Utotal.txt");
+            this.writeProgressFile(tmpFile, 100000, 10, "\n");
+            String[] tmpLastLines = this.progressFileUtils.readLastLines(tmpFile.getPath(), 3);
+            assertEquals(3, tmpLastLines.length);
+            assertEquals(this.getValue(99999), tmpLastLines[0]);
+            assertEquals("1000000", tmpLastLines[1]);
+            assertEquals(this.getValue(100000), tmpLastLines[2]);
+            assertEquals(1000000, this.progressFileUtils.getLastStep(tmpFile.getPath()));
+
+            // Windows line endings and trailing empty lines
+            this.writeProgressFile(tmpFile, 5, 1, "\r\n");
+            Files.write(tmpFile.toPath(), "\r\n\r\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            assertEquals(5, this.progressFileUtils.getLastStep(tmpFile.getPath()));
+
+            // More lines requested than available
+            String[] tmpAllLines = this.progressFileUtils.readLastLines(tmpFile.getPath(), 1000);
+            assertEquals(12, tmpAllLines.length);
+            assertEquals("11", tmpAllLines[0]);
+            assertEquals("Version 1.0.0", tmpAllLines[1]);
+
+            // No data pairs and unknown format
+            Files.write(tmpFile.toPath(), "1\nVersion 1.0.0\n".getBytes(StandardCharsets.UTF_8));
+            assertEquals(-1, this.progressFileUtils.getLastStep(tmpFile.getPath()));
+            Files.write(tmpFile.toPath(), "3\nVersion 9.9.9\n1\n2.0\n".getBytes(StandardCharsets.UTF_8));
+            assertEquals(-1, this.progressFileUtils.getLastStep(tmpFile.getPath()));
+            assertEquals(-1, this.progressFileUtils.getLastStep(new File(tmpDirectory, "Missing.txt").getPath()));
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Test line-offset index with sidecar index file
+     */
+    public void test_index() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestProgressFileUtils").toFile();
+        try {
+            File tmpFile = new File(tmpDirectory, "Temperature.txt");
+            this.writeProgressFile(tmpFile, 5000, 20, "\n");
+            File tmpIndexFile = new File(this.progressFileUtils.getIndexFilePathname(tmpFile.getPath()));
+            assertFalse(tmpIndexFile.isFile());
+            ProgressFileIndex tmpIndex = this.progressFileUtils.getIndex(tmpFile.getPath());
+            assertNotNull(tmpIndex);
+            assertTrue(tmpIndexFile.isFile());
+            assertEquals(5000, tmpIndex.getNumberOfDataPairs());
+
+            // Random access to data pair range
+            String[] tmpLines = tmpIndex.readDataPairs(1234, 3);
+            assertEquals(6, tmpLines.length);
+            assertEquals("24700", tmpLines[0]);
+            assertEquals(this.getValue(1235), tmpLines[1]);
+            assertEquals("24740", tmpLines[4]);
+            assertEquals(this.getValue(1237), tmpLines[5]);
+            assertEquals(2, tmpIndex.readDataPairs(4999, 10).length);
+            assertEquals(0, tmpIndex.readDataPairs(5000, 10).length);
+
+            // Step range (bounds between steps)
+            tmpLines = tmpIndex.readStepRange(95, 160);
+            assertEquals(8, tmpLines.length);
+            assertEquals("100", tmpLines[0]);
+            assertEquals("160", tmpLines[6]);
+            assertEquals(10000, tmpIndex.readStepRange(0, Integer.MAX_VALUE).length);
+
+            // Sidecar index file is reused
+            ProgressFileIndex tmpReadIndex = this.progressFileUtils.getIndex(tmpFile.getPath());
+            assertNotSame(tmpIndex, tmpReadIndex);
+            assertEquals(tmpIndex.getNumberOfDataPairs(), tmpReadIndex.getNumberOfDataPairs());
+            for (int i = 0; i < tmpIndex.getNumberOfDataPairs(); i++) {
+                assertEquals(tmpIndex.getOffsets()[i], tmpReadIndex.getOffsets()[i]);
+                assertEquals(tmpIndex.getStep(i), tmpReadIndex.getStep(i));
+            }
+
+            // Changed progress file: Sidecar index file is outdated and rebuilt
+            this.writeProgressFile(tmpFile, 7, 1, "\r\n");
+            tmpIndex = this.progressFileUtils.getIndex(tmpFile.getPath());
+            assertEquals(7, tmpIndex.getNumberOfDataPairs());
+            tmpLines = tmpIndex.readStepRange(7, 7);
+            assertEquals("7", tmpLines[0]);
+            assertEquals(this.getValue(7), tmpLines[1]);
+
+            // Corrupt sidecar index file is ignored
+            Files.write(tmpIndexFile.toPath(), new byte[] {1, 2, 3});
+            tmpIndex = this.progressFileUtils.getIndex(tmpFile.getPath());
+            assertEquals(7, tmpIndex.getNumberOfDataPairs());
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Writes progress file
+     *
+     * @param aFile File
+     * @param aNumberOfDataPairs Number of data pairs
+     * @param aStepIncrement Step increment
+     * @param aLineSeparator Line separator
+     */
+    private void writeProgressFile(File aFile, int aNumberOfDataPairs, int aStepIncrement, String aLineSeparator) throws IOException {
+        StringBuilder tmpBuilder = new StringBuilder();
+        tmpBuilder.append(2 * aNumberOfDataPairs + 1).append(aLineSeparator);
+        tmpBuilder.append("Version 1.0.0").append(aLineSeparator);
+        for (int i = 1; i <= aNumberOfDataPairs; i++) {
+            tmpBuilder.append(i * aStepIncrement).append(aLineSeparator);
+            tmpBuilder.append(this.getValue(i)).append(aLineSeparator);
+        }
+        Files.write(aFile.toPath(), tmpBuilder.toString().getBytes(StandardCharsets.UTF_8));
+        // Ensure changed last-modified time for outdated sidecar index file
+        aFile.setLastModified(aFile.lastModified() + 2000L * aNumberOfDataPairs);
+    }
+
+    /**
+     * Returns value line of data pair
+     *
+     * @param aDataPairNumber Number of data pair
+     * @return Value line of data pair
+     */
+    private String getValue(int aDataPairNumber) {
+        return String.valueOf(1.0 + aDataPairNumber * 0.001);
+    }
+
+}
@@ -0,0 +1,317 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import junit.framework.TestCase;
+
+/**
+ * Test class for StepFileTokenizer and StepFileUtils
+ *
+ * @author Achim Zielesny
+ */
+public class TestStepFileUtils extends TestCase {
+
+    /**
+     * Utility for files
+     */
+    private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
+    /**
+     * Step file utility methods
+     */
+    private final StepFileUtils stepFileUtils = new StepFileUtils();
+
+    /**
+     * Test StepFileTokenizer.parseDouble() against Double.parseDouble()
+     */
+    public void test_parseDouble() throws IOException {
+        Random tmpRandom = new Random(4711L);
+        ArrayList<String> tmpTokenList = new ArrayList<>();
+        String[] tmpSpecialTokens = new String[] {
+            "0", "0.0", "-0.0", "1", "1.0", "10.0", "0.1", "0.001", "1.05", "123.456",
+            "9007199254740993", "9.007199254740993E15", "1.7976931348623157E308",
+            "4.9E-324", "2.2250738585072014E-308", "1.0E-4", "1.0E22", "1.0E23",
+            "7.705358982086182", "0.30000000000000004", "9999999999999999999",
+            "1234567890123456789012345", "NaN", "Infinity", "-Infinity", "+3.5", "5e-1"
+        };
+        tmpTokenList.addAll(Arrays.asList(tmpSpecialTokens));
+        for (int i = 0; i < 200000; i++) {
+            // Box coordinates
+            tmpTokenList.add(String.valueOf(tmpRandom.nextDouble() * 50.0));
+            // Single precision coordinates
+            tmpTokenList.add(String.valueOf(tmpRandom.nextFloat() * 50.0f));
+            // Arbitrary magnitudes
+            tmpTokenList.add(String.valueOf(Double.longBitsToDouble(tmpRandom.nextLong() & 0x7FFFFFFFFFFFFFFFL)));
+        }
+        StepFileTokenizer tmpTokenizer = this.getTokenizer(String.join("\n", tmpTokenList), 64);
+        for (String tmpToken : tmpTokenList) {
+            assertTrue(tmpTokenizer.nextToken());
+            double tmpExpected = Double.parseDouble(tmpToken);
+            double tmpActual = tmpTokenizer.parseDouble();
+            if (Double.isNaN(tmpExpected)) {
+                assertTrue(Double.isNaN(tmpActual));
+            } else {
+                assertEquals(tmpToken, Double.doubleToRawLongBits(tmpExpected), Double.doubleToRawLongBits(tmpActual));
+            }
+        }
+        assertFalse(tmpTokenizer.nextToken());
+    }
+
+    /**
+     * Test StepFileTokenizer.parseInt(), getName() and line terminators
+     */
+    public void test_tokenizer() throws IOException {
+        StepFileTokenizer tmpTokenizer = this.getTokenizer("Version 1.0.0\r\n-17\r\nH2O\n\nH2O\r2147483647", 3);
+        assertTrue(tmpTokenizer.nextToken());
+        assertTrue(tmpTokenizer.isToken("Version 1.0.0"));
+        assertTrue(tmpTokenizer.nextToken());
+        assertEquals(-17, tmpTokenizer.parseInt());
+        assertTrue(tmpTokenizer.nextToken());
+        String tmpName = tmpTokenizer.getName();
+        assertEquals("H2O", tmpName);
+        assertTrue(tmpTokenizer.nextToken());
+        assertEquals("", tmpTokenizer.getTokenString());
+        assertTrue(tmpTokenizer.nextToken());
+        // Interned name
+        assertSame(tmpName, tmpTokenizer.getName());
+        assertTrue(tmpTokenizer.nextToken());
+        assertEquals(Integer.MAX_VALUE, tmpTokenizer.parseInt());
+        assertFalse(tmpTokenizer.nextToken());
+    }
+
+    /**
+     * Test StepFileUtils.readTextFrame() against BufferedReader based parsing
+     */
+    public void test_readTextFrame() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestStepFileUtils").toFile();
+        try {
+            for (String tmpLineSeparator : new String[] {"\n", "\r\n"}) {
+                for (boolean tmpIsSinglePrecision : new boolean[] {false, true}) {
+                    String tmpStepFilePathname = tmpDirectory.getPath() + File.separatorChar + "PP100.gz";
+                    this.writeStepFile(tmpStepFilePathname, 20000, tmpIsSinglePrecision, tmpLineSeparator, new Random(13L));
+                    ParticlePositionFrame tmpExpectedFrame = this.readTextFrameWithBufferedReader(tmpStepFilePathname);
+                    ParticlePositionFrame tmpFrame = this.stepFileUtils.readTextFrame(tmpStepFilePathname);
+                    this.assertFrameEquals(tmpExpectedFrame, tmpFrame);
+                }
+            }
+            // Truncated file (e.g. still in write process)
+            String tmpStepFilePathname = tmpDirectory.getPath() + File.separatorChar + "PP200.gz";
+            try (PrintWriter tmpWriter = new PrintWriter(new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(tmpStepFilePathname)), StandardCharsets.UTF_8))) {
+                tmpWriter.print("Version 1.0.0\n10\nM\nP\n10\n1.0\n2.0\n");
+            }
+            assertNull(this.stepFileUtils.readTextFrame(tmpStepFilePathname));
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Test conversion to binary step file and reading of binary step file
+     */
+    public void test_binaryStepFile() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestStepFileUtils").toFile();
+        try {
+            File tmpStepsDirectory = new File(tmpDirectory, "Jdpd_Steps");
+            assertTrue(tmpStepsDirectory.mkdirs());
+            String tmpStepFilePathname = tmpStepsDirectory.getPath() + File.separatorChar + "PP100.gz";
+            this.writeStepFile(tmpStepFilePathname, 5000, false, "\n", new Random(17L));
+            ParticlePositionFrame tmpTextFrame = this.stepFileUtils.readTextFrame(tmpStepFilePathname);
+            assertFalse(this.stepFileUtils.hasCurrentBinaryStepFile(tmpStepFilePathname));
+            // Double precision: Identical to text frame
+            assertTrue(this.stepFileUtils.convertTextStepFile(tmpStepFilePathname, true));
+            assertTrue(this.stepFileUtils.hasCurrentBinaryStepFile(tmpStepFilePathname));
+            this.assertFrameEquals(tmpTextFrame, this.stepFileUtils.readFrame(tmpStepFilePathname));
+            // Single precision: Coordinates are rounded to float
+            assertTrue(this.stepFileUtils.convertTextStepFile(tmpStepFilePathname, false));
+            ParticlePositionFrame tmpFloatFrame = this.stepFileUtils.readBinaryFrame(this.stepFileUtils.getBinaryStepFilePathname(tmpStepFilePathname));
+            assertEquals(tmpTextFrame.getNumberOfPositions(), tmpFloatFrame.getNumberOfPositions());
+            for (int i = 0; i < tmpTextFrame.getNumberOfPositions(); i++) {
+                assertEquals((double) (float) tmpTextFrame.getX()[i], tmpFloatFrame.getX()[i]);
+                assertEquals((double) (float) tmpTextFrame.getZ()[i], tmpFloatFrame.getZ()[i]);
+            }
+            assertTrue(Arrays.equals(tmpTextFrame.getParticleIndices(), tmpFloatFrame.getParticleIndices()));
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Test round trip of writeBinaryFrame() and readBinaryFrame() with
+     * subsequent replacement and deletion of binary step file
+     */
+    public void test_binaryStepFileRoundTrip() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestStepFileUtils").toFile();
+        try {
+            String tmpStepFilePathname = tmpDirectory.getPath() + File.separatorChar + "PP200.gz";
+            this.writeStepFile(tmpStepFilePathname, 2000, false, "\n", new Random(23L));
+            ParticlePositionFrame tmpTextFrame = this.stepFileUtils.readTextFrame(tmpStepFilePathname);
+            String tmpBinaryStepFilePathname = tmpDirectory.getPath() + File.separatorChar + "PP200.bin";
+            assertTrue(this.stepFileUtils.writeBinaryFrame(tmpTextFrame, tmpBinaryStepFilePathname, true));
+            this.assertFrameEquals(tmpTextFrame, this.stepFileUtils.readBinaryFrame(tmpBinaryStepFilePathname));
+            // File is not locked after read: Replacement and deletion succeed
+            assertTrue(this.stepFileUtils.writeBinaryFrame(tmpTextFrame, tmpBinaryStepFilePathname, false));
+            ParticlePositionFrame tmpFloatFrame = this.stepFileUtils.readBinaryFrame(tmpBinaryStepFilePathname);
+            assertNotNull(tmpFloatFrame);
+            assertEquals((double) (float) tmpTextFrame.getY()[7], tmpFloatFrame.getY()[7]);
+            assertTrue(new File(tmpBinaryStepFilePathname).delete());
+            assertNull(this.stepFileUtils.readBinaryFrame(tmpBinaryStepFilePathname));
+            // Truncated binary step file
+            assertTrue(this.stepFileUtils.writeBinaryFrame(tmpTextFrame, tmpBinaryStepFilePathname, true));
+            byte[] tmpBytes = Files.readAllBytes(new File(tmpBinaryStepFilePathname).toPath());
+            Files.write(new File(tmpBinaryStepFilePathname).toPath(), Arrays.copyOf(tmpBytes, tmpBytes.length - 1));
+            assertNull(this.stepFileUtils.readBinaryFrame(tmpBinaryStepFilePathname));
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Returns tokenizer for text
+     *
+     * @param aText Text
+     * @param aBufferSize Buffer size
+     * @return Tokenizer
+     */
+    private StepFileTokenizer getTokenizer(String aText, int aBufferSize) {
+        return new StepFileTokenizer(new ByteArrayInputStream(aText.getBytes(StandardCharsets.UTF_8)), aBufferSize);
+    }
+
+    /**
+     * Writes random step file
+     *
+     * @param aFilePathname File pathname
+     * @param aNumberOfParticles Number of particles (multiple of 20)
+     * @param anIsSinglePrecision True: Float coordinates, false: Double coordinates
+     * @param aLineSeparator Line separator
+     * @param aRandom Random number generator
+     */
+    private void writeStepFile(String aFilePathname, int aNumberOfParticles, boolean anIsSinglePrecision, String aLineSeparator, Random aRandom) throws IOException {
+        String[][] tmpBlocks = new String[][] {{"H2O", "H2O"}, {"Lipid", "Head"}, {"Lipid", "Tail"}, {"Lipid", "Tail"}};
+        try (PrintWriter tmpWriter = new PrintWriter(new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(aFilePathname)), StandardCharsets.UTF_8))) {
+            tmpWriter.print("Version 1.0.0" + aLineSeparator + aNumberOfParticles + aLineSeparator);
+            int tmpParticleIndex = 0;
+            for (String[] tmpBlock : tmpBlocks) {
+                int tmpBlockSize = aNumberOfParticles / tmpBlocks.length;
+                tmpWriter.print(tmpBlock[0] + aLineSeparator + tmpBlock[1] + aLineSeparator + tmpBlockSize + aLineSeparator);
+                for (int i = 0; i < tmpBlockSize; i++) {
+                    for (int k = 0; k < 3; k++) {
+                        if (anIsSinglePrecision) {
+                            tmpWriter.print(String.valueOf(aRandom.nextFloat() * 20.0f) + aLineSeparator);
+                        } else {
+                            tmpWriter.print(String.valueOf(aRandom.nextDouble() * 20.0) + aLineSeparator);
+                        }
+                    }
+                    tmpWriter.print(tmpParticleIndex + aLineSeparator + (tmpParticleIndex / 5) + aLineSeparator);
+                    tmpParticleIndex++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads text step file with BufferedReader, Double.valueOf() and
+     * Integer.valueOf() (reference implementation)
+     *
+     * @param aFilePathname File pathname
+     * @return Frame
+     */
+    private ParticlePositionFrame readTextFrameWithBufferedReader(String aFilePathname) throws IOException {
+        try (BufferedReader tmpReader = new BufferedReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(aFilePathname)), StandardCharsets.UTF_8))) {
+            assertEquals("Version 1.0.0", tmpReader.readLine());
+            int tmpTotalNumberOfParticles = Integer.valueOf(tmpReader.readLine());
+            ArrayList<String> tmpMoleculeNameList = new ArrayList<>();
+            ArrayList<String> tmpParticleNameList = new ArrayList<>();
+            ArrayList<Integer> tmpBlockSizeList = new ArrayList<>();
+            double[] tmpX = new double[tmpTotalNumberOfParticles];
+            double[] tmpY = new double[tmpTotalNumberOfParticles];
+            double[] tmpZ = new double[tmpTotalNumberOfParticles];
+            int[] tmpParticleIndices = new int[tmpTotalNumberOfParticles];
+            int[] tmpMoleculeIndices = new int[tmpTotalNumberOfParticles];
+            int tmpIndex = 0;
+            String tmpLine;
+            while ((tmpLine = tmpReader.readLine()) != null) {
+                tmpMoleculeNameList.add(tmpLine);
+                tmpParticleNameList.add(tmpReader.readLine());
+                int tmpBlockSize = Integer.valueOf(tmpReader.readLine());
+                tmpBlockSizeList.add(tmpBlockSize);
+                for (int i = 0; i < tmpBlockSize; i++) {
+                    tmpX[tmpIndex] = Double.valueOf(tmpReader.readLine());
+                    tmpY[tmpIndex] = Double.valueOf(tmpReader.readLine());
+                    tmpZ[tmpIndex] = Double.valueOf(tmpReader.readLine());
+                    tmpParticleIndices[tmpIndex] = Integer.valueOf(tmpReader.readLine());
+                    tmpMoleculeIndices[tmpIndex] = Integer.valueOf(tmpReader.readLine());
+                    tmpIndex++;
+                }
+            }
+            int[] tmpBlockSizes = new int[tmpBlockSizeList.size()];
+            for (int i = 0; i < tmpBlockSizes.length; i++) {
+                tmpBlockSizes[i] = tmpBlockSizeList.get(i);
+            }
+            return new ParticlePositionFrame(
+                tmpTotalNumberOfParticles,
+                tmpMoleculeNameList.toArray(new String[0]),
+                tmpParticleNameList.toArray(new String[0]),
+                tmpBlockSizes,
+                tmpX,
+                tmpY,
+                tmpZ,
+                tmpParticleIndices,
+                tmpMoleculeIndices
+            );
+        }
+    }
+
+    /**
+     * Asserts equal frames
+     *
+     * @param anExpectedFrame Expected frame
+     * @param aFrame Frame
+     */
+    private void assertFrameEquals(ParticlePositionFrame anExpectedFrame, ParticlePositionFrame aFrame) {
+        assertNotNull(aFrame);
+        assertEquals(anExpectedFrame.getTotalNumberOfParticles(), aFrame.getTotalNumberOfParticles());
+        assertTrue(Arrays.equals(anExpectedFrame.getBlockMoleculeNames(), aFrame.getBlockMoleculeNames()));
+        assertTrue(Arrays.equals(anExpectedFrame.getBlockParticleNames(), aFrame.getBlockParticleNames()));
+        assertTrue(Arrays.equals(anExpectedFrame.getBlockSizes(), aFrame.getBlockSizes()));
+        assertTrue(Arrays.equals(anExpectedFrame.getX(), aFrame.getX()));
+        assertTrue(Arrays.equals(anExpectedFrame.getY(), aFrame.getY()));
+        assertTrue(Arrays.equals(anExpectedFrame.getZ(), aFrame.getZ()));
+        assertTrue(Arrays.equals(anExpectedFrame.getParticleIndices(), aFrame.getParticleIndices()));
+        assertTrue(Arrays.equals(anExpectedFrame.getMoleculeIndices(), aFrame.getMoleculeIndices()));
+    }
+
+}
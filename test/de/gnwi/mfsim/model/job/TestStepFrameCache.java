@@ -0,0 +1,208 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.job;
+
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+import junit.framework.TestCase;
+
+/**
+ * Test class for StepFrameCache
+ *
+ * @author Achim Zielesny
+ */
+public class TestStepFrameCache extends TestCase {
+
+    /**
+     * Utility for files
+     */
+    private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
+    /**
+     * Step file utility methods
+     */
+    private final StepFileUtils stepFileUtils = new StepFileUtils();
+
+    /**
+     * Test hits, misses and least-recently-used eviction
+     */
+    public void test_lruEviction() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestStepFrameCache").toFile();
+        try {
+            String[] tmpStepFilePathnames = new String[3];
+            for (int i = 0; i < tmpStepFilePathnames.length; i++) {
+                tmpStepFilePathnames[i] = this.writeStepFile(tmpDirectory, (i + 1) * 100, 1000, 0.1 * i);
+            }
+            ParticlePositionFrame tmpFrame = this.stepFileUtils.readFrame(tmpStepFilePathnames[0]);
+            // Budget for exactly two frames
+            StepFrameCache tmpCache = new StepFrameCache(2L * StepFrameCache.getEstimatedSizeInBytes(tmpFrame));
+            ParticlePositionFrame tmpFrame0 = tmpCache.getFrame(tmpStepFilePathnames[0]);
+            ParticlePositionFrame tmpFrame1 = tmpCache.getFrame(tmpStepFilePathnames[1]);
+            assertEquals(2, tmpCache.getNumberOfFrames());
+            assertEquals(2L, tmpCache.getNumberOfMisses());
+            // Hit: Identical instance, step 0 becomes most recently used
+            assertSame(tmpFrame0, tmpCache.getFrame(tmpStepFilePathnames[0]));
+            assertEquals(1L, tmpCache.getNumberOfHits());
+            assertEquals(tmpFrame.getX()[10], tmpFrame0.getX()[10]);
+            // Step 2 evicts least recently used step 1
+            tmpCache.getFrame(tmpStepFilePathnames[2]);
+            assertEquals(2, tmpCache.getNumberOfFrames());
+            assertTrue(tmpCache.getSizeInBytes() <= 2L * StepFrameCache.getEstimatedSizeInBytes(tmpFrame));
+            assertSame(tmpFrame0, tmpCache.getFrame(tmpStepFilePathnames[0]));
+            assertNotSame(tmpFrame1, tmpCache.getFrame(tmpStepFilePathnames[1]));
+            assertEquals(4L, tmpCache.getNumberOfMisses());
+            // Frame larger than budget is not cached
+            StepFrameCache tmpSmallCache = new StepFrameCache(StepFrameCache.getEstimatedSizeInBytes(tmpFrame) / 2L);
+            assertNotNull(tmpSmallCache.getFrame(tmpStepFilePathnames[0]));
+            assertEquals(0, tmpSmallCache.getNumberOfFrames());
+            // Missing file
+            assertNull(tmpCache.getFrame(tmpDirectory.getPath() + File.separatorChar + "PP999.gz"));
+            // Clear
+            tmpCache.clear();
+            assertEquals(0, tmpCache.getNumberOfFrames());
+            assertEquals(0L, tmpCache.getSizeInBytes());
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Test that changed step files and new binary step files are not served
+     * from stale cache entries
+     */
+    public void test_changedFiles() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestStepFrameCache").toFile();
+        try {
+            StepFrameCache tmpCache = new StepFrameCache(64L * 1024L * 1024L);
+            String tmpStepFilePathname = this.writeStepFile(tmpDirectory, 100, 500, 0.0);
+            ParticlePositionFrame tmpTextFrame = tmpCache.getFrame(tmpStepFilePathname);
+            assertSame(tmpTextFrame, tmpCache.getFrame(tmpStepFilePathname));
+            // Float binary step file: Different precision, i.e. different key
+            assertTrue(this.stepFileUtils.convertTextStepFile(tmpStepFilePathname, false));
+            ParticlePositionFrame tmpFloatFrame = tmpCache.getFrame(tmpStepFilePathname);
+            assertNotSame(tmpTextFrame, tmpFloatFrame);
+            assertEquals((double) (float) tmpTextFrame.getY()[7], tmpFloatFrame.getY()[7]);
+            assertSame(tmpFloatFrame, tmpCache.getFrame(tmpStepFilePathname));
+            // Rewritten text step file (newer than binary step file)
+            new File(this.stepFileUtils.getBinaryStepFilePathname(tmpStepFilePathname)).setLastModified(1000L);
+            this.writeStepFile(tmpDirectory, 100, 500, 0.5);
+            ParticlePositionFrame tmpNewTextFrame = tmpCache.getFrame(tmpStepFilePathname);
+            assertNotSame(tmpTextFrame, tmpNewTextFrame);
+            assertEquals(tmpTextFrame.getX()[3] + 0.5, tmpNewTextFrame.getX()[3], 1.0E-12);
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Test that a second getFrame() call returns the same frame with the same
+     * and unchanged arrays (read-only shared cache data)
+     */
+    public void test_sharedFrame() throws IOException {
+        File tmpDirectory = Files.createTempDirectory("TestStepFrameCache").toFile();
+        try {
+            StepFrameCache tmpCache = new StepFrameCache(64L * 1024L * 1024L);
+            String tmpStepFilePathname = this.writeStepFile(tmpDirectory, 100, 500, 0.25);
+            ParticlePositionFrame tmpFirstFrame = tmpCache.getFrame(tmpStepFilePathname);
+            double[] tmpXs = tmpFirstFrame.getX().clone();
+            double[] tmpYs = tmpFirstFrame.getY().clone();
+            double[] tmpZs = tmpFirstFrame.getZ().clone();
+            int[] tmpParticleIndices = tmpFirstFrame.getParticleIndices().clone();
+            int[] tmpMoleculeIndices = tmpFirstFrame.getMoleculeIndices().clone();
+
+            ParticlePositionFrame tmpSecondFrame = tmpCache.getFrame(tmpStepFilePathname);
+            assertSame(tmpFirstFrame, tmpSecondFrame);
+            assertEquals(1L, tmpCache.getNumberOfHits());
+            assertSame(tmpFirstFrame.getX(), tmpSecondFrame.getX());
+            assertSame(tmpFirstFrame.getParticleIndices(), tmpSecondFrame.getParticleIndices());
+            assertTrue(Arrays.equals(tmpXs, tmpSecondFrame.getX()));
+            assertTrue(Arrays.equals(tmpYs, tmpSecondFrame.getY()));
+            assertTrue(Arrays.equals(tmpZs, tmpSecondFrame.getZ()));
+            assertTrue(Arrays.equals(tmpParticleIndices, tmpSecondFrame.getParticleIndices()));
+            assertTrue(Arrays.equals(tmpMoleculeIndices, tmpSecondFrame.getMoleculeIndices()));
+            // Cached data are identical to data of step file
+            ParticlePositionFrame tmpUncachedFrame = this.stepFileUtils.readFrame(tmpStepFilePathname);
+            assertTrue(Arrays.equals(tmpUncachedFrame.getX(), tmpSecondFrame.getX()));
+            assertTrue(Arrays.equals(tmpUncachedFrame.getY(), tmpSecondFrame.getY()));
+            assertTrue(Arrays.equals(tmpUncachedFrame.getZ(), tmpSecondFrame.getZ()));
+            assertTrue(Arrays.equals(tmpUncachedFrame.getParticleIndices(), tmpSecondFrame.getParticleIndices()));
+            assertTrue(Arrays.equals(tmpUncachedFrame.getMoleculeIndices(), tmpSecondFrame.getMoleculeIndices()));
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Test prefetch
+     */
+    public void test_prefetch() throws Exception {
+        File tmpDirectory = Files.createTempDirectory("TestStepFrameCache").toFile();
+        try {
+            StepFrameCache tmpCache = new StepFrameCache(64L * 1024L * 1024L);
+            String[] tmpStepFilePathnames = new String[3];
+            for (int i = 0; i < tmpStepFilePathnames.length; i++) {
+                tmpStepFilePathnames[i] = this.writeStepFile(tmpDirectory, (i + 1) * 100, 1000, 0.1 * i);
+            }
+            tmpCache.prefetch(tmpStepFilePathnames);
+            for (int i = 0; i < 1000 && tmpCache.getNumberOfFrames() < tmpStepFilePathnames.length; i++) {
+                Thread.sleep(10L);
+            }
+            assertEquals(tmpStepFilePathnames.length, tmpCache.getNumberOfFrames());
+            for (String tmpStepFilePathname : tmpStepFilePathnames) {
+                assertNotNull(tmpCache.getFrame(tmpStepFilePathname));
+            }
+            assertEquals((long) tmpStepFilePathnames.length, tmpCache.getNumberOfHits());
+            assertEquals((long) tmpStepFilePathnames.length, tmpCache.getNumberOfMisses());
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Writes step file into steps directory of job result directory
+     *
+     * @param aJobResultDirectory Job result directory
+     * @param aStep Step
+     * @param aNumberOfParticles Number of particles
+     * @param anOffset Offset of coordinates
+     * @return Pathname of step file
+     */
+    private String writeStepFile(File aJobResultDirectory, int aStep, int aNumberOfParticles, double anOffset) throws IOException {
+        File tmpStepsDirectory = new File(aJobResultDirectory, "Jdpd_Steps");
+        tmpStepsDirectory.mkdirs();
+        String tmpStepFilePathname = tmpStepsDirectory.getPath() + File.separatorChar + "PP" + aStep + ".gz";
+        try (PrintWriter tmpWriter = new PrintWriter(new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(tmpStepFilePathname)), StandardCharsets.UTF_8))) {
+            tmpWriter.print("Version 1.0.0\n" + aNumberOfParticles + "\nH2O\nH2O\n" + aNumberOfParticles + "\n");
+            for (int i = 0; i < aNumberOfParticles; i++) {
+                tmpWriter.print((anOffset + 0.01 * i) + "\n" + (anOffset + 0.02 * i) + "\n" + (anOffset + 0.03 * i) + "\n" + i + "\n" + i + "\n");
+            }
+        }
+        return tmpStepFilePathname;
+    }
+
+}
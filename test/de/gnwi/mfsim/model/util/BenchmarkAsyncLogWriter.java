@@ -0,0 +1,87 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Reporting benchmark for AsyncLogWriter: Contended synchronized 
+ * open-append-close per entry (former ModelUtils.appendToLogfile()) versus 
+ * asynchronous log writer.
+ * NOTE: This is NOT part of the unit test suite (no Test prefix, no 
+ * assertions). It is started manually via main() and only prints timings.
+ *
+ * @author Achim Zielesny
+ */
+public class BenchmarkAsyncLogWriter {
+
+    /**
+     * Main
+     *
+     * @param args Optional: Number of producer threads and number of entries 
+     * per thread
+     * @throws IOException Thrown if temporary directory could not be created
+     * @throws InterruptedException Thrown if producers are interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int tmpNumberOfThreads = 8;
+        int tmpNumberOfEntries = 2000;
+        if (args.length > 0) {
+            tmpNumberOfThreads = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            tmpNumberOfEntries = Integer.parseInt(args[1]);
+        }
+        File tmpDirectory = Files.createTempDirectory("BenchmarkAsyncLogWriter").toFile();
+        try {
+            String tmpSynchronizedLogfilePathname = new File(tmpDirectory, "SynchronizedLog.txt").getPath();
+            Object tmpLock = new Object();
+            long tmpStart = System.nanoTime();
+            TestAsyncLogWriter.runProducers(
+                tmpNumberOfThreads, 
+                tmpNumberOfEntries, 
+                (String anEntry) -> {
+                    synchronized (tmpLock) {
+                        ModelUtils.appendSingleStringToFile(anEntry, tmpSynchronizedLogfilePathname);
+                    }
+                }
+            );
+            long tmpSynchronizedNanoseconds = System.nanoTime() - tmpStart;
+
+            String tmpAsyncLogfilePathname = new File(tmpDirectory, "AsyncLog.txt").getPath();
+            AsyncLogWriter tmpLogWriter = new AsyncLogWriter(tmpAsyncLogfilePathname, 8192, 256, 250L, 0L, 0);
+            tmpStart = System.nanoTime();
+            TestAsyncLogWriter.runProducers(tmpNumberOfThreads, tmpNumberOfEntries, (String anEntry) -> tmpLogWriter.append(anEntry));
+            tmpLogWriter.flush();
+            long tmpAsyncNanoseconds = System.nanoTime() - tmpStart;
+            tmpLogWriter.close();
+            System.out.println(
+                "AsyncLogWriter: " + tmpNumberOfThreads + " threads x " + tmpNumberOfEntries + " entries, " 
+                + "synchronized append = " + tmpSynchronizedNanoseconds / 1000000L + " ms, " 
+                + "asynchronous append = " + tmpAsyncNanoseconds / 1000000L + " ms"
+            );
+        } finally {
+            new FileUtilityMethods().deleteDirectory(tmpDirectory);
+        }
+    }
+
+}
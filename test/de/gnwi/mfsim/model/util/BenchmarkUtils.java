@@ -0,0 +1,64 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.util;
+
+/**
+ * Utility class with static methods for reporting benchmarks.
+ * NOTE: Heap measurements depend on garbage collection and are only used 
+ * for reporting, NEVER for assertions of unit tests.
+ *
+ * @author Achim Zielesny
+ */
+public final class BenchmarkUtils {
+
+    // <editor-fold defaultstate="collapsed" desc="Private constructor">
+    /**
+     * Private constructor
+     */
+    private BenchmarkUtils() {
+    }
+    // </editor-fold>
+    //
+    // <editor-fold defaultstate="collapsed" desc="Public static methods">
+    /**
+     * Used heap memory after (requested) garbage collection
+     *
+     * @return Used heap memory in byte
+     */
+    public static long getUsedMemory() {
+        Runtime tmpRuntime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return tmpRuntime.totalMemory() - tmpRuntime.freeMemory();
+    }
+
+    /**
+     * Returns memory in MiB for output
+     *
+     * @param aMemory Memory in byte
+     * @return Memory in MiB
+     */
+    public static String getMemoryInMiB(long aMemory) {
+        return String.format("%.1f MiB", aMemory / (1024.0 * 1024.0));
+    }
+    // </editor-fold>
+
+}
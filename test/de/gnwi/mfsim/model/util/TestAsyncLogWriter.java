@@ -0,0 +1,221 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import junit.framework.TestCase;
+
+/**
+ * Test class for AsyncLogWriter
+ *
+ * @author Achim Zielesny
+ */
+public class TestAsyncLogWriter extends TestCase {
+
+    /**
+     * Utility for files
+     */
+    private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
+    /**
+     * Test that entries of concurrent producers are all written in producer 
+     * order
+     */
+    public void test_concurrentAppend() throws Exception {
+        File tmpDirectory = Files.createTempDirectory("TestAsyncLogWriter").toFile();
+        try {
+            String tmpLogfilePathname = new File(tmpDirectory, "Log.txt").getPath();
+            // Small ring buffer to provoke back pressure
+            AsyncLogWriter tmpLogWriter = new AsyncLogWriter(tmpLogfilePathname, 64, 16, 50L, 0L, 0);
+            assertEquals(64, tmpLogWriter.getCapacity());
+            int tmpNumberOfThreads = 8;
+            int tmpNumberOfEntries = 5000;
+            TestAsyncLogWriter.runProducers(tmpNumberOfThreads, tmpNumberOfEntries, (String anEntry) -> tmpLogWriter.append(anEntry));
+            tmpLogWriter.flush();
+            assertEquals(0L, tmpLogWriter.getNumberOfPendingEntries());
+            this.assertProducerOrder(this.readLines(tmpLogfilePathname), tmpNumberOfThreads, tmpNumberOfEntries);
+            tmpLogWriter.close();
+            assertEquals(0L, tmpLogWriter.getNumberOfLostEntries());
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Test size-based rotation of log file
+     */
+    public void test_rotation() throws Exception {
+        File tmpDirectory = Files.createTempDirectory("TestAsyncLogWriter").toFile();
+        try {
+            String tmpLogfilePathname = new File(tmpDirectory, "Log.txt").getPath();
+            AsyncLogWriter tmpLogWriter = new AsyncLogWriter(tmpLogfilePathname, 1024, 32, 50L, 1000L, 2);
+            for (int i = 0; i < 500; i++) {
+                tmpLogWriter.append(String.format("Entry %05d", i));
+            }
+            tmpLogWriter.close();
+            assertTrue(new File(tmpLogfilePathname).isFile());
+            assertTrue(new File(tmpLogWriter.getRotatedLogfilePathname(1)).isFile());
+            assertTrue(new File(tmpLogWriter.getRotatedLogfilePathname(2)).isFile());
+            assertFalse(new File(tmpLogWriter.getRotatedLogfilePathname(3)).isFile());
+            assertTrue(new File(tmpLogfilePathname).length() <= 1000L);
+            assertTrue(new File(tmpLogWriter.getRotatedLogfilePathname(1)).length() <= 1000L);
+            // Kept entries are contiguous and end with last entry
+            List<String> tmpLines = new ArrayList<>();
+            tmpLines.addAll(this.readLines(tmpLogWriter.getRotatedLogfilePathname(2)));
+            tmpLines.addAll(this.readLines(tmpLogWriter.getRotatedLogfilePathname(1)));
+            tmpLines.addAll(this.readLines(tmpLogfilePathname));
+            int tmpFirstIndex = 500 - tmpLines.size();
+            for (int i = 0; i < tmpLines.size(); i++) {
+                assertEquals(String.format("Entry %05d", tmpFirstIndex + i), tmpLines.get(i));
+            }
+
+            // Reset deletes log file and rotated log files
+            tmpLogWriter.reset();
+            assertFalse(new File(tmpLogfilePathname).isFile());
+            assertFalse(new File(tmpLogWriter.getRotatedLogfilePathname(1)).isFile());
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Test that close() writes pending entries without waiting for flush 
+     * interval and that entries after close are written synchronously
+     */
+    public void test_close() throws Exception {
+        File tmpDirectory = Files.createTempDirectory("TestAsyncLogWriter").toFile();
+        try {
+            String tmpLogfilePathname = new File(tmpDirectory, "Log.txt").getPath();
+            AsyncLogWriter tmpLogWriter = new AsyncLogWriter(tmpLogfilePathname, 1024, 1000, 60000L, 0L, 0);
+            for (int i = 0; i < 10; i++) {
+                tmpLogWriter.append("Entry " + i);
+            }
+            long tmpStart = System.currentTimeMillis();
+            tmpLogWriter.close();
+            assertTrue(System.currentTimeMillis() - tmpStart < 30000L);
+            assertTrue(tmpLogWriter.isClosed());
+            assertEquals(10, this.readLines(tmpLogfilePathname).size());
+            tmpLogWriter.append("Entry after close");
+            List<String> tmpLines = this.readLines(tmpLogfilePathname);
+            assertEquals(11, tmpLines.size());
+            assertEquals("Entry after close", tmpLines.get(10));
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Test that entries of contended producers are completely written in 
+     * producer order by synchronized open-append-close per entry (former 
+     * ModelUtils.appendToLogfile()) and by asynchronous log writer
+     */
+    public void test_contendedAppend() throws Exception {
+        File tmpDirectory = Files.createTempDirectory("TestAsyncLogWriter").toFile();
+        try {
+            int tmpNumberOfThreads = 8;
+            int tmpNumberOfEntries = 2000;
+
+            String tmpSynchronizedLogfilePathname = new File(tmpDirectory, "SynchronizedLog.txt").getPath();
+            Object tmpLock = new Object();
+            TestAsyncLogWriter.runProducers(
+                tmpNumberOfThreads, 
+                tmpNumberOfEntries, 
+                (String anEntry) -> {
+                    synchronized (tmpLock) {
+                        ModelUtils.appendSingleStringToFile(anEntry, tmpSynchronizedLogfilePathname);
+                    }
+                }
+            );
+            this.assertProducerOrder(this.readLines(tmpSynchronizedLogfilePathname), tmpNumberOfThreads, tmpNumberOfEntries);
+
+            String tmpAsyncLogfilePathname = new File(tmpDirectory, "AsyncLog.txt").getPath();
+            AsyncLogWriter tmpLogWriter = new AsyncLogWriter(tmpAsyncLogfilePathname, 8192, 256, 250L, 0L, 0);
+            TestAsyncLogWriter.runProducers(tmpNumberOfThreads, tmpNumberOfEntries, (String anEntry) -> tmpLogWriter.append(anEntry));
+            tmpLogWriter.flush();
+            tmpLogWriter.close();
+            this.assertProducerOrder(this.readLines(tmpAsyncLogfilePathname), tmpNumberOfThreads, tmpNumberOfEntries);
+            assertEquals(0L, tmpLogWriter.getNumberOfLostEntries());
+        } finally {
+            this.fileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Asserts that all entries of producers (see runProducers()) are 
+     * contained in lines in producer order
+     *
+     * @param aLines Lines
+     * @param aNumberOfThreads Number of producer threads
+     * @param aNumberOfEntries Number of entries per thread
+     */
+    private void assertProducerOrder(List<String> aLines, int aNumberOfThreads, int aNumberOfEntries) {
+        assertEquals(aNumberOfThreads * aNumberOfEntries, aLines.size());
+        int[] tmpNextIndices = new int[aNumberOfThreads];
+        for (String tmpLine : aLines) {
+            String[] tmpItems = tmpLine.split(" ");
+            int tmpThreadIndex = Integer.parseInt(tmpItems[1]);
+            assertEquals(tmpNextIndices[tmpThreadIndex], Integer.parseInt(tmpItems[3]));
+            tmpNextIndices[tmpThreadIndex]++;
+        }
+    }
+
+    /**
+     * Runs concurrent producers that append entries of form "Thread [thread 
+     * index] Entry [entry index]"
+     *
+     * @param aNumberOfThreads Number of producer threads
+     * @param aNumberOfEntries Number of entries per thread
+     * @param anAppender Appender
+     */
+    static void runProducers(int aNumberOfThreads, int aNumberOfEntries, Consumer<String> anAppender) throws InterruptedException {
+        Thread[] tmpThreads = new Thread[aNumberOfThreads];
+        for (int i = 0; i < aNumberOfThreads; i++) {
+            final int tmpThreadIndex = i;
+            tmpThreads[i] = new Thread(() -> {
+                for (int j = 0; j < aNumberOfEntries; j++) {
+                    anAppender.accept("Thread " + tmpThreadIndex + " Entry " + j);
+                }
+            });
+        }
+        for (Thread tmpThread : tmpThreads) {
+            tmpThread.start();
+        }
+        for (Thread tmpThread : tmpThreads) {
+            tmpThread.join();
+        }
+    }
+
+    /**
+     * Reads lines of file
+     *
+     * @param aPathname Pathname of file
+     * @return Lines of file
+     */
+    private List<String> readLines(String aPathname) throws IOException {
+        return Files.readAllLines(new File(aPathname).toPath(), Charset.defaultCharset());
+    }
+
+}
@@ -0,0 +1,142 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.util;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import junit.framework.TestCase;
+
+/**
+ * Test class for ContentCache
+ *
+ * @author Achim Zielesny
+ */
+public class TestContentCache extends TestCase {
+
+    /**
+     * Test hits, misses and per content limit
+     */
+    public void test_hitsAndMisses() {
+        ContentCache<StringBuilder> tmpCache = new ContentCache<>(1000L, 2);
+        String tmpContent = "A-B-C";
+        assertNull(tmpCache.poll(tmpContent));
+        StringBuilder tmpInstance = new StringBuilder(tmpContent);
+        assertTrue(tmpCache.offer(tmpContent, tmpInstance));
+        // Equal content of a different string instance
+        assertSame(tmpInstance, tmpCache.poll(new String("A-B-C")));
+        assertNull(tmpCache.poll(tmpContent));
+        assertNull(tmpCache.poll("A-B-D"));
+        assertEquals(1L, tmpCache.getHitCount());
+        assertEquals(3L, tmpCache.getMissCount());
+        assertTrue(tmpCache.offer(tmpContent, new StringBuilder()));
+        assertTrue(tmpCache.offer(tmpContent, new StringBuilder()));
+        assertFalse(tmpCache.offer(tmpContent, new StringBuilder()));
+        assertEquals(2, tmpCache.getNumberOfInstances());
+        assertEquals(10L, tmpCache.getWeight());
+        tmpCache.clear();
+        assertEquals(0, tmpCache.getNumberOfInstances());
+        assertEquals(0L, tmpCache.getWeight());
+        assertNull(tmpCache.poll(tmpContent));
+    }
+
+    /**
+     * Test least recently used eviction
+     */
+    public void test_weightEviction() {
+        ContentCache<String> tmpCache = new ContentCache<>(30L, 4);
+        String tmpContent1 = "0123456789";
+        String tmpContent2 = "abcdefghij";
+        String tmpContent3 = "ABCDEFGHIJ";
+        String tmpContent4 = "klmnopqrst";
+        assertTrue(tmpCache.offer(tmpContent1, "1"));
+        assertTrue(tmpCache.offer(tmpContent2, "2"));
+        assertTrue(tmpCache.offer(tmpContent3, "3"));
+        // Access of content 1 and return: Content 2 is least recently used
+        assertEquals("1", tmpCache.poll(tmpContent1));
+        assertTrue(tmpCache.offer(tmpContent1, "1"));
+        assertTrue(tmpCache.offer(tmpContent4, "4"));
+        assertEquals(3, tmpCache.getNumberOfInstances());
+        assertEquals(30L, tmpCache.getWeight());
+        assertEquals(1L, tmpCache.getEvictionCount());
+        assertNull(tmpCache.poll(tmpContent2));
+        assertEquals("1", tmpCache.poll(tmpContent1));
+        assertEquals("3", tmpCache.poll(tmpContent3));
+        assertEquals("4", tmpCache.poll(tmpContent4));
+        // Content longer than maximum weight is rejected
+        assertFalse(tmpCache.offer("0123456789012345678901234567890", "5"));
+        assertEquals(0L, tmpCache.getWeight());
+    }
+
+    /**
+     * Test concurrent polls and offers
+     */
+    public void test_concurrentAccess() throws Exception {
+        ContentCache<int[]> tmpCache = new ContentCache<>(200L, 4);
+        ExecutorService tmpExecutorService = Executors.newFixedThreadPool(8);
+        try {
+            ArrayList<Future<Integer>> tmpFutures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final int tmpSeed = i;
+                tmpFutures.add(tmpExecutorService.submit(() -> {
+                    int tmpNumberOfBuilds = 0;
+                    for (int j = 0; j < 20000; j++) {
+                        String tmpContent = "Content-" + String.valueOf((j * 7 + tmpSeed) % 25);
+                        int[] tmpInstance = tmpCache.poll(tmpContent);
+                        if (tmpInstance == null) {
+                            tmpInstance = new int[]{tmpContent.hashCode(), 0};
+                            tmpNumberOfBuilds++;
+                        }
+                        // Exclusive use
+                        assertEquals(tmpContent.hashCode(), tmpInstance[0]);
+                        assertEquals(0, tmpInstance[1]++);
+                        tmpInstance[1]--;
+                        tmpCache.offer(tmpContent, tmpInstance);
+                    }
+                    return tmpNumberOfBuilds;
+                }));
+            }
+            long tmpNumberOfBuilds = 0;
+            for (Future<Integer> tmpFuture : tmpFutures) {
+                tmpNumberOfBuilds += tmpFuture.get();
+            }
+            assertEquals(8L * 20000L, tmpCache.getHitCount() + tmpCache.getMissCount());
+            assertEquals(tmpNumberOfBuilds, tmpCache.getMissCount());
+            assertTrue(tmpCache.getWeight() <= 200L);
+            int tmpNumberOfInstances = 0;
+            long tmpWeight = 0L;
+            for (int i = 0; i < 25; i++) {
+                String tmpContent = "Content-" + String.valueOf(i);
+                while (tmpCache.poll(tmpContent) != null) {
+                    tmpNumberOfInstances++;
+                    tmpWeight += tmpContent.length();
+                }
+            }
+            assertEquals(0, tmpCache.getNumberOfInstances());
+            assertEquals(0L, tmpCache.getWeight());
+            assertTrue(tmpWeight <= 200L);
+            assertTrue(tmpNumberOfInstances > 0);
+        } finally {
+            tmpExecutorService.shutdownNow();
+        }
+    }
+
+}
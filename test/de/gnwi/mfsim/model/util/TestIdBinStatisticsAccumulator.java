@@ -0,0 +1,151 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.util;
+
+import java.io.File;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Test class for IdBinStatisticsAccumulator: Streaming statistics are 
+ * compared with statistics calculated from stored values
+ *
+ * @author Achim Zielesny
+ */
+public class TestIdBinStatisticsAccumulator extends TestCase {
+
+    /**
+     * Test of mean and standard deviation of single and merged accumulators
+     */
+    public void test_statistics() {
+        Random tmpRandom = new Random(42L);
+        int tmpNumberOfIds = 3;
+        int tmpNumberOfBins = 150;
+        int tmpNumberOfSeries = 40;
+        double[][][] tmpValues = new double[tmpNumberOfIds][tmpNumberOfBins][tmpNumberOfSeries];
+        IdBinStatisticsAccumulator tmpSingleAccumulator = new IdBinStatisticsAccumulator(tmpNumberOfIds);
+        IdBinStatisticsAccumulator tmpFirstAccumulator = new IdBinStatisticsAccumulator(tmpNumberOfIds);
+        IdBinStatisticsAccumulator tmpSecondAccumulator = new IdBinStatisticsAccumulator(tmpNumberOfIds);
+        for (int tmpSeries = 0; tmpSeries < tmpNumberOfSeries; tmpSeries++) {
+            IdBinStatisticsAccumulator tmpPartialAccumulator = tmpSeries % 3 == 0 ? tmpFirstAccumulator : tmpSecondAccumulator;
+            for (int tmpId = 0; tmpId < tmpNumberOfIds; tmpId++) {
+                tmpSingleAccumulator.addSeries(tmpId);
+                tmpPartialAccumulator.addSeries(tmpId);
+                for (int tmpBinIndex = 0; tmpBinIndex < tmpNumberOfBins; tmpBinIndex++) {
+                    double tmpValue = 1.0 + tmpRandom.nextGaussian();
+                    tmpValues[tmpId][tmpBinIndex][tmpSeries] = tmpValue;
+                    double tmpKey = 0.05 * (tmpBinIndex + 0.5);
+                    tmpSingleAccumulator.add(tmpId, tmpBinIndex, tmpKey, tmpValue);
+                    tmpPartialAccumulator.add(tmpId, tmpBinIndex, tmpKey, tmpValue);
+                }
+            }
+        }
+        tmpFirstAccumulator.merge(tmpSecondAccumulator);
+        for (IdBinStatisticsAccumulator tmpAccumulator : new IdBinStatisticsAccumulator[] {tmpSingleAccumulator, tmpFirstAccumulator}) {
+            for (int tmpId = 0; tmpId < tmpNumberOfIds; tmpId++) {
+                assertEquals(tmpNumberOfSeries, tmpAccumulator.getNumberOfSeries(tmpId));
+                assertEquals(tmpNumberOfBins, tmpAccumulator.getNumberOfBins(tmpId));
+                for (int tmpBinIndex = 0; tmpBinIndex < tmpNumberOfBins; tmpBinIndex++) {
+                    double[] tmpBinValues = tmpValues[tmpId][tmpBinIndex];
+                    double tmpMean = 0.0;
+                    for (double tmpValue : tmpBinValues) {
+                        tmpMean += tmpValue;
+                    }
+                    tmpMean /= (double) tmpBinValues.length;
+                    double tmpVariance = 0.0;
+                    for (double tmpValue : tmpBinValues) {
+                        tmpVariance += (tmpValue - tmpMean) * (tmpValue - tmpMean);
+                    }
+                    tmpVariance /= (double) (tmpBinValues.length - 1);
+                    assertEquals(0.05 * (tmpBinIndex + 0.5), tmpAccumulator.getKey(tmpId, tmpBinIndex), 0.0);
+                    assertEquals(tmpNumberOfSeries, tmpAccumulator.getCount(tmpId, tmpBinIndex));
+                    assertEquals(tmpMean, tmpAccumulator.getMean(tmpId, tmpBinIndex), 1.0E-12);
+                    assertEquals(Math.sqrt(tmpVariance), tmpAccumulator.getStandardDeviation(tmpId, tmpBinIndex), 1.0E-10);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of write to and read from file
+     */
+    public void test_fileRoundTrip() throws Exception {
+        Random tmpRandom = new Random(7L);
+        IdBinStatisticsAccumulator tmpAccumulator = new IdBinStatisticsAccumulator(4);
+        for (int tmpId = 0; tmpId < 3; tmpId++) {
+            for (int tmpSeries = 0; tmpSeries < 5; tmpSeries++) {
+                tmpAccumulator.addSeries(tmpId);
+                for (int tmpBinIndex = 0; tmpBinIndex < 70 + tmpId; tmpBinIndex++) {
+                    tmpAccumulator.add(tmpId, tmpBinIndex, 0.1 * tmpBinIndex, tmpRandom.nextDouble());
+                }
+            }
+        }
+        File tmpFile = File.createTempFile("TestIdBinStatisticsAccumulator", ".bin");
+        try {
+            assertTrue(tmpAccumulator.writeToFile(tmpFile.getPath()));
+            assertNull(IdBinStatisticsAccumulator.readFromFile(tmpFile.getPath(), 3));
+            IdBinStatisticsAccumulator tmpReadAccumulator = IdBinStatisticsAccumulator.readFromFile(tmpFile.getPath(), 4);
+            assertNotNull(tmpReadAccumulator);
+            for (int tmpId = 0; tmpId < 4; tmpId++) {
+                assertEquals(tmpAccumulator.getNumberOfSeries(tmpId), tmpReadAccumulator.getNumberOfSeries(tmpId));
+                assertEquals(tmpAccumulator.getNumberOfBins(tmpId), tmpReadAccumulator.getNumberOfBins(tmpId));
+                for (int tmpBinIndex = 0; tmpBinIndex < tmpAccumulator.getNumberOfBins(tmpId); tmpBinIndex++) {
+                    assertEquals(tmpAccumulator.getKey(tmpId, tmpBinIndex), tmpReadAccumulator.getKey(tmpId, tmpBinIndex), 0.0);
+                    assertEquals(tmpAccumulator.getCount(tmpId, tmpBinIndex), tmpReadAccumulator.getCount(tmpId, tmpBinIndex));
+                    assertEquals(tmpAccumulator.getMean(tmpId, tmpBinIndex), tmpReadAccumulator.getMean(tmpId, tmpBinIndex), 0.0);
+                    assertEquals(tmpAccumulator.getStandardDeviation(tmpId, tmpBinIndex), tmpReadAccumulator.getStandardDeviation(tmpId, tmpBinIndex), 0.0);
+                }
+            }
+        } finally {
+            tmpFile.delete();
+        }
+        assertNull(IdBinStatisticsAccumulator.readFromFile(tmpFile.getPath(), 4));
+    }
+
+    /**
+     * Test of empty and sparse bins
+     */
+    public void test_sparseBins() {
+        IdBinStatisticsAccumulator tmpAccumulator = new IdBinStatisticsAccumulator(2);
+        assertEquals(0, tmpAccumulator.getNumberOfBins(0));
+        tmpAccumulator.addSeries(1);
+        tmpAccumulator.add(1, 200, 10.0, 2.5);
+        assertEquals(0, tmpAccumulator.getNumberOfSeries(0));
+        assertEquals(1, tmpAccumulator.getNumberOfSeries(1));
+        assertEquals(201, tmpAccumulator.getNumberOfBins(1));
+        assertEquals(0, tmpAccumulator.getCount(1, 100));
+        assertTrue(Double.isNaN(tmpAccumulator.getMean(1, 100)));
+        assertEquals(2.5, tmpAccumulator.getMean(1, 200), 0.0);
+        assertTrue(Double.isNaN(tmpAccumulator.getStandardDeviation(1, 200)));
+        try {
+            tmpAccumulator.merge(new IdBinStatisticsAccumulator(3));
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException anException) {
+            // Expected
+        }
+        try {
+            new IdBinStatisticsAccumulator(0);
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException anException) {
+            // Expected
+        }
+    }
+
+}
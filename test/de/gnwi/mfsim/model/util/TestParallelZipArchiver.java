@@ -0,0 +1,316 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import junit.framework.TestCase;
+
+/**
+ * Test class for ParallelZipArchiver and ArchiveTask
+ *
+ * @author Achim Zielesny
+ */
+public class TestParallelZipArchiver extends TestCase {
+
+    /**
+     * Utility for files
+     */
+    private final FileUtilityMethods fileUtilityMethods = new FileUtilityMethods();
+
+    /**
+     * Base directory for tests
+     */
+    private File baseDirectory;
+
+    /**
+     * Directory to archive
+     */
+    private File directory;
+
+    /**
+     * Files to archive
+     */
+    private List<File> files;
+
+    /**
+     * ZIP entry names of files to archive
+     */
+    private List<String> entryNames;
+
+    @Override
+    protected void setUp() throws Exception {
+        this.baseDirectory = Files.createTempDirectory("TestParallelZipArchiver").toFile();
+        this.directory = new File(this.baseDirectory, "JobResult");
+        File tmpSubDirectory = new File(this.directory, "Step");
+        tmpSubDirectory.mkdirs();
+        this.files = new ArrayList<>();
+        this.entryNames = new ArrayList<>();
+        Random tmpRandom = new Random(42L);
+        // Compressible text file
+        StringBuilder tmpBuilder = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            tmpBuilder.append("Particle ").append(i % 17).append(' ').append(tmpRandom.nextInt(100)).append('\n');
+        }
+        this.addFile("JobResult/Text.txt", tmpBuilder.toString().getBytes("UTF-8"));
+        // Incompressible binary file
+        byte[] tmpRandomBytes = new byte[100000];
+        tmpRandom.nextBytes(tmpRandomBytes);
+        this.addFile("JobResult/Random.bin", tmpRandomBytes);
+        // Empty file
+        this.addFile("JobResult/Empty.txt", new byte[0]);
+        // GZIP file
+        ByteArrayOutputStream tmpByteArrayOutputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream tmpGzipOutputStream = new GZIPOutputStream(tmpByteArrayOutputStream)) {
+            tmpGzipOutputStream.write(tmpBuilder.toString().getBytes("UTF-8"));
+        }
+        this.addFile("JobResult/Step/Step_1.gz", tmpByteArrayOutputStream.toByteArray());
+        // Large compressible file (compressed into temporary file)
+        byte[] tmpLargeBytes = new byte[5000000];
+        for (int i = 0; i < tmpLargeBytes.length; i++) {
+            tmpLargeBytes[i] = (byte) ('a' + (i % 7 + tmpRandom.nextInt(3)));
+        }
+        this.addFile("JobResult/Step/Large.txt", tmpLargeBytes);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        this.fileUtilityMethods.deleteDirectory(this.baseDirectory);
+    }
+
+    /**
+     * Test round trip of all compression presets
+     */
+    public void test_roundTrip() throws Exception {
+        for (ArchiveCompressionEnum tmpCompression : ArchiveCompressionEnum.values()) {
+            File tmpZipFile = new File(this.baseDirectory, tmpCompression.name() + ".zip");
+            ParallelZipArchiver tmpArchiver = new ParallelZipArchiver(tmpCompression, 3);
+            int[] tmpProgress = new int[1];
+            assertTrue(tmpArchiver.archive(this.files, this.entryNames, tmpZipFile.getPath(), (int aCounter) -> tmpProgress[0] = aCounter));
+            assertEquals(this.files.size(), tmpProgress[0]);
+            this.checkZipFile(tmpZipFile, tmpCompression);
+        }
+        // No temporary files left
+        assertEquals(ArchiveCompressionEnum.values().length + 1, this.baseDirectory.listFiles().length);
+    }
+
+    /**
+     * Test round trip with ZIP64 extensions
+     */
+    public void test_zip64() throws Exception {
+        File tmpZipFile = new File(this.baseDirectory, "Zip64.zip");
+        ParallelZipArchiver tmpArchiver = new ParallelZipArchiver(ArchiveCompressionEnum.FASTEST, 2, true);
+        assertTrue(tmpArchiver.archive(this.files, this.entryNames, tmpZipFile.getPath(), null));
+        this.checkZipFile(tmpZipFile, ArchiveCompressionEnum.FASTEST);
+    }
+
+    /**
+     * Test stop after first entry with pending large entries
+     */
+    public void test_stop() throws Exception {
+        List<File> tmpFiles = new ArrayList<>();
+        List<String> tmpEntryNames = new ArrayList<>();
+        tmpFiles.add(this.files.get(2));
+        tmpEntryNames.add(this.entryNames.get(2));
+        for (int i = 0; i < 8; i++) {
+            tmpFiles.add(this.files.get(4));
+            tmpEntryNames.add("JobResult/Large_" + i + ".txt");
+        }
+        File tmpZipFile = new File(this.baseDirectory, "Stop.zip");
+        ParallelZipArchiver tmpArchiver = new ParallelZipArchiver(ArchiveCompressionEnum.BEST, 2);
+        Object[] tmpResult = new Object[1];
+        Thread tmpThread = new Thread(() -> {
+            try {
+                tmpResult[0] = tmpArchiver.archive(tmpFiles, tmpEntryNames, tmpZipFile.getPath(), (int aCounter) -> tmpArchiver.stop());
+            } catch (Exception anException) {
+                tmpResult[0] = anException;
+            }
+        });
+        tmpThread.start();
+        tmpThread.join(60000L);
+        assertFalse(tmpThread.isAlive());
+        assertEquals(Boolean.FALSE, tmpResult[0]);
+        assertEquals(0, this.getNumberOfTemporaryFiles());
+    }
+
+    /**
+     * Test IO error of entry with pending large entries
+     */
+    public void test_ioError() throws Exception {
+        List<File> tmpFiles = new ArrayList<>();
+        List<String> tmpEntryNames = new ArrayList<>();
+        tmpFiles.add(this.files.get(0));
+        tmpEntryNames.add(this.entryNames.get(0));
+        tmpFiles.add(new File(this.directory, "Missing.txt"));
+        tmpEntryNames.add("JobResult/Missing.txt");
+        for (int i = 0; i < 8; i++) {
+            tmpFiles.add(this.files.get(4));
+            tmpEntryNames.add("JobResult/Large_" + i + ".txt");
+        }
+        File tmpZipFile = new File(this.baseDirectory, "Error.zip");
+        ParallelZipArchiver tmpArchiver = new ParallelZipArchiver(ArchiveCompressionEnum.BEST, 2);
+        Object[] tmpResult = new Object[1];
+        Thread tmpThread = new Thread(() -> {
+            try {
+                tmpResult[0] = tmpArchiver.archive(tmpFiles, tmpEntryNames, tmpZipFile.getPath(), null);
+            } catch (Exception anException) {
+                tmpResult[0] = anException;
+            }
+        });
+        tmpThread.start();
+        tmpThread.join(60000L);
+        assertFalse(tmpThread.isAlive());
+        assertTrue(tmpResult[0] instanceof IOException);
+        assertEquals(0, this.getNumberOfTemporaryFiles());
+    }
+
+    /**
+     * Test ArchiveTask with file exclusion
+     */
+    public void test_archiveTask() throws Exception {
+        File tmpZipFile = new File(this.baseDirectory, "Task.zip");
+        ArchiveTask tmpArchiveTask = new ArchiveTask(this.directory.getPath(), tmpZipFile.getPath(), "^Step_.*", ArchiveCompressionEnum.DEFAULT);
+        assertTrue(tmpArchiveTask.call());
+        assertTrue(tmpArchiveTask.isFinished());
+        try (ZipFile tmpZip = new ZipFile(tmpZipFile)) {
+            assertEquals(this.files.size() - 1, tmpZip.size());
+            assertNull(tmpZip.getEntry("JobResult/Step/Step_1.gz"));
+            assertNotNull(tmpZip.getEntry("JobResult/Step/Large.txt"));
+            assertNotNull(tmpZip.getEntry("JobResult/Text.txt"));
+        }
+    }
+
+    /**
+     * Checks ZIP file with ZipFile and ZipInputStream
+     *
+     * @param aZipFile ZIP file
+     * @param aCompression Compression preset
+     * @throws IOException Thrown if check fails
+     */
+    private void checkZipFile(File aZipFile, ArchiveCompressionEnum aCompression) throws IOException {
+        HashMap<String, File> tmpEntryNameToFileMap = new HashMap<>();
+        for (int i = 0; i < this.files.size(); i++) {
+            tmpEntryNameToFileMap.put(this.entryNames.get(i), this.files.get(i));
+        }
+        // <editor-fold defaultstate="collapsed" desc="ZipFile (central directory)">
+        try (ZipFile tmpZip = new ZipFile(aZipFile)) {
+            assertEquals(this.files.size(), tmpZip.size());
+            Enumeration<? extends ZipEntry> tmpEntries = tmpZip.entries();
+            int tmpIndex = 0;
+            while (tmpEntries.hasMoreElements()) {
+                ZipEntry tmpEntry = tmpEntries.nextElement();
+                assertEquals(this.entryNames.get(tmpIndex++), tmpEntry.getName());
+                File tmpFile = tmpEntryNameToFileMap.get(tmpEntry.getName());
+                try (InputStream tmpInputStream = tmpZip.getInputStream(tmpEntry)) {
+                    assertTrue(Arrays.equals(Files.readAllBytes(tmpFile.toPath()), this.readAllBytes(tmpInputStream)));
+                }
+                assertEquals(tmpFile.length(), tmpEntry.getSize());
+                if (aCompression == ArchiveCompressionEnum.UNCOMPRESSED 
+                    || tmpEntry.getName().endsWith(".gz") 
+                    || tmpEntry.getName().endsWith(".bin")
+                    || tmpFile.length() == 0L
+                ) {
+                    assertEquals(ZipEntry.STORED, tmpEntry.getMethod());
+                } else {
+                    assertEquals(ZipEntry.DEFLATED, tmpEntry.getMethod());
+                    assertTrue(tmpEntry.getCompressedSize() < tmpEntry.getSize());
+                }
+                assertEquals(tmpFile.lastModified() / 2000L, tmpEntry.getTime() / 2000L);
+            }
+        }
+        // </editor-fold>
+        // <editor-fold defaultstate="collapsed" desc="ZipInputStream (local file headers)">
+        try (ZipInputStream tmpZipInputStream = new ZipInputStream(new FileInputStream(aZipFile))) {
+            ZipEntry tmpEntry;
+            int tmpCounter = 0;
+            while ((tmpEntry = tmpZipInputStream.getNextEntry()) != null) {
+                File tmpFile = tmpEntryNameToFileMap.get(tmpEntry.getName());
+                assertTrue(Arrays.equals(Files.readAllBytes(tmpFile.toPath()), this.readAllBytes(tmpZipInputStream)));
+                tmpCounter++;
+            }
+            assertEquals(this.files.size(), tmpCounter);
+        }
+        // </editor-fold>
+    }
+
+    /**
+     * Returns number of temporary archive files in base directory
+     *
+     * @return Number of temporary archive files in base directory
+     */
+    private int getNumberOfTemporaryFiles() {
+        int tmpNumberOfTemporaryFiles = 0;
+        for (File tmpFile : this.baseDirectory.listFiles()) {
+            if (tmpFile.getName().startsWith("MFsimArchive")) {
+                tmpNumberOfTemporaryFiles++;
+            }
+        }
+        return tmpNumberOfTemporaryFiles;
+    }
+
+    /**
+     * Adds file to archive
+     *
+     * @param anEntryName Entry name (relative to base directory)
+     * @param aContent Content
+     * @throws IOException Thrown if file can not be written
+     */
+    private void addFile(String anEntryName, byte[] aContent) throws IOException {
+        File tmpFile = new File(this.baseDirectory, anEntryName);
+        try (FileOutputStream tmpFileOutputStream = new FileOutputStream(tmpFile)) {
+            tmpFileOutputStream.write(aContent);
+        }
+        this.files.add(tmpFile);
+        this.entryNames.add(anEntryName);
+    }
+
+    /**
+     * Reads all bytes of input stream
+     *
+     * @param anInputStream Input stream
+     * @return Bytes
+     * @throws IOException Thrown if reading fails
+     */
+    private byte[] readAllBytes(InputStream anInputStream) throws IOException {
+        ByteArrayOutputStream tmpByteArrayOutputStream = new ByteArrayOutputStream();
+        byte[] tmpBuffer = new byte[8192];
+        int tmpLength;
+        while ((tmpLength = anInputStream.read(tmpBuffer)) != -1) {
+            tmpByteArrayOutputStream.write(tmpBuffer, 0, tmpLength);
+        }
+        return tmpByteArrayOutputStream.toByteArray();
+    }
+
+}
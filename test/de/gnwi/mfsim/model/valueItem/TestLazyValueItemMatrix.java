@@ -0,0 +1,216 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.valueItem;
+
+import de.gnwi.mfsim.model.util.FileUtilityMethods;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.TestCase;
+
+/**
+ * Test class for lazy value item matrices
+ *
+ * @author Achim Zielesny
+ */
+public class TestLazyValueItemMatrix extends TestCase {
+
+    /**
+     * Value item data type format
+     */
+    private final ValueItemDataTypeFormat dataTypeFormat = new ValueItemDataTypeFormat(2, false, false);
+
+    /**
+     * Test materialization, eviction and pinning
+     */
+    public void test_lazyMatrix() {
+        AtomicInteger tmpLoadCounter = new AtomicInteger();
+        ValueItem tmpValueItem = new ValueItem();
+        tmpValueItem.setName("LAZY");
+        tmpValueItem.setBasicType(ValueItemEnumBasicType.MATRIX);
+        tmpValueItem.setLazyMatrix(
+            () -> {
+                tmpLoadCounter.incrementAndGet();
+                return this.getMatrix(100);
+            }, 
+            100, 
+            new ValueItemDataTypeFormat[] {this.dataTypeFormat, this.dataTypeFormat}
+        );
+        tmpValueItem.setMatrixDiagramColumns(0, 1);
+
+        // Metadata without materialization
+        assertTrue(tmpValueItem.isLazyMatrix());
+        assertTrue(tmpValueItem.hasValue());
+        assertEquals(100, tmpValueItem.getMatrixRowCount());
+        assertEquals(2, tmpValueItem.getMatrixColumnCount());
+        assertSame(this.dataTypeFormat, tmpValueItem.getTypeFormat(50, 1));
+        assertEquals(0, tmpValueItem.getMatrixDiagramXValueColumn());
+        assertEquals(0, tmpLoadCounter.get());
+        assertFalse(tmpValueItem.isLazyMatrixMaterialized());
+
+        // Materialization on first access
+        assertEquals("10", tmpValueItem.getValue(1, 0));
+        assertEquals(0.5, tmpValueItem.getValueAsDouble(5, 1), 1E-10);
+        assertEquals(1, tmpLoadCounter.get());
+        assertTrue(tmpValueItem.isLazyMatrixMaterialized());
+
+        // Eviction and reload
+        tmpValueItem.evictLazyMatrix();
+        assertFalse(tmpValueItem.isLazyMatrixMaterialized());
+        assertEquals("990", tmpValueItem.getValue(99, 0));
+        assertEquals(2, tmpLoadCounter.get());
+
+        // Clone and XML
+        ValueItem tmpClonedValueItem = tmpValueItem.getClone();
+        assertTrue(tmpClonedValueItem.isLazyMatrix());
+        assertEquals(tmpValueItem.getValue(42, 1), tmpClonedValueItem.getValue(42, 1));
+        ValueItem tmpXmlValueItem = new ValueItem(tmpValueItem.getAsXmlElement());
+        assertFalse(tmpXmlValueItem.isLazyMatrix());
+        assertEquals(100, tmpXmlValueItem.getMatrixRowCount());
+        assertEquals(tmpValueItem.getValue(42, 1), tmpXmlValueItem.getValue(42, 1));
+
+        // Changes pin matrix
+        tmpValueItem.setValue("1.23", 3, 1);
+        assertFalse(tmpValueItem.isLazyMatrix());
+        tmpValueItem.evictLazyMatrix();
+        assertEquals("1.23", tmpValueItem.getValue(3, 1));
+        assertTrue(tmpClonedValueItem.isLazyMatrix());
+        assertFalse("1.23".equals(tmpClonedValueItem.getValue(3, 1)));
+
+        // Set matrix replaces lazy matrix
+        tmpClonedValueItem.setMatrix(this.getMatrix(3));
+        assertFalse(tmpClonedValueItem.isLazyMatrix());
+        assertEquals(3, tmpClonedValueItem.getMatrixRowCount());
+    }
+
+    /**
+     * Test that value items of progress files are not loaded before first 
+     * access and that only the accessed value item is loaded
+     */
+    public void test_openProgressFiles() throws IOException {
+        int tmpNumberOfValueItems = 15;
+        int tmpNumberOfDataPairs = 4000;
+        File tmpDirectory = Files.createTempDirectory("TestLazyValueItemMatrix").toFile();
+        FileUtilityMethods tmpFileUtilityMethods = new FileUtilityMethods();
+        try {
+            String[] tmpFilePathnames = new String[tmpNumberOfValueItems];
+            for (int i = 0; i < tmpNumberOfValueItems; i++) {
+                tmpFilePathnames[i] = new File(tmpDirectory, "Progress" + i + ".txt").getPath();
+                this.writeProgressFile(tmpFilePathnames[i], tmpNumberOfDataPairs);
+            }
+            AtomicInteger[] tmpLoadCounters = new AtomicInteger[tmpNumberOfValueItems];
+            ValueItem[] tmpLazyValueItems = new ValueItem[tmpNumberOfValueItems];
+            for (int i = 0; i < tmpNumberOfValueItems; i++) {
+                String tmpFilePathname = tmpFilePathnames[i];
+                AtomicInteger tmpLoadCounter = new AtomicInteger();
+                tmpLoadCounters[i] = tmpLoadCounter;
+                tmpLazyValueItems[i] = new ValueItem();
+                tmpLazyValueItems[i].setLazyMatrix(
+                    () -> {
+                        tmpLoadCounter.incrementAndGet();
+                        return this.getMatrix(tmpFileUtilityMethods.readDefinedStringArrayFromFile(tmpFilePathname));
+                    }, 
+                    tmpNumberOfDataPairs, 
+                    new ValueItemDataTypeFormat[] {this.dataTypeFormat, this.dataTypeFormat}
+                );
+            }
+
+            // No values are loaded before first access
+            for (int i = 0; i < tmpNumberOfValueItems; i++) {
+                assertEquals(tmpNumberOfDataPairs, tmpLazyValueItems[i].getMatrixRowCount());
+                assertEquals(2, tmpLazyValueItems[i].getMatrixColumnCount());
+                assertFalse(tmpLazyValueItems[i].isLazyMatrixMaterialized());
+                assertEquals(0, tmpLoadCounters[i].get());
+            }
+
+            // Only accessed value item is loaded (once)
+            int tmpAccessedIndex = 7;
+            ValueItem tmpEagerValueItem = new ValueItem();
+            tmpEagerValueItem.setMatrix(this.getMatrix(tmpFileUtilityMethods.readDefinedStringArrayFromFile(tmpFilePathnames[tmpAccessedIndex])));
+            assertEquals(tmpEagerValueItem.getValue(0, 1), tmpLazyValueItems[tmpAccessedIndex].getValue(0, 1));
+            assertEquals(tmpEagerValueItem.getValue(tmpNumberOfDataPairs - 1, 1), tmpLazyValueItems[tmpAccessedIndex].getValue(tmpNumberOfDataPairs - 1, 1));
+            for (int i = 0; i < tmpNumberOfValueItems; i++) {
+                assertEquals(i == tmpAccessedIndex ? 1 : 0, tmpLoadCounters[i].get());
+                assertEquals(i == tmpAccessedIndex, tmpLazyValueItems[i].isLazyMatrixMaterialized());
+            }
+
+            // Eviction releases loaded values
+            tmpLazyValueItems[tmpAccessedIndex].evictLazyMatrix();
+            assertFalse(tmpLazyValueItems[tmpAccessedIndex].isLazyMatrixMaterialized());
+            assertEquals(1, tmpLoadCounters[tmpAccessedIndex].get());
+        } finally {
+            tmpFileUtilityMethods.deleteDirectory(tmpDirectory);
+        }
+    }
+
+    /**
+     * Returns matrix with step/value data pairs
+     *
+     * @param aNumberOfDataPairs Number of data pairs
+     * @return Matrix
+     */
+    private ValueItemMatrixElement[][] getMatrix(int aNumberOfDataPairs) {
+        ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[aNumberOfDataPairs][];
+        for (int i = 0; i < aNumberOfDataPairs; i++) {
+            tmpMatrix[i] = new ValueItemMatrixElement[] {
+                new ValueItemMatrixElement(String.valueOf(i * 10), this.dataTypeFormat),
+                new ValueItemMatrixElement(String.valueOf(i * 0.1), this.dataTypeFormat)
+            };
+        }
+        return tmpMatrix;
+    }
+
+    /**
+     * Returns matrix with step/value data pairs of progress file lines
+     *
+     * @param anInfoArray Lines of progress file (without number of lines)
+     * @return Matrix
+     */
+    private ValueItemMatrixElement[][] getMatrix(String[] anInfoArray) {
+        ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[(anInfoArray.length - 1) / 2][];
+        int tmpIndex = 1;
+        for (int i = 0; i < tmpMatrix.length; i++) {
+            tmpMatrix[i] = new ValueItemMatrixElement[] {
+                new ValueItemMatrixElement(anInfoArray[tmpIndex++], this.dataTypeFormat),
+                new ValueItemMatrixElement(anInfoArray[tmpIndex++], this.dataTypeFormat)
+            };
+        }
+        return tmpMatrix;
+    }
+
+    /**
+     * Writes progress file
+     *
+     * @param aFilePathname File pathname
+     * @param aNumberOfDataPairs Number of data pairs
+     * @throws IOException Thrown if file could not be written
+     */
+    private void writeProgressFile(String aFilePathname, int aNumberOfDataPairs) throws IOException {
+        StringBuilder tmpBuilder = new StringBuilder(aNumberOfDataPairs * 24);
+        tmpBuilder.append(2 * aNumberOfDataPairs + 1).append('\n').append("Version 1.0.0").append('\n');
+        for (int i = 1; i <= aNumberOfDataPairs; i++) {
+            tmpBuilder.append(i * 10).append('\n').append(String.valueOf(1000.0 / i)).append('\n');
+        }
+        Files.write(new File(aFilePathname).toPath(), tmpBuilder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+}
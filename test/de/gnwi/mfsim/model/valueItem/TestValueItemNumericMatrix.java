@@ -0,0 +1,213 @@
+/**
+ * MFsim - Molecular Fragment DPD Simulation Environment
+ * Copyright (C) 2023  Achim Zielesny (achim.zielesny@googlemail.com)
+ *
+ * Source code is available at <https://github.com/zielesny/MFsim>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.gnwi.mfsim.model.valueItem;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.TestCase;
+
+/**
+ * Test class for ValueItemNumericMatrix and numeric value item matrices
+ *
+ * @author Achim Zielesny
+ */
+public class TestValueItemNumericMatrix extends TestCase {
+
+    /**
+     * Test equality of numeric and element matrix values
+     */
+    public void test_values() {
+        ValueItemDataTypeFormat tmpTypeFormat = new ValueItemDataTypeFormat(2, false, false);
+        double[][] tmpValueColumns = new double[][] {
+            {1000.0, 0.1, -2.5, 0.0, 1.0 / 3.0, -0.004, 12345.678},
+            {1.0, 2.0, 0.0, -3.0, 4.0, 5.0, 6.0},
+            {0.5, 1.25, -0.75, 2.0, 0.0, 3.5, 1.5}
+        };
+        for (double[] tmpValues : tmpValueColumns) {
+            ValueItemNumericMatrix tmpNumericMatrix = new ValueItemNumericMatrix(tmpValues.length, new ValueItemDataTypeFormat[] {tmpTypeFormat, tmpTypeFormat}, new boolean[] {true, false});
+            ValueItemMatrixElement[][] tmpMatrix = new ValueItemMatrixElement[tmpValues.length][];
+            for (int i = 0; i < tmpValues.length; i++) {
+                tmpNumericMatrix.setLong(i * 100L, i, 0);
+                tmpNumericMatrix.setDouble(tmpValues[i], i, 1);
+                tmpMatrix[i] = new ValueItemMatrixElement[] {
+                    new ValueItemMatrixElement(String.valueOf(i * 100L), tmpTypeFormat),
+                    new ValueItemMatrixElement(String.valueOf(tmpValues[i]), tmpTypeFormat)
+                };
+            }
+            ValueItem tmpEagerValueItem = new ValueItem();
+            tmpEagerValueItem.setMatrix(tmpMatrix);
+            ValueItem tmpNumericValueItem = new ValueItem();
+            tmpNumericValueItem.setNumericMatrix(tmpNumericMatrix);
+            assertTrue(tmpNumericValueItem.isNumericMatrix());
+            for (int i = 0; i < tmpValues.length; i++) {
+                for (int k = 0; k < 2; k++) {
+                    assertEquals(tmpEagerValueItem.getValue(i, k), tmpNumericValueItem.getValue(i, k));
+                    assertEquals(tmpEagerValueItem.getFormattedValue(i, k), tmpNumericValueItem.getFormattedValue(i, k));
+                    assertEquals(tmpEagerValueItem.getValueAsDouble(i, k), tmpNumericValueItem.getValueAsDouble(i, k), 0.0);
+                    assertEquals(tmpEagerValueItem.getValueItemMatrixElement(i, k).getValue(), tmpNumericValueItem.getMatrix()[i][k].getValue());
+                }
+            }
+            // Element access pins matrix
+            assertFalse(tmpNumericValueItem.isNumericMatrix());
+        }
+        // Direct array access
+        ValueItemNumericMatrix tmpNumericMatrix = new ValueItemNumericMatrix(3, new ValueItemDataTypeFormat[] {tmpTypeFormat, tmpTypeFormat}, new boolean[] {true, false});
+        tmpNumericMatrix.setLong(7L, 2, 0);
+        tmpNumericMatrix.setDouble(1.5, 1, 1);
+        assertTrue(tmpNumericMatrix.isLongColumn(0));
+        assertEquals(7L, tmpNumericMatrix.getLongColumn(0)[2]);
+        assertEquals(7.0, tmpNumericMatrix.getColumnAsDouble(0)[2], 0.0);
+        assertSame(tmpNumericMatrix.getDoubleColumn(1), tmpNumericMatrix.getColumnAsDouble(1));
+        try {
+            tmpNumericMatrix.getDoubleColumn(0);
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException anException) {
+            // Expected
+        }
+        try {
+            new ValueItemNumericMatrix(1, new ValueItemDataTypeFormat[] {new ValueItemDataTypeFormat(ValueItemEnumDataType.TEXT)}, new boolean[] {false});
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException anException) {
+            // Expected
+        }
+    }
+
+    /**
+     * Test lazy numeric matrix, clone, XML and changes
+     */
+    public void test_lazyNumericMatrix() {
+        ValueItemDataTypeFormat tmpTypeFormat = new ValueItemDataTypeFormat(2, false, false);
+        AtomicInteger tmpLoadCounter = new AtomicInteger();
+        ValueItem tmpValueItem = new ValueItem();
+        tmpValueItem.setName("NUMERIC");
+        tmpValueItem.setBasicType(ValueItemEnumBasicType.MATRIX);
+        tmpValueItem.setLazyNumericMatrix(
+            () -> {
+                tmpLoadCounter.incrementAndGet();
+                return this.getNumericMatrix(1000, tmpTypeFormat);
+            }, 
+            1000, 
+            new ValueItemDataTypeFormat[] {tmpTypeFormat, tmpTypeFormat}
+        );
+        tmpValueItem.setMatrixDiagramColumns(0, 1);
+        assertTrue(tmpValueItem.hasMatrixDiagram());
+        assertEquals(1000, tmpValueItem.getMatrixRowCount());
+        assertEquals(0, tmpLoadCounter.get());
+
+        assertEquals("10", tmpValueItem.getValue(1, 0));
+        assertEquals("0.50", tmpValueItem.getFormattedValue(1, 1));
+        assertEquals(1, tmpLoadCounter.get());
+        assertFalse(tmpValueItem.isLazyMatrixMaterialized());
+        assertEquals(999.0 * 0.5, tmpValueItem.getNumericMatrix().getDoubleColumn(1)[999], 0.0);
+        assertEquals(1, tmpLoadCounter.get());
+        tmpValueItem.evictLazyMatrix();
+        assertEquals("9990", tmpValueItem.getValue(999, 0));
+        assertEquals(2, tmpLoadCounter.get());
+
+        // Clone and XML
+        ValueItem tmpClonedValueItem = tmpValueItem.getClone();
+        assertTrue(tmpClonedValueItem.isNumericMatrix());
+        assertEquals(tmpValueItem.getValue(7, 1), tmpClonedValueItem.getValue(7, 1));
+        ValueItem tmpXmlValueItem = new ValueItem(tmpValueItem.getAsXmlElement());
+        assertFalse(tmpXmlValueItem.isNumericMatrix());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(tmpValueItem.getValue(i, 0), tmpXmlValueItem.getValue(i, 0));
+            assertEquals(tmpValueItem.getValue(i, 1), tmpXmlValueItem.getValue(i, 1));
+        }
+
+        // Changes pin element matrix
+        tmpValueItem.setValue("1.25", 3, 1);
+        assertFalse(tmpValueItem.isNumericMatrix());
+        assertNull(tmpValueItem.getNumericMatrix());
+        assertEquals("1.25", tmpValueItem.getValue(3, 1));
+        assertTrue(tmpClonedValueItem.isNumericMatrix());
+        assertEquals("1.5", tmpClonedValueItem.getValue(3, 1));
+    }
+
+    /**
+     * Test that numeric matrix holds its cells in primitive column arrays 
+     * and no per-cell String/Double/ValueItemMatrixElement objects
+     */
+    public void test_primitiveStorage() throws IllegalAccessException {
+        int tmpNumberOfRows = 20000;
+        ValueItemDataTypeFormat tmpTypeFormat = new ValueItemDataTypeFormat(2, false, false);
+        ValueItemNumericMatrix tmpNumericMatrix = this.getNumericMatrix(tmpNumberOfRows, tmpTypeFormat);
+        assertEquals(tmpNumberOfRows, tmpNumericMatrix.getRowCount());
+        assertEquals(tmpNumberOfRows, tmpNumericMatrix.getLongColumn(0).length);
+        assertEquals(tmpNumberOfRows, tmpNumericMatrix.getDoubleColumn(1).length);
+        int tmpNumberOfCellArrays = 0;
+        for (Field tmpField : ValueItemNumericMatrix.class.getDeclaredFields()) {
+            if (Modifier.isStatic(tmpField.getModifiers())) {
+                continue;
+            }
+            Class<?> tmpComponentType = tmpField.getType();
+            while (tmpComponentType.isArray()) {
+                tmpComponentType = tmpComponentType.getComponentType();
+            }
+            if (tmpComponentType.isPrimitive()) {
+                if (tmpField.getType().isArray() && tmpField.getType().getComponentType().isArray()) {
+                    // Primitive cell arrays per column
+                    tmpField.setAccessible(true);
+                    Object[] tmpColumns = (Object[]) tmpField.get(tmpNumericMatrix);
+                    assertEquals(tmpNumericMatrix.getColumnCount(), tmpColumns.length);
+                    tmpNumberOfCellArrays++;
+                }
+            } else {
+                // Object fields hold column metadata only, never cells
+                assertFalse(tmpComponentType == String.class);
+                assertFalse(tmpComponentType == Double.class);
+                assertFalse(tmpComponentType == Long.class);
+                assertFalse(tmpComponentType == ValueItemMatrixElement.class);
+                if (tmpField.getType().isArray()) {
+                    assertFalse(tmpField.getType().getComponentType().isArray());
+                    tmpField.setAccessible(true);
+                    assertEquals(tmpNumericMatrix.getColumnCount(), ((Object[]) tmpField.get(tmpNumericMatrix)).length);
+                }
+            }
+        }
+        assertTrue(tmpNumberOfCellArrays > 0);
+
+        // Value access does not create element matrix
+        ValueItem tmpValueItem = new ValueItem();
+        tmpValueItem.setNumericMatrix(tmpNumericMatrix);
+        assertEquals("10", tmpValueItem.getValue(1, 0));
+        assertEquals(0.5, tmpValueItem.getValueAsDouble(1, 1), 0.0);
+        assertTrue(tmpValueItem.isNumericMatrix());
+        assertSame(tmpNumericMatrix, tmpValueItem.getNumericMatrix());
+    }
+
+    /**
+     * Returns numeric matrix with steps (i * 10) and values (i * 0.5)
+     *
+     * @param aNumberOfRows Number of rows
+     * @param aTypeFormat Type format
+     * @return Numeric matrix
+     */
+    private ValueItemNumericMatrix getNumericMatrix(int aNumberOfRows, ValueItemDataTypeFormat aTypeFormat) {
+        ValueItemNumericMatrix tmpNumericMatrix = new ValueItemNumericMatrix(aNumberOfRows, new ValueItemDataTypeFormat[] {aTypeFormat, aTypeFormat}, new boolean[] {true, false});
+        for (int i = 0; i < aNumberOfRows; i++) {
+            tmpNumericMatrix.setLong(i * 10L, i, 0);
+            tmpNumericMatrix.setDouble(i * 0.5, i, 1);
+        }
+        return tmpNumericMatrix;
+    }
+
+}